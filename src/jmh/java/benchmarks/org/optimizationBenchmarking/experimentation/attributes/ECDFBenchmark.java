@@ -0,0 +1,159 @@
+package benchmarks.org.optimizationBenchmarking.experimentation.attributes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.experimentation.attributes.functions.FunctionAttribute;
+import org.optimizationBenchmarking.experimentation.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.io.impl.tspSuite.TSPSuiteInput;
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.config.ConfigurationBuilder;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+
+/**
+ * A benchmark for computing the
+ * {@link org.optimizationBenchmarking.experimentation.attributes.functions.ecdf.ECDF}
+ * over a synthetic, but reproducible, TSP Suite experiment set. The
+ * combinations of {@code x} dimension ({@code FEs} or {@code NT}) and
+ * {@code y} dimension ({@code L}, i.e., the tour length, or {@code F})
+ * cover all four internal {@code long}/{@code double} specializations of
+ * the ECDF computation, which are package-private and hence measured
+ * through the public attribute. The ECDF over an experiment set is never
+ * cached, so each invocation performs the full computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ECDFBenchmark {
+
+  /** the instances to use, together with their optimal tour lengths */
+  private static final Object[][] INSTANCES = {
+      { "eil51", Long.valueOf(426L) }, //$NON-NLS-1$
+      { "berlin52", Long.valueOf(7542L) }, //$NON-NLS-1$
+      { "kroA100", Long.valueOf(21282L) }, //$NON-NLS-1$
+      { "ch130", Long.valueOf(6110L) } }; //$NON-NLS-1$
+
+  /** the {@code x} dimension */
+  @Param({ "FEs", "NT" })
+  public String xAxis;
+
+  /** the {@code y} dimension */
+  @Param({ "L", "F" })
+  public String yAxis;
+
+  /** the number of experiments */
+  @Param({ "4" })
+  public int experiments;
+
+  /** the number of runs per experiment and instance */
+  @Param({ "10", "50" })
+  public int runs;
+
+  /** the number of points per run */
+  @Param({ "100", "1000" })
+  public int points;
+
+  /** the experiment set */
+  private IExperimentSet m_data;
+
+  /** the attribute */
+  private ECDF m_ecdf;
+
+  /** create */
+  public ECDFBenchmark() {
+    super();
+  }
+
+  /** create the experiment set and the attribute */
+  @Setup
+  public final void setup() {
+    final Random random;
+    final Configuration config;
+    String name;
+    long optimum, length, fes, time;
+    double nt;
+    int experiment, run, point;
+
+    random = new Random(271828L);
+    try (final ExperimentSetContext esc = new ExperimentSetContext()) {
+      TSPSuiteInput.makeTSPSuiteDimensionSet(esc);
+      TSPSuiteInput.makeTSPLibInstanceSet(esc);
+
+      for (experiment = 0; experiment < this.experiments; experiment++) {
+        try (final ExperimentContext ec = esc.createExperiment()) {
+          name = ("exp" + experiment); //$NON-NLS-1$
+          ec.setName(name);
+          ec.setParameterValue("algorithm", name); //$NON-NLS-1$
+
+          for (final Object[] instance : ECDFBenchmark.INSTANCES) {
+            optimum = ((Long) (instance[1])).longValue();
+            try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+              irc.setInstance((String) (instance[0]));
+
+              for (run = 0; run < this.runs; run++) {
+                try (final RunContext rc = irc.createRun()) {
+                  fes = 0L;
+                  time = 0L;
+                  nt = 0d;
+                  length = (optimum * (4L + random.nextInt(4)));
+                  for (point = 0; point < this.points; point++) {
+                    fes += (1L + random.nextInt(1 + (point << 4)));
+                    time += random.nextInt(3);
+                    nt += (random.nextDouble() * 10d);
+                    length = Math.max(optimum,
+                        (length - random.nextInt(1 + ((int) //
+                        ((length - optimum) / (this.points - point))) << 1)));
+                    rc.addDataPoint(Long.valueOf(fes), Long.valueOf(fes),
+                        Long.valueOf(time), Double.valueOf(nt),
+                        Long.valueOf(length), Double.valueOf(//
+                            (length - optimum) / ((double) optimum)));
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+
+      this.m_data = esc.create();
+    }
+
+    try (final ConfigurationBuilder builder = new ConfigurationBuilder()) {
+      builder.put(FunctionAttribute.X_AXIS_PARAM, this.xAxis);
+      builder.put(FunctionAttribute.Y_INPUT_AXIS_PARAM, this.yAxis);
+      builder.put(ECDF.GOAL_PARAM,
+          ("F".equals(this.yAxis) ? "0.05" : "450")); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+      config = builder.getResult();
+    }
+    this.m_ecdf = ECDF.create(this.m_data, config);
+  }
+
+  /**
+   * Compute the ECDF
+   *
+   * @return the ECDF
+   */
+  @Benchmark
+  public final IMatrix compute() {
+    return this.m_ecdf.get(this.m_data, null);
+  }
+}
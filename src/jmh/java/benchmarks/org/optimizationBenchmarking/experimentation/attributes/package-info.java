@@ -0,0 +1,5 @@
+/**
+ * Benchmarks of the attributes from package
+ * {@link org.optimizationBenchmarking.experimentation.attributes}.
+ */
+package benchmarks.org.optimizationBenchmarking.experimentation.attributes;
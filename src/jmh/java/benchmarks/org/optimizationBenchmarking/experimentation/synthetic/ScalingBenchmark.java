@@ -0,0 +1,521 @@
+package benchmarks.org.optimizationBenchmarking.experimentation.synthetic;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.experimentation.attributes.functions.FunctionAttribute;
+import org.optimizationBenchmarking.experimentation.attributes.functions.aggregation2D.Aggregation2D;
+import org.optimizationBenchmarking.experimentation.attributes.functions.ecdf.ECDF;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.experimentation.evaluation.impl.abstr.DocumentEvaluationOutput;
+import org.optimizationBenchmarking.experimentation.evaluation.impl.all.aggregation2D.AllAggregation2D;
+import org.optimizationBenchmarking.experimentation.evaluation.impl.all.ecdf.AllECDF;
+import org.optimizationBenchmarking.experimentation.evaluation.impl.description.instances.InstanceInformation;
+import org.optimizationBenchmarking.experimentation.evaluation.impl.evaluator.Evaluator;
+import org.optimizationBenchmarking.experimentation.evaluation.spec.IEvaluationBuilder;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.config.ConfigurationBuilder;
+import org.optimizationBenchmarking.utils.document.impl.abstr.DocumentConfiguration;
+import org.optimizationBenchmarking.utils.document.impl.xhtml10.XHTML10ConfigurationBuilder;
+import org.optimizationBenchmarking.utils.document.spec.IDocument;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.text.TextUtils;
+
+import examples.org.optimizationBenchmarking.experimentation.synthetic.ESyntheticExperimentFormat;
+import examples.org.optimizationBenchmarking.experimentation.synthetic.SyntheticExperimentSetGenerator;
+
+/**
+ * <p>
+ * An end-to-end scaling benchmark: Synthetic experiment sets created by a
+ * {@link SyntheticExperimentSetGenerator} are written in each of the
+ * selected {@link ESyntheticExperimentFormat formats} and then, for each
+ * scale and number of processor cores, the time needed for the following
+ * phases is measured:
+ * </p>
+ * <ol>
+ * <li>{@code write}: writing the experiment set to the disk (once per
+ * format and scale, using one core),</li>
+ * <li>{@code load}: loading the experiment set with the input tool of the
+ * format,</li>
+ * <li>{@code attributes}: computing an
+ * {@link org.optimizationBenchmarking.experimentation.attributes.functions.ecdf.ECDF}
+ * and a median
+ * {@link org.optimizationBenchmarking.experimentation.attributes.functions.aggregation2D.Aggregation2D}
+ * of {@code F} over {@code FEs},</li>
+ * <li>{@code evaluate}: running the
+ * {@link org.optimizationBenchmarking.experimentation.evaluation.impl.evaluator.Evaluator}
+ * with instance information, ECDF, and aggregation modules into an XHTML
+ * document, where the experiment set is loaded again (untimed) before
+ * this phase, so that it cannot profit from the attributes cached during
+ * the {@code attributes} phase, and</li>
+ * <li>{@code document}: closing that document, i.e., finishing its
+ * output.</li>
+ * </ol>
+ * <p>
+ * The number of cores is limited by executing all phases inside a
+ * {@link java.util.concurrent.ForkJoinPool} of the given parallelism,
+ * which is used by all parallel tasks spawned from inside it. The results
+ * are written as a CSV report with one line per format, scale, cores,
+ * phase, and repetition, either to {@code stdout} or to the file specified
+ * by parameter {@value #PARAM_REPORT}.
+ * </p>
+ * <p>
+ * The benchmark is configured via command line arguments of the form
+ * {@code -key=value}. Lists are separated by {@code ;}. It can be run with
+ * {@code mvn -Pbenchmark test-compile exec:java
+ * -Dexec.mainClass=benchmarks.org.optimizationBenchmarking.experimentation.synthetic.ScalingBenchmark
+ * -Dexec.args="-scales=1;10 -cores=1;4"}.
+ * </p>
+ */
+public final class ScalingBenchmark {
+
+  /** the formats to benchmark */
+  public static final String PARAM_FORMATS = "formats"; //$NON-NLS-1$
+  /** the scales, i.e., multipliers of the number of runs */
+  public static final String PARAM_SCALES = "scales"; //$NON-NLS-1$
+  /** the numbers of cores to use */
+  public static final String PARAM_CORES = "cores"; //$NON-NLS-1$
+  /** the number of repetitions per format, scale, and cores */
+  public static final String PARAM_REPETITIONS = "repetitions"; //$NON-NLS-1$
+  /** the number of dimensions */
+  public static final String PARAM_DIMENSIONS = "dimensions"; //$NON-NLS-1$
+  /** the number of instances */
+  public static final String PARAM_INSTANCES = "instances"; //$NON-NLS-1$
+  /** the number of experiments */
+  public static final String PARAM_EXPERIMENTS = "experiments"; //$NON-NLS-1$
+  /** the number of runs at scale {@code 1} */
+  public static final String PARAM_RUNS = "runs"; //$NON-NLS-1$
+  /** the maximum number of points per run */
+  public static final String PARAM_POINTS = "points"; //$NON-NLS-1$
+  /** the random seed */
+  public static final String PARAM_SEED = "seed"; //$NON-NLS-1$
+  /** the folder for the generated data, by default a temporary folder */
+  public static final String PARAM_WORK_DIR = "workDir"; //$NON-NLS-1$
+  /** the path to the report file, by default {@code stdout} */
+  public static final String PARAM_REPORT = "report"; //$NON-NLS-1$
+
+  /** the header of the report */
+  private static final String HEADER = "format,scale,cores,dimensions,instances,experiments,runs,points,dataPoints,phase,repetition,milliseconds"; //$NON-NLS-1$
+
+  /** the phases measured in each repetition */
+  private static final String[] PHASES = { "load", //$NON-NLS-1$
+      "attributes", //$NON-NLS-1$
+      "evaluate", //$NON-NLS-1$
+      "document" }; //$NON-NLS-1$
+
+  /** the forbidden constructor */
+  private ScalingBenchmark() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Run the benchmark
+   *
+   * @param args
+   *          the command line arguments
+   * @throws Throwable
+   *           if something fails
+   */
+  public static final void main(final String[] args) throws Throwable {
+    final Configuration config;
+    final Path report;
+
+    Configuration.setup(args);
+    config = Configuration.getRoot();
+
+    report = config.getPath(ScalingBenchmark.PARAM_REPORT, null);
+    if (report == null) {
+      ScalingBenchmark.__run(config, System.out);
+    } else {
+      try (final OutputStream stream = PathUtils.openOutputStream(report)) {
+        try (final PrintStream out = new PrintStream(stream, true,
+            "UTF-8")) { //$NON-NLS-1$
+          ScalingBenchmark.__run(config, out);
+        }
+      }
+    }
+  }
+
+  /**
+   * Run the benchmark
+   *
+   * @param config
+   *          the configuration
+   * @param out
+   *          the report destination
+   * @throws Throwable
+   *           if something fails
+   */
+  private static final void __run(final Configuration config,
+      final PrintStream out) throws Throwable {
+    final Path workDir;
+
+    workDir = config.getPath(ScalingBenchmark.PARAM_WORK_DIR, null);
+    if (workDir != null) {
+      ScalingBenchmark.__run(config, workDir, out);
+    } else {
+      try (final TempDir temp = new TempDir()) {
+        ScalingBenchmark.__run(config, temp.getPath(), out);
+      }
+    }
+  }
+
+  /**
+   * Run the benchmark
+   *
+   * @param config
+   *          the configuration
+   * @param workDir
+   *          the work directory
+   * @param out
+   *          the report destination
+   * @throws Throwable
+   *           if something fails
+   */
+  private static final void __run(final Configuration config,
+      final Path workDir, final PrintStream out) throws Throwable {
+    final Logger logger;
+    final int dimensions, instances, experiments, runs, points,
+        repetitions;
+    final long seed;
+    final int[] scales, cores;
+    final ESyntheticExperimentFormat[] formats;
+    SyntheticExperimentSetGenerator generator;
+    Path folder;
+    String data;
+    long start, time;
+    long[] times;
+    int repetition, phase;
+
+    logger = Configuration.getGlobalLogger();
+    dimensions = config.getInt(ScalingBenchmark.PARAM_DIMENSIONS, 2,
+        1000, 4);
+    instances = config.getInt(ScalingBenchmark.PARAM_INSTANCES, 1,
+        1000000, 8);
+    experiments = config.getInt(ScalingBenchmark.PARAM_EXPERIMENTS, 1,
+        1000000, 4);
+    runs = config.getInt(ScalingBenchmark.PARAM_RUNS, 1, 1000000, 10);
+    points = config.getInt(ScalingBenchmark.PARAM_POINTS, 1, 100000000,
+        100);
+    repetitions = config.getInt(ScalingBenchmark.PARAM_REPETITIONS, 1,
+        1000000, 3);
+    seed = config.getLong(ScalingBenchmark.PARAM_SEED, Long.MIN_VALUE,
+        Long.MAX_VALUE, 314159L);
+    scales = ScalingBenchmark.__getInts(config,
+        ScalingBenchmark.PARAM_SCALES, new String[] { "1", //$NON-NLS-1$
+            "4" }); //$NON-NLS-1$
+    cores = ScalingBenchmark.__getInts(config,
+        ScalingBenchmark.PARAM_CORES, new String[] { "1", //$NON-NLS-1$
+            Integer.toString(Runtime.getRuntime().availableProcessors()) });
+    formats = ScalingBenchmark.__getFormats(config);
+
+    out.println(ScalingBenchmark.HEADER);
+
+    for (final ESyntheticExperimentFormat format : formats) {
+      for (final int scale : scales) {
+        generator = new SyntheticExperimentSetGenerator(dimensions,
+            instances, experiments, (runs * scale), points, seed);
+        folder = PathUtils.normalize(workDir.resolve(format.name())
+            .resolve("scale" + scale)); //$NON-NLS-1$
+
+        start = System.nanoTime();
+        generator.write(format, folder);
+        time = (System.nanoTime() - start);
+
+        data = null;
+        for (final int core : cores) {
+          for (repetition = 1; repetition <= repetitions; repetition++) {
+            times = ScalingBenchmark.__measure(format, folder,
+                folder.resolve(((("report_" + core) + '_') + //$NON-NLS-1$
+                    repetition)), core, logger);
+            if (data == null) {
+              data = ScalingBenchmark.__data(generator,
+                  times[ScalingBenchmark.PHASES.length]);
+              ScalingBenchmark.__line(out, format, scale, 1, data,
+                  "write", 1, time); //$NON-NLS-1$
+            }
+            for (phase = 0; phase < ScalingBenchmark.PHASES.length; phase++) {
+              ScalingBenchmark.__line(out, format, scale, core, data,
+                  ScalingBenchmark.PHASES[phase], repetition, times[phase]);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Get a list of positive integers
+   *
+   * @param config
+   *          the configuration
+   * @param key
+   *          the key
+   * @param def
+   *          the default values
+   * @return the integers
+   */
+  private static final int[] __getInts(final Configuration config,
+      final String key, final String[] def) {
+    final ArrayListView<String> list;
+    final int[] result;
+    int index;
+
+    list = config.getStringList(key, new ArrayListView<>(def));
+    result = new int[list.size()];
+    for (index = result.length; (--index) >= 0;) {
+      result[index] = Integer.parseInt(list.get(index));
+      if (result[index] <= 0) {
+        throw new IllegalArgumentException(((("All values of parameter '" //$NON-NLS-1$
+            + key) + "' must be positive, but found ") + //$NON-NLS-1$
+            result[index]) + '.');
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the formats
+   *
+   * @param config
+   *          the configuration
+   * @return the formats
+   */
+  private static final ESyntheticExperimentFormat[] __getFormats(
+      final Configuration config) {
+    final ArrayListView<String> list;
+    final ESyntheticExperimentFormat[] result;
+    int index;
+
+    list = config.getStringList(ScalingBenchmark.PARAM_FORMATS, null);
+    if (list.isEmpty()) {
+      return ESyntheticExperimentFormat.values();
+    }
+
+    result = new ESyntheticExperimentFormat[list.size()];
+    for (index = result.length; (--index) >= 0;) {
+      result[index] = ESyntheticExperimentFormat.valueOf(//
+          TextUtils.toUpperCase(TextUtils.normalize(list.get(index))));
+    }
+    return result;
+  }
+
+  /**
+   * Measure the phases of one repetition
+   *
+   * @param format
+   *          the format
+   * @param folder
+   *          the folder with the data
+   * @param output
+   *          the folder for the output document
+   * @param cores
+   *          the number of cores to use
+   * @param logger
+   *          the logger
+   * @return the times of the {@link #PHASES phases}, followed by the
+   *         total number of loaded data points
+   * @throws Throwable
+   *           if something fails
+   */
+  private static final long[] __measure(
+      final ESyntheticExperimentFormat format, final Path folder,
+      final Path output, final int cores, final Logger logger)
+      throws Throwable {
+    final ForkJoinPool pool;
+
+    pool = new ForkJoinPool(cores);
+    try {
+      return pool.submit(
+          new __Repetition(format, folder, output, logger)).get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Create the description of the data of a format and scale in the
+   * report lines
+   *
+   * @param generator
+   *          the generator
+   * @param dataPoints
+   *          the number of loaded data points
+   * @return the description
+   */
+  private static final String __data(
+      final SyntheticExperimentSetGenerator generator,
+      final long dataPoints) {
+    return ((((((((((generator.getDimensionCount() + ",") + //$NON-NLS-1$
+        generator.getInstanceCount()) + ',') + //
+        generator.getExperimentCount()) + ',') + //
+        generator.getRunCount()) + ',') + //
+        generator.getPointCount()) + ',') + dataPoints);
+  }
+
+  /**
+   * Print a report line
+   *
+   * @param out
+   *          the destination
+   * @param format
+   *          the format
+   * @param scale
+   *          the scale
+   * @param cores
+   *          the number of cores
+   * @param data
+   *          the {@link #__data(SyntheticExperimentSetGenerator, long)
+   *          data description}
+   * @param phase
+   *          the phase
+   * @param repetition
+   *          the repetition
+   * @param nanos
+   *          the time in nanoseconds
+   */
+  private static final void __line(final PrintStream out,
+      final ESyntheticExperimentFormat format, final int scale,
+      final int cores, final String data, final String phase,
+      final int repetition, final long nanos) {
+    out.print(format.name());
+    out.print(',');
+    out.print(scale);
+    out.print(',');
+    out.print(cores);
+    out.print(',');
+    out.print(data);
+    out.print(',');
+    out.print(phase);
+    out.print(',');
+    out.print(repetition);
+    out.print(',');
+    out.println(nanos / 1e6d);
+  }
+
+  /** one repetition of the measured phases */
+  private static final class __Repetition implements Callable<long[]> {
+
+    /** the format */
+    private final ESyntheticExperimentFormat m_format;
+    /** the folder with the data */
+    private final Path m_folder;
+    /** the folder for the output document */
+    private final Path m_output;
+    /** the logger */
+    private final Logger m_logger;
+
+    /**
+     * create
+     *
+     * @param format
+     *          the format
+     * @param folder
+     *          the folder with the data
+     * @param output
+     *          the folder for the output document
+     * @param logger
+     *          the logger
+     */
+    __Repetition(final ESyntheticExperimentFormat format,
+        final Path folder, final Path output, final Logger logger) {
+      super();
+      this.m_format = format;
+      this.m_folder = folder;
+      this.m_output = output;
+      this.m_logger = logger;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final long[] call() throws IOException {
+      final long[] times;
+      IExperimentSet data;
+      final Configuration ecdf, aggregation, modules;
+      final DocumentConfiguration documents;
+      final IEvaluationBuilder builder;
+      long start, dataPoints;
+
+      times = new long[ScalingBenchmark.PHASES.length + 1];
+
+      start = System.nanoTime();
+      data = this.m_format.load(this.m_folder, this.m_logger);
+      times[0] = (System.nanoTime() - start);
+
+      dataPoints = 0L;
+      for (final IExperiment experiment : data.getData()) {
+        for (final IInstanceRuns runs : experiment.getData()) {
+          for (final IRun run : runs.getData()) {
+            dataPoints += run.getData().size();
+          }
+        }
+      }
+      times[ScalingBenchmark.PHASES.length] = dataPoints;
+
+      try (final ConfigurationBuilder cb = new ConfigurationBuilder()) {
+        cb.put(FunctionAttribute.X_AXIS_PARAM,
+            SyntheticExperimentSetGenerator.DIMENSION_FES);
+        cb.put(FunctionAttribute.Y_INPUT_AXIS_PARAM,
+            SyntheticExperimentSetGenerator.DIMENSION_F);
+        cb.put(ECDF.GOAL_PARAM, "0.01"); //$NON-NLS-1$
+        ecdf = cb.getResult();
+      }
+      try (final ConfigurationBuilder cb = new ConfigurationBuilder()) {
+        cb.put(FunctionAttribute.X_AXIS_PARAM,
+            SyntheticExperimentSetGenerator.DIMENSION_FES);
+        cb.put(FunctionAttribute.Y_INPUT_AXIS_PARAM,
+            SyntheticExperimentSetGenerator.DIMENSION_F);
+        cb.put(Aggregation2D.PRIMARY_AGGREGATE_PARAM, "median"); //$NON-NLS-1$
+        aggregation = cb.getResult();
+      }
+
+      start = System.nanoTime();
+      ECDF.create(data, ecdf).get(data, this.m_logger);
+      Aggregation2D.create(data, aggregation).get(data, this.m_logger);
+      times[1] = (System.nanoTime() - start);
+
+      try (final ConfigurationBuilder cb = new ConfigurationBuilder()) {
+        cb.put(FunctionAttribute.X_AXIS_PARAM, "lg FEs"); //$NON-NLS-1$
+        cb.put(FunctionAttribute.Y_INPUT_AXIS_PARAM,
+            SyntheticExperimentSetGenerator.DIMENSION_F);
+        cb.put(Aggregation2D.PRIMARY_AGGREGATE_PARAM, "median"); //$NON-NLS-1$
+        modules = cb.getResult();
+      }
+      documents = new XHTML10ConfigurationBuilder().immutable();
+
+      // use a fresh experiment set, as the attributes computed above are
+      // cached in the old one and would skew the evaluation time
+      data = this.m_format.load(this.m_folder, this.m_logger);
+
+      start = System.nanoTime();
+      try (final IDocument document = documents.createDocument(
+          this.m_output, "report", null, this.m_logger)) { //$NON-NLS-1$
+        builder = Evaluator.getInstance().use();
+        builder.setLogger(this.m_logger);
+        builder.setInputData(data);
+        builder.setOutput(new DocumentEvaluationOutput(document));
+        builder.configure(modules);
+        builder.addModule(InstanceInformation.getInstance(), null);
+        builder.addModule(AllECDF.getInstance(), null);
+        builder.addModule(AllAggregation2D.getInstance(), null);
+        builder.create().run();
+        times[2] = (System.nanoTime() - start);
+        start = System.nanoTime();
+      }
+      times[3] = (System.nanoTime() - start);
+
+      return times;
+    }
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * An end-to-end scaling benchmark based on the synthetic experiment sets
+ * of
+ * {@link examples.org.optimizationBenchmarking.experimentation.synthetic.SyntheticExperimentSetGenerator}
+ * .
+ */
+package benchmarks.org.optimizationBenchmarking.experimentation.synthetic;
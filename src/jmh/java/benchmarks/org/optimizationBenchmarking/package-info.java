@@ -0,0 +1,11 @@
+/**
+ * Microbenchmarks of the performance-critical kernels of the <a
+ * href="http://www.optimizationBenchmarking.org/"
+ * >optimizationBenchmarking.org</a> tool suite, based on the Java
+ * Microbenchmark Harness (JMH). They are compiled only if the Maven
+ * profile {@code benchmark} is active and can be run via
+ * {@code mvn -Pbenchmark test-compile exec:exec}. A subset of the
+ * benchmarks can be selected by passing a regular expression via
+ * {@code -Djmh.args=...}.
+ */
+package benchmarks.org.optimizationBenchmarking;
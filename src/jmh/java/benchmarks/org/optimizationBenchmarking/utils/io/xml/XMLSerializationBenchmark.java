@@ -0,0 +1,116 @@
+package benchmarks.org.optimizationBenchmarking.utils.io.xml;
+
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.exampleDoc.ExampleDocument;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.output.NullOutputMethod;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.SerializationMethod;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.XMLAPIParallelAsyncSerialization;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.XMLAPIParallelSerialization;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.XMLAPISerialSerialization;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.XMLDOMSerialization;
+import examples.org.optimizationBenchmarking.utils.io.xml.performance.serializers.XMLStreamWriterSerialization;
+
+/**
+ * A benchmark for serializing an example document with different
+ * serialization methods, i.e., the JMH-based counterpart of
+ * {@link examples.org.optimizationBenchmarking.utils.io.xml.performance.XMLPerformanceTest}
+ * . The output is written to a writer which discards it, so only the
+ * serialization itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class XMLSerializationBenchmark {
+
+  /**
+   * the serialization method: {@code stax} for the StAX stream writer,
+   * {@code dom} for the DOM, {@code serial} for the serial XML API, and
+   * {@code parallel} and {@code parallelAsync} for the parallel XML API
+   */
+  @Param({ "stax", "dom", "serial", "parallel", "parallelAsync" })
+  public String method;
+
+  /** the number of nodes in the document */
+  @Param({ "1000", "10000" })
+  public int nodes;
+
+  /** the delay of the strings in the document */
+  @Param({ "0", "100" })
+  public int delay;
+
+  /** the document */
+  private ExampleDocument m_document;
+
+  /** the serialization method */
+  private SerializationMethod m_method;
+
+  /** the writer discarding the output */
+  private Writer m_writer;
+
+  /** create */
+  public XMLSerializationBenchmark() {
+    super();
+  }
+
+  /** create the document and the serialization method */
+  @Setup
+  public final void setup() {
+    final int threads;
+
+    threads = Runtime.getRuntime().availableProcessors();
+    switch (this.method) {
+      case "stax": {//$NON-NLS-1$
+        this.m_method = new XMLStreamWriterSerialization();
+        break;
+      }
+      case "dom": {//$NON-NLS-1$
+        this.m_method = new XMLDOMSerialization();
+        break;
+      }
+      case "serial": {//$NON-NLS-1$
+        this.m_method = new XMLAPISerialSerialization();
+        break;
+      }
+      case "parallel": {//$NON-NLS-1$
+        this.m_method = new XMLAPIParallelSerialization(threads);
+        break;
+      }
+      default: {
+        this.m_method = new XMLAPIParallelAsyncSerialization(threads);
+      }
+    }
+
+    this.m_document = ExampleDocument.createExampleDocument(new Random(
+        42L), this.nodes, this.delay);
+    this.m_writer = new NullOutputMethod().createWriter();
+  }
+
+  /**
+   * Serialize the document
+   *
+   * @throws Exception
+   *           if something goes wrong
+   */
+  @Benchmark
+  public final void serialize() throws Exception {
+    this.m_method.store(this.m_document, this.m_writer);
+  }
+}
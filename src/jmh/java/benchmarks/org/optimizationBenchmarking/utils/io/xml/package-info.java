@@ -0,0 +1,7 @@
+/**
+ * Benchmarks of the XML output from package
+ * {@link org.optimizationBenchmarking.utils.io.xml}, based on the example
+ * documents and serialization methods from package
+ * {@link examples.org.optimizationBenchmarking.utils.io.xml.performance}.
+ */
+package benchmarks.org.optimizationBenchmarking.utils.io.xml;
@@ -0,0 +1,115 @@
+package benchmarks.org.optimizationBenchmarking.utils.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleDistanceMatrix1D;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleDistanceMatrix1DBuilder;
+
+/**
+ * A benchmark for building a distance matrix with a
+ * {@link org.optimizationBenchmarking.utils.math.matrix.impl.DoubleDistanceMatrix1DBuilder}
+ * , as done before clustering, over points with Euclidean distance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DistanceMatrixBenchmark {
+
+  /** the number of elements */
+  @Param({ "100", "1000" })
+  public int elements;
+
+  /** the number of dimensions of each element */
+  @Param({ "8" })
+  public int dimensions;
+
+  /** the elements */
+  private double[][] m_points;
+
+  /** create */
+  public DistanceMatrixBenchmark() {
+    super();
+  }
+
+  /** create the elements */
+  @Setup
+  public final void setup() {
+    final Random random;
+    int i, j;
+
+    random = new Random(55555L);
+    this.m_points = new double[this.elements][this.dimensions];
+    for (i = 0; i < this.elements; i++) {
+      for (j = 0; j < this.dimensions; j++) {
+        this.m_points[i][j] = random.nextGaussian();
+      }
+    }
+  }
+
+  /**
+   * Build the distance matrix
+   *
+   * @return the distance matrix
+   */
+  @Benchmark
+  public final DoubleDistanceMatrix1D buildEuclidean() {
+    return new __EuclideanDistanceBuilder(this.m_points).call();
+  }
+
+  /** the Euclidean distance matrix builder */
+  private static final class __EuclideanDistanceBuilder extends
+      DoubleDistanceMatrix1DBuilder {
+
+    /** the points */
+    private final double[][] m_points;
+
+    /**
+     * create
+     *
+     * @param points
+     *          the points
+     */
+    __EuclideanDistanceBuilder(final double[][] points) {
+      super();
+      this.m_points = points;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final int getElementCount() {
+      return this.m_points.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final double getDistance(final int i, final int j) {
+      final double[] a, b;
+      double sum, diff;
+      int k;
+
+      a = this.m_points[i];
+      b = this.m_points[j];
+      sum = 0d;
+      for (k = a.length; (--k) >= 0;) {
+        diff = (a[k] - b[k]);
+        sum += (diff * diff);
+      }
+      return Math.sqrt(sum);
+    }
+  }
+}
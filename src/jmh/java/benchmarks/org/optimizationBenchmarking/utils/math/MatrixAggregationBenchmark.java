@@ -0,0 +1,185 @@
+package benchmarks.org.optimizationBenchmarking.utils.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.math.BasicNumber;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Identity;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix2D;
+import org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D.MatrixIterator2D;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.ArithmeticMean;
+import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
+
+/**
+ * A benchmark for iterating over and aggregating a set of
+ * progress-like two-dimensional data sets, i.e., the kernel behind
+ * computing, e.g., mean or median progress curves over many runs. The
+ * {@code x} values of each data set are increasing and the {@code y}
+ * values are decreasing, just like in real runs of an optimization
+ * algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MatrixAggregationBenchmark {
+
+  /** the number of data sets (runs) */
+  @Param({ "10", "100" })
+  public int runs;
+
+  /** the number of points per data set */
+  @Param({ "100", "1000" })
+  public int points;
+
+  /** the {@code x} columns as {@code long}s */
+  private long[][] m_longX;
+
+  /** the {@code y} columns as {@code long}s */
+  private long[][] m_longY;
+
+  /** the {@code x} columns as {@code double}s */
+  private double[][] m_doubleX;
+
+  /** the {@code y} columns as {@code double}s */
+  private double[][] m_doubleY;
+
+  /** the data sets as matrices */
+  private IMatrix[] m_matrices;
+
+  /** create */
+  public MatrixAggregationBenchmark() {
+    super();
+  }
+
+  /** create the data sets */
+  @Setup
+  public final void setup() {
+    final Random random;
+    double[][] matrix;
+    long x, y;
+    int i, j;
+
+    random = new Random(98765L);
+    this.m_longX = new long[this.runs][this.points];
+    this.m_longY = new long[this.runs][this.points];
+    this.m_doubleX = new double[this.runs][this.points];
+    this.m_doubleY = new double[this.runs][this.points];
+    this.m_matrices = new IMatrix[this.runs];
+
+    for (i = 0; i < this.runs; i++) {
+      matrix = new double[this.points][2];
+      x = 0L;
+      y = 1000000000L;
+      for (j = 0; j < this.points; j++) {
+        x += (1L + random.nextInt(1000));
+        y -= random.nextInt(1 + ((int) (y / (this.points - j + 1))));
+        this.m_longX[i][j] = x;
+        this.m_longY[i][j] = y;
+        this.m_doubleX[i][j] = matrix[j][0] = (x / 1000d);
+        this.m_doubleY[i][j] = matrix[j][1] = (y / 1000d);
+      }
+      this.m_matrices[i] = new DoubleMatrix2D(matrix);
+    }
+  }
+
+  /**
+   * Iterate over the points of all data sets
+   *
+   * @param iterator
+   *          the iterator
+   * @return a checksum
+   */
+  private static final long __iterate(final MatrixIterator2D iterator) {
+    BasicNumber number;
+    long checksum;
+
+    checksum = 0L;
+    while (iterator.hasNext()) {
+      number = iterator.next();
+      checksum += Double.doubleToRawLongBits(number.doubleValue());
+    }
+    return checksum;
+  }
+
+  /**
+   * Iterate over {@code long} columns
+   *
+   * @return a checksum
+   */
+  @Benchmark
+  public final long iterateLongColumns() {
+    return MatrixAggregationBenchmark.__iterate(//
+        MatrixIterator2D.iterate(this.m_longX, this.m_longY, false));
+  }
+
+  /**
+   * Iterate over {@code double} columns
+   *
+   * @return a checksum
+   */
+  @Benchmark
+  public final long iterateDoubleColumns() {
+    return MatrixAggregationBenchmark.__iterate(//
+        MatrixIterator2D.iterate(this.m_doubleX, this.m_doubleY, false));
+  }
+
+  /**
+   * Iterate over matrices
+   *
+   * @return a checksum
+   */
+  @Benchmark
+  public final long iterateMatrices() {
+    return MatrixAggregationBenchmark.__iterate(//
+        MatrixIterator2D.iterate(0, 1, this.m_matrices, false));
+  }
+
+  /**
+   * Compute the arithmetic mean curve over {@code long} columns
+   *
+   * @return the resulting matrix
+   */
+  @Benchmark
+  public final IMatrix meanOfLongColumns() {
+    return ArithmeticMean.INSTANCE.aggregate2D(
+        MatrixIterator2D.iterate(this.m_longX, this.m_longY, false),
+        Identity.INSTANCE);
+  }
+
+  /**
+   * Compute the arithmetic mean curve over matrices
+   *
+   * @return the resulting matrix
+   */
+  @Benchmark
+  public final IMatrix meanOfMatrices() {
+    return ArithmeticMean.INSTANCE.aggregate2D(this.m_matrices, 0, 1,
+        Identity.INSTANCE);
+  }
+
+  /**
+   * Compute the median curve over matrices
+   *
+   * @return the resulting matrix
+   */
+  @Benchmark
+  public final IMatrix medianOfMatrices() {
+    return Median.INSTANCE.aggregate2D(this.m_matrices, 0, 1,
+        Identity.INSTANCE);
+  }
+}
@@ -0,0 +1,117 @@
+package benchmarks.org.optimizationBenchmarking.utils.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.StableSum;
+
+/**
+ * A benchmark for the numerically stable summation of
+ * {@link org.optimizationBenchmarking.utils.math.statistics.aggregate.StableSum}
+ * , which is at the core of most statistics and of the fitting quality
+ * measures, compared with naive summation as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class StableSumBenchmark {
+
+  /** the number of values to sum up */
+  @Param({ "1000", "100000" })
+  public int count;
+
+  /** the {@code double} values */
+  private double[] m_doubles;
+
+  /** the {@code long} values */
+  private long[] m_longs;
+
+  /** the sum */
+  private StableSum m_sum;
+
+  /** create */
+  public StableSumBenchmark() {
+    super();
+  }
+
+  /** create the values */
+  @Setup
+  public final void setup() {
+    final Random random;
+    int i;
+
+    random = new Random(1234567L);
+    this.m_doubles = new double[this.count];
+    this.m_longs = new long[this.count];
+    for (i = 0; i < this.count; i++) {
+      this.m_doubles[i] = (random.nextGaussian() * //
+      Math.pow(10d, (random.nextInt(21) - 10)));
+      this.m_longs[i] = (random.nextLong() >> random.nextInt(64));
+    }
+    this.m_sum = new StableSum();
+  }
+
+  /**
+   * Sum up {@code double}s in a stable way
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public final double stableSumOfDoubles() {
+    final StableSum sum;
+
+    sum = this.m_sum;
+    sum.reset();
+    for (final double d : this.m_doubles) {
+      sum.append(d);
+    }
+    return sum.doubleValue();
+  }
+
+  /**
+   * Sum up {@code long}s in a stable way
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public final double stableSumOfLongs() {
+    final StableSum sum;
+
+    sum = this.m_sum;
+    sum.reset();
+    for (final long l : this.m_longs) {
+      sum.append(l);
+    }
+    return sum.doubleValue();
+  }
+
+  /**
+   * Sum up {@code double}s naively, as baseline
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public final double naiveSumOfDoubles() {
+    double sum;
+
+    sum = 0d;
+    for (final double d : this.m_doubles) {
+      sum += d;
+    }
+    return sum;
+  }
+}
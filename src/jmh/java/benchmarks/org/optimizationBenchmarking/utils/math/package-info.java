@@ -0,0 +1,5 @@
+/**
+ * Benchmarks of the numerical kernels from package
+ * {@link org.optimizationBenchmarking.utils.math} and its sub-packages.
+ */
+package benchmarks.org.optimizationBenchmarking.utils.math;
@@ -0,0 +1,119 @@
+package benchmarks.org.optimizationBenchmarking.utils.ml.fitting;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+import org.optimizationBenchmarking.utils.ml.fitting.models.LogisticModelWithOffsetOverLogX;
+import org.optimizationBenchmarking.utils.ml.fitting.models.QuadraticModel;
+import org.optimizationBenchmarking.utils.ml.fitting.quality.WeightedRootMeanSquareError;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.FittingEvaluation;
+import org.optimizationBenchmarking.utils.ml.fitting.spec.ParametricUnaryFunction;
+
+/**
+ * A benchmark for evaluating the quality of a fitted model via the
+ * {@link org.optimizationBenchmarking.utils.ml.fitting.quality.WeightedRootMeanSquareError}
+ * , which is invoked many times by the fitters. Both the plain quality
+ * and the full evaluation including residuals and Jacobian are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class FittingQualityBenchmark {
+
+  /** the number of data points */
+  @Param({ "100", "10000" })
+  public int points;
+
+  /**
+   * the model to evaluate: {@code quadratic} or {@code logistic}, the
+   * latter being the logistic model with offset over {@code log(x)}
+   */
+  @Param({ "quadratic", "logistic" })
+  public String model;
+
+  /** the quality measure */
+  private WeightedRootMeanSquareError m_quality;
+
+  /** the model */
+  private ParametricUnaryFunction m_model;
+
+  /** the model parameters */
+  private double[] m_parameters;
+
+  /** the destination of the full evaluation */
+  private FittingEvaluation m_evaluation;
+
+  /** create */
+  public FittingQualityBenchmark() {
+    super();
+  }
+
+  /** create the data */
+  @Setup
+  public final void setup() {
+    final Random random;
+    final double[] data;
+    double x;
+    int i;
+
+    if ("quadratic".equals(this.model)) { //$NON-NLS-1$
+      this.m_model = new QuadraticModel();
+      this.m_parameters = new double[] { 3d, -0.5d, 0.01d };
+    } else {
+      this.m_model = new LogisticModelWithOffsetOverLogX();
+      this.m_parameters = new double[] { 1000d, 0.01d, 2d, 100d };
+    }
+
+    random = new Random(777L);
+    data = new double[this.points << 1];
+    x = 1d;
+    for (i = 0; i < data.length;) {
+      x += (1d + random.nextInt(100));
+      data[i++] = x;
+      data[i++] = (this.m_model.value(x, this.m_parameters) * //
+      (1d + (0.05d * random.nextGaussian())));
+    }
+
+    this.m_quality = new WeightedRootMeanSquareError(new DoubleMatrix1D(
+        data, this.points, 2));
+    this.m_evaluation = new FittingEvaluation();
+  }
+
+  /**
+   * Compute the quality of the model
+   *
+   * @return the quality
+   */
+  @Benchmark
+  public final double evaluateQuality() {
+    return this.m_quality.evaluate(this.m_model, this.m_parameters);
+  }
+
+  /**
+   * Compute the full evaluation of the model, including residuals and
+   * Jacobian
+   *
+   * @return the evaluation
+   */
+  @Benchmark
+  public final FittingEvaluation evaluateFully() {
+    this.m_quality.evaluate(this.m_model, this.m_parameters,
+        this.m_evaluation);
+    return this.m_evaluation;
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Benchmarks of the curve fitting kernels from package
+ * {@link org.optimizationBenchmarking.utils.ml.fitting}.
+ */
+package benchmarks.org.optimizationBenchmarking.utils.ml.fitting;
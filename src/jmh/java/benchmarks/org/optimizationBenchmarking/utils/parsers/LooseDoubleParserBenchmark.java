@@ -0,0 +1,141 @@
+package benchmarks.org.optimizationBenchmarking.utils.parsers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+
+/**
+ * A benchmark for parsing numbers with the
+ * {@link org.optimizationBenchmarking.utils.parsers.LooseDoubleParser},
+ * both from strings and from ranges of a character array, as done when
+ * reading log files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class LooseDoubleParserBenchmark {
+
+  /** the number of values parsed per invocation */
+  private static final int COUNT = 1024;
+
+  /**
+   * the kind of numbers to parse: {@code integer} for plain integers,
+   * {@code decimal} for plain decimals, {@code scientific} for numbers in
+   * scientific notation, and {@code padded} for decimals surrounded by
+   * white space
+   */
+  @Param({ "integer", "decimal", "scientific", "padded" })
+  public String kind;
+
+  /** the strings to parse */
+  private String[] m_strings;
+
+  /** all strings concatenated into one character array */
+  private char[] m_chars;
+
+  /** the start indexes of the strings in {@link #m_chars} */
+  private int[] m_starts;
+
+  /** create */
+  public LooseDoubleParserBenchmark() {
+    super();
+  }
+
+  /** create the numbers to parse */
+  @Setup
+  public final void setup() {
+    final Random random;
+    final StringBuilder sb;
+    String s;
+    int i;
+
+    random = new Random(3847L);
+    this.m_strings = new String[LooseDoubleParserBenchmark.COUNT];
+    this.m_starts = new int[LooseDoubleParserBenchmark.COUNT + 1];
+    sb = new StringBuilder();
+
+    for (i = 0; i < LooseDoubleParserBenchmark.COUNT; i++) {
+      switch (this.kind) {
+        case "integer": {//$NON-NLS-1$
+          s = Long.toString(random.nextInt(100000000));
+          break;
+        }
+        case "decimal": {//$NON-NLS-1$
+          s = Double.toString(random.nextInt(10000000) / 1000d);
+          break;
+        }
+        case "scientific": {//$NON-NLS-1$
+          s = Double.toString(random.nextDouble()
+              * Math.pow(10d, (random.nextInt(60) - 30)));
+          break;
+        }
+        default: {
+          s = ("  " + (random.nextInt(10000000) / 1000d) + '\t'); //$NON-NLS-1$
+        }
+      }
+      this.m_strings[i] = s;
+      this.m_starts[i] = sb.length();
+      sb.append(s);
+    }
+
+    this.m_starts[LooseDoubleParserBenchmark.COUNT] = sb.length();
+    this.m_chars = sb.toString().toCharArray();
+  }
+
+  /**
+   * Parse the numbers from strings
+   *
+   * @return the sum of the numbers
+   */
+  @Benchmark
+  public final double parseStrings() {
+    final LooseDoubleParser parser;
+    double sum;
+
+    parser = LooseDoubleParser.INSTANCE;
+    sum = 0d;
+    for (final String string : this.m_strings) {
+      sum += parser.parseDouble(string);
+    }
+    return sum;
+  }
+
+  /**
+   * Parse the numbers from ranges of a character array
+   *
+   * @return the sum of the numbers
+   */
+  @Benchmark
+  public final double parseCharRanges() {
+    final LooseDoubleParser parser;
+    final int[] starts;
+    final char[] chars;
+    double sum;
+    int i;
+
+    parser = LooseDoubleParser.INSTANCE;
+    starts = this.m_starts;
+    chars = this.m_chars;
+    sum = 0d;
+    for (i = 0; i < LooseDoubleParserBenchmark.COUNT; i++) {
+      sum += parser.parseDouble(chars, starts[i],
+          (starts[i + 1] - starts[i]));
+    }
+    return sum;
+  }
+}
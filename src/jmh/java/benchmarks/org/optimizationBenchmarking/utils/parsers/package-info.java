@@ -0,0 +1,5 @@
+/**
+ * Benchmarks of the parsers from package
+ * {@link org.optimizationBenchmarking.utils.parsers}.
+ */
+package benchmarks.org.optimizationBenchmarking.utils.parsers;
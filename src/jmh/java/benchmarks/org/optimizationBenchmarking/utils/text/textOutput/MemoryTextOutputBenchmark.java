@@ -0,0 +1,124 @@
+package benchmarks.org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * A benchmark for appending numbers and strings to a
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput}
+ * , which is how all textual output, from log files over CSV to figure
+ * and document sources, is produced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MemoryTextOutputBenchmark {
+
+  /** the number of values appended per invocation */
+  private static final int COUNT = 1024;
+
+  /** the {@code double} values */
+  private double[] m_doubles;
+
+  /** the {@code long} values */
+  private long[] m_longs;
+
+  /** the strings */
+  private String[] m_strings;
+
+  /** the output */
+  private MemoryTextOutput m_output;
+
+  /** create */
+  public MemoryTextOutputBenchmark() {
+    super();
+  }
+
+  /** create the values */
+  @Setup
+  public final void setup() {
+    final Random random;
+    int i;
+
+    random = new Random(31337L);
+    this.m_doubles = new double[MemoryTextOutputBenchmark.COUNT];
+    this.m_longs = new long[MemoryTextOutputBenchmark.COUNT];
+    this.m_strings = new String[MemoryTextOutputBenchmark.COUNT];
+    for (i = 0; i < MemoryTextOutputBenchmark.COUNT; i++) {
+      this.m_doubles[i] = (random.nextDouble() * //
+      Math.pow(10d, (random.nextInt(20) - 10)));
+      this.m_longs[i] = (random.nextLong() >> random.nextInt(64));
+      this.m_strings[i] = Long.toString(random.nextLong(), 36);
+    }
+    this.m_output = new MemoryTextOutput(65536);
+  }
+
+  /**
+   * Append {@code double}s
+   *
+   * @return the number of characters written
+   */
+  @Benchmark
+  public final int appendDoubles() {
+    final MemoryTextOutput output;
+
+    output = this.m_output;
+    output.clear();
+    for (final double d : this.m_doubles) {
+      output.append(d);
+      output.append(' ');
+    }
+    return output.length();
+  }
+
+  /**
+   * Append {@code long}s
+   *
+   * @return the number of characters written
+   */
+  @Benchmark
+  public final int appendLongs() {
+    final MemoryTextOutput output;
+
+    output = this.m_output;
+    output.clear();
+    for (final long l : this.m_longs) {
+      output.append(l);
+      output.append(' ');
+    }
+    return output.length();
+  }
+
+  /**
+   * Append strings
+   *
+   * @return the number of characters written
+   */
+  @Benchmark
+  public final int appendStrings() {
+    final MemoryTextOutput output;
+
+    output = this.m_output;
+    output.clear();
+    for (final String s : this.m_strings) {
+      output.append(s);
+      output.append(' ');
+    }
+    return output.length();
+  }
+}
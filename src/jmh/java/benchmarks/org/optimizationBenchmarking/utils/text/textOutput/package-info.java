@@ -0,0 +1,5 @@
+/**
+ * Benchmarks of the text output from package
+ * {@link org.optimizationBenchmarking.utils.text.textOutput}.
+ */
+package benchmarks.org.optimizationBenchmarking.utils.text.textOutput;
@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import org.optimizationBenchmarking.experimentation.attributes.clusters.ICluster;
 import org.optimizationBenchmarking.experimentation.attributes.clusters.IClustering;
 import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelection;
+import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelectionBuilder;
 import org.optimizationBenchmarking.experimentation.data.spec.Attribute;
 import org.optimizationBenchmarking.experimentation.data.spec.EAttributeType;
 import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
@@ -42,7 +43,8 @@ public final class ByInstanceGrouping
     final _InstanceGroups groups;
     HashSet<IInstance> instances;
     IInstance[] instanceArray;
-    DataSelection selection;
+    IInstance[][] instanceGroups;
+    DataSelection[] selections;
     int i;
 
     origSize = data.getInstances().getData().size();
@@ -76,12 +78,19 @@ public final class ByInstanceGrouping
 
     clusters = new ICluster[i];
 
-    groups = new _InstanceGroups(data, clusters);
+    instanceGroups = new IInstance[i][];
     for (; (--i) >= 0;) {
-      selection = new DataSelection(data);
-      selection.addInstance(instanceArray[i]);
-      clusters[i] = new _InstanceCluster(groups, selection);
-      selection = null;
+      instanceGroups[i] = new IInstance[] { instanceArray[i] };
+    }
+    instanceArray = null;
+    selections = new DataSelectionBuilder(data)
+        .selectInstanceGroups(instanceGroups);
+    instanceGroups = null;
+
+    groups = new _InstanceGroups(data, clusters);
+    for (i = selections.length; (--i) >= 0;) {
+      clusters[i] = new _InstanceCluster(groups, selections[i]);
+      selections[i] = null;
     }
 
     return groups;
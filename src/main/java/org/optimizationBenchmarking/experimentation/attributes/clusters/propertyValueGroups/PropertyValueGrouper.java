@@ -1,10 +1,13 @@
 package org.optimizationBenchmarking.experimentation.attributes.clusters.propertyValueGroups;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelection;
+import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelectionBuilder;
 import org.optimizationBenchmarking.experimentation.data.spec.Attribute;
 import org.optimizationBenchmarking.experimentation.data.spec.EAttributeType;
 import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
@@ -189,6 +192,10 @@ public final class PropertyValueGrouper
     final IExperimentSet set;
     Object[] objData;
     Number[] numberData;
+    final DataSelectionBuilder builder;
+    final ArrayList<Object> values;
+    final DataSelection[] selections;
+    Object[][] groupValues;
     _Group[] buffer;
     int index, type;
     Object value;
@@ -250,17 +257,27 @@ public final class PropertyValueGrouper
 
     // now compile data
     set = data.getOwner().getOwner();
+    builder = new DataSelectionBuilder(set);
 
-    for (final _Group group : groups.m_groups) {
-      group.m_selection = new DataSelection(set);
+    groupValues = new Object[groups.m_groups.length][];
+    values = new ArrayList<>();
+    for (index = groupValues.length; (--index) >= 0;) {
       for (final Object object : objData) {
-        if (group._contains(object)) {
-          group.m_selection.addPropertyValue(data, object);
+        if (groups.m_groups[index]._contains(object)) {
+          values.add(object);
         }
       }
+      groupValues[index] = values.toArray();
+      values.clear();
     }
     objData = null;
 
+    selections = builder.selectPropertyValueGroups(data, groupValues);
+    groupValues = null;
+    for (index = selections.length; (--index) >= 0;) {
+      groups.m_groups[index].m_selection = selections[index];
+    }
+
     unspecified = null;
     value = null;
     if (data instanceof IParameter) {
@@ -268,8 +285,8 @@ public final class PropertyValueGrouper
       if (pv != null) {
         value = pv.getValue();
         if (value != null) {
-          unspecified = new DataSelection(set);
-          unspecified.addParameterValue(pv);
+          unspecified = builder.selectPropertyValues(data,
+              Collections.singletonList(value));
         }
       }
     }
@@ -8,6 +8,7 @@ import org.optimizationBenchmarking.utils.collections.maps.StringMapCI;
 import org.optimizationBenchmarking.utils.math.functions.MathematicalFunction;
 import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
 import org.optimizationBenchmarking.utils.math.functions.compound.FunctionBuilder;
+import org.optimizationBenchmarking.utils.math.functions.compound.FunctionCompiler;
 import org.optimizationBenchmarking.utils.math.functions.compound.UnaryFunctionBuilder;
 import org.optimizationBenchmarking.utils.math.text.AbstractNameResolver;
 import org.optimizationBenchmarking.utils.math.text.CompoundFunctionParser;
@@ -66,7 +67,8 @@ abstract class _TransformationParser<TT extends Transformation> extends
   public synchronized final TT parseString(final String string) {
     final UnaryFunction function;
 
-    function = this.m_functionParser.parseString(string);
+    function = FunctionCompiler.compile(//
+        this.m_functionParser.parseString(string));
     return this._createTransformation(function,
         this.m_resolver._getConstants());
   }
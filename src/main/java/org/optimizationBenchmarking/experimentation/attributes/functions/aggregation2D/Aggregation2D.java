@@ -17,7 +17,6 @@ import org.optimizationBenchmarking.experimentation.data.spec.IElementSet;
 import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
 import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
 import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
-import org.optimizationBenchmarking.experimentation.data.spec.IRun;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.config.Configuration;
 import org.optimizationBenchmarking.utils.document.spec.IComplexText;
@@ -25,12 +24,13 @@ import org.optimizationBenchmarking.utils.document.spec.IMath;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.math.functions.arithmetic.Identity;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
-import org.optimizationBenchmarking.utils.math.matrix.impl.MatrixBuilder;
-import org.optimizationBenchmarking.utils.math.matrix.processing.ColumnTransformedMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D.MatrixIterator2D;
 import org.optimizationBenchmarking.utils.math.statistics.parameters.Median;
 import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameter;
 import org.optimizationBenchmarking.utils.math.statistics.parameters.StatisticalParameterParser;
 import org.optimizationBenchmarking.utils.math.text.DefaultParameterRenderer;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
 import org.optimizationBenchmarking.utils.parallel.Execute;
 import org.optimizationBenchmarking.utils.text.ETextCase;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
@@ -218,13 +218,12 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
    */
   final IMatrix _computeInstanceRuns(final IInstanceRuns data,
       final Logger logger) {
-    final IMatrix[] matrices;
-    final ArrayListView<? extends IRun> runs;
+    final MatrixIterator2D iterator;
     final IMatrix result;
     final DimensionTransformation xIn, yIn;
     final Transformation yOut;
+    final FlightEvent event;
     String name;
-    int i;
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       name = this.getNameForLogging(data);
@@ -232,7 +231,11 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     } else {
       name = null;
     }
+    event = FlightEvent.begin(EFlightEventType.AGGREGATION_2D);
 
+    // The transformed x and y columns of the runs are computed directly
+    // into plain arrays over which we then iterate, instead of creating a
+    // transformed matrix per run and copying it.
     xIn = this.getXAxisTransformation();
     synchronized (xIn) {
       try (final TransformationFunction xFunction = xIn.use(data)) {
@@ -240,16 +243,11 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
         synchronized (yIn) {
           try (final TransformationFunction yInputFunction = yIn
               .use(data)) {
-
-            runs = data.getData();
-            i = runs.size();
-            matrices = new IMatrix[i];
-
-            for (; (--i) >= 0;) {
-              matrices[i] = MatrixBuilder.copy(new ColumnTransformedMatrix(//
-                  runs.get(i).selectColumns(this.m_xIndex, this.m_yIndex), //
-                  xFunction, yInputFunction), false);
-            }
+            iterator = _ColumnKernel._iterate(data.getData(), //
+                new _ColumnKernel(this.m_xIndex, xFunction, //
+                    xIn.getDimension().getDataType().isInteger()), //
+                new _ColumnKernel(this.m_yIndex, yInputFunction, //
+                    yIn.getDimension().getDataType().isInteger()));
           }
         }
       }
@@ -258,8 +256,14 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     yOut = this.getYAxisOutputTransformation();
     synchronized (yOut) {
       try (final TransformationFunction yOutputFunction = yOut.use(data)) {
-        result = this.m_param.aggregate2D(matrices, 0, 1, yOutputFunction);
+        result = this.m_param.aggregate2D(iterator, yOutputFunction);
+      }
+    }
+    if (event != null) {
+      if (name == null) {
+        name = this.getNameForLogging(data);
       }
+      FlightEvent.end(event, name, "instance runs", result.m()); //$NON-NLS-1$
     }
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
@@ -290,6 +294,7 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     final ArrayListView<? extends IInstanceRuns> runs;
     final IMatrix result;
     final Future<IMatrix>[] tasks;
+    final FlightEvent event;
     String name;
     int i;
 
@@ -299,6 +304,7 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     } else {
       name = null;
     }
+    event = FlightEvent.begin(EFlightEventType.AGGREGATION_2D);
 
     runs = data.getData();
     i = runs.size();
@@ -313,6 +319,12 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     Execute.join(tasks, matrices, 0, true);
 
     result = this.m_second.aggregate2D(matrices, 0, 1, Identity.INSTANCE);
+    if (event != null) {
+      if (name == null) {
+        name = this.getNameForLogging(data);
+      }
+      FlightEvent.end(event, name, "experiment", result.m()); //$NON-NLS-1$
+    }
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       if (name == null) {
@@ -342,6 +354,7 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     final IMatrix[] matrices;
     final ArrayList<Future<IMatrix>> tasks;
     final IMatrix result;
+    final FlightEvent event;
     String name;
 
     name = null;
@@ -349,6 +362,7 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
       name = this.getNameForLogging();
       logger.finer("Beginning to compute the " + name + '.'); //$NON-NLS-1$
     }
+    event = FlightEvent.begin(EFlightEventType.AGGREGATION_2D);
 
     tasks = new ArrayList<>();
     for (final IExperiment exp : data.getData()) {
@@ -361,6 +375,12 @@ public final class Aggregation2D extends FunctionAttribute<IElementSet> {
     matrices = new IMatrix[tasks.size()];
     Execute.join(tasks, matrices, 0, true);
     result = this.m_second.aggregate2D(matrices, 0, 1, Identity.INSTANCE);
+    if (event != null) {
+      if (name == null) {
+        name = this.getNameForLogging();
+      }
+      FlightEvent.end(event, name, "experiment set", result.m()); //$NON-NLS-1$
+    }
 
     if ((logger != null) && (logger.isLoggable(Level.FINER))) {
       if (name == null) {
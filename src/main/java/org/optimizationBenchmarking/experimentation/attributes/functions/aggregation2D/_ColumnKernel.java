@@ -0,0 +1,189 @@
+package org.optimizationBenchmarking.experimentation.attributes.functions.aggregation2D;
+
+import org.optimizationBenchmarking.experimentation.attributes.functions.TransformationFunction;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D.MatrixIterator2D;
+
+/**
+ * A kernel which extracts one column from each run of a set of runs and
+ * applies a dimension transformation to it. The kind of arithmetic is
+ * decided only once, when the kernel is created, based on the data type
+ * of the dimension and on whether the transformation can be computed
+ * accurately with {@code long} arithmetic. The columns are written into
+ * plain arrays which can be fed directly into a
+ * {@link org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D.MatrixIterator2D}
+ * , so that neither a transformed view nor a copied matrix needs to be
+ * created per run.
+ */
+final class _ColumnKernel {
+
+  /** the source column is floating point, the result is {@code double} */
+  private static final int MODE_DOUBLE = 0;
+  /** the source column is integer, the result is {@code double} */
+  private static final int MODE_LONG_TO_DOUBLE = 1;
+  /** the source column is integer, the result is {@code long} */
+  private static final int MODE_LONG = 2;
+
+  /** the column index */
+  private final int m_column;
+
+  /** the transformation function */
+  private final TransformationFunction m_function;
+
+  /** the arithmetic mode */
+  private final int m_mode;
+
+  /** is the transformation the identity? */
+  private final boolean m_isIdentity;
+
+  /** the temporary buffer for {@link #MODE_LONG_TO_DOUBLE} */
+  private long[] m_buffer;
+
+  /**
+   * create the column kernel
+   *
+   * @param column
+   *          the column index
+   * @param function
+   *          the transformation function
+   * @param isIntegerSource
+   *          does the column contain only integer values?
+   */
+  _ColumnKernel(final int column, final TransformationFunction function,
+      final boolean isIntegerSource) {
+    super();
+
+    this.m_column = column;
+    this.m_function = function;
+    if (isIntegerSource) {
+      this.m_mode = (function.isLongArithmeticAccurate()
+          ? _ColumnKernel.MODE_LONG : _ColumnKernel.MODE_LONG_TO_DOUBLE);
+    } else {
+      this.m_mode = _ColumnKernel.MODE_DOUBLE;
+    }
+    this.m_isIdentity = function.isIdentityTransformation();
+  }
+
+  /**
+   * Will this kernel produce {@code long} columns?
+   *
+   * @return {@code true} if {@link #_longColumns(ArrayListView)} should be
+   *         used, {@code false} if {@link #_doubleColumns(ArrayListView)}
+   *         should be used
+   */
+  final boolean _isLong() {
+    return (this.m_mode == _ColumnKernel.MODE_LONG);
+  }
+
+  /**
+   * Extract and transform the column of each run as {@code long}s
+   *
+   * @param runs
+   *          the runs
+   * @return the transformed columns
+   */
+  final long[][] _longColumns(final ArrayListView<? extends IRun> runs) {
+    final long[][] columns;
+    final TransformationFunction function;
+    long[] values;
+    IRun run;
+    int index, i, m;
+
+    function = this.m_function;
+    columns = new long[runs.size()][];
+    for (index = columns.length; (--index) >= 0;) {
+      run = runs.get(index);
+      m = run.m();
+      columns[index] = values = new long[m];
+      if (m > 0) {
+        run.copyColumn(this.m_column, 0, m, values, 0);
+        if (!(this.m_isIdentity)) {
+          for (i = m; (--i) >= 0;) {
+            values[i] = function.computeAsLong(values[i]);
+          }
+        }
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Extract and transform the column of each run as {@code double}s
+   *
+   * @param runs
+   *          the runs
+   * @return the transformed columns
+   */
+  final double[][] _doubleColumns(final ArrayListView<? extends IRun> runs) {
+    final double[][] columns;
+    final TransformationFunction function;
+    double[] values;
+    long[] buffer;
+    IRun run;
+    int index, i, m;
+
+    function = this.m_function;
+    columns = new double[runs.size()][];
+    for (index = columns.length; (--index) >= 0;) {
+      run = runs.get(index);
+      m = run.m();
+      columns[index] = values = new double[m];
+      if (m <= 0) {
+        continue;
+      }
+
+      if (this.m_mode == _ColumnKernel.MODE_LONG_TO_DOUBLE) {
+        buffer = this.m_buffer;
+        if ((buffer == null) || (buffer.length < m)) {
+          this.m_buffer = buffer = new long[m];
+        }
+        run.copyColumn(this.m_column, 0, m, buffer, 0);
+        for (i = m; (--i) >= 0;) {
+          values[i] = function.computeAsDouble(buffer[i]);
+        }
+      } else {
+        run.copyColumn(this.m_column, 0, m, values, 0);
+        if (!(this.m_isIdentity)) {
+          for (i = m; (--i) >= 0;) {
+            values[i] = function.computeAsDouble(values[i]);
+          }
+        }
+      }
+    }
+    this.m_buffer = null;
+    return columns;
+  }
+
+  /**
+   * Create a matrix iterator over the transformed {@code x} and {@code y}
+   * columns of a set of runs, choosing the {@code long} or {@code double}
+   * representation for each dimension as determined by the kernels.
+   *
+   * @param runs
+   *          the runs
+   * @param x
+   *          the kernel for the {@code x}-dimension
+   * @param y
+   *          the kernel for the {@code y}-dimension
+   * @return the matrix iterator
+   */
+  static final MatrixIterator2D _iterate(
+      final ArrayListView<? extends IRun> runs, final _ColumnKernel x,
+      final _ColumnKernel y) {
+    if (x._isLong()) {
+      if (y._isLong()) {
+        return MatrixIterator2D.iterate(x._longColumns(runs),
+            y._longColumns(runs), false);
+      }
+      return MatrixIterator2D.iterate(x._longColumns(runs),
+          y._doubleColumns(runs), false);
+    }
+    if (y._isLong()) {
+      return MatrixIterator2D.iterate(x._doubleColumns(runs),
+          y._longColumns(runs), false);
+    }
+    return MatrixIterator2D.iterate(x._doubleColumns(runs),
+        y._doubleColumns(runs), false);
+  }
+}
@@ -0,0 +1,99 @@
+package org.optimizationBenchmarking.experimentation.attributes.statistics.ert;
+
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+
+/**
+ * The expected running times (ERTs) and success rates of a set of runs
+ * for a ladder of goal values, as computed by
+ * {@link InstanceRunsExpectedRunningTimes}. The ERT for a goal is the sum
+ * of the times consumed by all runs until they either reached the goal or
+ * ended, divided by the number of runs which reached the goal. If no run
+ * reached the goal, the ERT is {@link Double#POSITIVE_INFINITY}.
+ */
+public final class ExpectedRunningTimes {
+
+  /** the goals */
+  private final ArrayListView<Number> m_goals;
+
+  /** the number of runs */
+  private final int m_runs;
+
+  /** the number of successful runs per goal */
+  private final int[] m_successes;
+
+  /** the expected running time per goal */
+  private final double[] m_erts;
+
+  /**
+   * create the expected running times
+   *
+   * @param goals
+   *          the goals
+   * @param runs
+   *          the number of runs
+   * @param successes
+   *          the number of successful runs per goal
+   * @param erts
+   *          the expected running time per goal
+   */
+  ExpectedRunningTimes(final ArrayListView<Number> goals, final int runs,
+      final int[] successes, final double[] erts) {
+    super();
+    this.m_goals = goals;
+    this.m_runs = runs;
+    this.m_successes = successes;
+    this.m_erts = erts;
+  }
+
+  /**
+   * Get the goals, sorted from the easiest to the hardest
+   *
+   * @return the goals
+   */
+  public final ArrayListView<Number> getGoals() {
+    return this.m_goals;
+  }
+
+  /**
+   * Get the total number of runs
+   *
+   * @return the total number of runs
+   */
+  public final int getRunCount() {
+    return this.m_runs;
+  }
+
+  /**
+   * Get the number of runs which reached a given goal
+   *
+   * @param goal
+   *          the index of the goal in {@link #getGoals()}
+   * @return the number of runs which reached the goal
+   */
+  public final int getSuccessCount(final int goal) {
+    return this.m_successes[goal];
+  }
+
+  /**
+   * Get the fraction of runs which reached a given goal
+   *
+   * @param goal
+   *          the index of the goal in {@link #getGoals()}
+   * @return the fraction of runs which reached the goal
+   */
+  public final double getSuccessRate(final int goal) {
+    return (this.m_successes[goal] / ((double) (this.m_runs)));
+  }
+
+  /**
+   * Get the expected running time for a given goal
+   *
+   * @param goal
+   *          the index of the goal in {@link #getGoals()}
+   * @return the expected running time, or
+   *         {@link Double#POSITIVE_INFINITY} if no run reached the goal
+   */
+  public final double getExpectedRunningTime(final int goal) {
+    return this.m_erts[goal];
+  }
+}
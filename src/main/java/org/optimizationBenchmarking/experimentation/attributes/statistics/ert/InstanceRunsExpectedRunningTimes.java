@@ -0,0 +1,227 @@
+package org.optimizationBenchmarking.experimentation.attributes.statistics.ert;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.experimentation.data.spec.Attribute;
+import org.optimizationBenchmarking.experimentation.data.spec.EAttributeType;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+
+/**
+ * This attribute computes the
+ * {@linkplain ExpectedRunningTimes expected running times and success
+ * rates} of an
+ * {@link org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns}
+ * set for a whole ladder of goal values at once. Instead of searching
+ * each goal separately in each run, all goals are resolved with a single
+ * call to
+ * {@link org.optimizationBenchmarking.experimentation.data.spec.IRun#findRows(int, double[])}
+ * per run.
+ */
+public final class InstanceRunsExpectedRunningTimes extends
+    Attribute<IInstanceRuns, ExpectedRunningTimes> {
+
+  /** the index of the goal dimension */
+  private final int m_goalDimension;
+
+  /** the index of the time dimension */
+  private final int m_timeDimension;
+
+  /** is the goal dimension an integer dimension? */
+  private final boolean m_isGoalInteger;
+
+  /** is the time dimension an integer dimension? */
+  private final boolean m_isTimeInteger;
+
+  /** the goals */
+  private final ArrayListView<Number> m_goals;
+
+  /** the goals as {@code long}s */
+  private final long[] m_longGoals;
+
+  /** the goals as {@code double}s */
+  private final double[] m_doubleGoals;
+
+  /**
+   * Create the expected running time attribute
+   *
+   * @param goalDimension
+   *          the goal dimension, which must be a
+   *          {@linkplain org.optimizationBenchmarking.experimentation.data.spec.EDimensionType#isSolutionQualityMeasure()
+   *          solution quality measure}
+   * @param timeDimension
+   *          the time dimension, which must be a
+   *          {@linkplain org.optimizationBenchmarking.experimentation.data.spec.EDimensionType#isTimeMeasure()
+   *          time measure}
+   * @param goals
+   *          the goal values, in arbitrary order
+   */
+  public InstanceRunsExpectedRunningTimes(final IDimension goalDimension,
+      final IDimension timeDimension, final Number... goals) {
+    super(EAttributeType.TEMPORARILY_STORED);
+
+    final Number[] sorted;
+    final int size;
+    final boolean reverse;
+    long swap;
+    double swapDouble;
+    int index;
+
+    if (goalDimension == null) {
+      throw new IllegalArgumentException(//
+          "Goal dimension cannot be null for expected running time computation."); //$NON-NLS-1$
+    }
+    if (!(goalDimension.getDimensionType().isSolutionQualityMeasure())) {
+      throw new IllegalArgumentException("Goal dimension " + //$NON-NLS-1$
+          goalDimension + " is not a solution quality measure."); //$NON-NLS-1$
+    }
+    if (timeDimension == null) {
+      throw new IllegalArgumentException(//
+          "Time dimension cannot be null for expected running time computation."); //$NON-NLS-1$
+    }
+    if (!(timeDimension.getDimensionType().isTimeMeasure())) {
+      throw new IllegalArgumentException("Time dimension " + //$NON-NLS-1$
+          timeDimension + " is not a time measure."); //$NON-NLS-1$
+    }
+    if ((goals == null) || (goals.length <= 0)) {
+      throw new IllegalArgumentException(//
+          "There must be at least one goal for expected running time computation."); //$NON-NLS-1$
+    }
+
+    this.m_goalDimension = goalDimension.getIndex();
+    this.m_timeDimension = timeDimension.getIndex();
+    this.m_isGoalInteger = goalDimension.getDataType().isInteger();
+    this.m_isTimeInteger = timeDimension.getDataType().isInteger();
+
+    // sort the goals in the order in which a run reaches them
+    size = goals.length;
+    sorted = new Number[size];
+    reverse = (!(goalDimension.getDirection().isIncreasing()));
+    if (this.m_isGoalInteger) {
+      this.m_longGoals = new long[size];
+      this.m_doubleGoals = null;
+      for (index = size; (--index) >= 0;) {
+        this.m_longGoals[index] = goals[index].longValue();
+      }
+      Arrays.sort(this.m_longGoals);
+      if (reverse) {
+        for (index = (size >>> 1); (--index) >= 0;) {
+          swap = this.m_longGoals[index];
+          this.m_longGoals[index] = this.m_longGoals[size - index - 1];
+          this.m_longGoals[size - index - 1] = swap;
+        }
+      }
+      for (index = size; (--index) >= 0;) {
+        sorted[index] = Long.valueOf(this.m_longGoals[index]);
+      }
+    } else {
+      this.m_longGoals = null;
+      this.m_doubleGoals = new double[size];
+      for (index = size; (--index) >= 0;) {
+        this.m_doubleGoals[index] = goals[index].doubleValue();
+      }
+      Arrays.sort(this.m_doubleGoals);
+      if (reverse) {
+        for (index = (size >>> 1); (--index) >= 0;) {
+          swapDouble = this.m_doubleGoals[index];
+          this.m_doubleGoals[index] = this.m_doubleGoals[size - index - 1];
+          this.m_doubleGoals[size - index - 1] = swapDouble;
+        }
+      }
+      for (index = size; (--index) >= 0;) {
+        sorted[index] = Double.valueOf(this.m_doubleGoals[index]);
+      }
+    }
+    this.m_goals = new ArrayListView<>(sorted);
+  }
+
+  /**
+   * Get the time at a given row of a run
+   *
+   * @param run
+   *          the run
+   * @param row
+   *          the row
+   * @return the time
+   */
+  private final double __time(final IRun run, final int row) {
+    if (this.m_isTimeInteger) {
+      return run.getLong(row, this.m_timeDimension);
+    }
+    return run.getDouble(row, this.m_timeDimension);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final ExpectedRunningTimes compute(final IInstanceRuns data,
+      final Logger logger) {
+    final int size;
+    final int[] successes;
+    final double[] times;
+    int[] rows;
+    int index, row, runs;
+    double end;
+
+    size = this.m_goals.size();
+    successes = new int[size];
+    times = new double[size];
+    runs = 0;
+
+    for (final IRun run : data.getData()) {
+      runs++;
+      rows = (this.m_isGoalInteger//
+      ? run.findRows(this.m_goalDimension, this.m_longGoals)//
+          : run.findRows(this.m_goalDimension, this.m_doubleGoals));
+      end = this.__time(run, (run.m() - 1));
+
+      for (index = 0; index < size; index++) {
+        row = rows[index];
+        if (row >= 0) {
+          successes[index]++;
+          times[index] += this.__time(run, row);
+        } else {
+          times[index] += end;
+        }
+      }
+    }
+
+    for (index = size; (--index) >= 0;) {
+      times[index] = ((successes[index] > 0) //
+      ? (times[index] / successes[index])//
+          : Double.POSITIVE_INFINITY);
+    }
+
+    return new ExpectedRunningTimes(this.m_goals, runs, successes, times);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final int calcHashCode() {
+    return HashUtils.combineHashes(HashUtils.combineHashes(//
+        HashUtils.hashCode(this.m_goalDimension),//
+        HashUtils.hashCode(this.m_timeDimension)),//
+        HashUtils.hashCode(this.m_goals));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    final InstanceRunsExpectedRunningTimes other;
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof InstanceRunsExpectedRunningTimes) {
+      other = ((InstanceRunsExpectedRunningTimes) o);
+      return ((this.m_goalDimension == other.m_goalDimension) && //
+          (this.m_timeDimension == other.m_timeDimension) && //
+      (this.m_isGoalInteger//
+      ? Arrays.equals(this.m_longGoals, other.m_longGoals)//
+          : Arrays.equals(this.m_doubleGoals, other.m_doubleGoals)));
+    }
+    return false;
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * In this package, we provide attributes for computing the expected
+ * running time (ERT) and the success rates for a set of goal values.
+ */
+package org.optimizationBenchmarking.experimentation.attributes.statistics.ert;
+
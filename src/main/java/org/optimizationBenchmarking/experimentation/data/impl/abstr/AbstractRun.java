@@ -7,6 +7,7 @@ import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
 import org.optimizationBenchmarking.experimentation.data.spec.IRun;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
 import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
@@ -78,6 +79,59 @@ public abstract class AbstractRun extends AbstractElementSet implements
     return this.getData().get(row).getLong(column);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final ArrayListView<? extends IDataPoint> data;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    data = this.getData();
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = data.get(i).getDouble(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final ArrayListView<? extends IDataPoint> data;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    data = this.getData();
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = data.get(i).getLong(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart) {
+    AbstractMatrix.applyToColumn(this, column, function, fromRow, toRow,
+        dest, destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] getDoubleArrayView() {
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long[] getLongArrayView() {
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
@@ -639,6 +639,40 @@ public abstract class AbstractFlatExperimentSetContext {
     // this method does nothing, yet - implement it in a sub-class
   }
 
+  /**
+   * Add a data point given as character sequence to the current run. If
+   * we currently are not in a run context, try to create one. The
+   * sequence is parsed directly, so it may be a buffer which is re-used
+   * after this method returns.
+   *
+   * @param point
+   *          the data point to be added
+   */
+  public void runAddDataPoint(final CharSequence point) {
+    // this method does nothing, yet - implement it in a sub-class
+  }
+
+  /**
+   * Add a block of data points given as primitive columns to the current
+   * run. If we currently are not in a run context, try to create one. For
+   * each dimension {@code i} of a floating point type,
+   * {@code doubleColumns[i]} holds its values, for each dimension of an
+   * integer type, {@code longColumns[i]} does.
+   *
+   * @param longColumns
+   *          the columns of the integer dimensions, may be {@code null}
+   *          if there are none
+   * @param doubleColumns
+   *          the columns of the floating point dimensions, may be
+   *          {@code null} if there are none
+   * @param count
+   *          the number of rows
+   */
+  public void runAddDataPoints(final long[][] longColumns,
+      final double[][] doubleColumns, final int count) {
+    // this method does nothing, yet - implement it in a sub-class
+  }
+
   /**
    * Get the experiment set created with this builder.
    *
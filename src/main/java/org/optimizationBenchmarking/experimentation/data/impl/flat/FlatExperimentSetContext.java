@@ -1788,6 +1788,40 @@ public class FlatExperimentSetContext extends
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("resource")
+  public synchronized final void runAddDataPoint(final CharSequence point) {
+    final RunContext context;
+
+    context = this.__runEnsure(false);
+    try {
+      context.addDataPoint(point);
+    } catch (final Throwable error) {
+      throw new IllegalStateException(this.__errorLocation(//
+          ((("Error while adding data point characters '") //$NON-NLS-1$
+          + point) + "' to run."), true), error);//$NON-NLS-1$
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("resource")
+  public synchronized final void runAddDataPoints(
+      final long[][] longColumns, final double[][] doubleColumns,
+      final int count) {
+    final RunContext context;
+
+    context = this.__runEnsure(false);
+    try {
+      context.addDataPoints(longColumns, doubleColumns, count);
+    } catch (final Throwable error) {
+      throw new IllegalStateException(this.__errorLocation(//
+          (("Error while adding block of " + count) + //$NON-NLS-1$
+          " data points to run."), true), error);//$NON-NLS-1$
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public synchronized final ExperimentSet getExperimentSet() {
@@ -20,6 +20,20 @@ public abstract class DataFactory extends Parser<DataPoint> {
   @Override
   public abstract DataPoint parseString(final String s);
 
+  /**
+   * Parse a data point from a character sequence, such as a line buffer
+   * which is re-used for many lines. This default implementation turns
+   * the sequence into a string and passes it to
+   * {@link #parseString(String)}.
+   *
+   * @param chars
+   *          the character sequence
+   * @return the data point
+   */
+  public DataPoint parseCharSequence(final CharSequence chars) {
+    return this.parseString(chars.toString());
+  }
+
   /** {@inheritDoc} */
   @Override
   public abstract DataPoint parseObject(final Object o);
@@ -33,6 +47,40 @@ public abstract class DataFactory extends Parser<DataPoint> {
    */
   public abstract DataPoint parseNumbers(final Number... numbers);
 
+  /**
+   * Create a block of data points from primitive columns. For each
+   * dimension {@code i} of a floating point type,
+   * {@code doubleColumns[i]} holds its values, for each dimension of an
+   * integer type, {@code longColumns[i]} does. Each value is validated by
+   * the parser of its dimension.
+   *
+   * @param longColumns
+   *          the columns of the integer dimensions, may be {@code null}
+   *          if there are none
+   * @param doubleColumns
+   *          the columns of the floating point dimensions, may be
+   *          {@code null} if there are none
+   * @param count
+   *          the number of rows
+   * @return the data points
+   */
+  public abstract DataPoint[] parseColumns(final long[][] longColumns,
+      final double[][] doubleColumns, final int count);
+
+  /**
+   * Create a run from a set of data points
+   *
+   * @param instance
+   *          the benchmark instance to which the run should belong
+   * @param points
+   *          the points
+   * @return the run
+   */
+  public final Run createRun(final Instance instance,
+      final Collection<DataPoint> points) {
+    return this.createRun(instance, points, false);
+  }
+
   /**
    * Create a run from a set of data points
    *
@@ -40,8 +88,85 @@ public abstract class DataFactory extends Parser<DataPoint> {
    *          the benchmark instance to which the run should belong
    * @param points
    *          the points
+   * @param isOrderValidated
+   *          {@code true} if it has already been verified that each point
+   *          may follow its predecessor, so that the pair-wise validation
+   *          can be skipped, {@code false} otherwise
    * @return the run
    */
   public abstract Run createRun(final Instance instance,
-      final Collection<DataPoint> points);
+      final Collection<DataPoint> points, final boolean isOrderValidated);
+
+  /**
+   * Convert a {@code long} to a {@code byte} value
+   *
+   * @param value
+   *          the value
+   * @return the {@code byte}
+   * @throws IllegalArgumentException
+   *           if the value does not fit into a {@code byte}
+   */
+  protected static final byte longToByte(final long value) {
+    final byte result;
+    result = ((byte) value);
+    if (result != value) {
+      throw new IllegalArgumentException(//
+          DataFactory.__overflowMessage(value, "byte")); //$NON-NLS-1$
+    }
+    return result;
+  }
+
+  /**
+   * Convert a {@code long} to a {@code short} value
+   *
+   * @param value
+   *          the value
+   * @return the {@code short}
+   * @throws IllegalArgumentException
+   *           if the value does not fit into a {@code short}
+   */
+  protected static final short longToShort(final long value) {
+    final short result;
+    result = ((short) value);
+    if (result != value) {
+      throw new IllegalArgumentException(//
+          DataFactory.__overflowMessage(value, "short")); //$NON-NLS-1$
+    }
+    return result;
+  }
+
+  /**
+   * Convert a {@code long} to an {@code int} value
+   *
+   * @param value
+   *          the value
+   * @return the {@code int}
+   * @throws IllegalArgumentException
+   *           if the value does not fit into an {@code int}
+   */
+  protected static final int longToInt(final long value) {
+    final int result;
+    result = ((int) value);
+    if (result != value) {
+      throw new IllegalArgumentException(//
+          DataFactory.__overflowMessage(value, "int")); //$NON-NLS-1$
+    }
+    return result;
+  }
+
+  /**
+   * Create the error message for a value which does not fit into a
+   * primitive type
+   *
+   * @param value
+   *          the value
+   * @param type
+   *          the type
+   * @return the message
+   */
+  private static final String __overflowMessage(final long value,
+      final String type) {
+    return ((("Value " + value) + //$NON-NLS-1$
+        " does not fit into type ") + type) + '.'; //$NON-NLS-1$
+  }
 }
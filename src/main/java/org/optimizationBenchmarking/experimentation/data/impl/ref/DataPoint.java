@@ -6,6 +6,8 @@ import java.util.Iterator;
 import org.optimizationBenchmarking.experimentation.data.spec.IDataPoint;
 import org.optimizationBenchmarking.utils.collections.iterators.InstanceIterator;
 import org.optimizationBenchmarking.utils.collections.lists.NumberList;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixColumnIterator;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixColumns;
@@ -205,6 +207,49 @@ public abstract class DataPoint extends NumberList implements IDataPoint {
     return this.getLong(column);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    if (fromRow < toRow) {
+      dest[destStart] = this.getDouble(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    if (fromRow < toRow) {
+      dest[destStart] = this.getLong(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart) {
+    AbstractMatrix.applyToColumn(this, column, function, fromRow, toRow,
+        dest, destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] getDoubleArrayView() {
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long[] getLongArrayView() {
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
@@ -49,6 +49,25 @@ public class ElementSet<DT extends Comparable<?>> extends _IDObject {
    */
   ElementSet(final DT[] data, final boolean clone, final boolean sort,
       final boolean own) {
+    this(data, clone, sort, own, true);
+  }
+
+  /**
+   * instantiate
+   *
+   * @param data
+   *          the data of the set
+   * @param clone
+   *          should we clone the data?
+   * @param sort
+   *          should we sort the data?
+   * @param own
+   *          should we own the elements?
+   * @param validatePairs
+   *          should we validate each pair of elements?
+   */
+  ElementSet(final DT[] data, final boolean clone, final boolean sort,
+      final boolean own, final boolean validatePairs) {
     super();
 
     final DT[] mdata;
@@ -76,8 +95,10 @@ public class ElementSet<DT extends Comparable<?>> extends _IDObject {
         this._setOwnerOfElement(element1, index1);
       }
       this._validateSingleElement(element1, index1, own);
-      for (index2 = index1; (--index2) >= 0;) {
-        this._validateElementPair(mdata[index2], element1);
+      if (validatePairs) {
+        for (index2 = index1; (--index2) >= 0;) {
+          this._validateElementPair(mdata[index2], element1);
+        }
       }
       index1++;
     }
@@ -90,7 +111,7 @@ public class ElementSet<DT extends Comparable<?>> extends _IDObject {
    *
    * @return the data array
    */
-  public final ArraySetView<DT> getData() {
+  public ArraySetView<DT> getData() {
     return this.m_data;
   }
 
@@ -217,8 +238,8 @@ public class ElementSet<DT extends Comparable<?>> extends _IDObject {
     int i, r;
 
     if (o instanceof ElementSet) {
-      a = this.m_data;
-      b = ((ElementSet) o).m_data;
+      a = this.getData();
+      b = ((ElementSet) o).getData();
 
       if (a == b) {
         return 0;
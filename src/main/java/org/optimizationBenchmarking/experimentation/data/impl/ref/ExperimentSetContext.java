@@ -1,10 +1,9 @@
 package org.optimizationBenchmarking.experimentation.data.impl.ref;
 
-import java.util.HashMap;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.MemoryGovernor;
 import org.optimizationBenchmarking.utils.comparison.EComparison;
-import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.hierarchy.HierarchicalFSM;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
@@ -89,8 +88,11 @@ public final class ExperimentSetContext extends _FSM implements IToolJob {
   /** the result */
   private volatile ExperimentSet m_result;
 
-  /** the set of objects */
-  private volatile HashMap<Object, Object> m_normal;
+  /**
+   * the table of persistently normalized objects, {@code null} after the
+   * experiment set context has been closed
+   */
+  private volatile _Interner m_normal;
 
   /** the dimension set context */
   private volatile _DimensionSetContext m_dsc;
@@ -119,28 +121,18 @@ public final class ExperimentSetContext extends _FSM implements IToolJob {
     super(null);
 
     this.m_logger = logger;
-    this.m_normal = new HashMap<>();
-
-    this.m_normal.put(Parameter.PARAMETER_ALGORITHM,
-        Parameter.PARAMETER_ALGORITHM);
-    this.m_normal.put(Parameter.PARAMETER_ALGORITHM_NAME,
-        Parameter.PARAMETER_ALGORITHM_NAME);
-    this.m_normal.put(Parameter.PARAMETER_ALGORITHM_CLASS,
-        Parameter.PARAMETER_ALGORITHM_CLASS);
-    this.m_normal.put(Parameter.PARAMETER_INITIALIZER,
-        Parameter.PARAMETER_INITIALIZER);
-    this.m_normal.put(Parameter.PARAMETER_INITIALIZER_NAME,
-        Parameter.PARAMETER_INITIALIZER_NAME);
-    this.m_normal.put(Parameter.PARAMETER_INITIALIZER_CLASS,
-        Parameter.PARAMETER_INITIALIZER_CLASS);
-    this.m_normal.put(_PropertyValueGeneralized.NAME,
-        _PropertyValueGeneralized.NAME);
-    this.m_normal.put(_PropertyValueGeneralized.INSTANCE,
-        _PropertyValueGeneralized.INSTANCE);
-    this.m_normal.put(_PropertyValueUnspecified.NAME,
-        _PropertyValueUnspecified.NAME);
-    this.m_normal.put(_PropertyValueUnspecified.INSTANCE,
-        _PropertyValueUnspecified.INSTANCE);
+    this.m_normal = new _Interner();
+
+    this.m_normal._intern(Parameter.PARAMETER_ALGORITHM);
+    this.m_normal._intern(Parameter.PARAMETER_ALGORITHM_NAME);
+    this.m_normal._intern(Parameter.PARAMETER_ALGORITHM_CLASS);
+    this.m_normal._intern(Parameter.PARAMETER_INITIALIZER);
+    this.m_normal._intern(Parameter.PARAMETER_INITIALIZER_NAME);
+    this.m_normal._intern(Parameter.PARAMETER_INITIALIZER_CLASS);
+    this.m_normal._intern(_PropertyValueGeneralized.NAME);
+    this.m_normal._intern(_PropertyValueGeneralized.INSTANCE);
+    this.m_normal._intern(_PropertyValueUnspecified.NAME);
+    this.m_normal._intern(_PropertyValueUnspecified.INSTANCE);
 
     this.open();
   }
@@ -481,31 +473,29 @@ public final class ExperimentSetContext extends _FSM implements IToolJob {
     }
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method is not {@code synchronized}: Objects are interned in a
+   * concurrent table, so that many threads loading data in parallel can
+   * normalize their objects at the same time. The table is discarded when
+   * the experiment set context is closed, after which normalization is no
+   * longer possible.
+   * </p>
+   */
   @Override
-  @SuppressWarnings("unchecked")
-  protected synchronized final <T> T doNormalizePersistently(final T in) {
-    final HashMap<Object, Object> normal;
-    final Object b, key;
-
-    key = HashUtils.hashKey(in);
-
-    this.fsmStateAssert(EComparison.LESS_OR_EQUAL,
-        ExperimentSetContext.STATE_EXPERIMENT_SET_CONTEXT_CLOSED);
+  protected final <T> T doNormalizePersistently(final T in) {
+    final _Interner normal;
 
     normal = this.m_normal;
     if (normal == null) {
+      this.fsmStateAssert(EComparison.LESS_OR_EQUAL,
+          ExperimentSetContext.STATE_EXPERIMENT_SET_CONTEXT_CLOSED);
       throw new IllegalStateException(((//
           "Cannot normalize object '" + in) + '\'') + '.'); //$NON-NLS-1$
     }
 
-    b = normal.get(key);
-    if (b != null) {
-      return ((T) (b));
-    }
-    normal.put(key, in);
-
-    return in;
+    return normal._intern(in);
   }
 
   /** free all allocated data structures */
@@ -523,10 +513,7 @@ public final class ExperimentSetContext extends _FSM implements IToolJob {
   /** {@inheritDoc} */
   @Override
   protected synchronized final void onClose() {
-    final Runtime rt;
     RuntimeException error;
-    long oldFm, newFm;
-    int times;
 
     error = null;
     try {
@@ -535,17 +522,9 @@ public final class ExperimentSetContext extends _FSM implements IToolJob {
       this.fsmStateAssert(EComparison.GREATER_OR_EQUAL,
           ExperimentSetContext.STATE_EXPERIMENT_SET_OBTAINED);
 
-      rt = Runtime.getRuntime();
-
-      newFm = rt.freeMemory();
-      times = 4;
-      do {
-        oldFm = newFm;
-        Thread.yield();
-        rt.gc();
-        Thread.yield();
-        newFm = rt.freeMemory();
-      } while (((--times) >= 0) || (newFm < oldFm));
+      // the builder state is garbage now: let the governor decide whether
+      // collecting it is worth a full garbage collection
+      MemoryGovernor.getInstance().checkpoint();
 
     } catch (final RuntimeException a) {
       error = a;
@@ -4,10 +4,15 @@ import java.util.Iterator;
 
 import org.optimizationBenchmarking.experimentation.data.spec.IRun;
 import org.optimizationBenchmarking.utils.collections.iterators.InstanceIterator;
+import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixColumnIterator;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixColumns;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixRows;
+import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
 /** a run. */
 public abstract class Run extends ElementSet<DataPoint> implements IRun {
@@ -21,7 +26,21 @@ public abstract class Run extends ElementSet<DataPoint> implements IRun {
    *          the data points
    */
   protected Run(final DataPoint[] data) {
-    super(data, false, false, false);
+    this(data, false);
+  }
+
+  /**
+   * instantiate
+   *
+   * @param data
+   *          the data points
+   * @param isOrderValidated
+   *          {@code true} if it has already been verified that each data
+   *          point may follow its predecessor, in which case the pair-wise
+   *          validation of the points is skipped
+   */
+  protected Run(final DataPoint[] data, final boolean isOrderValidated) {
+    super(data, false, false, false, (!isOrderValidated));
   }
 
   /** {@inheritDoc} */
@@ -48,6 +67,59 @@ public abstract class Run extends ElementSet<DataPoint> implements IRun {
     return this.m_data.get(row).getLong(column);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final ArraySetView<DataPoint> data;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    data = this.getData();
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = data.get(i).getDouble(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final ArraySetView<DataPoint> data;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    data = this.getData();
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = data.get(i).getLong(column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart) {
+    AbstractMatrix.applyToColumn(this, column, function, fromRow, toRow,
+        dest, destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] getDoubleArrayView() {
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long[] getLongArrayView() {
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public abstract DataPoint find(final int column, final double value);
@@ -56,6 +128,202 @@ public abstract class Run extends ElementSet<DataPoint> implements IRun {
   @Override
   public abstract DataPoint find(final int column, final long value);
 
+  /**
+   * Get the dimension belonging to a column
+   *
+   * @param column
+   *          the column
+   * @return the dimension
+   */
+  private final Dimension __getDimension(final int column) {
+    return this.getOwner().getOwner().getOwner().getDimensions().getData()
+        .get(column);
+  }
+
+  /**
+   * Create the exception thrown if the values for
+   * {@link #findRows(int, long[])} or {@link #findRows(int, double[])}
+   * are not sorted
+   *
+   * @param dim
+   *          the dimension
+   * @param index
+   *          the index of the first value out of order
+   * @return the exception
+   */
+  private static final IllegalArgumentException __unsorted(
+      final Dimension dim, final int index) {
+    return new IllegalArgumentException(((((//
+        "Values must be sorted according to direction " + //$NON-NLS-1$
+        dim.m_direction) + " of dimension ") + dim) + //$NON-NLS-1$
+        ", but the value at index ") + index + //$NON-NLS-1$
+        " comes before its predecessor."); //$NON-NLS-1$
+  }
+
+  /**
+   * Convert an array of {@code double}s to {@code long}s in the same way
+   * {@link #find(int, double)} treats integer dimensions
+   *
+   * @param values
+   *          the values
+   * @return the converted values
+   */
+  private static final long[] __toLongs(final double[] values) {
+    final long[] result;
+    int index;
+
+    result = new long[values.length];
+    for (index = values.length; (--index) >= 0;) {
+      result[index] = ((long) (values[index]));
+    }
+    return result;
+  }
+
+  /**
+   * Convert an array of {@code long}s to {@code double}s in the same way
+   * {@link #find(int, long)} treats floating point dimensions
+   *
+   * @param values
+   *          the values
+   * @return the converted values
+   */
+  private static final double[] __toDoubles(final long[] values) {
+    final double[] result;
+    int index;
+
+    result = new double[values.length];
+    for (index = values.length; (--index) >= 0;) {
+      result[index] = values[index];
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int[] findRows(final int column, final long[] values) {
+    final Dimension dim;
+    final int[] rows;
+    final int sign, m;
+    final boolean quality;
+    int index, low, high, bound, step, mid;
+    long value;
+
+    dim = this.__getDimension(column);
+    if (dim.m_primitiveType.isFloat()) {
+      return this.findRows(column, Run.__toDoubles(values));
+    }
+    sign = (dim.m_direction.isIncreasing() ? 1 : (-1));
+    quality = dim.m_dimensionType.isSolutionQualityMeasure();
+    m = this.m();
+    rows = new int[values.length];
+
+    low = 0;
+    for (index = 0; index < values.length; index++) {
+      value = values[index];
+      if ((index > 0)
+          && ((sign * Long.compare(value, values[index - 1])) < 0)) {
+        throw Run.__unsorted(dim, index);
+      }
+
+      // gallop from the row found for the previous value...
+      bound = low;
+      step = 1;
+      while ((bound < m)
+          && ((sign * Long.compare(this.getLong(bound, column), value)) < 0)) {
+        low = (bound + 1);
+        bound = (low + step);
+        step <<= 1;
+      }
+
+      // ...and then find the first row not before the value
+      high = Math.min(bound, m);
+      while (low < high) {
+        mid = ((low + high) >>> 1);
+        if ((sign * Long.compare(this.getLong(mid, column), value)) < 0) {
+          low = (mid + 1);
+        } else {
+          high = mid;
+        }
+      }
+
+      if (quality) {
+        rows[index] = ((low < m) ? low : (-1));
+      } else {
+        rows[index] = (((low < m) && (this.getLong(low, column) == value))//
+        ? low
+            : (low - 1));
+      }
+    }
+
+    return rows;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int[] findRows(final int column, final double[] values) {
+    final Dimension dim;
+    final int[] rows;
+    final int sign, m;
+    final boolean quality;
+    int index, low, high, bound, step, mid;
+    final boolean isFloat;
+    double value;
+
+    dim = this.__getDimension(column);
+    if (dim.m_primitiveType.isInteger()) {
+      return this.findRows(column, Run.__toLongs(values));
+    }
+    isFloat = (dim.m_primitiveType == EPrimitiveType.FLOAT);
+    sign = (dim.m_direction.isIncreasing() ? 1 : (-1));
+    quality = dim.m_dimensionType.isSolutionQualityMeasure();
+    m = this.m();
+    rows = new int[values.length];
+
+    low = 0;
+    for (index = 0; index < values.length; index++) {
+      value = (isFloat ? ((float) (values[index])) : values[index]);
+      if ((index > 0)
+          && ((sign * EComparison.compareDoubles(values[index],
+              values[index - 1])) < 0)) {
+        throw Run.__unsorted(dim, index);
+      }
+
+      // gallop from the row found for the previous value...
+      bound = low;
+      step = 1;
+      while ((bound < m)
+          && ((sign * EComparison.compareDoubles(
+              this.getDouble(bound, column), value)) < 0)) {
+        low = (bound + 1);
+        bound = (low + step);
+        step <<= 1;
+      }
+
+      // ...and then find the first row not before the value
+      high = Math.min(bound, m);
+      while (low < high) {
+        mid = ((low + high) >>> 1);
+        if ((sign * EComparison.compareDoubles(this.getDouble(mid, column),
+            value)) < 0) {
+          low = (mid + 1);
+        } else {
+          high = mid;
+        }
+      }
+
+      if (quality) {
+        rows[index] = ((low < m) ? low : (-1));
+      } else {
+        rows[index] = (((low < m) && (EComparison.compareDoubles(
+            this.getDouble(low, column), value) == 0))//
+        ? low
+            : (low - 1));
+      }
+    }
+
+    return rows;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
@@ -125,7 +393,7 @@ public abstract class Run extends ElementSet<DataPoint> implements IRun {
   @Override
   @SuppressWarnings({ "unchecked", "rawtypes" })
   public final Iterator<IMatrix> iterateRows() {
-    return ((Iterator) (this.m_data.iterator()));
+    return ((Iterator) (this.getData().iterator()));
   }
 
   /** {@inheritDoc} */
@@ -142,6 +410,36 @@ public abstract class Run extends ElementSet<DataPoint> implements IRun {
     after.validateAfter(before);
   }
 
+  /**
+   * Runs are compared data point by data point, like all element sets. A
+   * run whose data points are loaded lazily keeps its first point, so the
+   * comparison starts with the first points and its data is only loaded
+   * if they are equal.
+   *
+   * @param o
+   *          the other object
+   * @return the comparison result
+   */
+  @Override
+  final int _compareTo(final _IDObject o) {
+    final ArraySetView<DataPoint> a, b;
+    final int r;
+
+    if ((o != this) && ((this instanceof _LazyRun) || //
+        (o instanceof _LazyRun))) {
+      a = this.m_data;
+      b = ((Run) o).m_data;
+      if ((!(a.isEmpty())) && (!(b.isEmpty()))) {
+        r = a.get(0).compareTo(b.get(0));
+        if (r != 0) {
+          return r;
+        }
+      }
+    }
+
+    return super._compareTo(o);
+  }
+
   /** {@inheritDoc} */
   @Override
   public final InstanceRuns getOwner() {
@@ -1,8 +1,12 @@
 package org.optimizationBenchmarking.experimentation.data.impl.ref;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
+import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
 import org.optimizationBenchmarking.utils.hierarchy.HierarchicalFSM;
+import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
 /** A context for creating runs. */
 public final class RunContext extends _Context<Run> {
@@ -11,6 +15,16 @@ public final class RunContext extends _Context<Run> {
   private volatile _PropertyFSMSettingBuilder<ParameterSetting> m_props;
   /** the list of data points */
   private volatile ArrayList<DataPoint> m_list;
+  /**
+   * has the order of all data points in {@link #m_list} already been
+   * validated, i.e., have they all been added via
+   * {@link #addDataPoints(long[][], double[][], int)}?
+   */
+  private boolean m_isOrderValidated;
+  /** the loader for the data points, if they should be loaded lazily */
+  private RunDataLoader m_loader;
+  /** the total number of data points if they are loaded lazily */
+  private int m_size;
 
   /**
    * create the run context
@@ -25,6 +39,7 @@ public final class RunContext extends _Context<Run> {
     super(context);
 
     this.m_list = new ArrayList<>();
+    this.m_isOrderValidated = true;
     (this.m_props = new _PropertyFSMSettingBuilder<>(ownerProps))._begin();
 
     this.open();
@@ -58,6 +73,205 @@ public final class RunContext extends _Context<Run> {
           "Data point must not be null."); //$NON-NLS-1$
     }
     this.m_list.add(point);
+    this.m_isOrderValidated = false;
+  }
+
+  /**
+   * <p>
+   * Add a block of data points to this run. The data is given as one
+   * primitive array per dimension: For each dimension {@code i} of a
+   * floating point type, {@code doubleColumns[i]} holds its values, for
+   * each dimension of an integer type, {@code longColumns[i]} does. The
+   * first {@code count} elements of each column form the rows of the
+   * block.
+   * </p>
+   * <p>
+   * Compared to adding the points one by one, this method validates the
+   * order of the rows in one pass over each column and acquires the lock
+   * of this context only once for the whole block. If all points of a run
+   * are added this way, the pair-wise validation of the points when the
+   * run is created can be skipped.
+   * </p>
+   *
+   * @param longColumns
+   *          the columns of the integer dimensions, may be {@code null}
+   *          if there are none
+   * @param doubleColumns
+   *          the columns of the floating point dimensions, may be
+   *          {@code null} if there are none
+   * @param count
+   *          the number of rows
+   */
+  public final void addDataPoints(final long[][] longColumns,
+      final double[][] doubleColumns, final int count) {
+    final DataPoint[] points;
+    final ArrayList<DataPoint> list;
+    final int size;
+
+    if (count <= 0) {
+      if (count < 0) {
+        throw new IllegalArgumentException(//
+            "Number of data points cannot be negative, but is " //$NON-NLS-1$
+                + count);
+      }
+      return;
+    }
+
+    RunContext.__validateColumns(this._getDimensionSet().getData(),
+        longColumns, doubleColumns, count);
+    points = this._getDimensionSet().getDataFactory()
+        .parseColumns(longColumns, doubleColumns, count);
+
+    synchronized (this) {
+      this.fsmStateAssert(_FSM.STATE_OPEN);
+      list = this.m_list;
+      size = list.size();
+      if (size > 0) {
+        if (this.m_isOrderValidated) {
+          points[0].validateAfter(list.get(size - 1));
+        }
+      }
+      list.addAll(Arrays.asList(points));
+    }
+  }
+
+  /**
+   * Validate that the rows of a column block are in the order prescribed
+   * by the dimensions and that no two subsequent rows are identical.
+   *
+   * @param dims
+   *          the dimensions
+   * @param longColumns
+   *          the columns of the integer dimensions
+   * @param doubleColumns
+   *          the columns of the floating point dimensions
+   * @param count
+   *          the number of rows
+   */
+  private static final void __validateColumns(
+      final ArraySetView<Dimension> dims, final long[][] longColumns,
+      final double[][] doubleColumns, final int count) {
+    final boolean[] differs;
+    long[] longs;
+    double[] doubles;
+    int row, sign, current, minimum;
+    boolean ok;
+
+    differs = new boolean[count];
+    for (final Dimension dim : dims) {
+      sign = (dim.m_direction.isIncreasing() ? 1 : (-1));
+      minimum = (dim.m_direction.isStrict() ? 1 : 0);
+      ok = true;
+
+      if (dim.m_primitiveType.isFloat()) {
+        doubles = doubleColumns[dim.m_id];
+        if (doubles.length < count) {
+          throw RunContext.__tooShort(dim, doubles.length, count);
+        }
+        if (dim.m_primitiveType == EPrimitiveType.FLOAT) {
+          for (row = 1; row < count; row++) {
+            current = sign
+                * EComparison.compareFloats(((float) (doubles[row])),
+                    ((float) (doubles[row - 1])));
+            ok &= (current >= minimum);
+            differs[row] |= (current != 0);
+          }
+        } else {
+          for (row = 1; row < count; row++) {
+            current = sign
+                * EComparison.compareDoubles(doubles[row],
+                    doubles[row - 1]);
+            ok &= (current >= minimum);
+            differs[row] |= (current != 0);
+          }
+        }
+      } else {
+        longs = longColumns[dim.m_id];
+        if (longs.length < count) {
+          throw RunContext.__tooShort(dim, longs.length, count);
+        }
+        for (row = 1; row < count; row++) {
+          current = sign * Long.compare(longs[row], longs[row - 1]);
+          ok &= (current >= minimum);
+          differs[row] |= (current != 0);
+        }
+      }
+
+      if (!ok) {
+        throw new IllegalArgumentException(//
+            "The values in dimension " + dim + //$NON-NLS-1$
+                " violate its direction " + dim.m_direction + '.'); //$NON-NLS-1$
+      }
+    }
+
+    for (row = 1; row < count; row++) {
+      if (!(differs[row])) {
+        throw new IllegalArgumentException(((//
+            "Data point at row " + row) + //$NON-NLS-1$
+            " of the block cannot follow its predecessor, since they are identical.")); //$NON-NLS-1$
+      }
+    }
+  }
+
+  /**
+   * Create the exception thrown if a column is too short
+   *
+   * @param dim
+   *          the dimension
+   * @param length
+   *          the column length
+   * @param count
+   *          the number of rows
+   * @return the exception
+   */
+  private static final IllegalArgumentException __tooShort(
+      final Dimension dim, final int length, final int count) {
+    return new IllegalArgumentException((((((//
+        "The column of dimension " + dim) + //$NON-NLS-1$
+        " has only ") + length) + //$NON-NLS-1$
+        " elements, but ") + count) + " rows are required."); //$NON-NLS-1$//$NON-NLS-2$
+  }
+
+  /**
+   * <p>
+   * Specify that the data points of this run should be loaded lazily. In
+   * this case, only the first and the last data point of the run should
+   * be added to this context, while the complete data is obtained from
+   * the {@code loader} when it is accessed for the first time. This
+   * allows for processing experiments whose data would not fit into
+   * memory as a whole.
+   * </p>
+   * <p>
+   * Since all runs of an instance must be of the same class, either all
+   * or none of them should be loaded lazily.
+   * </p>
+   * <p>
+   * When the run is created, only the first and the last data point are
+   * validated. The other data points are validated when they are loaded,
+   * i.e., an invalid data point causes an exception when the data of the
+   * run is accessed for the first time instead of when the run is
+   * created.
+   * </p>
+   *
+   * @param loader
+   *          the loader
+   * @param size
+   *          the total number of data points of the run
+   */
+  public synchronized final void setDataLoader(final RunDataLoader loader,
+      final int size) {
+    this.fsmStateAssert(_FSM.STATE_OPEN);
+    if (loader == null) {
+      throw new IllegalArgumentException(//
+          "Run data loader must not be null."); //$NON-NLS-1$
+    }
+    if (size <= 0) {
+      throw new IllegalArgumentException(//
+          "Number of data points must be positive, but is " //$NON-NLS-1$
+              + size);
+    }
+    this.m_loader = loader;
+    this.m_size = size;
   }
 
   /**
@@ -71,6 +285,19 @@ public final class RunContext extends _Context<Run> {
     this._getDimensionSet().getDataFactory().parseString(string));
   }
 
+  /**
+   * Decode a character sequence to a data point and add it to the run.
+   * Different from {@link #addDataPoint(String)}, this method allows for
+   * parsing data points directly from re-used buffers.
+   *
+   * @param chars
+   *          the character sequence
+   */
+  public final void addDataPoint(final CharSequence chars) {
+    this.addDataPoint(//
+    this._getDimensionSet().getDataFactory().parseCharSequence(chars));
+  }
+
   /**
    * Decode a list of numbers to a data point and add it to the run
    *
@@ -97,10 +324,32 @@ public final class RunContext extends _Context<Run> {
   @Override
   final Run _doCompile() {
     final ArrayList<DataPoint> l;
+    final Instance instance;
+    final int size;
+
     l = this.m_list;
     this.m_list = null;
+
+    if (this.m_loader != null) {
+      size = l.size();
+      if (size != Math.min(2, this.m_size)) {
+        throw new IllegalStateException(((((//
+            "A run whose data is loaded lazily must contain its first and last data point, i.e., " + //$NON-NLS-1$
+            Math.min(2, this.m_size)) + " points, but has ") + size) + //$NON-NLS-1$
+            " points.")); //$NON-NLS-1$
+      }
+      instance = this.getOwner().getInstance();
+      for (final DataPoint point : l) {
+        instance.validateDataPoint(point);
+      }
+      return new _LazyRun(l.toArray(new DataPoint[size]), this.m_size,
+          this.m_loader, instance, this._getDimensionSet()
+              .getDataFactory());
+    }
+
     return this._getDimensionSet().getDataFactory()
-        .createRun(this.getOwner().getInstance(), l);
+        .createRun(this.getOwner().getInstance(), l,
+            this.m_isOrderValidated);
   }
 
   /** {@inheritDoc} */
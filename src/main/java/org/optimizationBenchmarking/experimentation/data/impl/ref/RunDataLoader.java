@@ -0,0 +1,63 @@
+package org.optimizationBenchmarking.experimentation.data.impl.ref;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * <p>
+ * A loader for the data points of a run whose data should not be kept in
+ * memory all the time. An input tool can register such a loader with a
+ * {@link RunContext} via
+ * {@link RunContext#setDataLoader(RunDataLoader, int)} and then only add
+ * the first and the last data point of the run. The run created by the
+ * context will then invoke {@link #loadDataPoints(DataFactory)} on demand,
+ * i.e., when data points other than the first and the last one are
+ * accessed for the first time. The loaded data is held in a
+ * least-recently-used cache of bounded size (see
+ * {@link #CACHE_SIZE_PROPERTY}) and may be dropped again when it is
+ * evicted from the cache or under memory pressure, in which case it will
+ * be loaded again when needed.
+ * </p>
+ * <p>
+ * A loader should therefore only store the location of the data, e.g., a
+ * file and a byte range in it, but not the data itself.
+ * </p>
+ */
+public abstract class RunDataLoader implements Serializable {
+
+  /**
+   * the system property for the maximum total number of data points of
+   * lazily loaded runs which are held in memory: {@value}
+   */
+  public static final String CACHE_SIZE_PROPERTY = "org.optimizationBenchmarking.experimentation.data.impl.ref.lazyRunCacheSize"; //$NON-NLS-1$
+
+  /**
+   * the default maximum total number of data points of lazily loaded runs
+   * which are held in memory: {@value}
+   */
+  public static final int DEFAULT_CACHE_SIZE = 1000000;
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** create the run data loader */
+  protected RunDataLoader() {
+    super();
+  }
+
+  /**
+   * Load all data points of the run, in the order in which they have been
+   * recorded. The result must contain exactly as many points as have been
+   * specified in {@link RunContext#setDataLoader(RunDataLoader, int)} and
+   * its first and last point must be equal to the points that were added
+   * to the run context.
+   *
+   * @param factory
+   *          the data factory to use for creating the data points
+   * @return the data points
+   * @throws IOException
+   *           if the data cannot be read
+   */
+  protected abstract DataPoint[] loadDataPoints(final DataFactory factory)
+      throws IOException;
+}
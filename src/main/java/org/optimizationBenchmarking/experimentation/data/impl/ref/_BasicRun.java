@@ -25,9 +25,12 @@ final class _BasicRun extends Run {
    *          the data
    * @param dims
    *          the dimension set
+   * @param isOrderValidated
+   *          has the order of the data points already been validated?
    */
-  _BasicRun(final DataPoint[] data, final ArraySetView<Dimension> dims) {
-    super(data);
+  _BasicRun(final DataPoint[] data, final ArraySetView<Dimension> dims,
+      final boolean isOrderValidated) {
+    super(data, isOrderValidated);
     this.m_dims = dims;
   }
 
@@ -27,6 +27,9 @@ import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixColumns;
 import org.optimizationBenchmarking.utils.math.matrix.MatrixRowIterator;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.IntParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
 import org.optimizationBenchmarking.utils.parsers.Parser;
 import org.optimizationBenchmarking.utils.predicates.IPredicate;
 import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
@@ -1126,6 +1129,7 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     this.__factoryConstructor(sb);
     this.__factoryParseString(sb);
     this.__factoryParseNumbers(sb);
+    this.__factoryParseColumns(sb);
     this.__factoryParseObject(sb);
     this.__factoryParseGetOutputClass(sb);
     this.__factoryCreateRun(sb);
@@ -1201,7 +1205,40 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
   }
 
   /**
-   * create the data point parser string
+   * Check whether the parser of a dimension can parse ranges of character
+   * sequences directly, without requiring a substring to be created
+   *
+   * @param parser
+   *          the parser
+   * @param type
+   *          the primitive type of the dimension
+   * @return {@code true} if the parser has a range-based parsing method,
+   *         {@code false} otherwise
+   */
+  private static final boolean __canParseRange(final Parser<?> parser,
+      final EPrimitiveType type) {
+    switch (type) {
+      case LONG: {
+        return (parser instanceof LongParser);
+      }
+      case INT: {
+        return (parser instanceof IntParser);
+      }
+      case DOUBLE: {
+        return (parser instanceof DoubleParser);
+      }
+      default: {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * create the data point parser string: the string parsing method
+   * forwards to the method parsing character sequences, which parses the
+   * values of each dimension directly from the ranges of the sequence
+   * (instead of from substrings) whenever the parser of the dimension
+   * supports this
    *
    * @param sb
    *          the string parser builder
@@ -1214,6 +1251,11 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     sb.append("@Override public final "); //$NON-NLS-1$
     sb.append(this.m_dataPointClass);
     sb.append(" parseString(final String s) {"); //$NON-NLS-1$
+    sb.append("return this.parseCharSequence(s);}"); //$NON-NLS-1$
+
+    sb.append("@Override public final "); //$NON-NLS-1$
+    sb.append(this.m_dataPointClass);
+    sb.append(" parseCharSequence(final CharSequence s) {"); //$NON-NLS-1$
 
     index = 0;
     for (final EPrimitiveType type : this.m_primitiveTypes) {
@@ -1256,7 +1298,12 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
       v = this.m_primitiveTypes[index].getPrimitiveTypeName();
       sb.append(TextUtils.toUpperCase(v.charAt(0)));
       sb.append(v.substring(1));
-      sb.append("(s.substring(i, j));"); //$NON-NLS-1$
+      if (_ClassBuilder.__canParseRange(this.m_parsers[index],
+          this.m_primitiveTypes[index])) {
+        sb.append("(s, i, (j - i));"); //$NON-NLS-1$
+      } else {
+        sb.append("(s.subSequence(i, j).toString());"); //$NON-NLS-1$
+      }
     }
 
     sb.append("return new "); //$NON-NLS-1$
@@ -1329,6 +1376,106 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     sb.append('}');
   }
 
+  /**
+   * create the method creating data points from primitive columns
+   *
+   * @param sb
+   *          the string parser builder
+   */
+  private final void __factoryParseColumns(final MemoryTextOutput sb) {
+    int index;
+    String v;
+    char ch;
+
+    sb.append("@Override public final "); //$NON-NLS-1$
+    sb.append(this.m_dataPointClass);
+    sb.append(//
+    "[] parseColumns(final long[][] longColumns, final double[][] doubleColumns, final int count) {"); //$NON-NLS-1$
+
+    index = 0;
+    for (final EPrimitiveType type : this.m_primitiveTypes) {
+      if (type.isFloat()) {
+        sb.append("final double[] c"); //$NON-NLS-1$
+        sb.append(index);
+        sb.append("=doubleColumns["); //$NON-NLS-1$
+      } else {
+        sb.append("final long[] c"); //$NON-NLS-1$
+        sb.append(index);
+        sb.append("=longColumns["); //$NON-NLS-1$
+      }
+      sb.append(index);
+      sb.append("];"); //$NON-NLS-1$
+      index++;
+    }
+
+    sb.append("final "); //$NON-NLS-1$
+    sb.append(this.m_dataPointClass);
+    sb.append("[] points = new "); //$NON-NLS-1$
+    sb.append(this.m_dataPointClass);
+    sb.append("[count]; for(int row = 0; row < count; row++) {"); //$NON-NLS-1$
+
+    index = 0;
+    for (final EPrimitiveType type : this.m_primitiveTypes) {
+      v = type.getPrimitiveTypeName();
+      sb.append("final "); //$NON-NLS-1$
+      sb.append(v);
+      sb.append(' ');
+      sb.append('l');
+      sb.append(index);
+      sb.append('=');
+      switch (type) {
+        case BYTE:
+        case SHORT:
+        case INT: {
+          sb.append(DataFactory.class.getCanonicalName());
+          sb.append(".longTo"); //$NON-NLS-1$
+          sb.append(TextUtils.toUpperCase(v.charAt(0)));
+          sb.append(v.substring(1));
+          sb.append("(c"); //$NON-NLS-1$
+          sb.append(index);
+          sb.append("[row])"); //$NON-NLS-1$
+          break;
+        }
+        case FLOAT: {
+          sb.append("((float)(c"); //$NON-NLS-1$
+          sb.append(index);
+          sb.append("[row]))"); //$NON-NLS-1$
+          break;
+        }
+        default: {
+          sb.append('c');
+          sb.append(index);
+          sb.append("[row]"); //$NON-NLS-1$
+        }
+      }
+      sb.append(';');
+      sb.append("this.m"); //$NON-NLS-1$
+      sb.append(index);
+      sb.append(".validate"); //$NON-NLS-1$
+      sb.append(TextUtils.toUpperCase(v.charAt(0)));
+      sb.append(v.substring(1));
+      sb.append('(');
+      sb.append('l');
+      sb.append(index);
+      sb.append(')');
+      sb.append(';');
+      index++;
+    }
+
+    sb.append("points[row] = new "); //$NON-NLS-1$
+    sb.append(this.m_dataPointClass);
+    ch = '(';
+    for (index = 0; index < this.m_primitiveTypes.length; index++) {
+      sb.append(ch);
+      sb.append('l');
+      sb.append(index);
+      ch = ',';
+    }
+    sb.append(')');
+    sb.append(';');
+    sb.append("} return points; }"); //$NON-NLS-1$
+  }
+
   /**
    * create the data point parser object
    *
@@ -1385,7 +1532,7 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     sb.append(Collection.class.getCanonicalName());
     sb.append('<');
     sb.append(DataPoint.class.getCanonicalName());
-    sb.append("> points) { final "); //$NON-NLS-1$
+    sb.append("> points, final boolean isOrderValidated) { final "); //$NON-NLS-1$
     sb.append(this.m_dataPointClass);
     sb.append("[] data = points.toArray(new "); //$NON-NLS-1$
     sb.append(this.m_dataPointClass);
@@ -1394,7 +1541,7 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     sb.append(//
     " next : data) { instance.validateDataPoint(next); } return new "); //$NON-NLS-1$
     sb.append(this.m_runClass);
-    sb.append("(data); }"); //$NON-NLS-1$
+    sb.append("(data, isOrderValidated); }"); //$NON-NLS-1$
   }
 
   /**
@@ -1457,7 +1604,8 @@ final class _ClassBuilder implements Callable<Parser<DataPoint>>,
     sb.append(this.m_runClass);
     sb.append("(final "); //$NON-NLS-1$
     sb.append(this.m_dataPointClass);
-    sb.append("[] data) { super(data); this.points = data; }"); //$NON-NLS-1$
+    sb.append(//
+    "[] data, final boolean isOrderValidated) { super(data, isOrderValidated); this.points = data; }"); //$NON-NLS-1$
   }
 
   /**
@@ -0,0 +1,132 @@
+package org.optimizationBenchmarking.experimentation.data.impl.ref;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+
+/**
+ * A thread-safe table which maps each object to a canonical, equal
+ * instance, used by {@link ExperimentSetContext} to normalize objects
+ * persistently. Loader threads may intern objects concurrently without
+ * funneling through a single lock: The tables are
+ * {@link java.util.concurrent.ConcurrentHashMap}s, which are lock-striped
+ * for updates and lock-free for reads. Strings, the most common input, and
+ * boxed numbers get tables of their own, so they neither contend with
+ * other objects nor need to be wrapped into a
+ * {@linkplain org.optimizationBenchmarking.utils.hash.HashUtils#hashKey(Object)
+ * hash key}. Boxed values for which the Java runtime already guarantees
+ * canonical instances are returned without any table access.
+ */
+final class _Interner {
+
+  /** the strings */
+  private final ConcurrentHashMap<String, String> m_strings;
+
+  /** the numbers */
+  private final ConcurrentHashMap<Number, Number> m_numbers;
+
+  /** all other objects */
+  private final ConcurrentHashMap<Object, Object> m_objects;
+
+  /** create the interner */
+  _Interner() {
+    super();
+
+    final int concurrency;
+
+    concurrency = Math.max(16, Runtime.getRuntime().availableProcessors());
+    this.m_strings = new ConcurrentHashMap<>(256, 0.75f, concurrency);
+    this.m_numbers = new ConcurrentHashMap<>(256, 0.75f, concurrency);
+    this.m_objects = new ConcurrentHashMap<>(64, 0.75f, concurrency);
+  }
+
+  /**
+   * Get the canonical instance of a boxed value if the Java runtime
+   * guarantees one
+   *
+   * @param in
+   *          the value
+   * @return the canonical instance, or {@code null} if there is none
+   */
+  private static final Object __canonicalBoxed(final Object in) {
+    final long l;
+    final int i;
+    final short s;
+    final char ch;
+
+    if (in instanceof Integer) {
+      i = ((Integer) in).intValue();
+      return (((i >= (-128)) && (i <= 127)) ? Integer.valueOf(i) : null);
+    }
+    if (in instanceof Long) {
+      l = ((Long) in).longValue();
+      return (((l >= (-128L)) && (l <= 127L)) ? Long.valueOf(l) : null);
+    }
+    if (in instanceof Byte) {
+      return Byte.valueOf(((Byte) in).byteValue());
+    }
+    if (in instanceof Short) {
+      s = ((Short) in).shortValue();
+      return (((s >= (-128)) && (s <= 127)) ? Short.valueOf(s) : null);
+    }
+    if (in instanceof Boolean) {
+      return Boolean.valueOf(((Boolean) in).booleanValue());
+    }
+    if (in instanceof Character) {
+      ch = ((Character) in).charValue();
+      return ((ch <= 127) ? Character.valueOf(ch) : null);
+    }
+    return null;
+  }
+
+  /**
+   * Get the canonical instance of an object: If an equal object has been
+   * interned before, it is returned. Otherwise, the object itself is
+   * interned and returned.
+   *
+   * @param in
+   *          the object
+   * @return the canonical instance
+   * @param <T>
+   *          the object type
+   */
+  @SuppressWarnings("unchecked")
+  final <T> T _intern(final T in) {
+    Object b;
+
+    if (in == null) {
+      return null;
+    }
+
+    if (in instanceof String) {
+      b = this.m_strings.putIfAbsent(((String) in), ((String) in));
+    } else {
+      if ((in instanceof Number) || (in instanceof Boolean)
+          || (in instanceof Character)) {
+        b = _Interner.__canonicalBoxed(in);
+        if (b != null) {
+          return ((T) b);
+        }
+        if (in instanceof Number) {
+          return ((T) (this.__internNumber((Number) in)));
+        }
+      }
+      b = this.m_objects.putIfAbsent(HashUtils.hashKey(in), in);
+    }
+
+    return ((b != null) ? ((T) b) : in);
+  }
+
+  /**
+   * Intern a number
+   *
+   * @param in
+   *          the number
+   * @return the canonical instance
+   */
+  private final Number __internNumber(final Number in) {
+    final Number b;
+    b = this.m_numbers.putIfAbsent(in, in);
+    return ((b != null) ? b : in);
+  }
+}
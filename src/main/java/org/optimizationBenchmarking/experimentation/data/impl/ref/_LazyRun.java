@@ -0,0 +1,266 @@
+package org.optimizationBenchmarking.experimentation.data.impl.ref;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
+
+/**
+ * A run whose data points are loaded on demand by a
+ * {@link RunDataLoader}. The run itself only stores its first and its
+ * last data point and the total number of points, which suffices to
+ * answer queries for the dimensions, the size, and the first and last
+ * row. All other queries are delegated to a run holding the complete
+ * data, which is loaded when needed, kept in the {@link _LazyRunCache},
+ * and otherwise only referenced softly, so that it may be reclaimed when
+ * memory becomes scarce. The points other than the first and the last one
+ * are validated when they are loaded.
+ */
+final class _LazyRun extends Run {
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** the number of data points */
+  private final int m_size;
+
+  /** the data loader */
+  private final RunDataLoader m_loader;
+
+  /**
+   * the instance, which is needed because the data may be loaded to
+   * compare runs before this run has an owner, or {@code null} after
+   * deserialization
+   */
+  private transient Instance m_instance;
+
+  /**
+   * the data factory, or {@code null} after deserialization, see
+   * {@link #m_instance}
+   */
+  private transient DataFactory m_factory;
+
+  /** the soft reference to the loaded data */
+  private transient volatile SoftReference<Run> m_loaded;
+
+  /**
+   * the strong reference to the loaded data while it is in the cache,
+   * guarded by the {@link _LazyRunCache}
+   */
+  transient Run m_cached;
+
+  /**
+   * the previous run in the access order of the cache, guarded by the
+   * {@link _LazyRunCache}
+   */
+  transient _LazyRun m_previous;
+
+  /**
+   * the next run in the access order of the cache, guarded by the
+   * {@link _LazyRunCache}
+   */
+  transient _LazyRun m_next;
+
+  /**
+   * Create the lazy run
+   *
+   * @param summary
+   *          the first and the last data point
+   * @param size
+   *          the total number of data points
+   * @param loader
+   *          the data loader
+   * @param instance
+   *          the instance the run belongs to
+   * @param factory
+   *          the data factory
+   */
+  _LazyRun(final DataPoint[] summary, final int size,
+      final RunDataLoader loader, final Instance instance,
+      final DataFactory factory) {
+    super(summary, false);
+    this.m_size = size;
+    this.m_loader = loader;
+    this.m_instance = instance;
+    this.m_factory = factory;
+  }
+
+  /**
+   * Load the complete data of this run
+   *
+   * @return the run holding the complete data
+   */
+  private final Run __load() {
+    final DataPoint[] points;
+    final ArraySetView<DataPoint> summary;
+    DataFactory factory;
+    Instance instance;
+    int index;
+
+    factory = this.m_factory;
+    instance = this.m_instance;
+    if ((factory == null) || (instance == null)) {
+      instance = this.getOwner().getInstance();
+      factory = this.getOwner().getOwner().getOwner().getDimensions()
+          .getDataFactory();
+      this.m_instance = instance;
+      this.m_factory = factory;
+    }
+
+    try {
+      points = this.m_loader.loadDataPoints(factory);
+    } catch (final IOException ioError) {
+      throw new IllegalStateException(//
+          "Could not load the data points of a run via " + //$NON-NLS-1$
+              this.m_loader, ioError);
+    }
+
+    summary = this.m_data;
+    if ((points == null) || (points.length != this.m_size)
+        || (!(points[0].equals(summary.get(0))))
+        || (!(points[points.length - 1].equals(//
+            summary.get(summary.size() - 1))))) {
+      throw new IllegalStateException((((//
+          "The data points loaded via " + this.m_loader) + //$NON-NLS-1$
+          " do not match the run, which should have ") + this.m_size) + //$NON-NLS-1$
+          " points, but the file may have been changed."); //$NON-NLS-1$
+    }
+
+    for (index = 1; index < points.length; index++) {
+      points[index].validateAfter(points[index - 1]);
+      if (points[index].equals(points[index - 1])) {
+        throw new IllegalStateException(((//
+            "Data point at index " + index) + //$NON-NLS-1$
+            " loaded via " + this.m_loader) + //$NON-NLS-1$
+            " is identical to its predecessor."); //$NON-NLS-1$
+      }
+    }
+
+    return factory.createRun(instance, Arrays.asList(points), true);
+  }
+
+  /**
+   * Get the run holding the complete data, loading it if necessary
+   *
+   * @return the run holding the complete data
+   */
+  final Run _getRun() {
+    SoftReference<Run> reference;
+    Run run;
+
+    reference = this.m_loaded;
+    if ((reference == null) || ((run = reference.get()) == null)) {
+      synchronized (this) {
+        reference = this.m_loaded;
+        if ((reference == null) || ((run = reference.get()) == null)) {
+          run = this.__load();
+          this.m_loaded = new SoftReference<>(run);
+        }
+      }
+    }
+
+    _LazyRunCache._getInstance()._touch(this, run);
+    return run;
+  }
+
+  /**
+   * Get the summary point for a given row, if the row is the first or the
+   * last one
+   *
+   * @param row
+   *          the row
+   * @return the summary point, or {@code null} if the complete data is
+   *         needed
+   */
+  private final DataPoint __summary(final int row) {
+    if (row == 0) {
+      return this.m_data.get(0);
+    }
+    if (row == (this.m_size - 1)) {
+      return this.m_data.get(this.m_data.size() - 1);
+    }
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int m() {
+    return this.m_size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int n() {
+    return this.m_data.get(0).size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double getDouble(final int row, final int column) {
+    final DataPoint point;
+
+    point = this.__summary(row);
+    if (point != null) {
+      return point.getDouble(column);
+    }
+    return this._getRun().getDouble(row, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long getLong(final int row, final int column) {
+    final DataPoint point;
+
+    point = this.__summary(row);
+    if (point != null) {
+      return point.getLong(column);
+    }
+    return this._getRun().getLong(row, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isIntegerMatrix() {
+    return this.m_data.get(0).isIntegerMatrix();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final DataPoint find(final int column, final double value) {
+    return this._getRun().find(column, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final DataPoint find(final int column, final long value) {
+    return this._getRun().find(column, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateColumn(final int column,
+      final IAggregate aggregate) {
+    this._getRun().aggregateColumn(column, aggregate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateRow(final int row, final IAggregate aggregate) {
+    final DataPoint point;
+
+    point = this.__summary(row);
+    if (point != null) {
+      point.aggregateRow(0, aggregate);
+    } else {
+      this._getRun().aggregateRow(row, aggregate);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final ArraySetView<DataPoint> getData() {
+    return this._getRun().getData();
+  }
+}
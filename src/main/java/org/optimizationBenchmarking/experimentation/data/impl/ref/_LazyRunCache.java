@@ -0,0 +1,158 @@
+package org.optimizationBenchmarking.experimentation.data.impl.ref;
+
+import org.optimizationBenchmarking.utils.MemoryGovernor;
+
+/**
+ * The least-recently-used cache holding the data of lazily loaded runs.
+ * The access order is a doubly-linked list threaded through the
+ * {@link _LazyRun} objects themselves, so touching a run neither hashes
+ * nor allocates. The cache keeps strong references to the loaded data of
+ * at most {@link RunDataLoader#CACHE_SIZE_PROPERTY} data points in total.
+ * Data evicted from the cache is only softly referenced by its
+ * {@link _LazyRun} and may thus be reclaimed by the garbage collector. If
+ * the {@link org.optimizationBenchmarking.utils.MemoryGovernor} signals
+ * memory pressure, the whole cache is cleared.
+ */
+final class _LazyRunCache implements Runnable {
+
+  /** the maximum total number of data points */
+  private final long m_capacity;
+
+  /** the least recently used run */
+  private _LazyRun m_head;
+
+  /** the most recently used run */
+  private _LazyRun m_tail;
+
+  /** the current total number of data points */
+  private long m_size;
+
+  /**
+   * the run touched last: accessing the same run again does not require
+   * updating the access order
+   */
+  private volatile _LazyRun m_last;
+
+  /**
+   * create
+   *
+   * @param capacity
+   *          the maximum total number of data points
+   */
+  private _LazyRunCache(final long capacity) {
+    super();
+    this.m_capacity = capacity;
+  }
+
+  /**
+   * Get the shared cache instance
+   *
+   * @return the shared cache instance
+   */
+  static final _LazyRunCache _getInstance() {
+    return __LazyRunCacheLoader.INSTANCE;
+  }
+
+  /**
+   * Remove a run from the access order list
+   *
+   * @param run
+   *          the run
+   */
+  private final void __unlink(final _LazyRun run) {
+    if (run.m_previous == null) {
+      this.m_head = run.m_next;
+    } else {
+      run.m_previous.m_next = run.m_next;
+    }
+    if (run.m_next == null) {
+      this.m_tail = run.m_previous;
+    } else {
+      run.m_next.m_previous = run.m_previous;
+    }
+    run.m_previous = run.m_next = null;
+  }
+
+  /**
+   * Mark the data of a lazy run as used, adding it to the cache if
+   * necessary and evicting the least recently used data if the cache
+   * becomes too large.
+   *
+   * @param owner
+   *          the lazy run
+   * @param data
+   *          the loaded data of the run
+   */
+  final void _touch(final _LazyRun owner, final Run data) {
+    _LazyRun eldest;
+
+    if (this.m_last == owner) {
+      return;
+    }
+
+    synchronized (this) {
+      if (owner.m_cached == null) {
+        owner.m_cached = data;
+        this.m_size += data.m();
+      } else {
+        this.__unlink(owner);
+      }
+
+      owner.m_previous = this.m_tail;
+      if (this.m_tail == null) {
+        this.m_head = owner;
+      } else {
+        this.m_tail.m_next = owner;
+      }
+      this.m_tail = owner;
+
+      while ((this.m_size > this.m_capacity)
+          && ((eldest = this.m_head) != owner)) {
+        this.m_size -= eldest.m_cached.m();
+        eldest.m_cached = null;
+        this.__unlink(eldest);
+      }
+
+      this.m_last = owner;
+    }
+  }
+
+  /** Drop all cached data. */
+  @Override
+  public synchronized final void run() {
+    _LazyRun run, next;
+
+    for (run = this.m_head; run != null; run = next) {
+      next = run.m_next;
+      run.m_cached = null;
+      run.m_previous = run.m_next = null;
+    }
+    this.m_head = this.m_tail = this.m_last = null;
+    this.m_size = 0L;
+  }
+
+  /** the loader of the shared instance */
+  private static final class __LazyRunCacheLoader {
+    /** the shared instance */
+    static final _LazyRunCache INSTANCE;
+
+    static {
+      int capacity;
+
+      capacity = RunDataLoader.DEFAULT_CACHE_SIZE;
+      try {
+        capacity = Integer.getInteger(RunDataLoader.CACHE_SIZE_PROPERTY,
+            RunDataLoader.DEFAULT_CACHE_SIZE).intValue();
+      } catch (final Throwable error) {
+        // ignore, use default
+      }
+      if (capacity < 0) {
+        capacity = RunDataLoader.DEFAULT_CACHE_SIZE;
+      }
+
+      INSTANCE = new _LazyRunCache(capacity);
+      MemoryGovernor.getInstance().addPressureListener(
+          __LazyRunCacheLoader.INSTANCE);
+    }
+  }
+}
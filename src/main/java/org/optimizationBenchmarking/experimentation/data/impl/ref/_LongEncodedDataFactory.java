@@ -3,6 +3,9 @@ package org.optimizationBenchmarking.experimentation.data.impl.ref;
 import java.util.Collection;
 
 import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.parsers.DoubleParser;
+import org.optimizationBenchmarking.utils.parsers.IntParser;
+import org.optimizationBenchmarking.utils.parsers.LongParser;
 
 /** a factory for long-encoded data points */
 final class _LongEncodedDataFactory extends DataFactory {
@@ -24,15 +27,22 @@ final class _LongEncodedDataFactory extends DataFactory {
     this.m_dims = dims;
   }
 
-  /** parse a string */
+  /** {@inheritDoc} */
   @Override
   public final DataPoint parseString(final String s) {
+    return this.parseCharSequence(s);
+  }
+
+  /** parse a character sequence */
+  @Override
+  public final DataPoint parseCharSequence(final CharSequence s) {
     final int length, size;
     final long[] data;
     int i, j, index;
     char ch;
     Number current;
     Dimension dim;
+    Object parser;
 
     size = this.m_dims.size();
 
@@ -66,7 +76,21 @@ final class _LongEncodedDataFactory extends DataFactory {
         }
 
         dim = this.m_dims.get(index);
-        current = dim.m_parser.parseString(s.substring(i, j));
+        parser = dim.m_parser;
+        if (parser instanceof LongParser) {
+          data[index] = ((LongParser) parser).parseLong(s, i, (j - i));
+          continue loop;
+        }
+        if (parser instanceof IntParser) {
+          data[index] = ((IntParser) parser).parseInt(s, i, (j - i));
+          continue loop;
+        }
+        if (parser instanceof DoubleParser) {
+          data[index] = Double.doubleToLongBits(//
+              ((DoubleParser) parser).parseDouble(s, i, (j - i)));
+          continue loop;
+        }
+        current = dim.m_parser.parseString(s.subSequence(i, j).toString());
 
         switch (dim.m_primitiveType) {
           case BYTE: {
@@ -156,12 +180,80 @@ final class _LongEncodedDataFactory extends DataFactory {
     return new _LongEncodedDataPoint(this.m_dims, data);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final DataPoint[] parseColumns(final long[][] longColumns,
+      final double[][] doubleColumns, final int count) {
+    final DataPoint[] points;
+    final long[][] data;
+    final int size;
+    long[] column;
+    double[] source;
+    int index, row;
+    Dimension dim;
+
+    size = this.m_dims.size();
+    data = new long[count][size];
+
+    for (index = 0; index < size; index++) {
+      dim = this.m_dims.get(index);
+      switch (dim.m_primitiveType) {
+        case FLOAT: {
+          source = doubleColumns[index];
+          for (row = 0; row < count; row++) {
+            dim.m_parser.validateDouble((float) (source[row]));
+            data[row][index] = Float.floatToIntBits((float) (source[row]));
+          }
+          break;
+        }
+        case DOUBLE: {
+          source = doubleColumns[index];
+          for (row = 0; row < count; row++) {
+            dim.m_parser.validateDouble(source[row]);
+            data[row][index] = Double.doubleToLongBits(source[row]);
+          }
+          break;
+        }
+        default: {
+          column = longColumns[index];
+          for (row = 0; row < count; row++) {
+            switch (dim.m_primitiveType) {
+              case BYTE: {
+                DataFactory.longToByte(column[row]);
+                break;
+              }
+              case SHORT: {
+                DataFactory.longToShort(column[row]);
+                break;
+              }
+              case INT: {
+                DataFactory.longToInt(column[row]);
+                break;
+              }
+              default: {
+                break;
+              }
+            }
+            dim.m_parser.validateLong(column[row]);
+            data[row][index] = column[row];
+          }
+        }
+      }
+    }
+
+    points = new DataPoint[count];
+    for (row = 0; row < count; row++) {
+      points[row] = new _LongEncodedDataPoint(this.m_dims, data[row]);
+    }
+    return points;
+  }
+
   /** {@inheritDoc} */
   @Override
   public final Run createRun(final Instance instance,
-      final Collection<DataPoint> points) {
+      final Collection<DataPoint> points, final boolean isOrderValidated) {
     return new _BasicRun(points.toArray(new DataPoint[points.size()]),
-        this.m_dims);
+        this.m_dims, isOrderValidated);
   }
 
   /** {@inheritDoc} */
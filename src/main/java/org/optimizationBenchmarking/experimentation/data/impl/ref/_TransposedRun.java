@@ -1,5 +1,6 @@
 package org.optimizationBenchmarking.experimentation.data.impl.ref;
 
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.TransposedMatrix;
 
@@ -16,6 +17,38 @@ final class _TransposedRun extends TransposedMatrix<Run> {
     super(run);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final DataPoint point;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    point = this.m_owner.getData().get(column);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = point.getDouble(i);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final DataPoint point;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    point = this.m_owner.getData().get(column);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = point.getLong(i);
+    }
+  }
+
   // /** {@inheritDoc} */
   // @Override
   // public final IMatrix selectColumns(final int... cols) {
@@ -1,6 +1,7 @@
 package org.optimizationBenchmarking.experimentation.data.impl.shadow;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 
 import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
@@ -37,6 +38,18 @@ public class DataSelection extends
   /** the compiled selection */
   private _CompiledSelection m_compiled;
 
+  /**
+   * the builder which created this selection, or {@code null} if this
+   * selection is not based on bit sets
+   */
+  private DataSelectionBuilder m_builder;
+
+  /** the completely selected experiments, if based on bit sets */
+  private BitSet m_selectedExperiments;
+
+  /** the selected instance run sets, if based on bit sets */
+  private BitSet m_selectedRuns;
+
   /**
    * Create the selection object
    *
@@ -56,6 +69,41 @@ public class DataSelection extends
         experimentSet.getParameters());
   }
 
+  /**
+   * Create a selection based on bit sets
+   *
+   * @param builder
+   *          the builder
+   * @param experiments
+   *          the completely selected experiments
+   * @param runs
+   *          the selected instance run sets
+   */
+  DataSelection(final DataSelectionBuilder builder,
+      final BitSet experiments, final BitSet runs) {
+    this(builder.m_set);
+    this.m_builder = builder;
+    this.m_selectedExperiments = experiments;
+    this.m_selectedRuns = runs;
+  }
+
+  /**
+   * If this selection is based on bit sets, turn it into a hash map-based
+   * selection so that more elements can be added.
+   */
+  private final void __inflate() {
+    final DataSelectionBuilder builder;
+
+    builder = this.m_builder;
+    if (builder != null) {
+      this.m_builder = null;
+      this.m_compiled = null;
+      builder._inflate(this, this.m_selectedExperiments,
+          this.m_selectedRuns);
+      this.m_selectedExperiments = this.m_selectedRuns = null;
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   final _Selection<IExperiment, IInstanceRuns> _createSelection(
@@ -113,6 +161,7 @@ public class DataSelection extends
           "Cannot add a null experiment."); //$NON-NLS-1$
     }
 
+    this.__inflate();
     if (this._add(experiment)) {
       this.m_compiled = null;
       this.m_parameters._addSubElements(experiment.getParameterSetting());
@@ -135,6 +184,7 @@ public class DataSelection extends
           "Cannot add a null instance runs."); //$NON-NLS-1$
     }
 
+    this.__inflate();
     if (this._addSubElement(runs)) {
       this.m_compiled = null;
       this.__addInstance(runs.getInstance());
@@ -178,6 +228,7 @@ public class DataSelection extends
       throw new IllegalArgumentException("Cannot add a null instance."); //$NON-NLS-1$
     }
 
+    this.__inflate();
     changed = false;
     outer: for (final IExperiment experiment : this.m_set.getData()) {
       for (final IInstanceRuns runs : experiment.getData()) {
@@ -374,6 +425,11 @@ public class DataSelection extends
     int size;
     IExperiment comp;
 
+    if ((this.m_compiled == null) && (this.m_builder != null)) {
+      this.m_compiled = this.m_builder._compile(this.m_selectedExperiments,
+          this.m_selectedRuns);
+    }
+
     if (this.m_compiled == null) {
 
       // compile the other elements
@@ -0,0 +1,1055 @@
+package org.optimizationBenchmarking.experimentation.data.impl.shadow;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IFeature;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstance;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IParameter;
+import org.optimizationBenchmarking.experimentation.data.spec.IProperty;
+import org.optimizationBenchmarking.experimentation.data.spec.IPropertySet;
+import org.optimizationBenchmarking.experimentation.data.spec.IPropertySetting;
+import org.optimizationBenchmarking.experimentation.data.spec.IPropertyValue;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.collections.lists.ArraySetView;
+import org.optimizationBenchmarking.utils.comparison.EComparison;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * A builder for many {@link DataSelection}s over the same experiment set.
+ * The builder indexes the experiments, instances, and instance run sets of
+ * the experiment set once. Each selection it creates is then represented
+ * by two bit sets over these indexes, one for the completely selected
+ * experiments and one for the selected instance run sets, instead of the
+ * hash maps used by {@link DataSelection}'s {@code add} methods. Selecting
+ * data thus only requires setting bits, the selections of several groups
+ * are computed in parallel, and the {@code Shadow*} objects of a selection
+ * are only created when they are accessed for the first time.
+ * Adding further elements to a selection created by this builder is
+ * possible, but turns it into an ordinary, hash map-based selection first.
+ */
+public final class DataSelectionBuilder {
+
+  /** the experiment set */
+  final IExperimentSet m_set;
+
+  /** the experiments */
+  private final IExperiment[] m_experiments;
+
+  /**
+   * the index of the first instance run set of each experiment, followed
+   * by the total number of instance run sets
+   */
+  private final int[] m_firstRuns;
+
+  /** all instance run sets, ordered by experiment */
+  private final IInstanceRuns[] m_runs;
+
+  /** the instances */
+  private final IInstance[] m_instances;
+
+  /** the index of the instance of each instance run set */
+  private final int[] m_runInstances;
+
+  /** the indexes of the instance run sets belonging to each instance */
+  private final int[][] m_instanceRuns;
+
+  /** the index of each experiment */
+  private final HashMap<IExperiment, Integer> m_experimentIndexes;
+
+  /** the index of each instance */
+  private final HashMap<IInstance, Integer> m_instanceIndexes;
+
+  /**
+   * do the features of all instances cover all feature values: {@code 0}
+   * if not yet known, {@code 1} if yes, {@code -1} if not
+   */
+  private int m_featuresComplete;
+
+  /**
+   * do the parameters of all experiments cover all parameter values:
+   * {@code 0} if not yet known, {@code 1} if yes, {@code -1} if not
+   */
+  private int m_parametersComplete;
+
+  /**
+   * Create the data selection builder
+   *
+   * @param experimentSet
+   *          the experiment set to select from
+   */
+  public DataSelectionBuilder(final IExperimentSet experimentSet) {
+    super();
+
+    final ArrayListView<? extends IExperiment> experiments;
+    final ArrayListView<? extends IInstance> instances;
+    final int[] counts;
+    ArrayListView<? extends IInstanceRuns> runs;
+    IInstanceRuns instanceRuns;
+    int experiment, instance, run, total, size;
+
+    if (experimentSet == null) {
+      throw new IllegalArgumentException(//
+          "Set to select from must not be null."); //$NON-NLS-1$
+    }
+    this.m_set = experimentSet;
+
+    instances = experimentSet.getInstances().getData();
+    size = instances.size();
+    this.m_instances = new IInstance[size];
+    this.m_instanceIndexes = new HashMap<>(size << 1);
+    for (instance = 0; instance < size; instance++) {
+      this.m_instances[instance] = instances.get(instance);
+      this.m_instanceIndexes.put(this.m_instances[instance],
+          Integer.valueOf(instance));
+    }
+
+    experiments = experimentSet.getData();
+    size = experiments.size();
+    this.m_experiments = new IExperiment[size];
+    this.m_experimentIndexes = new HashMap<>(size << 1);
+    this.m_firstRuns = new int[size + 1];
+    total = 0;
+    for (experiment = 0; experiment < size; experiment++) {
+      this.m_experiments[experiment] = experiments.get(experiment);
+      this.m_experimentIndexes.put(this.m_experiments[experiment],
+          Integer.valueOf(experiment));
+      this.m_firstRuns[experiment] = total;
+      total += this.m_experiments[experiment].getData().size();
+    }
+    this.m_firstRuns[size] = total;
+
+    this.m_runs = new IInstanceRuns[total];
+    this.m_runInstances = new int[total];
+    counts = new int[this.m_instances.length];
+    run = 0;
+    for (experiment = 0; experiment < size; experiment++) {
+      runs = this.m_experiments[experiment].getData();
+      for (final IInstanceRuns current : runs) {
+        instanceRuns = this.m_runs[run] = current;
+        instance = this.__findInstance(instanceRuns.getInstance());
+        if (instance < 0) {
+          throw new IllegalArgumentException(((//
+              "The instance of instance run set " + instanceRuns) + //$NON-NLS-1$
+              " does not belong to the experiment set.")); //$NON-NLS-1$
+        }
+        this.m_runInstances[run++] = instance;
+        counts[instance]++;
+      }
+    }
+
+    this.m_instanceRuns = new int[this.m_instances.length][];
+    for (instance = counts.length; (--instance) >= 0;) {
+      this.m_instanceRuns[instance] = new int[counts[instance]];
+    }
+    for (run = total; (--run) >= 0;) {
+      instance = this.m_runInstances[run];
+      this.m_instanceRuns[instance][--counts[instance]] = run;
+    }
+  }
+
+  /**
+   * Find the index of an instance by comparison
+   *
+   * @param instance
+   *          the instance
+   * @return the index, or {@code -1} if the instance does not belong to
+   *         the experiment set
+   */
+  private final int __findInstance(final IInstance instance) {
+    final Integer index;
+    int i;
+
+    if (instance == null) {
+      return (-1);
+    }
+    index = this.m_instanceIndexes.get(instance);
+    if (index != null) {
+      return index.intValue();
+    }
+    for (i = this.m_instances.length; (--i) >= 0;) {
+      if (EComparison.equals(instance, this.m_instances[i])) {
+        return i;
+      }
+    }
+    return (-1);
+  }
+
+  /**
+   * Get the experiment set this builder selects from
+   *
+   * @return the experiment set this builder selects from
+   */
+  public final IExperimentSet getExperimentSet() {
+    return this.m_set;
+  }
+
+  /**
+   * Select a complete experiment
+   *
+   * @param experiment
+   *          the index of the experiment
+   * @param experiments
+   *          the completely selected experiments
+   * @param runs
+   *          the selected instance run sets
+   */
+  private final void __selectExperiment(final int experiment,
+      final BitSet experiments, final BitSet runs) {
+    experiments.set(experiment);
+    runs.set(this.m_firstRuns[experiment], this.m_firstRuns[experiment + 1]);
+  }
+
+  /**
+   * Select all instance run sets of an instance
+   *
+   * @param instance
+   *          the index of the instance
+   * @param runs
+   *          the selected instance run sets
+   */
+  private final void __selectInstance(final int instance,
+      final BitSet runs) {
+    for (final int run : this.m_instanceRuns[instance]) {
+      runs.set(run);
+    }
+  }
+
+  /**
+   * Create a selection containing a set of complete experiments, i.e., the
+   * equivalent of {@link DataSelection#addExperiments(Iterable)}
+   *
+   * @param experiments
+   *          the experiments to select
+   * @return the selection
+   */
+  public final DataSelection selectExperiments(
+      final Iterable<? extends IExperiment> experiments) {
+    final BitSet selectedExperiments, selectedRuns;
+    Integer index;
+
+    if (experiments == null) {
+      throw new IllegalArgumentException(//
+          "Iterable of experiments cannot be null."); //$NON-NLS-1$
+    }
+
+    selectedExperiments = new BitSet(this.m_experiments.length);
+    selectedRuns = new BitSet(this.m_runs.length);
+    for (final IExperiment experiment : experiments) {
+      if (experiment == null) {
+        throw new IllegalArgumentException(//
+            "Cannot add a null experiment."); //$NON-NLS-1$
+      }
+      index = this.m_experimentIndexes.get(experiment);
+      if ((index == null) || (experiment.getOwner() != this.m_set)) {
+        throw new IllegalArgumentException(//
+            "Element has the wrong owner."); //$NON-NLS-1$
+      }
+      this.__selectExperiment(index.intValue(), selectedExperiments,
+          selectedRuns);
+    }
+
+    return new DataSelection(this, selectedExperiments, selectedRuns);
+  }
+
+  /**
+   * Create a selection containing all instance run sets of a set of
+   * instances, i.e., the equivalent of
+   * {@link DataSelection#addInstances(Iterable)}. Instances for which no
+   * data exists are ignored.
+   *
+   * @param instances
+   *          the instances to select
+   * @return the selection
+   */
+  public final DataSelection selectInstances(
+      final Iterable<? extends IInstance> instances) {
+    final BitSet selectedRuns;
+    int index;
+
+    if (instances == null) {
+      throw new IllegalArgumentException(//
+          "Iterable of instances cannot be null."); //$NON-NLS-1$
+    }
+
+    selectedRuns = new BitSet(this.m_runs.length);
+    for (final IInstance instance : instances) {
+      if (instance == null) {
+        throw new IllegalArgumentException(//
+            "Cannot add a null instance."); //$NON-NLS-1$
+      }
+      index = this.__findInstance(instance);
+      if (index >= 0) {
+        this.__selectInstance(index, selectedRuns);
+      }
+    }
+
+    return new DataSelection(this, new BitSet(0), selectedRuns);
+  }
+
+  /**
+   * Create one selection for each group of instances, i.e., the
+   * equivalent of creating one {@link DataSelection} per group and
+   * invoking {@link DataSelection#addInstances(Iterable)} on it. The
+   * selections are computed in parallel if possible.
+   *
+   * @param groups
+   *          the groups of instances
+   * @return the selections, one per group
+   */
+  public final DataSelection[] selectInstanceGroups(
+      final IInstance[][] groups) {
+    final DataSelection[] selections;
+    final int[][] indexes;
+    final Runnable[] jobs;
+    int group, i;
+
+    if (groups == null) {
+      throw new IllegalArgumentException(//
+          "Instance groups cannot be null."); //$NON-NLS-1$
+    }
+
+    indexes = new int[groups.length][];
+    for (group = groups.length; (--group) >= 0;) {
+      if (groups[group] == null) {
+        throw new IllegalArgumentException(//
+            "Instance group cannot be null."); //$NON-NLS-1$
+      }
+      indexes[group] = new int[groups[group].length];
+      for (i = groups[group].length; (--i) >= 0;) {
+        if (groups[group][i] == null) {
+          throw new IllegalArgumentException(//
+              "Cannot add a null instance."); //$NON-NLS-1$
+        }
+        indexes[group][i] = this.__findInstance(groups[group][i]);
+      }
+    }
+
+    selections = new DataSelection[groups.length];
+    jobs = new Runnable[groups.length];
+    for (group = jobs.length; (--group) >= 0;) {
+      jobs[group] = new __InstanceGroupJob(indexes[group], selections,
+          group);
+    }
+    Execute.parallelAndWait(null, jobs);
+    return selections;
+  }
+
+  /**
+   * Check a property value to be selected
+   *
+   * @param property
+   *          the property
+   * @param value
+   *          the value
+   */
+  private static final void __checkPropertyValue(final IProperty property,
+      final Object value) {
+    final String name;
+
+    if (property instanceof IFeature) {
+      name = "feature"; //$NON-NLS-1$
+    } else {
+      if (property instanceof IParameter) {
+        name = "parameter"; //$NON-NLS-1$
+      } else {
+        throw new IllegalArgumentException(//
+            "Property must eithe be a feature or a parameter, but is " //$NON-NLS-1$
+                + property);
+      }
+    }
+
+    if (value == null) {
+      throw new IllegalArgumentException(((//
+          "Cannot add a null ") + name) + " value."); //$NON-NLS-1$//$NON-NLS-2$
+    }
+    if (EComparison.equals(property.getGeneralized().getValue(), value)) {
+      throw new IllegalArgumentException(((//
+          "Cannot add generalized ") + name) + " value."); //$NON-NLS-1$//$NON-NLS-2$
+    }
+  }
+
+  /**
+   * Get the value of a property for each experiment (if the property is a
+   * parameter) or each instance (if it is a feature)
+   *
+   * @param property
+   *          the property
+   * @return the values
+   */
+  private final Object[] __getPropertyValues(final IProperty property) {
+    final Object[] values;
+    int i;
+
+    if (property instanceof IFeature) {
+      values = new Object[this.m_instances.length];
+      for (i = values.length; (--i) >= 0;) {
+        values[i] = this.m_instances[i].getFeatureSetting().get(property);
+      }
+    } else {
+      values = new Object[this.m_experiments.length];
+      for (i = values.length; (--i) >= 0;) {
+        values[i] = this.m_experiments[i].getParameterSetting().get(
+            property);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Select all elements whose property value is one of the given values
+   *
+   * @param isFeature
+   *          is the property a feature?
+   * @param propertyValues
+   *          the property value of each experiment or instance
+   * @param values
+   *          the values to select
+   * @return the selection
+   */
+  final DataSelection _selectPropertyValues(final boolean isFeature,
+      final Object[] propertyValues, final Object[] values) {
+    final BitSet selectedExperiments, selectedRuns;
+    Object propertyValue;
+    int i;
+
+    selectedRuns = new BitSet(this.m_runs.length);
+    if (isFeature) {
+      selectedExperiments = new BitSet(0);
+    } else {
+      selectedExperiments = new BitSet(this.m_experiments.length);
+    }
+
+    for (i = propertyValues.length; (--i) >= 0;) {
+      propertyValue = propertyValues[i];
+      for (final Object value : values) {
+        if (EComparison.equals(propertyValue, value)) {
+          if (isFeature) {
+            this.__selectInstance(i, selectedRuns);
+          } else {
+            this.__selectExperiment(i, selectedExperiments, selectedRuns);
+          }
+          break;
+        }
+      }
+    }
+
+    return new DataSelection(this, selectedExperiments, selectedRuns);
+  }
+
+  /**
+   * Create a selection containing all data which has one of the given
+   * values of a property, i.e., the equivalent of invoking
+   * {@link DataSelection#addPropertyValue(IProperty, Object)} for each
+   * value.
+   *
+   * @param property
+   *          the property
+   * @param values
+   *          the values
+   * @return the selection
+   */
+  public final DataSelection selectPropertyValues(final IProperty property,
+      final Iterable<?> values) {
+    final ArrayList<Object> list;
+
+    if (values == null) {
+      throw new IllegalArgumentException(//
+          "Iterable of property values cannot be null."); //$NON-NLS-1$
+    }
+    list = new ArrayList<>();
+    for (final Object value : values) {
+      DataSelectionBuilder.__checkPropertyValue(property, value);
+      list.add(value);
+    }
+
+    return this._selectPropertyValues((property instanceof IFeature),
+        this.__getPropertyValues(property), list.toArray());
+  }
+
+  /**
+   * Create one selection for each group of values of a property, i.e., the
+   * equivalent of creating one {@link DataSelection} per group and
+   * invoking {@link DataSelection#addPropertyValue(IProperty, Object)} for
+   * each value in the group. The selections are computed in parallel if
+   * possible.
+   *
+   * @param property
+   *          the property
+   * @param groups
+   *          the groups of values
+   * @return the selections, one per group
+   */
+  public final DataSelection[] selectPropertyValueGroups(
+      final IProperty property, final Object[][] groups) {
+    final DataSelection[] selections;
+    final Runnable[] jobs;
+    final Object[] propertyValues;
+    final boolean isFeature;
+    int group;
+
+    if (groups == null) {
+      throw new IllegalArgumentException(//
+          "Property value groups cannot be null."); //$NON-NLS-1$
+    }
+    for (final Object[] values : groups) {
+      if (values == null) {
+        throw new IllegalArgumentException(//
+            "Property value group cannot be null."); //$NON-NLS-1$
+      }
+      for (final Object value : values) {
+        DataSelectionBuilder.__checkPropertyValue(property, value);
+      }
+    }
+
+    isFeature = (property instanceof IFeature);
+    propertyValues = this.__getPropertyValues(property);
+    selections = new DataSelection[groups.length];
+    jobs = new Runnable[groups.length];
+    for (group = jobs.length; (--group) >= 0;) {
+      jobs[group] = new __PropertyValueGroupJob(isFeature, propertyValues,
+          groups[group], selections, group);
+    }
+    Execute.parallelAndWait(null, jobs);
+    return selections;
+  }
+
+  /**
+   * Add the contents of a bit set-based selection to a hash map-based
+   * selection
+   *
+   * @param dest
+   *          the destination selection
+   * @param experiments
+   *          the completely selected experiments
+   * @param runs
+   *          the selected instance run sets
+   */
+  final void _inflate(final DataSelection dest, final BitSet experiments,
+      final BitSet runs) {
+    int index, experiment;
+
+    for (index = experiments.nextSetBit(0); index >= 0; index = experiments
+        .nextSetBit(index + 1)) {
+      dest.addExperiment(this.m_experiments[index]);
+    }
+
+    experiment = 0;
+    for (index = runs.nextSetBit(0); index >= 0; index = runs
+        .nextSetBit(index + 1)) {
+      while (this.m_firstRuns[experiment + 1] <= index) {
+        experiment++;
+      }
+      if (!(experiments.get(experiment))) {
+        dest.addInstanceRuns(this.m_runs[index]);
+      }
+    }
+  }
+
+  /**
+   * Compute the selected properties and property values of a set of
+   * instances (features) or experiments (parameters).
+   *
+   * @param isFeature
+   *          are we dealing with features?
+   * @param selected
+   *          the selected instances (if {@code isFeature}) or completely
+   *          selected experiments (otherwise)
+   * @return the selected properties, where properties of which only some
+   *         values are selected are represented by shadows
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  final ArrayList<IProperty> _properties(final boolean isFeature,
+      final BitSet selected) {
+    final HashMap<IProperty, HashSet<IPropertyValue>> map;
+    final IPropertySet set;
+    final ArrayList<IProperty> list;
+    Iterator<? extends IPropertyValue> iterator;
+    IPropertySetting setting;
+    IPropertyValue value;
+    HashSet<IPropertyValue> values;
+    int index;
+
+    set = (isFeature ? this.m_set.getFeatures() : this.m_set
+        .getParameters());
+    map = new HashMap<>();
+    for (index = selected.nextSetBit(0); index >= 0; index = selected
+        .nextSetBit(index + 1)) {
+      setting = (isFeature ? this.m_instances[index].getFeatureSetting()
+          : this.m_experiments[index].getParameterSetting());
+      iterator = setting.iterator();
+      while (iterator.hasNext()) {
+        value = iterator.next();
+        if (_PropertyValueSelection._canAdd(value)) {
+          values = map.get(value.getOwner());
+          if (values == null) {
+            values = new HashSet<>();
+            map.put(value.getOwner(), values);
+          }
+          values.add(value);
+        }
+      }
+    }
+
+    list = new ArrayList<>(map.size());
+    for (final IProperty property : set.getData()) {
+      values = map.get(property);
+      if ((values == null) || (values.size() <= 0)) {
+        continue;
+      }
+      if (property.getData().size() <= values.size()) {
+        list.add(property);
+      } else {
+        if (isFeature) {
+          list.add(new ShadowFeature(null, ((IFeature) property),
+              ((Collection) values)));
+        } else {
+          list.add(new ShadowParameter(null, ((IParameter) property),
+              ((Collection) values)));
+        }
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Do the property values of all instances (features) or experiments
+   * (parameters) together cover all properties and property values
+   * completely?
+   *
+   * @param isFeature
+   *          are we dealing with features?
+   * @return {@code true} if selecting all instances (experiments) will
+   *         select the complete feature (parameter) set
+   */
+  private synchronized final boolean __isComplete(final boolean isFeature) {
+    final ArrayListView<? extends IProperty> all;
+    final ArrayList<IProperty> list;
+    final BitSet everything;
+    int complete, index;
+
+    complete = (isFeature ? this.m_featuresComplete
+        : this.m_parametersComplete);
+    if (complete == 0) {
+      everything = new BitSet();
+      everything.set(0, (isFeature ? this.m_instances.length
+          : this.m_experiments.length));
+      list = this._properties(isFeature, everything);
+      all = (isFeature ? this.m_set.getFeatures() : this.m_set
+          .getParameters()).getData();
+      complete = 1;
+      if (list.size() == all.size()) {
+        for (index = list.size(); (--index) >= 0;) {
+          if (list.get(index) != all.get(index)) {
+            complete = (-1);
+            break;
+          }
+        }
+      } else {
+        complete = (-1);
+      }
+      if (isFeature) {
+        this.m_featuresComplete = complete;
+      } else {
+        this.m_parametersComplete = complete;
+      }
+    }
+    return (complete > 0);
+  }
+
+  /**
+   * Compile a bit set-based selection. All {@code Shadow*} objects are
+   * created lazily, i.e., the sets returned are backed by
+   * {@link _LazySelection}s.
+   *
+   * @param experiments
+   *          the completely selected experiments
+   * @param runs
+   *          the selected instance run sets
+   * @return the compiled selection
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  final DataSelection._CompiledSelection _compile(final BitSet experiments,
+      final BitSet runs) {
+    final BitSet instances;
+    final ShadowFeatureSet features;
+    final ShadowInstanceSet instanceSet;
+    final ShadowParameterSet parameters;
+    final Collection<? extends IExperiment> experimentList;
+    boolean allComplete, anySelected;
+    int experiment, start, end, index;
+
+    // the selected instances are those with at least one selected run set
+    instances = new BitSet(this.m_instances.length);
+    allComplete = true;
+    anySelected = false;
+    for (experiment = 0; experiment < this.m_experiments.length; experiment++) {
+      start = this.m_firstRuns[experiment];
+      end = this.m_firstRuns[experiment + 1];
+      index = runs.nextSetBit(start);
+      if ((index >= 0) && (index < end)) {
+        anySelected = true;
+        for (; (index >= 0) && (index < end); index = runs
+            .nextSetBit(index + 1)) {
+          instances.set(this.m_runInstances[index]);
+        }
+        if (runs.nextClearBit(start) < end) {
+          allComplete = false;
+        }
+      } else {
+        if (experiments.get(experiment)) {
+          anySelected = true;
+        } else {
+          allComplete = false;
+        }
+      }
+    }
+
+    if (anySelected) {
+      if (allComplete) {
+        experimentList = null;
+      } else {
+        experimentList = new __ExperimentSelection(this, experiments, runs);
+      }
+    } else {
+      experimentList = ((Collection) (ArraySetView.EMPTY_SET_VIEW));
+    }
+
+    index = instances.cardinality();
+    if (index <= 0) {
+      instanceSet = new ShadowInstanceSet(null, this.m_set.getInstances(),
+          ((Collection) (ArraySetView.EMPTY_SET_VIEW)));
+      features = new ShadowFeatureSet(null, this.m_set.getFeatures(),
+          ((Collection) (ArraySetView.EMPTY_SET_VIEW)));
+    } else {
+      if (index >= this.m_instances.length) {
+        instanceSet = null;
+      } else {
+        instanceSet = new ShadowInstanceSet(null,
+            this.m_set.getInstances(), new __InstanceSelection(this,
+                instances));
+      }
+      if ((instanceSet == null) && this.__isComplete(true)) {
+        features = null;
+      } else {
+        features = new ShadowFeatureSet(null, this.m_set.getFeatures(),
+            new __PropertySelection(this, true, instances));
+      }
+    }
+
+    index = experiments.cardinality();
+    if (index <= 0) {
+      parameters = new ShadowParameterSet(null, this.m_set.getParameters(),
+          ((Collection) (ArraySetView.EMPTY_SET_VIEW)));
+    } else {
+      if ((index >= this.m_experiments.length) && this.__isComplete(false)) {
+        parameters = null;
+      } else {
+        parameters = new ShadowParameterSet(null,
+            this.m_set.getParameters(), new __PropertySelection(this,
+                false, experiments));
+      }
+    }
+
+    return new DataSelection._CompiledSelection(this.m_set, features,
+        instanceSet, parameters, experimentList);
+  }
+
+  /** the lazily computed selection of experiments */
+  private static final class __ExperimentSelection extends
+      _LazySelection<IExperiment> {
+
+    /** the owning builder */
+    private final DataSelectionBuilder m_owner;
+
+    /** the completely selected experiments */
+    private final BitSet m_experiments;
+
+    /** the selected instance run sets */
+    private final BitSet m_runs;
+
+    /**
+     * create
+     *
+     * @param owner
+     *          the owning builder
+     * @param experiments
+     *          the completely selected experiments
+     * @param runs
+     *          the selected instance run sets
+     */
+    __ExperimentSelection(final DataSelectionBuilder owner,
+        final BitSet experiments, final BitSet runs) {
+      super();
+      this.m_owner = owner;
+      this.m_experiments = experiments;
+      this.m_runs = runs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final Collection<? extends IExperiment> _materialize() {
+      final ArrayList<IExperiment> list;
+      int experiment, start, end, index;
+
+      list = new ArrayList<>();
+      for (experiment = 0; experiment < this.m_owner.m_experiments.length; experiment++) {
+        start = this.m_owner.m_firstRuns[experiment];
+        end = this.m_owner.m_firstRuns[experiment + 1];
+        index = this.m_runs.nextSetBit(start);
+        if ((index >= 0) && (index < end)) {
+          if (this.m_runs.nextClearBit(start) >= end) {
+            list.add(this.m_owner.m_experiments[experiment]);
+          } else {
+            list.add(new ShadowExperiment(null,
+                this.m_owner.m_experiments[experiment],
+                new __RunsSelection(this.m_owner, this.m_runs, start, end)));
+          }
+        } else {
+          if (this.m_experiments.get(experiment)) {
+            list.add(this.m_owner.m_experiments[experiment]);
+          }
+        }
+      }
+      return list;
+    }
+  }
+
+  /** the lazily computed selection of the instance runs of an experiment */
+  private static final class __RunsSelection extends
+      _LazySelection<IInstanceRuns> {
+
+    /** the owning builder */
+    private final DataSelectionBuilder m_owner;
+
+    /** the selected instance run sets */
+    private final BitSet m_runs;
+
+    /** the index of the first instance run set of the experiment */
+    private final int m_start;
+
+    /** the index after the last instance run set of the experiment */
+    private final int m_end;
+
+    /**
+     * create
+     *
+     * @param owner
+     *          the owning builder
+     * @param runs
+     *          the selected instance run sets
+     * @param start
+     *          the index of the first instance run set of the experiment
+     * @param end
+     *          the index after the last instance run set of the
+     *          experiment
+     */
+    __RunsSelection(final DataSelectionBuilder owner, final BitSet runs,
+        final int start, final int end) {
+      super();
+      this.m_owner = owner;
+      this.m_runs = runs;
+      this.m_start = start;
+      this.m_end = end;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final Collection<? extends IInstanceRuns> _materialize() {
+      final ArrayList<IInstanceRuns> list;
+      int index;
+
+      list = new ArrayList<>(this.m_end - this.m_start);
+      for (index = this.m_runs.nextSetBit(this.m_start); (index >= 0)
+          && (index < this.m_end); index = this.m_runs
+          .nextSetBit(index + 1)) {
+        list.add(this.m_owner.m_runs[index]);
+      }
+      return list;
+    }
+  }
+
+  /** the lazily computed selection of instances */
+  private static final class __InstanceSelection extends
+      _LazySelection<IInstance> {
+
+    /** the owning builder */
+    private final DataSelectionBuilder m_owner;
+
+    /** the selected instances */
+    private final BitSet m_instances;
+
+    /**
+     * create
+     *
+     * @param owner
+     *          the owning builder
+     * @param instances
+     *          the selected instances
+     */
+    __InstanceSelection(final DataSelectionBuilder owner,
+        final BitSet instances) {
+      super();
+      this.m_owner = owner;
+      this.m_instances = instances;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final Collection<? extends IInstance> _materialize() {
+      final ArrayList<IInstance> list;
+      int index;
+
+      list = new ArrayList<>(this.m_instances.cardinality());
+      for (index = this.m_instances.nextSetBit(0); index >= 0; index = this.m_instances
+          .nextSetBit(index + 1)) {
+        list.add(this.m_owner.m_instances[index]);
+      }
+      return list;
+    }
+  }
+
+  /** the lazily computed selection of features or parameters */
+  @SuppressWarnings("rawtypes")
+  private static final class __PropertySelection extends _LazySelection {
+
+    /** the owning builder */
+    private final DataSelectionBuilder m_owner;
+
+    /** are we dealing with features? */
+    private final boolean m_isFeature;
+
+    /** the selected instances or experiments */
+    private final BitSet m_selected;
+
+    /**
+     * create
+     *
+     * @param owner
+     *          the owning builder
+     * @param isFeature
+     *          are we dealing with features?
+     * @param selected
+     *          the selected instances (if {@code isFeature}) or
+     *          completely selected experiments (otherwise)
+     */
+    __PropertySelection(final DataSelectionBuilder owner,
+        final boolean isFeature, final BitSet selected) {
+      super();
+      this.m_owner = owner;
+      this.m_isFeature = isFeature;
+      this.m_selected = selected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final Collection _materialize() {
+      return this.m_owner._properties(this.m_isFeature, this.m_selected);
+    }
+  }
+
+  /** the job creating the selection of an instance group */
+  private final class __InstanceGroupJob implements Runnable {
+
+    /** the indexes of the instances */
+    private final int[] m_indexes;
+
+    /** the destination array */
+    private final DataSelection[] m_dest;
+
+    /** the index in the destination array */
+    private final int m_index;
+
+    /**
+     * create
+     *
+     * @param indexes
+     *          the indexes of the instances
+     * @param dest
+     *          the destination array
+     * @param index
+     *          the index in the destination array
+     */
+    __InstanceGroupJob(final int[] indexes, final DataSelection[] dest,
+        final int index) {
+      super();
+      this.m_indexes = indexes;
+      this.m_dest = dest;
+      this.m_index = index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      final BitSet runs;
+
+      runs = new BitSet(DataSelectionBuilder.this.m_runs.length);
+      for (final int instance : this.m_indexes) {
+        if (instance >= 0) {
+          DataSelectionBuilder.this.__selectInstance(instance, runs);
+        }
+      }
+      this.m_dest[this.m_index] = new DataSelection(
+          DataSelectionBuilder.this, new BitSet(0), runs);
+    }
+  }
+
+  /** the job creating the selection of a property value group */
+  private final class __PropertyValueGroupJob implements Runnable {
+
+    /** are we dealing with a feature? */
+    private final boolean m_isFeature;
+
+    /** the property value of each experiment or instance */
+    private final Object[] m_propertyValues;
+
+    /** the values to select */
+    private final Object[] m_values;
+
+    /** the destination array */
+    private final DataSelection[] m_dest;
+
+    /** the index in the destination array */
+    private final int m_index;
+
+    /**
+     * create
+     *
+     * @param isFeature
+     *          are we dealing with a feature?
+     * @param propertyValues
+     *          the property value of each experiment or instance
+     * @param values
+     *          the values to select
+     * @param dest
+     *          the destination array
+     * @param index
+     *          the index in the destination array
+     */
+    __PropertyValueGroupJob(final boolean isFeature,
+        final Object[] propertyValues, final Object[] values,
+        final DataSelection[] dest, final int index) {
+      super();
+      this.m_isFeature = isFeature;
+      this.m_propertyValues = propertyValues;
+      this.m_values = values;
+      this.m_dest = dest;
+      this.m_index = index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      this.m_dest[this.m_index] = DataSelectionBuilder.this
+          ._selectPropertyValues(this.m_isFeature, this.m_propertyValues,
+              this.m_values);
+    }
+  }
+}
@@ -6,6 +6,7 @@ import org.optimizationBenchmarking.experimentation.data.spec.IDataPoint;
 import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
 import org.optimizationBenchmarking.experimentation.data.spec.IRun;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 
@@ -66,6 +67,43 @@ public class ShadowRun extends _ShadowDataElement<IInstanceRuns, IRun>
     return this.m_shadowUnpacked.getLong(row, column);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    this.m_shadowUnpacked.copyColumn(column, fromRow, toRow, dest,
+        destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    this.m_shadowUnpacked.copyColumn(column, fromRow, toRow, dest,
+        destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart) {
+    this.m_shadowUnpacked.applyToColumn(column, function, fromRow, toRow,
+        dest, destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double[] getDoubleArrayView() {
+    return this.m_shadowUnpacked.getDoubleArrayView();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long[] getLongArrayView() {
+    return this.m_shadowUnpacked.getLongArrayView();
+  }
+
   /** {@inheritDoc} */
   @Override
   public final boolean isIntegerMatrix() {
@@ -133,4 +171,16 @@ public class ShadowRun extends _ShadowDataElement<IInstanceRuns, IRun>
     return this.m_shadowUnpacked.find(column, value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final int[] findRows(final int column, final double[] values) {
+    return this.m_shadowUnpacked.findRows(column, values);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int[] findRows(final int column, final long[] values) {
+    return this.m_shadowUnpacked.findRows(column, values);
+  }
+
 }
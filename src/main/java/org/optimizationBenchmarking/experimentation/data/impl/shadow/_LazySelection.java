@@ -0,0 +1,57 @@
+package org.optimizationBenchmarking.experimentation.data.impl.shadow;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A selection of elements which is only computed when it is needed. If
+ * such a selection is passed to the constructor of a shadow element set,
+ * the shadows of the selected elements will not be created before the
+ * data of the set is accessed for the first time.
+ *
+ * @param <T>
+ *          the element type
+ */
+abstract class _LazySelection<T> extends AbstractCollection<T> {
+
+  /** the materialized selection */
+  private Collection<? extends T> m_elements;
+
+  /** create */
+  _LazySelection() {
+    super();
+  }
+
+  /**
+   * Compute the selected elements
+   *
+   * @return the selected elements
+   */
+  abstract Collection<? extends T> _materialize();
+
+  /**
+   * Get the selected elements
+   *
+   * @return the selected elements
+   */
+  private synchronized final Collection<? extends T> __get() {
+    if (this.m_elements == null) {
+      this.m_elements = this._materialize();
+    }
+    return this.m_elements;
+  }
+
+  /** {@inheritDoc} */
+  @SuppressWarnings("unchecked")
+  @Override
+  public final Iterator<T> iterator() {
+    return ((Iterator<T>) (this.__get().iterator()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int size() {
+    return this.__get().size();
+  }
+}
@@ -32,6 +32,9 @@ PT extends IDataElement> extends //
   /** the original property to copy from */
   ST m_orig;
 
+  /** the lazy selection which has not yet been shadowed */
+  private _LazySelection<? extends PT> m_pending;
+
   /**
    * create the shadow element set
    *
@@ -40,7 +43,9 @@ PT extends IDataElement> extends //
    * @param shadow
    *          the element set to shadow
    * @param selection
-   *          the selection of elements
+   *          the selection of elements: if this is a
+   *          {@link _LazySelection}, the shadows will only be created when
+   *          the data is accessed for the first time
    */
   _ShadowElementSet(final OT owner, final ST shadow,
       final Collection<? extends PT> selection) {
@@ -48,7 +53,11 @@ PT extends IDataElement> extends //
 
     this.m_orig = shadow;
     if (selection != null) {
-      this.__shadow(selection, true);
+      if (selection instanceof _LazySelection) {
+        this.m_pending = ((_LazySelection<? extends PT>) selection);
+      } else {
+        this.__shadow(selection, true);
+      }
     }
   }
 
@@ -149,7 +158,12 @@ PT extends IDataElement> extends //
   @Override
   public synchronized final ArrayListView<? extends PT> getData() {
     if (this.m_data == null) {
-      this.__shadow((ArrayListView) (this.m_orig.getData()), false);
+      if (this.m_pending != null) {
+        this.__shadow(this.m_pending, true);
+        this.m_pending = null;
+      } else {
+        this.__shadow((ArrayListView) (this.m_orig.getData()), false);
+      }
     }
     return this.m_data;
   }
@@ -1,8 +1,16 @@
 package org.optimizationBenchmarking.experimentation.data.spec;
 
+import java.lang.ref.Reference;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.EMetricsCategory;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
+import org.optimizationBenchmarking.utils.metrics.MetricsSample;
+
 /**
  * A data element: the base-class for all elements of the experimental API.
  */
@@ -11,6 +19,12 @@ public abstract class DataElement implements IDataElement {
   /** the attribute map */
   private HashMap<Attribute<?, ?>, Object> m_attributes;
 
+  /**
+   * the registration of this element in the registry of temporarily
+   * stored attributes, or {@code null} if it is not registered
+   */
+  private Reference<DataElement> m_temporary;
+
   /** create */
   protected DataElement() {
     super();
@@ -35,10 +49,13 @@ public abstract class DataElement implements IDataElement {
   protected <XDT extends IDataElement, RT> RT getAttribute(
       final Attribute<XDT, RT> attribute, final Logger logger) {
     final EAttributeType type;
+    final MetricsSample sample;
+    final FlightEvent event;
     RT computed, ret;
     Object old;
 
     type = attribute.m_type;
+    event = FlightEvent.begin(EFlightEventType.ATTRIBUTE);
 
     if (type.m_store) {
       // If the attribute can be stored, we first need to check if it has
@@ -57,6 +74,7 @@ public abstract class DataElement implements IDataElement {
           if (old != null) {
             ret = type.unpack(old);
             if (ret != null) {
+              FlightEvent.end(event, attribute.getClass(), "hit", 0L); //$NON-NLS-1$
               return ret;
             }
             // Although ret may be a softref that points nowhere, we don't
@@ -68,11 +86,18 @@ public abstract class DataElement implements IDataElement {
 
     // OK, the attribute either never is stored and needs to be computed
     // every time or has been purged from the cache before.
-    computed = attribute.compute(((XDT) this), logger);
+    sample = Metrics.begin();
+    try {
+      computed = attribute.compute(((XDT) this), logger);
+    } finally {
+      Metrics.end(sample, EMetricsCategory.ATTRIBUTE, attribute.getClass());
+    }
     if (computed == null) {
       throw new IllegalStateException(//
           "Computed attribute value must not be null."); //$NON-NLS-1$
     }
+    FlightEvent.end(event, attribute.getClass(),
+        (type.m_store ? "miss" : "compute"), 0L); //$NON-NLS-1$//$NON-NLS-2$
 
     if (type.m_store) {
       // Synchronized again: check if attribute has been stored in the mean
@@ -94,12 +119,37 @@ public abstract class DataElement implements IDataElement {
           this.m_attributes = new HashMap<>();
         }
         this.m_attributes.put(attribute, type.pack(computed));
+        if ((type == EAttributeType.TEMPORARILY_STORED)
+            && (this.m_temporary == null)) {
+          this.m_temporary = _TemporaryAttributes._register(this);
+        }
       }
     }
 
     return computed;
   }
 
+  /**
+   * Drop the values of all
+   * {@link EAttributeType#TEMPORARILY_STORED temporarily stored}
+   * attributes, which will be re-computed when accessed again.
+   */
+  final void _dropTemporaryAttributes() {
+    final Iterator<Attribute<?, ?>> iterator;
+
+    synchronized (this) {
+      this.m_temporary = null;
+      if (this.m_attributes != null) {
+        iterator = this.m_attributes.keySet().iterator();
+        while (iterator.hasNext()) {
+          if (iterator.next().m_type == EAttributeType.TEMPORARILY_STORED) {
+            iterator.remove();
+          }
+        }
+      }
+    }
+  }
+
   /**
    * Delegate getting the value of a given attribute. This is an internal
    * method you should better leave your fingers away from...
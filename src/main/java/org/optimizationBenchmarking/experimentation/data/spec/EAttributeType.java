@@ -25,7 +25,10 @@ public enum EAttributeType {
    * purged in low-memory situations. Once purged, they will simply be
    * re-computed. This is realized by internally referencing them with
    * {@link java.lang.ref.SoftReference soft references} which will be
-   * garbage collected when the memory situation warrants it.
+   * garbage collected when the memory situation warrants it. They are
+   * also dropped as soon as the
+   * {@link org.optimizationBenchmarking.utils.MemoryGovernor} detects
+   * memory pressure.
    */
   TEMPORARILY_STORED(true) {
 
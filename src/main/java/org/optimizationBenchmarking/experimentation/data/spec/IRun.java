@@ -83,4 +83,41 @@ public interface IRun extends IElementSet, IMatrix {
    */
   public abstract IDataPoint find(final int column, final long value);
 
+  /**
+   * Resolve a whole vector of values at once: For each element
+   * {@code values[i]}, the row index of the data point that
+   * {@link #find(int, double) find(column, values[i])} would return is
+   * computed, or {@code -1} if it would return {@code null}. The values
+   * must be sorted in the order in which a run passes through them, i.e.,
+   * in ascending order if dimension {@code column} is
+   * {@linkplain EDimensionDirection#isIncreasing() increasing} and in
+   * descending order otherwise. This allows for resolving all values in a
+   * single pass over the run, where the search for each value begins at
+   * the row found for its predecessor. This is much faster than searching
+   * for each value separately, e.g., when computing the times at which a
+   * ladder of goal values is reached.
+   *
+   * @param column
+   *          the column
+   * @param values
+   *          the values, sorted in the direction of the dimension
+   * @return the row indexes, {@code -1} for values which are not found
+   */
+  public abstract int[] findRows(final int column, final double[] values);
+
+  /**
+   * Resolve a whole vector of values at once: For each element
+   * {@code values[i]}, the row index of the data point that
+   * {@link #find(int, long) find(column, values[i])} would return is
+   * computed, or {@code -1} if it would return {@code null}. The values
+   * must be sorted in the order in which a run passes through them, see
+   * {@link #findRows(int, double[])}.
+   *
+   * @param column
+   *          the column
+   * @param values
+   *          the values, sorted in the direction of the dimension
+   * @return the row indexes, {@code -1} for values which are not found
+   */
+  public abstract int[] findRows(final int column, final long[] values);
 }
@@ -0,0 +1,93 @@
+package org.optimizationBenchmarking.experimentation.data.spec;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optimizationBenchmarking.utils.MemoryGovernor;
+
+/**
+ * The registry of the data elements which store values of
+ * {@link EAttributeType#TEMPORARILY_STORED temporarily stored} attributes.
+ * The values are referenced softly by their data elements, and the
+ * garbage collector clears soft references only as a last resort, i.e.,
+ * when the heap is nearly exhausted. When the
+ * {@link org.optimizationBenchmarking.utils.MemoryGovernor} signals memory
+ * pressure, we drop them right away instead, so that the space becomes
+ * available before the loaders are throttled. The data elements are only
+ * referenced weakly, so that a discarded experiment set and the values of
+ * its attributes are collected just like without the registry.
+ */
+final class _TemporaryAttributes implements Runnable {
+
+  /** the queue of references to collected data elements */
+  private final ReferenceQueue<DataElement> m_queue;
+
+  /** the weak references to the data elements */
+  private final Set<Reference<DataElement>> m_owners;
+
+  /** create */
+  private _TemporaryAttributes() {
+    super();
+    this.m_queue = new ReferenceQueue<>();
+    this.m_owners = Collections.newSetFromMap(//
+        new ConcurrentHashMap<Reference<DataElement>, Boolean>());
+  }
+
+  /**
+   * Register a data element which stores the value of a temporarily stored
+   * attribute
+   *
+   * @param owner
+   *          the data element
+   * @return the weak reference to the data element
+   */
+  static final Reference<DataElement> _register(final DataElement owner) {
+    final _TemporaryAttributes attributes;
+    final Reference<DataElement> ref;
+    Reference<? extends DataElement> collected;
+
+    attributes = __TemporaryAttributesLoader.INSTANCE;
+
+    // forget about all data elements collected by the garbage collector
+    while ((collected = attributes.m_queue.poll()) != null) {
+      attributes.m_owners.remove(collected);
+    }
+
+    ref = new WeakReference<>(owner, attributes.m_queue);
+    attributes.m_owners.add(ref);
+    return ref;
+  }
+
+  /** Drop all temporarily stored attribute values. */
+  @Override
+  public final void run() {
+    final Iterator<Reference<DataElement>> iterator;
+    DataElement owner;
+
+    iterator = this.m_owners.iterator();
+    while (iterator.hasNext()) {
+      owner = iterator.next().get();
+      iterator.remove();
+      if (owner != null) {
+        owner._dropTemporaryAttributes();
+      }
+    }
+  }
+
+  /** the loader of the shared instance */
+  private static final class __TemporaryAttributesLoader {
+    /** the shared instance */
+    static final _TemporaryAttributes INSTANCE;
+
+    static {
+      INSTANCE = new _TemporaryAttributes();
+      MemoryGovernor.getInstance().addPressureListener(
+          __TemporaryAttributesLoader.INSTANCE);
+    }
+  }
+}
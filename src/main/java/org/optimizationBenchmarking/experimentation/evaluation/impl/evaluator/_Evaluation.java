@@ -44,6 +44,7 @@ import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
 import org.optimizationBenchmarking.utils.io.structured.spec.IIOJob;
 import org.optimizationBenchmarking.utils.io.structured.spec.IInputJobBuilder;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
 import org.optimizationBenchmarking.utils.text.ESequenceMode;
 import org.optimizationBenchmarking.utils.text.ETextCase;
 import org.optimizationBenchmarking.utils.text.numbers.InTextNumberAppender;
@@ -830,32 +831,36 @@ final class _Evaluation extends _EvaluationSetup implements IEvaluation {
 
     this.__configure(logger);
 
-    data = this.__loadData(logger);
-    if (data == null) {
-      return;
-    }
+    try {
+      data = this.__loadData(logger);
+      if (data == null) {
+        return;
+      }
 
-    root = _ModulesBuilder._buildModules(this, data, logger);
-    if (root == null) {
-      throw new IllegalArgumentException("Root module cannot be null."); //$NON-NLS-1$
-    }
+      root = _ModulesBuilder._buildModules(this, data, logger);
+      if (root == null) {
+        throw new IllegalArgumentException("Root module cannot be null."); //$NON-NLS-1$
+      }
 
-    authors = this.__makeAuthors();
+      authors = this.__makeAuthors();
 
-    try (final IDocument doc = this.__createDocument(logger)) {
-      root.initialize(doc);
+      try (final IDocument doc = this.__createDocument(logger)) {
+        root.initialize(doc);
 
-      try (final IDocumentHeader header = doc.header()) {
-        _Evaluation.__header(root, authors, data, header, logger);
-      }
+        try (final IDocumentHeader header = doc.header()) {
+          _Evaluation.__header(root, authors, data, header, logger);
+        }
 
-      try (final IDocumentBody body = doc.body()) {
-        root._bodyJobs(body);
-      }
+        try (final IDocumentBody body = doc.body()) {
+          root._bodyJobs(body);
+        }
 
-      try (final IDocumentBody footer = doc.footer()) {
-        root._footerJobs(footer);
+        try (final IDocumentBody footer = doc.footer()) {
+          root._footerJobs(footer);
+        }
       }
+    } finally {
+      Metrics.dump(logger);
     }
   }
 
@@ -3,9 +3,13 @@ package org.optimizationBenchmarking.experimentation.evaluation.impl.evaluator;
 import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.experimentation.evaluation.spec.IEvaluationJob;
+import org.optimizationBenchmarking.experimentation.evaluation.spec.IEvaluationModule;
 import org.optimizationBenchmarking.utils.document.spec.IDocument;
 import org.optimizationBenchmarking.utils.document.spec.IPlainText;
 import org.optimizationBenchmarking.utils.document.spec.ISectionContainer;
+import org.optimizationBenchmarking.utils.metrics.EMetricsCategory;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
+import org.optimizationBenchmarking.utils.metrics.MetricsSample;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 
 /** a job wrapper */
@@ -14,6 +18,9 @@ final class _JobWrapper extends _PseudoJob {
   /** the actual job to be executed */
   final IEvaluationJob m_job;
 
+  /** the module which created the job, used as key for the metrics */
+  private final Class<? extends IEvaluationModule> m_module;
+
   /**
    * create the pseudo job
    *
@@ -23,14 +30,17 @@ final class _JobWrapper extends _PseudoJob {
    *          the job
    * @param children
    *          the children
+   * @param module
+   *          the module which created the job
    */
   _JobWrapper(final Logger logger, final IEvaluationJob[] children,
-      final IEvaluationJob job) {
+      final IEvaluationJob job, final IEvaluationModule module) {
     super(logger, children);
     if (job == null) {
       throw new IllegalArgumentException("Module must not be null."); //$NON-NLS-1$
     }
     this.m_job = job;
+    this.m_module = module.getClass();
   }
 
   /** {@inheritDoc} */
@@ -43,14 +53,28 @@ final class _JobWrapper extends _PseudoJob {
   /** {@inheritDoc} */
   @Override
   public final void initialize(final IDocument document) {
-    this.m_job.initialize(document);
+    final MetricsSample sample;
+
+    sample = Metrics.begin();
+    try {
+      this.m_job.initialize(document);
+    } finally {
+      Metrics.end(sample, EMetricsCategory.MODULE, this.m_module);
+    }
     super.initialize(document);
   }
 
   /** {@inheritDoc} */
   @Override
   public final void summary(final IPlainText summary) {
-    this.m_job.summary(summary);
+    final MetricsSample sample;
+
+    sample = Metrics.begin();
+    try {
+      this.m_job.summary(summary);
+    } finally {
+      Metrics.end(sample, EMetricsCategory.MODULE, this.m_module);
+    }
     super.summary(summary);
   }
 
@@ -61,11 +85,11 @@ final class _JobWrapper extends _PseudoJob {
     final _DelayedSectionContainer delay;
 
     if (this.m_children == null) {
-      this.m_job.main(dest);
+      this.__main(dest);
     } else {
       delay = new _DelayedSectionContainer(dest);
       try {
-        this.m_job.main(dest);
+        this.__main(dest);
         super.main(delay._getContainerForSubSections());
       } finally {
         delay._close();
@@ -73,6 +97,24 @@ final class _JobWrapper extends _PseudoJob {
     }
   }
 
+  /**
+   * Execute the main part of the wrapped job only, measuring its metrics
+   * exclusive of the children
+   *
+   * @param dest
+   *          the destination section container
+   */
+  private final void __main(final ISectionContainer dest) {
+    final MetricsSample sample;
+
+    sample = Metrics.begin();
+    try {
+      this.m_job.main(dest);
+    } finally {
+      Metrics.end(sample, EMetricsCategory.MODULE, this.m_module);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final String toString() {
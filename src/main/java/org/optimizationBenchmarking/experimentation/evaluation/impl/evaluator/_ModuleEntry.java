@@ -140,7 +140,8 @@ final class _ModuleEntry {
       builder.configure(entry.m_config);
       sub = _ModuleEntry.__makeDescriptionJobs(entry.m_children, data,
           logger);
-      jobs[i] = new _JobWrapper(logger, sub, builder.create());
+      jobs[i] = new _JobWrapper(logger, sub, builder.create(),
+          entry.m_module);
     }
 
     return jobs;
@@ -249,7 +250,8 @@ final class _ModuleEntry {
       builder.configure(entry.m_config);
       sub = _ModuleEntry.__makeExperimentJobs(entry.m_children, data,
           logger);
-      jobs[i] = new _JobWrapper(logger, sub, builder.create());
+      jobs[i] = new _JobWrapper(logger, sub, builder.create(),
+          entry.m_module);
     }
 
     return jobs;
@@ -317,7 +319,8 @@ final class _ModuleEntry {
       builder.configure(entry.m_config);
       sub = _ModuleEntry.__makeExperimentSetJobs(entry.m_children, data,
           logger);
-      jobs[i] = new _JobWrapper(logger, sub, builder.create());
+      jobs[i] = new _JobWrapper(logger, sub, builder.create(),
+          entry.m_module);
     }
 
     return jobs;
@@ -385,7 +388,8 @@ final class _ModuleEntry {
       builder.configure(entry.m_config);
       sub = _ModuleEntry
           .__makeAppendixJobs(entry.m_children, data, logger);
-      jobs[i] = new _JobWrapper(logger, sub, builder.create());
+      jobs[i] = new _JobWrapper(logger, sub, builder.create(),
+          entry.m_module);
     }
 
     return jobs;
@@ -0,0 +1,170 @@
+package org.optimizationBenchmarking.experimentation.io.impl;
+
+import org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimensionSet;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+
+/**
+ * A block of data points decoded from their textual representation into
+ * one column of primitive values per dimension. Input drivers which read
+ * the points of a run one by one from text collect them here and pass
+ * them on in blocks via
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext#addDataPoints(long[][], double[][], int)}
+ * or
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext#runAddDataPoints(long[][], double[][], int)}
+ * , i.e., the run context is locked only once per block and the order of
+ * the points is validated in one pass over each column. The text of a
+ * point is split into values like in
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.ref.DataFactory#parseCharSequence(CharSequence)}
+ * : The values are separated by white space or commas, the point may be
+ * enclosed in brackets, and values beyond the number of dimensions are
+ * ignored.
+ */
+public final class DataPointBlock {
+
+  /** the number of rows in a block of data points */
+  private static final int BLOCK_SIZE = 1024;
+
+  /** which dimensions are floating point dimensions? */
+  private final boolean[] m_isFloat;
+
+  /** the columns of the integer dimensions */
+  private final long[][] m_longColumns;
+
+  /** the columns of the floating point dimensions */
+  private final double[][] m_doubleColumns;
+
+  /** the number of rows in the current block */
+  private int m_count;
+
+  /**
+   * Create the data point block
+   *
+   * @param dimensions
+   *          the dimension set
+   */
+  public DataPointBlock(final IDimensionSet dimensions) {
+    super();
+
+    final ArrayListView<? extends IDimension> dims;
+    final int size;
+    int index;
+
+    if (dimensions == null) {
+      throw new IllegalArgumentException(//
+          "Dimension set must not be null."); //$NON-NLS-1$
+    }
+
+    dims = dimensions.getData();
+    size = dims.size();
+    this.m_isFloat = new boolean[size];
+    this.m_longColumns = new long[size][];
+    this.m_doubleColumns = new double[size][];
+    for (index = 0; index < size; index++) {
+      if (dims.get(index).getDataType().isFloat()) {
+        this.m_isFloat[index] = true;
+        this.m_doubleColumns[index] = new double[DataPointBlock.BLOCK_SIZE];
+      } else {
+        this.m_longColumns[index] = new long[DataPointBlock.BLOCK_SIZE];
+      }
+    }
+  }
+
+  /**
+   * Decode the textual representation of a data point and append it to
+   * this block.
+   *
+   * @param chars
+   *          the text of the data point
+   * @return {@code true} if the block is full and must be flushed before
+   *         the next point is added, {@code false} otherwise
+   */
+  public final boolean add(final CharSequence chars) {
+    final int length, row;
+    int column, start, end;
+    char ch;
+
+    row = this.m_count;
+    end = 0;
+
+    try {
+      length = chars.length();
+      for (column = 0; column < this.m_isFloat.length; column++) {
+        start = end;
+        while ((start < length)
+            && (((ch = chars.charAt(start)) <= ' ') || (ch == ','))) {
+          start++;
+        }
+        if ((column <= 0) && (start < length)
+            && (chars.charAt(start) == '[')) {
+          start++;
+        }
+        end = start;
+        while ((end < length)
+            && (((ch = chars.charAt(end)) > ' ') && (ch != ','))) {
+          end++;
+        }
+        if ((end > start) && (chars.charAt(end - 1) == ']')) {
+          end--;
+        }
+        if (end <= start) {
+          throw new IllegalArgumentException(((//
+              "A data point must have at least " + this.m_isFloat.length) + //$NON-NLS-1$
+              " values, but only " + column) + //$NON-NLS-1$
+              " were found."); //$NON-NLS-1$
+        }
+
+        if (this.m_isFloat[column]) {
+          this.m_doubleColumns[column][row] = LooseDoubleParser.INSTANCE
+              .parseDouble(chars, start, (end - start));
+        } else {
+          this.m_longColumns[column][row] = LooseLongParser.INSTANCE
+              .parseLong(chars, start, (end - start));
+        }
+      }
+    } catch (final Throwable error) {
+      throw new IllegalArgumentException("The string '" + chars //$NON-NLS-1$
+          + "' does not represent a valid data point.", error);//$NON-NLS-1$
+    }
+
+    return ((this.m_count = (row + 1)) >= DataPointBlock.BLOCK_SIZE);
+  }
+
+  /**
+   * Pass the data points in this block to a run and clear the block
+   *
+   * @param run
+   *          the run context
+   */
+  public final void flush(final RunContext run) {
+    final int count;
+
+    count = this.m_count;
+    if (count > 0) {
+      this.m_count = 0;
+      run.addDataPoints(this.m_longColumns, this.m_doubleColumns, count);
+    }
+  }
+
+  /**
+   * Pass the data points in this block to the current run of a flat
+   * experiment set context and clear the block
+   *
+   * @param context
+   *          the flat experiment set context
+   */
+  public final void flush(final AbstractFlatExperimentSetContext context) {
+    final int count;
+
+    count = this.m_count;
+    if (count > 0) {
+      this.m_count = 0;
+      context.runAddDataPoints(this.m_longColumns, this.m_doubleColumns,
+          count);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.util.LinkedHashSet;
 import org.optimizationBenchmarking.experimentation.io.impl.bbob.BBOBInput;
 import org.optimizationBenchmarking.experimentation.io.impl.csvedi.CSVEDIInput;
 import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIInput;
+import org.optimizationBenchmarking.experimentation.io.impl.edi.StAXEDIInput;
 import org.optimizationBenchmarking.experimentation.io.impl.tspSuite.TSPSuiteInput;
 import org.optimizationBenchmarking.experimentation.io.spec.IExperimentSetInput;
 import org.optimizationBenchmarking.utils.parsers.InstanceParser;
@@ -52,6 +53,18 @@ public final class ExperimentSetInputParser extends
       return EDIInput.getInstance();
     }
 
+    if ("staxedi".equalsIgnoreCase(string) || //$NON-NLS-1$
+        "stax edi".equalsIgnoreCase(string) || //$NON-NLS-1$
+        "stax-edi".equalsIgnoreCase(string)) { //$NON-NLS-1$
+      return StAXEDIInput.getInstance();
+    }
+
+    if ("validating staxedi".equalsIgnoreCase(string) || //$NON-NLS-1$
+        "validating stax edi".equalsIgnoreCase(string) || //$NON-NLS-1$
+        "validating stax-edi".equalsIgnoreCase(string)) { //$NON-NLS-1$
+      return StAXEDIInput.getValidatingInstance();
+    }
+
     if ("csvedi".equalsIgnoreCase(string) || //$NON-NLS-1$
         "csv edi".equalsIgnoreCase(string) || //$NON-NLS-1$
         "csv-edi".equalsIgnoreCase(string) || //$NON-NLS-1$
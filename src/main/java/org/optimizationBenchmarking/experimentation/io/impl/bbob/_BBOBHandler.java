@@ -158,8 +158,8 @@ final class _BBOBHandler implements Comparator<Number[]> {
                       "Found job point, but not run begin in " + f); //$NON-NLS-1$
                 }
 
-                d = LooseDoubleParser.INSTANCE.parseDouble(s.substring(
-                    start2, end2));
+                d = LooseDoubleParser.INSTANCE.parseDouble(s, start2,
+                    (end2 - start2));
                 if (d < -1e-12d) {
                   throw new IllegalArgumentException(
                       "value " + d + //$NON-NLS-1$
@@ -177,7 +177,7 @@ final class _BBOBHandler implements Comparator<Number[]> {
                   d = 0d;
                 }
                 current.add(new Number[] {
-                    LooseIntParser.INSTANCE.parseString(s.substring(0,
+                    Integer.valueOf(LooseIntParser.INSTANCE.parseInt(s, 0,
                         end1)),//
                         Double.valueOf(d) });
               } else {
@@ -210,7 +210,9 @@ final class _BBOBHandler implements Comparator<Number[]> {
     final ArrayList<ArrayList<Number[]>> list;
     ArrayList<Number[]> run;
     Number[][] nums;
-    int i, s;
+    long[] fes;
+    double[] fs;
+    int i, s, count;
     Number[] lastN;
     Integer lastI, curI;
     Double lastD, curD;
@@ -241,6 +243,9 @@ final class _BBOBHandler implements Comparator<Number[]> {
           lastD = null;
           lastI = null;
           lastN = null;
+          fes = new long[s];
+          fs = new double[s];
+          count = 0;
           try (final RunContext rc = ic.createRun()) {
 
             for (final Number[] point : nums) {
@@ -249,7 +254,8 @@ final class _BBOBHandler implements Comparator<Number[]> {
               lastN = null;
               if (((lastI == null) || (curI.compareTo(lastI) > 0))) {
                 if (((lastD == null) || (curD.compareTo(lastD) < 0))) {
-                  rc.addDataPoint(point);
+                  fes[count] = curI.longValue();
+                  fs[count++] = curD.doubleValue();
                 } else {
                   lastN = point;
                 }
@@ -259,8 +265,12 @@ final class _BBOBHandler implements Comparator<Number[]> {
             }
 
             if (lastN != null) {
-              rc.addDataPoint(lastN);
+              fes[count] = lastN[0].longValue();
+              fs[count++] = lastN[1].doubleValue();
             }
+
+            rc.addDataPoints(new long[][] { fes, null },//
+                new double[][] { null, fs }, count);
           }
         }
       }
@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.CharBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -13,6 +14,7 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
 import org.optimizationBenchmarking.experimentation.data.impl.ref.Instance;
+import org.optimizationBenchmarking.experimentation.io.impl.DataPointBlock;
 import org.optimizationBenchmarking.experimentation.io.impl.edi.EDI;
 import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIInputToolBase;
 import org.optimizationBenchmarking.experimentation.io.spec.IExperimentSetInput;
@@ -414,7 +416,8 @@ public final class CSVEDIInput extends
   }
 
   /**
-   * Process a file as CSV file
+   * Process a file as CSV file: its data points are passed to the run in
+   * blocks
    *
    * @param job
    *          the job
@@ -427,8 +430,9 @@ public final class CSVEDIInput extends
    */
   private final void __csv(final _CSVEDIContext job, final Path path,
       final StreamEncoding<?, ?> encoding) throws Throwable {
+    final DataPointBlock block;
     String line;
-    int idx;
+    int idx, start, end;
 
     try (final InputStream is = PathUtils.openInputStream(path)) {
 
@@ -440,28 +444,36 @@ public final class CSVEDIInput extends
         ? ((BufferedReader) ir)//
             : new BufferedReader(ir))) {
           job.runBegin(true);
+          block = new DataPointBlock(job.getDimensionSet());
 
           while ((line = br.readLine()) != null) {
-            line = TextUtils.prepare(line);
-            if (line == null) {
-              continue;
-            }
-
+            end = line.length();
             for (final String comment : CSVEDIInput.COMMENTS) {
               idx = line.indexOf(comment);
-              if (idx >= 0) {
-                line = line.substring(0, idx);
+              if ((idx >= 0) && (idx < end)) {
+                end = idx;
               }
             }
 
-            line = TextUtils.prepare(line);
-            if (line == null) {
+            for (start = 0; start < end; start++) {
+              if (line.charAt(start) > ' ') {
+                break;
+              }
+            }
+            if (start >= end) {
               continue;
             }
 
-            job.runAddDataPoint(line);
+            // the data point is parsed directly from the line, without
+            // creating trimmed or truncated copies of it
+            if (block.add((end < line.length())//
+            ? CharBuffer.wrap(line, start, end)//
+                : ((CharSequence) line))) {
+              block.flush(job);
+            }
           }
 
+          block.flush(job);
           job.runEnd();
         }
       }
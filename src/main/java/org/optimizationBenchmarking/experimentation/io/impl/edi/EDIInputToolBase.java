@@ -1,5 +1,6 @@
 package org.optimizationBenchmarking.experimentation.io.impl.edi;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 
@@ -153,6 +154,22 @@ public abstract class EDIInputToolBase<T> extends XMLInputTool<T> {
     super.after(job, data);
   }
 
+  /**
+   * Get the XML Schema for EDI.
+   *
+   * @return the XML Schema for EDI
+   * @throws IOException
+   *           if the schema could not be loaded
+   */
+  static final Schema _getSchema() throws IOException {
+    if (__SchemaLoader.SCHEMA == null) {
+      throw new IOException(//
+          "Error while loading XML Schema for Experiment Data Interchange (EDI).",//$NON-NLS-1$
+          __SchemaLoader.ERROR);
+    }
+    return __SchemaLoader.SCHEMA;
+  }
+
   /** the schema */
   private static final class __SchemaLoader {
     /** the schema */
@@ -689,9 +689,9 @@ public final class EDIOutput extends XMLOutputTool<Object> implements
                   } else {
                     try (final XMLElement valueXML = pointXML.element()) {
                       valueXML.name(EDI.NAMESPACE_URI, EDI.ELEMENT_FLOAT);
-                      valueXML.textRaw().append(
-                          XMLNumberAppender.INSTANCE.toString(
-                              point.getDouble(i), ETextCase.IN_SENTENCE));
+                      XMLNumberAppender.INSTANCE.appendTo(
+                          point.getDouble(i), ETextCase.IN_SENTENCE,
+                          valueXML.textRaw());
 
                     }
                   }
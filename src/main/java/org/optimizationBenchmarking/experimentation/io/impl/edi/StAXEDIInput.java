@@ -0,0 +1,196 @@
+package org.optimizationBenchmarking.experimentation.io.impl.edi;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+
+import org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.io.spec.IExperimentSetInput;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.text.TextUtils;
+
+/**
+ * A driver for Experiment Data Interchange (EDI) input based on a StAX
+ * pull parser instead of SAX. It produces the same experiment data as
+ * {@link EDIInput}, but decodes the values of data points directly from
+ * the parser's character buffer into primitive columns, which are then
+ * added to the runs in blocks. The {@link #getInstance() default instance}
+ * does not validate its input, the
+ * {@link #getValidatingInstance() validating instance} checks files
+ * against the EDI XML Schema before reading them and falls back to the
+ * validating SAX-based processing of {@link EDIInput} for streams and
+ * readers.
+ */
+public final class StAXEDIInput extends
+    EDIInputToolBase<ExperimentSetContext> implements IExperimentSetInput {
+
+  /** the StAX input factory */
+  private final XMLInputFactory m_xif;
+
+  /** the cause why this tool cannot be used */
+  private final Throwable m_cause;
+
+  /** should the input be validated against the schema? */
+  private final boolean m_validate;
+
+  /**
+   * create
+   *
+   * @param validate
+   *          should the input be validated against the schema?
+   */
+  StAXEDIInput(final boolean validate) {
+    super();
+
+    XMLInputFactory xif;
+    Throwable cause;
+
+    xif = null;
+    cause = null;
+    try {
+      xif = XMLInputFactory.newInstance();
+      xif.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+      xif.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+      xif.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    } catch (final Throwable thrower) {
+      cause = thrower;
+      xif = null;
+    }
+
+    this.m_cause = cause;
+    this.m_xif = xif;
+    this.m_validate = validate;
+  }
+
+  /**
+   * Read the data from a StAX reader
+   *
+   * @param job
+   *          the job
+   * @param reader
+   *          the reader
+   * @throws Throwable
+   *           if I/O fails
+   */
+  private final void __read(final IOJob job, final XMLStreamReader reader)
+      throws Throwable {
+    try {
+      new _EDIStreamReader(
+          ((AbstractFlatExperimentSetContext) (job.getToken())), job)
+          ._read(reader);
+    } finally {
+      reader.close();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void reader(final IOJob job,
+      final ExperimentSetContext data, final BufferedReader reader)
+      throws Throwable {
+    if (this.m_validate) {
+      super.reader(job, data, reader);
+    } else {
+      this.__read(job, this.m_xif.createXMLStreamReader(reader));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void stream(final IOJob job,
+      final ExperimentSetContext data, final InputStream stream,
+      final StreamEncoding<?, ?> encoding) throws Throwable {
+    if (this.m_validate) {
+      super.stream(job, data, stream, encoding);
+    } else {
+      this.__read(job, this.m_xif.createXMLStreamReader(stream));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void file(final IOJob job,
+      final ExperimentSetContext data, final Path path,
+      final BasicFileAttributes attributes,
+      final StreamEncoding<?, ?> encoding) throws Throwable {
+    final String systemID;
+
+    systemID = path.toUri().toString();
+    if (this.m_validate) {
+      try (final InputStream input = PathUtils.openInputStream(path)) {
+        EDIInputToolBase._getSchema().newValidator()
+            .validate(new StreamSource(input, systemID));
+      }
+    }
+
+    try (final InputStream input = PathUtils.openInputStream(path)) {
+      this.__read(job, this.m_xif.createXMLStreamReader(systemID, input));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean canUse() {
+    return ((this.m_xif != null) && (this.m_cause == null) && super
+        .canUse());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void checkCanUse() {
+    if (this.m_cause != null) {
+      throw new UnsupportedOperationException(//
+          "Cannot use tool '" + //$NON-NLS-1$
+              TextUtils.className(this.getClass())
+              + " due to error in StAX parser initialization.",//$NON-NLS-1$
+          this.m_cause);
+    }
+    super.checkCanUse();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return (this.m_validate ? //
+    "Validating StAX EDI Experiment Data Input" : //$NON-NLS-1$
+        "StAX EDI Experiment Data Input"); //$NON-NLS-1$
+  }
+
+  /**
+   * get the non-validating instance of the {@link StAXEDIInput}
+   *
+   * @return the non-validating instance of the {@link StAXEDIInput}
+   */
+  public static final StAXEDIInput getInstance() {
+    return __StAXEDIInputLoader.INSTANCE;
+  }
+
+  /**
+   * get the validating instance of the {@link StAXEDIInput}
+   *
+   * @return the validating instance of the {@link StAXEDIInput}
+   */
+  public static final StAXEDIInput getValidatingInstance() {
+    return __ValidatingStAXEDIInputLoader.INSTANCE;
+  }
+
+  /** the loader */
+  private static final class __StAXEDIInputLoader {
+    /** create */
+    static final StAXEDIInput INSTANCE = new StAXEDIInput(false);
+  }
+
+  /** the loader of the validating instance */
+  private static final class __ValidatingStAXEDIInputLoader {
+    /** create */
+    static final StAXEDIInput INSTANCE = new StAXEDIInput(true);
+  }
+}
@@ -4,6 +4,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.io.impl.DataPointBlock;
 import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
 import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOTool;
 import org.optimizationBenchmarking.utils.io.xml.DelegatingHandler;
@@ -17,7 +18,15 @@ import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
-/** the internal content handler for EDI */
+/**
+ * The internal content handler for EDI. The data points of a run are
+ * passed on in blocks via
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext#runAddDataPoints(long[][], double[][], int)}
+ * . If the context cannot provide the dimension set, each point is passed
+ * on via
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext#runAddDataPoint(CharSequence)}
+ * instead.
+ */
 final class _EDIContentHandler extends DelegatingHandler {
 
   /** the hierarchical fsm stack */
@@ -29,6 +38,15 @@ final class _EDIContentHandler extends DelegatingHandler {
   /** are we inside a point */
   private int m_inPoint;
 
+  /** have we already tried to create the block of data points? */
+  private boolean m_hasBlock;
+
+  /**
+   * the block of data points, or {@code null} if the dimension set is
+   * not known
+   */
+  private DataPointBlock m_block;
+
   /** the job */
   private final IOJob m_job;
   /** the logger */
@@ -293,9 +311,44 @@ final class _EDIContentHandler extends DelegatingHandler {
 
   /** end the run */
   private final void __endRun() {
+    if (this.m_block != null) {
+      this.m_block.flush(this.m_context);
+    }
     this.m_context.runEnd();
   }
 
+  /**
+   * Create the block of data points. If the context does not provide its
+   * dimension set, the points will be passed on one by one.
+   */
+  private final void __allocateBlock() {
+    this.m_hasBlock = true;
+    try {
+      this.m_block = new DataPointBlock(this.m_context.getDimensionSet());
+    } catch (@SuppressWarnings("unused") final UnsupportedOperationException unsupported) {
+      this.m_block = null;
+    }
+  }
+
+  /**
+   * Add a data point
+   *
+   * @param chars
+   *          the text of the data point
+   */
+  private final void __addPoint(final CharSequence chars) {
+    if (!(this.m_hasBlock)) {
+      this.__allocateBlock();
+    }
+    if (this.m_block == null) {
+      this.m_context.runAddDataPoint(chars);
+    } else {
+      if (this.m_block.add(chars)) {
+        this.m_block.flush(this.m_context);
+      }
+    }
+  }
+
   /** start a point */
   private final void __startPoint() {
     if ((this.m_inPoint++) == 0) {
@@ -303,11 +356,35 @@ final class _EDIContentHandler extends DelegatingHandler {
     }
   }
 
+  /**
+   * Check whether a character sequence consists only of ASCII characters
+   *
+   * @param chars
+   *          the character sequence
+   * @return {@code true} if all characters are ASCII characters,
+   *         {@code false} otherwise
+   */
+  private static final boolean __isASCII(final CharSequence chars) {
+    int index;
+
+    for (index = chars.length(); (--index) >= 0;) {
+      if (chars.charAt(index) > 0x7f) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /** end the point */
   private final void __endPoint() {
     try {
-      this.m_context.runAddDataPoint(TextUtils.normalize(//
-          this.m_sb.toString()));
+      // points consisting only of ASCII characters do not need to be
+      // normalized, so we can parse them directly from the buffer
+      if (_EDIContentHandler.__isASCII(this.m_sb)) {
+        this.__addPoint(this.m_sb);
+      } else {
+        this.__addPoint(TextUtils.normalize(this.m_sb.toString()));
+      }
     } finally {
       this.m_sb.clear();
     }
@@ -0,0 +1,647 @@
+package org.optimizationBenchmarking.experimentation.io.impl.edi;
+
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOTool;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+import org.optimizationBenchmarking.utils.parsers.NumberParser;
+import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
+import org.optimizationBenchmarking.utils.text.TextUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * The internal pull-parser based reader for EDI. It processes the same
+ * elements as {@link _EDIContentHandler}, but data points are decoded
+ * directly from the character buffer of the
+ * {@link javax.xml.stream.XMLStreamReader}: Each value of a point is
+ * parsed into a column of primitive values and the columns are passed to
+ * the run in blocks via
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext#runAddDataPoints(long[][], double[][], int)}
+ * . If the context cannot provide the dimension set, the text of each
+ * point is collected and passed on via
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.flat.AbstractFlatExperimentSetContext#runAddDataPoint(String)}
+ * instead.
+ */
+final class _EDIStreamReader {
+
+  /** the number of rows in a block of data points */
+  private static final int BLOCK_SIZE = 1024;
+
+  /** the hierarchical fsm stack */
+  private final AbstractFlatExperimentSetContext m_context;
+
+  /** the internal string builder */
+  private final MemoryTextOutput m_sb;
+
+  /** the logger */
+  private final Logger m_logger;
+
+  /** have we already tried to obtain the dimension types? */
+  private boolean m_hasTypes;
+
+  /**
+   * which dimensions are floating point dimensions? {@code null} if the
+   * dimension types are not known
+   */
+  private boolean[] m_isFloat;
+
+  /** the columns of the integer dimensions */
+  private long[][] m_longColumns;
+
+  /** the columns of the floating point dimensions */
+  private double[][] m_doubleColumns;
+
+  /** the number of rows in the current block */
+  private int m_count;
+
+  /** the index of the next value of the current point */
+  private int m_column;
+
+  /**
+   * did the last character chunk end in the middle of a value?
+   */
+  private boolean m_inValue;
+
+  /**
+   * create
+   *
+   * @param esb
+   *          the experiment set builder
+   * @param job
+   *          the job
+   */
+  _EDIStreamReader(final AbstractFlatExperimentSetContext esb,
+      final IOJob job) {
+    super();
+    this.m_context = esb;
+    this.m_sb = new MemoryTextOutput();
+    this.m_logger = job.getLogger();
+  }
+
+  /**
+   * Check whether a namespace URI is the EDI namespace.
+   *
+   * @param uri
+   *          the uri
+   * @return {@code true} if the element belongs to EDI
+   */
+  private static final boolean __isEDI(final String uri) {
+    return ((uri == null) || EDI.NAMESPACE.equalsIgnoreCase(uri));
+  }
+
+  /**
+   * Get the value of a given attribute like
+   * {@link org.optimizationBenchmarking.utils.io.xml.DelegatingHandler#getAttributeNormalized(org.xml.sax.Attributes, String, String)}
+   * .
+   *
+   * @param reader
+   *          the reader positioned at a start element
+   * @param name
+   *          the attribute name
+   * @return the value, or {@code null} if the value has not been specified
+   *         or was empty
+   */
+  private static final String __attribute(final XMLStreamReader reader,
+      final String name) {
+    String a;
+
+    a = reader.getAttributeValue(EDI.NAMESPACE, name);
+    if (a == null) {
+      a = reader.getAttributeValue(null, name);
+      if (a == null) {
+        return null;
+      }
+    }
+    return TextUtils.normalize(a);
+  }
+
+  /**
+   * start the bounds element
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startBounds(final XMLStreamReader reader) {
+    final String dim;
+    String lb, ub;
+
+    dim = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_DIMENSION);
+    if (dim != null) {
+
+      lb = _EDIStreamReader.__attribute(reader,
+          EDI.ATTRIBUTE_FLOAT_LOWER_BOUND);
+      if (lb == null) {
+        lb = _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_INTEGER_LOWER_BOUND);
+      }
+
+      ub = _EDIStreamReader.__attribute(reader,
+          EDI.ATTRIBUTE_FLOAT_UPPER_BOUND);
+      if (ub == null) {
+        ub = _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_INTEGER_UPPER_BOUND);
+      }
+
+      if (lb != null) {
+        this.m_context.instanceSetLowerBound(dim, lb);
+      }
+      if (ub != null) {
+        this.m_context.instanceSetUpperBound(dim, ub);
+      }
+    }
+  }
+
+  /**
+   * start the dimension
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startDimension(final XMLStreamReader reader) {
+    EPrimitiveType pt;
+    String s;
+    final Number lb, ub;
+
+    this.m_context.dimensionBegin(true);
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_NAME);
+    this.m_context.dimensionSetName(s);
+
+    if ((this.m_logger != null) && //
+        (this.m_logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      this.m_logger.log(IOTool.FINE_LOG_LEVEL,
+          ("Begin of dimension '" + s + '\'')); //$NON-NLS-1$
+    }
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_DESCRIPTION);
+    if (s != null) {
+      this.m_context.dimensionSetDescription(s);
+    }
+
+    this.m_context.dimensionSetType(EDI._parseDimensionType(//
+        _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_DIMENSION_TYPE)));
+
+    this.m_context.dimensionSetDirection(EDI._parseDimensionDirection(//
+        _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_DIMENSION_DIRECTION)));
+
+    pt = EDI._parseDataType(_EDIStreamReader.__attribute(reader,
+        EDI.ATTRIBUTE_DIMENSION_DATA_TYPE));
+
+    s = _EDIStreamReader.__attribute(reader,
+        EDI.ATTRIBUTE_INTEGER_LOWER_BOUND);
+    if (s != null) {
+      lb = LooseLongParser.INSTANCE.parseString(s);
+    } else {
+      s = _EDIStreamReader.__attribute(reader,
+          EDI.ATTRIBUTE_FLOAT_LOWER_BOUND);
+      if (s != null) {
+        lb = LooseDoubleParser.INSTANCE.parseString(s);
+      } else {
+        lb = null;
+      }
+    }
+
+    s = _EDIStreamReader.__attribute(reader,
+        EDI.ATTRIBUTE_INTEGER_UPPER_BOUND);
+    if (s != null) {
+      ub = LooseLongParser.INSTANCE.parseString(s);
+    } else {
+      s = _EDIStreamReader.__attribute(reader,
+          EDI.ATTRIBUTE_FLOAT_UPPER_BOUND);
+      if (s != null) {
+        ub = LooseDoubleParser.INSTANCE.parseString(s);
+      } else {
+        ub = null;
+      }
+    }
+
+    this.m_context.dimensionSetParser(NumberParser.createNumberParser(pt,
+        lb, ub));
+  }
+
+  /**
+   * start the experiment
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startExperiment(final XMLStreamReader reader) {
+    String s;
+
+    this.m_context.experimentBegin(true);
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_NAME);
+    this.m_context.experimentSetName(s);
+
+    if ((this.m_logger != null) && //
+        (this.m_logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      this.m_logger.log(IOTool.FINE_LOG_LEVEL,
+          ("Begin of experiment '" + s + '\'')); //$NON-NLS-1$
+    }
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_DESCRIPTION);
+    if (s != null) {
+      this.m_context.experimentSetDescription(s);
+    }
+  }
+
+  /**
+   * start the feature
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startFeature(final XMLStreamReader reader) {
+    this.m_context.instanceSetFeatureValue(//
+        _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_NAME),//
+        _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_FEATURE_DESCRIPTION),//
+        _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_FEATURE_VALUE),//
+        _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_FEATURE_VALUE_DESCRIPTION));
+  }
+
+  /**
+   * start the instance
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startInstance(final XMLStreamReader reader) {
+    String s;
+
+    this.m_context.instanceBegin(true);
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_NAME);
+    this.m_context.instanceSetName(s);
+
+    if ((this.m_logger != null) && //
+        (this.m_logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      this.m_logger.log(IOTool.FINE_LOG_LEVEL,
+          ("Begin of instance '" + s + '\'')); //$NON-NLS-1$
+    }
+
+    s = _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_DESCRIPTION);
+    if (s != null) {
+      this.m_context.instanceSetDescription(s);
+    }
+  }
+
+  /**
+   * start the instance runs
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startInstanceRuns(final XMLStreamReader reader) {
+    this.m_context.runsBegin(true);
+    this.m_context.runsSetInstance(_EDIStreamReader.__attribute(reader,
+        EDI.ATTRIBUTE_INSTANCE));
+  }
+
+  /**
+   * start the parameter
+   *
+   * @param reader
+   *          the reader
+   */
+  private final void __startParameter(final XMLStreamReader reader) {
+    this.m_context.experimentSetParameterValue(//
+        _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_NAME),//
+        _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_PARAMETER_DESCRIPTION),//
+        _EDIStreamReader.__attribute(reader, EDI.ATTRIBUTE_PARAMETER_VALUE),//
+        _EDIStreamReader.__attribute(reader,
+            EDI.ATTRIBUTE_PARAMETER_VALUE_DESCRIPTION));
+  }
+
+  /** start a run */
+  private final void __startRun() {
+    this.m_context.runBegin(true);
+  }
+
+  /** end the run */
+  private final void __endRun() {
+    this.__flush();
+    this.m_context.runEnd();
+  }
+
+  /**
+   * Obtain the types of the dimensions and allocate the columns. If the
+   * context does not provide its dimension set, the points will be
+   * processed as text.
+   */
+  private final void __allocateColumns() {
+    final ArrayListView<? extends IDimension> dims;
+    final int size;
+    int index;
+
+    this.m_hasTypes = true;
+    try {
+      dims = this.m_context.getDimensionSet().getData();
+    } catch (@SuppressWarnings("unused") final UnsupportedOperationException unsupported) {
+      return;
+    }
+
+    size = dims.size();
+    this.m_isFloat = new boolean[size];
+    this.m_longColumns = new long[size][];
+    this.m_doubleColumns = new double[size][];
+    for (index = 0; index < size; index++) {
+      if (dims.get(index).getDataType().isFloat()) {
+        this.m_isFloat[index] = true;
+        this.m_doubleColumns[index] = new double[_EDIStreamReader.BLOCK_SIZE];
+      } else {
+        this.m_longColumns[index] = new long[_EDIStreamReader.BLOCK_SIZE];
+      }
+    }
+  }
+
+  /** pass the current block of data points to the run */
+  private final void __flush() {
+    final int count;
+
+    count = this.m_count;
+    if (count > 0) {
+      this.m_count = 0;
+      this.m_context.runAddDataPoints(this.m_longColumns,
+          this.m_doubleColumns, count);
+    }
+  }
+
+  /**
+   * Decode a value of the current data point and store it in its column.
+   *
+   * @param chars
+   *          the character buffer
+   * @param offset
+   *          the index of the first character of the value
+   * @param length
+   *          the number of characters of the value
+   */
+  private final void __value(final char[] chars, final int offset,
+      final int length) {
+    final int column;
+
+    column = (this.m_column++);
+    if (column >= this.m_isFloat.length) {
+      throw new IllegalArgumentException(//
+          "A data point must not have more than " + //$NON-NLS-1$
+              this.m_isFloat.length + " values.");//$NON-NLS-1$
+    }
+
+    if (this.m_isFloat[column]) {
+      this.m_doubleColumns[column][this.m_count] = LooseDoubleParser.INSTANCE
+          .parseDouble(chars, offset, length);
+    } else {
+      this.m_longColumns[column][this.m_count] = LooseLongParser.INSTANCE
+          .parseLong(chars, offset, length);
+    }
+  }
+
+  /**
+   * Decode a chunk of text inside a data point: Each whitespace-separated
+   * token is a value.
+   *
+   * @param chars
+   *          the character buffer of the reader
+   * @param start
+   *          the start index of the chunk
+   * @param length
+   *          the length of the chunk
+   */
+  private final void __valueChars(final char[] chars, final int start,
+      final int length) {
+    final int end;
+    int index, tokenStart;
+
+    end = (start + length);
+    index = start;
+    while (index < end) {
+      if (chars[index] <= ' ') {
+        index++;
+        continue;
+      }
+      if ((index == start) && this.m_inValue) {
+        throw new IllegalArgumentException(//
+            "A value of a data point must not be interrupted by markup, such as a comment."); //$NON-NLS-1$
+      }
+      tokenStart = index;
+      do {
+        index++;
+      } while ((index < end) && (chars[index] > ' '));
+      this.__value(chars, tokenStart, (index - tokenStart));
+    }
+
+    this.m_inValue = ((end > start) && (chars[end - 1] > ' '));
+  }
+
+  /** end the point */
+  private final void __endPoint() {
+    if (this.m_isFloat == null) {
+      try {
+        this.m_context.runAddDataPoint(this.m_sb.toString());
+      } finally {
+        this.m_sb.clear();
+      }
+      return;
+    }
+
+    if (this.m_column != this.m_isFloat.length) {
+      throw new IllegalArgumentException(((//
+          "A data point must have exactly " + this.m_isFloat.length) + //$NON-NLS-1$
+          " values, but " + this.m_column) + //$NON-NLS-1$
+          " were found."); //$NON-NLS-1$
+    }
+    if ((++this.m_count) >= _EDIStreamReader.BLOCK_SIZE) {
+      this.__flush();
+    }
+  }
+
+  /**
+   * Read a data point. The reader is positioned at the start element of
+   * the point and will be positioned at its end element when this method
+   * returns.
+   *
+   * @param reader
+   *          the reader
+   * @throws XMLStreamException
+   *           if the XML is malformed
+   */
+  private final void __point(final XMLStreamReader reader)
+      throws XMLStreamException {
+    int depth;
+
+    if (!(this.m_hasTypes)) {
+      this.__allocateColumns();
+    }
+
+    this.m_column = 0;
+    this.m_inValue = false;
+    depth = 1;
+    for (;;) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT: {
+          depth++;
+          this.m_inValue = false;
+          if ((this.m_isFloat == null) && (this.m_sb.length() > 0)) {
+            this.m_sb.append(' ');
+          }
+          break;
+        }
+
+        case XMLStreamConstants.END_ELEMENT: {
+          this.m_inValue = false;
+          if ((--depth) <= 0) {
+            this.__endPoint();
+            return;
+          }
+          break;
+        }
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE: {
+          if (this.m_isFloat == null) {
+            this.m_sb.append(reader.getTextCharacters(),
+                reader.getTextStart(),
+                (reader.getTextStart() + reader.getTextLength()));
+          } else {
+            this.__valueChars(reader.getTextCharacters(),
+                reader.getTextStart(), reader.getTextLength());
+          }
+          break;
+        }
+
+        default: {
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Process a start element.
+   *
+   * @param reader
+   *          the reader
+   * @throws XMLStreamException
+   *           if the XML is malformed
+   */
+  private final void __startElement(final XMLStreamReader reader)
+      throws XMLStreamException {
+    final String localName;
+
+    if (!(_EDIStreamReader.__isEDI(reader.getNamespaceURI()))) {
+      return;
+    }
+    localName = reader.getLocalName();
+
+    if (EDI.ELEMENT_POINT.equalsIgnoreCase(localName)) {
+      this.__point(reader);
+      return;
+    }
+
+    if (((this.m_logger != null) && //
+    (this.m_logger.isLoggable(IOTool.FINER_LOG_LEVEL)))) {
+      this.m_logger.log(IOTool.FINER_LOG_LEVEL, ("Start of element <" + //$NON-NLS-1$
+          reader.getNamespaceURI() + ':' + localName + '>'));
+    }
+
+    if (EDI.ELEMENT_RUN.equalsIgnoreCase(localName)) {
+      this.__startRun();
+      return;
+    }
+    if (EDI.ELEMENT_BOUNDS.equalsIgnoreCase(localName)) {
+      this.__startBounds(reader);
+      return;
+    }
+    if (EDI.ELEMENT_DIMENSION.equalsIgnoreCase(localName)) {
+      this.__startDimension(reader);
+      return;
+    }
+    if (EDI.ELEMENT_EXPERIMENT.equalsIgnoreCase(localName)) {
+      this.__startExperiment(reader);
+      return;
+    }
+    if (EDI.ELEMENT_FEATURE.equalsIgnoreCase(localName)) {
+      this.__startFeature(reader);
+      return;
+    }
+    if (EDI.ELEMENT_INSTANCE.equalsIgnoreCase(localName)) {
+      this.__startInstance(reader);
+      return;
+    }
+    if (EDI.ELEMENT_INSTANCE_RUNS.equalsIgnoreCase(localName)) {
+      this.__startInstanceRuns(reader);
+      return;
+    }
+    if (EDI.ELEMENT_PARAMETER.equalsIgnoreCase(localName)) {
+      this.__startParameter(reader);
+      return;
+    }
+  }
+
+  /**
+   * Process an end element.
+   *
+   * @param reader
+   *          the reader
+   * @return {@code true} if the end of the experiment data has been
+   *         reached, {@code false} otherwise
+   */
+  private final boolean __endElement(final XMLStreamReader reader) {
+    final String localName;
+
+    if (!(_EDIStreamReader.__isEDI(reader.getNamespaceURI()))) {
+      return false;
+    }
+    localName = reader.getLocalName();
+
+    if (EDI.ELEMENT_RUN.equalsIgnoreCase(localName)) {
+      this.__endRun();
+      return false;
+    }
+
+    return EDI.ELEMENT_EXPERIMENT_DATA.equalsIgnoreCase(localName);
+  }
+
+  /**
+   * Read an EDI document.
+   *
+   * @param reader
+   *          the reader
+   * @throws XMLStreamException
+   *           if the XML is malformed
+   */
+  final void _read(final XMLStreamReader reader) throws XMLStreamException {
+    loop: while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT: {
+          this.__startElement(reader);
+          break;
+        }
+        case XMLStreamConstants.END_ELEMENT: {
+          if (this.__endElement(reader)) {
+            break loop;
+          }
+          break;
+        }
+        default: {
+          break;
+        }
+      }
+    }
+    this.__flush();
+  }
+}
@@ -1,22 +1,30 @@
 package org.optimizationBenchmarking.experimentation.io.impl.tspSuite;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataFactory;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataPoint;
 import org.optimizationBenchmarking.experimentation.data.impl.ref.DimensionContext;
 import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
 import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceContext;
 import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
 import org.optimizationBenchmarking.experimentation.data.spec.EDimensionDirection;
 import org.optimizationBenchmarking.experimentation.data.spec.EDimensionType;
+import org.optimizationBenchmarking.experimentation.io.impl.DataPointBlock;
 import org.optimizationBenchmarking.experimentation.io.spec.IExperimentSetInput;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.encoding.TextEncoding;
 import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool;
 import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
@@ -33,6 +41,21 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
  */
 public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
     implements IExperimentSetInput {
+
+  /**
+   * the system property which, if set to {@code true}, makes the input
+   * load the log data of runs lazily: {@value}. In this case, only the
+   * first and the last log entry of a run are parsed when the file is
+   * read, together with the location of the log data in the file. The
+   * complete log data is read again from the file when it is needed and
+   * may be dropped from memory later. This allows for analyzing
+   * experiments whose data does not fit into memory, but requires that
+   * the files are not changed while the experiment data is in use. Files
+   * in archives and files in character sets where line breaks cannot be
+   * detected on the byte level are always loaded completely.
+   */
+  public static final String LAZY_RUNS_PROPERTY = "org.optimizationBenchmarking.experimentation.io.impl.tspSuite.lazyRuns"; //$NON-NLS-1$
+
   /** the string indicating the begin of a comment: {@value} */
   private static final String COMMENT_START = "//"; //$NON-NLS-1$
   /**
@@ -1557,6 +1580,13 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
     return false;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected boolean canLoadFilesInParallel(final IOJob job,
+      final ExperimentSetContext data) {
+    return true;
+  }
+
   /** {@inheritDoc} */
   @Override
   protected void leaveDirectory(final IOJob job,
@@ -1584,6 +1614,7 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
       final Path path, final BasicFileAttributes attributes,
       final StreamEncoding<?, ?> encoding) throws Throwable {
     final Logger logger;
+    final Charset charset;
 
     logger = job.getLogger();
     if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
@@ -1592,16 +1623,25 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
           + path) + '\''));
     }
 
-    try (final InputStream stream = PathUtils.openInputStream(path)) {
-      try (final InputStream input = StreamEncoding.openInputStream(
-          stream, encoding)) {
-        try (final Reader reader = StreamEncoding.openReader(stream,
-            encoding)) {
-          if (reader instanceof BufferedReader) {
-            this.__reader(job, data, path, ((BufferedReader) reader));
-          } else {
-            try (final BufferedReader buffered = new BufferedReader(reader)) {
-              this.__reader(job, data, path, buffered);
+    charset = TSPSuiteInput.__lazyCharset(job, path, encoding);
+    if (charset != null) {
+      try (final _TSPSuiteLineReader reader = new _TSPSuiteLineReader(
+          PathUtils.openInputStream(path), charset, 0L)) {
+        this.__lazyReader(job, data, path, reader, charset);
+      }
+    } else {
+      try (final InputStream stream = PathUtils.openInputStream(path)) {
+        try (final InputStream input = StreamEncoding.openInputStream(
+            stream, encoding)) {
+          try (final Reader reader = StreamEncoding.openReader(stream,
+              encoding)) {
+            if (reader instanceof BufferedReader) {
+              this.__reader(job, data, path, ((BufferedReader) reader));
+            } else {
+              try (final BufferedReader buffered = new BufferedReader(
+                  reader)) {
+                this.__reader(job, data, path, buffered);
+              }
             }
           }
         }
@@ -1614,6 +1654,45 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
     }
   }
 
+  /**
+   * Get the character set to use for loading the runs in a file lazily
+   *
+   * @param job
+   *          the job
+   * @param path
+   *          the path to the file
+   * @param encoding
+   *          the encoding
+   * @return the character set, or {@code null} if the runs should be
+   *         loaded completely
+   */
+  private static final Charset __lazyCharset(final IOJob job,
+      final Path path, final StreamEncoding<?, ?> encoding) {
+    final Charset charset;
+
+    if ((!(__LazyRunsLoader.LAZY_RUNS)) || job.isTemporary()
+        || (path.getFileSystem() != FileSystems.getDefault())) {
+      return null;
+    }
+
+    try {
+      if (encoding instanceof TextEncoding) {
+        charset = Charset.forName(((TextEncoding) encoding).getJavaName());
+      } else {
+        if ((encoding == null) || (encoding == StreamEncoding.TEXT)
+            || (encoding == StreamEncoding.UNKNOWN)) {
+          charset = Charset.defaultCharset();
+        } else {
+          return null;
+        }
+      }
+    } catch (final Throwable error) {
+      return null;
+    }
+
+    return (_TSPSuiteLineReader._isSupported(charset) ? charset : null);
+  }
+
   /**
    * prepare a string for processing
    *
@@ -1640,7 +1719,45 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
   }
 
   /**
-   * load the file data
+   * Check whether a line is a plain data line, i.e., begins with a number
+   * and contains no comment, so that it can be parsed directly and needs
+   * not to be prepared
+   *
+   * @param chars
+   *          the line
+   * @return {@code true} if the line is a plain data line, {@code false}
+   *         otherwise
+   */
+  private static final boolean __isPlainDataLine(final CharSequence chars) {
+    final int length;
+    int index;
+    char ch;
+
+    length = chars.length();
+    for (index = 0; index < length; index++) {
+      if (chars.charAt(index) > ' ') {
+        break;
+      }
+    }
+    if (index >= length) {
+      return false;
+    }
+    ch = chars.charAt(index);
+    if (!(((ch >= '0') && (ch <= '9')) || (ch == '-') || (ch == '+') || //
+    (ch == '.'))) {
+      return false;
+    }
+    for (; index < length; index++) {
+      if (chars.charAt(index) == TSPSuiteInput.COMMENT_START.charAt(0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * load the file data: the log data is passed to the run in blocks of
+   * data points
    *
    * @param job
    *          the job
@@ -1659,12 +1776,14 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
       final BufferedReader reader) throws Throwable {
     String s;
     RunContext run;
+    DataPointBlock block;
     int state, idx;
     _TSPSuiteInputToken token;
 
     token = ((_TSPSuiteInputToken) (job.getToken()));
 
     run = null;
+    block = null;
     state = 0;
 
     while ((s = reader.readLine()) != null) {
@@ -1695,7 +1814,104 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
           state = 0;
         } else {
           if (state == 1) {
-            run.addDataPoint(s);
+            if (block == null) {
+              block = new DataPointBlock(data.getDimensionSet());
+            }
+            if (block.add(s)) {
+              block.flush(run);
+            }
+          } else {
+            if (state == 2) {
+              idx = s.indexOf(':');
+              if (idx <= 0) {
+                continue;
+              }
+              run.setParameterValue(
+                  TextUtils.prepare(s.substring(0, idx)),
+                  TextUtils.prepare(s.substring(idx + 1)));
+            }
+          }
+
+        }
+      }
+    }
+
+    if (run != null) {
+      if (block != null) {
+        block.flush(run);
+      }
+      run.close();
+    }
+  }
+
+  /**
+   * Load a file and register its log data for lazy loading
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the data
+   * @param file
+   *          the file
+   * @param reader
+   *          the reader
+   * @param charset
+   *          the character set
+   * @throws Throwable
+   *           if it fails
+   */
+  @SuppressWarnings("null")
+  private final void __lazyReader(final IOJob job,
+      final ExperimentSetContext data, final Path file,
+      final _TSPSuiteLineReader reader, final Charset charset)
+      throws Throwable {
+    String s, first, last;
+    RunContext run;
+    int state, idx, count;
+    long start, end;
+    _TSPSuiteInputToken token;
+
+    token = ((_TSPSuiteInputToken) (job.getToken()));
+
+    run = null;
+    first = last = null;
+    state = count = 0;
+    start = end = 0L;
+
+    while ((s = reader._readLine()) != null) {
+      s = TSPSuiteInput.__prepare(s);
+      if (s == null) {
+        continue;
+      }
+
+      if (state == 0) {
+        if (TSPSuiteInput.LOG_DATA_SECTION.equalsIgnoreCase(s)) {
+          state = 1;
+          if (run == null) {
+            run = token._beginRun(file);
+          }
+        } else {
+          if (TSPSuiteInput.ALGORITHM_DATA_SECTION.equalsIgnoreCase(s) || //
+              TSPSuiteInput.DETERMINISTIC_INITIALIZATION_SECTION
+                  .equalsIgnoreCase(s)) {
+            state = 2;
+            if (run == null) {
+              run = token._beginRun(file);
+            }
+          }
+        }
+
+      } else {
+        if (TSPSuiteInput.SECTION_END.equalsIgnoreCase(s)) {
+          state = 0;
+        } else {
+          if (state == 1) {
+            if ((count++) <= 0) {
+              first = s;
+              start = reader._getLineStart();
+            }
+            last = s;
+            end = reader._getOffset();
           } else {
             if (state == 2) {
               idx = s.indexOf(':');
@@ -1713,16 +1929,105 @@ public class TSPSuiteInput extends FileInputTool<ExperimentSetContext>
     }
 
     if (run != null) {
+      if (count > 0) {
+        run.addDataPoint(first);
+        if (count > 1) {
+          run.addDataPoint(last);
+        }
+        run.setDataLoader(new _TSPSuiteRunDataLoader(file.toFile(), start,
+            end, charset, count), count);
+      }
       run.close();
     }
   }
 
+  /**
+   * Read the log data of a run which is located in the byte range of a
+   * file ending at {@code end}, starting within a log data section.
+   *
+   * @param reader
+   *          the reader, positioned at the first log data line
+   * @param end
+   *          the offset directly after the last log data line
+   * @param factory
+   *          the data factory
+   * @param size
+   *          the expected number of data points
+   * @return the data points
+   * @throws IOException
+   *           if i/o fails
+   */
+  static final DataPoint[] _readLogData(final _TSPSuiteLineReader reader,
+      final long end, final DataFactory factory, final int size)
+      throws IOException {
+    final ArrayList<DataPoint> points;
+    CharSequence chars;
+    String s;
+    int state;
+
+    points = new ArrayList<>(size);
+    state = 1;
+    while ((reader._getOffset() < end)
+        && ((chars = reader._readLineChars()) != null)) {
+      if ((state == 1) && TSPSuiteInput.__isPlainDataLine(chars)) {
+        points.add(factory.parseCharSequence(chars));
+        continue;
+      }
+
+      s = TSPSuiteInput.__prepare(chars.toString());
+      if (s == null) {
+        continue;
+      }
+
+      if (state == 0) {
+        if (TSPSuiteInput.LOG_DATA_SECTION.equalsIgnoreCase(s)) {
+          state = 1;
+        } else {
+          if (TSPSuiteInput.ALGORITHM_DATA_SECTION.equalsIgnoreCase(s) || //
+              TSPSuiteInput.DETERMINISTIC_INITIALIZATION_SECTION
+                  .equalsIgnoreCase(s)) {
+            state = 2;
+          }
+        }
+      } else {
+        if (TSPSuiteInput.SECTION_END.equalsIgnoreCase(s)) {
+          state = 0;
+        } else {
+          if (state == 1) {
+            points.add(factory.parseString(s));
+          }
+        }
+      }
+    }
+
+    return points.toArray(new DataPoint[points.size()]);
+  }
+
   /** {@inheritDoc} */
   @Override
   public final String toString() {
     return "TSPSuite Experimet Data Input"; //$NON-NLS-1$
   }
 
+  /** the loader for the lazy loading setting */
+  private static final class __LazyRunsLoader {
+
+    /** should runs be loaded lazily? */
+    static final boolean LAZY_RUNS;
+
+    static {
+      boolean lazy;
+
+      lazy = false;
+      try {
+        lazy = Boolean.getBoolean(TSPSuiteInput.LAZY_RUNS_PROPERTY);
+      } catch (final Throwable error) {
+        // ignore, use default
+      }
+      LAZY_RUNS = lazy;
+    }
+  }
+
   /** the loader */
   private static final class __TSPSuiteInputLoader {
 
@@ -66,7 +66,10 @@ final class _TSPSuiteInputToken {
   }
 
   /**
-   * begin a run
+   * begin a run; since the run files of a folder may be loaded in
+   * parallel, switching the experiment and instance runs contexts is
+   * synchronized, while the file path is analyzed and the data is parsed
+   * outside of the lock
    *
    * @param f
    *          the file
@@ -107,20 +110,22 @@ final class _TSPSuiteInputToken {
       throw new IllegalStateException();
     }
 
-    if (!(instance.equals(this.m_instanceRunsRoot))) {
-      this._popIRSC();
-      if (!(experiment.equals(this.m_experimentRoot))) {
-        this._popEC();
-        this.m_ec = this.m_esc.createExperiment();
-        this.m_ec.setName(en);
-        this.m_experimentRoot = experiment;
+    synchronized (this) {
+      if (!(instance.equals(this.m_instanceRunsRoot))) {
+        this._popIRSC();
+        if (!(experiment.equals(this.m_experimentRoot))) {
+          this._popEC();
+          this.m_ec = this.m_esc.createExperiment();
+          this.m_ec.setName(en);
+          this.m_experimentRoot = experiment;
+        }
+        this.m_irsc = this.m_ec.createInstanceRuns();
+        this.m_irsc.setInstance(in);
+        this.m_instanceRunsRoot = instance;
       }
-      this.m_irsc = this.m_ec.createInstanceRuns();
-      this.m_irsc.setInstance(in);
-      this.m_instanceRunsRoot = instance;
-    }
 
-    return this.m_irsc.createRun();
+      return this.m_irsc.createRun();
+    }
   }
 
 }
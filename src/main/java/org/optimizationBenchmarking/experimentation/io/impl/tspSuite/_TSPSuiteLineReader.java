@@ -0,0 +1,273 @@
+package org.optimizationBenchmarking.experimentation.io.impl.tspSuite;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A reader which splits a byte stream into lines and keeps track of the
+ * byte offsets at which the lines begin and end. This allows us to
+ * remember where the log data of a run is located in a file and to read
+ * it again later. Line breaks are detected on the byte level, which is
+ * only correct for character sets in which the line break characters are
+ * encoded as single ASCII bytes that cannot appear within the encoding of
+ * another character (see {@link #_isSupported(Charset)}).
+ */
+final class _TSPSuiteLineReader implements Closeable {
+
+  /** the input stream */
+  private final InputStream m_input;
+
+  /** the character set */
+  private final Charset m_charset;
+
+  /** the byte buffer */
+  private final byte[] m_buffer;
+
+  /** the index of the next byte in the buffer */
+  private int m_index;
+
+  /** the number of bytes in the buffer */
+  private int m_size;
+
+  /** the offset of the next byte in the stream */
+  private long m_offset;
+
+  /** the offset of the beginning of the line read last */
+  private long m_lineStart;
+
+  /** the bytes of the current line */
+  private byte[] m_line;
+
+  /** the number of bytes in the current line */
+  private int m_lineLength;
+
+  /** the character sequence view on the current line */
+  private final __ASCIILine m_view;
+
+  /**
+   * create
+   *
+   * @param input
+   *          the input stream
+   * @param charset
+   *          the character set
+   * @param offset
+   *          the offset of the first byte of {@code input} in the file
+   */
+  _TSPSuiteLineReader(final InputStream input, final Charset charset,
+      final long offset) {
+    super();
+    this.m_input = input;
+    this.m_charset = charset;
+    this.m_offset = offset;
+    this.m_buffer = new byte[8192];
+    this.m_line = new byte[128];
+    this.m_view = new __ASCIILine();
+  }
+
+  /**
+   * Check whether a character set can be used with this reader
+   *
+   * @param charset
+   *          the character set
+   * @return {@code true} if line breaks can be detected on the byte level,
+   *         {@code false} otherwise
+   */
+  static final boolean _isSupported(final Charset charset) {
+    final byte[] bytes;
+
+    try {
+      bytes = "\r\n".getBytes(charset); //$NON-NLS-1$
+    } catch (final Throwable error) {
+      return false;
+    }
+    return ((bytes.length == 2) && (bytes[0] == '\r') && (bytes[1] == '\n'));
+  }
+
+  /**
+   * Make sure that the buffer contains at least one byte
+   *
+   * @return {@code true} if there is a byte, {@code false} if the end of
+   *         the stream has been reached
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final boolean __fill() throws IOException {
+    int read;
+
+    if (this.m_index < this.m_size) {
+      return true;
+    }
+    do {
+      read = this.m_input.read(this.m_buffer);
+    } while (read == 0);
+    if (read < 0) {
+      return false;
+    }
+    this.m_index = 0;
+    this.m_size = read;
+    return true;
+  }
+
+  /**
+   * Read the next line
+   *
+   * @return the line, or {@code null} if the end of the stream has been
+   *         reached
+   * @throws IOException
+   *           if i/o fails
+   */
+  final String _readLine() throws IOException {
+    if (!(this.__readLine())) {
+      return null;
+    }
+    return new String(this.m_line, 0, this.m_lineLength, this.m_charset);
+  }
+
+  /**
+   * Read the next line as character sequence. If the line consists only
+   * of ASCII characters, which is the normal case for log data, the
+   * returned sequence is a view on the internal line buffer which will be
+   * overwritten by the next read operation. Otherwise, the line is decoded
+   * to a string.
+   *
+   * @return the line, or {@code null} if the end of the stream has been
+   *         reached
+   * @throws IOException
+   *           if i/o fails
+   */
+  final CharSequence _readLineChars() throws IOException {
+    final byte[] line;
+    int index;
+
+    if (!(this.__readLine())) {
+      return null;
+    }
+    line = this.m_line;
+    for (index = this.m_lineLength; (--index) >= 0;) {
+      if (line[index] < 0) {
+        return new String(line, 0, this.m_lineLength, this.m_charset);
+      }
+    }
+    return this.m_view;
+  }
+
+  /**
+   * Read the bytes of the next line into the line buffer
+   *
+   * @return {@code true} if a line was read, {@code false} if the end of
+   *         the stream has been reached
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final boolean __readLine() throws IOException {
+    final long start;
+    byte[] line;
+    int length;
+    byte current;
+
+    start = this.m_offset;
+    line = this.m_line;
+    length = 0;
+
+    for (;;) {
+      if (!(this.__fill())) {
+        if (this.m_offset <= start) {
+          return false;
+        }
+        break;
+      }
+
+      current = this.m_buffer[this.m_index++];
+      this.m_offset++;
+
+      if (current == '\n') {
+        break;
+      }
+      if (current == '\r') {
+        if (this.__fill() && (this.m_buffer[this.m_index] == '\n')) {
+          this.m_index++;
+          this.m_offset++;
+        }
+        break;
+      }
+
+      if (length >= line.length) {
+        this.m_line = line = Arrays.copyOf(line, length << 1);
+      }
+      line[length++] = current;
+    }
+
+    this.m_lineStart = start;
+    this.m_lineLength = length;
+    return true;
+  }
+
+  /**
+   * Get the offset of the first byte of the line returned by the last
+   * call to {@link #_readLine()}
+   *
+   * @return the offset of the first byte of the last line
+   */
+  final long _getLineStart() {
+    return this.m_lineStart;
+  }
+
+  /**
+   * Get the offset of the next byte to be read, i.e., the offset directly
+   * after the line break of the line returned by the last call to
+   * {@link #_readLine()}
+   *
+   * @return the offset of the next byte
+   */
+  final long _getOffset() {
+    return this.m_offset;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    this.m_input.close();
+  }
+
+  /** a character sequence view on the current line of ASCII bytes */
+  private final class __ASCIILine implements CharSequence {
+
+    /** create */
+    __ASCIILine() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int length() {
+      return _TSPSuiteLineReader.this.m_lineLength;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final char charAt(final int index) {
+      if (index >= _TSPSuiteLineReader.this.m_lineLength) {
+        throw new StringIndexOutOfBoundsException(index);
+      }
+      return ((char) (_TSPSuiteLineReader.this.m_line[index]));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final CharSequence subSequence(final int start, final int end) {
+      return this.toString().substring(start, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return new String(_TSPSuiteLineReader.this.m_line, 0,
+          _TSPSuiteLineReader.this.m_lineLength,
+          _TSPSuiteLineReader.this.m_charset);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package org.optimizationBenchmarking.experimentation.io.impl.tspSuite;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataFactory;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataPoint;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunDataLoader;
+
+/**
+ * A loader which reads the log data of a TSPSuite run from the byte range
+ * of its file where the log data sections are located.
+ */
+final class _TSPSuiteRunDataLoader extends RunDataLoader {
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** the file */
+  private final File m_file;
+
+  /** the offset of the first log data line */
+  private final long m_start;
+
+  /** the offset directly after the last log data line */
+  private final long m_end;
+
+  /** the name of the character set */
+  private final String m_charset;
+
+  /** the number of data points */
+  private final int m_size;
+
+  /**
+   * create
+   *
+   * @param file
+   *          the file
+   * @param start
+   *          the offset of the first log data line
+   * @param end
+   *          the offset directly after the last log data line
+   * @param charset
+   *          the character set
+   * @param size
+   *          the number of data points
+   */
+  _TSPSuiteRunDataLoader(final File file, final long start,
+      final long end, final Charset charset, final int size) {
+    super();
+    this.m_file = file;
+    this.m_start = start;
+    this.m_end = end;
+    this.m_charset = charset.name();
+    this.m_size = size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final DataPoint[] loadDataPoints(final DataFactory factory)
+      throws IOException {
+    long skip, skipped;
+
+    try (final InputStream input = new FileInputStream(this.m_file)) {
+      for (skip = this.m_start; skip > 0L; skip -= skipped) {
+        skipped = input.skip(skip);
+        if (skipped <= 0L) {
+          throw new IOException((("File '" + this.m_file) + //$NON-NLS-1$
+              "' is shorter than expected, it may have been changed.")); //$NON-NLS-1$
+        }
+      }
+
+      try (final _TSPSuiteLineReader reader = new _TSPSuiteLineReader(
+          input, Charset.forName(this.m_charset), this.m_start)) {
+        return TSPSuiteInput._readLogData(reader, this.m_end, factory,
+            this.m_size);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return ((((("bytes " + this.m_start) + //$NON-NLS-1$
+        " to ") + this.m_end) + //$NON-NLS-1$
+        " of TSPSuite log file '") + this.m_file) + '\''; //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,323 @@
+package org.optimizationBenchmarking.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+
+/**
+ * <p>
+ * A governor which watches the heap usage and reacts to memory pressure
+ * instead of blindly invoking the garbage collector. The governor sets the
+ * {@linkplain java.lang.management.MemoryPoolMXBean#setCollectionUsageThreshold(long)
+ * collection usage threshold} of each heap memory pool to a fraction (see
+ * {@link #THRESHOLD_PROPERTY}) of its maximum size and listens to the
+ * corresponding notifications. If a threshold has already been set for a
+ * pool, e.g., by a monitoring tool, it is not changed but watched as
+ * well. The memory remaining in use after a
+ * garbage collection is a reliable measure of the actually needed memory,
+ * so a notification means that the budget is approached.
+ * </p>
+ * <p>
+ * When this happens, the governor
+ * </p>
+ * <ol>
+ * <li>notifies all {@linkplain #addPressureListener(Runnable) pressure
+ * listeners}, which may drop cached data such as temporarily stored
+ * attributes or release builder state, and</li>
+ * <li>applies backpressure to parallel work: As long as the pressure
+ * persists, only one thread at a time can pass
+ * {@link #beginWork()}, so that parallel loaders do not allocate more
+ * memory concurrently. A thread must therefore never wait for other
+ * threads doing gated work while it is inside the gate itself.</li>
+ * </ol>
+ * <p>
+ * The pressure ends once no heap pool exceeds its threshold after a
+ * garbage collection anymore.
+ * </p>
+ */
+public final class MemoryGovernor {
+
+  /**
+   * the system property for the fraction of the maximum size of a heap
+   * pool which, if still used after a garbage collection, is considered
+   * as memory pressure: {@value}
+   */
+  public static final String THRESHOLD_PROPERTY = "org.optimizationBenchmarking.utils.memoryGovernor.threshold"; //$NON-NLS-1$
+
+  /** the default threshold: {@value} */
+  public static final double DEFAULT_THRESHOLD = 0.8d;
+
+  /** the time to wait for the gate in milliseconds */
+  private static final long GATE_WAIT = 100L;
+
+  /** the heap memory pools whose threshold we watch */
+  private final ArrayList<MemoryPoolMXBean> m_pools;
+
+  /** the pressure listeners */
+  private final CopyOnWriteArrayList<Runnable> m_listeners;
+
+  /** the gate for work under memory pressure */
+  private final ReentrantLock m_gate;
+
+  /** the threshold */
+  private final double m_threshold;
+
+  /** are we under memory pressure? */
+  private volatile boolean m_pressure;
+
+  /** create the memory governor */
+  private MemoryGovernor() {
+    super();
+
+    final MemoryMXBean memory;
+    double threshold;
+    long max;
+
+    threshold = MemoryGovernor.DEFAULT_THRESHOLD;
+    try {
+      threshold = Double.parseDouble(System.getProperty(
+          MemoryGovernor.THRESHOLD_PROPERTY,
+          Double.toString(MemoryGovernor.DEFAULT_THRESHOLD)));
+    } catch (final Throwable error) {
+      // ignore, use default
+    }
+    if ((threshold <= 0d) || (threshold > 1d) || (threshold != threshold)) {
+      threshold = MemoryGovernor.DEFAULT_THRESHOLD;
+    }
+    this.m_threshold = threshold;
+
+    this.m_pools = new ArrayList<>();
+    this.m_listeners = new CopyOnWriteArrayList<>();
+    this.m_gate = new ReentrantLock(true);
+
+    try {
+      for (final MemoryPoolMXBean pool : ManagementFactory
+          .getMemoryPoolMXBeans()) {
+        if ((pool.getType() == MemoryType.HEAP) && pool.isValid()
+            && pool.isCollectionUsageThresholdSupported()) {
+          if (pool.getCollectionUsageThreshold() > 0L) {
+            // respect a threshold set by someone else
+            this.m_pools.add(pool);
+          } else {
+            max = pool.getUsage().getMax();
+            if (max > 0L) {
+              pool.setCollectionUsageThreshold((long) (max * threshold));
+              this.m_pools.add(pool);
+            }
+          }
+        }
+      }
+
+      memory = ManagementFactory.getMemoryMXBean();
+      if ((!(this.m_pools.isEmpty()))
+          && (memory instanceof NotificationEmitter)) {
+        ((NotificationEmitter) memory).addNotificationListener(
+            new __Listener(), null, null);
+      }
+    } catch (final Throwable error) {
+      ErrorUtils.logError(Configuration.getGlobalLogger(),
+          "Could not install memory usage thresholds, the memory governor will only react to explicit checks.", //$NON-NLS-1$
+          error, false, RethrowMode.DONT_RETHROW);
+    }
+  }
+
+  /**
+   * Get the globally shared instance of the memory governor
+   *
+   * @return the memory governor
+   */
+  public static final MemoryGovernor getInstance() {
+    return __MemoryGovernorLoader.INSTANCE;
+  }
+
+  /**
+   * Get the threshold, i.e., the fraction of the maximum size of a heap
+   * pool which, if still used after a garbage collection, means memory
+   * pressure
+   *
+   * @return the threshold
+   */
+  public final double getThreshold() {
+    return this.m_threshold;
+  }
+
+  /**
+   * Add a listener which is invoked when memory pressure is detected. The
+   * listener should release memory, e.g., by dropping caches. It may be
+   * called from an arbitrary thread.
+   *
+   * @param listener
+   *          the listener
+   */
+  public final void addPressureListener(final Runnable listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException(//
+          "Memory pressure listener must not be null."); //$NON-NLS-1$
+    }
+    this.m_listeners.addIfAbsent(listener);
+  }
+
+  /**
+   * Remove a memory pressure listener
+   *
+   * @param listener
+   *          the listener
+   */
+  public final void removePressureListener(final Runnable listener) {
+    this.m_listeners.remove(listener);
+  }
+
+  /** notify all pressure listeners */
+  private final void __firePressure() {
+    for (final Runnable listener : this.m_listeners) {
+      try {
+        listener.run();
+      } catch (final Throwable error) {
+        ErrorUtils.logError(Configuration.getGlobalLogger(),
+            "Error in memory pressure listener " + listener, //$NON-NLS-1$
+            error, false, RethrowMode.DONT_RETHROW);
+      }
+    }
+  }
+
+  /**
+   * Signal that memory pressure has been detected: The pressure state is
+   * set and all listeners are notified.
+   */
+  public final void signalPressure() {
+    this.m_pressure = true;
+    this.__firePressure();
+  }
+
+  /**
+   * Check whether we are currently under memory pressure
+   *
+   * @return {@code true} if the memory budget is approached, {@code false}
+   *         otherwise
+   */
+  public final boolean isUnderPressure() {
+    if (!(this.m_pressure)) {
+      return false;
+    }
+
+    for (final MemoryPoolMXBean pool : this.m_pools) {
+      try {
+        if (pool.isCollectionUsageThresholdExceeded()) {
+          return true;
+        }
+      } catch (final Throwable error) {
+        // ignore: the pool may have become invalid
+      }
+    }
+
+    this.m_pressure = false;
+    return false;
+  }
+
+  /**
+   * Check whether the current heap usage, including garbage which has not
+   * yet been collected, exceeds the threshold.
+   *
+   * @return {@code true} if it does, {@code false} otherwise
+   */
+  private final boolean __isHeapAboveThreshold() {
+    final MemoryUsage usage;
+    final long max;
+
+    usage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    max = usage.getMax();
+    if (max <= 0L) {
+      return false;
+    }
+    return (usage.getUsed() >= (max * this.m_threshold));
+  }
+
+  /**
+   * Begin a unit of memory-intense work, e.g., loading a file. If there is
+   * no memory pressure, this method returns immediately. Otherwise, it
+   * blocks until either the pressure has ended or the calling thread is
+   * the only one doing gated work. Each call returning {@code true} must
+   * be matched with a call to {@link #endWork()}.
+   *
+   * @return {@code true} if the calling thread has entered the gate and
+   *         must call {@link #endWork()}, {@code false} if no memory
+   *         pressure was present
+   */
+  public final boolean beginWork() {
+    while (this.isUnderPressure()) {
+      try {
+        if (this.m_gate.tryLock(MemoryGovernor.GATE_WAIT,
+            TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * End a unit of memory-intense work which was begun with a call to
+   * {@link #beginWork()} that returned {@code true}.
+   */
+  public final void endWork() {
+    this.m_gate.unlock();
+  }
+
+  /**
+   * This method should be called after a large amount of data has become
+   * unreachable, e.g., after the construction of a data structure has
+   * been completed and all temporary builder state has been released. If
+   * the heap usage is above the threshold, the pressure listeners are
+   * notified and the garbage collector is invoked once. Otherwise, nothing
+   * happens and the JVM is left to collect garbage when it sees fit.
+   */
+  public final void checkpoint() {
+    if (this.isUnderPressure() || this.__isHeapAboveThreshold()) {
+      this.__firePressure();
+      System.gc();
+    }
+  }
+
+  /** the notification listener */
+  private final class __Listener implements NotificationListener {
+
+    /** create */
+    __Listener() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void handleNotification(final Notification notification,
+        final Object handback) {
+      if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED
+          .equals(notification.getType())) {
+        MemoryGovernor.this.signalPressure();
+      }
+    }
+  }
+
+  /** the loader for the shared instance */
+  private static final class __MemoryGovernorLoader {
+    /** the shared instance */
+    static final MemoryGovernor INSTANCE = new MemoryGovernor();
+  }
+}
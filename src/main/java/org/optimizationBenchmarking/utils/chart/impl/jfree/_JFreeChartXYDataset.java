@@ -10,8 +10,23 @@ import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 final class _JFreeChartXYDataset extends
     _JFreeChartDataset<CompiledLine2D> implements XYDataset {
 
-  /** the shortcut to the data matrices */
-  private final IMatrix[] m_matrices;
+  /**
+   * the {@code x}-coordinates of the lines, extracted from the data
+   * matrices once, since the chart accesses them many times
+   */
+  private final double[][] m_x;
+  /** the {@code y}-coordinates of the lines */
+  private final double[][] m_y;
+  /**
+   * the {@code x}-coordinates of the lines as {@code long}s, or
+   * {@code null} for lines whose data is not an integer matrix
+   */
+  private final long[][] m_xLong;
+  /**
+   * the {@code y}-coordinates of the lines as {@code long}s, or
+   * {@code null} for lines whose data is not an integer matrix
+   */
+  private final long[][] m_yLong;
   /** the type switch */
   private final int[] m_typeSwitches;
   /** the domain order */
@@ -28,15 +43,32 @@ final class _JFreeChartXYDataset extends
 
     final int size;
     CompiledLine2D line;
-    int i;
+    IMatrix data;
+    int i, m;
 
     size = lines.size();
-    this.m_matrices = new IMatrix[size];
+    this.m_x = new double[size][];
+    this.m_y = new double[size][];
+    this.m_xLong = new long[size][];
+    this.m_yLong = new long[size][];
     this.m_typeSwitches = new int[size];
 
     for (i = size; (--i) >= 0;) {
       line = lines.get(i);
-      this.m_matrices[i] = line.getData();
+      data = line.getData();
+      m = data.m();
+      this.m_x[i] = new double[m];
+      this.m_y[i] = new double[m];
+      if (m > 0) {
+        data.copyColumn(0, 0, m, this.m_x[i], 0);
+        data.copyColumn(1, 0, m, this.m_y[i], 0);
+        if (data.isIntegerMatrix()) {
+          this.m_xLong[i] = new long[m];
+          data.copyColumn(0, 0, m, this.m_xLong[i], 0);
+          this.m_yLong[i] = new long[m];
+          data.copyColumn(1, 0, m, this.m_yLong[i], 0);
+        }
+      }
 
       switch (line.getType()) {
         case STAIRS_KEEP_LEFT: {
@@ -67,13 +99,13 @@ final class _JFreeChartXYDataset extends
       return this.m_order;
     }
     order = 0;
-    for (final IMatrix mat : this.m_matrices) {
-      i = mat.m();
-      cur = mat.getDouble(--i, 0);
+    for (final double[] x : this.m_x) {
+      i = x.length;
+      cur = x[--i];
 
       for (; (--i) >= 0;) {
         old = cur;
-        cur = mat.getDouble(i, 0);
+        cur = x[i];
         cmp = Double.compare(cur, old);
         if (cmp < 0) {
           if (order > 0) {
@@ -112,7 +144,7 @@ final class _JFreeChartXYDataset extends
   public final int getItemCount(final int series) {
     final int count;
 
-    count = this.m_matrices[series].m();
+    count = this.m_x[series].length;
     return ((this.m_typeSwitches[series] <= 0) ? count
         : ((count << 1) - 1));
   }
@@ -120,12 +152,11 @@ final class _JFreeChartXYDataset extends
   /** {@inheritDoc} */
   @Override
   public final Number getX(final int series, final int item) {
-    final IMatrix matrix;
+    final long[] x;
 
-    matrix = this.m_matrices[series];
-    if (matrix.isIntegerMatrix()) {
-      return Long.valueOf(//
-          matrix.getLong(this.__getXIndex(series, item), 0));
+    x = this.m_xLong[series];
+    if (x != null) {
+      return Long.valueOf(x[this.__getXIndex(series, item)]);
     }
     return Double.valueOf(this.getXValue(series, item));
   }
@@ -179,19 +210,18 @@ final class _JFreeChartXYDataset extends
   /** {@inheritDoc} */
   @Override
   public final double getXValue(final int series, final int item) {
-    return _JFreeChartDataset._f(this.m_matrices[series].getDouble(
-        this.__getXIndex(series, item), 0));
+    return _JFreeChartDataset._f(//
+        this.m_x[series][this.__getXIndex(series, item)]);
   }
 
   /** {@inheritDoc} */
   @Override
   public final Number getY(final int series, final int item) {
-    final IMatrix matrix;
+    final long[] y;
 
-    matrix = this.m_matrices[series];
-    if (matrix.isIntegerMatrix()) {
-      return Long.valueOf(//
-          matrix.getLong(this.__getYIndex(series, item), 1));
+    y = this.m_yLong[series];
+    if (y != null) {
+      return Long.valueOf(y[this.__getYIndex(series, item)]);
     }
     return Double.valueOf(this.getYValue(series, item));
   }
@@ -199,8 +229,8 @@ final class _JFreeChartXYDataset extends
   /** {@inheritDoc} */
   @Override
   public final double getYValue(final int series, final int item) {
-    return _JFreeChartDataset._f(this.m_matrices[series].getDouble(
-        this.__getYIndex(series, item), 1));
+    return _JFreeChartDataset._f(//
+        this.m_y[series][this.__getYIndex(series, item)]);
   }
 
 }
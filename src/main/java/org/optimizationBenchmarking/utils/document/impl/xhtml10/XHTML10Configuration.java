@@ -16,9 +16,15 @@ public class XHTML10Configuration extends DocumentConfiguration {
   /** the screen size */
   private final PageDimension m_size;
 
+  /** the suffix appended to the name of chunked configurations */
+  static final String CHUNKED = "@chunked"; //$NON-NLS-1$
+
   /** the font palette */
   private final FontPalette m_fonts;
 
+  /** should the document be split into one page per top-level section? */
+  private final boolean m_chunked;
+
   /**
    * create the XHTML 1.0 document configuration
    *
@@ -32,6 +38,7 @@ public class XHTML10Configuration extends DocumentConfiguration {
         .getScreenSize());
     XHTML10Configuration._checkFontPalette(this.m_fonts = builder
         .getFontPalette());
+    this.m_chunked = builder.isChunked();
   }
 
   /**
@@ -52,6 +59,17 @@ public class XHTML10Configuration extends DocumentConfiguration {
     return this.m_fonts;
   }
 
+  /**
+   * Should the document be chunked, i.e., split into one page per
+   * top-level section?
+   *
+   * @return {@code true} if the document should be chunked, {@code false}
+   *         if it should be created as a single page
+   */
+  public final boolean isChunked() {
+    return this.m_chunked;
+  }
+
   /**
    * check the font palette
    *
@@ -82,10 +100,11 @@ public class XHTML10Configuration extends DocumentConfiguration {
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return HashUtils.combineHashes(
+    return HashUtils.combineHashes(HashUtils.combineHashes(
         HashUtils.combineHashes(super.hashCode(),
             HashUtils.hashCode(this.m_fonts)),
-        HashUtils.hashCode(this.m_size));
+        HashUtils.hashCode(this.m_size)), HashUtils
+        .hashCode(this.m_chunked));
   }
 
   /** {@inheritDoc} */
@@ -100,16 +119,18 @@ public class XHTML10Configuration extends DocumentConfiguration {
     if (o instanceof XHTML10Configuration) {
       if (super.equals(o)) {
         config = ((XHTML10Configuration) o);
-        return (EComparison.equals(this.m_fonts, config.m_fonts) && EComparison
-            .equals(this.m_size, config.m_size));
+        return (EComparison.equals(this.m_fonts, config.m_fonts)
+            && EComparison.equals(this.m_size, config.m_size) && //
+        (this.m_chunked == config.m_chunked));
       }
     } else {
       if (o instanceof XHTML10ConfigurationBuilder) {
         if (super.equals(o)) {
           builder = ((XHTML10ConfigurationBuilder) o);
           return (EComparison.equals(this.m_fonts,
-              builder.getFontPalette()) && EComparison.equals(this.m_size,
-              builder.getScreenSize()));
+              builder.getFontPalette())
+              && EComparison.equals(this.m_size, builder.getScreenSize()) && //
+          (this.m_chunked == builder.isChunked()));
         }
       }
     }
@@ -144,6 +165,9 @@ public class XHTML10Configuration extends DocumentConfiguration {
       textOut.append('@');
       XHTML10Configuration._font(this.m_fonts.getDefaultFont(), textOut);
     }
+    if (this.m_chunked) {
+      textOut.append(XHTML10Configuration.CHUNKED);
+    }
   }
 
   /**
@@ -163,6 +187,7 @@ public class XHTML10Configuration extends DocumentConfiguration {
     if (this.m_fonts != null) {
       builder.setFontPalette(this.m_fonts);
     }
+    builder.setChunked(this.m_chunked);
 
     return builder;
   }
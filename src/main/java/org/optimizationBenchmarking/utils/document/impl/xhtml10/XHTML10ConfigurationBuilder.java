@@ -18,12 +18,18 @@ public class XHTML10ConfigurationBuilder extends
   /** the screen size */
   public static final String PARAM_SCREEN_SIZE = "screenSize"; //$NON-NLS-1$
 
+  /** should the document be split into one page per top-level section? */
+  public static final String PARAM_CHUNKED = "chunked"; //$NON-NLS-1$
+
   /** the screen size */
   private PageDimension m_size;
 
   /** the font palette */
   private FontPalette m_fonts;
 
+  /** should the document be split into one page per top-level section? */
+  private boolean m_chunked;
+
   /** create the XHTML 1.0 document configuration builder */
   public XHTML10ConfigurationBuilder() {
     this(null);
@@ -58,6 +64,34 @@ public class XHTML10ConfigurationBuilder extends
     if (newSize != null) {
       this.setScreenSize(newSize);
     }
+
+    this.setChunked(config.getBoolean(
+        XHTML10ConfigurationBuilder.PARAM_CHUNKED, this.m_chunked));
+  }
+
+  /**
+   * Set whether the document should be chunked: In a chunked document,
+   * each top-level section is flushed to disk as soon as it is closed and,
+   * once the document is complete, moved to an own page linked from the
+   * main page. Figures are loaded lazily.
+   *
+   * @param chunked
+   *          {@code true} if the document should be chunked,
+   *          {@code false} if it should be created as a single page
+   */
+  public final void setChunked(final boolean chunked) {
+    this.m_chunked = chunked;
+  }
+
+  /**
+   * Should the document be chunked?
+   *
+   * @return {@code true} if the document should be chunked, {@code false}
+   *         if it should be created as a single page
+   * @see #setChunked(boolean)
+   */
+  public final boolean isChunked() {
+    return this.m_chunked;
   }
 
   /**
@@ -170,10 +204,11 @@ public class XHTML10ConfigurationBuilder extends
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return HashUtils.combineHashes(
+    return HashUtils.combineHashes(HashUtils.combineHashes(
         HashUtils.combineHashes(super.hashCode(),
             HashUtils.hashCode(this.m_fonts)),
-        HashUtils.hashCode(this.m_size));
+        HashUtils.hashCode(this.m_size)), HashUtils
+        .hashCode(this.m_chunked));
   }
 
   /** {@inheritDoc} */
@@ -188,15 +223,17 @@ public class XHTML10ConfigurationBuilder extends
     if (o instanceof XHTML10Configuration) {
       if (super.equals(o)) {
         config = ((XHTML10Configuration) o);
-        return (EComparison.equals(this.m_fonts, config.getFontPalette()) && EComparison
-            .equals(this.m_size, config.getScreenSize()));
+        return (EComparison.equals(this.m_fonts, config.getFontPalette())
+            && EComparison.equals(this.m_size, config.getScreenSize()) && //
+        (this.m_chunked == config.isChunked()));
       }
     } else {
       if (o instanceof XHTML10ConfigurationBuilder) {
         if (super.equals(o)) {
           builder = ((XHTML10ConfigurationBuilder) o);
-          return (EComparison.equals(this.m_fonts, builder.m_fonts) && EComparison
-              .equals(this.m_size, builder.m_size));
+          return (EComparison.equals(this.m_fonts, builder.m_fonts)
+              && EComparison.equals(this.m_size, builder.m_size) && //
+          (this.m_chunked == builder.m_chunked));
         }
       }
     }
@@ -216,6 +253,9 @@ public class XHTML10ConfigurationBuilder extends
       XHTML10Configuration._font(this.m_fonts.getDefaultFont(), textOut);
       textOut.append('@');
     }
+    if (this.m_chunked) {
+      textOut.append(XHTML10Configuration.CHUNKED);
+    }
   }
 
   /** {@inheritDoc} */
@@ -235,6 +275,7 @@ public class XHTML10ConfigurationBuilder extends
         if ((fonts = builder.m_fonts) != null) {
           this.setFontPalette(fonts);
         }
+        this.setChunked(builder.m_chunked);
       } else {
         if (copyFrom instanceof XHTML10Configuration) {
           config = ((XHTML10Configuration) copyFrom);
@@ -244,6 +285,7 @@ public class XHTML10ConfigurationBuilder extends
           if ((fonts = config.getFontPalette()) != null) {
             this.setFontPalette(fonts);
           }
+          this.setChunked(config.isChunked());
         }
       }
 
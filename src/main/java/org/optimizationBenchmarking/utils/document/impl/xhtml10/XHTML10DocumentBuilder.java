@@ -92,6 +92,33 @@ public final class XHTML10DocumentBuilder extends DocumentBuilder {
         .getFontPalette();
   }
 
+  /**
+   * Set whether the document should be chunked, i.e., split into one page
+   * per top-level section.
+   *
+   * @param chunked
+   *          {@code true} if the document should be chunked,
+   *          {@code false} if it should be created as a single page
+   * @return this builder
+   * @see XHTML10ConfigurationBuilder#setChunked(boolean)
+   */
+  public final XHTML10DocumentBuilder setChunked(final boolean chunked) {
+    ((XHTML10ConfigurationBuilder) (this.getConfigurationBuilder()))
+        .setChunked(chunked);
+    return this;
+  }
+
+  /**
+   * Should the document be chunked?
+   *
+   * @return {@code true} if the document should be chunked, {@code false}
+   *         if it should be created as a single page
+   */
+  public final boolean isChunked() {
+    return ((XHTML10ConfigurationBuilder) (this.getConfigurationBuilder()))
+        .isChunked();
+  }
+
   /** {@inheritDoc} */
   @Override
   protected final StyleSet createStyleSet() {
@@ -8,6 +8,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Set;
 
 import org.optimizationBenchmarking.utils.collections.ImmutableAssociation;
@@ -141,6 +142,9 @@ final class _XHTML10Document extends Document {
   /** the page size */
   private final PageDimension m_pageSize;
 
+  /** should the document be split into one page per top-level section? */
+  final boolean m_chunked;
+
   /**
    * Create a document.
    *
@@ -150,6 +154,7 @@ final class _XHTML10Document extends Document {
   _XHTML10Document(final XHTML10DocumentBuilder builder) {
     super(XHTML10Driver.getInstance(), builder);
     this.m_pageSize = builder.getScreenSize();
+    this.m_chunked = builder.isChunked();
     this.open();
   }
 
@@ -208,12 +213,31 @@ final class _XHTML10Document extends Document {
   @Override
   protected void postProcess(final Set<IStyle> usedStyles,
       final ArrayListView<ImmutableAssociation<Path, IFileType>> paths) {
+    ArrayList<Path> pages;
     Path path;
     String s;
     char ch;
     int i;
 
     try {
+      if (this.m_chunked) {
+        pages = null;
+        try {
+          pages = _XHTML10PageSplitter._split(this.getDocumentPath());
+        } catch (final Throwable t) {
+          ErrorUtils
+              .logError(
+                  this.getLogger(),//
+                  "Error while splitting XHTML 1.0 Document into one page per section.", //$NON-NLS-1$
+                  t, true, RethrowMode.AS_RUNTIME_EXCEPTION);
+        }
+        if (pages != null) {
+          for (final Path page : pages) {
+            this.getFileCollector().addFile(page, XHTML.XHTML_1_0);
+          }
+        }
+      }
+
       for (final String name : new String[] {
           _XHTML10Document.CSS_DEFAULT, _XHTML10Document.CSS_PRINT }) {
         path = PathUtils.normalize(this.getDocumentFolder().resolve(name));
@@ -58,6 +58,9 @@ final class _XHTML10Figure extends Figure {
   /** the start figure image height: height will follow */
   private static final char[] FIGURE_IMG_HEIGHT = { 'p', 't', ';', 'h',
       'e', 'i', 'g', 'h', 't', ':', };
+  /** the lazy loading attribute: the width will follow */
+  private static final char[] FIGURE_IMG_LAZY = { '"', ' ', 'l', 'o', 'a',
+      'd', 'i', 'n', 'g', '=', '"', 'l', 'a', 'z', 'y' };
   /** the start figure image: alt will follow */
   private static final char[] FIGURE_IMG_ALT = { 'p', 't', '"', ' ', 'a',
       'l', 't', '=', '"' };
@@ -128,10 +131,12 @@ final class _XHTML10Figure extends Figure {
    *          the image size
    * @param caption
    *          the image caption
+   * @param lazy
+   *          should the image be loaded lazily by the browser?
    */
   static final void _img(final ITextOutput out, final Path path,
       final Path docFolder, final PhysicalDimension size,
-      final char[] caption) {
+      final char[] caption, final boolean lazy) {
     String s;
     int i, j;
 
@@ -142,6 +147,9 @@ final class _XHTML10Figure extends Figure {
       s = s.replace('\\', '/');
     }
     out.append(s);
+    if (lazy) {
+      out.append(_XHTML10Figure.FIGURE_IMG_LAZY);
+    }
 
     out.append(_XHTML10Figure.FIGURE_IMG_WIDTH);
     out.append(size.getWidth());
@@ -188,7 +196,8 @@ final class _XHTML10Figure extends Figure {
     }
 
     _XHTML10Figure._img(out, files.get(0).getKey(), this.getDocument()
-        .getDocumentFolder(), size, this.m_caption);
+        .getDocumentFolder(), size, this.m_caption,
+        ((_XHTML10Document) (this.getDocument())).m_chunked);
 
     out.append(_XHTML10Table.TD_END);
     out.append(_XHTML10Table.TR_END);
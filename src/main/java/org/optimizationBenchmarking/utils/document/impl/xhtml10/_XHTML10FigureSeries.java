@@ -117,7 +117,8 @@ final class _XHTML10FigureSeries extends FigureSeries {
       d = this.m_subFigs[i];
       out.append(_XHTML10FigureSeries.SUBFIGURE_TD_BODY_BEGIN);
       XHTML10Driver._label(d.m_label, out);
-      _XHTML10Figure._img(out, d.m_path, df, d.m_size, d.m_caption);
+      _XHTML10Figure._img(out, d.m_path, df, d.m_size, d.m_caption,
+          ((_XHTML10Document) (this.getDocument())).m_chunked);
       out.append(_XHTML10Table.TD_END);
     }
 
@@ -0,0 +1,391 @@
+package org.optimizationBenchmarking.utils.document.impl.xhtml10;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+
+/**
+ * A class which splits a chunked XHTML document into pages. In a chunked
+ * document, each top-level section is enclosed by the markers
+ * {@link #PAGE_BEGIN} and {@link #PAGE_END}, each on an own line. After
+ * the document has been written, each such section is moved to an own
+ * page. The main page keeps the header, the footer, and a link to each
+ * page. Each page receives the head of the main page and links to the
+ * previous page, the main page, and the next page. References to labels
+ * which ended up on a different page are re-targeted accordingly.
+ */
+final class _XHTML10PageSplitter {
+
+  /** the marker for the beginning of a page */
+  static final char[] PAGE_BEGIN = { '<', '!', '-', '-', 'p', 'a', 'g',
+      'e', '-', '-', '>' };
+
+  /** the marker for the end of a page */
+  static final char[] PAGE_END = { '<', '!', '-', '-', '/', 'p', 'a', 'g',
+      'e', '-', '-', '>' };
+
+  /** the end of the head and start of the body */
+  private static final String BODY_BEGIN = "<body>"; //$NON-NLS-1$
+
+  /** the end of the body and the html document */
+  private static final String BODY_HTML_END = "</body></html>"; //$NON-NLS-1$
+
+  /** the id attribute */
+  private static final Pattern ID = Pattern.compile(//
+      "\\sid=\"([^\"]*)\""); //$NON-NLS-1$
+
+  /** a local reference */
+  private static final Pattern HREF = Pattern.compile(//
+      "href=\"#([^\"]*)\""); //$NON-NLS-1$
+
+  /** a headline */
+  private static final Pattern HEADLINE = Pattern.compile(//
+      "<h[1-6]>(.*?)</h[1-6]>|<div class=\"h7\">(.*?)</div>"); //$NON-NLS-1$
+
+  /** a tag */
+  private static final Pattern TAG = Pattern.compile("<[^>]*>"); //$NON-NLS-1$
+
+  /** the document */
+  private final Path m_document;
+
+  /** the name of the document file without extension */
+  private final String m_baseName;
+
+  /** the extension of the document file, including the dot */
+  private final String m_extension;
+
+  /** the page of each id, {@code 0} stands for the main page */
+  private final HashMap<String, Integer> m_pageOfID;
+
+  /** the title of each page, index {@code 0} stands for the first page */
+  private final ArrayList<String> m_titles;
+
+  /** the head of the document, up to and including the body begin */
+  private String m_head;
+
+  /**
+   * create the page splitter
+   *
+   * @param document
+   *          the document
+   */
+  private _XHTML10PageSplitter(final Path document) {
+    super();
+
+    final String name;
+    final int dot;
+
+    this.m_document = document;
+    name = document.getFileName().toString();
+    dot = name.lastIndexOf('.');
+    if (dot > 0) {
+      this.m_baseName = name.substring(0, dot);
+      this.m_extension = name.substring(dot);
+    } else {
+      this.m_baseName = name;
+      this.m_extension = ""; //$NON-NLS-1$
+    }
+    this.m_pageOfID = new HashMap<>();
+    this.m_titles = new ArrayList<>();
+  }
+
+  /**
+   * Split a chunked XHTML document into pages.
+   *
+   * @param document
+   *          the path to the document, which will be overwritten with the
+   *          new main page
+   * @return the list of the created pages, which may be empty if the
+   *         document contains no top-level sections
+   * @throws IOException
+   *           if i/o fails
+   */
+  static final ArrayList<Path> _split(final Path document)
+      throws IOException {
+    final _XHTML10PageSplitter splitter;
+
+    splitter = new _XHTML10PageSplitter(document);
+    if (splitter.__scan()) {
+      return splitter.__write();
+    }
+    return new ArrayList<>(0);
+  }
+
+  /**
+   * Get the name of the file of a page
+   *
+   * @param page
+   *          the page, {@code 0} for the main page
+   * @return the file name
+   */
+  private final String __fileName(final int page) {
+    if (page <= 0) {
+      return (this.m_baseName + this.m_extension);
+    }
+    return ((this.m_baseName + '-') + page) + this.m_extension;
+  }
+
+  /**
+   * Open a reader for the document
+   *
+   * @return the reader
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final BufferedReader __openReader() throws IOException {
+    // the document is written with the default encoding, see Document
+    return new BufferedReader(new InputStreamReader(//
+        PathUtils.openInputStream(this.m_document)));
+  }
+
+  /**
+   * Open a writer for a file
+   *
+   * @param path
+   *          the path
+   * @return the writer
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final BufferedWriter __openWriter(final Path path)
+      throws IOException {
+    return new BufferedWriter(new OutputStreamWriter(//
+        PathUtils.openOutputStream(path)));
+  }
+
+  /**
+   * Scan the document: find the head, the page titles, and the page of
+   * each id
+   *
+   * @return {@code true} if the document needs to be split,
+   *         {@code false} otherwise
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final boolean __scan() throws IOException {
+    final String begin, end;
+    final StringBuilder head;
+    Matcher matcher;
+    String line, title;
+    boolean inPage, inHead;
+    int page, current, index;
+
+    begin = String.valueOf(_XHTML10PageSplitter.PAGE_BEGIN);
+    end = String.valueOf(_XHTML10PageSplitter.PAGE_END);
+    head = new StringBuilder();
+    inHead = true;
+    inPage = false;
+    page = 0;
+
+    try (final BufferedReader reader = this.__openReader()) {
+      while ((line = reader.readLine()) != null) {
+        if (line.equals(begin)) {
+          inPage = true;
+          inHead = false;
+          page++;
+          this.m_titles.add(null);
+          continue;
+        }
+        if (line.equals(end)) {
+          inPage = false;
+          continue;
+        }
+
+        if (inHead) {
+          if (head.length() > 0) {
+            head.append('\n');
+          }
+          index = line.indexOf(_XHTML10PageSplitter.BODY_BEGIN);
+          if (index >= 0) {
+            head.append(line, 0,
+                (index + _XHTML10PageSplitter.BODY_BEGIN.length()));
+            inHead = false;
+          } else {
+            head.append(line);
+          }
+        }
+
+        current = (inPage ? page : 0);
+        matcher = _XHTML10PageSplitter.ID.matcher(line);
+        while (matcher.find()) {
+          this.m_pageOfID.put(matcher.group(1), Integer.valueOf(current));
+        }
+
+        if (inPage && (this.m_titles.get(page - 1) == null)) {
+          matcher = _XHTML10PageSplitter.HEADLINE.matcher(line);
+          if (matcher.find()) {
+            title = matcher.group(1);
+            if (title == null) {
+              title = matcher.group(2);
+            }
+            title = _XHTML10PageSplitter.TAG.matcher(title).replaceAll(""); //$NON-NLS-1$
+            this.m_titles.set(page - 1, title.trim());
+          }
+        }
+      }
+    }
+
+    if ((page <= 0) || (head.indexOf(_XHTML10PageSplitter.BODY_BEGIN) < 0)) {
+      return false;
+    }
+    this.m_head = head.toString();
+    return true;
+  }
+
+  /**
+   * Write a line, re-targeting all references to ids on other pages
+   *
+   * @param line
+   *          the line
+   * @param page
+   *          the page the line belongs to
+   * @param out
+   *          the writer
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeLine(final String line, final int page,
+      final BufferedWriter out) throws IOException {
+    final Matcher matcher;
+    final StringBuffer buffer;
+    Integer target;
+    boolean changed;
+
+    matcher = _XHTML10PageSplitter.HREF.matcher(line);
+    buffer = new StringBuffer(line.length() + 64);
+    changed = false;
+    while (matcher.find()) {
+      target = this.m_pageOfID.get(matcher.group(1));
+      if ((target != null) && (target.intValue() != page)) {
+        matcher.appendReplacement(buffer, Matcher.quoteReplacement(//
+            ((("href=\"" + //$NON-NLS-1$
+            this.__fileName(target.intValue())) + '#') + matcher.group(1))
+                + '"'));
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      matcher.appendTail(buffer);
+      out.write(buffer.toString());
+    } else {
+      out.write(line);
+    }
+    out.newLine();
+  }
+
+  /**
+   * Write the navigation links of a page
+   *
+   * @param page
+   *          the page
+   * @param out
+   *          the writer
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeNavigation(final int page,
+      final BufferedWriter out) throws IOException {
+    out.write("<div class=\"pageNav\"><a href=\""); //$NON-NLS-1$
+    out.write(this.__fileName(page - 1));
+    out.write("\">&#8592;&nbsp;previous</a> | <a href=\""); //$NON-NLS-1$
+    out.write(this.__fileName(0));
+    out.write("\">contents</a>"); //$NON-NLS-1$
+    if (page < this.m_titles.size()) {
+      out.write(" | <a href=\""); //$NON-NLS-1$
+      out.write(this.__fileName(page + 1));
+      out.write("\">next&nbsp;&#8594;</a>"); //$NON-NLS-1$
+    }
+    out.write("</div>"); //$NON-NLS-1$
+    out.newLine();
+  }
+
+  /**
+   * Write the main page and the pages
+   *
+   * @return the list of the created pages
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final ArrayList<Path> __write() throws IOException {
+    final ArrayList<Path> pages;
+    final String begin, end;
+    final Path temp;
+    BufferedWriter pageWriter;
+    String line, title;
+    Path path;
+    int page;
+
+    begin = String.valueOf(_XHTML10PageSplitter.PAGE_BEGIN);
+    end = String.valueOf(_XHTML10PageSplitter.PAGE_END);
+    pages = new ArrayList<>(this.m_titles.size());
+    temp = this.m_document.resolveSibling(this.__fileName(0) + ".tmp"); //$NON-NLS-1$
+
+    pageWriter = null;
+    page = 0;
+    try (final BufferedReader reader = this.__openReader()) {
+      try (final BufferedWriter mainWriter = _XHTML10PageSplitter
+          .__openWriter(temp)) {
+        try {
+          while ((line = reader.readLine()) != null) {
+            if (line.equals(begin)) {
+              page++;
+              path = this.m_document.resolveSibling(this.__fileName(page));
+              pages.add(path);
+
+              title = this.m_titles.get(page - 1);
+              mainWriter.write("<p class=\"pageLink\"><a href=\""); //$NON-NLS-1$
+              mainWriter.write(this.__fileName(page));
+              mainWriter.write("\">"); //$NON-NLS-1$
+              mainWriter.write(((title != null) && (title.length() > 0))//
+              ? title
+                  : ("Section " + page)); //$NON-NLS-1$
+              mainWriter.write("</a></p>"); //$NON-NLS-1$
+              mainWriter.newLine();
+
+              pageWriter = _XHTML10PageSplitter.__openWriter(path);
+              pageWriter.write(this.m_head);
+              pageWriter.newLine();
+              this.__writeNavigation(page, pageWriter);
+              continue;
+            }
+
+            if (line.equals(end)) {
+              if (pageWriter != null) {
+                this.__writeNavigation(page, pageWriter);
+                pageWriter.write(_XHTML10PageSplitter.BODY_HTML_END);
+                pageWriter.close();
+                pageWriter = null;
+              }
+              continue;
+            }
+
+            if (pageWriter != null) {
+              this.__writeLine(line, page, pageWriter);
+            } else {
+              this.__writeLine(line, 0, mainWriter);
+            }
+          }
+        } finally {
+          if (pageWriter != null) {
+            pageWriter.close();
+          }
+        }
+      }
+    }
+
+    Files.move(temp, this.m_document, StandardCopyOption.REPLACE_EXISTING);
+    return pages;
+  }
+}
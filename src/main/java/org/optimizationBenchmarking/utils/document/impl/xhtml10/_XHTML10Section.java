@@ -1,8 +1,10 @@
 package org.optimizationBenchmarking.utils.document.impl.xhtml10;
 
+import org.optimizationBenchmarking.utils.document.impl.abstr.DocumentBody;
 import org.optimizationBenchmarking.utils.document.impl.abstr.DocumentPart;
 import org.optimizationBenchmarking.utils.document.impl.abstr.Section;
 import org.optimizationBenchmarking.utils.document.spec.ILabel;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /** a section in a XHTML document */
 final class _XHTML10Section extends Section {
@@ -27,17 +29,48 @@ final class _XHTML10Section extends Section {
     this.open();
   }
 
+  /**
+   * Is this a top-level section of a chunked document, i.e., a section
+   * which will become an own page?
+   *
+   * @return {@code true} if this section will become an own page,
+   *         {@code false} otherwise
+   */
+  private final boolean __isPage() {
+    return ((this.getOwner() instanceof DocumentBody) && //
+    ((_XHTML10Document) (this.getDocument())).m_chunked);
+  }
+
   /** {@inheritDoc} */
   @Override
   protected synchronized final void onOpen() {
+    final ITextOutput out;
+
     super.onOpen();
-    this.getTextOutput().append(_XHTML10Section.SECTION_DIV_BEGIN);
+    out = this.getTextOutput();
+    if (this.__isPage()) {
+      out.appendLineBreak();
+      out.append(_XHTML10PageSplitter.PAGE_BEGIN);
+      out.appendLineBreak();
+    }
+    out.append(_XHTML10Section.SECTION_DIV_BEGIN);
   }
 
   /** {@inheritDoc} */
   @Override
   protected synchronized final void onClose() {
-    this.getTextOutput().append(XHTML10Driver.DIV_END);
+    final ITextOutput out;
+
+    out = this.getTextOutput();
+    out.append(XHTML10Driver.DIV_END);
+    if (this.__isPage()) {
+      out.appendLineBreak();
+      out.append(_XHTML10PageSplitter.PAGE_END);
+      out.appendLineBreak();
+      // if we write directly to the document, this pushes the section to
+      // the disk
+      out.flush();
+    }
     super.onClose();
   }
 }
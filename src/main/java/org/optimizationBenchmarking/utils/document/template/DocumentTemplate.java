@@ -0,0 +1,202 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optimizationBenchmarking.utils.document.spec.IDocumentElement;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.xml.sax.SAXException;
+
+/**
+ * <p>
+ * A compiled document template. Loading a template via
+ * {@link DocumentXMLInput} and {@link DocumentXMLHandler} parses and
+ * validates the template XML every time it is used. A compiled template
+ * is parsed and validated only once and stored as an immutable sequence
+ * of instructions. All formatters referenced via
+ * {@value org.optimizationBenchmarking.utils.document.template.DocumentXML#ATTR_FORMAT_INSTANCE}
+ * or
+ * {@value org.optimizationBenchmarking.utils.document.template.DocumentXML#ATTR_FORMAT_PATTERN}
+ * are resolved during compilation as well, so that no reflective look-up
+ * is necessary when the template is {@link #apply(IDocumentElement, Map)
+ * applied}.
+ * </p>
+ * <p>
+ * A compiled template can be applied to any number of document elements,
+ * also in parallel from different threads. Compiled templates are cached:
+ * {@link #compile(Path)} returns the same template object as long as the
+ * last modification time of the template file does not change.
+ * </p>
+ */
+public final class DocumentTemplate {
+
+  /** the instructions */
+  private final _TemplateInstruction[] m_instructions;
+
+  /** the pre-resolved formatters */
+  private final Map<Object, Object> m_formatters;
+
+  /** the last modification time of the template source */
+  private final long m_lastModified;
+
+  /**
+   * create the document template
+   *
+   * @param recorder
+   *          the recorder holding the compiled template
+   * @param lastModified
+   *          the last modification time of the template source
+   */
+  private DocumentTemplate(final _DocumentTemplateRecorder recorder,
+      final long lastModified) {
+    super();
+    this.m_instructions = recorder._getInstructions();
+    this.m_formatters = Collections.unmodifiableMap(//
+        new HashMap<>(recorder._getFormatters()));
+    this.m_lastModified = lastModified;
+  }
+
+  /**
+   * Compile a template stored in a file. If the file has been compiled
+   * before and was not modified since then, the cached template is
+   * returned.
+   *
+   * @param path
+   *          the path to the template file
+   * @return the compiled template
+   * @throws IOException
+   *           if the template cannot be read
+   */
+  public static final DocumentTemplate compile(final Path path)
+      throws IOException {
+    final Path key;
+    final long lastModified;
+    DocumentTemplate template;
+
+    if (path == null) {
+      throw new IllegalArgumentException(//
+          "Path to template cannot be null."); //$NON-NLS-1$
+    }
+
+    key = PathUtils.normalize(path);
+    lastModified = Files.getLastModifiedTime(key).toMillis();
+
+    template = __TemplateCache.CACHE.get(key);
+    if ((template == null) || (template.m_lastModified != lastModified)) {
+      template = DocumentTemplate.__compile(key, null, null, lastModified);
+      __TemplateCache.CACHE.put(key, template);
+    }
+    return template;
+  }
+
+  /**
+   * Compile a template stored as a resource. Resources are considered to
+   * be immutable, so the cached template is returned if the resource has
+   * been compiled before.
+   *
+   * @param clazz
+   *          the class relative to which the resource should be resolved
+   * @param name
+   *          the name of the resource
+   * @return the compiled template
+   * @throws IOException
+   *           if the template cannot be read
+   */
+  public static final DocumentTemplate compile(final Class<?> clazz,
+      final String name) throws IOException {
+    final String key;
+    DocumentTemplate template;
+
+    if ((clazz == null) || (name == null)) {
+      throw new IllegalArgumentException(//
+          "Class and name of template resource cannot be null."); //$NON-NLS-1$
+    }
+
+    key = (clazz.getName() + '/' + name);
+    template = __TemplateCache.CACHE.get(key);
+    if (template == null) {
+      template = DocumentTemplate.__compile(null, clazz, name, 0L);
+      __TemplateCache.CACHE.put(key, template);
+    }
+    return template;
+  }
+
+  /**
+   * Compile a template
+   *
+   * @param path
+   *          the path to the template file, or {@code null} if a resource
+   *          should be loaded
+   * @param clazz
+   *          the class relative to which the resource should be resolved
+   * @param name
+   *          the name of the resource
+   * @param lastModified
+   *          the last modification time of the template source
+   * @return the compiled template
+   * @throws IOException
+   *           if the template cannot be read
+   */
+  private static final DocumentTemplate __compile(final Path path,
+      final Class<?> clazz, final String name, final long lastModified)
+      throws IOException {
+    final _DocumentTemplateRecorder recorder;
+
+    recorder = new _DocumentTemplateRecorder();
+    if (path != null) {
+      _DocumentTemplateInput.getInstance().use().setDestination(recorder)
+          .addPath(path).create().call();
+    } else {
+      _DocumentTemplateInput.getInstance().use().setDestination(recorder)
+          .addResource(clazz, name).create().call();
+    }
+    return new DocumentTemplate(recorder, lastModified);
+  }
+
+  /**
+   * Apply this template to a document element.
+   *
+   * @param dest
+   *          the document element to write the template contents into
+   * @param properties
+   *          a map with properties which can be accessed by the template,
+   *          or {@code null} if none are needed
+   * @return the properties, which may have been modified by callbacks
+   */
+  public final Map<Object, Object> apply(final IDocumentElement dest,
+      final Map<Object, Object> properties) {
+    final DocumentXMLHandler handler;
+
+    if (dest == null) {
+      throw new IllegalArgumentException(//
+          "Destination document element cannot be null."); //$NON-NLS-1$
+    }
+
+    handler = new DocumentXMLHandler(dest, properties, this.m_formatters);
+    try {
+      handler.startDocument();
+      for (final _TemplateInstruction instruction : this.m_instructions) {
+        instruction._replay(handler);
+      }
+      handler.endDocument();
+    } catch (final SAXException error) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Error while applying compiled document template.",//$NON-NLS-1$
+          true, error);
+    }
+    return handler.getProperties();
+  }
+
+  /** the cache of compiled templates */
+  private static final class __TemplateCache {
+    /** the cache */
+    static final ConcurrentHashMap<Object, DocumentTemplate> CACHE = //
+    new ConcurrentHashMap<>();
+  }
+}
@@ -50,7 +50,7 @@ import org.xml.sax.SAXException;
 public final class DocumentXMLHandler extends DelegatingHandler {
 
   /** the number format prefixes */
-  private static final String[] NUMBER_FORMAT_PREFIXES;
+  static final String[] NUMBER_FORMAT_PREFIXES;
 
   static {
     final LinkedHashSet<String> paths;
@@ -156,6 +156,26 @@ public final class DocumentXMLHandler extends DelegatingHandler {
     this(null, dest, properties);
   }
 
+  /**
+   * Create a handler for replaying a {@link DocumentTemplate compiled
+   * template}: The formatters which have been resolved during the
+   * compilation are put into the {@link #m_cache cache}, so they do not
+   * need to be loaded via reflection again.
+   *
+   * @param dest
+   *          the document element to load the data into
+   * @param properties
+   *          a map with properties which can be accessed
+   * @param formatters
+   *          the pre-resolved formatters
+   */
+  DocumentXMLHandler(final IDocumentElement dest,
+      final Map<Object, Object> properties,
+      final Map<Object, Object> formatters) {
+    this(null, dest, properties);
+    this.m_cache.putAll(formatters);
+  }
+
   /**
    * Obtain the properties of this handler
    *
@@ -1579,6 +1599,7 @@ public final class DocumentXMLHandler extends DelegatingHandler {
               this.m_cache.put(DecimalFormatSymbols.class, x);
             }
             this.m_formatFormatter = new DecimalFormat(s, x);
+            this.m_cache.put(s, this.m_formatFormatter);
           }
         }
       }
@@ -35,6 +35,20 @@ public final class DocumentXMLInput extends
   @Override
   protected final void configureSAXParserFactory(final SAXParserFactory spf)
       throws Throwable {
+    DocumentXMLInput._configureSAXParserFactory(spf);
+  }
+
+  /**
+   * Configure a SAX parser factory for reading DocumentXML, i.e., load the
+   * schema.
+   *
+   * @param spf
+   *          the sax parser factory
+   * @throws Throwable
+   *           if something fails
+   */
+  static final void _configureSAXParserFactory(final SAXParserFactory spf)
+      throws Throwable {
     Object rec;
     SchemaFactory sf;
     Schema schema;
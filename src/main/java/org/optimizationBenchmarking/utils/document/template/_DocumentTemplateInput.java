@@ -0,0 +1,48 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.XMLInputTool;
+
+/**
+ * A driver for loading a template into a
+ * {@link _DocumentTemplateRecorder}, i.e., for compiling it into a
+ * {@link DocumentTemplate}.
+ */
+final class _DocumentTemplateInput extends
+    XMLInputTool<_DocumentTemplateRecorder> {
+
+  /** create */
+  _DocumentTemplateInput() {
+    super();
+  }
+
+  /**
+   * Get the instance of the {@link _DocumentTemplateInput}
+   *
+   * @return the instance of the {@link _DocumentTemplateInput}
+   */
+  static final _DocumentTemplateInput getInstance() {
+    return __DocumentTemplateInputLoader.INSTANCE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void configureSAXParserFactory(final SAXParserFactory spf)
+      throws Throwable {
+    DocumentXMLInput._configureSAXParserFactory(spf);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return "Document Template Compiler"; //$NON-NLS-1$
+  }
+
+  /** the loader for lazy initialization */
+  private static final class __DocumentTemplateInputLoader {
+
+    /** create */
+    static final _DocumentTemplateInput INSTANCE = new _DocumentTemplateInput();
+  }
+}
@@ -0,0 +1,149 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+
+import org.optimizationBenchmarking.utils.io.xml.DelegatingHandler;
+import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+
+/**
+ * A handler which records the SAX events of a template into a list of
+ * {@link _TemplateInstruction}s and resolves all formatters referenced by
+ * the template, so that they do not need to be loaded via reflection when
+ * the template is applied.
+ */
+final class _DocumentTemplateRecorder extends DelegatingHandler {
+
+  /** the instructions */
+  private final ArrayList<_TemplateInstruction> m_instructions;
+
+  /** the resolved formatters */
+  private final HashMap<Object, Object> m_formatters;
+
+  /** the text collected so far */
+  private final MemoryTextOutput m_text;
+
+  /** the symbols for decimal formats, or {@code null} if not yet needed */
+  private DecimalFormatSymbols m_symbols;
+
+  /** create */
+  _DocumentTemplateRecorder() {
+    super(null);
+    this.m_instructions = new ArrayList<>();
+    this.m_formatters = new HashMap<>();
+    this.m_text = new MemoryTextOutput();
+  }
+
+  /** flush the collected text into a characters instruction */
+  private final void __flushText() {
+    if (this.m_text.length() > 0) {
+      this.m_instructions.add(new _TemplateCharacters(//
+          this.m_text.toString().toCharArray()));
+      this.m_text.clear();
+    }
+  }
+
+  /**
+   * Try to resolve the formatters referenced by an element
+   *
+   * @param attributes
+   *          the attributes
+   */
+  private final void __resolveFormatters(final Attributes attributes) {
+    String s;
+    Object formatter;
+
+    s = DelegatingHandler.getAttributeNormalized(attributes,
+        DocumentXML.NAMESPACE, DocumentXML.ATTR_FORMAT_INSTANCE);
+    if ((s != null) && (!(this.m_formatters.containsKey(s)))) {
+      try {
+        formatter = ReflectionUtils.getInstanceByName(Object.class, s,
+            DocumentXMLHandler.NUMBER_FORMAT_PREFIXES);
+      } catch (final Throwable error) {
+        // the error will be reported when the template is applied
+        formatter = null;
+      }
+      if (formatter != null) {
+        this.m_formatters.put(s, formatter);
+      }
+    }
+
+    s = DelegatingHandler.getAttributeNormalized(attributes,
+        DocumentXML.NAMESPACE, DocumentXML.ATTR_FORMAT_PATTERN);
+    if ((s != null) && (!(this.m_formatters.containsKey(s)))) {
+      if (this.m_symbols == null) {
+        this.m_symbols = new DecimalFormatSymbols(Locale.US);
+      }
+      try {
+        formatter = new DecimalFormat(s, this.m_symbols);
+      } catch (final Throwable error) {
+        // the error will be reported when the template is applied
+        formatter = null;
+      }
+      if (formatter != null) {
+        this.m_formatters.put(s, formatter);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void doStartElement(final String uri,
+      final String localName, final String qName,
+      final Attributes attributes) throws SAXException {
+    this.__flushText();
+    if ((uri == null) || (DocumentXML.NAMESPACE.equalsIgnoreCase(uri))) {
+      this.__resolveFormatters(attributes);
+    }
+    this.m_instructions.add(new _TemplateStartElement(uri, localName,
+        qName, attributes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void doEndElement(final String uri,
+      final String localName, final String qName) throws SAXException {
+    this.__flushText();
+    this.m_instructions.add(new _TemplateEndElement(uri, localName, qName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void doCharacters(final char[] ch, final int start,
+      final int length) throws SAXException {
+    this.m_text.append(ch, start, (start + length));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void doEndDocument() throws SAXException {
+    this.__flushText();
+    super.doEndDocument();
+  }
+
+  /**
+   * Get the recorded instructions
+   *
+   * @return the recorded instructions
+   */
+  final _TemplateInstruction[] _getInstructions() {
+    this.__flushText();
+    return this.m_instructions
+        .toArray(new _TemplateInstruction[this.m_instructions.size()]);
+  }
+
+  /**
+   * Get the resolved formatters
+   *
+   * @return the resolved formatters
+   */
+  final HashMap<Object, Object> _getFormatters() {
+    return this.m_formatters;
+  }
+}
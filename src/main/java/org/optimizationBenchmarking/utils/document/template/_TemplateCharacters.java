@@ -0,0 +1,30 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A block of text in a compiled template. Consecutive character events of
+ * the SAX stream are merged into a single block during compilation.
+ */
+final class _TemplateCharacters extends _TemplateInstruction {
+
+  /** the characters: never modified after construction */
+  private final char[] m_chars;
+
+  /**
+   * create the characters instruction
+   *
+   * @param chars
+   *          the characters
+   */
+  _TemplateCharacters(final char[] chars) {
+    super();
+    this.m_chars = chars;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _replay(final DocumentXMLHandler handler) throws SAXException {
+    handler.characters(this.m_chars, 0, this.m_chars.length);
+  }
+}
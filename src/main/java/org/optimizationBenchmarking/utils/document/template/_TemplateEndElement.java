@@ -0,0 +1,40 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import org.xml.sax.SAXException;
+
+/** The end of an element in a compiled template. */
+final class _TemplateEndElement extends _TemplateInstruction {
+
+  /** the namespace uri */
+  private final String m_uri;
+
+  /** the local name */
+  private final String m_localName;
+
+  /** the qualified name */
+  private final String m_qName;
+
+  /**
+   * create the end element instruction
+   *
+   * @param uri
+   *          the namespace uri
+   * @param localName
+   *          the local name
+   * @param qName
+   *          the qualified name
+   */
+  _TemplateEndElement(final String uri, final String localName,
+      final String qName) {
+    super();
+    this.m_uri = uri;
+    this.m_localName = localName;
+    this.m_qName = qName;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _replay(final DocumentXMLHandler handler) throws SAXException {
+    handler.endElement(this.m_uri, this.m_localName, this.m_qName);
+  }
+}
@@ -0,0 +1,28 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import org.xml.sax.SAXException;
+
+/**
+ * An immutable instruction of a {@link DocumentTemplate compiled
+ * template}. Each instruction corresponds to one event of the original
+ * SAX stream and can be replayed against any {@link DocumentXMLHandler}
+ * without parsing or validating the template XML again.
+ */
+abstract class _TemplateInstruction {
+
+  /** create */
+  _TemplateInstruction() {
+    super();
+  }
+
+  /**
+   * Replay this instruction.
+   *
+   * @param handler
+   *          the handler to replay the instruction on
+   * @throws SAXException
+   *           if the handler fails
+   */
+  abstract void _replay(final DocumentXMLHandler handler)
+      throws SAXException;
+}
@@ -0,0 +1,49 @@
+package org.optimizationBenchmarking.utils.document.template;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/** The start of an element in a compiled template. */
+final class _TemplateStartElement extends _TemplateInstruction {
+
+  /** the namespace uri */
+  private final String m_uri;
+
+  /** the local name */
+  private final String m_localName;
+
+  /** the qualified name */
+  private final String m_qName;
+
+  /** the attributes: never modified after construction */
+  private final AttributesImpl m_attributes;
+
+  /**
+   * create the start element instruction
+   *
+   * @param uri
+   *          the namespace uri
+   * @param localName
+   *          the local name
+   * @param qName
+   *          the qualified name
+   * @param attributes
+   *          the attributes, which will be copied
+   */
+  _TemplateStartElement(final String uri, final String localName,
+      final String qName, final Attributes attributes) {
+    super();
+    this.m_uri = uri;
+    this.m_localName = localName;
+    this.m_qName = qName;
+    this.m_attributes = new AttributesImpl(attributes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _replay(final DocumentXMLHandler handler) throws SAXException {
+    handler.startElement(this.m_uri, this.m_localName, this.m_qName,
+        this.m_attributes);
+  }
+}
@@ -0,0 +1,76 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.utils.graphics.graphic.EGraphicFormat;
+import org.optimizationBenchmarking.utils.tools.spec.IFileProducerListener;
+
+/**
+ * A driver which creates <a
+ * href="http://en.wikipedia.org/wiki/Portable_Network_Graphics">PNG</a>
+ * graphics Java's raster graphics, but renders and encodes them in
+ * parallel. Drawing operations are recorded and, when the graphic is
+ * closed, replayed onto horizontal tiles of the image in parallel. The
+ * tiles are then filtered and deflated in parallel and written as a
+ * standard PNG file which can be read by any PNG reader. This driver is
+ * useful for high-resolution exports of dense figures on multi-core
+ * machines.
+ */
+public final class ImageIOTiledPNGGraphicDriver extends
+    _ImageIORasterGraphicDriver {
+
+  /**
+   * Get the instance of the tiled PNG driver based on Java's imaging API
+   *
+   * @return the instance of the tiled PNG driver based on Java's imaging
+   *         API
+   */
+  public static final ImageIOTiledPNGGraphicDriver getInstance() {
+    return __ImageIOTiledPNGGraphicDriverLoader.INSTANCE;
+  }
+
+  /**
+   * Create a new tiled png driver for based on {@link javax.imageio
+   * ImageIO}.
+   */
+  ImageIOTiledPNGGraphicDriver() {
+    super(EGraphicFormat.PNG);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean canUse() {
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return "javax.imageio-based Tiled Parallel PNG Driver"; //$NON-NLS-1$
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final _ImageIORasterGraphic _create(final Path path,
+      final Logger logger, final IFileProducerListener listener,
+      final BufferedImage img, final Graphics2D g, final int w,
+      final int h, final double xDPI, final double yDPI,
+      final double quality) {
+    return new _ImageIOTiledPNGGraphic(path, logger, listener, img,
+        new _RecordingGraphics2D(g), w, h, xDPI, yDPI);
+  }
+
+  /** the default loader */
+  private static final class __ImageIOTiledPNGGraphicDriverLoader {
+    /**
+     * the tiled graphic <a
+     * href="http://en.wikipedia.org/wiki/Portable_Network_Graphics"
+     * >PNG</a> driver instance
+     */
+    static final ImageIOTiledPNGGraphicDriver INSTANCE = //
+    new ImageIOTiledPNGGraphicDriver();
+  }
+}
@@ -3,6 +3,7 @@ package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.logging.Logger;
@@ -41,7 +42,7 @@ abstract class _ImageIORasterGraphic extends GraphicProxy<Graphics2D> {
   final double m_yDPI;
 
   /** the image */
-  private final BufferedImage m_img;
+  final BufferedImage m_img;
 
   /**
    * instantiate
@@ -138,6 +139,28 @@ abstract class _ImageIORasterGraphic extends GraphicProxy<Graphics2D> {
   /** {@inheritDoc} */
   @Override
   protected final void onClose() {
+    try {
+      try {
+        this._writeImage();
+      } finally {
+        super.onClose();
+      }
+    } catch (final Throwable tt) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow((//
+          "Error while finalizing " + //$NON-NLS-1$
+          this.getClass().getSimpleName()), true, tt);
+    }
+  }
+
+  /**
+   * Write the image to the graphic's path. By default, this is done via
+   * the {@link javax.imageio.ImageWriter} provided by
+   * {@link #_getImageWriterSPI()}.
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  void _writeImage() throws IOException {
     final ImageWriterSpi imageWriterSPI;
     final ImageWriter writer;
     final ImageTypeSpecifier typeSpecifier;
@@ -145,72 +168,62 @@ abstract class _ImageIORasterGraphic extends GraphicProxy<Graphics2D> {
     final boolean canUseParams, canUseMeta;
     final IIOMetadata metaData;
 
-    try {
-      try {
-        imageWriterSPI = this._getImageWriterSPI();
-        if (imageWriterSPI != null) {
-
-          writer = imageWriterSPI.createWriterInstance();
-          if (writer != null) {
-
-            canUseParams = this._canSetupImageWriterParameters();
-            canUseMeta = this._canSetupImageMetadata();
-            if (canUseParams || canUseMeta) {
-              imageWriterParams = writer.getDefaultWriteParam();
-              if (canUseParams && (imageWriterParams != null)) {
-                this._setupImageWriterParameters(imageWriterParams);
-              }
-            } else {
-              imageWriterParams = null;
-            }
+    imageWriterSPI = this._getImageWriterSPI();
+    if (imageWriterSPI != null) {
 
-            if (canUseMeta
-                && (imageWriterParams != null)
-                && ((typeSpecifier = ImageTypeSpecifier
-                .createFromBufferedImageType(//
-                    this.m_img.getType())) != null)) {
-              metaData = writer.getDefaultImageMetadata(typeSpecifier,
-                  imageWriterParams);
-              if ((metaData != null) && //
-                  (!(metaData.isReadOnly())) && //
-                  (metaData.isStandardMetadataFormatSupported())) {
-                this._setupImageMetadata(metaData);
-              }
-            } else {
-              metaData = null;
-            }
+      writer = imageWriterSPI.createWriterInstance();
+      if (writer != null) {
 
-            try (final OutputStream os = PathUtils.openOutputStream(//
-                this.getPath())) {
-              try (final ImageOutputStream ios = ImageIO
-                  .createImageOutputStream(os)) {
-
-                writer.setOutput(ios);
-
-                if (metaData != null) {
-                  writer.write(null, new IIOImage(this.m_img, null,
-                      metaData), imageWriterParams);
-                } else {
-                  if (imageWriterParams != null) {
-                    writer.write(null,
-                        new IIOImage(this.m_img, null, null),
-                        imageWriterParams);
-                  } else {
-                    writer.write(this.m_img);
-                  }
-                }
-              }
+        canUseParams = this._canSetupImageWriterParameters();
+        canUseMeta = this._canSetupImageMetadata();
+        if (canUseParams || canUseMeta) {
+          imageWriterParams = writer.getDefaultWriteParam();
+          if (canUseParams && (imageWriterParams != null)) {
+            this._setupImageWriterParameters(imageWriterParams);
+          }
+        } else {
+          imageWriterParams = null;
+        }
+
+        if (canUseMeta
+            && (imageWriterParams != null)
+            && ((typeSpecifier = ImageTypeSpecifier
+            .createFromBufferedImageType(//
+                this.m_img.getType())) != null)) {
+          metaData = writer.getDefaultImageMetadata(typeSpecifier,
+              imageWriterParams);
+          if ((metaData != null) && //
+              (!(metaData.isReadOnly())) && //
+              (metaData.isStandardMetadataFormatSupported())) {
+            this._setupImageMetadata(metaData);
+          }
+        } else {
+          metaData = null;
+        }
+
+        try (final OutputStream os = PathUtils.openOutputStream(//
+            this.getPath())) {
+          try (final ImageOutputStream ios = ImageIO
+              .createImageOutputStream(os)) {
 
+            writer.setOutput(ios);
+
+            if (metaData != null) {
+              writer.write(null, new IIOImage(this.m_img, null,
+                  metaData), imageWriterParams);
+            } else {
+              if (imageWriterParams != null) {
+                writer.write(null,
+                    new IIOImage(this.m_img, null, null),
+                    imageWriterParams);
+              } else {
+                writer.write(this.m_img);
+              }
             }
           }
+
         }
-      } finally {
-        super.onClose();
       }
-    } catch (final Throwable tt) {
-      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow((//
-          "Error while finalizing " + //$NON-NLS-1$
-          this.getClass().getSimpleName()), true, tt);
     }
   }
 }
@@ -0,0 +1,320 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.imageio.spi.ImageWriterSpi;
+
+import org.optimizationBenchmarking.utils.graphics.graphic.EGraphicFormat;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.math.units.ELength;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+import org.optimizationBenchmarking.utils.tools.spec.IFileProducerListener;
+
+/**
+ * An internal class for <a
+ * href="http://en.wikipedia.org/wiki/Portable_Network_Graphics">PNG</a>
+ * Java raster graphics which are rendered and encoded in parallel. All
+ * drawing operations are recorded by a {@link _RecordingGraphics2D}. When
+ * the graphic is closed, the image is split into horizontal tiles, the
+ * operations are replayed onto each tile in parallel, and the scan lines
+ * of the tiles are filtered and deflated in parallel as well.
+ */
+final class _ImageIOTiledPNGGraphic extends _ImageIORasterGraphic {
+
+  /** the minimum number of rows per tile */
+  private static final int MIN_TILE_ROWS = 64;
+
+  /** the png file signature */
+  private static final byte[] SIGNATURE = { ((byte) 137), ((byte) 80),
+      ((byte) 78), ((byte) 71), ((byte) 13), ((byte) 10), ((byte) 26),
+      ((byte) 10) };
+
+  /** the header chunk */
+  private static final byte[] IHDR = { ((byte) 'I'), ((byte) 'H'),
+      ((byte) 'D'), ((byte) 'R') };
+  /** the physical dimension chunk */
+  private static final byte[] PHYS = { ((byte) 'p'), ((byte) 'H'),
+      ((byte) 'Y'), ((byte) 's') };
+  /** the data chunk */
+  private static final byte[] IDAT = { ((byte) 'I'), ((byte) 'D'),
+      ((byte) 'A'), ((byte) 'T') };
+  /** the end chunk */
+  private static final byte[] IEND = { ((byte) 'I'), ((byte) 'E'),
+      ((byte) 'N'), ((byte) 'D') };
+
+  /** the zlib header for deflate with a 32K window */
+  private static final byte[] ZLIB_HEADER = { ((byte) 0x78), ((byte) 0x9c) };
+
+  /** the recording graphic */
+  private final _RecordingGraphics2D m_recorder;
+
+  /**
+   * instantiate
+   *
+   * @param path
+   *          the path
+   * @param logger
+   *          the logger
+   * @param listener
+   *          the object to notify when we are closed, or {@code null} if
+   *          none needs to be notified
+   * @param g
+   *          the recording graphics
+   * @param w
+   *          the width
+   * @param h
+   *          the height
+   * @param xDPI
+   *          the resolution along the x-axis
+   * @param yDPI
+   *          the resolution along the y-axis
+   * @param img
+   *          the buffered image
+   */
+  _ImageIOTiledPNGGraphic(final Path path, final Logger logger,
+      final IFileProducerListener listener, final BufferedImage img,
+      final _RecordingGraphics2D g, final int w, final int h,
+      final double xDPI, final double yDPI) {
+    super(path, logger, listener, img, g, w, h, xDPI, yDPI);
+    this.m_recorder = g;
+  }
+
+  /**
+   * Execute a set of jobs in parallel and wait for them. If we are not
+   * inside a {@link java.util.concurrent.ForkJoinPool}, the common pool is
+   * used.
+   *
+   * @param jobs
+   *          the jobs
+   */
+  @SuppressWarnings("rawtypes")
+  private static final void __parallel(final Runnable[] jobs) {
+    final Future[] futures;
+    int index;
+
+    if (jobs.length <= 1) {
+      for (final Runnable job : jobs) {
+        job.run();
+      }
+      return;
+    }
+
+    if (ForkJoinTask.inForkJoinPool()) {
+      Execute.join(Execute.parallelAndWait(null, jobs));
+      return;
+    }
+
+    futures = new Future[jobs.length];
+    for (index = futures.length; (--index) >= 0;) {
+      futures[index] = Execute.submitToCommonPool(jobs[index], null);
+    }
+    Execute.join(futures);
+  }
+
+  /**
+   * Compute the number of tiles
+   *
+   * @param rows
+   *          the number of rows
+   * @return the number of tiles
+   */
+  private static final int __tiles(final int rows) {
+    return Math.max(1, Math.min(//
+        Runtime.getRuntime().availableProcessors(),//
+        (rows / _ImageIOTiledPNGGraphic.MIN_TILE_ROWS)));
+  }
+
+  /**
+   * Write a chunk
+   *
+   * @param out
+   *          the output stream
+   * @param crc
+   *          the crc
+   * @param type
+   *          the chunk type
+   * @param length
+   *          the total length of the data
+   * @param data
+   *          the data
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final void __chunk(final DataOutputStream out,
+      final CRC32 crc, final byte[] type, final int length,
+      final byte[]... data) throws IOException {
+    crc.reset();
+    out.writeInt(length);
+    out.write(type);
+    crc.update(type);
+    for (final byte[] part : data) {
+      out.write(part);
+      crc.update(part);
+    }
+    out.writeInt((int) (crc.getValue()));
+  }
+
+  /**
+   * Convert a resolution in dots per inch to dots per meter
+   *
+   * @param dpi
+   *          the dots per inch
+   * @return the dots per meter
+   */
+  private static final int __dotsPerMeter(final double dpi) {
+    return ((int) (Math.max(1L, Math.round(//
+        dpi / ELength.INCH.convertTo(1d, ELength.METER)))));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _writeImage() throws IOException {
+    final _RecordingGraphics2D._Recording recording;
+    final _TileOperation[] operations;
+    final BufferedImage image;
+    final _PNGTileEncoder[] encoders;
+    final Runnable[] renderers;
+    final int width, height, mode, tiles;
+    final CRC32 crc;
+    final byte[] header, phys;
+    long adler, length;
+    int tile, start, end;
+
+    image = this.m_img;
+    width = image.getWidth();
+    height = image.getHeight();
+    recording = this.m_recorder._getRecording();
+    operations = recording._getOperations();
+
+    // render the tiles in parallel
+    tiles = (recording._needsSingleTile() ? 1 : //
+        _ImageIOTiledPNGGraphic.__tiles(height));
+    renderers = new Runnable[tiles];
+    for (tile = start = 0; tile < tiles; tile++, start = end) {
+      end = ((tile >= (tiles - 1)) ? height
+          : (int) ((((long) height) * (tile + 1)) / tiles));
+      renderers[tile] = new _TileRenderer(image, operations,
+          recording._getContextCount(), start, end);
+    }
+    _ImageIOTiledPNGGraphic.__parallel(renderers);
+
+    // filter and deflate the tiles in parallel
+    mode = _PNGTileEncoder._mode(image);
+    encoders = new _PNGTileEncoder[_ImageIOTiledPNGGraphic
+        .__tiles(height)];
+    for (tile = start = 0; tile < encoders.length; tile++, start = end) {
+      end = ((tile >= (encoders.length - 1)) ? height
+          : (int) ((((long) height) * (tile + 1)) / encoders.length));
+      encoders[tile] = new _PNGTileEncoder(image, mode, start, end,
+          (tile >= (encoders.length - 1)), Deflater.DEFAULT_COMPRESSION);
+    }
+    _ImageIOTiledPNGGraphic.__parallel(encoders);
+
+    header = new byte[13];
+    header[0] = ((byte) (width >>> 24));
+    header[1] = ((byte) (width >>> 16));
+    header[2] = ((byte) (width >>> 8));
+    header[3] = ((byte) width);
+    header[4] = ((byte) (height >>> 24));
+    header[5] = ((byte) (height >>> 16));
+    header[6] = ((byte) (height >>> 8));
+    header[7] = ((byte) height);
+    switch (mode) {
+      case _PNGTileEncoder.MODE_GRAY_8: {
+        header[8] = 8;
+        header[9] = 0;
+        break;
+      }
+      case _PNGTileEncoder.MODE_GRAY_16: {
+        header[8] = 16;
+        header[9] = 0;
+        break;
+      }
+      case _PNGTileEncoder.MODE_RGB_PACKED:
+      case _PNGTileEncoder.MODE_RGB: {
+        header[8] = 8;
+        header[9] = 2;
+        break;
+      }
+      default: {
+        header[8] = 8;
+        header[9] = 6;
+      }
+    }
+    // compression method, filter method, and interlace method are all 0
+
+    phys = new byte[9];
+    start = _ImageIOTiledPNGGraphic.__dotsPerMeter(this.m_xDPI);
+    phys[0] = ((byte) (start >>> 24));
+    phys[1] = ((byte) (start >>> 16));
+    phys[2] = ((byte) (start >>> 8));
+    phys[3] = ((byte) start);
+    start = _ImageIOTiledPNGGraphic.__dotsPerMeter(this.m_yDPI);
+    phys[4] = ((byte) (start >>> 24));
+    phys[5] = ((byte) (start >>> 16));
+    phys[6] = ((byte) (start >>> 8));
+    phys[7] = ((byte) start);
+    phys[8] = 1;// unit is meter
+
+    crc = new CRC32();
+    try (final OutputStream os = PathUtils.openOutputStream(//
+        this.getPath())) {
+      try (final DataOutputStream out = new DataOutputStream(os)) {
+        out.write(_ImageIOTiledPNGGraphic.SIGNATURE);
+        _ImageIOTiledPNGGraphic.__chunk(out, crc,
+            _ImageIOTiledPNGGraphic.IHDR, header.length, header);
+        _ImageIOTiledPNGGraphic.__chunk(out, crc,
+            _ImageIOTiledPNGGraphic.PHYS, phys.length, phys);
+
+        // the zlib stream is the concatenation of all idat chunks
+        _ImageIOTiledPNGGraphic.__chunk(out, crc,
+            _ImageIOTiledPNGGraphic.IDAT,
+            _ImageIOTiledPNGGraphic.ZLIB_HEADER.length,
+            _ImageIOTiledPNGGraphic.ZLIB_HEADER);
+
+        adler = 1L;
+        for (tile = 0; tile < encoders.length; tile++) {
+          adler = _PNGTileEncoder._combineAdler32(adler,
+              encoders[tile].m_adler32, encoders[tile].m_length);
+          length = encoders[tile].m_compressed.size();
+          if (length > 0) {
+            _ImageIOTiledPNGGraphic.__chunk(out, crc,
+                _ImageIOTiledPNGGraphic.IDAT, ((int) length),
+                encoders[tile].m_compressed.toByteArray());
+          }
+          encoders[tile] = null;
+        }
+
+        _ImageIOTiledPNGGraphic.__chunk(out, crc,
+            _ImageIOTiledPNGGraphic.IDAT, 4, new byte[] {//
+                ((byte) (adler >>> 24)),//
+                ((byte) (adler >>> 16)),//
+                ((byte) (adler >>> 8)),//
+                ((byte) adler) });
+        _ImageIOTiledPNGGraphic.__chunk(out, crc,
+            _ImageIOTiledPNGGraphic.IEND, 0);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final ImageWriterSpi _getImageWriterSPI() {
+    return ImageIOPNGGraphicDriver._ImageIOPNGSPILoader.SPI;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final EGraphicFormat getGraphicFormat() {
+    return EGraphicFormat.PNG;
+  }
+}
@@ -0,0 +1,437 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * A job which filters and deflates the scan lines of one horizontal tile
+ * of an image for a <a
+ * href="http://en.wikipedia.org/wiki/Portable_Network_Graphics">PNG</a>
+ * file. All tiles but the last one are terminated with a
+ * {@link java.util.zip.Deflater#SYNC_FLUSH sync flush} and without the
+ * final-block marker, so that the raw deflate streams of all tiles can
+ * simply be concatenated to one valid zlib stream (the same technique is
+ * used by parallel gzip implementations).
+ */
+final class _PNGTileEncoder implements Runnable {
+
+  /** the image is stored as 8 bit gray scale */
+  static final int MODE_GRAY_8 = 0;
+  /** the image is stored as 16 bit gray scale */
+  static final int MODE_GRAY_16 = (_PNGTileEncoder.MODE_GRAY_8 + 1);
+  /** the image is stored as 24 bit rgb from packed integers */
+  static final int MODE_RGB_PACKED = (_PNGTileEncoder.MODE_GRAY_16 + 1);
+  /** the image is stored as 32 bit argb from packed integers */
+  static final int MODE_ARGB_PACKED = (_PNGTileEncoder.MODE_RGB_PACKED + 1);
+  /** the image is stored as 24 bit rgb from a generic image */
+  static final int MODE_RGB = (_PNGTileEncoder.MODE_ARGB_PACKED + 1);
+  /** the image is stored as 32 bit argb from a generic image */
+  static final int MODE_ARGB = (_PNGTileEncoder.MODE_RGB + 1);
+
+  /** the image */
+  private final BufferedImage m_image;
+
+  /** the encoding mode */
+  private final int m_mode;
+
+  /** the first row of the tile (inclusive) */
+  private final int m_startRow;
+
+  /** the last row of the tile (exclusive) */
+  private final int m_endRow;
+
+  /** is this the last tile? */
+  private final boolean m_isLast;
+
+  /** the compression level */
+  private final int m_level;
+
+  /** the compressed data */
+  ByteArrayOutputStream m_compressed;
+
+  /** the adler-32 checksum of the uncompressed data of this tile */
+  long m_adler32;
+
+  /** the number of uncompressed bytes of this tile */
+  long m_length;
+
+  /**
+   * create the tile encoder
+   *
+   * @param image
+   *          the image
+   * @param mode
+   *          the encoding mode
+   * @param startRow
+   *          the first row of the tile (inclusive)
+   * @param endRow
+   *          the last row of the tile (exclusive)
+   * @param isLast
+   *          is this the last tile?
+   * @param level
+   *          the compression level
+   */
+  _PNGTileEncoder(final BufferedImage image, final int mode,
+      final int startRow, final int endRow, final boolean isLast,
+      final int level) {
+    super();
+    this.m_image = image;
+    this.m_mode = mode;
+    this.m_startRow = startRow;
+    this.m_endRow = endRow;
+    this.m_isLast = isLast;
+    this.m_level = level;
+  }
+
+  /**
+   * Get the number of bytes per pixel for a given mode
+   *
+   * @param mode
+   *          the mode
+   * @return the number of bytes per pixel
+   */
+  static final int _bytesPerPixel(final int mode) {
+    switch (mode) {
+      case MODE_GRAY_8: {
+        return 1;
+      }
+      case MODE_GRAY_16: {
+        return 2;
+      }
+      case MODE_RGB_PACKED:
+      case MODE_RGB: {
+        return 3;
+      }
+      default: {
+        return 4;
+      }
+    }
+  }
+
+  /**
+   * Get the encoding mode for an image
+   *
+   * @param image
+   *          the image
+   * @return the mode
+   */
+  static final int _mode(final BufferedImage image) {
+    switch (image.getType()) {
+      case BufferedImage.TYPE_BYTE_GRAY: {
+        return _PNGTileEncoder.MODE_GRAY_8;
+      }
+      case BufferedImage.TYPE_USHORT_GRAY: {
+        return _PNGTileEncoder.MODE_GRAY_16;
+      }
+      case BufferedImage.TYPE_INT_RGB: {
+        return _PNGTileEncoder.MODE_RGB_PACKED;
+      }
+      case BufferedImage.TYPE_INT_ARGB: {
+        return _PNGTileEncoder.MODE_ARGB_PACKED;
+      }
+      default: {
+        return (image.getColorModel().hasAlpha() ? _PNGTileEncoder.MODE_ARGB
+            : _PNGTileEncoder.MODE_RGB);
+      }
+    }
+  }
+
+  /**
+   * Load the raw bytes of a scan line
+   *
+   * @param row
+   *          the row index
+   * @param dest
+   *          the destination
+   * @param ints
+   *          a temporary integer array, or {@code null} if not needed
+   */
+  private final void __loadRow(final int row, final byte[] dest,
+      final int[] ints) {
+    final Raster raster;
+    final int width;
+    final short[] shorts;
+    int index;
+
+    width = this.m_image.getWidth();
+    raster = this.m_image.getRaster();
+    index = 0;
+
+    switch (this.m_mode) {
+      case MODE_GRAY_8: {
+        System.arraycopy(
+            raster.getDataElements(0, row, width, 1, null), 0, dest, 0,
+            width);
+        return;
+      }
+      case MODE_GRAY_16: {
+        shorts = ((short[]) (raster.getDataElements(0, row, width, 1,
+            null)));
+        for (final short s : shorts) {
+          dest[index++] = ((byte) (s >>> 8));
+          dest[index++] = ((byte) s);
+        }
+        return;
+      }
+      case MODE_RGB_PACKED:
+      case MODE_ARGB_PACKED: {
+        raster.getDataElements(0, row, width, 1, ints);
+        break;
+      }
+      default: {
+        this.m_image.getRGB(0, row, width, 1, ints, 0, width);
+      }
+    }
+
+    if ((this.m_mode == _PNGTileEncoder.MODE_RGB_PACKED)
+        || (this.m_mode == _PNGTileEncoder.MODE_RGB)) {
+      for (final int pixel : ints) {
+        dest[index++] = ((byte) (pixel >>> 16));
+        dest[index++] = ((byte) (pixel >>> 8));
+        dest[index++] = ((byte) pixel);
+      }
+    } else {
+      for (final int pixel : ints) {
+        dest[index++] = ((byte) (pixel >>> 16));
+        dest[index++] = ((byte) (pixel >>> 8));
+        dest[index++] = ((byte) pixel);
+        dest[index++] = ((byte) (pixel >>> 24));
+      }
+    }
+  }
+
+  /**
+   * The Paeth predictor
+   *
+   * @param a
+   *          the byte to the left
+   * @param b
+   *          the byte above
+   * @param c
+   *          the byte above left
+   * @return the prediction
+   */
+  private static final int __paeth(final int a, final int b, final int c) {
+    final int p, pa, pb, pc;
+
+    p = ((a + b) - c);
+    pa = Math.abs(p - a);
+    pb = Math.abs(p - b);
+    pc = Math.abs(p - c);
+    if ((pa <= pb) && (pa <= pc)) {
+      return a;
+    }
+    if (pb <= pc) {
+      return b;
+    }
+    return c;
+  }
+
+  /**
+   * Apply a filter to a scan line
+   *
+   * @param filter
+   *          the filter type
+   * @param cur
+   *          the current scan line
+   * @param prev
+   *          the previous scan line
+   * @param bpp
+   *          the bytes per pixel
+   * @param dest
+   *          the destination array, whose first element will receive the
+   *          filter type, or {@code null} if only the sum of absolute
+   *          values should be computed
+   * @return the sum of absolute values of the filtered bytes
+   */
+  private static final long __filter(final int filter, final byte[] cur,
+      final byte[] prev, final int bpp, final byte[] dest) {
+    final int length;
+    long sum;
+    int index, x, a, b, c, v;
+
+    length = cur.length;
+    sum = 0L;
+    for (index = 0; index < length; index++) {
+      x = (cur[index] & 0xff);
+      if (index >= bpp) {
+        a = (cur[index - bpp] & 0xff);
+        c = (prev[index - bpp] & 0xff);
+      } else {
+        a = c = 0;
+      }
+      b = (prev[index] & 0xff);
+
+      switch (filter) {
+        case 1: {
+          v = (x - a);
+          break;
+        }
+        case 2: {
+          v = (x - b);
+          break;
+        }
+        case 3: {
+          v = (x - ((a + b) >>> 1));
+          break;
+        }
+        case 4: {
+          v = (x - _PNGTileEncoder.__paeth(a, b, c));
+          break;
+        }
+        default: {
+          v = x;
+        }
+      }
+
+      if (dest != null) {
+        dest[index + 1] = ((byte) v);
+      } else {
+        sum += Math.abs((byte) v);
+      }
+    }
+
+    if (dest != null) {
+      dest[0] = ((byte) filter);
+    }
+    return sum;
+  }
+
+  /**
+   * Deflate the data
+   *
+   * @param deflater
+   *          the deflater
+   * @param buffer
+   *          the buffer
+   * @param flush
+   *          the flush mode
+   */
+  private final void __deflate(final Deflater deflater,
+      final byte[] buffer, final int flush) {
+    int length;
+
+    do {
+      length = deflater.deflate(buffer, 0, buffer.length, flush);
+      if (length > 0) {
+        this.m_compressed.write(buffer, 0, length);
+      }
+    } while (length >= buffer.length);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void run() {
+    final int bpp, rowBytes;
+    final Deflater deflater;
+    final Adler32 adler;
+    final byte[] filtered, buffer;
+    final int[] ints;
+    byte[] cur, prev, swap;
+    long sum, bestSum;
+    int row, filter, bestFilter;
+
+    bpp = _PNGTileEncoder._bytesPerPixel(this.m_mode);
+    rowBytes = (this.m_image.getWidth() * bpp);
+    ints = ((this.m_mode >= _PNGTileEncoder.MODE_RGB_PACKED) ? new int[this.m_image
+        .getWidth()] : null);
+
+    cur = new byte[rowBytes];
+    prev = new byte[rowBytes];
+    filtered = new byte[rowBytes + 1];
+    buffer = new byte[Math.max(4096, (rowBytes << 1))];
+
+    if (this.m_startRow > 0) {
+      this.__loadRow((this.m_startRow - 1), prev, ints);
+    }
+
+    this.m_compressed = new ByteArrayOutputStream(//
+        Math.max(1024, ((this.m_endRow - this.m_startRow) * rowBytes) >>> 2));
+    adler = new Adler32();
+    deflater = new Deflater(this.m_level, true);
+    try {
+      for (row = this.m_startRow; row < this.m_endRow; row++) {
+        this.__loadRow(row, cur, ints);
+
+        // adaptive filtering: minimum sum of absolute differences
+        bestFilter = 0;
+        bestSum = Long.MAX_VALUE;
+        for (filter = 0; filter <= 4; filter++) {
+          sum = _PNGTileEncoder.__filter(filter, cur, prev, bpp, null);
+          if (sum < bestSum) {
+            bestSum = sum;
+            bestFilter = filter;
+          }
+        }
+        _PNGTileEncoder.__filter(bestFilter, cur, prev, bpp, filtered);
+
+        adler.update(filtered);
+        deflater.setInput(filtered);
+        while (!(deflater.needsInput())) {
+          this.__deflate(deflater, buffer, Deflater.NO_FLUSH);
+        }
+
+        swap = prev;
+        prev = cur;
+        cur = swap;
+      }
+
+      if (this.m_isLast) {
+        deflater.finish();
+        while (!(deflater.finished())) {
+          this.__deflate(deflater, buffer, Deflater.NO_FLUSH);
+        }
+      } else {
+        this.__deflate(deflater, buffer, Deflater.SYNC_FLUSH);
+      }
+    } finally {
+      deflater.end();
+    }
+
+    this.m_adler32 = adler.getValue();
+    this.m_length = (((long) (this.m_endRow - this.m_startRow)) * //
+    (rowBytes + 1));
+  }
+
+  /**
+   * Combine two adler-32 checksums, as done by zlib's
+   * {@code adler32_combine}.
+   *
+   * @param adler1
+   *          the checksum of the first block
+   * @param adler2
+   *          the checksum of the second block
+   * @param length2
+   *          the length of the second block
+   * @return the checksum of the concatenation of both blocks
+   */
+  static final long _combineAdler32(final long adler1, final long adler2,
+      final long length2) {
+    final long base, remainder;
+    long sum1, sum2;
+
+    base = 65521L;
+    remainder = (length2 % base);
+    sum1 = (adler1 & 0xffffL);
+    sum2 = ((remainder * sum1) % base);
+    sum1 += ((adler2 & 0xffffL) + base) - 1L;
+    sum2 += ((((adler1 >>> 16) & 0xffffL) + ((adler2 >>> 16) & 0xffffL)) + base)
+        - remainder;
+    if (sum1 >= base) {
+      sum1 -= base;
+    }
+    if (sum1 >= base) {
+      sum1 -= base;
+    }
+    if (sum2 >= (base << 1)) {
+      sum2 -= (base << 1);
+    }
+    if (sum2 >= base) {
+      sum2 -= base;
+    }
+    return (sum1 | (sum2 << 16));
+  }
+}
@@ -0,0 +1,781 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.RenderingHints.Key;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.RectangularShape;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link java.awt.Graphics2D} which does not draw anything itself, but
+ * records all operations as {@link _TileOperation}s so that they can later
+ * be replayed onto several horizontal tiles of an image in parallel. The
+ * graphic state (transformation, clip, font, ...) is tracked by a
+ * delegate graphics object, which is only used to answer queries and never
+ * drawn on. Since the operations are replayed after the drawing code has
+ * finished, mutable arguments such as shapes, coordinate arrays, and
+ * transformations are copied. Images passed to this graphic must not be
+ * modified afterwards.
+ */
+final class _RecordingGraphics2D extends Graphics2D {
+
+  /** the owner of all the graphics contexts */
+  private final _Recording m_recording;
+
+  /** the graphic tracking the state */
+  private final Graphics2D m_state;
+
+  /** the index of this graphics context */
+  private final int m_context;
+
+  /**
+   * create the root recording graphic
+   *
+   * @param state
+   *          the graphic to track the state, with the initial
+   *          transformation and rendering hints already set
+   */
+  _RecordingGraphics2D(final Graphics2D state) {
+    this(new _Recording(), state, 0);
+
+    // the initial state must be replayed on the tiles
+    this.m_recording._add(new _TileOperation(
+        _TileOperation.SET_RENDERING_HINTS, 0, new HashMap<>(
+            state.getRenderingHints()), null, null, null));
+    this.m_recording._add(new _TileOperation(
+        _TileOperation.SET_TRANSFORM, 0, state.getTransform(), null, null,
+        null));
+  }
+
+  /**
+   * create a recording graphic
+   *
+   * @param recording
+   *          the recording
+   * @param state
+   *          the graphic to track the state
+   * @param context
+   *          the context index
+   */
+  private _RecordingGraphics2D(final _Recording recording,
+      final Graphics2D state, final int context) {
+    super();
+    this.m_recording = recording;
+    this.m_state = state;
+    this.m_context = context;
+  }
+
+  /**
+   * Get the recording
+   *
+   * @return the recording
+   */
+  final _Recording _getRecording() {
+    return this.m_recording;
+  }
+
+  /**
+   * Record an operation
+   *
+   * @param type
+   *          the operation type
+   * @param a
+   *          the first object argument, or {@code null}
+   * @param b
+   *          the second object argument, or {@code null}
+   * @param ints
+   *          the {@code int} arguments, or {@code null}
+   * @param doubles
+   *          the {@code double} arguments, or {@code null}
+   */
+  private final void __record(final int type, final Object a,
+      final Object b, final int[] ints, final double[] doubles) {
+    this.m_recording._add(new _TileOperation(type, this.m_context, a, b,
+        ints, doubles));
+  }
+
+  /**
+   * Record an operation with only {@code int} arguments
+   *
+   * @param type
+   *          the operation type
+   * @param ints
+   *          the {@code int} arguments
+   */
+  private final void __record(final int type, final int... ints) {
+    this.__record(type, null, null, ints, null);
+  }
+
+  /**
+   * Copy a shape so that later changes by the caller do not affect the
+   * recording.
+   *
+   * @param shape
+   *          the shape
+   * @return the copy
+   */
+  private static final Shape __copy(final Shape shape) {
+    if (shape == null) {
+      return null;
+    }
+    if (shape instanceof RectangularShape) {
+      return ((Shape) (((RectangularShape) shape).clone()));
+    }
+    if (shape instanceof Line2D) {
+      return ((Shape) (((Line2D) shape).clone()));
+    }
+    return new Path2D.Double(shape);
+  }
+
+  /**
+   * Copy a transformation so that later changes by the caller do not
+   * affect the recording.
+   *
+   * @param transform
+   *          the transformation
+   * @return the copy
+   */
+  private static final AffineTransform __copy(
+      final AffineTransform transform) {
+    return ((transform == null) ? null : new AffineTransform(transform));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Graphics create() {
+    final int context;
+
+    context = this.m_recording._newContext();
+    this.__record(_TileOperation.CREATE, context);
+    return new _RecordingGraphics2D(this.m_recording,
+        ((Graphics2D) (this.m_state.create())), context);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void dispose() {
+    if (this.m_context != 0) {
+      this.__record(_TileOperation.DISPOSE);
+      this.m_state.dispose();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void draw(final Shape s) {
+    this.__record(_TileOperation.DRAW, _RecordingGraphics2D.__copy(s),
+        null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fill(final Shape s) {
+    this.__record(_TileOperation.FILL, _RecordingGraphics2D.__copy(s),
+        null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img,
+      final AffineTransform xform, final ImageObserver obs) {
+    this.__record(_TileOperation.DRAW_IMAGE_TRANSFORMED, img,
+        _RecordingGraphics2D.__copy(xform), null, null);
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawImage(final BufferedImage img,
+      final BufferedImageOp op, final int x, final int y) {
+    this.__record(_TileOperation.DRAW_IMAGE_OP, img, op,
+        new int[] { x, y }, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawRenderedImage(final RenderedImage img,
+      final AffineTransform xform) {
+    this.__record(_TileOperation.DRAW_RENDERED_IMAGE, img,
+        _RecordingGraphics2D.__copy(xform), null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawRenderableImage(final RenderableImage img,
+      final AffineTransform xform) {
+    this.__record(_TileOperation.DRAW_RENDERABLE_IMAGE, img,
+        _RecordingGraphics2D.__copy(xform), null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawString(final String str, final int x, final int y) {
+    this.drawString(str, ((float) x), ((float) y));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawString(final String str, final float x,
+      final float y) {
+    if (str == null) {
+      throw new NullPointerException();
+    }
+    this.__record(_TileOperation.DRAW_STRING, str, null, null,
+        new double[] { x, y });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawString(final AttributedCharacterIterator iterator,
+      final int x, final int y) {
+    this.drawString(iterator, ((float) x), ((float) y));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawString(final AttributedCharacterIterator iterator,
+      final float x, final float y) {
+    this.__record(_TileOperation.DRAW_ATTRIBUTED_STRING,
+        new AttributedString(iterator), null, null, new double[] { x, y });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawGlyphVector(final GlyphVector g, final float x,
+      final float y) {
+    this.__record(_TileOperation.DRAW_GLYPH_VECTOR, g, null, null,
+        new double[] { x, y });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean hit(final Rectangle rect, final Shape s,
+      final boolean onStroke) {
+    return this.m_state.hit(rect, s, onStroke);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final GraphicsConfiguration getDeviceConfiguration() {
+    return this.m_state.getDeviceConfiguration();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setComposite(final Composite comp) {
+    this.m_state.setComposite(comp);
+    this.__record(_TileOperation.SET_COMPOSITE, comp, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setPaint(final Paint paint) {
+    this.m_state.setPaint(paint);
+    this.__record(_TileOperation.SET_PAINT, paint, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setStroke(final Stroke s) {
+    this.m_state.setStroke(s);
+    this.__record(_TileOperation.SET_STROKE, s, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setRenderingHint(final Key hintKey,
+      final Object hintValue) {
+    this.m_state.setRenderingHint(hintKey, hintValue);
+    this.__record(_TileOperation.SET_RENDERING_HINT, hintKey, hintValue,
+        null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Object getRenderingHint(final Key hintKey) {
+    return this.m_state.getRenderingHint(hintKey);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setRenderingHints(final Map<?, ?> hints) {
+    this.m_state.setRenderingHints(hints);
+    this.__record(_TileOperation.SET_RENDERING_HINTS, new HashMap<>(
+        hints), null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void addRenderingHints(final Map<?, ?> hints) {
+    this.m_state.addRenderingHints(hints);
+    this.__record(_TileOperation.ADD_RENDERING_HINTS, new HashMap<>(
+        hints), null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final RenderingHints getRenderingHints() {
+    return this.m_state.getRenderingHints();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void translate(final int x, final int y) {
+    this.translate(((double) x), ((double) y));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void translate(final double tx, final double ty) {
+    this.transform(AffineTransform.getTranslateInstance(tx, ty));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void rotate(final double theta) {
+    this.transform(AffineTransform.getRotateInstance(theta));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void rotate(final double theta, final double x,
+      final double y) {
+    this.transform(AffineTransform.getRotateInstance(theta, x, y));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void scale(final double sx, final double sy) {
+    this.transform(AffineTransform.getScaleInstance(sx, sy));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void shear(final double shx, final double shy) {
+    this.transform(AffineTransform.getShearInstance(shx, shy));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void transform(final AffineTransform Tx) {
+    final AffineTransform copy;
+
+    copy = _RecordingGraphics2D.__copy(Tx);
+    this.m_state.transform(copy);
+    this.__record(_TileOperation.TRANSFORM, copy, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setTransform(final AffineTransform Tx) {
+    final AffineTransform copy;
+
+    copy = _RecordingGraphics2D.__copy(Tx);
+    this.m_state.setTransform(copy);
+    this.__record(_TileOperation.SET_TRANSFORM, copy, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final AffineTransform getTransform() {
+    return this.m_state.getTransform();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Paint getPaint() {
+    return this.m_state.getPaint();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Composite getComposite() {
+    return this.m_state.getComposite();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setBackground(final Color color) {
+    this.m_state.setBackground(color);
+    this.__record(_TileOperation.SET_BACKGROUND, color, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Color getBackground() {
+    return this.m_state.getBackground();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Stroke getStroke() {
+    return this.m_state.getStroke();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void clip(final Shape s) {
+    final Shape copy;
+
+    copy = _RecordingGraphics2D.__copy(s);
+    this.m_state.clip(copy);
+    this.__record(_TileOperation.CLIP, copy, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final FontRenderContext getFontRenderContext() {
+    return this.m_state.getFontRenderContext();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Color getColor() {
+    return this.m_state.getColor();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setColor(final Color c) {
+    this.m_state.setColor(c);
+    this.__record(_TileOperation.SET_COLOR, c, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setPaintMode() {
+    this.m_state.setPaintMode();
+    this.__record(_TileOperation.SET_PAINT_MODE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setXORMode(final Color c1) {
+    this.m_state.setXORMode(c1);
+    this.__record(_TileOperation.SET_XOR_MODE, c1, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Font getFont() {
+    return this.m_state.getFont();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setFont(final Font font) {
+    this.m_state.setFont(font);
+    this.__record(_TileOperation.SET_FONT, font, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final FontMetrics getFontMetrics(final Font f) {
+    return this.m_state.getFontMetrics(f);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Rectangle getClipBounds() {
+    return this.m_state.getClipBounds();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void clipRect(final int x, final int y, final int width,
+      final int height) {
+    this.clip(new Rectangle(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setClip(final int x, final int y, final int width,
+      final int height) {
+    this.setClip(new Rectangle(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Shape getClip() {
+    return this.m_state.getClip();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setClip(final Shape clip) {
+    final Shape copy;
+
+    copy = _RecordingGraphics2D.__copy(clip);
+    this.m_state.setClip(copy);
+    this.__record(_TileOperation.SET_CLIP, copy, null, null, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyArea(final int x, final int y, final int width,
+      final int height, final int dx, final int dy) {
+    // copying areas may cross tile boundaries
+    this.m_recording._setNeedsSingleTile();
+    this.__record(_TileOperation.COPY_AREA, x, y, width, height, dx, dy);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawLine(final int x1, final int y1, final int x2,
+      final int y2) {
+    this.__record(_TileOperation.DRAW_LINE, x1, y1, x2, y2);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawRect(final int x, final int y, final int width,
+      final int height) {
+    this.__record(_TileOperation.DRAW_RECT, x, y, width, height);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fillRect(final int x, final int y, final int width,
+      final int height) {
+    this.__record(_TileOperation.FILL_RECT, x, y, width, height);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void clearRect(final int x, final int y, final int width,
+      final int height) {
+    this.__record(_TileOperation.CLEAR_RECT, x, y, width, height);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawRoundRect(final int x, final int y,
+      final int width, final int height, final int arcWidth,
+      final int arcHeight) {
+    this.__record(_TileOperation.DRAW_ROUND_RECT, x, y, width, height,
+        arcWidth, arcHeight);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fillRoundRect(final int x, final int y,
+      final int width, final int height, final int arcWidth,
+      final int arcHeight) {
+    this.__record(_TileOperation.FILL_ROUND_RECT, x, y, width, height,
+        arcWidth, arcHeight);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawOval(final int x, final int y, final int width,
+      final int height) {
+    this.__record(_TileOperation.DRAW_OVAL, x, y, width, height);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fillOval(final int x, final int y, final int width,
+      final int height) {
+    this.__record(_TileOperation.FILL_OVAL, x, y, width, height);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawArc(final int x, final int y, final int width,
+      final int height, final int startAngle, final int arcAngle) {
+    this.__record(_TileOperation.DRAW_ARC, x, y, width, height,
+        startAngle, arcAngle);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fillArc(final int x, final int y, final int width,
+      final int height, final int startAngle, final int arcAngle) {
+    this.__record(_TileOperation.FILL_ARC, x, y, width, height,
+        startAngle, arcAngle);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawPolyline(final int[] xPoints, final int[] yPoints,
+      final int nPoints) {
+    this.__record(_TileOperation.DRAW_POLYLINE,
+        Arrays.copyOf(xPoints, nPoints), Arrays.copyOf(yPoints, nPoints),
+        new int[] { nPoints }, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void drawPolygon(final int[] xPoints, final int[] yPoints,
+      final int nPoints) {
+    this.__record(_TileOperation.DRAW_POLYGON,
+        Arrays.copyOf(xPoints, nPoints), Arrays.copyOf(yPoints, nPoints),
+        new int[] { nPoints }, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void fillPolygon(final int[] xPoints, final int[] yPoints,
+      final int nPoints) {
+    this.__record(_TileOperation.FILL_POLYGON,
+        Arrays.copyOf(xPoints, nPoints), Arrays.copyOf(yPoints, nPoints),
+        new int[] { nPoints }, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int x,
+      final int y, final ImageObserver observer) {
+    return this.drawImage(img, x, y, null, observer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int x,
+      final int y, final int width, final int height,
+      final ImageObserver observer) {
+    return this.drawImage(img, x, y, width, height, null, observer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int x,
+      final int y, final Color bgcolor, final ImageObserver observer) {
+    this.__record(_TileOperation.DRAW_IMAGE, img, bgcolor, new int[] { x,
+        y }, null);
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int x,
+      final int y, final int width, final int height,
+      final Color bgcolor, final ImageObserver observer) {
+    this.__record(_TileOperation.DRAW_IMAGE_SCALED, img, bgcolor,
+        new int[] { x, y, width, height }, null);
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int dx1,
+      final int dy1, final int dx2, final int dy2, final int sx1,
+      final int sy1, final int sx2, final int sy2,
+      final ImageObserver observer) {
+    return this.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+        null, observer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean drawImage(final Image img, final int dx1,
+      final int dy1, final int dx2, final int dy2, final int sx1,
+      final int sy1, final int sx2, final int sy2, final Color bgcolor,
+      final ImageObserver observer) {
+    this.__record(_TileOperation.DRAW_IMAGE_PART, img, bgcolor, new int[] {
+        dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2 }, null);
+    return true;
+  }
+
+  /**
+   * The recording shared by all the graphics contexts created from one
+   * root {@link _RecordingGraphics2D}.
+   */
+  static final class _Recording {
+
+    /** the recorded operations */
+    private final ArrayList<_TileOperation> m_operations;
+
+    /** the number of graphics contexts */
+    private int m_contexts;
+
+    /** do we need to render the image as a single tile? */
+    private boolean m_needsSingleTile;
+
+    /** create */
+    _Recording() {
+      super();
+      this.m_operations = new ArrayList<>();
+      this.m_contexts = 1;
+    }
+
+    /**
+     * add an operation
+     *
+     * @param operation
+     *          the operation
+     */
+    final void _add(final _TileOperation operation) {
+      this.m_operations.add(operation);
+    }
+
+    /**
+     * allocate a new context index
+     *
+     * @return the new context index
+     */
+    final int _newContext() {
+      return (this.m_contexts++);
+    }
+
+    /** mark that the image cannot be split into tiles */
+    final void _setNeedsSingleTile() {
+      this.m_needsSingleTile = true;
+    }
+
+    /**
+     * Do we need to render the image as a single tile?
+     *
+     * @return {@code true} if the recorded operations cannot be replayed
+     *         onto separate tiles
+     */
+    final boolean _needsSingleTile() {
+      return this.m_needsSingleTile;
+    }
+
+    /**
+     * Get the number of graphics contexts
+     *
+     * @return the number of graphics contexts
+     */
+    final int _getContextCount() {
+      return this.m_contexts;
+    }
+
+    /**
+     * Get the recorded operations
+     *
+     * @return the recorded operations
+     */
+    final _TileOperation[] _getOperations() {
+      return this.m_operations.toArray(//
+          new _TileOperation[this.m_operations.size()]);
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedString;
+import java.util.Map;
+
+/**
+ * A single drawing or state-changing operation recorded by a
+ * {@link _RecordingGraphics2D}. The operation can be replayed any number
+ * of times, possibly in parallel, onto different tile graphics. All
+ * mutable arguments have therefore been copied upon recording.
+ */
+final class _TileOperation {
+
+  /** create a new graphics context: {@value} */
+  static final int CREATE = 0;
+  /** dispose a graphics context: {@value} */
+  static final int DISPOSE = (_TileOperation.CREATE + 1);
+  /** set the composite: {@value} */
+  static final int SET_COMPOSITE = (_TileOperation.DISPOSE + 1);
+  /** set the paint: {@value} */
+  static final int SET_PAINT = (_TileOperation.SET_COMPOSITE + 1);
+  /** set the stroke: {@value} */
+  static final int SET_STROKE = (_TileOperation.SET_PAINT + 1);
+  /** set a rendering hint: {@value} */
+  static final int SET_RENDERING_HINT = (_TileOperation.SET_STROKE + 1);
+  /** set the rendering hints: {@value} */
+  static final int SET_RENDERING_HINTS = (_TileOperation.SET_RENDERING_HINT + 1);
+  /** add rendering hints: {@value} */
+  static final int ADD_RENDERING_HINTS = (_TileOperation.SET_RENDERING_HINTS + 1);
+  /** concatenate a transformation: {@value} */
+  static final int TRANSFORM = (_TileOperation.ADD_RENDERING_HINTS + 1);
+  /** set the transformation: {@value} */
+  static final int SET_TRANSFORM = (_TileOperation.TRANSFORM + 1);
+  /** set the background: {@value} */
+  static final int SET_BACKGROUND = (_TileOperation.SET_TRANSFORM + 1);
+  /** clip with a shape: {@value} */
+  static final int CLIP = (_TileOperation.SET_BACKGROUND + 1);
+  /** set the clip: {@value} */
+  static final int SET_CLIP = (_TileOperation.CLIP + 1);
+  /** set the color: {@value} */
+  static final int SET_COLOR = (_TileOperation.SET_CLIP + 1);
+  /** set the paint mode: {@value} */
+  static final int SET_PAINT_MODE = (_TileOperation.SET_COLOR + 1);
+  /** set the xor mode: {@value} */
+  static final int SET_XOR_MODE = (_TileOperation.SET_PAINT_MODE + 1);
+  /** set the font: {@value} */
+  static final int SET_FONT = (_TileOperation.SET_XOR_MODE + 1);
+  /** draw a shape: {@value} */
+  static final int DRAW = (_TileOperation.SET_FONT + 1);
+  /** fill a shape: {@value} */
+  static final int FILL = (_TileOperation.DRAW + 1);
+  /** draw a line: {@value} */
+  static final int DRAW_LINE = (_TileOperation.FILL + 1);
+  /** draw a rectangle: {@value} */
+  static final int DRAW_RECT = (_TileOperation.DRAW_LINE + 1);
+  /** fill a rectangle: {@value} */
+  static final int FILL_RECT = (_TileOperation.DRAW_RECT + 1);
+  /** clear a rectangle: {@value} */
+  static final int CLEAR_RECT = (_TileOperation.FILL_RECT + 1);
+  /** draw a round rectangle: {@value} */
+  static final int DRAW_ROUND_RECT = (_TileOperation.CLEAR_RECT + 1);
+  /** fill a round rectangle: {@value} */
+  static final int FILL_ROUND_RECT = (_TileOperation.DRAW_ROUND_RECT + 1);
+  /** draw an oval: {@value} */
+  static final int DRAW_OVAL = (_TileOperation.FILL_ROUND_RECT + 1);
+  /** fill an oval: {@value} */
+  static final int FILL_OVAL = (_TileOperation.DRAW_OVAL + 1);
+  /** draw an arc: {@value} */
+  static final int DRAW_ARC = (_TileOperation.FILL_OVAL + 1);
+  /** fill an arc: {@value} */
+  static final int FILL_ARC = (_TileOperation.DRAW_ARC + 1);
+  /** draw a poly-line: {@value} */
+  static final int DRAW_POLYLINE = (_TileOperation.FILL_ARC + 1);
+  /** draw a polygon: {@value} */
+  static final int DRAW_POLYGON = (_TileOperation.DRAW_POLYLINE + 1);
+  /** fill a polygon: {@value} */
+  static final int FILL_POLYGON = (_TileOperation.DRAW_POLYGON + 1);
+  /** copy an area: {@value} */
+  static final int COPY_AREA = (_TileOperation.FILL_POLYGON + 1);
+  /** draw a string: {@value} */
+  static final int DRAW_STRING = (_TileOperation.COPY_AREA + 1);
+  /** draw an attributed string: {@value} */
+  static final int DRAW_ATTRIBUTED_STRING = (_TileOperation.DRAW_STRING + 1);
+  /** draw a glyph vector: {@value} */
+  static final int DRAW_GLYPH_VECTOR = (_TileOperation.DRAW_ATTRIBUTED_STRING + 1);
+  /** draw an image with a transformation: {@value} */
+  static final int DRAW_IMAGE_TRANSFORMED = (_TileOperation.DRAW_GLYPH_VECTOR + 1);
+  /** draw an image with an operation: {@value} */
+  static final int DRAW_IMAGE_OP = (_TileOperation.DRAW_IMAGE_TRANSFORMED + 1);
+  /** draw a rendered image: {@value} */
+  static final int DRAW_RENDERED_IMAGE = (_TileOperation.DRAW_IMAGE_OP + 1);
+  /** draw a renderable image: {@value} */
+  static final int DRAW_RENDERABLE_IMAGE = (_TileOperation.DRAW_RENDERED_IMAGE + 1);
+  /** draw an image: {@value} */
+  static final int DRAW_IMAGE = (_TileOperation.DRAW_RENDERABLE_IMAGE + 1);
+  /** draw a scaled image: {@value} */
+  static final int DRAW_IMAGE_SCALED = (_TileOperation.DRAW_IMAGE + 1);
+  /** draw a part of an image: {@value} */
+  static final int DRAW_IMAGE_PART = (_TileOperation.DRAW_IMAGE_SCALED + 1);
+
+  /** the operation type */
+  final int m_type;
+  /** the index of the graphics context the operation belongs to */
+  final int m_context;
+  /** the first object argument, or {@code null} */
+  final Object m_a;
+  /** the second object argument, or {@code null} */
+  final Object m_b;
+  /** the {@code int} arguments, or {@code null} */
+  final int[] m_ints;
+  /** the {@code double} arguments, or {@code null} */
+  final double[] m_doubles;
+
+  /**
+   * create the operation
+   *
+   * @param type
+   *          the operation type
+   * @param context
+   *          the index of the graphics context the operation belongs to
+   * @param a
+   *          the first object argument, or {@code null}
+   * @param b
+   *          the second object argument, or {@code null}
+   * @param ints
+   *          the {@code int} arguments, or {@code null}
+   * @param doubles
+   *          the {@code double} arguments, or {@code null}
+   */
+  _TileOperation(final int type, final int context, final Object a,
+      final Object b, final int[] ints, final double[] doubles) {
+    super();
+    this.m_type = type;
+    this.m_context = context;
+    this.m_a = a;
+    this.m_b = b;
+    this.m_ints = ints;
+    this.m_doubles = doubles;
+  }
+
+  /**
+   * Replay this operation
+   *
+   * @param contexts
+   *          the graphics contexts of the tile, indexed by their context
+   *          index
+   * @param offset
+   *          the offset transformation of the tile which must be
+   *          pre-concatenated to any absolutely set transformation
+   */
+  @SuppressWarnings("rawtypes")
+  final void _replay(final Graphics2D[] contexts,
+      final AffineTransform offset) {
+    final Graphics2D g;
+    final int[] i;
+    final double[] d;
+    final AffineTransform t;
+
+    g = contexts[this.m_context];
+    i = this.m_ints;
+    d = this.m_doubles;
+
+    switch (this.m_type) {
+      case CREATE: {
+        contexts[i[0]] = ((Graphics2D) (g.create()));
+        return;
+      }
+      case DISPOSE: {
+        contexts[this.m_context] = null;
+        g.dispose();
+        return;
+      }
+      case SET_COMPOSITE: {
+        g.setComposite((Composite) (this.m_a));
+        return;
+      }
+      case SET_PAINT: {
+        g.setPaint((Paint) (this.m_a));
+        return;
+      }
+      case SET_STROKE: {
+        g.setStroke((Stroke) (this.m_a));
+        return;
+      }
+      case SET_RENDERING_HINT: {
+        g.setRenderingHint(((RenderingHints.Key) (this.m_a)), this.m_b);
+        return;
+      }
+      case SET_RENDERING_HINTS: {
+        g.setRenderingHints((Map) (this.m_a));
+        return;
+      }
+      case ADD_RENDERING_HINTS: {
+        g.addRenderingHints((Map) (this.m_a));
+        return;
+      }
+      case TRANSFORM: {
+        g.transform((AffineTransform) (this.m_a));
+        return;
+      }
+      case SET_TRANSFORM: {
+        t = new AffineTransform(offset);
+        t.concatenate((AffineTransform) (this.m_a));
+        g.setTransform(t);
+        return;
+      }
+      case SET_BACKGROUND: {
+        g.setBackground((Color) (this.m_a));
+        return;
+      }
+      case CLIP: {
+        g.clip((Shape) (this.m_a));
+        return;
+      }
+      case SET_CLIP: {
+        g.setClip((Shape) (this.m_a));
+        return;
+      }
+      case SET_COLOR: {
+        g.setColor((Color) (this.m_a));
+        return;
+      }
+      case SET_PAINT_MODE: {
+        g.setPaintMode();
+        return;
+      }
+      case SET_XOR_MODE: {
+        g.setXORMode((Color) (this.m_a));
+        return;
+      }
+      case SET_FONT: {
+        g.setFont((Font) (this.m_a));
+        return;
+      }
+      case DRAW: {
+        g.draw((Shape) (this.m_a));
+        return;
+      }
+      case FILL: {
+        g.fill((Shape) (this.m_a));
+        return;
+      }
+      case DRAW_LINE: {
+        g.drawLine(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case DRAW_RECT: {
+        g.drawRect(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case FILL_RECT: {
+        g.fillRect(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case CLEAR_RECT: {
+        g.clearRect(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case DRAW_ROUND_RECT: {
+        g.drawRoundRect(i[0], i[1], i[2], i[3], i[4], i[5]);
+        return;
+      }
+      case FILL_ROUND_RECT: {
+        g.fillRoundRect(i[0], i[1], i[2], i[3], i[4], i[5]);
+        return;
+      }
+      case DRAW_OVAL: {
+        g.drawOval(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case FILL_OVAL: {
+        g.fillOval(i[0], i[1], i[2], i[3]);
+        return;
+      }
+      case DRAW_ARC: {
+        g.drawArc(i[0], i[1], i[2], i[3], i[4], i[5]);
+        return;
+      }
+      case FILL_ARC: {
+        g.fillArc(i[0], i[1], i[2], i[3], i[4], i[5]);
+        return;
+      }
+      case DRAW_POLYLINE: {
+        g.drawPolyline(((int[]) (this.m_a)), ((int[]) (this.m_b)),
+            i[0]);
+        return;
+      }
+      case DRAW_POLYGON: {
+        g.drawPolygon(((int[]) (this.m_a)), ((int[]) (this.m_b)), i[0]);
+        return;
+      }
+      case FILL_POLYGON: {
+        g.fillPolygon(((int[]) (this.m_a)), ((int[]) (this.m_b)), i[0]);
+        return;
+      }
+      case COPY_AREA: {
+        g.copyArea(i[0], i[1], i[2], i[3], i[4], i[5]);
+        return;
+      }
+      case DRAW_STRING: {
+        g.drawString(((String) (this.m_a)), ((float) (d[0])),
+            ((float) (d[1])));
+        return;
+      }
+      case DRAW_ATTRIBUTED_STRING: {
+        g.drawString(((AttributedString) (this.m_a)).getIterator(),
+            ((float) (d[0])), ((float) (d[1])));
+        return;
+      }
+      case DRAW_GLYPH_VECTOR: {
+        // glyph vectors may lazily cache data and are not thread safe
+        synchronized (this.m_a) {
+          g.drawGlyphVector(((GlyphVector) (this.m_a)), ((float) (d[0])),
+              ((float) (d[1])));
+        }
+        return;
+      }
+      case DRAW_IMAGE_TRANSFORMED: {
+        g.drawImage(((Image) (this.m_a)), ((AffineTransform) (this.m_b)),
+            null);
+        return;
+      }
+      case DRAW_IMAGE_OP: {
+        g.drawImage(((BufferedImage) (this.m_a)),
+            ((BufferedImageOp) (this.m_b)), i[0], i[1]);
+        return;
+      }
+      case DRAW_RENDERED_IMAGE: {
+        g.drawRenderedImage(((RenderedImage) (this.m_a)),
+            ((AffineTransform) (this.m_b)));
+        return;
+      }
+      case DRAW_RENDERABLE_IMAGE: {
+        g.drawRenderableImage(((RenderableImage) (this.m_a)),
+            ((AffineTransform) (this.m_b)));
+        return;
+      }
+      case DRAW_IMAGE: {
+        g.drawImage(((Image) (this.m_a)), i[0], i[1], ((Color) (this.m_b)),
+            null);
+        return;
+      }
+      case DRAW_IMAGE_SCALED: {
+        g.drawImage(((Image) (this.m_a)), i[0], i[1], i[2], i[3],
+            ((Color) (this.m_b)), null);
+        return;
+      }
+      case DRAW_IMAGE_PART: {
+        g.drawImage(((Image) (this.m_a)), i[0], i[1], i[2], i[3], i[4],
+            i[5], i[6], i[7], ((Color) (this.m_b)), null);
+        return;
+      }
+      default: {
+        throw new IllegalStateException(//
+            "Unknown tile operation type " + this.m_type); //$NON-NLS-1$
+      }
+    }
+  }
+}
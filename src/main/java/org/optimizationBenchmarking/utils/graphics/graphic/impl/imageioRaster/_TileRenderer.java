@@ -0,0 +1,81 @@
+package org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * A job replaying a sequence of recorded {@link _TileOperation}s onto one
+ * horizontal tile of an image. The tile is a
+ * {@linkplain java.awt.image.BufferedImage#getSubimage(int, int, int, int)
+ * sub-image} sharing the raster of the whole image, so the tiles do not
+ * need to be merged after rendering.
+ */
+final class _TileRenderer implements Runnable {
+
+  /** the image */
+  private final BufferedImage m_image;
+
+  /** the operations */
+  private final _TileOperation[] m_operations;
+
+  /** the number of graphics contexts */
+  private final int m_contexts;
+
+  /** the first row of the tile (inclusive) */
+  private final int m_startRow;
+
+  /** the last row of the tile (exclusive) */
+  private final int m_endRow;
+
+  /**
+   * create the tile renderer
+   *
+   * @param image
+   *          the image
+   * @param operations
+   *          the operations
+   * @param contexts
+   *          the number of graphics contexts
+   * @param startRow
+   *          the first row of the tile (inclusive)
+   * @param endRow
+   *          the last row of the tile (exclusive)
+   */
+  _TileRenderer(final BufferedImage image,
+      final _TileOperation[] operations, final int contexts,
+      final int startRow, final int endRow) {
+    super();
+    this.m_image = image;
+    this.m_operations = operations;
+    this.m_contexts = contexts;
+    this.m_startRow = startRow;
+    this.m_endRow = endRow;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void run() {
+    final Graphics2D[] contexts;
+    final AffineTransform offset;
+    final Graphics2D root;
+
+    contexts = new Graphics2D[this.m_contexts];
+    offset = AffineTransform.getTranslateInstance(0d, (-this.m_startRow));
+    root = this.m_image.getSubimage(0, this.m_startRow,
+        this.m_image.getWidth(), (this.m_endRow - this.m_startRow))
+        .createGraphics();
+    contexts[0] = root;
+    try {
+      for (final _TileOperation operation : this.m_operations) {
+        operation._replay(contexts, offset);
+      }
+    } finally {
+      for (final Graphics2D graphics : contexts) {
+        if (graphics != null) {
+          graphics.dispose();
+        }
+      }
+    }
+  }
+}
@@ -31,6 +31,7 @@ import java.awt.image.RenderedImage;
 import java.awt.image.renderable.RenderableImage;
 import java.io.Closeable;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.AttributedCharacterIterator;
 import java.util.HashMap;
@@ -46,6 +47,11 @@ import org.optimizationBenchmarking.utils.error.RethrowMode;
 import org.optimizationBenchmarking.utils.graphics.graphic.EGraphicFormat;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
 import org.optimizationBenchmarking.utils.math.functions.arithmetic.SaturatingAdd;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.EMetricsCategory;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
+import org.optimizationBenchmarking.utils.metrics.MetricsSample;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 import org.optimizationBenchmarking.utils.tools.spec.IFileProducerListener;
 import org.optimizationBenchmarking.utils.tools.spec.IToolJob;
@@ -278,11 +284,31 @@ public abstract class Graphic extends Graphics2D implements Closeable,
     this.getGraphicFormat()) + '@') + this.m_path) + ')');
   }
 
+  /**
+   * Get the size of the file a graphic was written to
+   *
+   * @param path
+   *          the path, or {@code null}
+   * @return the size of the file, or {@code 0} if it cannot be determined
+   */
+  private static final long __size(final Path path) {
+    try {
+      if ((path != null) && Files.isRegularFile(path)) {
+        return Files.size(path);
+      }
+    } catch (final Throwable error) {
+      // ignore
+    }
+    return 0L;
+  }
+
   /** {@inheritDoc} */
   @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   public synchronized final void close() {
     final ArrayListView v;
+    final MetricsSample sample;
+    final FlightEvent event;
     String s;
 
     if (this.m_state > 0) {
@@ -297,10 +323,18 @@ public abstract class Graphic extends Graphics2D implements Closeable,
     }
 
     try {
+      sample = Metrics.begin();
+      event = FlightEvent.begin(EFlightEventType.GRAPHIC_FINALIZE);
       try {
         this.onClose();
       } finally {
         this.m_state = 2;
+        Metrics.end(sample, EMetricsCategory.GRAPHIC,
+            this.getGraphicFormat());
+      }
+      if (event != null) {
+        FlightEvent.end(event, this.m_path, this.getGraphicFormat(),
+            Graphic.__size(this.m_path));
       }
 
       if (this.m_listener != null) {
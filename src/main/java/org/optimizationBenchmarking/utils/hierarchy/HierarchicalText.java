@@ -22,6 +22,24 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  */
 public abstract class HierarchicalText extends HierarchicalFSM {
 
+  /**
+   * The name of the system property which can be used to set the
+   * {@link #getBufferSpillThreshold() number of characters} above which
+   * the buffered output of a child text is moved from memory to a
+   * temporary file: {@value}. A value less than or equal to {@code 0}
+   * means that the output is always kept in memory.
+   */
+  public static final String BUFFER_SPILL_THRESHOLD_PROPERTY = "org.optimizationBenchmarking.utils.hierarchy.bufferSpillThreshold"; //$NON-NLS-1$
+
+  /**
+   * The default number of characters above which the buffered output of a
+   * child text is moved from memory to a temporary file, unless specified
+   * otherwise via
+   * {@value org.optimizationBenchmarking.utils.hierarchy.HierarchicalText#BUFFER_SPILL_THRESHOLD_PROPERTY}
+   * : {@value}
+   */
+  public static final int DEFAULT_BUFFER_SPILL_THRESHOLD = (16 * 1024 * 1024);
+
   /**
    * the
    * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}
@@ -81,19 +99,28 @@ public abstract class HierarchicalText extends HierarchicalFSM {
   protected synchronized void beforeChildOpens(
       final HierarchicalFSM child, final boolean hasOtherChildren) {
     final HierarchicalText ct;
-    final MemoryTextOutput m;
+    final boolean mustBeBuffered;
+    final int threshold;
+    MemoryTextOutput m;
 
     super.beforeChildOpens(child, hasOtherChildren);
 
     if (child instanceof HierarchicalText) {
       ct = ((HierarchicalText) child);
-      if (hasOtherChildren || this.mustChildBeBuffered(ct)) {
+      mustBeBuffered = this.mustChildBeBuffered(ct);
+      if (hasOtherChildren || mustBeBuffered) {
         m = this.m_cache;
         if (m != null) {
           this.m_cache = null;
+        } else {
+          m = new MemoryTextOutput();
+        }
+        if (mustBeBuffered) {
           ct.m_out = m;
         } else {
-          ct.m_out = new MemoryTextOutput();
+          threshold = this.getBufferSpillThreshold();
+          ct.m_out = ((threshold > 0) ? new _SpillingTextOutput(m,
+              threshold) : m);
         }
       } else {
         ct.m_out = this.m_out;
@@ -101,6 +128,32 @@ public abstract class HierarchicalText extends HierarchicalFSM {
     }
   }
 
+  /**
+   * Get the number of characters above which the buffered output of a
+   * child text which is opened while other children of this text are
+   * still open will be moved from memory to a temporary file. This allows
+   * for generating very large texts in parallel without keeping all of
+   * them in memory at once. Children for which
+   * {@link #mustChildBeBuffered(HierarchicalText)} returns {@code true}
+   * are always buffered in memory. By default, this method returns the
+   * value of the owning text, if any, or the value specified by the system
+   * property
+   * {@value org.optimizationBenchmarking.utils.hierarchy.HierarchicalText#BUFFER_SPILL_THRESHOLD_PROPERTY}
+   * , which defaults to
+   * {@value org.optimizationBenchmarking.utils.hierarchy.HierarchicalText#DEFAULT_BUFFER_SPILL_THRESHOLD}
+   * .
+   *
+   * @return the number of characters above which buffered output is moved
+   *         to a temporary file, or a value less than or equal to
+   *         {@code 0} if buffered output should always stay in memory
+   */
+  protected int getBufferSpillThreshold() {
+    if (this.m_owner instanceof HierarchicalText) {
+      return ((HierarchicalText) (this.m_owner)).getBufferSpillThreshold();
+    }
+    return __BufferSpillThresholdLoader.THRESHOLD;
+  }
+
   /**
    * Check whether a given child text can write directly to the same output
    * destination as this object, {@code false} otherwise. If this method
@@ -129,6 +182,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
   protected synchronized void afterChildClosed(final HierarchicalFSM child) {
     final Appendable childAppendable, ownAppendable;
     final HierarchicalText ha;
+    _SpillingTextOutput spill;
     MemoryTextOutput sb;
 
     super.afterChildClosed(child);
@@ -152,7 +206,21 @@ public abstract class HierarchicalText extends HierarchicalFSM {
 
       ownAppendable = this.m_out;
       if (ownAppendable != childAppendable) {
-        sb = ((MemoryTextOutput) childAppendable);
+        if (childAppendable instanceof _SpillingTextOutput) {
+          spill = ((_SpillingTextOutput) childAppendable);
+          sb = spill._getMemory();
+          if (sb == null) {
+            try {
+              spill._transferTo(this.m_out);
+            } finally {
+              spill._dispose();
+            }
+            return;
+          }
+          spill._dispose();
+        } else {
+          sb = ((MemoryTextOutput) childAppendable);
+        }
         this.processBufferedOutputFromChild(ha, sb);
         if (this.m_cache == null) {
           sb.clear();
@@ -238,4 +306,25 @@ public abstract class HierarchicalText extends HierarchicalFSM {
   protected final boolean isTextOutputSame(final ITextOutput to) {
     return (to == this.m_out);
   }
+
+  /** the loader for the buffer spill threshold */
+  private static final class __BufferSpillThresholdLoader {
+
+    /** the threshold */
+    static final int THRESHOLD;
+
+    static {
+      int threshold;
+
+      threshold = HierarchicalText.DEFAULT_BUFFER_SPILL_THRESHOLD;
+      try {
+        threshold = Integer.getInteger(
+            HierarchicalText.BUFFER_SPILL_THRESHOLD_PROPERTY, threshold)
+            .intValue();
+      } catch (final Throwable error) {
+        // ignore, use default
+      }
+      THRESHOLD = threshold;
+    }
+  }
 }
\ No newline at end of file
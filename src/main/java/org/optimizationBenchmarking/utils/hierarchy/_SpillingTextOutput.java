@@ -0,0 +1,324 @@
+package org.optimizationBenchmarking.utils.hierarchy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * A text output used as buffer for {@link HierarchicalText} children which
+ * are opened while other children of the same owner are still open. The
+ * text is first collected in a
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput}
+ * . Once the buffered text exceeds a given number of characters, it is
+ * moved to a temporary file and all following text is written to that
+ * file. When the buffer is merged into a destination which has spilled to
+ * disk as well, the file contents are moved from file to file via
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+ * without passing through the heap.
+ */
+final class _SpillingTextOutput extends AbstractTextOutput {
+
+  /** the prefix of the temporary files */
+  private static final String PREFIX = "hierarchicalText"; //$NON-NLS-1$
+
+  /** the suffix of the temporary files */
+  private static final String SUFFIX = ".tmp"; //$NON-NLS-1$
+
+  /** the number of characters above which we spill to disk */
+  private final int m_threshold;
+
+  /** the memory buffer, or {@code null} if we have spilled to disk */
+  private MemoryTextOutput m_memory;
+
+  /** the file channel, or {@code null} if we have not spilled to disk */
+  private FileChannel m_channel;
+
+  /** the writer, or {@code null} if we have not spilled to disk */
+  private BufferedWriter m_writer;
+
+  /** the current output */
+  private AbstractTextOutput m_current;
+
+  /**
+   * create the spilling text output
+   *
+   * @param memory
+   *          the memory text output to use as initial buffer
+   * @param threshold
+   *          the number of characters above which we spill to disk
+   */
+  _SpillingTextOutput(final MemoryTextOutput memory, final int threshold) {
+    super();
+    this.m_memory = memory;
+    this.m_current = memory;
+    this.m_threshold = threshold;
+  }
+
+  /**
+   * Get the memory buffer, if this output has not spilled to disk
+   *
+   * @return the memory buffer, or {@code null} if this output has spilled
+   *         to disk
+   */
+  final MemoryTextOutput _getMemory() {
+    return this.m_memory;
+  }
+
+  /** spill the current contents to disk */
+  private final void __spill() {
+    final MemoryTextOutput memory;
+    Object rec;
+    Path path;
+
+    memory = this.m_memory;
+    if (memory == null) {
+      return;
+    }
+
+    path = null;
+    try {
+      path = Files.createTempFile(_SpillingTextOutput.PREFIX,
+          _SpillingTextOutput.SUFFIX);
+      this.m_channel = FileChannel.open(path, StandardOpenOption.READ,
+          StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    } catch (final Throwable error) {
+      rec = error;
+      if (path != null) {
+        try {
+          Files.deleteIfExists(path);
+        } catch (final Throwable deleteError) {
+          rec = ErrorUtils.aggregateError(deleteError, rec);
+        }
+      }
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Could not create temporary file to spill buffered hierarchical text to.", //$NON-NLS-1$
+          true, rec);
+      return;
+    }
+
+    this.m_writer = new BufferedWriter(Channels.newWriter(this.m_channel,
+        StandardCharsets.UTF_8.newEncoder(), -1));
+    this.m_current = AbstractTextOutput.wrap(this.m_writer);
+    this.m_memory = null;
+    memory.toText(this.m_current);
+  }
+
+  /** check whether we need to spill to disk */
+  private final void __check() {
+    final MemoryTextOutput memory;
+    memory = this.m_memory;
+    if ((memory != null) && (memory.length() > this.m_threshold)) {
+      this.__spill();
+    }
+  }
+
+  /**
+   * Flush the writer of a spilled output
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __flushWriter() throws IOException {
+    this.m_writer.flush();
+  }
+
+  /**
+   * Copy the contents of this text output to a destination.
+   *
+   * @param dest
+   *          the destination
+   */
+  final void _transferTo(final ITextOutput dest) {
+    final _SpillingTextOutput spillingDest;
+    final char[] buffer;
+    final FileChannel source;
+    Reader reader;
+    long position, size;
+    int read;
+
+    if (this.m_memory != null) {
+      this.m_memory.toText(dest);
+      return;
+    }
+
+    source = this.m_channel;
+    try {
+      this.__flushWriter();
+      size = source.size();
+
+      if (dest instanceof _SpillingTextOutput) {
+        spillingDest = ((_SpillingTextOutput) dest);
+        spillingDest.__spill();
+        spillingDest.__flushWriter();
+        position = 0L;
+        while (position < size) {
+          position += source.transferTo(position, (size - position),
+              spillingDest.m_channel);
+        }
+        return;
+      }
+
+      source.position(0L);
+      reader = Channels.newReader(source,
+          StandardCharsets.UTF_8.newDecoder(), -1);
+      buffer = new char[8192];
+      while ((read = reader.read(buffer)) > 0) {
+        dest.append(buffer, 0, read);
+      }
+    } catch (final IOException ioe) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Error while merging text buffered in temporary file.", //$NON-NLS-1$
+          true, ioe);
+    }
+  }
+
+  /** Dispose this text output and delete the temporary file, if any. */
+  final void _dispose() {
+    final FileChannel channel;
+
+    this.m_memory = null;
+    this.m_writer = null;
+    this.m_current = null;
+    channel = this.m_channel;
+    this.m_channel = null;
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (final IOException ioe) {
+        ErrorUtils.logError(Configuration.getGlobalLogger(),
+            "Error while closing temporary file of buffered hierarchical text.", //$NON-NLS-1$
+            ioe, false, RethrowMode.DONT_RETHROW);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final _SpillingTextOutput append(final CharSequence csq) {
+    this.m_current.append(csq);
+    this.__check();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final _SpillingTextOutput append(final CharSequence csq,
+      final int start, final int end) {
+    this.m_current.append(csq, start, end);
+    this.__check();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final _SpillingTextOutput append(final char c) {
+    this.m_current.append(c);
+    this.__check();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final String s) {
+    this.m_current.append(s);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final String s, final int start, final int end) {
+    this.m_current.append(s, start, end);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final char[] chars) {
+    this.m_current.append(chars);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final char[] chars, final int start,
+      final int end) {
+    this.m_current.append(chars, start, end);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final byte v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final short v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final int v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final long v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final float v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final double v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final boolean v) {
+    this.m_current.append(v);
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void appendLineBreak() {
+    this.m_current.appendLineBreak();
+    this.__check();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void appendNonBreakingSpace() {
+    this.m_current.appendNonBreakingSpace();
+    this.__check();
+  }
+}
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -150,6 +152,19 @@ public enum EArchiveType implements IFileType {
         throws IOException {
       return new __ZipInputStream(source);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean isRandomAccessSupported() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final FileSystem openRandomAccess(final Path archive)
+        throws IOException {
+      return FileSystems.newFileSystem(archive, ((ClassLoader) null));
+    }
   },
 
   /**
@@ -323,6 +338,37 @@ public enum EArchiveType implements IFileType {
   public abstract InputStream decompressStream(final InputStream source)
       throws IOException;
 
+  /**
+   * Does this archive type support random access to the files inside an
+   * archive? If so, {@link #openRandomAccess(Path)} can open an archive
+   * file as {@link java.nio.file.FileSystem}: Its directory structure can
+   * be browsed without decompressing anything and the files inside can be
+   * decompressed individually, in any order, and concurrently.
+   *
+   * @return {@code true} if {@link #openRandomAccess(Path)} is supported,
+   *         {@code false} otherwise
+   */
+  public boolean isRandomAccessSupported() {
+    return false;
+  }
+
+  /**
+   * Open an archive file for random access, if
+   * {@link #isRandomAccessSupported() supported}. The returned file system
+   * must be closed by the caller.
+   *
+   * @param archive
+   *          the path to the archive file
+   * @return the file system representing the contents of the archive
+   * @throws IOException
+   *           if I/O fails
+   */
+  public FileSystem openRandomAccess(final Path archive)
+      throws IOException {
+    throw new UnsupportedOperationException(//
+        this.getName() + " does not support random access."); //$NON-NLS-1$
+  }
+
   /**
    * A visitor for the storing paths into a ZIP archive.
    */
@@ -2,10 +2,16 @@ package org.optimizationBenchmarking.utils.io.paths;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * <p>
  * A temporary directory which can be wrapped into a
  * {@code try-with-resources} statement. The directory is created in the
  * constructor and deleted once the {@link #close()} method is called.
@@ -13,12 +19,34 @@ import java.nio.file.Path;
  * the temporary directory via {@link #getPath()}. You can then create as
  * many files and sub-directories inside the temporary directory as you
  * wish, they will all automatically be deleted at the end.
+ * </p>
+ * <p>
+ * A temporary directory can also provide memory-mapped files via
+ * {@link #map(long)}, e.g., for keeping large matrices outside of the
+ * Java heap. A mapping remains valid until it is garbage collected, even
+ * after its file has been deleted. On systems which do not allow deleting
+ * mapped files, the files which cannot be deleted when the directory is
+ * closed are deleted when the JVM exits instead. A
+ * {@linkplain #getShared() shared} temporary directory for such files
+ * exists for the whole lifetime of the JVM. Where possible, its files are
+ * deleted right after being mapped, so their disk space is released as
+ * soon as the mappings are garbage collected.
+ * </p>
  */
 public class TempDir implements Closeable {
 
   /** the directory */
   private final Path m_dir;
 
+  /** have memory-mapped files been created? */
+  private final AtomicBoolean m_mapped;
+
+  /**
+   * should mapped files be deleted right after mapping them, so that their
+   * space is released as soon as the mapping is garbage collected?
+   */
+  private volatile boolean m_unlinkMapped;
+
   /**
    * create the temporary directory
    *
@@ -36,6 +64,69 @@ public class TempDir implements Closeable {
     }
     p2 = PathUtils.normalize(p1);
     this.m_dir = ((p2 != null) ? p2 : p1);
+    this.m_mapped = new AtomicBoolean();
+  }
+
+  /**
+   * Get the shared temporary directory, which is deleted when the JVM
+   * exits.
+   *
+   * @return the shared temporary directory
+   * @throws IOException
+   *           if the directory could not be created
+   */
+  public static final TempDir getShared() throws IOException {
+    if (__SharedTempDirLoader.ERROR != null) {
+      throw new IOException("Failed to create shared temporary directory.", //$NON-NLS-1$
+          __SharedTempDirLoader.ERROR);
+    }
+    return __SharedTempDirLoader.INSTANCE;
+  }
+
+  /**
+   * Create a new file of the given size in this directory and map it into
+   * memory.
+   *
+   * @param size
+   *          the size of the file in bytes
+   * @return the mapped buffer
+   * @throws IOException
+   *           if io fails
+   */
+  public final MappedByteBuffer map(final long size) throws IOException {
+    final Path file;
+    final MappedByteBuffer buffer;
+
+    if ((size <= 0L) || (size > Integer.MAX_VALUE)) {
+      throw new IllegalArgumentException(//
+          "The size of a mapped file must be in 1.." + //$NON-NLS-1$
+              Integer.MAX_VALUE + ", but is " + size); //$NON-NLS-1$
+    }
+
+    file = Files.createTempFile(this.m_dir, "map", ".bin"); //$NON-NLS-1$//$NON-NLS-2$
+    this.m_mapped.set(true);
+    try (final FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+    } catch (final Throwable error) {
+      // the file could not be mapped and is of no use to anyone
+      try {
+        Files.deleteIfExists(file);
+      } catch (final IOException ioError) {
+        error.addSuppressed(ioError);
+      }
+      throw error;
+    }
+
+    if (this.m_unlinkMapped) {
+      try {
+        Files.delete(file);
+      } catch (final IOException ioError) {
+        // the file is still mapped and cannot be deleted right now
+        file.toFile().deleteOnExit();
+      }
+    }
+    return buffer;
   }
 
   /**
@@ -50,6 +141,66 @@ public class TempDir implements Closeable {
   /** {@inheritDoc} */
   @Override
   public final void close() throws IOException {
-    PathUtils.delete(this.m_dir);
+    try {
+      PathUtils.delete(this.m_dir);
+    } catch (final IOException ioError) {
+      if (!(this.m_mapped.get())) {
+        throw ioError;
+      }
+      // some files are still mapped and cannot be deleted right now
+      TempDir.__deleteOnExit(this.m_dir);
+    }
+  }
+
+  /**
+   * Mark a path and, if it is a directory, everything inside it for
+   * deletion when the JVM exits
+   *
+   * @param path
+   *          the path
+   * @throws IOException
+   *           if io fails
+   */
+  private static final void __deleteOnExit(final Path path)
+      throws IOException {
+    path.toFile().deleteOnExit();
+    if (Files.isDirectory(path)) {
+      try (final DirectoryStream<Path> stream = Files
+          .newDirectoryStream(path)) {
+        for (final Path child : stream) {
+          TempDir.__deleteOnExit(child);
+        }
+      }
+    }
+  }
+
+  /** the loader for the shared temporary directory */
+  private static final class __SharedTempDirLoader {
+
+    /** the shared temporary directory */
+    static final TempDir INSTANCE;
+
+    /** the error which occurred when creating the directory */
+    static final IOException ERROR;
+
+    static {
+      TempDir dir;
+      IOException error;
+
+      dir = null;
+      error = null;
+      try {
+        dir = new TempDir();
+      } catch (final IOException ioError) {
+        error = ioError;
+      }
+      INSTANCE = dir;
+      ERROR = error;
+
+      if (dir != null) {
+        dir.m_dir.toFile().deleteOnExit();
+        dir.m_unlinkMapped = true;
+      }
+    }
   }
 }
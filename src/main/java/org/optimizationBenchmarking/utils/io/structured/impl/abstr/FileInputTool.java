@@ -4,12 +4,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.MemoryGovernor;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.config.Configuration;
 import org.optimizationBenchmarking.utils.io.EArchiveType;
@@ -18,6 +21,11 @@ import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.io.paths.TempDir;
 import org.optimizationBenchmarking.utils.io.structured.spec.IFileInputJobBuilder;
 import org.optimizationBenchmarking.utils.io.structured.spec.IFileInputTool;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.EMetricsCategory;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
+import org.optimizationBenchmarking.utils.metrics.MetricsSample;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 
 /**
@@ -301,14 +309,72 @@ public class FileInputTool<S> extends IOTool<S> implements
             ((("Finished decompressing to temporary folder '" //$NON-NLS-1$
             + path) + '\'') + '.'));
       }
-      this._path(job, data, path,
-          Files.readAttributes(path, BasicFileAttributes.class), encoding,
-          null);
+      job.m_temporary++;
+      try {
+        this._path(job, data, path,
+            Files.readAttributes(path, BasicFileAttributes.class),
+            encoding, null);
+      } finally {
+        job.m_temporary--;
+      }
+    }
+  }
+
+  /**
+   * Load an archive file via random access: The archive is opened as file
+   * system and its root folders are processed like normal directories.
+   * Only the files which are actually loaded are decompressed, and if
+   * {@link #canLoadFilesInParallel(IOJob, Object)} permits, the files of
+   * each directory are decompressed and loaded in parallel.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param path
+   *          the path to the archive file
+   * @param encoding
+   *          the encoding
+   * @param type
+   *          the archive type
+   * @throws Throwable
+   *           if it must
+   */
+  private final void __loadRandomAccessArchive(final IOJob job,
+      final S data, final Path path, final StreamEncoding<?, ?> encoding,
+      final EArchiveType type) throws Throwable {
+    final Logger logger;
+
+    logger = job.getLogger();
+    try (final FileSystem fileSystem = type.openRandomAccess(path)) {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+        logger.log(IOTool.FINE_LOG_LEVEL,//
+            ((("Opened " + type.getName() + //$NON-NLS-1$
+                " '" + path) + '\'') + //$NON-NLS-1$
+            " for random access.")); //$NON-NLS-1$
+      }
+
+      job.m_temporary++;
+      job.m_randomAccess++;
+      try {
+        for (final Path root : fileSystem.getRootDirectories()) {
+          this._path(job, data, root,
+              Files.readAttributes(root, BasicFileAttributes.class),
+              encoding, null);
+        }
+      } finally {
+        job.m_randomAccess--;
+        job.m_temporary--;
+      }
     }
   }
 
   /**
-   * Handle a file which may be compressed
+   * Handle a file which may be compressed. If the
+   * {@link org.optimizationBenchmarking.utils.MemoryGovernor} reports
+   * memory pressure, parallel jobs load their files one at a time until
+   * the pressure is gone. Archives are not gated themselves, but the
+   * files inside them are.
    *
    * @param job
    *          the job where logging info can be written
@@ -330,27 +396,87 @@ public class FileInputTool<S> extends IOTool<S> implements
       final StreamEncoding<?, ?> encoding, final EArchiveType archiveType)
       throws Throwable {
     final Object oldCur;
-    final Logger logger;
 
     oldCur = job.m_current;
-    logger = job.getLogger();
     try {
       job.m_current = path;
+      this._fileUntracked(job, data, path, attributes, encoding,
+          archiveType);
+    } finally {
+      job.m_current = oldCur;
+    }
+  }
 
-      if (archiveType != null) {
-        if ((logger != null)
-            && (logger.isLoggable(IOTool.DEFAULT_LOG_LEVEL))) {
-          logger.log(IOTool.DEFAULT_LOG_LEVEL,//
-              (("Decompressing path '" + path) + '\'')); //$NON-NLS-1$
-        }
+  /**
+   * Handle a file which may be compressed like
+   * {@link #_file(IOJob, Object, Path, BasicFileAttributes, StreamEncoding, EArchiveType)}
+   * , but without recording it as current location of the job. This
+   * method is used when several files of a job are loaded in parallel.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param path
+   *          the path
+   * @param attributes
+   *          the attributes
+   * @param encoding
+   *          the encoding
+   * @param archiveType
+   *          the expected archive type
+   * @throws Throwable
+   *           if it must
+   */
+  final void _fileUntracked(final IOJob job, final S data,
+      final Path path, final BasicFileAttributes attributes,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType)
+      throws Throwable {
+    final Logger logger;
+    final MemoryGovernor governor;
+    final boolean gated;
+    final MetricsSample sample;
+    final FlightEvent event;
+
+    logger = job.getLogger();
+    if (archiveType != null) {
+      if ((logger != null)
+          && (logger.isLoggable(IOTool.DEFAULT_LOG_LEVEL))) {
+        logger.log(IOTool.DEFAULT_LOG_LEVEL,//
+            (("Decompressing path '" + path) + '\'')); //$NON-NLS-1$
+      }
+      // The files inside are gated individually, possibly in other
+      // threads which this one waits for. Holding the gate here could
+      // thus deadlock.
+      if (archiveType.isRandomAccessSupported()
+          && (path.getFileSystem() == FileSystems.getDefault())) {
+        this.__loadRandomAccessArchive(job, data, path, encoding,
+            archiveType);
+      } else {
         try (final InputStream stream = PathUtils.openInputStream(path)) {
           this.__loadArchive(job, data, stream, encoding, archiveType);
         }
-      } else {
+      }
+      return;
+    }
+
+    governor = MemoryGovernor.getInstance();
+    gated = governor.beginWork();
+    try {
+      sample = Metrics.begin();
+      event = FlightEvent.begin(EFlightEventType.FILE_LOAD);
+      try {
         this.file(job, data, path, attributes, encoding);
+      } finally {
+        Metrics.end(sample, EMetricsCategory.FILE, this.getClass(),
+            ((attributes != null) ? attributes.size() : 0L));
       }
+      FlightEvent.end(event, path, this.getClass(),
+          ((attributes != null) ? attributes.size() : 0L));
     } finally {
-      job.m_current = oldCur;
+      if (gated) {
+        governor.endWork();
+      }
     }
   }
 
@@ -624,6 +750,34 @@ public class FileInputTool<S> extends IOTool<S> implements
     (attributes.isRegularFile()));
   }
 
+  /**
+   * Check whether the files inside a directory of an archive which is
+   * processed via random access (see
+   * {@link org.optimizationBenchmarking.utils.io.EArchiveType#isRandomAccessSupported()}
+   * ) may be loaded in parallel. If this method returns {@code true}, the
+   * loadable files of such a directory are decompressed and passed to
+   * {@link #file(IOJob, Object, Path, BasicFileAttributes, StreamEncoding)}
+   * concurrently and in no particular order, after
+   * {@link #enterDirectory(IOJob, Object, Path, BasicFileAttributes)} and
+   * all sub-directories of the directory have been processed, but before
+   * {@link #leaveDirectory(IOJob, Object, Path)} is called. Tools should
+   * only return {@code true} if their implementation of {@code file} is
+   * thread-safe.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the data
+   * @return {@code true} if files may be loaded in parallel, {@code false}
+   *         if they must be loaded one by one
+   * @throws Throwable
+   *           if it must
+   */
+  protected boolean canLoadFilesInParallel(final IOJob job, final S data)
+      throws Throwable {
+    return false;
+  }
+
   /**
    * Leave a directory
    *
@@ -33,6 +33,18 @@ public class IOJob extends ToolJob {
   /** the current location */
   Object m_current;
 
+  /**
+   * the nesting depth of temporary locations, such as folders into which
+   * archives have been extracted, which are currently being processed
+   */
+  volatile int m_temporary;
+
+  /**
+   * the nesting depth of archives which are currently being processed via
+   * random access
+   */
+  volatile int m_randomAccess;
+
   /**
    * create the _IOJob
    *
@@ -146,4 +158,17 @@ public class IOJob extends ToolJob {
   public final Object getToken() {
     return this.m_token;
   }
+
+  /**
+   * Check whether the data currently being read comes from a temporary
+   * location, e.g., a folder into which an archive has been extracted.
+   * Such a location will be deleted once it has been processed, so a tool
+   * must not keep references to its files for reading them again later.
+   *
+   * @return {@code true} if the current location is temporary,
+   *         {@code false} if it is permanent
+   */
+  public final boolean isTemporary() {
+    return (this.m_temporary > 0);
+  }
 }
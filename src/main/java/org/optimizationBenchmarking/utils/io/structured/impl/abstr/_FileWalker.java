@@ -5,10 +5,14 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.io.EArchiveType;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.parallel.Execute;
 
 /**
  * the internal file walker
@@ -28,6 +32,11 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
   private final EArchiveType m_archiveType;
   /** the driver to delegate to */
   private final FileInputTool<L> m_tool;
+  /**
+   * the stack of the files to be loaded in parallel, one list per entered
+   * directory, or {@code null} if files are loaded one by one
+   */
+  private final ArrayList<ArrayList<__LoadFile>> m_parallel;
 
   /**
    * create
@@ -52,6 +61,38 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
     this.m_encoding = encoding;
     this.m_tool = tool;
     this.m_archiveType = archiveType;
+    this.m_parallel = (_FileWalker.__canLoadFilesInParallel(log, data,
+        archiveType, tool) ? new ArrayList<ArrayList<__LoadFile>>() : null);
+  }
+
+  /**
+   * Check whether files can be loaded in parallel: This is the case inside
+   * archives processed via random access if the tool permits it.
+   *
+   * @param log
+   *          the logger
+   * @param data
+   *          the load context
+   * @param archiveType
+   *          the expected archive type
+   * @param tool
+   *          the tool
+   * @return {@code true} if files can be loaded in parallel, {@code false}
+   *         otherwise
+   * @param <L>
+   *          the loader type
+   */
+  private static final <L> boolean __canLoadFilesInParallel(
+      final IOJob log, final L data, final EArchiveType archiveType,
+      final FileInputTool<L> tool) {
+    if ((archiveType != null) || (log.m_randomAccess <= 0)) {
+      return false;
+    }
+    try {
+      return tool.canLoadFilesInParallel(log, data);
+    } catch (final Throwable throwable) {
+      return false;
+    }
   }
 
   /** {@inheritDoc} */
@@ -79,6 +120,9 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
             (("Now entering directory '" + //$NON-NLS-1$
                 dir + '\'') + '.'));
       }
+      if (this.m_parallel != null) {
+        this.m_parallel.add(new ArrayList<__LoadFile>());
+      }
       return FileVisitResult.CONTINUE;
     }
 
@@ -114,6 +158,12 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
 
     logger = this.m_log.getLogger();
 
+    if (load && (this.m_parallel != null) && (!(this.m_parallel.isEmpty()))) {
+      this.m_parallel.get(this.m_parallel.size() - 1).add(
+          new __LoadFile(file, attrs));
+      return FileVisitResult.CONTINUE;
+    }
+
     if (load) {
       if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
         logger.log(IOTool.FINER_LOG_LEVEL,//
@@ -162,6 +212,11 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
       final IOException exc) throws IOException {
     final Logger logger;
 
+    if ((this.m_parallel != null) && (!(this.m_parallel.isEmpty()))) {
+      this.__loadInParallel(this.m_parallel.remove(//
+          this.m_parallel.size() - 1));
+    }
+
     try {
       this.m_tool.leaveDirectory(this.m_log, this.m_data, dir);
     } catch (final Throwable throwable) {
@@ -180,4 +235,99 @@ final class _FileWalker<L> extends SimpleFileVisitor<Path> {
 
     return FileVisitResult.CONTINUE;
   }
+
+  /**
+   * Load the files of a directory in parallel and wait until all of them
+   * have been processed. If we are not inside a
+   * {@link java.util.concurrent.ForkJoinPool}, the common pool is used.
+   * Errors are handled afterwards, in the order of the files.
+   *
+   * @param files
+   *          the files
+   * @throws IOException
+   *           if loading a file failed
+   */
+  @SuppressWarnings("rawtypes")
+  private final void __loadInParallel(final ArrayList<__LoadFile> files)
+      throws IOException {
+    final Runnable[] jobs;
+    final Future[] futures;
+    final Logger logger;
+    int index;
+
+    jobs = files.toArray(new Runnable[files.size()]);
+    logger = this.m_log.getLogger();
+    if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+      logger.log(IOTool.FINER_LOG_LEVEL,//
+          (("Begin loading " + jobs.length) + //$NON-NLS-1$
+          " files in parallel.")); //$NON-NLS-1$
+    }
+
+    if (jobs.length <= 1) {
+      for (final Runnable job : jobs) {
+        job.run();
+      }
+    } else {
+      if (ForkJoinTask.inForkJoinPool()) {
+        Execute.join(Execute.parallelAndWait(null, jobs));
+      } else {
+        futures = new Future[jobs.length];
+        for (index = futures.length; (--index) >= 0;) {
+          futures[index] = Execute.submitToCommonPool(jobs[index], null);
+        }
+        Execute.join(futures);
+      }
+    }
+
+    for (final __LoadFile job : files) {
+      if (job.m_error != null) {
+        this.m_log.handleError(job.m_error,
+            ((("Error when loading file '" + job.m_file) + //$NON-NLS-1$
+            '\'') + '.'));
+      }
+    }
+
+    if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+      logger.log(IOTool.FINER_LOG_LEVEL,//
+          (("Finished loading " + jobs.length) + //$NON-NLS-1$
+          " files in parallel.")); //$NON-NLS-1$
+    }
+  }
+
+  /** a job loading one file in parallel to others */
+  private final class __LoadFile implements Runnable {
+
+    /** the file */
+    final Path m_file;
+    /** the attributes of the file */
+    private final BasicFileAttributes m_attrs;
+    /** the error, if any */
+    Throwable m_error;
+
+    /**
+     * create
+     *
+     * @param file
+     *          the file
+     * @param attrs
+     *          the attributes of the file
+     */
+    __LoadFile(final Path file, final BasicFileAttributes attrs) {
+      super();
+      this.m_file = file;
+      this.m_attrs = attrs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      try {
+        _FileWalker.this.m_tool._fileUntracked(_FileWalker.this.m_log,
+            _FileWalker.this.m_data, this.m_file, this.m_attrs,
+            _FileWalker.this.m_encoding, null);
+      } catch (final Throwable throwable) {
+        this.m_error = throwable;
+      }
+    }
+  }
 }
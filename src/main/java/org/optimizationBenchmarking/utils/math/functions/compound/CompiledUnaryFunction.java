@@ -0,0 +1,129 @@
+package org.optimizationBenchmarking.utils.math.functions.compound;
+
+import org.optimizationBenchmarking.utils.document.spec.IMath;
+import org.optimizationBenchmarking.utils.math.functions.MathematicalFunction;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.text.IParameterRenderer;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * The base class for unary functions which have been generated and
+ * compiled at runtime by the {@link FunctionCompiler} from a compound
+ * function tree. The generated sub-classes only override the
+ * {@code computeAs*} methods, everything else is delegated to the
+ * original, interpreted function, which also replaces the compiled
+ * function during serialization.
+ */
+public abstract class CompiledUnaryFunction extends UnaryFunction {
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** the original function which has been compiled */
+  protected final UnaryFunction m_original;
+
+  /**
+   * Create the compiled function
+   *
+   * @param original
+   *          the original function which has been compiled
+   */
+  protected CompiledUnaryFunction(final UnaryFunction original) {
+    super();
+    if (original == null) {
+      throw new IllegalArgumentException(//
+          "The original function cannot be null."); //$NON-NLS-1$
+    }
+    this.m_original = original;
+  }
+
+  /**
+   * Get the original, interpreted function which has been compiled
+   *
+   * @return the original function
+   */
+  public final UnaryFunction getOriginal() {
+    return this.m_original;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isLongArithmeticAccurate() {
+    return this.m_original.isLongArithmeticAccurate();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int getPrecedencePriority() {
+    return this.m_original.getPrecedencePriority();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final UnaryFunction invertFor(final int index) {
+    return this.m_original.invertFor(index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final MathematicalFunction derivativeFor(final int index) {
+    return this.m_original.derivativeFor(index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final UnaryFunction integrateFor(final int index) {
+    return this.m_original.integrateFor(index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void mathRender(final IMath out,
+      final IParameterRenderer renderer) {
+    this.m_original.mathRender(out, renderer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void mathRender(final ITextOutput out,
+      final IParameterRenderer renderer) {
+    this.m_original.mathRender(out, renderer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return this.m_original.hashCode();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    }
+    // compiled functions are only equal to compiled functions, since the
+    // original functions do not know their compiled versions
+    if (o instanceof CompiledUnaryFunction) {
+      return this.m_original.equals(((CompiledUnaryFunction) o).m_original);
+    }
+    return false;
+  }
+
+  /**
+   * Write replace: the compiled function is replaced with the original
+   * function for serialization, since the generated class only exists in
+   * the current process.
+   *
+   * @return the replacement instance (always the original function)
+   */
+  protected final Object writeReplace() {
+    return this.m_original;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return this.m_original.toString();
+  }
+}
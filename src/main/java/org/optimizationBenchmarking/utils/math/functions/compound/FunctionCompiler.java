@@ -0,0 +1,853 @@
+package org.optimizationBenchmarking.utils.math.functions.compound;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.logging.Level;
+
+import org.optimizationBenchmarking.utils.compiler.JavaCompilerTool;
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.math.functions.BinaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.MathematicalFunction;
+import org.optimizationBenchmarking.utils.math.functions.QuaternaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.TernaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Identity;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * <p>
+ * A compiler which translates a tree of compound functions, as built by a
+ * {@link FunctionBuilder} (and thus by the
+ * {@link org.optimizationBenchmarking.utils.math.text.CompoundFunctionParser}
+ * ), into a single class which is generated and compiled at runtime with
+ * the {@link org.optimizationBenchmarking.utils.compiler.JavaCompilerTool}
+ * . Evaluating a compound function tree costs one virtual call per node,
+ * whereas the compiled function evaluates the whole expression in a
+ * single method for each of the {@code computeAs*} variants, i.e., with
+ * specialized {@code long} and {@code double} paths.
+ * </p>
+ * <p>
+ * Sub-trees consisting only of immutable constants and functions from
+ * the {@code org.optimizationBenchmarking.utils.math.functions} packages
+ * are folded into literals. Parameters are accessed directly. All other
+ * functions and constants, e.g., constants whose value may change, are
+ * kept as references and invoked by the generated code exactly as the
+ * compound function would invoke them, so the compiled function computes
+ * exactly the same results as the original one.
+ * </p>
+ * <p>
+ * Generated classes are cached by the generated expressions, so a given
+ * expression is compiled only once. Compilation is optional and disabled
+ * by default: it must be enabled by setting the system property
+ * {@value #COMPILE_PROPERTY} to {@code true}. If it is not enabled, if no
+ * Java compiler is available, or if a function cannot be compiled, the
+ * original function is returned.
+ * </p>
+ */
+public final class FunctionCompiler {
+
+  /**
+   * the system property which must be set to {@code true} in order to
+   * enable the compilation of functions: {@value}
+   */
+  public static final String COMPILE_PROPERTY = "org.optimizationBenchmarking.utils.math.functions.compound.compile"; //$NON-NLS-1$
+
+  /** the mode for {@code byte} arithmetic */
+  private static final int MODE_BYTE = 0;
+  /** the mode for {@code short} arithmetic */
+  private static final int MODE_SHORT = 1;
+  /** the mode for {@code int} arithmetic */
+  private static final int MODE_INT = 2;
+  /** the mode for {@code long} arithmetic */
+  private static final int MODE_LONG = 3;
+  /** the mode for {@code float} arithmetic */
+  private static final int MODE_FLOAT = 4;
+  /** the mode for {@code double} arithmetic */
+  private static final int MODE_DOUBLE = 5;
+  /** the mode for {@code int} parameters and {@code double} arithmetic */
+  private static final int MODE_INT_DOUBLE = 6;
+  /** the mode for {@code long} parameters and {@code double} arithmetic */
+  private static final int MODE_LONG_DOUBLE = 7;
+
+  /** the parameter types of the modes */
+  private static final String[] PARAM_TYPES = { "byte", //$NON-NLS-1$
+      "short", //$NON-NLS-1$
+      "int", //$NON-NLS-1$
+      "long", //$NON-NLS-1$
+      "float", //$NON-NLS-1$
+      "double", //$NON-NLS-1$
+      "int", //$NON-NLS-1$
+      "long", //$NON-NLS-1$
+  };
+
+  /** the return types of the modes */
+  private static final String[] RETURN_TYPES = { "byte", //$NON-NLS-1$
+      "short", //$NON-NLS-1$
+      "int", //$NON-NLS-1$
+      "long", //$NON-NLS-1$
+      "float", //$NON-NLS-1$
+      "double", //$NON-NLS-1$
+      "double", //$NON-NLS-1$
+      "double", //$NON-NLS-1$
+  };
+
+  /** the method names of the modes */
+  private static final String[] METHODS = { "computeAsByte", //$NON-NLS-1$
+      "computeAsShort", //$NON-NLS-1$
+      "computeAsInt", //$NON-NLS-1$
+      "computeAsLong", //$NON-NLS-1$
+      "computeAsFloat", //$NON-NLS-1$
+      "computeAsDouble", //$NON-NLS-1$
+      "computeAsDouble", //$NON-NLS-1$
+      "computeAsDouble", //$NON-NLS-1$
+  };
+
+  /** the package prefix of the pure mathematical functions */
+  private static final String PURE_PREFIX = (MathematicalFunction.class
+      .getPackage().getName() + '.');
+
+  /** the forbidden constructor */
+  private FunctionCompiler() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Can functions be compiled, i.e., is compilation enabled via
+   * {@link #COMPILE_PROPERTY} and is a Java compiler available?
+   *
+   * @return {@code true} if functions can be compiled, {@code false} if
+   *         {@link #compile(UnaryFunction)} and
+   *         {@link #compile(BinaryFunction)} will always return their
+   *         arguments
+   */
+  public static final boolean canCompile() {
+    return __FunctionCompilerCache.INSTANCE.m_canCompile;
+  }
+
+  /**
+   * Compile a unary function.
+   *
+   * @param function
+   *          the function
+   * @return the compiled function, or {@code function} if it cannot be
+   *         compiled
+   */
+  public static final UnaryFunction compile(final UnaryFunction function) {
+    return ((UnaryFunction) (FunctionCompiler.__compile(function, 1)));
+  }
+
+  /**
+   * Compile a binary function.
+   *
+   * @param function
+   *          the function
+   * @return the compiled function, or {@code function} if it cannot be
+   *         compiled
+   */
+  public static final BinaryFunction compile(final BinaryFunction function) {
+    return ((BinaryFunction) (FunctionCompiler.__compile(function, 2)));
+  }
+
+  /**
+   * Compile a function.
+   *
+   * @param function
+   *          the function
+   * @param arity
+   *          the arity of the function
+   * @return the compiled function, or {@code function} if it cannot be
+   *         compiled
+   */
+  private static final MathematicalFunction __compile(
+      final MathematicalFunction function, final int arity) {
+    final __Source source;
+    final Constructor<?> constructor;
+
+    if ((function == null) || //
+        (FunctionCompiler.__children(function) == null) || //
+        (!(FunctionCompiler.canCompile()))) {
+      return function;
+    }
+
+    try {
+      source = new __Source(arity);
+      source._generate(function);
+      constructor = __FunctionCompilerCache.INSTANCE._get(source);
+      if (constructor != null) {
+        return ((MathematicalFunction) (constructor.newInstance(function,
+            source.m_references.toArray())));
+      }
+    } catch (final Throwable error) {
+      ErrorUtils.logError(Configuration.getGlobalLogger(), Level.WARNING,
+          ("Could not compile function " + function), //$NON-NLS-1$
+          error, false, RethrowMode.DONT_RETHROW);
+    }
+    return function;
+  }
+
+  /**
+   * Get the result function and the child functions of a compound
+   * function
+   *
+   * @param function
+   *          the function
+   * @return an array with the result function at index 0 and the child
+   *         functions at the following indexes, or {@code null} if
+   *         {@code function} is not a compound function
+   */
+  private static final MathematicalFunction[] __children(
+      final MathematicalFunction function) {
+    if (function instanceof _Compound1x1) {
+      return new MathematicalFunction[] {
+          ((_Compound1x1) function).m_result,
+          ((_Compound1x1) function).m_child1 };
+    }
+    if (function instanceof _Compound2x1) {
+      return new MathematicalFunction[] {
+          ((_Compound2x1) function).m_result,
+          ((_Compound2x1) function).m_child1,
+          ((_Compound2x1) function).m_child2 };
+    }
+    if (function instanceof _Compound3x1) {
+      return new MathematicalFunction[] {
+          ((_Compound3x1) function).m_result,
+          ((_Compound3x1) function).m_child1,
+          ((_Compound3x1) function).m_child2,
+          ((_Compound3x1) function).m_child3 };
+    }
+    if (function instanceof _Compound4x1) {
+      return new MathematicalFunction[] {
+          ((_Compound4x1) function).m_result,
+          ((_Compound4x1) function).m_child1,
+          ((_Compound4x1) function).m_child2,
+          ((_Compound4x1) function).m_child3,
+          ((_Compound4x1) function).m_child4 };
+    }
+    if (function instanceof _Compound1x2) {
+      return new MathematicalFunction[] {
+          ((_Compound1x2) function).m_result,
+          ((_Compound1x2) function).m_child1 };
+    }
+    if (function instanceof _Compound2x2) {
+      return new MathematicalFunction[] {
+          ((_Compound2x2) function).m_result,
+          ((_Compound2x2) function).m_child1,
+          ((_Compound2x2) function).m_child2 };
+    }
+    if (function instanceof _Compound3x2) {
+      return new MathematicalFunction[] {
+          ((_Compound3x2) function).m_result,
+          ((_Compound3x2) function).m_child1,
+          ((_Compound3x2) function).m_child2,
+          ((_Compound3x2) function).m_child3 };
+    }
+    if (function instanceof _Compound4x2) {
+      return new MathematicalFunction[] {
+          ((_Compound4x2) function).m_result,
+          ((_Compound4x2) function).m_child1,
+          ((_Compound4x2) function).m_child2,
+          ((_Compound4x2) function).m_child3,
+          ((_Compound4x2) function).m_child4 };
+    }
+    return null;
+  }
+
+  /**
+   * Get the constant of a constant function
+   *
+   * @param function
+   *          the function
+   * @return the constant, or {@code null} if {@code function} is not a
+   *         constant function
+   */
+  private static final Number __constant(final MathematicalFunction function) {
+    if (function instanceof _Const1) {
+      return ((_Const1) function).m_const;
+    }
+    if (function instanceof _Const2) {
+      return ((_Const2) function).m_const;
+    }
+    return null;
+  }
+
+  /**
+   * Get the index of the parameter returned by a function
+   *
+   * @param function
+   *          the function
+   * @return the index of the parameter, or {@code -1} if {@code function}
+   *         does not just return a parameter
+   */
+  private static final int __parameter(final MathematicalFunction function) {
+    if ((function instanceof Identity) || //
+        (function instanceof _Select1of2)) {
+      return 0;
+    }
+    if (function instanceof _Select2of2) {
+      return 1;
+    }
+    return (-1);
+  }
+
+  /**
+   * Check whether a function is pure, i.e., always returns the same
+   * result for the same arguments
+   *
+   * @param function
+   *          the function
+   * @return {@code true} if the function is pure, {@code false} if we do
+   *         not know
+   */
+  private static final boolean __isPure(final MathematicalFunction function) {
+    final Class<?> clazz;
+
+    clazz = function.getClass();
+    return (clazz.getName().startsWith(FunctionCompiler.PURE_PREFIX) && //
+    (clazz.getPackage() != FunctionCompiler.class.getPackage()));
+  }
+
+  /**
+   * Check whether a function can be folded into a constant
+   *
+   * @param function
+   *          the function
+   * @return {@code true} if the function can be folded into a constant,
+   *         {@code false} otherwise
+   */
+  private static final boolean __isFoldable(
+      final MathematicalFunction function) {
+    final MathematicalFunction[] children;
+    final Number constant;
+    final Class<?> clazz;
+    int index;
+
+    constant = FunctionCompiler.__constant(function);
+    if (constant != null) {
+      clazz = constant.getClass();
+      return ((clazz == Long.class) || (clazz == Integer.class) || //
+          (clazz == Short.class) || (clazz == Byte.class) || //
+          (clazz == Double.class) || (clazz == Float.class));
+    }
+
+    children = FunctionCompiler.__children(function);
+    if ((children == null) || (!(FunctionCompiler.__isPure(children[0])))) {
+      return false;
+    }
+    for (index = children.length; (--index) > 0;) {
+      if (!(FunctionCompiler.__isFoldable(children[index]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the class name to be used for a function in the generated code
+   *
+   * @param function
+   *          the function
+   * @return the class name
+   */
+  private static final String __functionType(
+      final MathematicalFunction function) {
+    if (function instanceof UnaryFunction) {
+      return UnaryFunction.class.getCanonicalName();
+    }
+    if (function instanceof BinaryFunction) {
+      return BinaryFunction.class.getCanonicalName();
+    }
+    if (function instanceof TernaryFunction) {
+      return TernaryFunction.class.getCanonicalName();
+    }
+    if (function instanceof QuaternaryFunction) {
+      return QuaternaryFunction.class.getCanonicalName();
+    }
+    throw new IllegalArgumentException(//
+        "Cannot compile function " + function); //$NON-NLS-1$
+  }
+
+  /**
+   * Get the name of the static singleton field holding a function, if
+   * any
+   *
+   * @param function
+   *          the function
+   * @return the fully-qualified name of the static field, or {@code null}
+   *         if there is no accessible singleton field holding
+   *         {@code function}
+   */
+  private static final String __singleton(
+      final MathematicalFunction function) {
+    final Class<?> clazz;
+    final Field field;
+
+    clazz = function.getClass();
+    if ((!(Modifier.isPublic(clazz.getModifiers())))
+        || (clazz.getEnclosingClass() != null)) {
+      return null;
+    }
+    try {
+      field = clazz.getField("INSTANCE"); //$NON-NLS-1$
+      if (Modifier.isStatic(field.getModifiers())
+          && Modifier.isFinal(field.getModifiers())
+          && (field.get(null) == function)) {
+        return (clazz.getCanonicalName() + '.' + field.getName());
+      }
+    } catch (final Throwable error) {
+      // ignore, we then use a field
+    }
+    return null;
+  }
+
+  /**
+   * Append a literal to the generated code
+   *
+   * @param function
+   *          the constant function to evaluate
+   * @param arity
+   *          the arity of the function
+   * @param mode
+   *          the mode
+   * @param out
+   *          the destination
+   */
+  private static final void __literal(final MathematicalFunction function,
+      final int arity, final int mode, final MemoryTextOutput out) {
+    final double d;
+    final float f;
+
+    switch (mode) {
+      case MODE_BYTE: {
+        out.append("((byte) ("); //$NON-NLS-1$
+        out.append((arity == 1) ? //
+            ((UnaryFunction) function).computeAsByte((byte) 0)
+            : ((BinaryFunction) function).computeAsByte((byte) 0,
+                (byte) 0));
+        out.append(')');
+        out.append(')');
+        return;
+      }
+      case MODE_SHORT: {
+        out.append("((short) ("); //$NON-NLS-1$
+        out.append((arity == 1) ? //
+            ((UnaryFunction) function).computeAsShort((short) 0)
+            : ((BinaryFunction) function).computeAsShort((short) 0,
+                (short) 0));
+        out.append(')');
+        out.append(')');
+        return;
+      }
+      case MODE_INT: {
+        out.append('(');
+        out.append((arity == 1) ? //
+            ((UnaryFunction) function).computeAsInt(0)
+            : ((BinaryFunction) function).computeAsInt(0, 0));
+        out.append(')');
+        return;
+      }
+      case MODE_LONG: {
+        out.append('(');
+        out.append((arity == 1) ? //
+            ((UnaryFunction) function).computeAsLong(0L)
+            : ((BinaryFunction) function).computeAsLong(0L, 0L));
+        out.append('L');
+        out.append(')');
+        return;
+      }
+      case MODE_FLOAT: {
+        f = ((arity == 1) ? //
+            ((UnaryFunction) function).computeAsFloat(0f)
+            : ((BinaryFunction) function).computeAsFloat(0f, 0f));
+        if (f != f) {
+          out.append("java.lang.Float.NaN"); //$NON-NLS-1$
+        } else {
+          if (f >= Float.POSITIVE_INFINITY) {
+            out.append("java.lang.Float.POSITIVE_INFINITY"); //$NON-NLS-1$
+          } else {
+            if (f <= Float.NEGATIVE_INFINITY) {
+              out.append("java.lang.Float.NEGATIVE_INFINITY"); //$NON-NLS-1$
+            } else {
+              out.append('(');
+              out.append(Float.toString(f));
+              out.append('f');
+              out.append(')');
+            }
+          }
+        }
+        return;
+      }
+      case MODE_INT_DOUBLE: {
+        d = ((arity == 1) ? //
+            ((UnaryFunction) function).computeAsDouble(0)
+            : ((BinaryFunction) function).computeAsDouble(0, 0));
+        break;
+      }
+      case MODE_LONG_DOUBLE: {
+        d = ((arity == 1) ? //
+            ((UnaryFunction) function).computeAsDouble(0L)
+            : ((BinaryFunction) function).computeAsDouble(0L, 0L));
+        break;
+      }
+      default: {
+        d = ((arity == 1) ? //
+            ((UnaryFunction) function).computeAsDouble(0d)
+            : ((BinaryFunction) function).computeAsDouble(0d, 0d));
+      }
+    }
+
+    if (d != d) {
+      out.append("java.lang.Double.NaN"); //$NON-NLS-1$
+    } else {
+      if (d >= Double.POSITIVE_INFINITY) {
+        out.append("java.lang.Double.POSITIVE_INFINITY"); //$NON-NLS-1$
+      } else {
+        if (d <= Double.NEGATIVE_INFINITY) {
+          out.append("java.lang.Double.NEGATIVE_INFINITY"); //$NON-NLS-1$
+        } else {
+          out.append('(');
+          out.append(Double.toString(d));
+          out.append('d');
+          out.append(')');
+        }
+      }
+    }
+  }
+
+  /** the source code generator for one function */
+  private static final class __Source {
+
+    /** the arity of the function */
+    final int m_arity;
+
+    /** the references to be passed to the generated constructor */
+    final ArrayList<Object> m_references;
+
+    /** the types of the references */
+    private final ArrayList<String> m_types;
+
+    /** the indexes of the references */
+    private final IdentityHashMap<Object, Integer> m_indexes;
+
+    /** the generated members, without the class name */
+    String m_members;
+
+    /**
+     * create the source
+     *
+     * @param arity
+     *          the arity of the function
+     */
+    __Source(final int arity) {
+      super();
+      this.m_arity = arity;
+      this.m_references = new ArrayList<>();
+      this.m_types = new ArrayList<>();
+      this.m_indexes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Get the name of the field holding a reference
+     *
+     * @param reference
+     *          the referenced object
+     * @param type
+     *          the type of the field
+     * @return the field name
+     */
+    private final String __reference(final Object reference,
+        final String type) {
+      Integer index;
+
+      index = this.m_indexes.get(reference);
+      if (index == null) {
+        index = Integer.valueOf(this.m_references.size());
+        this.m_indexes.put(reference, index);
+        this.m_references.add(reference);
+        this.m_types.add(type);
+      }
+      return ("this.r" + index); //$NON-NLS-1$
+    }
+
+    /**
+     * Append the parameters of a function call
+     *
+     * @param out
+     *          the destination
+     */
+    private final void __parameters(final MemoryTextOutput out) {
+      int index;
+
+      out.append('(');
+      for (index = 0; index < this.m_arity; index++) {
+        if (index > 0) {
+          out.append(',');
+        }
+        out.append('x');
+        out.append(index);
+      }
+      out.append(')');
+    }
+
+    /**
+     * Generate the expression computing the value of a function
+     *
+     * @param function
+     *          the function
+     * @param mode
+     *          the mode
+     * @param out
+     *          the destination
+     */
+    private final void __expression(final MathematicalFunction function,
+        final int mode, final MemoryTextOutput out) {
+      final MathematicalFunction[] children;
+      final Number constant;
+      final int parameter;
+      final boolean isMixed;
+      String reference;
+      int index;
+
+      isMixed = ((mode == FunctionCompiler.MODE_INT_DOUBLE) || //
+      (mode == FunctionCompiler.MODE_LONG_DOUBLE));
+
+      if (FunctionCompiler.__isFoldable(function)) {
+        FunctionCompiler.__literal(function, this.m_arity, mode, out);
+        return;
+      }
+
+      parameter = FunctionCompiler.__parameter(function);
+      if ((parameter >= 0) && (parameter < this.m_arity)) {
+        if (isMixed) {
+          out.append("((double) (x"); //$NON-NLS-1$
+          out.append(parameter);
+          out.append("))"); //$NON-NLS-1$
+        } else {
+          out.append('x');
+          out.append(parameter);
+        }
+        return;
+      }
+
+      constant = FunctionCompiler.__constant(function);
+      if (constant != null) {
+        out.append(this.__reference(constant,
+            Number.class.getCanonicalName()));
+        out.append('.');
+        out.append(isMixed ? "double" : //$NON-NLS-1$
+            FunctionCompiler.RETURN_TYPES[mode]);
+        out.append("Value()"); //$NON-NLS-1$
+        return;
+      }
+
+      children = FunctionCompiler.__children(function);
+      if (children == null) {
+        // an unknown function: invoke it like the compound would do
+        reference = FunctionCompiler.__singleton(function);
+        if (reference == null) {
+          reference = this.__reference(function,
+              FunctionCompiler.__functionType(function));
+        }
+        out.append(reference);
+        out.append('.');
+        out.append(FunctionCompiler.METHODS[mode]);
+        this.__parameters(out);
+        return;
+      }
+
+      reference = FunctionCompiler.__singleton(children[0]);
+      if (reference == null) {
+        reference = this.__reference(children[0],
+            FunctionCompiler.__functionType(children[0]));
+      }
+      out.append(reference);
+      out.append('.');
+      out.append(FunctionCompiler.METHODS[mode]);
+      out.append('(');
+      for (index = 1; index < children.length; index++) {
+        if (index > 1) {
+          out.append(',');
+        }
+        this.__expression(children[index], mode, out);
+      }
+      out.append(')');
+    }
+
+    /**
+     * Generate the members of the class computing a function
+     *
+     * @param function
+     *          the function
+     */
+    final void _generate(final MathematicalFunction function) {
+      final MemoryTextOutput methods, members;
+      int mode, index;
+
+      methods = new MemoryTextOutput();
+      for (mode = FunctionCompiler.MODE_BYTE; mode <= FunctionCompiler.MODE_LONG_DOUBLE; mode++) {
+        methods.append("@Override public final "); //$NON-NLS-1$
+        methods.append(FunctionCompiler.RETURN_TYPES[mode]);
+        methods.append(' ');
+        methods.append(FunctionCompiler.METHODS[mode]);
+        methods.append('(');
+        for (index = 0; index < this.m_arity; index++) {
+          if (index > 0) {
+            methods.append(',');
+          }
+          methods.append("final "); //$NON-NLS-1$
+          methods.append(FunctionCompiler.PARAM_TYPES[mode]);
+          methods.append(" x"); //$NON-NLS-1$
+          methods.append(index);
+        }
+        methods.append("){return "); //$NON-NLS-1$
+        this.__expression(function, mode, methods);
+        methods.append(";}"); //$NON-NLS-1$
+      }
+
+      members = new MemoryTextOutput();
+      index = 0;
+      for (final String type : this.m_types) {
+        members.append("private final "); //$NON-NLS-1$
+        members.append(type);
+        members.append(" r"); //$NON-NLS-1$
+        members.append(index++);
+        members.append(';');
+      }
+      members.append(methods.toString());
+      this.m_members = members.toString();
+    }
+
+    /**
+     * Create the full source code of the class
+     *
+     * @param packageName
+     *          the package name
+     * @param className
+     *          the class name
+     * @return the source code
+     */
+    final String _source(final String packageName, final String className) {
+      final MemoryTextOutput out;
+      final String base;
+      int index;
+
+      base = ((this.m_arity == 1) ? UnaryFunction.class
+          : BinaryFunction.class).getCanonicalName();
+
+      out = new MemoryTextOutput();
+      out.append("package "); //$NON-NLS-1$
+      out.append(packageName);
+      out.append(';');
+      out.append(//
+          "@SuppressWarnings({\"unchecked\", \"rawtypes\", \"nls\", \"javadoc\"}) public final class "); //$NON-NLS-1$
+      out.append(className);
+      out.append(" extends "); //$NON-NLS-1$
+      out.append(((this.m_arity == 1) ? CompiledUnaryFunction.class
+          : CompiledBinaryFunction.class).getCanonicalName());
+      out.append('{');
+      out.append("private static final long serialVersionUID = 1L;"); //$NON-NLS-1$
+      out.append("public "); //$NON-NLS-1$
+      out.append(className);
+      out.append("(final "); //$NON-NLS-1$
+      out.append(base);
+      out.append(" original, final java.lang.Object[] refs){super(original);"); //$NON-NLS-1$
+      index = 0;
+      for (final String type : this.m_types) {
+        out.append("this.r"); //$NON-NLS-1$
+        out.append(index);
+        out.append("=(("); //$NON-NLS-1$
+        out.append(type);
+        out.append(")(refs["); //$NON-NLS-1$
+        out.append(index++);
+        out.append("]));"); //$NON-NLS-1$
+      }
+      out.append('}');
+      out.append(this.m_members);
+      out.append('}');
+      return out.toString();
+    }
+  }
+
+  /** the cache of the compiled classes */
+  private static final class __FunctionCompilerCache {
+
+    /** the shared instance */
+    static final __FunctionCompilerCache INSTANCE = new __FunctionCompilerCache();
+
+    /** can we compile? */
+    final boolean m_canCompile;
+
+    /**
+     * the constructors of the compiled classes, by generated members, or
+     * {@code null} if compiling failed
+     */
+    private final HashMap<String, Constructor<?>> m_cache;
+
+    /** the class counter */
+    private long m_counter;
+
+    /** create */
+    private __FunctionCompilerCache() {
+      super();
+
+      boolean canCompile;
+
+      try {
+        canCompile = (Boolean.getBoolean(FunctionCompiler.COMPILE_PROPERTY) && //
+        JavaCompilerTool.getInstance().canUse());
+      } catch (final Throwable error) {
+        canCompile = false;
+      }
+
+      this.m_canCompile = canCompile;
+      this.m_cache = new HashMap<>();
+    }
+
+    /**
+     * Get the constructor of the class for the given source, compiling
+     * it if necessary
+     *
+     * @param source
+     *          the source
+     * @return the constructor, or {@code null} if compilation has failed
+     *         before
+     * @throws Exception
+     *           if compilation fails
+     */
+    synchronized final Constructor<?> _get(final __Source source)
+        throws Exception {
+      final String key, packageName, className, hex;
+      final ClassLoader loader;
+      Constructor<?> constructor;
+
+      key = ((source.m_arity == 1) ? ('1' + source.m_members)
+          : ('2' + source.m_members));
+      if (this.m_cache.containsKey(key)) {
+        return this.m_cache.get(key);
+      }
+
+      // remember failure: we do not try again
+      this.m_cache.put(key, null);
+
+      hex = Long.toHexString(this.m_counter++);
+      packageName = ("_DynaFunctionPackage" + hex); //$NON-NLS-1$
+      className = ("_DynaFunction" + hex); //$NON-NLS-1$
+
+      loader = JavaCompilerTool.getInstance().use()//
+          .addClass((packageName + '.' + className), //
+              source._source(packageName, className))//
+          .create().call();
+
+      constructor = loader.loadClass(packageName + '.' + className)
+          .getConstructor(((source.m_arity == 1) ? UnaryFunction.class
+              : BinaryFunction.class), Object[].class);
+      this.m_cache.put(key, constructor);
+      return constructor;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import org.optimizationBenchmarking.utils.collections.ArrayUtils;
 import org.optimizationBenchmarking.utils.collections.iterators.InstanceIterator;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
 import org.optimizationBenchmarking.utils.math.matrix.impl.ByteMatrix1D;
 import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
 import org.optimizationBenchmarking.utils.math.matrix.impl.FloatMatrix1D;
@@ -154,7 +155,7 @@ public class AbstractMatrix implements IMatrix, ITextable {
             textOut.append(',');
             textOut.append(' ');
           }
-          textOut.append(Double.toString(this.getDouble(row, col)));
+          textOut.append(this.getDouble(row, col));
 
         }
         textOut.append(']');
@@ -487,4 +488,149 @@ public class AbstractMatrix implements IMatrix, ITextable {
     }
   }
 
+  /**
+   * Check whether the rows {@code fromRow} (inclusive) to {@code toRow}
+   * (exclusive) of column {@code column} of a given matrix can be copied
+   * to an array of length {@code destLength} starting at index
+   * {@code destStart}, as done by
+   * {@link IMatrix#copyColumn(int, int, int, double[], int)}. If not, an
+   * {@link IndexOutOfBoundsException} is thrown.
+   *
+   * @param matrix
+   *          the matrix
+   * @param column
+   *          the column index
+   * @param fromRow
+   *          the first row (inclusive)
+   * @param toRow
+   *          the end of the row range (exclusive)
+   * @param destLength
+   *          the length of the destination array
+   * @param destStart
+   *          the start index in the destination array
+   * @throws IndexOutOfBoundsException
+   *           if the ranges are invalid
+   */
+  public static final void checkColumnRange(final IMatrix matrix,
+      final int column, final int fromRow, final int toRow,
+      final int destLength, final int destStart) {
+    final int m, n;
+
+    m = matrix.m();
+    n = matrix.n();
+    if ((column < 0) || (column >= n) || (fromRow < 0)
+        || (fromRow > toRow) || (toRow > m) || (destStart < 0)
+        || ((destLength - destStart) < (toRow - fromRow))) {
+      throw new IndexOutOfBoundsException(//
+          ((((((((((((("Cannot copy rows " + fromRow) + ".." + toRow) + //$NON-NLS-1$//$NON-NLS-2$
+              " (exclusive) of column ") + column) + //$NON-NLS-1$
+              " of matrix ") + TextUtils.className(matrix.getClass())) + //$NON-NLS-1$
+              " to index ") + destStart) + //$NON-NLS-1$
+              " of an array of length ") + destLength) + //$NON-NLS-1$
+              ", the valid index range of the matrix is (0.." //$NON-NLS-1$
+          + (m - 1)) + ", 0.."//$NON-NLS-1$
+          + (n - 1)) + ')') + '.');
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = this.getDouble(i, column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = this.getLong(i, column);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart) {
+    AbstractMatrix.applyToColumn(this, column, function, fromRow, toRow,
+        dest, destStart);
+  }
+
+  /**
+   * Apply a unary function to a column range of a matrix, as specified in
+   * {@link IMatrix#applyToColumn(int, UnaryFunction, int, int, double[], int)}
+   * . The values are first copied via
+   * {@link IMatrix#copyColumn(int, int, int, double[], int)} or
+   * {@link IMatrix#copyColumn(int, int, int, long[], int)}, so the
+   * function is then applied in a simple loop over an array.
+   *
+   * @param matrix
+   *          the matrix
+   * @param column
+   *          the column index
+   * @param function
+   *          the function to apply
+   * @param fromRow
+   *          the first row to process (inclusive)
+   * @param toRow
+   *          the end of the row range to process (exclusive)
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the index in {@code dest} where the result for row
+   *          {@code fromRow} should be stored
+   */
+  public static final void applyToColumn(final IMatrix matrix,
+      final int column, final UnaryFunction function, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final long[] values;
+    int i, j;
+
+    if (function == null) {
+      throw new IllegalArgumentException(//
+          "Function to apply to matrix column must not be null."); //$NON-NLS-1$
+    }
+    AbstractMatrix.checkColumnRange(matrix, column, fromRow, toRow,
+        dest.length, destStart);
+
+    if (matrix.isIntegerMatrix()) {
+      values = new long[toRow - fromRow];
+      matrix.copyColumn(column, fromRow, toRow, values, 0);
+      j = destStart;
+      for (i = 0; i < values.length; i++) {
+        dest[j++] = function.computeAsDouble(values[i]);
+      }
+    } else {
+      matrix.copyColumn(column, fromRow, toRow, dest, destStart);
+      for (i = (destStart + (toRow - fromRow)); (--i) >= destStart;) {
+        dest[i] = function.computeAsDouble(dest[i]);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double[] getDoubleArrayView() {
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long[] getLongArrayView() {
+    return null;
+  }
 }
@@ -2,6 +2,7 @@ package org.optimizationBenchmarking.utils.math.matrix;
 
 import java.util.Iterator;
 
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
 import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 
 /**
@@ -150,4 +151,101 @@ public interface IMatrix {
    */
   public abstract void aggregateRow(final int row,
       final IAggregate aggregate);
+
+  /**
+   * Copy the {@code double} values of the rows {@code fromRow} (inclusive)
+   * to {@code toRow} (exclusive) of a given column into an array. The
+   * result is the same as if {@link #getDouble(int, int)} was invoked for
+   * each of the rows, but implementations can usually do this much faster
+   * than element-wise access.
+   *
+   * @param column
+   *          the column index
+   * @param fromRow
+   *          the first row to copy (inclusive)
+   * @param toRow
+   *          the end of the row range to copy (exclusive)
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the index in {@code dest} where the value of row
+   *          {@code fromRow} should be stored
+   */
+  public abstract void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart);
+
+  /**
+   * Copy the {@code long} values of the rows {@code fromRow} (inclusive)
+   * to {@code toRow} (exclusive) of a given column into an array. The
+   * result is the same as if {@link #getLong(int, int)} was invoked for
+   * each of the rows, but implementations can usually do this much faster
+   * than element-wise access.
+   *
+   * @param column
+   *          the column index
+   * @param fromRow
+   *          the first row to copy (inclusive)
+   * @param toRow
+   *          the end of the row range to copy (exclusive)
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the index in {@code dest} where the value of row
+   *          {@code fromRow} should be stored
+   */
+  public abstract void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart);
+
+  /**
+   * Apply a unary function to the rows {@code fromRow} (inclusive) to
+   * {@code toRow} (exclusive) of a given column and store the results in
+   * an array. If this matrix is an {@link #isIntegerMatrix() integer
+   * matrix}, {@link UnaryFunction#computeAsDouble(long)} is applied to
+   * the {@link #getLong(int, int) long values} of the column, otherwise
+   * {@link UnaryFunction#computeAsDouble(double)} is applied to the
+   * {@link #getDouble(int, int) double values}.
+   *
+   * @param column
+   *          the column index
+   * @param function
+   *          the function to apply
+   * @param fromRow
+   *          the first row to process (inclusive)
+   * @param toRow
+   *          the end of the row range to process (exclusive)
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the index in {@code dest} where the result for row
+   *          {@code fromRow} should be stored
+   */
+  public abstract void applyToColumn(final int column,
+      final UnaryFunction function, final int fromRow, final int toRow,
+      final double[] dest, final int destStart);
+
+  /**
+   * Get a view on the {@code double} array backing this matrix, if this
+   * matrix is backed by such an array. The array then holds the
+   * {@link #m() m}&times;{@link #n() n} elements of the matrix row by
+   * row, i.e., element {@code (i, j)} is located at index
+   * {@code i*n+j}. The array is not a copy and must never be modified.
+   *
+   * @return the backing array, or {@code null} if this matrix is not
+   *         backed by a {@code double} array of exactly
+   *         {@link #m() m}&times;{@link #n() n} elements
+   */
+  public abstract double[] getDoubleArrayView();
+
+  /**
+   * Get a view on the {@code long} array backing this matrix, if this
+   * matrix is backed by such an array. The array then holds the
+   * {@link #m() m}&times;{@link #n() n} elements of the matrix row by
+   * row, i.e., element {@code (i, j)} is located at index
+   * {@code i*n+j}. The array is not a copy and must never be modified.
+   *
+   * @return the backing array, or {@code null} if this matrix is not
+   *         backed by a {@code long} array of exactly
+   *         {@link #m() m}&times;{@link #n() n} elements
+   */
+  public abstract long[] getLongArrayView();
 }
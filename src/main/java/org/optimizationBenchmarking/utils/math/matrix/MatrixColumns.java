@@ -51,6 +51,22 @@ public class MatrixColumns<OT extends IMatrix> extends AbstractMatrix {
     return this.m_owner.getLong(row, this.m_cols[column]);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    this.m_owner.copyColumn(this.m_cols[column], fromRow, toRow, dest,
+        destStart);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    this.m_owner.copyColumn(this.m_cols[column], fromRow, toRow, dest,
+        destStart);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
@@ -51,6 +51,58 @@ public class MatrixRows<OT extends IMatrix> extends AbstractMatrix {
     return this.m_owner.getLong(this.m_rows[row], col);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final double[] view;
+    final int[] rows;
+    final int n;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    rows = this.m_rows;
+    j = destStart;
+    view = this.m_owner.getDoubleArrayView();
+    if (view != null) {
+      n = this.m_owner.n();
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = view[(rows[i] * n) + column];
+      }
+    } else {
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = this.m_owner.getDouble(rows[i], column);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final long[] view;
+    final int[] rows;
+    final int n;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    rows = this.m_rows;
+    j = destStart;
+    view = this.m_owner.getLongArrayView();
+    if (view != null) {
+      n = this.m_owner.n();
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = view[(rows[i] * n) + column];
+      }
+    } else {
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = this.m_owner.getLong(rows[i], column);
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
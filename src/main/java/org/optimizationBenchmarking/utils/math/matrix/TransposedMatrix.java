@@ -46,6 +46,82 @@ public class TransposedMatrix<OT extends IMatrix> extends AbstractMatrix {
     return this.m_owner.getLong(column, row);
   }
 
+  /**
+   * {@inheritDoc} A column of the transposed matrix is a row of the owning
+   * matrix. If the owner is backed by an array, the values are thus
+   * located next to each other and can be copied at once.
+   */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final double[] view;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    view = this.m_owner.getDoubleArrayView();
+    if (view != null) {
+      System.arraycopy(view, ((column * this.m_owner.n()) + fromRow),
+          dest, destStart, (toRow - fromRow));
+    } else {
+      j = destStart;
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = this.m_owner.getDouble(column, i);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc} A column of the transposed matrix is a row of the owning
+   * matrix. If the owner is backed by an array, the values are thus
+   * located next to each other and can be copied at once.
+   */
+  @Override
+  public void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final long[] view;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    view = this.m_owner.getLongArrayView();
+    if (view != null) {
+      System.arraycopy(view, ((column * this.m_owner.n()) + fromRow),
+          dest, destStart, (toRow - fromRow));
+    } else {
+      j = destStart;
+      for (i = fromRow; i < toRow; i++) {
+        dest[j++] = this.m_owner.getLong(column, i);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc} The transpose of a row or column vector has the same
+   * memory layout as the vector itself, so we can provide the owner's
+   * array in this case.
+   */
+  @Override
+  public double[] getDoubleArrayView() {
+    if ((this.m_owner.m() <= 1) || (this.m_owner.n() <= 1)) {
+      return this.m_owner.getDoubleArrayView();
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc} The transpose of a row or column vector has the same
+   * memory layout as the vector itself, so we can provide the owner's
+   * array in this case.
+   */
+  @Override
+  public long[] getLongArrayView() {
+    if ((this.m_owner.m() <= 1) || (this.m_owner.n() <= 1)) {
+      return this.m_owner.getLongArrayView();
+    }
+    return null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isIntegerMatrix() {
@@ -0,0 +1,151 @@
+package org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.nio.DoubleBuffer;
+
+import org.optimizationBenchmarking.utils.IImmutable;
+import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+
+/**
+ * A matrix backed by a {@code double} buffer, which may reside outside of
+ * the Java heap, e.g., in a memory-mapped file obtained via
+ * {@link org.optimizationBenchmarking.utils.io.paths.TempDir#map(long)}.
+ * Such a matrix does not compete with other data for heap space. The
+ * elements are accessed via absolute {@code get} operations, which do not
+ * modify the buffer's position, so the matrix can be read by several
+ * threads concurrently.
+ */
+public final class DoubleBufferMatrix extends AbstractMatrix implements
+    IImmutable {
+
+  /** the m */
+  private final int m_m;
+
+  /** the n */
+  private final int m_n;
+
+  /** the data */
+  private final DoubleBuffer m_data;
+
+  /**
+   * create the matrix
+   *
+   * @param data
+   *          the data, starting at index {@code 0}
+   * @param m
+   *          the m
+   * @param n
+   *          the n
+   */
+  public DoubleBufferMatrix(final DoubleBuffer data, final int m, final int n) {
+    super();
+
+    if ((data == null) || (data.capacity() <= 0)) {
+      throw new IllegalArgumentException(//
+          "Matrix data must not be null and must have at least one row."); //$NON-NLS-1$
+    }
+
+    if (data.capacity() != (m * n)) {
+      throw new IllegalArgumentException(//
+          ((("Matrix data must contain exactly " + (m * n) + //$NON-NLS-1$
+              " elements to facilitate an " + m) + '*') + n + //$NON-NLS-1$
+              " matrix, but contains " + data.capacity()) + '.'); //$NON-NLS-1$
+    }
+
+    this.m_data = data.asReadOnlyBuffer();
+    this.m_data.clear();
+    this.m_m = m;
+    this.m_n = n;
+  }
+
+  /**
+   * Get a read-only view of the buffer holding the data of this matrix in
+   * row-major order. The view can be used to hand the data on without
+   * copying it.
+   *
+   * @return the read-only view of the buffer
+   */
+  public final DoubleBuffer getBuffer() {
+    return this.m_data.duplicate();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int m() {
+    return this.m_m;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int n() {
+    return this.m_n;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double getDouble(final int row, final int column) {
+    if ((row >= 0) && (row < this.m_m) && (column >= 0)
+        && (column < this.m_n)) {
+      return this.m_data.get((row * this.m_n) + column);
+    }
+    return super.getDouble(row, column);// throw IndexOutOfBoundsException
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long getLong(final int row, final int column) {
+    if ((row >= 0) && (row < this.m_m) && (column >= 0)
+        && (column < this.m_n)) {
+      return ((long) (this.m_data.get((row * this.m_n) + column)));
+    }
+    return super.getLong(row, column);// throw IndexOutOfBoundsException
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final int n, end;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    n = this.m_n;
+    end = (destStart + (toRow - fromRow));
+    i = ((fromRow * n) + column);
+    for (j = destStart; j < end; j++) {
+      dest[j] = this.m_data.get(i);
+      i += n;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final int n, end;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    n = this.m_n;
+    end = (destStart + (toRow - fromRow));
+    i = ((fromRow * n) + column);
+    for (j = destStart; j < end; j++) {
+      dest[j] = ((long) (this.m_data.get(i)));
+      i += n;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isIntegerMatrix() {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final IMatrix copy() {
+    return this;
+  }
+}
@@ -81,6 +81,53 @@ public final class DoubleMatrix1D extends AbstractMatrix
     return super.getLong(row, column);// throw IndexOutOfBoundsException
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final int n, end;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    n = this.m_n;
+    if (n == 1) {
+      System.arraycopy(this.m_data, fromRow, dest, destStart,
+          (toRow - fromRow));
+      return;
+    }
+    end = (destStart + (toRow - fromRow));
+    i = ((fromRow * n) + column);
+    for (j = destStart; j < end; j++) {
+      dest[j] = this.m_data[i];
+      i += n;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final int n, end;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    n = this.m_n;
+    end = (destStart + (toRow - fromRow));
+    i = ((fromRow * n) + column);
+    for (j = destStart; j < end; j++) {
+      dest[j] = ((long) (this.m_data[i]));
+      i += n;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double[] getDoubleArrayView() {
+    return this.m_data;
+  }
+
   /** {@inheritDoc} */
   @Override
   public final boolean isIntegerMatrix() {
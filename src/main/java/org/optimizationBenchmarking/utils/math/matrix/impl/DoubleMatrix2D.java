@@ -64,6 +64,34 @@ public final class DoubleMatrix2D extends AbstractMatrix
     return ((long) (this.m_data[row][column]));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = this.m_data[i][column];
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    j = destStart;
+    for (i = fromRow; i < toRow; i++) {
+      dest[j++] = ((long) (this.m_data[i][column]));
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final boolean isIntegerMatrix() {
@@ -1,5 +1,14 @@
 package org.optimizationBenchmarking.utils.math.matrix.impl;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
 import org.optimizationBenchmarking.utils.math.BasicNumber;
 import org.optimizationBenchmarking.utils.math.NumericalTypes;
 import org.optimizationBenchmarking.utils.math.matrix.AbstractMatrix;
@@ -8,11 +17,35 @@ import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
 /**
+ * <p>
  * A matrix builder allows us to build a matrix row by row. It tries to fit
  * the data into a primitive array of minimal type.
+ * </p>
+ * <p>
+ * Large matrices can be spilled out of the Java heap: If the number of
+ * elements of the matrix reaches the
+ * {@linkplain #setSpillThreshold(int) spill threshold},
+ * {@link #make()} stores the data in a memory-mapped file in a
+ * {@linkplain #setSpillDirectory(TempDir) temporary directory} and returns
+ * a {@link DoubleBufferMatrix} or {@link LongBufferMatrix}. The default
+ * threshold is taken from the system property
+ * {@link #SPILL_THRESHOLD_PROPERTY}, spilling is disabled if it is not
+ * set.
+ * </p>
  */
 public final class MatrixBuilder implements IAggregate {
 
+  /**
+   * the system property for the default number of elements from which on
+   * the data of a matrix is stored in a memory-mapped file: {@value}
+   */
+  public static final String SPILL_THRESHOLD_PROPERTY = "org.optimizationBenchmarking.utils.math.matrix.impl.spillThreshold"; //$NON-NLS-1$
+
+  /**
+   * the largest number of elements which fits into one memory-mapped file
+   */
+  private static final int MAX_SPILL_SIZE = (Integer.MAX_VALUE >>> 3);
+
   /** the m */
   private int m_m;
 
@@ -28,6 +61,12 @@ public final class MatrixBuilder implements IAggregate {
   /** the internal array */
   private _Array m_array;
 
+  /** the spill threshold, or {@code 0} if spilling is disabled */
+  private int m_spillThreshold;
+
+  /** the directory for spilled matrices */
+  private TempDir m_spillDirectory;
+
   /**
    * create the matrix builder
    *
@@ -44,6 +83,7 @@ public final class MatrixBuilder implements IAggregate {
 
     this.m_m = this.m_n = (-1);
     this.m_maxSize = Integer.MAX_VALUE;
+    this.m_spillThreshold = __SpillThresholdLoader.THRESHOLD;
 
     size = ((expectedSize <= 0) ? 32 : expectedSize);
 
@@ -175,6 +215,36 @@ public final class MatrixBuilder implements IAggregate {
     this.m_n = n;
   }
 
+  /**
+   * Set the number of elements from which on the matrix created by
+   * {@link #make()} keeps its data in a memory-mapped file instead of the
+   * Java heap.
+   *
+   * @param threshold
+   *          the threshold, or {@code 0} to disable spilling
+   */
+  public final void setSpillThreshold(final int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException(//
+          "Spill threshold cannot be negative, but is " + threshold); //$NON-NLS-1$
+    }
+    this.m_spillThreshold = threshold;
+  }
+
+  /**
+   * Set the temporary directory in which the files of spilled matrices are
+   * created. If no directory is set, the
+   * {@linkplain org.optimizationBenchmarking.utils.io.paths.TempDir#getShared()
+   * shared temporary directory} is used. Matrices spilled into a directory
+   * must not be used anymore after the directory has been closed.
+   *
+   * @param directory
+   *          the directory, or {@code null} to use the shared directory
+   */
+  public final void setSpillDirectory(final TempDir directory) {
+    this.m_spillDirectory = directory;
+  }
+
   /**
    * Increase the size by {@code 1}
    *
@@ -313,9 +383,58 @@ public final class MatrixBuilder implements IAggregate {
       }
     }
 
+    s = (m * n);
+    if ((this.m_spillThreshold > 0) && (s >= this.m_spillThreshold)
+        && (s <= MatrixBuilder.MAX_SPILL_SIZE)) {
+      try {
+        return this.m_array._spill(m, n,
+            ((this.m_spillDirectory != null) ? this.m_spillDirectory
+                : TempDir.getShared()));
+      } catch (final IOException ioError) {
+        ErrorUtils.logError(Configuration.getGlobalLogger(),//
+            "Could not spill matrix with " + s + //$NON-NLS-1$
+                " elements to a memory-mapped file, keeping it on the heap.", //$NON-NLS-1$
+            ioError, false, RethrowMode.DONT_RETHROW);
+      }
+    }
+
     return this.m_array._make(m, n);
   }
 
+  /**
+   * Create a memory-mapped {@code double} buffer
+   *
+   * @param directory
+   *          the directory
+   * @param size
+   *          the number of elements
+   * @return the buffer
+   * @throws IOException
+   *           if io fails
+   */
+  static final DoubleBuffer _doubleBuffer(final TempDir directory,
+      final int size) throws IOException {
+    return directory.map(((long) size) << 3)
+        .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+  }
+
+  /**
+   * Create a memory-mapped {@code long} buffer
+   *
+   * @param directory
+   *          the directory
+   * @param size
+   *          the number of elements
+   * @return the buffer
+   * @throws IOException
+   *           if io fails
+   */
+  static final LongBuffer _longBuffer(final TempDir directory,
+      final int size) throws IOException {
+    return directory.map(((long) size) << 3)
+        .order(ByteOrder.nativeOrder()).asLongBuffer();
+  }
+
   /**
    * Append a series of {@code double}s
    *
@@ -494,6 +613,22 @@ public final class MatrixBuilder implements IAggregate {
      *          the maximum size
      */
     abstract void _setMaxSize(final int curSize, final int maxSize);
+
+    /**
+     * make the matrix and store its data in a memory-mapped file
+     *
+     * @param m
+     *          the m
+     * @param n
+     *          the n
+     * @param directory
+     *          the temporary directory for the file
+     * @return the matrix
+     * @throws IOException
+     *           if io fails
+     */
+    abstract AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException;
   }
 
   /** the internal growable double array */
@@ -582,6 +717,19 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new DoubleMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final DoubleBuffer buffer;
+
+      size = (m * n);
+      buffer = MatrixBuilder._doubleBuffer(directory, size);
+      buffer.put(this.m_data, 0, size);
+      return new DoubleBufferMatrix(buffer, m, n);
+    }
   }
 
   /** the internal growable long array */
@@ -733,6 +881,19 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new LongMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final LongBuffer buffer;
+
+      size = (m * n);
+      buffer = MatrixBuilder._longBuffer(directory, size);
+      buffer.put(this.m_data, 0, size);
+      return new LongBufferMatrix(buffer, m, n);
+    }
   }
 
   /** the internal growable long array */
@@ -851,6 +1012,24 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new FloatMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final DoubleBuffer buffer;
+      final float[] data;
+      int i;
+
+      size = (m * n);
+      buffer = MatrixBuilder._doubleBuffer(directory, size);
+      data = this.m_data;
+      for (i = 0; i < size; i++) {
+        buffer.put(i, data[i]);
+      }
+      return new DoubleBufferMatrix(buffer, m, n);
+    }
   }
 
   /** the internal growable int array */
@@ -1026,6 +1205,24 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new IntMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final LongBuffer buffer;
+      final int[] data;
+      int i;
+
+      size = (m * n);
+      buffer = MatrixBuilder._longBuffer(directory, size);
+      data = this.m_data;
+      for (i = 0; i < size; i++) {
+        buffer.put(i, data[i]);
+      }
+      return new LongBufferMatrix(buffer, m, n);
+    }
   }
 
   /** the internal growable short array */
@@ -1211,6 +1408,24 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new ShortMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final LongBuffer buffer;
+      final short[] data;
+      int i;
+
+      size = (m * n);
+      buffer = MatrixBuilder._longBuffer(directory, size);
+      data = this.m_data;
+      for (i = 0; i < size; i++) {
+        buffer.put(i, data[i]);
+      }
+      return new LongBufferMatrix(buffer, m, n);
+    }
   }
 
   /** the internal growable byte array */
@@ -1425,5 +1640,43 @@ public final class MatrixBuilder implements IAggregate {
       }
       return new ByteMatrix1D(data, m, n);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    final AbstractMatrix _spill(final int m, final int n,
+        final TempDir directory) throws IOException {
+      final int size;
+      final LongBuffer buffer;
+      final byte[] data;
+      int i;
+
+      size = (m * n);
+      buffer = MatrixBuilder._longBuffer(directory, size);
+      data = this.m_data;
+      for (i = 0; i < size; i++) {
+        buffer.put(i, data[i]);
+      }
+      return new LongBufferMatrix(buffer, m, n);
+    }
+  }
+
+  /** the loader for the default spill threshold */
+  private static final class __SpillThresholdLoader {
+
+    /** the default spill threshold */
+    static final int THRESHOLD;
+
+    static {
+      int threshold;
+
+      threshold = 0;
+      try {
+        threshold = Integer.getInteger(
+            MatrixBuilder.SPILL_THRESHOLD_PROPERTY, 0).intValue();
+      } catch (final Throwable error) {
+        // ignore, use default
+      }
+      THRESHOLD = Math.max(0, threshold);
+    }
   }
 }
@@ -119,6 +119,73 @@ public class ColumnTransformedMatrix extends AbstractMatrix {
     return super.getLong(row, column);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final double[] dest, final int destStart) {
+    final UnaryFunction function;
+    final long[] values;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    function = this.m_functions[column];
+
+    switch (this.m_intCol[column]) {
+      case 0: {
+        this.m_source.copyColumn(column, fromRow, toRow, dest, destStart);
+        for (i = (destStart + (toRow - fromRow)); (--i) >= destStart;) {
+          dest[i] = function.computeAsDouble(dest[i]);
+        }
+        return;
+      }
+      case 1: {
+        values = new long[toRow - fromRow];
+        this.m_source.copyColumn(column, fromRow, toRow, values, 0);
+        j = destStart;
+        for (i = 0; i < values.length; i++) {
+          dest[j++] = function.computeAsDouble(values[i]);
+        }
+        return;
+      }
+      default: {
+        values = new long[toRow - fromRow];
+        this.m_source.copyColumn(column, fromRow, toRow, values, 0);
+        j = destStart;
+        for (i = 0; i < values.length; i++) {
+          dest[j++] = function.computeAsLong(values[i]);
+        }
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void copyColumn(final int column, final int fromRow,
+      final int toRow, final long[] dest, final int destStart) {
+    final UnaryFunction function;
+    final double[] values;
+    int i, j;
+
+    AbstractMatrix.checkColumnRange(this, column, fromRow, toRow,
+        dest.length, destStart);
+    function = this.m_functions[column];
+
+    if (this.m_intCol[column] == 0) {
+      values = new double[toRow - fromRow];
+      this.m_source.copyColumn(column, fromRow, toRow, values, 0);
+      j = destStart;
+      for (i = 0; i < values.length; i++) {
+        dest[j++] = ((long) (function.computeAsDouble(values[i])));
+      }
+    } else {
+      this.m_source.copyColumn(column, fromRow, toRow, dest, destStart);
+      for (i = (destStart + (toRow - fromRow)); (--i) >= destStart;) {
+        dest[i] = function.computeAsLong(dest[i]);
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final boolean isIntegerMatrix() {
@@ -233,15 +233,6 @@ import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 public abstract class MatrixIterator2D extends AbstractMatrix implements
     Iterator<Number> {
 
-  /** the matrices to iterate over */
-  final IMatrix[] m_matrices;
-
-  /** the x-dimension */
-  final int m_xDim;
-
-  /** the y-dimension */
-  final int m_yDim;
-
   /** the current m-indexes */
   final int[] m_indexes;
 
@@ -266,27 +257,19 @@ public abstract class MatrixIterator2D extends AbstractMatrix implements
   /**
    * Create a new 2d matrix iterator
    *
-   * @param matrices
-   *          the list of matrices
-   * @param xDim
-   *          the first (x) dimension
-   * @param yDim
-   *          the second (y) dimension
+   * @param count
+   *          the number of matrices
    * @param allowEarlyEnd
    *          do we allow an early end for some matrices, or should all
    *          iterations end at the same position?
    */
-  MatrixIterator2D(final int xDim, final int yDim,
-      final IMatrix[] matrices, final boolean allowEarlyEnd) {
+  MatrixIterator2D(final int count, final boolean allowEarlyEnd) {
     super();
 
-    this.m_xDim = xDim;
-    this.m_yDim = yDim;
-    this.m_matrices = matrices;
     this.m_allowEarlyEnd = allowEarlyEnd;
 
-    this.m_indexes = new int[matrices.length];
-    this.m_sources = new int[matrices.length];
+    this.m_indexes = new int[count];
+    this.m_sources = new int[count];
   }
 
   /**
@@ -303,6 +286,60 @@ public abstract class MatrixIterator2D extends AbstractMatrix implements
     return d;
   }
 
+  /**
+   * Extract one column from each of a set of matrices. The iterators do
+   * not access the matrices element-wise, but walk over the extracted
+   * columns, which are plain arrays.
+   *
+   * @param matrices
+   *          the matrices
+   * @param column
+   *          the column to extract
+   * @return the extracted columns, one array per matrix
+   */
+  static final long[][] _longColumns(final IMatrix[] matrices,
+      final int column) {
+    final long[][] columns;
+    int index, m;
+
+    columns = new long[matrices.length][];
+    for (index = matrices.length; (--index) >= 0;) {
+      m = matrices[index].m();
+      columns[index] = new long[m];
+      if (m > 0) {
+        matrices[index].copyColumn(column, 0, m, columns[index], 0);
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Extract one column from each of a set of matrices. The iterators do
+   * not access the matrices element-wise, but walk over the extracted
+   * columns, which are plain arrays.
+   *
+   * @param matrices
+   *          the matrices
+   * @param column
+   *          the column to extract
+   * @return the extracted columns, one array per matrix
+   */
+  static final double[][] _doubleColumns(final IMatrix[] matrices,
+      final int column) {
+    final double[][] columns;
+    int index, m;
+
+    columns = new double[matrices.length][];
+    for (index = matrices.length; (--index) >= 0;) {
+      m = matrices[index].m();
+      columns[index] = new double[m];
+      if (m > 0) {
+        matrices[index].copyColumn(column, 0, m, columns[index], 0);
+      }
+    }
+    return columns;
+  }
+
   /**
    * Create the iterator to iterate over a set of matrices.
    *
@@ -359,17 +396,191 @@ public abstract class MatrixIterator2D extends AbstractMatrix implements
 
     if (canLongX) {
       if (canLongY) {
-        return new _MatrixIterator2DXLongYLong(xDim, yDim, matrices,
+        return new _MatrixIterator2DXLongYLong(//
+            MatrixIterator2D._longColumns(matrices, xDim), //
+            MatrixIterator2D._longColumns(matrices, yDim), //
             allowEarlyEnd);
       }
-      return new _MatrixIterator2DXLongYDouble(xDim, yDim, matrices,
+      return new _MatrixIterator2DXLongYDouble(//
+          MatrixIterator2D._longColumns(matrices, xDim), //
+          MatrixIterator2D._doubleColumns(matrices, yDim), //
           allowEarlyEnd);
     }
     if (canLongY) {
-      return new _MatrixIterator2DXDoubleYLong(xDim, yDim, matrices,
+      return new _MatrixIterator2DXDoubleYLong(//
+          MatrixIterator2D._doubleColumns(matrices, xDim), //
+          MatrixIterator2D._longColumns(matrices, yDim), //
           allowEarlyEnd);
     }
-    return new _MatrixIterator2DXDoubleYDouble(xDim, yDim, matrices,
+    return new _MatrixIterator2DXDoubleYDouble(//
+        MatrixIterator2D._doubleColumns(matrices, xDim), //
+        MatrixIterator2D._doubleColumns(matrices, yDim), //
+        allowEarlyEnd);
+  }
+
+  /**
+   * Check the columns to iterate over.
+   *
+   * @param xLengths
+   *          the lengths of the {@code x}-columns
+   * @param yLengths
+   *          the lengths of the {@code y}-columns
+   */
+  private static final void __checkColumns(final int[] xLengths,
+      final int[] yLengths) {
+    int i;
+
+    if (xLengths.length <= 0) {
+      throw new IllegalArgumentException(//
+          "There must be at least one matrix to iterate over.");//$NON-NLS-1$
+    }
+    if (xLengths.length != yLengths.length) {
+      throw new IllegalArgumentException(((//
+          "There must be as many x-columns as y-columns, but there are " //$NON-NLS-1$
+          + xLengths.length) + " x-columns and " + yLengths.length) + //$NON-NLS-1$
+          " y-columns.");//$NON-NLS-1$
+    }
+    for (i = xLengths.length; (--i) >= 0;) {
+      if (xLengths[i] != yLengths[i]) {
+        throw new IllegalArgumentException(((((//
+            "The x- and y-column of matrix " + i) + //$NON-NLS-1$
+            " must have the same length, but have lengths ") + //$NON-NLS-1$
+            xLengths[i]) + " and ") + yLengths[i]);//$NON-NLS-1$
+      }
+    }
+  }
+
+  /**
+   * Get the lengths of a set of columns
+   *
+   * @param columns
+   *          the columns
+   * @param name
+   *          the name of the columns
+   * @return the lengths
+   */
+  private static final int[] __lengths(final Object[] columns,
+      final char name) {
+    final int[] lengths;
+    Object column;
+    int i;
+
+    if (columns == null) {
+      throw new IllegalArgumentException(//
+          name + "-column array cannot be null."); //$NON-NLS-1$
+    }
+    lengths = new int[columns.length];
+    for (i = columns.length; (--i) >= 0;) {
+      column = columns[i];
+      if (column instanceof long[]) {
+        lengths[i] = ((long[]) column).length;
+      } else {
+        if (column == null) {
+          throw new IllegalArgumentException(((//
+              name + "-column ") + i) + //$NON-NLS-1$
+              " cannot be null.");//$NON-NLS-1$
+        }
+        lengths[i] = ((double[]) column).length;
+      }
+    }
+    return lengths;
+  }
+
+  /**
+   * Create an iterator which iterates directly over the {@code x} and
+   * {@code y} columns of a set of matrices, which have already been
+   * extracted into plain arrays. This allows a caller to compute the
+   * columns on the fly, e.g., by applying a transformation to the columns
+   * of some data, without creating any intermediate matrix. The arrays
+   * are used directly and must not be modified during the iteration.
+   *
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
+   * @param allowEarlyEnd
+   *          do we allow an early end for some matrices, or should all
+   *          iterations end at the same position?
+   * @return the iterator
+   */
+  public static final MatrixIterator2D iterate(final long[][] xColumns,
+      final long[][] yColumns, final boolean allowEarlyEnd) {
+    MatrixIterator2D.__checkColumns(
+        MatrixIterator2D.__lengths(xColumns, 'x'),
+        MatrixIterator2D.__lengths(yColumns, 'y'));
+    return new _MatrixIterator2DXLongYLong(xColumns, yColumns,
+        allowEarlyEnd);
+  }
+
+  /**
+   * Create an iterator which iterates directly over the {@code x} and
+   * {@code y} columns of a set of matrices, which have already been
+   * extracted into plain arrays.
+   *
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
+   * @param allowEarlyEnd
+   *          do we allow an early end for some matrices, or should all
+   *          iterations end at the same position?
+   * @return the iterator
+   * @see #iterate(long[][], long[][], boolean)
+   */
+  public static final MatrixIterator2D iterate(final long[][] xColumns,
+      final double[][] yColumns, final boolean allowEarlyEnd) {
+    MatrixIterator2D.__checkColumns(
+        MatrixIterator2D.__lengths(xColumns, 'x'),
+        MatrixIterator2D.__lengths(yColumns, 'y'));
+    return new _MatrixIterator2DXLongYDouble(xColumns, yColumns,
+        allowEarlyEnd);
+  }
+
+  /**
+   * Create an iterator which iterates directly over the {@code x} and
+   * {@code y} columns of a set of matrices, which have already been
+   * extracted into plain arrays.
+   *
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
+   * @param allowEarlyEnd
+   *          do we allow an early end for some matrices, or should all
+   *          iterations end at the same position?
+   * @return the iterator
+   * @see #iterate(long[][], long[][], boolean)
+   */
+  public static final MatrixIterator2D iterate(final double[][] xColumns,
+      final long[][] yColumns, final boolean allowEarlyEnd) {
+    MatrixIterator2D.__checkColumns(
+        MatrixIterator2D.__lengths(xColumns, 'x'),
+        MatrixIterator2D.__lengths(yColumns, 'y'));
+    return new _MatrixIterator2DXDoubleYLong(xColumns, yColumns,
+        allowEarlyEnd);
+  }
+
+  /**
+   * Create an iterator which iterates directly over the {@code x} and
+   * {@code y} columns of a set of matrices, which have already been
+   * extracted into plain arrays.
+   *
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
+   * @param allowEarlyEnd
+   *          do we allow an early end for some matrices, or should all
+   *          iterations end at the same position?
+   * @return the iterator
+   * @see #iterate(long[][], long[][], boolean)
+   */
+  public static final MatrixIterator2D iterate(final double[][] xColumns,
+      final double[][] yColumns, final boolean allowEarlyEnd) {
+    MatrixIterator2D.__checkColumns(
+        MatrixIterator2D.__lengths(xColumns, 'x'),
+        MatrixIterator2D.__lengths(yColumns, 'y'));
+    return new _MatrixIterator2DXDoubleYDouble(xColumns, yColumns,
         allowEarlyEnd);
   }
 
@@ -406,7 +617,7 @@ public abstract class MatrixIterator2D extends AbstractMatrix implements
    * @return the maximum value of {@link #n()}
    */
   public final int nMax() {
-    return this.m_matrices.length;
+    return this.m_indexes.length;
   }
 
   /**
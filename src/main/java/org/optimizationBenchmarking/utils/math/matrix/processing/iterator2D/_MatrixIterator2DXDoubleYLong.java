@@ -1,7 +1,7 @@
 package org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D;
 
 import org.optimizationBenchmarking.utils.comparison.EComparison;
-import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /**
@@ -12,33 +12,39 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
   /** the {@code y}-values */
   private final long[] m_y;
 
+  /** the {@code x}-values of the matrices */
+  private final double[][] m_xValues;
+
+  /** the {@code y}-values of the matrices */
+  private final long[][] m_yValues;
+
   /**
    * Create a new 2d matrix iterator
    *
-   * @param matrices
-   *          the list of matrices
-   * @param xDim
-   *          the first (x) dimension
-   * @param yDim
-   *          the second (y) dimension
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
    * @param allowEarlyEnd
    *          do we allow an early end for some matrices, or should all
    *          iterations end at the same position?
    */
-  _MatrixIterator2DXDoubleYLong(final int xDim, final int yDim,
-      final IMatrix[] matrices, final boolean allowEarlyEnd) {
-    super(xDim, yDim, matrices, allowEarlyEnd);
+  _MatrixIterator2DXDoubleYLong(final double[][] xColumns,
+      final long[][] yColumns, final boolean allowEarlyEnd) {
+    super(xColumns.length, allowEarlyEnd);
 
     double minVal, curVal;
 
     this.m_x = new _Double();
-    this.m_y = new long[matrices.length];
+    this.m_y = new long[xColumns.length];
+    this.m_xValues = xColumns;
+    this.m_yValues = yColumns;
 
     // find the first, smallest x value
     minVal = Double.POSITIVE_INFINITY;
-    for (final IMatrix matrix : matrices) {
-      if (matrix.m() > 0) {
-        curVal = MatrixIterator2D._d(matrix.getDouble(0, this.m_xDim));
+    for (final double[] xValues : this.m_xValues) {
+      if (xValues.length > 0) {
+        curVal = MatrixIterator2D._d(xValues[0]);
         if (EComparison.compareDoubles(curVal, minVal) < 0) {
           minVal = curVal;
         }
@@ -55,14 +61,14 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
    *          the x-coordinate
    */
   private final void __setX(final double x) {
-    IMatrix matrix;
+    double[] xValues;
     int have, index, position, max;
 
     have = 0;
     outer: for (index = 0; index < this.m_indexes.length; index++) {
       position = this.m_indexes[index];
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      max = xValues.length;
 
       if (position >= max) {
         continue;
@@ -71,7 +77,7 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
       looper: for (; position < max; position++) {
         if (EComparison.compareDoubles(
             //
-            MatrixIterator2D._d(matrix.getDouble(position, this.m_xDim)),
+            MatrixIterator2D._d(xValues[position]),
             x) > 0) {
           break looper;
         }
@@ -80,7 +86,7 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
         continue outer;
       }
 
-      this.m_y[have] = matrix.getLong(position, this.m_yDim);
+      this.m_y[have] = this.m_yValues[index][position];
       if (this.m_allowEarlyEnd && (position >= (max - 1))) {
         position = max;
       }
@@ -103,16 +109,14 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
   @Override
   final void _findNext() {
     final double oldX;
-    final int xDim, yDim;
-    IMatrix matrix;
+    double[] xValues;
+    long[] yValues;
     double smallestLarger, xAtPosition;
     long yAtPosition, yAtOldPosition;
     int index, position, max, oldPosition;
     boolean noSmallestLarger;
 
     oldX = MatrixIterator2D._d(this.m_x.doubleValue());
-    xDim = this.m_xDim;
-    yDim = this.m_yDim;
     smallestLarger = Double.POSITIVE_INFINITY;
     noSmallestLarger = true;
 
@@ -121,8 +125,9 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
     // look for such an x-coordinate which also has a different
     // y-coordinate.
     for (index = this.m_indexes.length; (--index) >= 0;) {
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      yValues = this.m_yValues[index];
+      max = xValues.length;
 
       oldPosition = this.m_indexes[index];
       if (oldPosition >= max) {
@@ -130,9 +135,8 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
       }
 
       // Obtain the x and y value of the previous position.
-      xAtPosition = MatrixIterator2D._d(matrix
-          .getDouble(oldPosition, xDim));
-      yAtPosition = yAtOldPosition = matrix.getLong(oldPosition, yDim);
+      xAtPosition = MatrixIterator2D._d(xValues[oldPosition]);
+      yAtPosition = yAtOldPosition = yValues[oldPosition];
       position = oldPosition;
 
       // Try to increase the position in order to find the next coordinate.
@@ -158,9 +162,8 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
         if ((++position) >= max) {
           break inner;
         }
-        xAtPosition = MatrixIterator2D
-            ._d(matrix.getDouble(position, xDim));
-        yAtPosition = matrix.getLong(position, yDim);
+        xAtPosition = MatrixIterator2D._d(xValues[position]);
+        yAtPosition = yValues[position];
       }
     }
 
@@ -169,11 +172,10 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
       // Thus, let's see if we can pick the largest possible coordinate.
       // This coordinate will denote the end of the iteration.
       smallestLarger = oldX;
-      for (final IMatrix matrixx : this.m_matrices) {
-        position = matrixx.m();
+      for (final double[] values : this.m_xValues) {
+        position = values.length;
         if (position > 0) {
-          xAtPosition = MatrixIterator2D._d(matrixx.getDouble(
-              (position - 1), xDim));
+          xAtPosition = MatrixIterator2D._d(values[position - 1]);
           if (EComparison.compareDoubles(xAtPosition, smallestLarger) > 0) {
             smallestLarger = xAtPosition;
             noSmallestLarger = false;
@@ -220,6 +222,20 @@ final class _MatrixIterator2DXDoubleYLong extends MatrixIterator2D {
     return true;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateRow(final int row, final IAggregate aggregate) {
+    int i;
+
+    if (row != 0) {
+      super.aggregateRow(row, aggregate);// throw exception
+      return;
+    }
+    for (i = this.m_currentN; (--i) >= 0;) {
+      aggregate.append(this.m_y[i]);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final void toText(final ITextOutput textOut) {
@@ -2,7 +2,7 @@ package org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D;
 
 import org.optimizationBenchmarking.utils.comparison.EComparison;
 import org.optimizationBenchmarking.utils.math.NumericalTypes;
-import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /**
@@ -13,36 +13,42 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
   /** the {@code y}-values */
   private final double[] m_y;
 
+  /** the {@code x}-values of the matrices */
+  private final long[][] m_xValues;
+
+  /** the {@code y}-values of the matrices */
+  private final double[][] m_yValues;
+
   /** the type of the coordinates */
   private int m_type;
 
   /**
    * Create a new 2d matrix iterator
    *
-   * @param matrices
-   *          the list of matrices
-   * @param xDim
-   *          the first (x) dimension
-   * @param yDim
-   *          the second (y) dimension
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
    * @param allowEarlyEnd
    *          do we allow an early end for some matrices, or should all
    *          iterations end at the same position?
    */
-  _MatrixIterator2DXLongYDouble(final int xDim, final int yDim,
-      final IMatrix[] matrices, final boolean allowEarlyEnd) {
-    super(xDim, yDim, matrices, allowEarlyEnd);
+  _MatrixIterator2DXLongYDouble(final long[][] xColumns,
+      final double[][] yColumns, final boolean allowEarlyEnd) {
+    super(xColumns.length, allowEarlyEnd);
 
     long minVal, curVal;
 
     this.m_x = new _Long();
-    this.m_y = new double[matrices.length];
+    this.m_y = new double[xColumns.length];
+    this.m_xValues = xColumns;
+    this.m_yValues = yColumns;
 
     // find the first, smallest x value
     minVal = Long.MAX_VALUE;
-    for (final IMatrix matrix : matrices) {
-      if (matrix.m() > 0) {
-        curVal = matrix.getLong(0, this.m_xDim);
+    for (final long[] xValues : this.m_xValues) {
+      if (xValues.length > 0) {
+        curVal = xValues[0];
         if (curVal < minVal) {
           minVal = curVal;
         }
@@ -59,7 +65,7 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
    *          the x-coordinate
    */
   private final void __setX(final long x) {
-    IMatrix matrix;
+    long[] xValues;
     double val;
     int have, index, position, max, type;
 
@@ -67,15 +73,15 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
     type = (-1);
     outer: for (index = 0; index < this.m_indexes.length; index++) {
       position = this.m_indexes[index];
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      max = xValues.length;
 
       if (position >= max) {
         continue;
       }
 
       looper: for (; position < max; position++) {
-        if (matrix.getLong(position, this.m_xDim) > x) {
+        if (xValues[position] > x) {
           break looper;
         }
       }
@@ -83,8 +89,8 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
         continue outer;
       }
 
-      this.m_y[have] = val = MatrixIterator2D._d(matrix.getDouble(
-          position, this.m_yDim));
+      this.m_y[have] = val = MatrixIterator2D._d(//
+          this.m_yValues[index][position]);
       if (this.m_allowEarlyEnd && (position >= (max - 1))) {
         position = max;
       }
@@ -110,16 +116,14 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
   @Override
   final void _findNext() {
     final long oldX;
-    final int xDim, yDim;
-    IMatrix matrix;
+    long[] xValues;
+    double[] yValues;
     long smallestLarger, xAtPosition;
     double yAtPosition, yAtOldPosition;
     int index, position, max, oldPosition;
     boolean noSmallestLarger;
 
     oldX = this.m_x.longValue();
-    xDim = this.m_xDim;
-    yDim = this.m_yDim;
     smallestLarger = Long.MAX_VALUE;
     noSmallestLarger = true;
 
@@ -128,8 +132,9 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
     // look for such an x-coordinate which also has a different
     // y-coordinate.
     for (index = this.m_indexes.length; (--index) >= 0;) {
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      yValues = this.m_yValues[index];
+      max = xValues.length;
 
       oldPosition = this.m_indexes[index];
       if (oldPosition >= max) {
@@ -137,9 +142,9 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
       }
 
       // Obtain the x and y value of the previous position.
-      xAtPosition = matrix.getLong(oldPosition, xDim);
-      yAtPosition = yAtOldPosition = MatrixIterator2D._d(matrix.getDouble(
-          oldPosition, yDim));
+      xAtPosition = xValues[oldPosition];
+      yAtPosition = yAtOldPosition = MatrixIterator2D._d(//
+          yValues[oldPosition]);
       position = oldPosition;
 
       // Try to increase the position in order to find the next coordinate.
@@ -165,9 +170,8 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
         if ((++position) >= max) {
           break inner;
         }
-        xAtPosition = matrix.getLong(position, xDim);
-        yAtPosition = MatrixIterator2D
-            ._d(matrix.getDouble(position, yDim));
+        xAtPosition = xValues[position];
+        yAtPosition = MatrixIterator2D._d(yValues[position]);
       }
     }
 
@@ -176,10 +180,10 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
       // Thus, let's see if we can pick the largest possible coordinate.
       // This coordinate will denote the end of the iteration.
       smallestLarger = oldX;
-      for (final IMatrix matrixx : this.m_matrices) {
-        position = matrixx.m();
+      for (final long[] values : this.m_xValues) {
+        position = values.length;
         if (position > 0) {
-          xAtPosition = matrixx.getLong((position - 1), xDim);
+          xAtPosition = values[position - 1];
           if (xAtPosition > smallestLarger) {
             smallestLarger = xAtPosition;
             noSmallestLarger = false;
@@ -226,6 +230,26 @@ final class _MatrixIterator2DXLongYDouble extends MatrixIterator2D {
     return ((this.m_type & NumericalTypes.IS_LONG) != 0);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateRow(final int row, final IAggregate aggregate) {
+    int i;
+
+    if (row != 0) {
+      super.aggregateRow(row, aggregate);// throw exception
+      return;
+    }
+    if (this.isIntegerMatrix()) {
+      for (i = this.m_currentN; (--i) >= 0;) {
+        aggregate.append((long) (this.m_y[i]));
+      }
+    } else {
+      for (i = this.m_currentN; (--i) >= 0;) {
+        aggregate.append(this.m_y[i]);
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final void toText(final ITextOutput textOut) {
@@ -1,6 +1,6 @@
 package org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D;
 
-import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /**
@@ -11,33 +11,39 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
   /** the {@code y}-values */
   private final long[] m_y;
 
+  /** the {@code x}-values of the matrices */
+  private final long[][] m_xValues;
+
+  /** the {@code y}-values of the matrices */
+  private final long[][] m_yValues;
+
   /**
    * Create a new 2d matrix iterator
    *
-   * @param matrices
-   *          the list of matrices
-   * @param xDim
-   *          the first (x) dimension
-   * @param yDim
-   *          the second (y) dimension
+   * @param xColumns
+   *          the {@code x}-values of the matrices, one array per matrix
+   * @param yColumns
+   *          the {@code y}-values of the matrices, one array per matrix
    * @param allowEarlyEnd
    *          do we allow an early end for some matrices, or should all
    *          iterations end at the same position?
    */
-  _MatrixIterator2DXLongYLong(final int xDim, final int yDim,
-      final IMatrix[] matrices, final boolean allowEarlyEnd) {
-    super(xDim, yDim, matrices, allowEarlyEnd);
+  _MatrixIterator2DXLongYLong(final long[][] xColumns,
+      final long[][] yColumns, final boolean allowEarlyEnd) {
+    super(xColumns.length, allowEarlyEnd);
 
     long minVal, curVal;
 
     this.m_x = new _Long();
-    this.m_y = new long[matrices.length];
+    this.m_y = new long[xColumns.length];
+    this.m_xValues = xColumns;
+    this.m_yValues = yColumns;
 
     // find the first, smallest x value
     minVal = Long.MAX_VALUE;
-    for (final IMatrix matrix : matrices) {
-      if (matrix.m() > 0) {
-        curVal = matrix.getLong(0, this.m_xDim);
+    for (final long[] xValues : this.m_xValues) {
+      if (xValues.length > 0) {
+        curVal = xValues[0];
         if (curVal < minVal) {
           minVal = curVal;
         }
@@ -54,21 +60,21 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
    *          the x-coordinate
    */
   private final void __setX(final long x) {
-    IMatrix matrix;
+    long[] xValues;
     int have, index, position, max;
 
     have = 0;
     outer: for (index = 0; index < this.m_indexes.length; index++) {
       position = this.m_indexes[index];
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      max = xValues.length;
 
       if (position >= max) {
         continue;
       }
 
       looper: for (; position < max; position++) {
-        if (matrix.getLong(position, this.m_xDim) > x) {
+        if (xValues[position] > x) {
           break looper;
         }
       }
@@ -76,7 +82,7 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
         continue outer;
       }
 
-      this.m_y[have] = matrix.getLong(position, this.m_yDim);
+      this.m_y[have] = this.m_yValues[index][position];
       if (this.m_allowEarlyEnd && (position >= (max - 1))) {
         position = max;
       }
@@ -99,15 +105,12 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
   @Override
   final void _findNext() {
     final long oldX;
-    final int xDim, yDim;
-    IMatrix matrix;
+    long[] xValues, yValues;
     long smallestLarger, xAtPosition, yAtPosition, yAtOldPosition;
     int index, position, max, oldPosition;
     boolean noSmallestLarger;
 
     oldX = this.m_x.longValue();
-    xDim = this.m_xDim;
-    yDim = this.m_yDim;
     smallestLarger = Long.MAX_VALUE;
     noSmallestLarger = true;
 
@@ -116,8 +119,9 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
     // look for such an x-coordinate which also has a different
     // y-coordinate.
     for (index = this.m_indexes.length; (--index) >= 0;) {
-      matrix = this.m_matrices[index];
-      max = matrix.m();
+      xValues = this.m_xValues[index];
+      yValues = this.m_yValues[index];
+      max = xValues.length;
 
       oldPosition = this.m_indexes[index];
       if (oldPosition >= max) {
@@ -125,8 +129,8 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
       }
 
       // Obtain the x and y value of the previous position.
-      xAtPosition = matrix.getLong(oldPosition, xDim);
-      yAtPosition = yAtOldPosition = matrix.getLong(oldPosition, yDim);
+      xAtPosition = xValues[oldPosition];
+      yAtPosition = yAtOldPosition = yValues[oldPosition];
       position = oldPosition;
 
       // Try to increase the position in order to find the next coordinate.
@@ -151,8 +155,8 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
         if ((++position) >= max) {
           break inner;
         }
-        xAtPosition = matrix.getLong(position, xDim);
-        yAtPosition = matrix.getLong(position, yDim);
+        xAtPosition = xValues[position];
+        yAtPosition = yValues[position];
       }
     }
 
@@ -161,10 +165,10 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
       // Thus, let's see if we can pick the largest possible coordinate.
       // This coordinate will denote the end of the iteration.
       smallestLarger = oldX;
-      for (final IMatrix matrixx : this.m_matrices) {
-        position = matrixx.m();
+      for (final long[] values : this.m_xValues) {
+        position = values.length;
         if (position > 0) {
-          xAtPosition = matrixx.getLong((position - 1), xDim);
+          xAtPosition = values[position - 1];
           if (xAtPosition > smallestLarger) {
             smallestLarger = xAtPosition;
             noSmallestLarger = false;
@@ -210,6 +214,20 @@ final class _MatrixIterator2DXLongYLong extends MatrixIterator2D {
     return true;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateRow(final int row, final IAggregate aggregate) {
+    int i;
+
+    if (row != 0) {
+      super.aggregateRow(row, aggregate);// throw exception
+      return;
+    }
+    for (i = this.m_currentN; (--i) >= 0;) {
+      aggregate.append(this.m_y[i]);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final void toText(final ITextOutput textOut) {
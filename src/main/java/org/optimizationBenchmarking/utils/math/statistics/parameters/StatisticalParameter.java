@@ -181,7 +181,7 @@ public abstract class StatisticalParameter implements
   public final IMatrix aggregate2D(final IMatrix[] matrices,
       final int timeDim, final int aggregateDim,
       final UnaryFunction transform) {
-    return this.__aggregate2D(
+    return this.aggregate2D(
         MatrixIterator2D.iterate(timeDim, aggregateDim, matrices, false),
         transform);
   }
@@ -211,7 +211,7 @@ public abstract class StatisticalParameter implements
   public final IMatrix aggregate2D(final Collection<IMatrix> matrices,
       final int timeDim, final int aggregateDim,
       final UnaryFunction transform) {
-    return this.__aggregate2D(
+    return this.aggregate2D(
         MatrixIterator2D.iterate(timeDim, aggregateDim, matrices, false),
         transform);
   }
@@ -219,7 +219,11 @@ public abstract class StatisticalParameter implements
   /**
    * Aggregate the data via a matrix iterator: Do the work of
    * {@link #aggregate2D(Collection, int, int, UnaryFunction)} and
-   * {@link #aggregate2D(IMatrix[], int, int, UnaryFunction)}
+   * {@link #aggregate2D(IMatrix[], int, int, UnaryFunction)}. This method
+   * can be used directly if the iterator has been created over columns
+   * which were computed on the fly, e.g., via
+   * {@link org.optimizationBenchmarking.utils.math.matrix.processing.iterator2D.MatrixIterator2D#iterate(long[][], long[][], boolean)}
+   * , so that no matrix needs to be created for the data to aggregate.
    *
    * @param iterator
    *          the iterator
@@ -230,7 +234,7 @@ public abstract class StatisticalParameter implements
    * @see #aggregate2D(IMatrix[], int, int, UnaryFunction)
    */
   @SuppressWarnings("incomplete-switch")
-  private final IMatrix __aggregate2D(final MatrixIterator2D iterator,
+  public final IMatrix aggregate2D(final MatrixIterator2D iterator,
       final UnaryFunction transform) {
     final ScalarAggregate aggregate;
     final MatrixBuilder builder;
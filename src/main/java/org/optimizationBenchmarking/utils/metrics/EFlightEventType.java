@@ -0,0 +1,140 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+/**
+ * The types of the {@linkplain FlightEvent Java Flight Recorder events}
+ * emitted by this framework. Each event has a duration, a {@code name}
+ * identifying what was processed, an optional {@code detail}, and,
+ * depending on the type, a {@code size}.
+ */
+public enum EFlightEventType {
+
+  /**
+   * a file was parsed by a file input tool: the name is the path, the
+   * detail the tool, and the size the number of bytes of the file
+   */
+  FILE_LOAD("FileLoad", "File Load", //$NON-NLS-1$//$NON-NLS-2$
+      "A file was parsed by a file input tool.", //$NON-NLS-1$
+      "Path", "Tool", "File Size", true), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * an attribute of experiment data was requested: the name is the
+   * attribute class, the detail is {@code hit} if the value was found in
+   * the cache, {@code miss} if a cacheable value had to be computed, or
+   * {@code compute} if the value is never cached
+   */
+  ATTRIBUTE("AttributeCompute", "Attribute Computation", //$NON-NLS-1$//$NON-NLS-2$
+      "An attribute of experiment data was requested and either found in the cache or computed.", //$NON-NLS-1$
+      "Attribute", "Outcome", null, false), //$NON-NLS-1$//$NON-NLS-2$
+
+  /**
+   * a two-dimensional aggregate was computed: the name is the aggregate,
+   * the detail the kind of data it was computed over, and the size the
+   * number of rows of the result
+   */
+  AGGREGATION_2D("Aggregation2D", "2D Aggregation", //$NON-NLS-1$//$NON-NLS-2$
+      "A two-dimensional statistical aggregate was computed.", //$NON-NLS-1$
+      "Aggregate", "Data", "Result Rows", false), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * a function fitting job was executed: the name is the fitted function,
+   * the detail the fitting job, and the size the number of data points
+   */
+  FITTING("Fitting", "Function Fitting", //$NON-NLS-1$//$NON-NLS-2$
+      "A function was fitted to data.", //$NON-NLS-1$
+      "Function", "Job", "Data Points", false), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * a clustering job was executed: the name is the clustering job, the
+   * detail the requested number of classes, and the size the number of
+   * clustered elements
+   */
+  CLUSTERING("Clustering", "Clustering", //$NON-NLS-1$//$NON-NLS-2$
+      "Data was clustered.", //$NON-NLS-1$
+      "Job", "Classes", "Elements", false), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * a graphic was finalized: the name is the path of the graphic, the
+   * detail its format, and the size the number of bytes of the file
+   */
+  GRAPHIC_FINALIZE("GraphicFinalize", "Graphic Finalization", //$NON-NLS-1$//$NON-NLS-2$
+      "A graphic was finalized and written.", //$NON-NLS-1$
+      "Path", "Format", "File Size", true), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * a tool of the LaTeX tool chain was invoked: the name is the tool, the
+   * detail the main LaTeX file, and the size the compilation round, or
+   * {@code 0} during the finalization
+   */
+  LATEX_TOOL("LaTeXTool", "LaTeX Tool Invocation", //$NON-NLS-1$//$NON-NLS-2$
+      "A tool of the LaTeX tool chain was invoked.", //$NON-NLS-1$
+      "Tool", "Document", "Round", false), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /**
+   * a thread waited for a task which was not yet completed in
+   * {@link org.optimizationBenchmarking.utils.parallel.Execute#join(Iterable, Object[], int, boolean)}
+   * : the name is the task, the size the index of the task among the
+   * joined ones
+   */
+  JOIN_WAIT("JoinWait", "Join Wait", //$NON-NLS-1$//$NON-NLS-2$
+      "A thread waited for a parallel task to complete.", //$NON-NLS-1$
+      "Task", null, "Task Index", false); //$NON-NLS-1$//$NON-NLS-2$
+
+  /** the prefix for the event names */
+  private static final String PREFIX = "org.optimizationBenchmarking."; //$NON-NLS-1$
+
+  /** the name of the event */
+  final String m_name;
+  /** the label of the event */
+  final String m_label;
+  /** the description of the event */
+  final String m_description;
+  /** the label of the name field */
+  final String m_nameLabel;
+  /** the label of the detail field, or {@code null} if there is none */
+  final String m_detailLabel;
+  /** the label of the size field, or {@code null} if there is none */
+  final String m_sizeLabel;
+  /** is the size a number of bytes? */
+  final boolean m_sizeIsBytes;
+
+  /**
+   * create
+   *
+   * @param name
+   *          the name of the event, without prefix
+   * @param label
+   *          the label of the event
+   * @param description
+   *          the description of the event
+   * @param nameLabel
+   *          the label of the name field
+   * @param detailLabel
+   *          the label of the detail field, or {@code null} if there is
+   *          none
+   * @param sizeLabel
+   *          the label of the size field, or {@code null} if there is none
+   * @param sizeIsBytes
+   *          is the size a number of bytes?
+   */
+  EFlightEventType(final String name, final String label,
+      final String description, final String nameLabel,
+      final String detailLabel, final String sizeLabel,
+      final boolean sizeIsBytes) {
+    this.m_name = (EFlightEventType.PREFIX + name);
+    this.m_label = label;
+    this.m_description = description;
+    this.m_nameLabel = nameLabel;
+    this.m_detailLabel = detailLabel;
+    this.m_sizeLabel = sizeLabel;
+    this.m_sizeIsBytes = sizeIsBytes;
+  }
+
+  /**
+   * Get the name of the event type in the flight recording
+   *
+   * @return the name of the event type in the flight recording
+   */
+  public final String getName() {
+    return this.m_name;
+  }
+}
@@ -0,0 +1,50 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+/** The categories of the work measured by the {@link Metrics}. */
+public enum EMetricsCategory {
+
+  /**
+   * the jobs of an evaluation module, excluding the jobs of its child
+   * modules, identified by the module class
+   */
+  MODULE("modules"), //$NON-NLS-1$
+
+  /**
+   * the computations of attributes of experiment data, identified by the
+   * attribute class
+   */
+  ATTRIBUTE("attributes"), //$NON-NLS-1$
+
+  /**
+   * the files loaded by file input tools, identified by the tool class,
+   * the size is the number of bytes of the files
+   */
+  FILE("files"), //$NON-NLS-1$
+
+  /**
+   * the finalization of graphics, identified by the graphic format
+   */
+  GRAPHIC("graphics"); //$NON-NLS-1$
+
+  /** the name of the category in the metrics dump */
+  final String m_name;
+
+  /**
+   * create
+   *
+   * @param name
+   *          the name of the category in the metrics dump
+   */
+  EMetricsCategory(final String name) {
+    this.m_name = name;
+  }
+
+  /**
+   * Get the name of this category as used in the metrics dump
+   *
+   * @return the name of this category as used in the metrics dump
+   */
+  public final String getName() {
+    return this.m_name;
+  }
+}
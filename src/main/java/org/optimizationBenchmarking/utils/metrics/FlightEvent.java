@@ -0,0 +1,137 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+/**
+ * <p>
+ * A Java Flight Recorder event. Instrumented code calls
+ * {@link #begin(EFlightEventType)} before and
+ * {@link #end(FlightEvent, Object, Object, long)} after a unit of work,
+ * which then shows up with its duration, name, detail, and size in a
+ * flight recording.
+ * </p>
+ * <p>
+ * The events are disabled by default and enabled by setting the system
+ * property {@value #ENABLED_PROPERTY} to {@code true}. Since this project
+ * targets JVMs which may not offer the flight recorder API, the events
+ * are then created dynamically if the API is found at runtime. If the
+ * events are not enabled, if the API is not found, or if no recording has
+ * been started so far, {@link #begin(EFlightEventType)} returns
+ * {@code null} and
+ * {@link #end(FlightEvent, Object, Object, long)} returns immediately.
+ * Names and details are only converted to strings if the event is
+ * actually committed.
+ * </p>
+ */
+public final class FlightEvent {
+
+  /**
+   * the system property which must be set to {@code true} to enable the
+   * flight recorder events: {@value}
+   */
+  public static final String ENABLED_PROPERTY = "org.optimizationBenchmarking.utils.metrics.flightEvents"; //$NON-NLS-1$
+
+  /** the event type */
+  final EFlightEventType m_type;
+
+  /** the {@code jdk.jfr.Event} */
+  final Object m_event;
+
+  /**
+   * create
+   *
+   * @param type
+   *          the event type
+   * @param event
+   *          the {@code jdk.jfr.Event}
+   */
+  FlightEvent(final EFlightEventType type, final Object event) {
+    super();
+    this.m_type = type;
+    this.m_event = event;
+  }
+
+  /**
+   * Get the event type
+   *
+   * @return the event type
+   */
+  public final EFlightEventType getType() {
+    return this.m_type;
+  }
+
+  /**
+   * Are flight recorder events enabled and supported by this JVM?
+   *
+   * @return {@code true} if flight recorder events can be emitted,
+   *         {@code false} otherwise
+   */
+  public static final boolean isSupported() {
+    return (__FlightRecorderLoader.INSTANCE != null);
+  }
+
+  /**
+   * Begin a flight recorder event in the current thread.
+   *
+   * @param type
+   *          the event type
+   * @return the event to pass to
+   *         {@link #end(FlightEvent, Object, Object, long)}, or
+   *         {@code null} if no event is recorded
+   */
+  public static final FlightEvent begin(final EFlightEventType type) {
+    final _FlightRecorder recorder;
+
+    recorder = __FlightRecorderLoader.INSTANCE;
+    if ((recorder != null) && recorder.m_active) {
+      return recorder._begin(type);
+    }
+    return null;
+  }
+
+  /**
+   * End a flight recorder event and commit it, if it passes the settings
+   * of the recording.
+   *
+   * @param event
+   *          the event returned by {@link #begin(EFlightEventType)}, or
+   *          {@code null} if nothing should be recorded
+   * @param name
+   *          the name of the processed item, a class or an object whose
+   *          {@linkplain Object#toString() string representation} is used
+   * @param detail
+   *          the detail, a class or an object whose
+   *          {@linkplain Object#toString() string representation} is
+   *          used, or {@code null}; ignored for events without detail
+   * @param size
+   *          the size of the processed data; ignored for events without
+   *          size
+   */
+  public static final void end(final FlightEvent event,
+      final Object name, final Object detail, final long size) {
+    if (event != null) {
+      __FlightRecorderLoader.INSTANCE._end(event, name, detail, size);
+    }
+  }
+
+  /**
+   * Create the bridge to the flight recorder
+   *
+   * @return the bridge, or {@code null} if the flight recorder events are
+   *         disabled or not supported
+   */
+  static final _FlightRecorder _createRecorder() {
+    try {
+      if (Boolean.getBoolean(FlightEvent.ENABLED_PROPERTY)) {
+        return new _FlightRecorder();
+      }
+    } catch (final Throwable error) {
+      // the JVM does not support flight recorder events
+    }
+    return null;
+  }
+
+  /** the loader */
+  private static final class __FlightRecorderLoader {
+    /** the bridge to the flight recorder, or {@code null} */
+    static final _FlightRecorder INSTANCE = FlightEvent._createRecorder();
+  }
+}
@@ -0,0 +1,599 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.ObjectName;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.text.TextUtils;
+
+/**
+ * <p>
+ * A registry of performance metrics: For each
+ * {@linkplain EMetricsCategory category} of work, e.g., evaluation modules
+ * or attribute computations, and each kind of work in that category, it
+ * accumulates the number of measured units, their wall clock time, CPU
+ * time, and the bytes they allocated, the latter two measured via the
+ * {@link java.lang.management.ThreadMXBean} if supported by the JVM.
+ * </p>
+ * <p>
+ * The metrics are disabled by default and enabled by setting the system
+ * property {@value #ENABLED_PROPERTY} to {@code true}. Instrumented code
+ * calls {@link #begin()} before and
+ * {@link #end(MetricsSample, EMetricsCategory, Object)} after a unit of
+ * work. If the metrics are disabled, {@link #begin()} returns {@code null}
+ * after checking a constant and {@code end} returns immediately, so the
+ * instrumentation costs next to nothing.
+ * </p>
+ * <p>
+ * If enabled, the metrics are registered as
+ * {@linkplain MetricsMXBean MXBean} under the name {@value #OBJECT_NAME}
+ * and can be {@linkplain #toJSON(Appendable) dumped as JSON}. If the
+ * system property {@value #JSON_PROPERTY} specifies a path, the dump is
+ * written there by {@link #dump(Logger)}, which is invoked at the end of
+ * each evaluation.
+ * </p>
+ */
+public final class Metrics implements MetricsMXBean {
+
+  /**
+   * the system property which must be set to {@code true} to enable the
+   * metrics: {@value}
+   */
+  public static final String ENABLED_PROPERTY = "org.optimizationBenchmarking.utils.metrics.enabled"; //$NON-NLS-1$
+
+  /**
+   * the system property with the path of the file to which the JSON dump
+   * of the metrics is written: {@value}
+   */
+  public static final String JSON_PROPERTY = "org.optimizationBenchmarking.utils.metrics.json"; //$NON-NLS-1$
+
+  /** the JMX object name of the metrics: {@value} */
+  public static final String OBJECT_NAME = "org.optimizationBenchmarking:type=Metrics"; //$NON-NLS-1$
+
+  /** are the metrics enabled? */
+  private static final boolean ENABLED = Metrics.__isEnabled();
+
+  /** the entries, indexed by category ordinal and key */
+  private final ConcurrentHashMap<Object, _MetricsEntry>[] m_entries;
+
+  /** the thread bean, or {@code null} if CPU time cannot be measured */
+  private final ThreadMXBean m_cpu;
+
+  /** can the allocated bytes be measured? */
+  private final boolean m_allocation;
+
+  /** create the metrics */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Metrics() {
+    super();
+
+    ThreadMXBean cpu;
+    boolean allocation;
+    int index;
+
+    this.m_entries = new ConcurrentHashMap[EMetricsCategory.values().length];
+    for (index = this.m_entries.length; (--index) >= 0;) {
+      this.m_entries[index] = new ConcurrentHashMap<>();
+    }
+
+    cpu = null;
+    allocation = false;
+    if (Metrics.ENABLED) {
+      try {
+        cpu = ManagementFactory.getThreadMXBean();
+        if (cpu.isCurrentThreadCpuTimeSupported()) {
+          if (!(cpu.isThreadCpuTimeEnabled())) {
+            cpu.setThreadCpuTimeEnabled(true);
+          }
+        } else {
+          cpu = null;
+        }
+      } catch (final Throwable error) {
+        cpu = null;
+      }
+
+      try {
+        // fails if the JVM does not offer the extended thread bean
+        allocation = (__Allocation._allocated() >= 0L);
+      } catch (final Throwable error) {
+        allocation = false;
+      }
+
+      try {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+            new ObjectName(Metrics.OBJECT_NAME));
+      } catch (final Throwable error) {
+        ErrorUtils.logError(Configuration.getGlobalLogger(),
+            "Could not register the metrics as MXBean, they will only be available via the JSON dump.", //$NON-NLS-1$
+            error, false, RethrowMode.DONT_RETHROW);
+      }
+    }
+
+    this.m_cpu = cpu;
+    this.m_allocation = allocation;
+  }
+
+  /**
+   * Check whether the metrics are enabled via
+   * {@link #ENABLED_PROPERTY}
+   *
+   * @return {@code true} if they are, {@code false} otherwise
+   */
+  private static final boolean __isEnabled() {
+    try {
+      return Boolean.getBoolean(Metrics.ENABLED_PROPERTY);
+    } catch (final Throwable error) {
+      return false;
+    }
+  }
+
+  /**
+   * Get the globally shared metrics registry
+   *
+   * @return the metrics registry
+   */
+  public static final Metrics getInstance() {
+    return __MetricsLoader.INSTANCE;
+  }
+
+  /**
+   * Are the metrics enabled?
+   *
+   * @return {@code true} if measurements are recorded, {@code false}
+   *         otherwise
+   */
+  public static final boolean isGloballyEnabled() {
+    return Metrics.ENABLED;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isEnabled() {
+    return Metrics.ENABLED;
+  }
+
+  /**
+   * Begin measuring a unit of work in the current thread.
+   *
+   * @return the sample to pass to
+   *         {@link #end(MetricsSample, EMetricsCategory, Object)}, or
+   *         {@code null} if the metrics are disabled
+   */
+  public static final MetricsSample begin() {
+    if (Metrics.ENABLED) {
+      return Metrics.getInstance().__sample();
+    }
+    return null;
+  }
+
+  /**
+   * End measuring a unit of work in the thread in which it was
+   * {@linkplain #begin() begun}.
+   *
+   * @param sample
+   *          the sample returned by {@link #begin()}, or {@code null} if
+   *          nothing should be recorded
+   * @param category
+   *          the category of the work
+   * @param key
+   *          the key identifying the kind of work, usually a class or a
+   *          string
+   */
+  public static final void end(final MetricsSample sample,
+      final EMetricsCategory category, final Object key) {
+    if (sample != null) {
+      Metrics.getInstance().__end(sample, category, key, 0L);
+    }
+  }
+
+  /**
+   * End measuring a unit of work in the thread in which it was
+   * {@linkplain #begin() begun}.
+   *
+   * @param sample
+   *          the sample returned by {@link #begin()}, or {@code null} if
+   *          nothing should be recorded
+   * @param category
+   *          the category of the work
+   * @param key
+   *          the key identifying the kind of work, usually a class or a
+   *          string
+   * @param size
+   *          the size of the processed data, e.g., the number of bytes of
+   *          a file
+   */
+  public static final void end(final MetricsSample sample,
+      final EMetricsCategory category, final Object key, final long size) {
+    if (sample != null) {
+      Metrics.getInstance().__end(sample, category, key, size);
+    }
+  }
+
+  /**
+   * Get the CPU time of the current thread
+   *
+   * @return the CPU time of the current thread, or {@code 0} if it cannot
+   *         be measured
+   */
+  private final long __cpuTime() {
+    return ((this.m_cpu != null) ? this.m_cpu.getCurrentThreadCpuTime()
+        : 0L);
+  }
+
+  /**
+   * Get the bytes allocated by the current thread
+   *
+   * @return the bytes allocated by the current thread, or {@code 0} if
+   *         they cannot be measured
+   */
+  private final long __allocated() {
+    return (this.m_allocation ? __Allocation._allocated() : 0L);
+  }
+
+  /**
+   * Take a sample
+   *
+   * @return the sample
+   */
+  private final MetricsSample __sample() {
+    final long allocated, cpuTime;
+
+    allocated = this.__allocated();
+    cpuTime = this.__cpuTime();
+    return new MetricsSample(System.nanoTime(), cpuTime, allocated);
+  }
+
+  /**
+   * End a sample
+   *
+   * @param sample
+   *          the sample
+   * @param category
+   *          the category
+   * @param key
+   *          the key
+   * @param size
+   *          the size
+   */
+  private final void __end(final MetricsSample sample,
+      final EMetricsCategory category, final Object key, final long size) {
+    final long wallTime, cpuTime, allocated;
+    final ConcurrentHashMap<Object, _MetricsEntry> entries;
+    _MetricsEntry entry, old;
+
+    wallTime = (System.nanoTime() - sample.m_wallTime);
+    cpuTime = (this.__cpuTime() - sample.m_cpuTime);
+    allocated = (this.__allocated() - sample.m_allocated);
+
+    entries = this.m_entries[category.ordinal()];
+    entry = entries.get(key);
+    if (entry == null) {
+      entry = new _MetricsEntry((key instanceof Class) ? //
+          TextUtils.className((Class<?>) key)
+          : String.valueOf(key));
+      old = entries.putIfAbsent(key, entry);
+      if (old != null) {
+        entry = old;
+      }
+    }
+
+    entry._add(wallTime, Math.max(0L, cpuTime), Math.max(0L, allocated),
+        size);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void reset() {
+    for (final ConcurrentHashMap<Object, _MetricsEntry> entries : this.m_entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Get one value of all entries
+   *
+   * @param value
+   *          the value to get: {@code 0} for the count, {@code 1} for the
+   *          wall time, {@code 2} for the CPU time, {@code 3} for the
+   *          allocated bytes
+   * @return the map
+   */
+  private final Map<String, Long> __get(final int value) {
+    final TreeMap<String, Long> result;
+    AtomicLong number;
+
+    result = new TreeMap<>();
+    for (final EMetricsCategory category : EMetricsCategory.values()) {
+      for (final _MetricsEntry entry : this.m_entries[category.ordinal()]
+          .values()) {
+        switch (value) {
+          case 0: {
+            number = entry.m_count;
+            break;
+          }
+          case 1: {
+            number = entry.m_wallTime;
+            break;
+          }
+          case 2: {
+            number = entry.m_cpuTime;
+            break;
+          }
+          default: {
+            number = entry.m_allocated;
+          }
+        }
+        result.put(((category.m_name + ':') + entry.m_name),
+            Long.valueOf(number.get()));
+      }
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Map<String, Long> getCounts() {
+    return this.__get(0);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Map<String, Long> getWallTimes() {
+    return this.__get(1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Map<String, Long> getCpuTimes() {
+    return this.__get(2);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Map<String, Long> getAllocatedBytes() {
+    return this.__get(3);
+  }
+
+  /**
+   * Append a string as JSON string literal
+   *
+   * @param string
+   *          the string
+   * @param dest
+   *          the destination
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final void __jsonString(final String string,
+      final Appendable dest) throws IOException {
+    final int length;
+    int index;
+    char ch;
+
+    dest.append('"');
+    length = string.length();
+    for (index = 0; index < length; index++) {
+      ch = string.charAt(index);
+      if ((ch == '"') || (ch == '\\')) {
+        dest.append('\\');
+        dest.append(ch);
+      } else {
+        if (ch < ' ') {
+          dest.append("\\u00"); //$NON-NLS-1$
+          dest.append(Character.forDigit((ch >>> 4), 16));
+          dest.append(Character.forDigit((ch & 15), 16));
+        } else {
+          dest.append(ch);
+        }
+      }
+    }
+    dest.append('"');
+  }
+
+  /**
+   * Append a JSON key-value pair with a numerical value
+   *
+   * @param key
+   *          the key
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final void __jsonNumber(final String key,
+      final long value, final Appendable dest) throws IOException {
+    dest.append(',');
+    dest.append(' ');
+    Metrics.__jsonString(key, dest);
+    dest.append(':');
+    dest.append(' ');
+    dest.append(Long.toString(value));
+  }
+
+  /**
+   * Write the metrics as JSON object. Within each category, the entries
+   * are sorted by decreasing total wall clock time.
+   *
+   * @param dest
+   *          the destination
+   * @throws IOException
+   *           if i/o fails
+   */
+  public final void toJSON(final Appendable dest) throws IOException {
+    final ArrayList<_MetricsEntry> list;
+    boolean first;
+
+    dest.append("{\n  \"enabled\": "); //$NON-NLS-1$
+    dest.append(Boolean.toString(Metrics.ENABLED));
+    dest.append(",\n  \"cpuTimeSupported\": "); //$NON-NLS-1$
+    dest.append(Boolean.toString(this.m_cpu != null));
+    dest.append(",\n  \"allocationSupported\": "); //$NON-NLS-1$
+    dest.append(Boolean.toString(this.m_allocation));
+
+    list = new ArrayList<>();
+    for (final EMetricsCategory category : EMetricsCategory.values()) {
+      dest.append(",\n  "); //$NON-NLS-1$
+      Metrics.__jsonString(category.m_name, dest);
+      dest.append(": ["); //$NON-NLS-1$
+
+      list.clear();
+      list.addAll(this.m_entries[category.ordinal()].values());
+      Collections.sort(list, __WallTimeComparator.INSTANCE);
+
+      first = true;
+      for (final _MetricsEntry entry : list) {
+        if (first) {
+          first = false;
+        } else {
+          dest.append(',');
+        }
+        dest.append("\n    { \"name\": "); //$NON-NLS-1$
+        Metrics.__jsonString(entry.m_name, dest);
+        Metrics.__jsonNumber("count", entry.m_count.get(), dest); //$NON-NLS-1$
+        Metrics.__jsonNumber("wallTimeNanos", //$NON-NLS-1$
+            entry.m_wallTime.get(), dest);
+        Metrics.__jsonNumber("maxWallTimeNanos", //$NON-NLS-1$
+            entry.m_maxWallTime.get(), dest);
+        Metrics.__jsonNumber("cpuTimeNanos", //$NON-NLS-1$
+            entry.m_cpuTime.get(), dest);
+        Metrics.__jsonNumber("allocatedBytes", //$NON-NLS-1$
+            entry.m_allocated.get(), dest);
+        Metrics.__jsonNumber("size", entry.m_size.get(), dest); //$NON-NLS-1$
+        dest.append(' ');
+        dest.append('}');
+      }
+      if (!first) {
+        dest.append("\n  "); //$NON-NLS-1$
+      }
+      dest.append(']');
+    }
+    dest.append("\n}\n"); //$NON-NLS-1$
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toJSON() {
+    final StringBuilder sb;
+
+    sb = new StringBuilder();
+    try {
+      this.toJSON(sb);
+    } catch (final IOException ioe) {
+      // cannot happen for a string builder
+      throw new IllegalStateException(ioe);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Write the JSON dump of the metrics to the path specified by the system
+   * property {@value #JSON_PROPERTY}, if the metrics are enabled and the
+   * property is set. Errors are logged, but not thrown.
+   *
+   * @param logger
+   *          the logger, or {@code null} to use the global logger
+   */
+  public static final void dump(final Logger logger) {
+    final Logger log;
+    final String dest;
+    final Path path;
+
+    if (!(Metrics.ENABLED)) {
+      return;
+    }
+
+    log = ((logger != null) ? logger : Configuration.getGlobalLogger());
+    try {
+      dest = TextUtils.prepare(System.getProperty(Metrics.JSON_PROPERTY));
+      if (dest == null) {
+        return;
+      }
+      path = PathUtils.normalize(Paths.get(dest));
+      try (final Writer writer = new BufferedWriter(new OutputStreamWriter(
+          PathUtils.openOutputStream(path), StandardCharsets.UTF_8))) {
+        Metrics.getInstance().toJSON(writer);
+      }
+      if ((log != null) && (log.isLoggable(Level.INFO))) {
+        log.info("Metrics written to " + path); //$NON-NLS-1$
+      }
+    } catch (final Throwable error) {
+      ErrorUtils.logError(log, "Could not write the metrics dump.", //$NON-NLS-1$
+          error, false, RethrowMode.DONT_RETHROW);
+    }
+  }
+
+  /** the access to the allocated bytes of the current thread */
+  private static final class __Allocation {
+
+    /** the extended thread bean */
+    private static final com.sun.management.ThreadMXBean BEAN = //
+    ((com.sun.management.ThreadMXBean) (ManagementFactory
+        .getThreadMXBean()));
+
+    static {
+      if (!(__Allocation.BEAN.isThreadAllocatedMemoryEnabled())) {
+        __Allocation.BEAN.setThreadAllocatedMemoryEnabled(true);
+      }
+    }
+
+    /**
+     * Get the bytes allocated by the current thread
+     *
+     * @return the bytes allocated by the current thread, or {@code -1} if
+     *         not supported
+     */
+    static final long _allocated() {
+      return __Allocation.BEAN.getThreadAllocatedBytes(Thread
+          .currentThread().getId());
+    }
+  }
+
+  /** the comparator for sorting entries by decreasing wall time */
+  private static final class __WallTimeComparator implements
+      Comparator<_MetricsEntry> {
+
+    /** the shared instance */
+    static final __WallTimeComparator INSTANCE = new __WallTimeComparator();
+
+    /** {@inheritDoc} */
+    @Override
+    public final int compare(final _MetricsEntry a, final _MetricsEntry b) {
+      final int result;
+
+      result = Long.compare(b.m_wallTime.get(), a.m_wallTime.get());
+      if (result != 0) {
+        return result;
+      }
+      return a.m_name.compareTo(b.m_name);
+    }
+  }
+
+  /** the loader */
+  private static final class __MetricsLoader {
+    /** create */
+    static final Metrics INSTANCE = new Metrics();
+  }
+}
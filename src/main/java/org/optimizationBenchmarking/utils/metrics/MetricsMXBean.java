@@ -0,0 +1,60 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX interface of the {@link Metrics}, registered under the name
+ * {@value org.optimizationBenchmarking.utils.metrics.Metrics#OBJECT_NAME}
+ * if the metrics are {@linkplain Metrics#isEnabled() enabled}. All maps
+ * are indexed by {@code category:name}.
+ */
+public interface MetricsMXBean {
+
+  /**
+   * Are the metrics enabled?
+   *
+   * @return {@code true} if measurements are recorded, {@code false}
+   *         otherwise
+   */
+  public abstract boolean isEnabled();
+
+  /**
+   * Get the number of measured units of work
+   *
+   * @return the number of measured units of work
+   */
+  public abstract Map<String, Long> getCounts();
+
+  /**
+   * Get the total wall clock times in nanoseconds
+   *
+   * @return the total wall clock times in nanoseconds
+   */
+  public abstract Map<String, Long> getWallTimes();
+
+  /**
+   * Get the total CPU times in nanoseconds, all {@code 0} if CPU time
+   * measurement is not supported
+   *
+   * @return the total CPU times in nanoseconds
+   */
+  public abstract Map<String, Long> getCpuTimes();
+
+  /**
+   * Get the total numbers of allocated bytes, all {@code 0} if allocation
+   * measurement is not supported
+   *
+   * @return the total numbers of allocated bytes
+   */
+  public abstract Map<String, Long> getAllocatedBytes();
+
+  /**
+   * Get all metrics as JSON text
+   *
+   * @return the JSON text
+   */
+  public abstract String toJSON();
+
+  /** Discard all recorded measurements */
+  public abstract void reset();
+}
@@ -0,0 +1,38 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+/**
+ * The state of the measurement at the beginning of a unit of work, as
+ * returned by {@link Metrics#begin()}. A sample must be
+ * {@linkplain Metrics#end(MetricsSample, EMetricsCategory, Object) ended}
+ * in the same thread in which it was begun, since CPU time and allocation
+ * are measured per thread.
+ */
+public final class MetricsSample {
+
+  /** the wall clock time at the beginning, in nanoseconds */
+  final long m_wallTime;
+
+  /** the CPU time of the thread at the beginning, in nanoseconds */
+  final long m_cpuTime;
+
+  /** the bytes allocated by the thread at the beginning */
+  final long m_allocated;
+
+  /**
+   * create
+   *
+   * @param wallTime
+   *          the wall clock time at the beginning, in nanoseconds
+   * @param cpuTime
+   *          the CPU time of the thread at the beginning, in nanoseconds
+   * @param allocated
+   *          the bytes allocated by the thread at the beginning
+   */
+  MetricsSample(final long wallTime, final long cpuTime,
+      final long allocated) {
+    super();
+    this.m_wallTime = wallTime;
+    this.m_cpuTime = cpuTime;
+    this.m_allocated = allocated;
+  }
+}
@@ -0,0 +1,298 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.optimizationBenchmarking.utils.text.TextUtils;
+
+/**
+ * The bridge to the Java Flight Recorder API in package {@code jdk.jfr}.
+ * Since this project must run on JVMs which do not offer this API, the
+ * event types are created dynamically via {@code jdk.jfr.EventFactory}
+ * and all methods are accessed via method handles. The bridge also
+ * listens to the flight recorder, so that no event objects are created
+ * before the flight recorder is initialized, i.e., before any recording
+ * was started.
+ */
+final class _FlightRecorder implements InvocationHandler {
+
+  /** the index of the name field */
+  private static final int NAME_INDEX = 0;
+
+  /** the handles creating new events, indexed by event type ordinal */
+  private final MethodHandle[] m_create;
+
+  /** the indexes of the detail fields, {@code -1} if there is none */
+  private final int[] m_detailIndex;
+
+  /** the indexes of the size fields, {@code -1} if there is none */
+  private final int[] m_sizeIndex;
+
+  /** the handle for {@code jdk.jfr.Event.begin()} */
+  private final MethodHandle m_begin;
+
+  /** the handle for {@code jdk.jfr.Event.end()} */
+  private final MethodHandle m_end;
+
+  /** the handle for {@code jdk.jfr.Event.shouldCommit()} */
+  private final MethodHandle m_shouldCommit;
+
+  /** the handle for {@code jdk.jfr.Event.set(int, Object)} */
+  private final MethodHandle m_set;
+
+  /** the handle for {@code jdk.jfr.Event.commit()} */
+  private final MethodHandle m_commit;
+
+  /** has the flight recorder been initialized? */
+  volatile boolean m_active;
+
+  /**
+   * Create the bridge to the flight recorder
+   *
+   * @throws Throwable
+   *           if the flight recorder API is not available
+   */
+  @SuppressWarnings("unchecked")
+  _FlightRecorder() throws Throwable {
+    super();
+
+    final MethodHandles.Lookup lookup;
+    final Class<?> event, eventFactory, annotationElement, valueDescriptor,
+        recorder, listener;
+    final Class<? extends Annotation> name, label, description, category,
+        dataAmount;
+    final Constructor<?> newAnnotation, newValue;
+    final Method create, newEvent;
+    final Object categories;
+    final EFlightEventType[] types;
+    ArrayList<Object> annotations, fields;
+    int index;
+
+    event = Class.forName("jdk.jfr.Event"); //$NON-NLS-1$
+    eventFactory = Class.forName("jdk.jfr.EventFactory"); //$NON-NLS-1$
+    annotationElement = Class.forName("jdk.jfr.AnnotationElement"); //$NON-NLS-1$
+    valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor"); //$NON-NLS-1$
+    recorder = Class.forName("jdk.jfr.FlightRecorder"); //$NON-NLS-1$
+    listener = Class.forName("jdk.jfr.FlightRecorderListener"); //$NON-NLS-1$
+    name = ((Class<? extends Annotation>) (Class.forName("jdk.jfr.Name"))); //$NON-NLS-1$
+    label = ((Class<? extends Annotation>) (Class.forName("jdk.jfr.Label"))); //$NON-NLS-1$
+    description = ((Class<? extends Annotation>) (Class
+        .forName("jdk.jfr.Description"))); //$NON-NLS-1$
+    category = ((Class<? extends Annotation>) (Class
+        .forName("jdk.jfr.Category"))); //$NON-NLS-1$
+    dataAmount = ((Class<? extends Annotation>) (Class
+        .forName("jdk.jfr.DataAmount"))); //$NON-NLS-1$
+
+    newAnnotation = annotationElement.getConstructor(Class.class,
+        Object.class);
+    newValue = valueDescriptor.getConstructor(Class.class, String.class,
+        List.class);
+    create = eventFactory.getMethod("create", List.class, List.class); //$NON-NLS-1$
+    newEvent = eventFactory.getMethod("newEvent"); //$NON-NLS-1$
+    lookup = MethodHandles.publicLookup();
+
+    categories = new String[] { "optimizationBenchmarking" }; //$NON-NLS-1$
+    types = EFlightEventType.values();
+    this.m_create = new MethodHandle[types.length];
+    this.m_detailIndex = new int[types.length];
+    this.m_sizeIndex = new int[types.length];
+
+    for (final EFlightEventType type : types) {
+      annotations = new ArrayList<>();
+      annotations.add(newAnnotation.newInstance(name, type.m_name));
+      annotations.add(newAnnotation.newInstance(label, type.m_label));
+      annotations.add(newAnnotation.newInstance(description,
+          type.m_description));
+      annotations.add(newAnnotation.newInstance(category, categories));
+
+      fields = new ArrayList<>();
+      index = _FlightRecorder.NAME_INDEX;
+      fields.add(newValue.newInstance(String.class, "name", //$NON-NLS-1$
+          Arrays.asList(newAnnotation.newInstance(label, type.m_nameLabel))));
+
+      if (type.m_detailLabel != null) {
+        this.m_detailIndex[type.ordinal()] = (++index);
+        fields.add(newValue.newInstance(String.class, "detail", //$NON-NLS-1$
+            Arrays.asList(newAnnotation.newInstance(label,
+                type.m_detailLabel))));
+      } else {
+        this.m_detailIndex[type.ordinal()] = (-1);
+      }
+
+      if (type.m_sizeLabel != null) {
+        this.m_sizeIndex[type.ordinal()] = (++index);
+        fields.add(newValue.newInstance(long.class, "size", //$NON-NLS-1$
+            (type.m_sizeIsBytes ? //
+                Arrays.asList(newAnnotation.newInstance(label,
+                    type.m_sizeLabel), newAnnotation.newInstance(
+                    dataAmount, "BYTES")) //$NON-NLS-1$
+                : Arrays.asList(newAnnotation.newInstance(label,
+                    type.m_sizeLabel)))));
+      } else {
+        this.m_sizeIndex[type.ordinal()] = (-1);
+      }
+
+      this.m_create[type.ordinal()] = lookup
+          .unreflect(newEvent)
+          .bindTo(create.invoke(null, annotations, fields))
+          .asType(MethodType.methodType(Object.class));
+    }
+
+    this.m_begin = _FlightRecorder.__handle(lookup, event, "begin", //$NON-NLS-1$
+        void.class);
+    this.m_end = _FlightRecorder.__handle(lookup, event, "end", //$NON-NLS-1$
+        void.class);
+    this.m_commit = _FlightRecorder.__handle(lookup, event, "commit", //$NON-NLS-1$
+        void.class);
+    this.m_shouldCommit = _FlightRecorder.__handle(lookup, event,
+        "shouldCommit", boolean.class); //$NON-NLS-1$
+    this.m_set = lookup.findVirtual(event, "set", //$NON-NLS-1$
+        MethodType.methodType(void.class, int.class, Object.class))
+        .asType(MethodType.methodType(void.class, Object.class, int.class,
+            Object.class));
+
+    recorder.getMethod("addListener", listener).invoke(null, //$NON-NLS-1$
+        Proxy.newProxyInstance(listener.getClassLoader(),
+            new Class<?>[] { listener }, this));
+    if (((Boolean) (recorder.getMethod("isInitialized").invoke(null))) //$NON-NLS-1$
+        .booleanValue()) {
+      this.m_active = true;
+    }
+  }
+
+  /**
+   * Get a handle for a parameterless method of the event class which
+   * accepts the event as {@link Object}
+   *
+   * @param lookup
+   *          the lookup
+   * @param event
+   *          the event class
+   * @param method
+   *          the method name
+   * @param result
+   *          the result type
+   * @return the handle
+   * @throws Throwable
+   *           if the method cannot be found
+   */
+  private static final MethodHandle __handle(
+      final MethodHandles.Lookup lookup, final Class<?> event,
+      final String method, final Class<?> result) throws Throwable {
+    return lookup.findVirtual(event, method,
+        MethodType.methodType(result)).asType(
+        MethodType.methodType(result, Object.class));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Object invoke(final Object proxy, final Method method,
+      final Object[] args) {
+    final String methodName;
+
+    methodName = method.getName();
+    if (method.getDeclaringClass() == Object.class) {
+      switch (methodName) {
+        case "equals": { //$NON-NLS-1$
+          return Boolean.valueOf(proxy == args[0]);
+        }
+        case "hashCode": { //$NON-NLS-1$
+          return Integer.valueOf(System.identityHashCode(proxy));
+        }
+        default: {
+          return this.getClass().getName();
+        }
+      }
+    }
+
+    if ("recorderInitialized".equals(methodName)) { //$NON-NLS-1$
+      this.m_active = true;
+    }
+    return null;
+  }
+
+  /**
+   * Create and begin a new event
+   *
+   * @param type
+   *          the event type
+   * @return the event, or {@code null} if it could not be created
+   */
+  final FlightEvent _begin(final EFlightEventType type) {
+    final Object event;
+
+    try {
+      event = this.m_create[type.ordinal()].invokeExact();
+      this.m_begin.invokeExact(event);
+    } catch (final Throwable error) {
+      return null;
+    }
+    return new FlightEvent(type, event);
+  }
+
+  /**
+   * Get the text of a field value
+   *
+   * @param value
+   *          the value
+   * @return the text
+   */
+  private static final String __text(final Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Class) {
+      return TextUtils.className((Class<?>) value);
+    }
+    return String.valueOf(value);
+  }
+
+  /**
+   * End and commit an event, if it passes the settings of the recording
+   *
+   * @param event
+   *          the event
+   * @param name
+   *          the name
+   * @param detail
+   *          the detail
+   * @param size
+   *          the size
+   */
+  final void _end(final FlightEvent event, final Object name,
+      final Object detail, final long size) {
+    final Object jfrEvent;
+    final int ordinal;
+    int index;
+
+    jfrEvent = event.m_event;
+    try {
+      this.m_end.invokeExact(jfrEvent);
+      if ((boolean) (this.m_shouldCommit.invokeExact(jfrEvent))) {
+        this.m_set.invokeExact(jfrEvent, _FlightRecorder.NAME_INDEX,
+            ((Object) (_FlightRecorder.__text(name))));
+        ordinal = event.m_type.ordinal();
+        if ((index = this.m_detailIndex[ordinal]) >= 0) {
+          this.m_set.invokeExact(jfrEvent, index,
+              ((Object) (_FlightRecorder.__text(detail))));
+        }
+        if ((index = this.m_sizeIndex[ordinal]) >= 0) {
+          this.m_set.invokeExact(jfrEvent, index,
+              ((Object) (Long.valueOf(size))));
+        }
+        this.m_commit.invokeExact(jfrEvent);
+      }
+    } catch (final Throwable error) {
+      // ignore: flight events must never disturb the actual work
+    }
+  }
+}
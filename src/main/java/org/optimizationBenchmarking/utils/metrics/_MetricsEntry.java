@@ -0,0 +1,74 @@
+package org.optimizationBenchmarking.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** the accumulated measurements of one kind of work */
+final class _MetricsEntry {
+
+  /** the name */
+  final String m_name;
+
+  /** the number of measured units of work */
+  final AtomicLong m_count;
+
+  /** the total wall clock time in nanoseconds */
+  final AtomicLong m_wallTime;
+
+  /** the longest wall clock time of a single unit in nanoseconds */
+  final AtomicLong m_maxWallTime;
+
+  /** the total CPU time in nanoseconds */
+  final AtomicLong m_cpuTime;
+
+  /** the total number of allocated bytes */
+  final AtomicLong m_allocated;
+
+  /** the total size of the processed data, e.g., the file sizes */
+  final AtomicLong m_size;
+
+  /**
+   * create
+   *
+   * @param name
+   *          the name
+   */
+  _MetricsEntry(final String name) {
+    super();
+    this.m_name = name;
+    this.m_count = new AtomicLong();
+    this.m_wallTime = new AtomicLong();
+    this.m_maxWallTime = new AtomicLong();
+    this.m_cpuTime = new AtomicLong();
+    this.m_allocated = new AtomicLong();
+    this.m_size = new AtomicLong();
+  }
+
+  /**
+   * Add a measured unit of work
+   *
+   * @param wallTime
+   *          the wall clock time in nanoseconds
+   * @param cpuTime
+   *          the CPU time in nanoseconds
+   * @param allocated
+   *          the allocated bytes
+   * @param size
+   *          the size of the processed data
+   */
+  final void _add(final long wallTime, final long cpuTime,
+      final long allocated, final long size) {
+    long max;
+
+    this.m_count.incrementAndGet();
+    this.m_wallTime.addAndGet(wallTime);
+    this.m_cpuTime.addAndGet(cpuTime);
+    this.m_allocated.addAndGet(allocated);
+    this.m_size.addAndGet(size);
+
+    while (wallTime > (max = this.m_maxWallTime.get())) {
+      if (this.m_maxWallTime.compareAndSet(max, wallTime)) {
+        return;
+      }
+    }
+  }
+}
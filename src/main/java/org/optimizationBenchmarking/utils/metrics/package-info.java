@@ -0,0 +1,9 @@
+/**
+ * A low-overhead registry of performance metrics, such as the wall clock
+ * time, CPU time, and allocated memory of evaluation modules, attribute
+ * computations, file loading, and graphics output, which can be observed
+ * via JMX and dumped as JSON, as well as Java Flight Recorder events for
+ * the individual units of work, which can be enabled if the JVM supports
+ * them.
+ */
+package org.optimizationBenchmarking.utils.metrics;
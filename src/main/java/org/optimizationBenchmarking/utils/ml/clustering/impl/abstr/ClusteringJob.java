@@ -2,6 +2,8 @@ package org.optimizationBenchmarking.utils.ml.clustering.impl.abstr;
 
 import org.optimizationBenchmarking.utils.math.MathUtils;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
 import org.optimizationBenchmarking.utils.ml.clustering.spec.IClusteringJob;
 import org.optimizationBenchmarking.utils.ml.clustering.spec.IClusteringResult;
 import org.optimizationBenchmarking.utils.tools.impl.abstr.ToolJob;
@@ -61,13 +63,17 @@ public abstract class ClusteringJob extends ToolJob
   /** {@inheritDoc} */
   @Override
   public final IClusteringResult call() throws IllegalArgumentException {
+    final FlightEvent event;
     ClusteringSolution solution;
     Throwable error;
     String message;
 
     error = null;
+    event = FlightEvent.begin(EFlightEventType.CLUSTERING);
     try {
       solution = this._cluster();
+      FlightEvent.end(event, this.getClass(),
+          Integer.valueOf(this.m_classes), solution.assignment.length);
       if (MathUtils.isFinite(solution.quality)) {
         ClusteringTools.normalizeClusters(solution.assignment);
         return solution;
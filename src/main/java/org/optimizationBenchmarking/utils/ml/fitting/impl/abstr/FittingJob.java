@@ -2,6 +2,8 @@ package org.optimizationBenchmarking.utils.ml.fitting.impl.abstr;
 
 import org.optimizationBenchmarking.utils.math.MathUtils;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
 import org.optimizationBenchmarking.utils.ml.fitting.quality.FittingQualityMeasure;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingJob;
 import org.optimizationBenchmarking.utils.ml.fitting.spec.IFittingQualityMeasure;
@@ -82,12 +84,16 @@ public class FittingJob extends ToolJob implements IFittingJob {
   /** {@inheritDoc} */
   @Override
   public final FittingResult call() throws IllegalArgumentException {
+    final FlightEvent event;
     Throwable error;
     String message;
 
     error = null;
+    event = FlightEvent.begin(EFlightEventType.FITTING);
     try {
       this.fit();
+      FlightEvent.end(event, this.m_function, this.getClass(),
+          this.m_data.m());
 
       if (MathUtils.isFinite(this.m_result.quality)) {
         return this.m_result;
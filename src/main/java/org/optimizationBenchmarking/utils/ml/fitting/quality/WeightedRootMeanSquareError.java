@@ -23,16 +23,24 @@ public final class WeightedRootMeanSquareError
   /** a stable sum, only to be used during solution evaluation */
   private final StableSum m_sum;
 
+  /** the {@code x}-coordinates of the points */
+  private final double[] m_x;
+
+  /** the {@code y}-coordinates of the points */
+  private final double[] m_y;
+
   /**
-   * The minimum inverse weight: Basically, we consider the absolute values
-   * of {@code y}-coordinates of points as their inverse weight. This way,
-   * if the estimate for a point with {@code y}-value {@code 10} is
-   * {@code 11}, this has the same impact as if the estimate of a point
+   * The inverse weights of the points: Basically, we consider the absolute
+   * values of {@code y}-coordinates of points as their inverse weight.
+   * This way, if the estimate for a point with {@code y}-value {@code 10}
+   * is {@code 11}, this has the same impact as if the estimate of a point
    * with {@code y}-value {@code -1e-10} is {@code -1.1e-10}. Of course, we
-   * need to cater for points with {@code y}-value {@code 0}, which will
-   * then have this inverse weight here.
+   * need to cater for points with {@code y}-value {@code 0}, which get a
+   * minimum inverse weight computed in the constructor instead. The
+   * weights only depend on the data, so they are computed only once and
+   * the evaluation of a model is a simple loop over three arrays.
    */
-  private final double m_minInverseWeight;
+  private final double[] m_inverseWeights;
 
   /**
    * create the root-mean-square error fitting quality measure
@@ -43,13 +51,21 @@ public final class WeightedRootMeanSquareError
   public WeightedRootMeanSquareError(final IMatrix data) {
     super(data);
 
+    final double[] y, inverseWeights;
+    final int m;
     int index;
     double currentY, minY, minY2;
 
+    m = data.m();
+    this.m_x = new double[m];
+    data.copyColumn(0, 0, m, this.m_x, 0);
+    this.m_y = y = new double[m];
+    data.copyColumn(1, 0, m, y, 0);
+
     // find the two smallest non-zero absolute y values
     minY = minY2 = Double.POSITIVE_INFINITY;
-    for (index = data.m(); (--index) >= 0;) {
-      currentY = Math.abs(data.getDouble(index, 1));
+    for (index = m; (--index) >= 0;) {
+      currentY = Math.abs(y[index]);
       if (WeightedRootMeanSquareError.__checkInverseWeight(currentY)) {
         if (currentY < minY2) {
           if (currentY < minY) {
@@ -117,7 +133,11 @@ public final class WeightedRootMeanSquareError
       currentY = 1d;
     }
 
-    this.m_minInverseWeight = currentY;
+    this.m_inverseWeights = inverseWeights = new double[m];
+    for (index = m; (--index) >= 0;) {
+      minY = Math.abs(y[index]);
+      inverseWeights[index] = ((minY < currentY) ? currentY : minY);
+    }
     this.m_sum = new StableSum();
   }
 
@@ -137,21 +157,21 @@ public final class WeightedRootMeanSquareError
   public final double evaluate(final ParametricUnaryFunction model,
       final double[] params) {
     final StableSum sum;
-    final double minInverseWeight;
+    final double[] x, y, inverseWeights;
     final int length;
-    double y, res;
+    double res;
     int index;
 
     sum = this.m_sum;
     sum.reset();
 
-    minInverseWeight = this.m_minInverseWeight;
-    length = this.m_data.m();
+    x = this.m_x;
+    y = this.m_y;
+    inverseWeights = this.m_inverseWeights;
+    length = y.length;
     for (index = length; (--index) >= 0;) {
-      y = this.m_data.getDouble(index, 1);
-      res = (model.value(this.m_data.getDouble(index, 0), params) - y);
-      y = Math.abs(y);
-      res /= ((y < minInverseWeight) ? minInverseWeight : y);
+      res = ((model.value(x[index], params) - y[index]) / //
+          inverseWeights[index]);
       sum.append(res * res);
     }
 
@@ -166,17 +186,17 @@ public final class WeightedRootMeanSquareError
     double[][] jacobian;
     double[] residuals;
     final int numSamples, numParams;
-    final IMatrix data;
-    final double minInverseWeight;
+    final double[] xs, ys, inverseWeights;
     final StableSum sum;
     double[] jacobianRow;
-    double x, expectedY, inverseWeight, residual, squareErrorSum;
+    double x, inverseWeight, residual, squareErrorSum;
     int i, j;
 
-    data = this.m_data;
-    minInverseWeight = this.m_minInverseWeight;
+    xs = this.m_x;
+    ys = this.m_y;
+    inverseWeights = this.m_inverseWeights;
 
-    numSamples = data.m();
+    numSamples = ys.length;
 
     residuals = dest.residuals;
     if ((residuals == null) || (residuals.length != numSamples)) {
@@ -193,15 +213,10 @@ public final class WeightedRootMeanSquareError
 
     sum.reset();
     for (i = numSamples; (--i) >= 0;) {
-      x = data.getDouble(i, 0);
-      expectedY = data.getDouble(i, 1);
-
-      inverseWeight = Math.abs(expectedY);
-      if (inverseWeight < minInverseWeight) {
-        inverseWeight = minInverseWeight;
-      }
+      x = xs[i];
+      inverseWeight = inverseWeights[i];
 
-      residuals[i] = residual = ((expectedY - model.value(x, parameters))
+      residuals[i] = residual = ((ys[i] - model.value(x, parameters))
           / inverseWeight);
       sum.append(residual * residual);
 
@@ -14,9 +14,15 @@ package org.optimizationBenchmarking.utils.parallel;
  * reading} blocks until either data becomes available (has been written)
  * or the buffer is closed.
  * </p>
+ * <p>
+ * Since writing never blocks, the buffer may grow indefinitely. A
+ * bounded, monitor-free alternative for a single producer and a single
+ * consumer is the
+ * {@link org.optimizationBenchmarking.utils.parallel.ByteRingBuffer}.
+ * </p>
  */
 public final class ByteProducerConsumerBuffer extends
-    ProducerConsumerBuffer<byte[]> {
+    ProducerConsumerBuffer<byte[]> implements IByteProducerConsumerBuffer {
 
   /** Create the buffer */
   public ByteProducerConsumerBuffer() {
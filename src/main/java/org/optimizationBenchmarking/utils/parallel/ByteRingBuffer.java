@@ -0,0 +1,442 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A bounded ring buffer for bytes intended to be used by exactly one
+ * producer thread and exactly one consumer thread at a time: The producer
+ * {@link #writeToBuffer(byte[], int, int) writes} data into the buffer and
+ * the consumer {@link #readFromBuffer(byte[], int, int) reads} the data
+ * from the buffer. Different from the
+ * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer}
+ * , this buffer never grows and does not use a monitor: The read and write
+ * positions are published via volatile counters which are placed on
+ * different cache lines, and a thread which needs to wait for data or free
+ * space is {@link java.util.concurrent.locks.LockSupport#park(Object)
+ * parked} until the other side has made progress.
+ * </p>
+ * <p>
+ * Reading blocks until either data becomes available or the buffer is
+ * {@link #close() closed}. Writing blocks until enough space becomes
+ * available or the buffer is closed, i.e., a producer can only proceed if
+ * the consumer keeps on reading. The storage can either be a
+ * {@code byte[]} or a {@link java.nio.ByteBuffer#allocateDirect(int)
+ * direct} byte buffer outside of the Java heap.
+ * </p>
+ */
+public final class ByteRingBuffer implements IByteProducerConsumerBuffer {
+
+  /** the default capacity */
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  /** the minimum capacity */
+  private static final int MIN_CAPACITY = 64;
+
+  /** the maximum capacity */
+  private static final int MAX_CAPACITY = (1 << 30);
+
+  /**
+   * the distance between the counters in {@link #m_counters}: 16 longs
+   * are 128 bytes, i.e., at least one cache line
+   */
+  private static final int PADDING = 16;
+
+  /** the index of the write counter in {@link #m_counters} */
+  private static final int WRITE = ByteRingBuffer.PADDING;
+
+  /** the index of the read counter in {@link #m_counters} */
+  private static final int READ = (ByteRingBuffer.PADDING << 1);
+
+  /** the maximum time to park, which guards against odd errors */
+  private static final long MAX_PARK_NANOS = TimeUnit.SECONDS
+      .toNanos(60L);
+
+  /**
+   * The counters of written and read bytes, which are the only state
+   * shared between producer and consumer. They are placed into one array
+   * with sufficient distance to not share a cache line.
+   */
+  private final AtomicLongArray m_counters;
+
+  /** the mask for computing array indices from the counters */
+  private final int m_mask;
+
+  /** the array storage, or {@code null} if direct storage is used */
+  private final byte[] m_array;
+
+  /** the producer's view on the direct storage, or {@code null} */
+  private final ByteBuffer m_writeView;
+
+  /** the consumer's view on the direct storage, or {@code null} */
+  private final ByteBuffer m_readView;
+
+  /** the read counter as last seen by the producer */
+  private long m_producerReadCache;
+
+  /** the write counter as last seen by the consumer */
+  private long m_consumerWriteCache;
+
+  /** the parked consumer, or {@code null} if none */
+  private volatile Thread m_parkedConsumer;
+
+  /** the parked producer, or {@code null} if none */
+  private volatile Thread m_parkedProducer;
+
+  /** is the buffer closed? */
+  private volatile boolean m_closed;
+
+  /**
+   * Create a buffer with the {@link #DEFAULT_CAPACITY default capacity}
+   * backed by a {@code byte[]}
+   */
+  public ByteRingBuffer() {
+    this(ByteRingBuffer.DEFAULT_CAPACITY, false);
+  }
+
+  /**
+   * Create the buffer
+   *
+   * @param capacity
+   *          the capacity, which will be rounded up to the next power of
+   *          two, {@code 0} for the {@link #DEFAULT_CAPACITY default}
+   * @param direct
+   *          should the data be stored in a
+   *          {@link java.nio.ByteBuffer#allocateDirect(int) direct} byte
+   *          buffer ({@code true}) or in a {@code byte[]} ({@code false})?
+   */
+  public ByteRingBuffer(final int capacity, final boolean direct) {
+    super();
+
+    final ByteBuffer storage;
+    int size;
+
+    if (capacity <= 0) {
+      size = ByteRingBuffer.DEFAULT_CAPACITY;
+    } else {
+      if (capacity >= ByteRingBuffer.MAX_CAPACITY) {
+        size = ByteRingBuffer.MAX_CAPACITY;
+      } else {
+        size = Math.max(ByteRingBuffer.MIN_CAPACITY,
+            Integer.highestOneBit((capacity << 1) - 1));
+      }
+    }
+
+    this.m_mask = (size - 1);
+    this.m_counters = new AtomicLongArray(3 * ByteRingBuffer.PADDING);
+
+    if (direct) {
+      storage = ByteBuffer.allocateDirect(size);
+      this.m_array = null;
+      this.m_writeView = storage.duplicate();
+      this.m_readView = storage.duplicate();
+    } else {
+      this.m_array = new byte[size];
+      this.m_writeView = this.m_readView = null;
+    }
+  }
+
+  /**
+   * Get the capacity of this buffer
+   *
+   * @return the capacity of this buffer
+   */
+  public final int capacity() {
+    return (this.m_mask + 1);
+  }
+
+  /**
+   * Park the current thread for a while
+   *
+   * @return {@code true} if the thread has been interrupted, {@code false}
+   *         otherwise
+   */
+  private final boolean __park() {
+    LockSupport.parkNanos(this, ByteRingBuffer.MAX_PARK_NANOS);
+    // Interrupts are ignored, like in the ProducerConsumerBuffer, but we
+    // must clear the flag to not spin.
+    return Thread.interrupted();
+  }
+
+  /**
+   * Wake up a parked thread
+   *
+   * @param thread
+   *          the thread, or {@code null} if none is parked
+   */
+  private static final void __unpark(final Thread thread) {
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  /**
+   * Store a number of bytes into the buffer. If there is not enough space
+   * in the buffer, this method blocks until the consumer has read enough
+   * data. If the buffer has been {@link #close() closed}, nothing will be
+   * stored anymore. This method must only be called by the producer.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of bytes to store
+   */
+  @Override
+  public final void writeToBuffer(final byte[] source, final int start,
+      final int count) {
+    final AtomicLongArray counters;
+    final int capacity;
+    long write;
+    int s, position, offset, remaining, amount;
+    boolean interrupted;
+
+    s = 0;
+    if ((source == null) || (count < 0) || (start < 0)
+        || ((count + start) > (s = source.length))) {
+      throw new IllegalArgumentException("Reading " + //$NON-NLS-1$
+          count + " elements starting at " + start//$NON-NLS-1$
+          + " from array " + source + //$NON-NLS-1$
+          " of length " + s//$NON-NLS-1$
+          + " is not possible.");//$NON-NLS-1$
+    }
+
+    counters = this.m_counters;
+    capacity = (this.m_mask + 1);
+    position = start;
+    remaining = count;
+    interrupted = false;
+
+    try {
+      while (remaining > 0) {
+        if (this.m_closed) {
+          return;
+        }
+
+        write = counters.get(ByteRingBuffer.WRITE);
+        amount = ((int) (capacity - (write - this.m_producerReadCache)));
+        if (amount <= 0) {
+          this.m_producerReadCache = counters.get(ByteRingBuffer.READ);
+          amount = ((int) (capacity - (write - this.m_producerReadCache)));
+          if (amount <= 0) {
+            // The buffer is full: Announce that we will park, then check
+            // again. Since both the announcement and the read counter are
+            // volatile, the consumer will either see us or we see its
+            // progress.
+            this.m_parkedProducer = Thread.currentThread();
+            try {
+              while ((!(this.m_closed))
+                  && ((write - counters.get(ByteRingBuffer.READ)) >= capacity)) {
+                interrupted |= this.__park();
+              }
+            } finally {
+              this.m_parkedProducer = null;
+            }
+            continue;
+          }
+        }
+
+        if (amount > remaining) {
+          amount = remaining;
+        }
+
+        offset = ((int) (write & this.m_mask));
+        s = Math.min(amount, (capacity - offset));
+        this.__put(source, position, offset, s);
+        if (s < amount) {
+          this.__put(source, (position + s), 0, (amount - s));
+        }
+
+        counters.set(ByteRingBuffer.WRITE, (write + amount));
+        ByteRingBuffer.__unpark(this.m_parkedConsumer);
+
+        position += amount;
+        remaining -= amount;
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Copy data into the storage
+   *
+   * @param source
+   *          the source array
+   * @param start
+   *          the start index in the source array
+   * @param offset
+   *          the offset in the storage
+   * @param count
+   *          the number of bytes to copy
+   */
+  private final void __put(final byte[] source, final int start,
+      final int offset, final int count) {
+    if (this.m_array != null) {
+      System.arraycopy(source, start, this.m_array, offset, count);
+    } else {
+      this.m_writeView.position(offset);
+      this.m_writeView.put(source, start, count);
+    }
+  }
+
+  /**
+   * Copy data from the storage
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index in the destination array
+   * @param offset
+   *          the offset in the storage
+   * @param count
+   *          the number of bytes to copy
+   */
+  private final void __get(final byte[] dest, final int start,
+      final int offset, final int count) {
+    if (this.m_array != null) {
+      System.arraycopy(this.m_array, offset, dest, start, count);
+    } else {
+      this.m_readView.position(offset);
+      this.m_readView.get(dest, start, count);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int readFromBuffer(final byte[] dest, final int start,
+      final int count) {
+    return this.__readFromBuffer(dest, start, count, true);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int deleteFromBuffer(final int count) {
+    return this.__readFromBuffer(null, 0, count, false);
+  }
+
+  /**
+   * Blocking read (at most) a number ({@code count} of bytes from the
+   * buffer into a destination array. This method must only be called by
+   * the consumer.
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of bytes to read
+   * @param read
+   *          should data actually be copied ({@code true}) or just skipped
+   *          ({@code false})?
+   * @return the <em>actual</em> number of bytes read (may be less than
+   *         {@code count}, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}.
+   */
+  private final int __readFromBuffer(final byte[] dest, final int start,
+      final int count, final boolean read) {
+    final AtomicLongArray counters;
+    long readCount;
+    int s, amount, offset;
+    boolean interrupted;
+
+    if (read) {
+      s = 0;
+      if ((dest == null) || (count < 0) || (start < 0)
+          || ((count + start) > (s = dest.length))) {
+        throw new IllegalArgumentException("Writing " + //$NON-NLS-1$
+            count + " elements starting at " + start//$NON-NLS-1$
+            + " to array " + dest + //$NON-NLS-1$
+            " of length " + s//$NON-NLS-1$
+            + " is not possible.");//$NON-NLS-1$
+      }
+    }
+
+    if (count <= 0) {
+      return (this.m_closed ? (-1) : 0);
+    }
+
+    counters = this.m_counters;
+    interrupted = false;
+    try {
+      for (;;) {
+        readCount = counters.get(ByteRingBuffer.READ);
+        amount = ((int) (this.m_consumerWriteCache - readCount));
+        if (amount <= 0) {
+          this.m_consumerWriteCache = counters.get(ByteRingBuffer.WRITE);
+          amount = ((int) (this.m_consumerWriteCache - readCount));
+        }
+
+        if (amount > 0) {
+          if (amount > count) {
+            amount = count;
+          }
+          if (read) {
+            offset = ((int) (readCount & this.m_mask));
+            s = Math.min(amount, (this.m_mask + 1 - offset));
+            this.__get(dest, start, offset, s);
+            if (s < amount) {
+              this.__get(dest, (start + s), 0, (amount - s));
+            }
+          }
+          counters.set(ByteRingBuffer.READ, (readCount + amount));
+          ByteRingBuffer.__unpark(this.m_parkedProducer);
+          return amount;
+        }
+
+        if (this.m_closed) {
+          // data written before closing must still be delivered
+          if (counters.get(ByteRingBuffer.WRITE) <= readCount) {
+            return (-1);
+          }
+          continue;
+        }
+
+        // The buffer is empty: Announce that we will park, then check
+        // again, see writeToBuffer.
+        this.m_parkedConsumer = Thread.currentThread();
+        try {
+          while ((!(this.m_closed))
+              && (counters.get(ByteRingBuffer.WRITE) <= readCount)) {
+            interrupted |= this.__park();
+          }
+        } finally {
+          this.m_parkedConsumer = null;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int size() {
+    final long read;
+
+    read = this.m_counters.get(ByteRingBuffer.READ);
+    return ((int) (this.m_counters.get(ByteRingBuffer.WRITE) - read));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() {
+    this.m_closed = true;
+    ByteRingBuffer.__unpark(this.m_parkedConsumer);
+    ByteRingBuffer.__unpark(this.m_parkedProducer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isClosed() {
+    return this.m_closed;
+  }
+}
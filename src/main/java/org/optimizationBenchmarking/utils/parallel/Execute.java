@@ -10,6 +10,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.optimizationBenchmarking.utils.collections.iterators.ArrayIterator;
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
 
 /**
  * This class is a bridge from "normal" Java to code running in an
@@ -135,15 +137,22 @@ public final class Execute {
   public static final <X, Y extends X> int join(
       final Iterable<Future<Y>> tasks, final X[] destination,
       final int start, final boolean ignoreNullResults) {
+    FlightEvent event;
     Throwable cause;
     Y result;
-    int index;
+    int index, task;
 
     index = start;
+    task = 0;
     for (final Future<Y> future : tasks) {
       if (future != null) {
         try {
+          // only record the time spent waiting for unfinished tasks
+          event = (future.isDone() ? null : //
+              FlightEvent.begin(EFlightEventType.JOIN_WAIT));
           result = future.get();
+          FlightEvent.end(event, future.getClass(), null, task);
+          task++;
         } catch (final ExecutionException executionError) {
           cause = executionError.getCause();
           if (cause instanceof RuntimeException) {
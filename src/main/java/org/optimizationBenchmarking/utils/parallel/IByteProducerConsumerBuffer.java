@@ -0,0 +1,77 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.io.Closeable;
+
+/**
+ * A byte buffer intended to be used by different threads: A producer
+ * {@link #writeToBuffer(byte[], int, int) writes} data into the buffer and
+ * a consumer {@link #readFromBuffer(byte[], int, int) reads} the data from
+ * the buffer. Reading blocks until either data becomes available or the
+ * buffer is {@link #close() closed}.
+ */
+public interface IByteProducerConsumerBuffer extends Closeable {
+
+  /**
+   * Store a number of bytes into the buffer. If the buffer has been
+   * {@link #close() closed}, nothing will be stored.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of bytes to store
+   */
+  public abstract void writeToBuffer(final byte[] source, final int start,
+      final int count);
+
+  /**
+   * Blocking read (at most) a number ({@code count} of bytes from the
+   * buffer into a destination array. This method may read less if fewer
+   * bytes are in the buffer.
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of bytes to read
+   * @return the <em>actual</em> number of bytes read (may be less than
+   *         {@code count}, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}.
+   */
+  public abstract int readFromBuffer(final byte[] dest, final int start,
+      final int count);
+
+  /**
+   * Blocking skip over (delete) (at most) a number ({@code count} of bytes
+   * from the buffer. This method may delete/skip over less if fewer bytes
+   * are in the buffer.
+   *
+   * @param count
+   *          the number of bytes to delete/skip over
+   * @return the <em>actual</em> number of bytes skipped over (may be less
+   *         than {@code count}, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}.
+   */
+  public abstract int deleteFromBuffer(final int count);
+
+  /**
+   * Get the current number of bytes in the buffer
+   *
+   * @return the current number of bytes in the buffer
+   */
+  public abstract int size();
+
+  /**
+   * Has this buffer been closed?
+   *
+   * @return {@code true} if the buffer has been closed, {@code false}
+   *         otherwise
+   */
+  public abstract boolean isClosed();
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract void close();
+}
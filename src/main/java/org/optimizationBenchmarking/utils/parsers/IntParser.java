@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 
 /**
@@ -47,6 +49,69 @@ public abstract class IntParser extends NumberParser<Integer> {
     return b;
   }
 
+  /**
+   * Parse a range of a character sequence. This default implementation
+   * turns the range into a string and passes it to
+   * {@link #parseInt(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param chars
+   *          the character sequence
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @return the return value
+   */
+  public int parseInt(final CharSequence chars, final int offset,
+      final int length) {
+    return this.parseInt(_NumberScanner._toString(chars, offset, length,
+        null));
+  }
+
+  /**
+   * Parse a range of a character array. This default implementation
+   * turns the range into a string and passes it to
+   * {@link #parseInt(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param chars
+   *          the character array
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @return the return value
+   */
+  public int parseInt(final char[] chars, final int offset,
+      final int length) {
+    return this.parseInt(_NumberScanner._toString(chars, offset, length,
+        null));
+  }
+
+  /**
+   * Parse a range of a byte array holding encoded text. This default
+   * implementation decodes the range into a string and passes it to
+   * {@link #parseInt(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param bytes
+   *          the byte array
+   * @param offset
+   *          the index of the first byte
+   * @param length
+   *          the number of bytes
+   * @param charset
+   *          the character set of the text, or {@code null} for the
+   *          platform's default character set
+   * @return the return value
+   */
+  public int parseInt(final byte[] bytes, final int offset,
+      final int length, final Charset charset) {
+    return this.parseInt(_NumberScanner._toString(bytes, offset, length,
+        charset));
+  }
+
   /** {@inheritDoc} */
   @Override
   public final Integer parseString(final String string) {
@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 
 /**
@@ -35,6 +37,69 @@ public abstract class LongParser extends NumberParser<Long> {
     return b;
   }
 
+  /**
+   * Parse a range of a character sequence. This default implementation
+   * turns the range into a string and passes it to
+   * {@link #parseLong(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param chars
+   *          the character sequence
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @return the return value
+   */
+  public long parseLong(final CharSequence chars, final int offset,
+      final int length) {
+    return this.parseLong(_NumberScanner._toString(chars, offset, length,
+        null));
+  }
+
+  /**
+   * Parse a range of a character array. This default implementation
+   * turns the range into a string and passes it to
+   * {@link #parseLong(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param chars
+   *          the character array
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @return the return value
+   */
+  public long parseLong(final char[] chars, final int offset,
+      final int length) {
+    return this.parseLong(_NumberScanner._toString(chars, offset, length,
+        null));
+  }
+
+  /**
+   * Parse a range of a byte array holding encoded text. This default
+   * implementation decodes the range into a string and passes it to
+   * {@link #parseLong(String)}, sub-classes may override it to avoid
+   * this.
+   *
+   * @param bytes
+   *          the byte array
+   * @param offset
+   *          the index of the first byte
+   * @param length
+   *          the number of bytes
+   * @param charset
+   *          the character set of the text, or {@code null} for the
+   *          platform's default character set
+   * @return the return value
+   */
+  public long parseLong(final byte[] bytes, final int offset,
+      final int length, final Charset charset) {
+    return this.parseLong(_NumberScanner._toString(bytes, offset, length,
+        charset));
+  }
+
   /** {@inheritDoc} */
   @Override
   public final Long parseString(final String string) {
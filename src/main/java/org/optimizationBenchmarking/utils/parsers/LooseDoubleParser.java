@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+
 import org.optimizationBenchmarking.utils.comparison.EComparison;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
@@ -133,6 +135,54 @@ public class LooseDoubleParser extends DoubleParser {
     return retVal;
   }
 
+  /**
+   * Parse a range of a source, using the fast scanner if possible and the
+   * string-based {@link #parseDouble(String)} otherwise.
+   *
+   * @param source
+   *          the source
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @param charset
+   *          the character set, only used for byte arrays
+   * @return the return value
+   */
+  private final double __parseDouble(final Object source, final int offset,
+      final int length, final Charset charset) {
+    final double retVal;
+
+    retVal = _NumberScanner._scanDouble(source, offset, length);
+    if (retVal != retVal) {
+      return this.parseDouble(_NumberScanner._toString(source, offset,
+          length, charset));
+    }
+    this.validateDouble(retVal);
+    return retVal;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double parseDouble(final CharSequence chars, final int offset,
+      final int length) {
+    return this.__parseDouble(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double parseDouble(final char[] chars, final int offset,
+      final int length) {
+    return this.__parseDouble(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double parseDouble(final byte[] bytes, final int offset,
+      final int length, final Charset charset) {
+    return this.__parseDouble(bytes, offset, length, charset);
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
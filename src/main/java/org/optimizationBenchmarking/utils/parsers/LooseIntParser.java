@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
@@ -123,6 +125,54 @@ public class LooseIntParser extends IntParser {
     return retVal;
   }
 
+  /**
+   * Parse a range of a source, using the fast scanner if possible and the
+   * string-based {@link #parseInt(String)} otherwise.
+   *
+   * @param source
+   *          the source
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @param charset
+   *          the character set, only used for byte arrays
+   * @return the return value
+   */
+  private final int __parseInt(final Object source, final int offset,
+      final int length, final Charset charset) {
+    final long retVal;
+
+    retVal = _NumberScanner._scanLong(source, offset, length);
+    if ((retVal < Integer.MIN_VALUE) || (retVal > Integer.MAX_VALUE)) {
+      return this.parseInt(_NumberScanner._toString(source, offset,
+          length, charset));
+    }
+    this.validateInt((int) retVal);
+    return ((int) retVal);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int parseInt(final CharSequence chars, final int offset,
+      final int length) {
+    return this.__parseInt(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int parseInt(final char[] chars, final int offset,
+      final int length) {
+    return this.__parseInt(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int parseInt(final byte[] bytes, final int offset,
+      final int length, final Charset charset) {
+    return this.__parseInt(bytes, offset, length, charset);
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
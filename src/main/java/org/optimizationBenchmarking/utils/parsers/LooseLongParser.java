@@ -1,5 +1,7 @@
 package org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+
 import org.optimizationBenchmarking.utils.hash.HashUtils;
 import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
@@ -119,6 +121,54 @@ public class LooseLongParser extends LongParser {
     return retVal;
   }
 
+  /**
+   * Parse a range of a source, using the fast scanner if possible and the
+   * string-based {@link #parseLong(String)} otherwise.
+   *
+   * @param source
+   *          the source
+   * @param offset
+   *          the index of the first character
+   * @param length
+   *          the number of characters
+   * @param charset
+   *          the character set, only used for byte arrays
+   * @return the return value
+   */
+  private final long __parseLong(final Object source, final int offset,
+      final int length, final Charset charset) {
+    final long retVal;
+
+    retVal = _NumberScanner._scanLong(source, offset, length);
+    if (retVal == _NumberScanner.FAILED_LONG) {
+      return this.parseLong(_NumberScanner._toString(source, offset,
+          length, charset));
+    }
+    this.validateLong(retVal);
+    return retVal;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long parseLong(final CharSequence chars, final int offset,
+      final int length) {
+    return this.__parseLong(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long parseLong(final char[] chars, final int offset,
+      final int length) {
+    return this.__parseLong(chars, offset, length, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long parseLong(final byte[] bytes, final int offset,
+      final int length, final Charset charset) {
+    return this.__parseLong(bytes, offset, length, charset);
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
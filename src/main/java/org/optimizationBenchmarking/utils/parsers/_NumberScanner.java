@@ -0,0 +1,385 @@
+package org.optimizationBenchmarking.utils.parsers;
+
+import java.nio.charset.Charset;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * An internal scanner which can read the plain textual representations of
+ * numbers directly from a range of a {@link java.lang.CharSequence}, a
+ * {@code char[]}, or a {@code byte[]} without creating any intermediate
+ * {@link java.lang.String} or other object. The scanner never throws an
+ * exception: If a text is not in one of the simple formats it understands
+ * (optionally signed decimal numbers, integers with one of the radix
+ * prefixes of {@link _PreparedString#_getBase(int)}, and decimal numbers
+ * with fraction and exponent whose value can be computed exactly), it
+ * returns {@link #FAILED_LONG} or {@link #FAILED_DOUBLE}. In this case,
+ * the caller should turn the range into a string and process it with the
+ * normal, string-based parsing routine. Since the failure values are also
+ * valid results, this fallback may also happen for texts which actually
+ * represent them, which is correct, just slower. Bytes are interpreted as
+ * {@code ISO-8859-1} characters, which means that all texts the scanner
+ * accepts are ASCII texts and mean the same in all ASCII-compatible
+ * encodings.
+ */
+final class _NumberScanner {
+
+  /** the value returned by the {@code long} scanner on failure */
+  static final long FAILED_LONG = Long.MIN_VALUE;
+
+  /** the value returned by the {@code double} scanner on failure */
+  static final double FAILED_DOUBLE = Double.NaN;
+
+  /**
+   * the largest mantissa which can be represented exactly as
+   * {@code double}
+   */
+  private static final long MAX_EXACT_MANTISSA = (1L << 53);
+
+  /**
+   * the powers of ten which can be represented exactly as {@code double}
+   */
+  private static final double[] EXACT_POWERS = { 1e0d, 1e1d, 1e2d, 1e3d,
+      1e4d, 1e5d, 1e6d, 1e7d, 1e8d, 1e9d, 1e10d, 1e11d, 1e12d, 1e13d,
+      1e14d, 1e15d, 1e16d, 1e17d, 1e18d, 1e19d, 1e20d, 1e21d, 1e22d };
+
+  /** the forbidden constructor */
+  private _NumberScanner() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the character at a given index of the source
+   *
+   * @param source
+   *          the source, either a {@code char[]}, a {@code byte[]}, or a
+   *          {@link java.lang.CharSequence}
+   * @param index
+   *          the index
+   * @return the character
+   */
+  private static final int __charAt(final Object source, final int index) {
+    if (source instanceof char[]) {
+      return ((char[]) source)[index];
+    }
+    if (source instanceof byte[]) {
+      return (((byte[]) source)[index] & 0xff);
+    }
+    return ((CharSequence) source).charAt(index);
+  }
+
+  /**
+   * Get the index of the first non-whitespace character
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   * @return the index of the first non-whitespace character, or
+   *         {@code end} if there is none
+   */
+  private static final int __skipStart(final Object source,
+      final int start, final int end) {
+    int index;
+
+    for (index = start; index < end; index++) {
+      if (_NumberScanner.__charAt(source, index) > ' ') {
+        break;
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Get the index directly after the last non-whitespace character
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   * @return the index directly after the last non-whitespace character
+   */
+  private static final int __skipEnd(final Object source,
+      final int start, final int end) {
+    int index;
+
+    for (index = end; index > start; index--) {
+      if (_NumberScanner.__charAt(source, index - 1) > ' ') {
+        break;
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Get the value of a digit
+   *
+   * @param chr
+   *          the character
+   * @param base
+   *          the base
+   * @return the value of the digit, or {@code -1} if {@code chr} is not a
+   *         digit of base {@code base}
+   */
+  private static final int __digit(final int chr, final int base) {
+    final int digit;
+
+    if ((chr >= '0') && (chr <= '9')) {
+      digit = (chr - '0');
+    } else {
+      if ((chr >= 'a') && (chr <= 'z')) {
+        digit = (chr - ('a' - 10));
+      } else {
+        if ((chr >= 'A') && (chr <= 'Z')) {
+          digit = (chr - ('A' - 10));
+        } else {
+          return (-1);
+        }
+      }
+    }
+    return ((digit < base) ? digit : (-1));
+  }
+
+  /**
+   * Scan a {@code long} from a range of a source.
+   *
+   * @param source
+   *          the source, either a {@code char[]}, a {@code byte[]}, or a
+   *          {@link java.lang.CharSequence}
+   * @param offset
+   *          the offset of the first character
+   * @param length
+   *          the number of characters
+   * @return the {@code long}, or {@link #FAILED_LONG} if the text could
+   *         not be scanned
+   */
+  static final long _scanLong(final Object source, final int offset,
+      final int length) {
+    final int end;
+    int index, chr, base, digit, digits;
+    long value, limit, multMin;
+    boolean negative, underscore;
+
+    index = _NumberScanner.__skipStart(source, offset, (offset + length));
+    end = _NumberScanner.__skipEnd(source, index, (offset + length));
+    if (index >= end) {
+      return _NumberScanner.FAILED_LONG;
+    }
+
+    negative = false;
+    chr = _NumberScanner.__charAt(source, index);
+    if ((chr == '-') || (chr == '+')) {
+      negative = (chr == '-');
+      if ((++index) >= end) {
+        return _NumberScanner.FAILED_LONG;
+      }
+      chr = _NumberScanner.__charAt(source, index);
+    }
+
+    base = 10;
+    if ((chr == '0') && ((index + 2) < end)) {
+      base = _PreparedString._getBase(_NumberScanner.__charAt(source,
+          index + 1));
+      if ((base == 0) || (base == 10)) {
+        base = 10;
+      } else {
+        index += 2;
+      }
+    }
+
+    // we accumulate the value negatively for decimal numbers, since the
+    // range of negative longs is larger than the range of positive ones;
+    // numbers with radix prefix need to fit into the positive range
+    if (base == 10) {
+      limit = (negative ? Long.MIN_VALUE : (-Long.MAX_VALUE));
+    } else {
+      limit = (-Long.MAX_VALUE);
+    }
+    multMin = (limit / base);
+
+    value = 0L;
+    digits = 0;
+    underscore = false;
+    for (; index < end; index++) {
+      chr = _NumberScanner.__charAt(source, index);
+      if (chr == '_') {
+        if (digits <= 0) {
+          return _NumberScanner.FAILED_LONG;
+        }
+        underscore = true;
+        continue;
+      }
+      digit = _NumberScanner.__digit(chr, base);
+      if ((digit < 0) || (value < multMin)) {
+        return _NumberScanner.FAILED_LONG;
+      }
+      value *= base;
+      if (value < (limit + digit)) {
+        return _NumberScanner.FAILED_LONG;
+      }
+      value -= digit;
+      digits++;
+      underscore = false;
+    }
+
+    if ((digits <= 0) || underscore) {
+      return _NumberScanner.FAILED_LONG;
+    }
+    return (negative ? value : (-value));
+  }
+
+  /**
+   * Scan a {@code double} from a range of a source. Only decimal numbers
+   * whose value can be computed exactly, i.e., whose significant digits
+   * fit into 53 bits and which need to be scaled by a power of ten of at
+   * most 22, are accepted. The result is then the correctly rounded
+   * product or quotient of two exact {@code double}s, which is exactly
+   * what {@link java.lang.Double#parseDouble(String)} would return.
+   *
+   * @param source
+   *          the source, either a {@code char[]}, a {@code byte[]}, or a
+   *          {@link java.lang.CharSequence}
+   * @param offset
+   *          the offset of the first character
+   * @param length
+   *          the number of characters
+   * @return the {@code double}, or {@link #FAILED_DOUBLE} if the text
+   *         could not be scanned
+   */
+  static final double _scanDouble(final Object source, final int offset,
+      final int length) {
+    final int end;
+    int index, chr, digits, exponent, scale, expDigits;
+    long mantissa;
+    double value;
+    boolean negative, negativeExponent, dot;
+
+    index = _NumberScanner.__skipStart(source, offset, (offset + length));
+    end = _NumberScanner.__skipEnd(source, index, (offset + length));
+    if (index >= end) {
+      return _NumberScanner.FAILED_DOUBLE;
+    }
+
+    negative = false;
+    chr = _NumberScanner.__charAt(source, index);
+    if ((chr == '-') || (chr == '+')) {
+      negative = (chr == '-');
+      if ((++index) >= end) {
+        return _NumberScanner.FAILED_DOUBLE;
+      }
+    }
+
+    mantissa = 0L;
+    digits = scale = 0;
+    dot = false;
+    chr = 0;
+    for (; index < end; index++) {
+      chr = _NumberScanner.__charAt(source, index);
+      if ((chr >= '0') && (chr <= '9')) {
+        mantissa = ((mantissa * 10L) + (chr - '0'));
+        if (mantissa > _NumberScanner.MAX_EXACT_MANTISSA) {
+          return _NumberScanner.FAILED_DOUBLE;
+        }
+        digits++;
+        if (dot) {
+          scale--;
+        }
+        continue;
+      }
+      if ((chr == '.') && (!dot)) {
+        dot = true;
+        continue;
+      }
+      break;
+    }
+
+    if (digits <= 0) {
+      return _NumberScanner.FAILED_DOUBLE;
+    }
+
+    exponent = 0;
+    if (index < end) {
+      if ((chr != 'e') && (chr != 'E')) {
+        return _NumberScanner.FAILED_DOUBLE;
+      }
+      if ((++index) >= end) {
+        return _NumberScanner.FAILED_DOUBLE;
+      }
+      negativeExponent = false;
+      chr = _NumberScanner.__charAt(source, index);
+      if ((chr == '-') || (chr == '+')) {
+        negativeExponent = (chr == '-');
+        if ((++index) >= end) {
+          return _NumberScanner.FAILED_DOUBLE;
+        }
+      }
+      expDigits = 0;
+      for (; index < end; index++) {
+        chr = _NumberScanner.__charAt(source, index);
+        if ((chr < '0') || (chr > '9') || ((++expDigits) > 4)) {
+          return _NumberScanner.FAILED_DOUBLE;
+        }
+        exponent = ((exponent * 10) + (chr - '0'));
+      }
+      if (expDigits <= 0) {
+        return _NumberScanner.FAILED_DOUBLE;
+      }
+      if (negativeExponent) {
+        exponent = (-exponent);
+      }
+    }
+
+    exponent += scale;
+    value = mantissa;
+    if ((mantissa != 0L) && (exponent != 0)) {
+      if (exponent > 0) {
+        if (exponent >= _NumberScanner.EXACT_POWERS.length) {
+          return _NumberScanner.FAILED_DOUBLE;
+        }
+        value *= _NumberScanner.EXACT_POWERS[exponent];
+      } else {
+        if ((-exponent) >= _NumberScanner.EXACT_POWERS.length) {
+          return _NumberScanner.FAILED_DOUBLE;
+        }
+        value /= _NumberScanner.EXACT_POWERS[-exponent];
+      }
+    }
+
+    return (negative ? (-value) : value);
+  }
+
+  /**
+   * Turn a range of a source into a string, which is needed if the fast
+   * scanning routines fail.
+   *
+   * @param source
+   *          the source, either a {@code char[]}, a {@code byte[]}, or a
+   *          {@link java.lang.CharSequence}
+   * @param offset
+   *          the offset of the first character
+   * @param length
+   *          the number of characters
+   * @param charset
+   *          the character set to decode {@code byte[]} sources, or
+   *          {@code null} for the platform's default character set
+   * @return the string
+   */
+  static final String _toString(final Object source, final int offset,
+      final int length, final Charset charset) {
+    if (source instanceof char[]) {
+      return String.valueOf(((char[]) source), offset, length);
+    }
+    if (source instanceof byte[]) {
+      if (charset == null) {
+        return new String(((byte[]) source), offset, length);
+      }
+      return new String(((byte[]) source), offset, length, charset);
+    }
+    return ((CharSequence) source).subSequence(offset, (offset + length))
+        .toString();
+  }
+}
@@ -53,13 +53,13 @@ public final class NoExponentNumberAppender extends
       }
     }
 
-    s = Double.toString(v);
     if ((v != v) || (v <= Double.NEGATIVE_INFINITY)
         || (v >= Double.POSITIVE_INFINITY)) {
-      return s;
+      return Double.toString(v);
     }
 
-    numberString1 = SimpleNumberAppender._simplify(v, s);
+    numberString1 = new _NumberString(
+        SimpleNumberAppender.INSTANCE.toString(v, textCase));
     if (!(numberString1.m_hasE)) {
       return numberString1.m_string;
     }
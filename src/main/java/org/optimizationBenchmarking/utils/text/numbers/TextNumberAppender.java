@@ -3,6 +3,7 @@ package org.optimizationBenchmarking.utils.text.numbers;
 import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
 import org.optimizationBenchmarking.utils.text.ETextCase;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.NumberChars;
 
 /**
  * A number appender which transforms numbers to text.
@@ -450,10 +451,11 @@ public final class TextNumberAppender extends NumberAppender {
   @Override
   public final ETextCase appendTo(final double v,
       final ETextCase textCase, final ITextOutput textOut) {
+    final char[] chars;
+    final int end;
     long num;
     double value, d;
-    int power, k;
-    String t;
+    int power, k, dot;
     _NumberStatus status;
 
     if (v < 0d) {
@@ -501,14 +503,24 @@ public final class TextNumberAppender extends NumberAppender {
       }
 
       // We try to obtain the power by first transforming the fraction into
-      // a string. If this works, we can circumvent strange precision
+      // characters. If this works, we can circumvent strange precision
       // errors such as that 3.141592d - 3d = 0.1415920...016 or something,
       // instead of 0.141592. If that does not work, we try to get the
       // fraction part by multiplying with powers of 10.
-      t = String.valueOf(value);
-      if (t.indexOf('E') >= 0) {
+      chars = new char[NumberChars.MAX_DOUBLE_CHARS];
+      end = NumberChars.formatDouble(value, chars, 0);
+      dot = (-1);
+      for (k = 0; k < end; k++) {
+        if (chars[k] == 'E') {
+          dot = (-1);
+          break;
+        }
+        if (chars[k] == '.') {
+          dot = k;
+        }
+      }
+      if (dot < 0) {
         // ok, no easy fallback
-        t = null;
 
         value -= num;
 
@@ -549,15 +561,12 @@ public final class TextNumberAppender extends NumberAppender {
 
       } else {
 
-        // good, we can use the string!
-        power = t.indexOf('.');
-        if (power < 0) {
-          return status.m_case;
+        // good, we can use the characters!
+        num = 0L;
+        for (k = (dot + 1); k < end; k++) {
+          num = ((num * 10L) + (chars[k] - '0'));
         }
-        t = t.substring(power + 1);
-        num = Long.parseLong(t);
-        power = t.length();
-        t = null;
+        power = (end - dot - 1);
       }
 
       if ((power / 3) >= TextNumberAppender.SCALES.length) {
@@ -2,9 +2,14 @@ package org.optimizationBenchmarking.utils.text.numbers;
 
 import org.optimizationBenchmarking.utils.text.ETextCase;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.NumberChars;
 
 /**
- * A number appender designed for XML data.
+ * A number appender designed for XML data. {@code double}s are written
+ * in their shortest form which parses back to the same value, directly
+ * into the output (see
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.NumberChars#formatDoubleCompact(double, char[], int)}
+ * ).
  */
 public final class XMLNumberAppender extends _PlainIntNumberAppender {
 
@@ -23,13 +28,27 @@ public final class XMLNumberAppender extends _PlainIntNumberAppender {
   @Override
   public final ETextCase appendTo(final double v,
       final ETextCase textCase, final ITextOutput textOut) {
-    textOut.append(this.toString(v, textCase));
+    if (v != v) {
+      textOut.append("NaN"); //$NON-NLS-1$
+    } else {
+      if (v <= Double.NEGATIVE_INFINITY) {
+        textOut.append("-INF"); //$NON-NLS-1$
+      } else {
+        if (v >= Double.POSITIVE_INFINITY) {
+          textOut.append("+INF"); //$NON-NLS-1$
+        } else {
+          NumberChars.appendDoubleCompact(v, textOut);
+        }
+      }
+    }
     return textCase.nextCase();
   }
 
   /** {@inheritDoc} */
   @Override
   public final String toString(final double v, final ETextCase textCase) {
+    final char[] chars;
+
     if (v != v) {
       return "NaN"; //$NON-NLS-1$
     }
@@ -40,7 +59,9 @@ public final class XMLNumberAppender extends _PlainIntNumberAppender {
       return "+INF"; //$NON-NLS-1$
     }
 
-    return SimpleNumberAppender._simplify(v, String.valueOf(v)).m_string;
+    chars = new char[NumberChars.MAX_DOUBLE_CHARS];
+    return String.valueOf(chars, 0,
+        NumberChars.formatDoubleCompact(v, chars, 0));
   }
 
   /**
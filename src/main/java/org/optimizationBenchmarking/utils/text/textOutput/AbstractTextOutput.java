@@ -105,13 +105,13 @@ public class AbstractTextOutput implements ITextOutput, IStreamEncoded {
   /** {@inheritDoc} */
   @Override
   public void append(final int v) {
-    this.append(Integer.toString(v));
+    NumberChars.appendLong(v, this);
   }
 
   /** {@inheritDoc} */
   @Override
   public void append(final long v) {
-    this.append(Long.toString(v));
+    NumberChars.appendLong(v, this);
   }
 
   /** {@inheritDoc} */
@@ -120,10 +120,19 @@ public class AbstractTextOutput implements ITextOutput, IStreamEncoded {
     this.append(Float.toString(v));
   }
 
-  /** {@inheritDoc} */
+  /**
+   * Append a {@code double}. This default implementation writes the
+   * shortest representation which parses back to {@code v} in the layout
+   * of {@link java.lang.Double#toString(double)} without creating a
+   * string.
+   *
+   * @param v
+   *          the {@code double}
+   * @see NumberChars#formatDouble(double, char[], int)
+   */
   @Override
   public void append(final double v) {
-    this.append(Double.toString(v));
+    NumberChars.appendDouble(v, this);
   }
 
   /** {@inheritDoc} */
@@ -23,40 +23,6 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
 public class MemoryTextOutput extends AbstractTextOutput implements
     CharSequence, ITextable {
 
-  /** the ten's digits */
-  private final static char[] DIGIT_TENS = { '0', '0', '0', '0', '0', '0',
-      '0', '0', '0', '0', '1', '1', '1', '1', '1', '1', '1', '1', '1',
-      '1', '2', '2', '2', '2', '2', '2', '2', '2', '2', '2', '3', '3',
-      '3', '3', '3', '3', '3', '3', '3', '3', '4', '4', '4', '4', '4',
-      '4', '4', '4', '4', '4', '5', '5', '5', '5', '5', '5', '5', '5',
-      '5', '5', '6', '6', '6', '6', '6', '6', '6', '6', '6', '6', '7',
-      '7', '7', '7', '7', '7', '7', '7', '7', '7', '8', '8', '8', '8',
-      '8', '8', '8', '8', '8', '8', '9', '9', '9', '9', '9', '9', '9',
-      '9', '9', '9', };
-
-  /** the one's digits */
-  private final static char[] DIGIT_ONES = { '0', '1', '2', '3', '4', '5',
-      '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8',
-      '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1',
-      '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4',
-      '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7',
-      '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0',
-      '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3',
-      '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6',
-      '7', '8', '9', };
-
-  /** the integer size table */
-  private static final int[] INT_SIZE_TABLE = { 9, 99, 999, 9999, 99999,
-      999999, 9999999, 99999999, 999999999, Integer.MAX_VALUE };
-
-  /** the minimum long */
-  private static final char[] LONG_MIN_VAL = //
-  Long.toString(Long.MIN_VALUE).toCharArray();
-
-  /** the minimum int */
-  private static final char[] INT_MIN_VAL = //
-  Integer.toString(Integer.MIN_VALUE).toCharArray();
-
   /** the data */
   private char[] m_data;
 
@@ -289,65 +255,17 @@ public class MemoryTextOutput extends AbstractTextOutput implements
   }
 
   /**
-   * This methods appends an integer to the memory buffer. It is basically
-   * a copy of the method {@code java.lang.Integer#toString()} which uses
-   * some package-private stuff. For performance reasons, we copy it here,
-   * slightly modified.
+   * This methods appends an integer to the memory buffer by writing its
+   * digits directly into the internal array.
    *
    * @param v
    *          the integer to add
    */
   @Override
   public final void append(final int v) {
-    int abs, end, q, r;
-    char sign;
-    char[] buf;
-
-    if (v < 0) {
-      if (v <= Integer.MIN_VALUE) {
-        this.append(MemoryTextOutput.INT_MIN_VAL, 0,
-            MemoryTextOutput.INT_MIN_VAL.length);
-        return;
-      }
-      abs = (-v);
-      sign = '-';
-      end = 2;
-    } else {
-      abs = v;
-      sign = 0;
-      end = 1;
-    }
-
-    for (final int z : MemoryTextOutput.INT_SIZE_TABLE) {
-      if (abs <= z) {
-        break;
-      }
-      end++;
-    }
-
-    end += this.__add(end);
-    buf = this.m_data;
-
-    while (abs >= 65536) {
-      q = (abs / 100);
-      r = (abs - ((q << 6) + (q << 5) + (q << 2)));
-      abs = q;
-      buf[--end] = MemoryTextOutput.DIGIT_ONES[r];
-      buf[--end] = MemoryTextOutput.DIGIT_TENS[r];
-    }
-
-    for (;;) {
-      q = ((abs * 52429) >>> (19));
-      r = (abs - ((q << 3) + (q << 1)));
-      buf[--end] = MemoryTextOutput.DIGIT_ONES[r];
-      if (q == 0) {
-        break;
-      }
-      abs = q;
-    }
-    if (sign != 0) {
-      buf[--end] = sign;
-    }
+    final int start;
+    start = this.__add(NumberChars.MAX_INT_CHARS);
+    this.m_size = NumberChars.formatInt(v, this.m_data, start);
   }
 
   /** {@inheritDoc} */
@@ -363,86 +281,34 @@ public class MemoryTextOutput extends AbstractTextOutput implements
   }
 
   /**
-   * This methods appends an integer to the memory buffer. It is basically
-   * a copy of the method {@code java.lang.Long#toString()} which uses some
-   * package-private stuff. For performance reasons, we copy it here,
-   * slightly modified.
+   * This methods appends a long to the memory buffer by writing its digits
+   * directly into the internal array.
    *
    * @param v
    *          the long to add
    */
   @Override
   public final void append(final long v) {
-    long abs, p, q;
-    int i, q2, end, r;
-    char sign;
-    char[] buf;
-
-    if (v < 0) {
-      if (v <= Long.MIN_VALUE) {
-        this.append(MemoryTextOutput.LONG_MIN_VAL, 0,
-            MemoryTextOutput.LONG_MIN_VAL.length);
-        return;
-      }
-      abs = (-v);
-      sign = '-';
-      end = 1;
-    } else {
-      abs = v;
-      sign = 0;
-      end = 0;
-    }
-
-    p = 10L;
-    outer: {
-      for (i = 1; i < 19; i++) {
-        if (abs < p) {
-          break outer;
-        }
-        p *= 10L;
-      }
-      i = 19;
-    }
-    end += i;
-
-    end += this.__add(end);
-    buf = this.m_data;
-
-    // Get 2 digits/iteration using longs until quotient fits into an int
-    while (abs > Integer.MAX_VALUE) {
-      q = (abs / 100L);
-      // really: r = i - (q * 100);
-      r = (int) (abs - ((q << 6) + (q << 5) + (q << 2)));
-      abs = q;
-      buf[--end] = MemoryTextOutput.DIGIT_ONES[r];
-      buf[--end] = MemoryTextOutput.DIGIT_TENS[r];
-    }
-
-    // Get 2 digits/iteration using ints
-    int i2 = ((int) abs);
-    while (i2 >= 65536) {
-      q2 = i2 / 100;
-      // really: r = i2 - (q * 100);
-      r = i2 - ((q2 << 6) + (q2 << 5) + (q2 << 2));
-      i2 = q2;
-      buf[--end] = MemoryTextOutput.DIGIT_ONES[r];
-      buf[--end] = MemoryTextOutput.DIGIT_TENS[r];
-    }
+    final int start;
+    start = this.__add(NumberChars.MAX_LONG_CHARS);
+    this.m_size = NumberChars.formatLong(v, this.m_data, start);
+  }
 
-    // Fall thru to fast mode for smaller numbers
-    // assert(i2 <= 65536, i2);
-    for (;;) {
-      q2 = (i2 * 52429) >>> (16 + 3);
-      r = i2 - ((q2 << 3) + (q2 << 1)); // r = i2-(q2*10) ...
-      buf[--end] = MemoryTextOutput.DIGIT_ONES[r];
-      if (q2 == 0) {
-        break;
-      }
-      i2 = q2;
-    }
-    if (sign != 0) {
-      buf[--end] = sign;
-    }
+  /**
+   * This methods appends a double to the memory buffer by writing the
+   * shortest representation which parses back to {@code v} directly into
+   * the internal array, in the layout of
+   * {@link java.lang.Double#toString(double)}.
+   *
+   * @param v
+   *          the double to add
+   * @see NumberChars#formatDouble(double, char[], int)
+   */
+  @Override
+  public final void append(final double v) {
+    final int start;
+    start = this.__add(NumberChars.MAX_DOUBLE_CHARS);
+    this.m_size = NumberChars.formatDouble(v, this.m_data, start);
   }
 
   /** {@inheritDoc} */
@@ -0,0 +1,821 @@
+package org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * <p>
+ * Allocation-free conversion of numbers to characters. All methods of
+ * this class write their output directly into a {@code char[]} and
+ * return the index of the first character after the output, or append
+ * it to an
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}
+ * via a thread-local scratch buffer.
+ * </p>
+ * <p>
+ * {@code long}s and {@code int}s are converted two digits at a time,
+ * as done in {@link java.lang.Long#toString(long)}.
+ * </p>
+ * <p>
+ * {@code double}s are converted to the shortest sequence of decimal
+ * digits which still parses back to exactly the same {@code double}
+ * value, using the Ryu algorithm by Ulf Adams (&quot;Ry&#363;: Fast
+ * Float-to-String Conversion&quot;, PLDI 2018). If there are several
+ * shortest representations, the one closest to the exact binary value is
+ * used. Like {@link java.lang.Double#toString(double)} in Java&nbsp;19 and
+ * later, {@link #formatDouble(double, char[], int)} uses at least two
+ * digits. The 128&nbsp;bit power-of-five tables needed by the algorithm are
+ * computed once, when the first {@code double} is converted.
+ * {@link #formatDouble(double, char[], int)} uses the same layout as
+ * {@link java.lang.Double#toString(double)}, whereas
+ * {@link #formatDoubleCompact(double, char[], int)} omits empty
+ * fractions (&quot;{@code 1E10}&quot; instead of &quot;{@code 1.0E10}
+ * &quot;).
+ * </p>
+ */
+public final class NumberChars {
+
+  /** the maximum number of characters needed to represent a {@code long} */
+  public static final int MAX_LONG_CHARS = 20;
+
+  /** the maximum number of characters needed to represent an {@code int} */
+  public static final int MAX_INT_CHARS = 11;
+
+  /**
+   * the maximum number of characters needed to represent a {@code double}
+   */
+  public static final int MAX_DOUBLE_CHARS = 25;
+
+  /** the ten's digits */
+  private final static char[] DIGIT_TENS = { '0', '0', '0', '0', '0', '0',
+      '0', '0', '0', '0', '1', '1', '1', '1', '1', '1', '1', '1', '1',
+      '1', '2', '2', '2', '2', '2', '2', '2', '2', '2', '2', '3', '3',
+      '3', '3', '3', '3', '3', '3', '3', '3', '4', '4', '4', '4', '4',
+      '4', '4', '4', '4', '4', '5', '5', '5', '5', '5', '5', '5', '5',
+      '5', '5', '6', '6', '6', '6', '6', '6', '6', '6', '6', '6', '7',
+      '7', '7', '7', '7', '7', '7', '7', '7', '7', '8', '8', '8', '8',
+      '8', '8', '8', '8', '8', '8', '9', '9', '9', '9', '9', '9', '9',
+      '9', '9', '9', };
+
+  /** the one's digits */
+  private final static char[] DIGIT_ONES = { '0', '1', '2', '3', '4', '5',
+      '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8',
+      '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1',
+      '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4',
+      '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7',
+      '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0',
+      '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3',
+      '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6',
+      '7', '8', '9', };
+
+  /** the minimum long */
+  private static final char[] LONG_MIN_VAL = //
+  Long.toString(Long.MIN_VALUE).toCharArray();
+
+  /** the minimum int */
+  private static final char[] INT_MIN_VAL = //
+  Integer.toString(Integer.MIN_VALUE).toCharArray();
+
+  /** the not-a-number string */
+  private static final char[] NAN = { 'N', 'a', 'N' };
+
+  /** the infinity string */
+  private static final char[] INFINITY = { 'I', 'n', 'f', 'i', 'n', 'i',
+      't', 'y' };
+
+  /** the number of explicitly stored mantissa bits of a {@code double} */
+  private static final int DOUBLE_MANTISSA_BITS = 52;
+
+  /** the mask for the mantissa bits */
+  private static final long DOUBLE_MANTISSA_MASK = //
+  ((1L << NumberChars.DOUBLE_MANTISSA_BITS) - 1L);
+
+  /** the mask for the exponent bits */
+  private static final int DOUBLE_EXPONENT_MASK = 0x7ff;
+
+  /** the exponent bias */
+  private static final int DOUBLE_EXPONENT_BIAS = 1023;
+
+  /** the thread-local scratch buffer for appending to text outputs */
+  private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+    /** {@inheritDoc} */
+    @Override
+    protected final char[] initialValue() {
+      return new char[NumberChars.MAX_DOUBLE_CHARS];
+    }
+  };
+
+  /** the forbidden constructor */
+  private NumberChars() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the number of decimal digits of a non-negative {@code long}
+   *
+   * @param v
+   *          the value
+   * @return the number of digits
+   */
+  private static final int __digits(final long v) {
+    long p;
+    int i;
+
+    p = 10L;
+    for (i = 1; i < 19; i++) {
+      if (v < p) {
+        return i;
+      }
+      p *= 10L;
+    }
+    return 19;
+  }
+
+  /**
+   * Write the decimal digits of a non-negative {@code long} into a
+   * character array, ending right before index {@code end}.
+   *
+   * @param v
+   *          the value, must not be negative
+   * @param dest
+   *          the destination array
+   * @param end
+   *          the exclusive end index
+   */
+  private static final void __writeDigits(final long v, final char[] dest,
+      final int end) {
+    long abs, q;
+    int i2, q2, r, pos;
+
+    abs = v;
+    pos = end;
+
+    // Get 2 digits/iteration using longs until quotient fits into an int
+    while (abs > Integer.MAX_VALUE) {
+      q = (abs / 100L);
+      // really: r = i - (q * 100);
+      r = (int) (abs - ((q << 6) + (q << 5) + (q << 2)));
+      abs = q;
+      dest[--pos] = NumberChars.DIGIT_ONES[r];
+      dest[--pos] = NumberChars.DIGIT_TENS[r];
+    }
+
+    // Get 2 digits/iteration using ints
+    i2 = ((int) abs);
+    while (i2 >= 65536) {
+      q2 = (i2 / 100);
+      // really: r = i2 - (q * 100);
+      r = i2 - ((q2 << 6) + (q2 << 5) + (q2 << 2));
+      i2 = q2;
+      dest[--pos] = NumberChars.DIGIT_ONES[r];
+      dest[--pos] = NumberChars.DIGIT_TENS[r];
+    }
+
+    // Fall thru to fast mode for smaller numbers
+    for (;;) {
+      q2 = ((i2 * 52429) >>> (16 + 3));
+      r = i2 - ((q2 << 3) + (q2 << 1)); // r = i2-(q2*10) ...
+      dest[--pos] = NumberChars.DIGIT_ONES[r];
+      if (q2 == 0) {
+        break;
+      }
+      i2 = q2;
+    }
+  }
+
+  /**
+   * Write a {@code long} to a character array. At most
+   * {@link #MAX_LONG_CHARS} characters will be written.
+   *
+   * @param v
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @return the index right after the last character written
+   */
+  public static final int formatLong(final long v, final char[] dest,
+      final int start) {
+    final long abs;
+    int end;
+
+    end = start;
+    if (v < 0L) {
+      if (v <= Long.MIN_VALUE) {
+        System.arraycopy(NumberChars.LONG_MIN_VAL, 0, dest, start,
+            NumberChars.LONG_MIN_VAL.length);
+        return (start + NumberChars.LONG_MIN_VAL.length);
+      }
+      abs = (-v);
+      dest[end++] = '-';
+    } else {
+      abs = v;
+    }
+
+    end += NumberChars.__digits(abs);
+    NumberChars.__writeDigits(abs, dest, end);
+    return end;
+  }
+
+  /**
+   * Write an {@code int} to a character array. At most
+   * {@link #MAX_INT_CHARS} characters will be written.
+   *
+   * @param v
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @return the index right after the last character written
+   */
+  public static final int formatInt(final int v, final char[] dest,
+      final int start) {
+    if (v <= Integer.MIN_VALUE) {
+      System.arraycopy(NumberChars.INT_MIN_VAL, 0, dest, start,
+          NumberChars.INT_MIN_VAL.length);
+      return (start + NumberChars.INT_MIN_VAL.length);
+    }
+    return NumberChars.formatLong(v, dest, start);
+  }
+
+  /**
+   * Write a {@code double} to a character array in the same layout as
+   * {@link java.lang.Double#toString(double)}, but using the shortest
+   * digit sequence which parses back to {@code v}. At most
+   * {@link #MAX_DOUBLE_CHARS} characters will be written.
+   *
+   * @param v
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @return the index right after the last character written
+   */
+  public static final int formatDouble(final double v, final char[] dest,
+      final int start) {
+    return NumberChars.__formatDouble(v, dest, start, false);
+  }
+
+  /**
+   * Write a {@code double} to a character array like
+   * {@link #formatDouble(double, char[], int)}, but without empty
+   * fractions, i.e., &quot;{@code 1}&quot; instead of &quot;{@code 1.0}
+   * &quot; and &quot;{@code 1E10}&quot; instead of &quot;
+   * {@code 1.0E10}&quot;. At most {@link #MAX_DOUBLE_CHARS} characters
+   * will be written.
+   *
+   * @param v
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @return the index right after the last character written
+   */
+  public static final int formatDoubleCompact(final double v,
+      final char[] dest, final int start) {
+    return NumberChars.__formatDouble(v, dest, start, true);
+  }
+
+  /**
+   * Append a {@code long} to a text output without creating a string.
+   *
+   * @param v
+   *          the value
+   * @param textOut
+   *          the text output
+   */
+  public static final void appendLong(final long v,
+      final ITextOutput textOut) {
+    final char[] buffer;
+    buffer = NumberChars.BUFFER.get();
+    textOut.append(buffer, 0, NumberChars.formatLong(v, buffer, 0));
+  }
+
+  /**
+   * Append a {@code double} to a text output without creating a string,
+   * using the layout of {@link #formatDouble(double, char[], int)}.
+   *
+   * @param v
+   *          the value
+   * @param textOut
+   *          the text output
+   */
+  public static final void appendDouble(final double v,
+      final ITextOutput textOut) {
+    final char[] buffer;
+    buffer = NumberChars.BUFFER.get();
+    textOut.append(buffer, 0, NumberChars.formatDouble(v, buffer, 0));
+  }
+
+  /**
+   * Append a {@code double} to a text output without creating a string,
+   * using the layout of {@link #formatDoubleCompact(double, char[], int)}
+   * .
+   *
+   * @param v
+   *          the value
+   * @param textOut
+   *          the text output
+   */
+  public static final void appendDoubleCompact(final double v,
+      final ITextOutput textOut) {
+    final char[] buffer;
+    buffer = NumberChars.BUFFER.get();
+    textOut.append(buffer, 0,
+        NumberChars.formatDoubleCompact(v, buffer, 0));
+  }
+
+  /**
+   * Write a {@code double} to a character array.
+   *
+   * @param v
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @param compact
+   *          should empty fractions be omitted?
+   * @return the index right after the last character written
+   */
+  private static final int __formatDouble(final double v,
+      final char[] dest, final int start, final boolean compact) {
+    final long bits, ieeeMantissa;
+    final int ieeeExponent;
+    int end;
+
+    if (v != v) {
+      System.arraycopy(NumberChars.NAN, 0, dest, start, 3);
+      return (start + 3);
+    }
+
+    end = start;
+    bits = Double.doubleToRawLongBits(v);
+    if (bits < 0L) {
+      dest[end++] = '-';
+    }
+
+    ieeeMantissa = (bits & NumberChars.DOUBLE_MANTISSA_MASK);
+    ieeeExponent = ((int) ((bits >>> NumberChars.DOUBLE_MANTISSA_BITS) & //
+    NumberChars.DOUBLE_EXPONENT_MASK));
+
+    if (ieeeExponent == NumberChars.DOUBLE_EXPONENT_MASK) {
+      System.arraycopy(NumberChars.INFINITY, 0, dest, end, 8);
+      return (end + 8);
+    }
+
+    if ((ieeeExponent == 0) && (ieeeMantissa == 0L)) {
+      dest[end++] = '0';
+      if (!compact) {
+        dest[end++] = '.';
+        dest[end++] = '0';
+      }
+      return end;
+    }
+
+    return _Ryu._format(ieeeMantissa, ieeeExponent, dest, end, compact);
+  }
+
+  /**
+   * Write a decimal number {@code significand*10^exponent10} in the
+   * layout of {@link java.lang.Double#toString(double)}.
+   *
+   * @param significand
+   *          the positive decimal significand
+   * @param exponent10
+   *          the decimal exponent
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index where to put the first character
+   * @param compact
+   *          should empty fractions be omitted?
+   * @return the index right after the last character written
+   */
+  static final int _layout(final long significand, final int exponent10,
+      final char[] dest, final int start, final boolean compact) {
+    final int length, exponent;
+    int end, i;
+
+    end = start;
+    length = NumberChars.__digits(significand);
+    // the exponent of the first digit, i.e., v = d.ddd * 10^exponent
+    exponent = (exponent10 + length - 1);
+
+    if ((exponent >= -3) && (exponent < 7)) {
+      if (exponent < 0) {
+        // 0.000ddd
+        dest[end++] = '0';
+        dest[end++] = '.';
+        for (i = exponent; (++i) < 0;) {
+          dest[end++] = '0';
+        }
+        end += length;
+        NumberChars.__writeDigits(significand, dest, end);
+        return end;
+      }
+
+      if (length <= (exponent + 1)) {
+        // ddd000 or ddd000.0
+        NumberChars.__writeDigits(significand, dest, end + length);
+        end += length;
+        for (i = (exponent + 1 - length); (--i) >= 0;) {
+          dest[end++] = '0';
+        }
+        if (!compact) {
+          dest[end++] = '.';
+          dest[end++] = '0';
+        }
+        return end;
+      }
+
+      // ddd.ddd: write the digits one position to the right and move the
+      // integer part in front of the dot
+      NumberChars.__writeDigits(significand, dest, end + length + 1);
+      System.arraycopy(dest, end + 1, dest, end, exponent + 1);
+      dest[end + exponent + 1] = '.';
+      return (end + length + 1);
+    }
+
+    // d.dddEx
+    NumberChars.__writeDigits(significand, dest, end + length + 1);
+    dest[end] = dest[end + 1];
+    if (length > 1) {
+      dest[end + 1] = '.';
+      end += (length + 1);
+    } else {
+      end++;
+      if (!compact) {
+        dest[end++] = '.';
+        dest[end++] = '0';
+      }
+    }
+    dest[end++] = 'E';
+    return NumberChars.formatInt(exponent, dest, end);
+  }
+
+  /**
+   * The Ryu algorithm for finding the shortest decimal representation of
+   * a {@code double}. The tables are only initialized when this class is
+   * first used.
+   */
+  private static final class _Ryu {
+
+    /** the bit count of the power of five table entries */
+    private static final int POW5_BITCOUNT = 125;
+
+    /** the bit count of the inverse power of five table entries */
+    private static final int POW5_INV_BITCOUNT = 125;
+
+    /** the size of the power of five table */
+    private static final int POW5_TABLE_SIZE = 326;
+
+    /** the size of the inverse power of five table */
+    private static final int POW5_INV_TABLE_SIZE = 342;
+
+    /** the low 64 bits of the power of five table entries */
+    private static final long[] POW5_LOW;
+    /** the high bits of the power of five table entries */
+    private static final long[] POW5_HIGH;
+    /** the low 64 bits of the inverse power of five table entries */
+    private static final long[] POW5_INV_LOW;
+    /** the high bits of the inverse power of five table entries */
+    private static final long[] POW5_INV_HIGH;
+
+    static {
+      final BigInteger lowMask;
+      BigInteger pow, value;
+      int i, length;
+
+      lowMask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+      POW5_LOW = new long[_Ryu.POW5_TABLE_SIZE];
+      POW5_HIGH = new long[_Ryu.POW5_TABLE_SIZE];
+      POW5_INV_LOW = new long[_Ryu.POW5_INV_TABLE_SIZE];
+      POW5_INV_HIGH = new long[_Ryu.POW5_INV_TABLE_SIZE];
+
+      pow = BigInteger.ONE;
+      for (i = 0; i < _Ryu.POW5_INV_TABLE_SIZE; i++) {
+        length = pow.bitLength();
+        if (i < _Ryu.POW5_TABLE_SIZE) {
+          value = ((length > _Ryu.POW5_BITCOUNT) ? //
+          pow.shiftRight(length - _Ryu.POW5_BITCOUNT)//
+              : pow.shiftLeft(_Ryu.POW5_BITCOUNT - length));
+          _Ryu.POW5_LOW[i] = value.and(lowMask).longValue();
+          _Ryu.POW5_HIGH[i] = value.shiftRight(64).longValue();
+        }
+        value = BigInteger.ONE
+            .shiftLeft((length - 1) + _Ryu.POW5_INV_BITCOUNT).divide(pow)
+            .add(BigInteger.ONE);
+        _Ryu.POW5_INV_LOW[i] = value.and(lowMask).longValue();
+        _Ryu.POW5_INV_HIGH[i] = value.shiftRight(64).longValue();
+        pow = pow.shiftLeft(2).add(pow);
+      }
+    }
+
+    /**
+     * Compute {@code floor(log10(2^e))} for {@code 0<=e<=1650}
+     *
+     * @param e
+     *          the exponent
+     * @return the result
+     */
+    private static final int __log10Pow2(final int e) {
+      return ((e * 78913) >>> 18);
+    }
+
+    /**
+     * Compute {@code floor(log10(5^e))} for {@code 0<=e<=2620}
+     *
+     * @param e
+     *          the exponent
+     * @return the result
+     */
+    private static final int __log10Pow5(final int e) {
+      return ((e * 732923) >>> 20);
+    }
+
+    /**
+     * Compute the number of bits of {@code 5^e}, i.e.,
+     * {@code ceil(log2(5^e))} for {@code e>0} and {@code 1} for
+     * {@code e=0}.
+     *
+     * @param e
+     *          the exponent
+     * @return the number of bits
+     */
+    private static final int __pow5bits(final int e) {
+      return (((e * 1217359) >>> 19) + 1);
+    }
+
+    /**
+     * Check whether {@code value} is divisible by {@code 5^p}
+     *
+     * @param value
+     *          the value
+     * @param p
+     *          the power
+     * @return {@code true} if {@code value} is divisible by {@code 5^p}
+     */
+    private static final boolean __multipleOfPowerOf5(final long value,
+        final int p) {
+      long v;
+      int count;
+
+      v = value;
+      for (count = 0; count < p; count++) {
+        if ((v % 5L) != 0L) {
+          return false;
+        }
+        v /= 5L;
+      }
+      return true;
+    }
+
+    /**
+     * Compute the high 64 bits of the unsigned 128 bit product of two
+     * {@code long}s.
+     *
+     * @param a
+     *          the first factor
+     * @param b
+     *          the second factor
+     * @return the high 64 bits of the product
+     */
+    private static final long __multiplyHigh(final long a, final long b) {
+      final long aLow, aHigh, bLow, bHigh, lowHigh, highLow, cross;
+
+      aLow = (a & 0xffffffffL);
+      aHigh = (a >>> 32);
+      bLow = (b & 0xffffffffL);
+      bHigh = (b >>> 32);
+      lowHigh = (aLow * bHigh);
+      highLow = (aHigh * bLow);
+      cross = (((aLow * bLow) >>> 32) + (highLow & 0xffffffffL) + lowHigh);
+      return ((aHigh * bHigh) + (highLow >>> 32) + (cross >>> 32));
+    }
+
+    /**
+     * Compute {@code (m * mul) >> j}, where {@code mul} is a 128 bit
+     * number and {@code 64<j<128}.
+     *
+     * @param m
+     *          the factor, at most 55 bits wide
+     * @param mulLow
+     *          the low 64 bits of {@code mul}
+     * @param mulHigh
+     *          the high bits of {@code mul}
+     * @param j
+     *          the shift
+     * @return the result
+     */
+    private static final long __mulShift(final long m, final long mulLow,
+        final long mulHigh, final int j) {
+      final long high1, low2, high2, sumLow, sumHigh;
+      final int shift;
+
+      high1 = _Ryu.__multiplyHigh(m, mulLow);
+      low2 = (m * mulHigh);
+      high2 = _Ryu.__multiplyHigh(m, mulHigh);
+      sumLow = (high1 + low2);
+      sumHigh = (high2 + //
+      (((sumLow ^ Long.MIN_VALUE) < (high1 ^ Long.MIN_VALUE)) ? 1L : 0L));
+      shift = (j - 64);
+      return ((sumLow >>> shift) | (sumHigh << (64 - shift)));
+    }
+
+    /**
+     * Compute the shortest decimal representation of a non-zero, finite
+     * {@code double} and write it to a character array.
+     *
+     * @param ieeeMantissa
+     *          the mantissa bits
+     * @param ieeeExponent
+     *          the exponent bits
+     * @param dest
+     *          the destination array
+     * @param start
+     *          the index where to put the first character
+     * @param compact
+     *          should empty fractions be omitted?
+     * @return the index right after the last character written
+     */
+    static final int _format(final long ieeeMantissa,
+        final int ieeeExponent, final char[] dest, final int start,
+        final boolean compact) {
+      final int e2, mmShift, e10;
+      final long m2, mv, mp, mm, mulLow, mulHigh;
+      final boolean acceptBounds;
+      long vr, vp, vm, vpDiv10, vmDiv10, vrDiv10, vpDiv100, vmDiv100, vrDiv100, output;
+      int q, i, k, j, removed, lastRemovedDigit, vrMod10, exponent;
+      BigDecimal exact;
+      boolean vmIsTrailingZeros, vrIsTrailingZeros, roundUp;
+
+      if (ieeeExponent == 0) {
+        e2 = (1 - NumberChars.DOUBLE_EXPONENT_BIAS
+            - NumberChars.DOUBLE_MANTISSA_BITS - 2);
+        m2 = ieeeMantissa;
+      } else {
+        e2 = (ieeeExponent - NumberChars.DOUBLE_EXPONENT_BIAS
+            - NumberChars.DOUBLE_MANTISSA_BITS - 2);
+        m2 = ((1L << NumberChars.DOUBLE_MANTISSA_BITS) | ieeeMantissa);
+      }
+      acceptBounds = ((m2 & 1L) == 0L);
+
+      // the interval of valid decimal representations
+      mv = (m2 << 2);
+      mmShift = (((ieeeMantissa != 0L) || (ieeeExponent <= 1)) ? 1 : 0);
+      mp = (mv + 2L);
+      mm = (mv - 1L - mmShift);
+
+      // convert to a decimal power base
+      vmIsTrailingZeros = vrIsTrailingZeros = false;
+      if (e2 >= 0) {
+        q = (_Ryu.__log10Pow2(e2) - ((e2 > 3) ? 1 : 0));
+        e10 = q;
+        k = (_Ryu.POW5_INV_BITCOUNT + _Ryu.__pow5bits(q) - 1);
+        i = ((-e2) + q + k);
+        mulLow = _Ryu.POW5_INV_LOW[q];
+        mulHigh = _Ryu.POW5_INV_HIGH[q];
+        vr = _Ryu.__mulShift(mv, mulLow, mulHigh, i);
+        vp = _Ryu.__mulShift(mp, mulLow, mulHigh, i);
+        vm = _Ryu.__mulShift(mm, mulLow, mulHigh, i);
+        if (q <= 21) {
+          // Only one of mp, mv, and mm can be a multiple of 5, if any.
+          if ((mv % 5L) == 0L) {
+            vrIsTrailingZeros = _Ryu.__multipleOfPowerOf5(mv, q);
+          } else {
+            if (acceptBounds) {
+              vmIsTrailingZeros = _Ryu.__multipleOfPowerOf5(mm, q);
+            } else {
+              if (_Ryu.__multipleOfPowerOf5(mp, q)) {
+                vp--;
+              }
+            }
+          }
+        }
+      } else {
+        q = (_Ryu.__log10Pow5(-e2) - (((-e2) > 1) ? 1 : 0));
+        e10 = (q + e2);
+        i = ((-e2) - q);
+        k = (_Ryu.__pow5bits(i) - _Ryu.POW5_BITCOUNT);
+        j = (q - k);
+        mulLow = _Ryu.POW5_LOW[i];
+        mulHigh = _Ryu.POW5_HIGH[i];
+        vr = _Ryu.__mulShift(mv, mulLow, mulHigh, j);
+        vp = _Ryu.__mulShift(mp, mulLow, mulHigh, j);
+        vm = _Ryu.__mulShift(mm, mulLow, mulHigh, j);
+        if (q <= 1) {
+          // mv = 4 * m2, so it always has at least two trailing 0 bits.
+          vrIsTrailingZeros = true;
+          if (acceptBounds) {
+            // mm has 1 trailing 0 bit iff mmShift == 1.
+            vmIsTrailingZeros = (mmShift == 1);
+          } else {
+            // mp = mv + 2, so it always has at least one trailing 0 bit.
+            vp--;
+          }
+        } else {
+          if (q < 63) {
+            vrIsTrailingZeros = ((mv & ((1L << q) - 1L)) == 0L);
+          }
+        }
+      }
+
+      // find the shortest decimal representation in the interval
+      removed = 0;
+      if (vmIsTrailingZeros || vrIsTrailingZeros) {
+        // the general case, which happens rarely
+        lastRemovedDigit = 0;
+        for (;;) {
+          vpDiv10 = (vp / 10L);
+          vmDiv10 = (vm / 10L);
+          if (vpDiv10 <= vmDiv10) {
+            break;
+          }
+          vrDiv10 = (vr / 10L);
+          vmIsTrailingZeros &= ((vm - (10L * vmDiv10)) == 0L);
+          vrIsTrailingZeros &= (lastRemovedDigit == 0);
+          lastRemovedDigit = ((int) (vr - (10L * vrDiv10)));
+          vr = vrDiv10;
+          vp = vpDiv10;
+          vm = vmDiv10;
+          removed++;
+        }
+        if (vmIsTrailingZeros) {
+          for (;;) {
+            vmDiv10 = (vm / 10L);
+            if ((vm - (10L * vmDiv10)) != 0L) {
+              break;
+            }
+            vpDiv10 = (vp / 10L);
+            vrDiv10 = (vr / 10L);
+            vrIsTrailingZeros &= (lastRemovedDigit == 0);
+            lastRemovedDigit = ((int) (vr - (10L * vrDiv10)));
+            vr = vrDiv10;
+            vp = vpDiv10;
+            vm = vmDiv10;
+            removed++;
+          }
+        }
+        if (vrIsTrailingZeros && (lastRemovedDigit == 5)
+            && ((vr & 1L) == 0L)) {
+          // round to even if the exact number is .....50..0.
+          lastRemovedDigit = 4;
+        }
+        roundUp = (((vr == vm) && ((!acceptBounds) || (!vmIsTrailingZeros))) || //
+        (lastRemovedDigit >= 5));
+      } else {
+        // the common case
+        roundUp = false;
+        vpDiv100 = (vp / 100L);
+        vmDiv100 = (vm / 100L);
+        if (vpDiv100 > vmDiv100) {
+          // remove two digits at a time
+          vrDiv100 = (vr / 100L);
+          roundUp = ((vr - (100L * vrDiv100)) >= 50L);
+          vr = vrDiv100;
+          vp = vpDiv100;
+          vm = vmDiv100;
+          removed = 2;
+        }
+        for (;;) {
+          vpDiv10 = (vp / 10L);
+          vmDiv10 = (vm / 10L);
+          if (vpDiv10 <= vmDiv10) {
+            break;
+          }
+          vrDiv10 = (vr / 10L);
+          vrMod10 = ((int) (vr - (10L * vrDiv10)));
+          roundUp = (vrMod10 >= 5);
+          vr = vrDiv10;
+          vp = vpDiv10;
+          vm = vmDiv10;
+          removed++;
+        }
+        roundUp |= (vr == vm);
+      }
+
+      output = (roundUp ? (vr + 1L) : vr);
+      exponent = (e10 + removed);
+      if ((output < 10L) && (ieeeExponent == 0) && (!compact)) {
+        // Like java.lang.Double#toString, we use the closest two-digit
+        // decimal if a single digit suffices. This only makes a
+        // difference for the widely-spaced sub-normal numbers.
+        exact = new BigDecimal(Double.longBitsToDouble(ieeeMantissa))
+            .round(new MathContext(2, RoundingMode.HALF_EVEN));
+        output = exact.unscaledValue().longValue();
+        exponent = (-exact.scale());
+      }
+
+      return NumberChars._layout(output, exponent, dest, start, compact);
+    }
+  }
+}
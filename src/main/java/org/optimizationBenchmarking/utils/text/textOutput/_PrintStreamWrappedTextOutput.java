@@ -120,7 +120,7 @@ final class _PrintStreamWrappedTextOutput extends
   /** {@inheritDoc} */
   @Override
   public final void append(final double v) {
-    this.m_out.print(v);
+    NumberChars.appendDouble(v, this);
   }
 
   /** {@inheritDoc} */
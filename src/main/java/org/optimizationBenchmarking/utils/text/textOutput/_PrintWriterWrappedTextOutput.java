@@ -111,7 +111,7 @@ final class _PrintWriterWrappedTextOutput extends
   /** {@inheritDoc} */
   @Override
   public final void append(final double v) {
-    this.m_out.print(v);
+    NumberChars.appendDouble(v, this);
   }
 
   /** {@inheritDoc} */
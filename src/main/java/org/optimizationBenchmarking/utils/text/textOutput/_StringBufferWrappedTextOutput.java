@@ -97,7 +97,7 @@ final class _StringBufferWrappedTextOutput extends
   /** {@inheritDoc} */
   @Override
   public final void append(final double v) {
-    this.m_out.append(v);
+    NumberChars.appendDouble(v, this);
   }
 
   /** {@inheritDoc} */
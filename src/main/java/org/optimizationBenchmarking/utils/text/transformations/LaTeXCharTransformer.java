@@ -48,10 +48,10 @@ public final class LaTeXCharTransformer extends LookupCharTransformer {
 
     if (form == null) {
       return new _LaTeXLookupTransformedTextOutput(out, this.m_data,
-          this.m_state);
+          this.m_state, this.m_ascii);
     }
     return new _LaTeXNormalizingLookupTransformedTextOutput(out,
-        this.m_data, this.m_state, form);
+        this.m_data, this.m_state, this.m_ascii, form);
   }
 
   /** the internal loader class */
@@ -66,6 +66,13 @@ public class LookupCharTransformer extends CharTransformer {
   /** the characters that can be written directly to the output */
   final byte[] m_state;
 
+  /**
+   * the dense replacement table for the ASCII characters: {@code null}
+   * entries are copied directly, otherwise the elements starting at index
+   * {@code 1} replace the character
+   */
+  final char[][] m_ascii;
+
   /**
    * instantiate
    *
@@ -237,6 +244,9 @@ public class LookupCharTransformer extends CharTransformer {
     } else {
       this.m_data = LookupCharTransformer.DEF_DATA;
     }
+
+    this.m_ascii = LookupCharTransformer.__makeASCIITable(this.m_state,
+        this.m_data);
   }
 
   /** {@inheritDoc} */
@@ -246,10 +256,100 @@ public class LookupCharTransformer extends CharTransformer {
 
     if (form == null) {
       return new _LookupTransformedTextOutput(out, this.m_data,
-          this.m_state);
+          this.m_state, this.m_ascii);
     }
     return new _NormalizingLookupTransformedTextOutput(out, this.m_data,
-        this.m_state, form);
+        this.m_state, this.m_ascii, form);
+  }
+
+  /**
+   * resolve a given character
+   *
+   * @param transform
+   *          the sorted lookup data
+   * @param ch
+   *          the character to resolve
+   * @return the resolved sequence, or {@code null} if none was found
+   */
+  static final char[] _resolve(final char[][] transform, final char ch) {
+    char[] replace;
+    char midChar;
+    int low, high, mid;
+
+    low = 0;
+    high = (transform.length - 1);
+    if (ch > high) {
+      mid = (high >>> 1);
+    } else {
+      // if we are lucky, we find the transformation in one step
+      mid = ch;
+    }
+
+    while (low <= high) {
+      replace = transform[mid];
+      midChar = replace[0];
+
+      if (midChar < ch) {
+        low = (mid + 1);
+      } else {
+        if (midChar > ch) {
+          high = (mid - 1);
+        } else {
+          return replace;
+        }
+      }
+
+      mid = ((low + high) >>> 1);
+    }
+
+    // no transformation found
+    return null;
+  }
+
+  /**
+   * Build the dense replacement table for the ASCII characters from the
+   * state and lookup data.
+   *
+   * @param state
+   *          the state
+   * @param data
+   *          the lookup data
+   * @return the table
+   */
+  private static final char[][] __makeASCIITable(final byte[] state,
+      final char[][] data) {
+    final char[][] table;
+    char[] replace;
+    char ch;
+
+    table = new char[_ASCIITableTransformedTextOutput.ASCII][];
+    for (ch = 0; ch < table.length; ch++) {
+      if (ch < state.length) {
+        switch (state[ch]) {
+          case LookupCharTransformer.STATE_DIRECT: {
+            continue; // leave null: copy directly
+          }
+          case LookupCharTransformer.STATE_OMIT: {
+            table[ch] = new char[] { ch };
+            continue;
+          }
+          case LookupCharTransformer.STATE_TO_SPACE: {
+            table[ch] = LookupCharTransformer.TO_SPACE;
+            continue;
+          }
+          default: {
+            // look up below
+          }
+        }
+      }
+
+      replace = LookupCharTransformer._resolve(data, ch);
+      // characters without known mapping are omitted, just as in the
+      // general path
+      table[ch] = ((replace != null) ? replace : new char[] { ch });
+    }
+
+    return table;
   }
 
 }
@@ -0,0 +1,263 @@
+package org.optimizationBenchmarking.utils.text.transformations;
+
+import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * A transformed text output with a fast path for ASCII characters: A
+ * dense table with {@value #ASCII} entries holds the replacement for each
+ * ASCII character, so that the common case needs neither a
+ * {@code switch} nor a search. Runs of characters which do not need to be
+ * transformed are moved into an internal buffer via
+ * {@link java.lang.System#arraycopy(Object, int, Object, int, int)} and
+ * the buffer is handed to the wrapped output in one call at the end of
+ * each {@code append} operation.
+ */
+abstract class _ASCIITableTransformedTextOutput extends
+    _TransformedTextOutput {
+
+  /** the number of ASCII characters */
+  static final int ASCII = _TransformedTextOutput.ASCII_END;
+
+  /** the size of the buffers */
+  private static final int BUFFER_SIZE = 256;
+
+  /**
+   * the replacement table for the ASCII characters: {@code null} means
+   * that the character is copied directly, otherwise the elements of the
+   * array starting at index {@code 1} are written instead of the character
+   * (index {@code 0} holds the character itself)
+   */
+  private final char[] m_ascii[];
+
+  /** the output buffer */
+  private char[] m_buffer;
+
+  /** the number of characters in the output buffer */
+  private int m_size;
+
+  /** the buffer for transforming strings and character sequences */
+  private char[] m_source;
+
+  /**
+   * create the transformed text output
+   *
+   * @param out
+   *          the wrapped output
+   * @param ascii
+   *          the replacement table for the ASCII characters
+   */
+  _ASCIITableTransformedTextOutput(final ITextOutput out,
+      final char[][] ascii) {
+    super(out);
+    this.m_ascii = ascii;
+  }
+
+  /**
+   * Check whether a non-ASCII character can be copied directly
+   *
+   * @param ch
+   *          the character, which is not an ASCII character
+   * @return {@code true} if the character can be copied directly,
+   *         {@code false} if
+   *         {@link #_transformNonASCII(char, char[], int, int)} needs to
+   *         be invoked
+   */
+  abstract boolean _isDirect(final char ch);
+
+  /**
+   * Transform a non-ASCII character which cannot be copied directly and
+   * write the result via {@link #_write(char[], int, int)}
+   *
+   * @param ch
+   *          the character
+   * @param chars
+   *          the characters being transformed, or {@code null} if only a
+   *          single character is transformed
+   * @param start
+   *          the start index in {@code chars}
+   * @param end
+   *          the end index in {@code chars}
+   */
+  abstract void _transformNonASCII(final char ch, final char[] chars,
+      final int start, final int end);
+
+  /**
+   * Write characters to the output buffer
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   */
+  final void _write(final char[] chars, final int start, final int end) {
+    final int length;
+    char[] buffer;
+
+    length = (end - start);
+    buffer = this.m_buffer;
+    if (buffer == null) {
+      this.m_buffer = buffer = new char[_ASCIITableTransformedTextOutput.BUFFER_SIZE];
+    }
+
+    if ((this.m_size + length) > buffer.length) {
+      this._flush();
+      if (length >= buffer.length) {
+        this.m_out.append(chars, start, end);
+        return;
+      }
+    }
+
+    System.arraycopy(chars, start, buffer, this.m_size, length);
+    this.m_size += length;
+  }
+
+  /** Hand the contents of the output buffer to the wrapped output. */
+  final void _flush() {
+    if (this.m_size > 0) {
+      this.m_out.append(this.m_buffer, 0, this.m_size);
+      this.m_size = 0;
+    }
+  }
+
+  /**
+   * Get the buffer for transforming strings and character sequences
+   *
+   * @return the buffer
+   */
+  private final char[] __getSource() {
+    char[] source;
+
+    source = this.m_source;
+    if (source == null) {
+      this.m_source = source = new char[_ASCIITableTransformedTextOutput.BUFFER_SIZE];
+    }
+    return source;
+  }
+
+  /**
+   * Transform a range of characters into the output buffer
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   */
+  private final void __transform(final char[] chars, final int start,
+      final int end) {
+    final char[][] ascii;
+    char[] replace;
+    char currentChar;
+    int i, currentStart;
+
+    ascii = this.m_ascii;
+    currentStart = start;
+
+    for (i = start; i < end; i++) {
+      currentChar = chars[i];
+
+      if (currentChar < _ASCIITableTransformedTextOutput.ASCII) {
+        replace = ascii[currentChar];
+        if (replace == null) {
+          continue;
+        }
+        if (i > currentStart) {
+          this._write(chars, currentStart, i);
+        }
+        if (replace.length > 1) {
+          this._write(replace, 1, replace.length);
+        }
+      } else {
+        if (this._isDirect(currentChar)) {
+          continue;
+        }
+        if (i > currentStart) {
+          this._write(chars, currentStart, i);
+        }
+        this._transformNonASCII(currentChar, chars, start, end);
+      }
+
+      currentStart = (i + 1);
+    }
+
+    if (currentStart < end) {
+      this._write(chars, currentStart, end);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void append(final char[] chars, final int start, final int end) {
+    this.__transform(chars, start, end);
+    this._flush();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void append(final String s, final int start, final int end) {
+    final char[] source;
+    int i, next;
+
+    source = this.__getSource();
+    for (i = start; i < end; i = next) {
+      next = Math.min(end, (i + source.length));
+      s.getChars(i, next, source, 0);
+      this.__transform(source, 0, (next - i));
+    }
+    this._flush();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public AbstractTextOutput append(final CharSequence csq,
+      final int start, final int end) {
+    final char[] source;
+    int i, j, next;
+
+    if (csq instanceof String) {
+      this.append(((String) csq), start, end);
+      return this;
+    }
+
+    source = this.__getSource();
+    for (i = start; i < end; i = next) {
+      next = Math.min(end, (i + source.length));
+      for (j = i; j < next; j++) {
+        source[j - i] = csq.charAt(j);
+      }
+      this.__transform(source, 0, (next - i));
+    }
+    this._flush();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public AbstractTextOutput append(final char c) {
+    final char[] replace;
+
+    if (c < _ASCIITableTransformedTextOutput.ASCII) {
+      replace = this.m_ascii[c];
+      if (replace == null) {
+        this.m_out.append(c);
+      } else {
+        if (replace.length > 1) {
+          this.m_out.append(replace, 1, replace.length);
+        }
+      }
+      return this;
+    }
+
+    if (this._isDirect(c)) {
+      this.m_out.append(c);
+    } else {
+      this._transformNonASCII(c, null, (-1), (-1));
+      this._flush();
+    }
+    return this;
+  }
+}
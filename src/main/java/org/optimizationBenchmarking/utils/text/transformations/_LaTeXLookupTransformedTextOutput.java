@@ -15,10 +15,12 @@ class _LaTeXLookupTransformedTextOutput extends
    *          the lookup data
    * @param state
    *          the character state
+   * @param ascii
+   *          the replacement table for the ASCII characters
    */
   _LaTeXLookupTransformedTextOutput(final ITextOutput out,
-      final char[][] data, final byte[] state) {
-    super(out, data, state);
+      final char[][] data, final byte[] state, final char[][] ascii) {
+    super(out, data, state, ascii);
   }
 
   /** {@inheritDoc} */
@@ -17,12 +17,15 @@ class _LaTeXNormalizingLookupTransformedTextOutput extends
    *          the lookup data
    * @param state
    *          the character state
+   * @param ascii
+   *          the replacement table for the ASCII characters
    * @param form
    *          the normalizer form
    */
   _LaTeXNormalizingLookupTransformedTextOutput(final ITextOutput out,
-      final char[][] data, final byte[] state, final Normalizer.Form form) {
-    super(out, data, state, form);
+      final char[][] data, final byte[] state, final char[][] ascii,
+      final Normalizer.Form form) {
+    super(out, data, state, ascii, form);
   }
 
   /** {@inheritDoc} */
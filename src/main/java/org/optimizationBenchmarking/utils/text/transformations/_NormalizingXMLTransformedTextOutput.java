@@ -35,6 +35,11 @@ final class _NormalizingXMLTransformedTextOutput extends
   @Override
   public final void append(final String s) {
     final String t;
+    if (_TransformedTextOutput._isASCII(s, 0, s.length())) {
+      // ASCII text is invariant under all normalization forms
+      super.append(s, 0, s.length());
+      return;
+    }
     t = Normalizer.normalize(s, this.m_form);
     super.append(t, 0, t.length());
   }
@@ -43,28 +48,44 @@ final class _NormalizingXMLTransformedTextOutput extends
   @Override
   public final AbstractTextOutput append(final CharSequence csq,
       final int start, final int end) {
-    this.append(csq.subSequence(start, end).toString());
+    if (_TransformedTextOutput._isASCII(csq, start, end)) {
+      super.append(csq, start, end);
+    } else {
+      this.append(csq.subSequence(start, end).toString());
+    }
     return this;
   }
 
   /** {@inheritDoc} */
   @Override
   public final AbstractTextOutput append(final char c) {
-    this.append(String.valueOf(c));
+    if (c < _TransformedTextOutput.ASCII_END) {
+      super.append(c);
+    } else {
+      this.append(String.valueOf(c));
+    }
     return this;
   }
 
   /** {@inheritDoc} */
   @Override
   public final void append(final String s, final int start, final int end) {
-    this.append(s.substring(start, end));
+    if (_TransformedTextOutput._isASCII(s, start, end)) {
+      super.append(s, start, end);
+    } else {
+      this.append(s.substring(start, end));
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public final void append(final char[] chars, final int start,
       final int end) {
-    this.append(String.valueOf(chars, start, (end - start)));
+    if (_TransformedTextOutput._isASCII(chars, start, end)) {
+      super.append(chars, start, end);
+    } else {
+      this.append(String.valueOf(chars, start, (end - start)));
+    }
   }
 
   /** {@inheritDoc} */
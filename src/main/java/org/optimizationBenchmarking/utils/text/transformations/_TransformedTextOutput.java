@@ -10,6 +10,9 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  */
 class _TransformedTextOutput extends AbstractTextOutput {
 
+  /** the end of the ASCII character range (exclusive) */
+  static final char ASCII_END = 128;
+
   /** the text output we are actually writing to */
   final ITextOutput m_out;
 
@@ -57,6 +60,80 @@ class _TransformedTextOutput extends AbstractTextOutput {
     this.append(String.valueOf(o));
   }
 
+  /**
+   * Check whether a range of a string consists only of ASCII characters.
+   * Such text does not change under any
+   * {@linkplain java.text.Normalizer.Form normalization form}, so
+   * normalization can be skipped for it.
+   *
+   * @param s
+   *          the string
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   * @return {@code true} if all characters are ASCII characters,
+   *         {@code false} otherwise
+   */
+  static final boolean _isASCII(final String s, final int start,
+      final int end) {
+    int i;
+    for (i = start; i < end; i++) {
+      if (s.charAt(i) >= _TransformedTextOutput.ASCII_END) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Check whether a range of a character sequence consists only of ASCII
+   * characters.
+   *
+   * @param csq
+   *          the character sequence
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   * @return {@code true} if all characters are ASCII characters,
+   *         {@code false} otherwise
+   */
+  static final boolean _isASCII(final CharSequence csq, final int start,
+      final int end) {
+    int i;
+    for (i = start; i < end; i++) {
+      if (csq.charAt(i) >= _TransformedTextOutput.ASCII_END) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Check whether a range of a character array consists only of ASCII
+   * characters.
+   *
+   * @param chars
+   *          the character array
+   * @param start
+   *          the start index
+   * @param end
+   *          the end index
+   * @return {@code true} if all characters are ASCII characters,
+   *         {@code false} otherwise
+   */
+  static final boolean _isASCII(final char[] chars, final int start,
+      final int end) {
+    int i;
+    for (i = start; i < end; i++) {
+      if (chars[i] >= _TransformedTextOutput.ASCII_END) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * This method is called when an unknown character is encountered. By
    * default it throws an {@link java.lang.UnsupportedOperationException}.
@@ -2,7 +2,6 @@ package org.optimizationBenchmarking.utils.text.transformations;
 
 import java.util.Arrays;
 
-import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /**
@@ -12,7 +11,8 @@ import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
  * that transforms the input text to XML entities where necessary.
  * </p>
  */
-class _XMLTransformedTextOutput extends _TransformedTextOutput {
+class _XMLTransformedTextOutput extends
+    _ASCIITableTransformedTextOutput {
 
   /** transform the character */
   private static final int MODE_PASS_THROUGH = 0;
@@ -36,11 +36,14 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
   /** the default replacement */
   private static final char[] REPLACE = { '&', '#', 'x', 0, 0, 0, 0, ';' };
 
-  /** the table of characters that can directly be passed on */
-  private static final int[] MODES;
+  /** the replacement table for the ASCII characters */
+  private static final char[][] ASCII_TABLE;
 
   static {
     final int[] list;
+    final char[][] table;
+    final char[] replace;
+    char ch;
 
     list = new int[128];
 
@@ -61,7 +64,32 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
     list['%'] = _XMLTransformedTextOutput.MODE_PASS_THROUGH;
     list['='] = _XMLTransformedTextOutput.MODE_PASS_THROUGH;
 
-    MODES = list;
+    // translate the modes to the replacement table
+    table = new char[_ASCIITableTransformedTextOutput.ASCII][];
+    replace = _XMLTransformedTextOutput.REPLACE.clone();
+    for (ch = 0; ch < table.length; ch++) {
+      switch (list[ch]) {
+        case MODE_PASS_THROUGH: {
+          continue; // leave null: copy directly
+        }
+        case MODE_IGNORE: {
+          table[ch] = new char[] { ch };
+          continue;
+        }
+        case MODE_TO_SPACE: {
+          table[ch] = new char[] { ch, ' ' };
+          continue;
+        }
+        default: {
+          table[ch] = new char[_XMLTransformedTextOutput.__makeEntity(ch,
+              replace) + 1];
+          table[ch][0] = ch;
+          System.arraycopy(replace, 0, table[ch], 1, (table[ch].length - 1));
+        }
+      }
+    }
+
+    ASCII_TABLE = table;
   }
 
   /** the replacement buffer */
@@ -74,7 +102,7 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
    *          the text output to wrap around
    */
   _XMLTransformedTextOutput(final ITextOutput out) {
-    super(out);
+    super(out, _XMLTransformedTextOutput.ASCII_TABLE);
     this.m_replace = _XMLTransformedTextOutput.REPLACE.clone();
   }
 
@@ -119,202 +147,21 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
 
   /** {@inheritDoc} */
   @Override
-  public AbstractTextOutput append(final CharSequence csq,
-      final int start, final int end) {
-    final char[] replace;
-    int i, currentStart, currentChar, mode;
-
-    // setup
-    currentStart = start;
-    replace = this.m_replace;
-
-    // iterate over all characters in the character array data
-    outer: for (i = currentStart; i < end; i++) {
-      currentChar = csq.charAt(i);
-
-      // check character mode, if available
-      if (currentChar < _XMLTransformedTextOutput.MODES.length) {
-        mode = _XMLTransformedTextOutput.MODES[currentChar];
-        if (mode == _XMLTransformedTextOutput.MODE_PASS_THROUGH) {
-          continue outer;
-        }
-      } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
-        mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
-      }
-
-      // ok, we need to do something special
-      if (i > currentStart) {
-        this.m_out.append(csq, currentStart, i);
-      }
-      currentStart = (i + 1);
-
-      // convert tabs to spaces
-      if (mode == _XMLTransformedTextOutput.MODE_TO_SPACE) {
-        this.m_out.append(' ');
-        continue;
-      }
-
-      // omit ascii control characters
-      if (mode == _XMLTransformedTextOutput.MODE_IGNORE) {
-        continue;
-      }
-
-      // ok, the character is no control char -> transform it!
-      this.m_out.append(replace, 0,
-          _XMLTransformedTextOutput.__makeEntity(currentChar, replace));
-    }
-
-    if (currentStart < end) {
-      this.m_out.append(csq, currentStart, end);
-    }
-    return this;
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  public void append(final String s, final int start, final int end) {
-    final char[] replace;
-    int i, currentStart, currentChar, mode;
-
-    // setup
-    currentStart = start;
-    replace = this.m_replace;
-
-    // iterate over all characters in the character array data
-    outer: for (i = currentStart; i < end; i++) {
-      currentChar = s.charAt(i);
-
-      // check character mode, if available
-      if (currentChar < _XMLTransformedTextOutput.MODES.length) {
-        mode = _XMLTransformedTextOutput.MODES[currentChar];
-        if (mode == _XMLTransformedTextOutput.MODE_PASS_THROUGH) {
-          continue outer;
-        }
-      } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
-
-        mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
-      }
-
-      // ok, we need to do something special
-      if (i > currentStart) {
-        this.m_out.append(s, currentStart, i);
-      }
-      currentStart = (i + 1);
-
-      // convert tabs to spaces
-      if (mode == _XMLTransformedTextOutput.MODE_TO_SPACE) {
-        this.m_out.append(' ');
-        continue;
-      }
-
-      // omit ascii control characters
-      if (mode == _XMLTransformedTextOutput.MODE_IGNORE) {
-        continue;
-      }
-
-      // ok, the character is no control char -> transform it!
-      this.m_out.append(replace, 0,
-          _XMLTransformedTextOutput.__makeEntity(currentChar, replace));
-    }
-
-    if (currentStart < end) {
-      this.m_out.append(s, currentStart, end);
-    }
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  public void append(final char[] ch, final int start, final int end) {
-    final char[] replace;
-    int i, currentStart, currentChar, mode;
-
-    // setup
-    currentStart = start;
-    replace = this.m_replace;
-
-    // iterate over all characters in the character array data
-    outer: for (i = currentStart; i < end; i++) {
-      currentChar = ch[i];
-
-      // check character mode, if available
-      if (currentChar < _XMLTransformedTextOutput.MODES.length) {
-        mode = _XMLTransformedTextOutput.MODES[currentChar];
-        if (mode == _XMLTransformedTextOutput.MODE_PASS_THROUGH) {
-          continue outer;
-        }
-      } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
-        mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
-      }
-
-      // ok, we need to do something special
-      if (i > currentStart) {
-        this.m_out.append(ch, currentStart, i);
-      }
-      currentStart = (i + 1);
-
-      // convert tabs to spaces
-      if (mode == _XMLTransformedTextOutput.MODE_TO_SPACE) {
-        this.m_out.append(' ');
-        continue;
-      }
-
-      // omit ascii control characters
-      if (mode == _XMLTransformedTextOutput.MODE_IGNORE) {
-        continue;
-      }
-
-      // ok, the character is no control char -> transform it!
-      this.m_out.append(replace, 0,
-          _XMLTransformedTextOutput.__makeEntity(currentChar, replace));
-    }
-
-    if (currentStart < end) {
-      this.m_out.append(ch, currentStart, end);
-    }
+  final boolean _isDirect(final char ch) {
+    return false;
   }
 
   /** {@inheritDoc} */
-  @SuppressWarnings("incomplete-switch")
   @Override
-  public AbstractTextOutput append(final char ch) {
-
-    // check character mode, if available
-    if (ch < _XMLTransformedTextOutput.MODES.length) {
-      switch (_XMLTransformedTextOutput.MODES[ch]) {
-        case _XMLTransformedTextOutput.MODE_PASS_THROUGH: {
-          this.m_out.append(ch);
-          return this;
-        }
-        case MODE_IGNORE: {
-          return this;
-        }
-        case MODE_TO_SPACE: {
-          this.m_out.append(' ');
-          return this;
-        }
-      }
-    } else {
-      if (Character.isISOControl(ch)) {
-        return this;
-      }
+  final void _transformNonASCII(final char ch, final char[] chars,
+      final int start, final int end) {
+    // omit iso control characters
+    if (Character.isISOControl(ch)) {
+      return;
     }
-
     // ok, the character is no control char -> transform it!
-    this.m_out.append(this.m_replace, 0,
+    this._write(this.m_replace, 0,
         _XMLTransformedTextOutput.__makeEntity(ch, this.m_replace));
-    return this;
   }
 
   /** {@inheritDoc} */
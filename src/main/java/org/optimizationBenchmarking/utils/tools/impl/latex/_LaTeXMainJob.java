@@ -15,6 +15,8 @@ import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
 import org.optimizationBenchmarking.utils.io.paths.FileChangeDetector;
 import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 import org.optimizationBenchmarking.utils.tools.spec.IFileProducerListener;
 
@@ -221,6 +223,26 @@ final class _LaTeXMainJob extends LaTeXJob {
 
   }
 
+  /**
+   * Invoke a component of the tool chain
+   *
+   * @param component
+   *          the component
+   * @param round
+   *          the compilation round, or {@code 0} during the finalization
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __use(final _LaTeXToolChainComponent component,
+      final int round) throws IOException {
+    final FlightEvent event;
+
+    event = FlightEvent.begin(EFlightEventType.LATEX_TOOL);
+    component._use(this);
+    FlightEvent.end(event, component.getClass(),
+        this._getFile(ELaTeXFileType.TEX), round);
+  }
+
   /** {@inheritDoc} */
   @Override
   public final Void call() throws IOException {
@@ -260,7 +282,7 @@ final class _LaTeXMainJob extends LaTeXJob {
             rounds++;
 
             for (final _LaTeXToolChainComponent component : this.m_loopChain) {
-              component._use(this);
+              this.__use(component, rounds);
             }
 
             if (!(this.__hasChanged())) {
@@ -297,7 +319,7 @@ final class _LaTeXMainJob extends LaTeXJob {
           }
 
           for (final _LaTeXToolChainComponent component : this.m_finalChain) {
-            component._use(this);
+            this.__use(component, 0);
           }
 
           if ((logger != null) && (logger.isLoggable(Level.FINE))) {
@@ -29,6 +29,28 @@ public abstract class AbstractProcessBuilder<PT extends AbstractProcess, BT exte
    */
   public abstract BT setDirectory(final Path dir);
 
+  /**
+   * Use bounded, lock-free
+   * {@link org.optimizationBenchmarking.utils.parallel.ByteRingBuffer ring
+   * buffers} instead of the default, unbounded ones between the standard
+   * streams of the process and the streams provided to the user. This
+   * avoids contention for high-volume output, but a process whose output
+   * is not read will block once the buffer is full, so this should only
+   * be used if all buffered streams are consumed concurrently. Each
+   * buffered stream must only be read or written by one thread at a time.
+   *
+   * @param capacity
+   *          the capacity of each buffer in bytes, or a value
+   *          {@code <= 0} for the default, unbounded buffers
+   * @param direct
+   *          should the ring buffers be allocated
+   *          {@link java.nio.ByteBuffer#allocateDirect(int) outside} of the
+   *          Java heap?
+   * @return this builder
+   */
+  public abstract BT setBoundedStreamBuffers(final int capacity,
+      final boolean direct);
+
   /**
    * Set the stdin stream definition
    *
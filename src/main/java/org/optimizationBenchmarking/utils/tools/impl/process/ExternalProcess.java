@@ -3,13 +3,12 @@ package org.optimizationBenchmarking.utils.tools.impl.process;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer;
 
 /**
  * An external process with which you can communicate via standard streams
@@ -23,41 +22,41 @@ public final class ExternalProcess extends _BasicProcess {
   /** a stream providing the stdout of the process */
   InputStream m_stdout;
   /**
-   * the worker thread associated with stdout, or {@code null} if none is
+   * the worker associated with stdout, or {@code null} if none is
    * needed
    */
-  _WorkerThread m_stdoutWorker;
+  _Worker m_stdoutWorker;
   /**
    * the byte buffer associated with stdout, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stdoutBuffer;
+  IByteProducerConsumerBuffer m_stdoutBuffer;
 
   /** a stream providing stderr of the process */
   InputStream m_stderr;
   /**
-   * the worker thread associated with stderr, or {@code null} if none is
+   * the worker associated with stderr, or {@code null} if none is
    * needed
    */
-  _WorkerThread m_stderrWorker;
+  _Worker m_stderrWorker;
   /**
    * the byte buffer associated with stderr, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stderrBuffer;
+  IByteProducerConsumerBuffer m_stderrBuffer;
 
   /** a stream providing stdint of the process */
   OutputStream m_stdin;
   /**
-   * the worker thread associated with stdin, or {@code null} if none is
+   * the worker associated with stdin, or {@code null} if none is
    * needed
    */
-  _WorkerThread m_stdinWorker;
+  _Worker m_stdinWorker;
   /**
    * the byte buffer associated with stdin, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stdinBuffer;
+  IByteProducerConsumerBuffer m_stdinBuffer;
 
   /** the process' name */
   private final String m_name;
@@ -94,36 +93,23 @@ public final class ExternalProcess extends _BasicProcess {
     return this.getLogger();
   }
 
-  /** start all threads associated with this process */
+  /** start all workers associated with this process */
   final void _start() {
     final Logger logger;
-    __UncaughtExceptionHandler ueh;
-
-    ueh = null;
 
     if (this.m_stdinWorker != null) {
-      ueh = new __UncaughtExceptionHandler();
-      this.m_stdinWorker.setUncaughtExceptionHandler(ueh);
-      this.m_stdinWorker.start();
+      this.m_stdinWorker._start(this);
     }
 
     if ((this.m_stdoutWorker != null)
         && (this.m_stdoutWorker != this.m_stdinWorker)) {
-      if (ueh == null) {
-        ueh = new __UncaughtExceptionHandler();
-      }
-      this.m_stdoutWorker.setUncaughtExceptionHandler(ueh);
-      this.m_stdoutWorker.start();
+      this.m_stdoutWorker._start(this);
     }
 
     if ((this.m_stderrWorker != null)
         && (this.m_stderrWorker != this.m_stdinWorker)
         && (this.m_stderrWorker != this.m_stdoutWorker)) {
-      if (ueh == null) {
-        ueh = new __UncaughtExceptionHandler();
-      }
-      this.m_stderrWorker.setUncaughtExceptionHandler(ueh);
-      this.m_stderrWorker.start();
+      this.m_stderrWorker._start(this);
     }
 
     logger = this.getLogger();
@@ -220,7 +206,7 @@ public final class ExternalProcess extends _BasicProcess {
             waiter: for (;;) {
               try {
                 this.m_stdoutWorker.m_mode = 1;
-                this.m_stdoutWorker.join();
+                this.m_stdoutWorker._join();
                 break waiter;
               } catch (final InterruptedException ie) {
                 // ingore
@@ -271,7 +257,7 @@ public final class ExternalProcess extends _BasicProcess {
             waiter: for (;;) {
               try {
                 this.m_stderrWorker.m_mode = 1;
-                this.m_stderrWorker.join();
+                this.m_stderrWorker._join();
                 break waiter;
               } catch (final InterruptedException ie) {
                 // ingore
@@ -322,7 +308,7 @@ public final class ExternalProcess extends _BasicProcess {
             waiter: for (;;) {
               try {
                 this.m_stdinWorker.m_mode = 1;
-                this.m_stdinWorker.join();
+                this.m_stdinWorker._join();
                 break waiter;
               } catch (final InterruptedException ie) {
                 // ingore
@@ -426,21 +412,4 @@ public final class ExternalProcess extends _BasicProcess {
       this.m_error = ErrorUtils.aggregateError(t, this.m_error);
     }
   }
-
-  /** the internal exception handler for worker threads */
-  private final class __UncaughtExceptionHandler implements
-      UncaughtExceptionHandler {
-
-    /** create */
-    __UncaughtExceptionHandler() {
-      super();
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final void uncaughtException(final Thread t, final Throwable e) {
-      ExternalProcess.this._addError(e);
-    }
-  }
-
 }
@@ -16,6 +16,8 @@ import org.optimizationBenchmarking.utils.io.nul.NullInputStream;
 import org.optimizationBenchmarking.utils.io.nul.NullOutputStream;
 import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.ByteRingBuffer;
+import org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
 /**
@@ -44,6 +46,14 @@ public final class ExternalProcessBuilder extends
   /** the stderr stream definition */
   private EProcessStream m_stderr;
 
+  /**
+   * the capacity of the bounded stream buffers, or {@code 0} if unbounded
+   * buffers should be used
+   */
+  private int m_bufferCapacity;
+  /** should the bounded stream buffers use direct storage? */
+  private boolean m_directBuffers;
+
   /** create the process builder */
   ExternalProcessBuilder() {
     super();
@@ -129,6 +139,28 @@ public final class ExternalProcessBuilder extends
     return this;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final ExternalProcessBuilder setBoundedStreamBuffers(
+      final int capacity, final boolean direct) {
+    this.m_bufferCapacity = Math.max(0, capacity);
+    this.m_directBuffers = direct;
+    return this;
+  }
+
+  /**
+   * Create a buffer for a stream
+   *
+   * @return the buffer
+   */
+  private final IByteProducerConsumerBuffer __createBuffer() {
+    if (this.m_bufferCapacity > 0) {
+      return new ByteRingBuffer(this.m_bufferCapacity,
+          this.m_directBuffers);
+    }
+    return new ByteProducerConsumerBuffer();
+  }
+
   /** {@inheritDoc} */
   @Override
   public final ExternalProcessBuilder setStdIn(final EProcessStream def) {
@@ -154,7 +186,8 @@ public final class ExternalProcessBuilder extends
   @Override
   public final ExternalProcessBuilder setStdOut(final EProcessStream def) {
     final Redirect redirect;
-    if ((def != null) && ((redirect = def.m_redir) != null)) {
+    if ((def != null)
+        && ((redirect = _ProcessIOPump._discard(def)) != null)) {
       this.m_pb.redirectOutput(redirect);
       this.m_stdout = def;
       return this;
@@ -194,7 +227,8 @@ public final class ExternalProcessBuilder extends
   public final ExternalProcessBuilder setStdErr(final EProcessStream def) {
     final Redirect redirect;
 
-    if ((def != null) && ((redirect = def.m_redir) != null)) {
+    if ((def != null)
+        && ((redirect = _ProcessIOPump._discard(def)) != null)) {
       this.__checkRedirect();
       this.m_pb.redirectError(redirect);
       this.m_stderr = def;
@@ -245,7 +279,9 @@ public final class ExternalProcessBuilder extends
                 + this.m_pb.redirectError());
       }
     } else {
-      if ((((t1 = out.type()) == Redirect.Type.APPEND) || (t1 == Redirect.Type.WRITE))
+      if (((this.m_stdout != EProcessStream.IGNORE) || //
+          (this.m_stderr != EProcessStream.IGNORE))
+          && (((t1 = out.type()) == Redirect.Type.APPEND) || (t1 == Redirect.Type.WRITE))
           && (((t2 = err.type()) == Redirect.Type.APPEND) || (t2 == Redirect.Type.WRITE))
           && EComparison.equals((f = out.file()), err.file())) {
         throw new IllegalStateException(//
@@ -397,8 +433,12 @@ public final class ExternalProcessBuilder extends
       }
 
       case IGNORE: {
-        external.m_stdoutWorker = new _DiscardInputStream(
-            external.m_stdout, log);
+        // An ignored stream which is not redirected to the null device
+        // needs to be drained.
+        if (this.m_pb.redirectOutput().type() == Redirect.Type.PIPE) {
+          external.m_stdoutWorker = new _DiscardInputStream(
+              external.m_stdout, log);
+        }
         // fall though to NullInputStream.INSTANCE
       }
       default: {
@@ -434,8 +474,10 @@ public final class ExternalProcessBuilder extends
         }
 
         case IGNORE: {
-          external.m_stderrWorker = new _DiscardInputStream(
-              external.m_stderr, log);
+          if (this.m_pb.redirectError().type() == Redirect.Type.PIPE) {
+            external.m_stderrWorker = new _DiscardInputStream(
+                external.m_stderr, log);
+          }
           // fall though to NullInputStream.INSTANCE
         }
         default: {
@@ -451,11 +493,12 @@ public final class ExternalProcessBuilder extends
     // from more than one stream. This becomes harakiri with readers
     // sitting on top of streams. We can solve this by placing (unlimited)
     // buffers between the real stream and the stream we let the user read
-    // from and shovel the data over with worker threads.
+    // from and shovel the data over with workers, which are executed by
+    // the shared _ProcessIOPump.
     if (realStreams > 1) {
 
       if (this.m_stdin == EProcessStream.AS_STREAM) {
-        external.m_stdinBuffer = new ByteProducerConsumerBuffer();
+        external.m_stdinBuffer = this.__createBuffer();
         external.m_stdinWorker = new _BufferToOutputStream(
             external.m_stdin, external.m_stdinBuffer, log);
         external.m_stdin = new _ProducerConsumerOutputStream(
@@ -463,7 +506,7 @@ public final class ExternalProcessBuilder extends
       }
 
       if (this.m_stdout == EProcessStream.AS_STREAM) {
-        external.m_stdoutBuffer = new ByteProducerConsumerBuffer();
+        external.m_stdoutBuffer = this.__createBuffer();
         external.m_stdoutWorker = new _InputStreamToBuffer(
             external.m_stdoutBuffer, external.m_stdout, log);
         external.m_stdout = new _ProducerConsumerInputStream(
@@ -474,7 +517,7 @@ public final class ExternalProcessBuilder extends
         external.m_stderr = external.m_stdout;
       } else {
         if (this.m_stderr == EProcessStream.AS_STREAM) {
-          external.m_stderrBuffer = new ByteProducerConsumerBuffer();
+          external.m_stderrBuffer = this.__createBuffer();
           external.m_stderrWorker = new _InputStreamToBuffer(
               external.m_stderrBuffer, external.m_stderr, log);
           external.m_stderr = new _ProducerConsumerInputStream(
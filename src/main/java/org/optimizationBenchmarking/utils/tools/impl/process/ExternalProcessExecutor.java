@@ -57,8 +57,9 @@ import org.optimizationBenchmarking.utils.tools.impl.abstr.Tool;
  * Streams which are redirected to files, for instance, are not counted,
  * since they cannot cause deadlocks. Anyway, if the number of
  * "interesting" streams is larger than 1, then it creates one
- * {@link org.optimizationBenchmarking.utils.tools.impl.process._WorkerThread
- * thread} per stream. These threads shovel data to and from internal
+ * {@link org.optimizationBenchmarking.utils.tools.impl.process._Worker
+ * worker} per stream, which is executed by a thread of a shared pool.
+ * These workers shovel data to and from internal
  * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
  * buffers} which can grow indefinitely. These buffers are then accessed
  * via streams, exactly as if you would write to the standard streams of
@@ -67,7 +68,12 @@ import org.optimizationBenchmarking.utils.tools.impl.abstr.Tool;
  * written. However, it may not cause a deadlock, since the threads will
  * always continue shoveling in the background so no stalling because of
  * full pipe buffers can occur anymore. On the down side, this system is
- * potentially much more memory consuming.
+ * potentially much more memory consuming. If a process produces a lot of
+ * output which is read anyway, the buffers can be
+ * {@link org.optimizationBenchmarking.utils.tools.impl.process.AbstractProcessBuilder#setBoundedStreamBuffers(int, boolean)
+ * bounded}, in which case the process is throttled to the speed at which
+ * its output is consumed &ndash; at the price of re-introducing the
+ * deadlock if it is not.
  * </p>
  */
 public final class ExternalProcessExecutor extends Tool {
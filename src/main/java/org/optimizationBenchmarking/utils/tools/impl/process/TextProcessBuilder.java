@@ -78,6 +78,14 @@ public final class TextProcessBuilder extends
     return this;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final TextProcessBuilder setBoundedStreamBuffers(
+      final int capacity, final boolean direct) {
+    this.m_builder.setBoundedStreamBuffers(capacity, direct);
+    return this;
+  }
+
   /** {@inheritDoc} */
   @Override
   public final TextProcessBuilder setStdIn(final EProcessStream def) {
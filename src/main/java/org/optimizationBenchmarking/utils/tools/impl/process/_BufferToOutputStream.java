@@ -5,19 +5,19 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer;
 
 /**
- * A thread shoveling data from a
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * A worker shoveling data from a
+ * {@link org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer
  * buffer} to an {@link java.io.OutputStream} as long as
  * <code>{@link #m_mode}&le;1</code>. As soon as
  * <code>{@link #m_mode}==2</code>, it will cease all activity.
  */
-final class _BufferToOutputStream extends _WorkerThread {
+final class _BufferToOutputStream extends _Worker {
 
   /** the source */
-  private final ByteProducerConsumerBuffer m_source;
+  private final IByteProducerConsumerBuffer m_source;
   /** the destination */
   private final OutputStream m_dest;
 
@@ -32,7 +32,7 @@ final class _BufferToOutputStream extends _WorkerThread {
    *          the logger
    */
   _BufferToOutputStream(final OutputStream dest,
-      final ByteProducerConsumerBuffer source, final Logger log) {
+      final IByteProducerConsumerBuffer source, final Logger log) {
     super("Buffer-to-OutputStream", log); //$NON-NLS-1$
     this.m_dest = dest;
     this.m_source = source;
@@ -48,9 +48,8 @@ final class _BufferToOutputStream extends _WorkerThread {
     try {
       try {
         while (this.m_mode < 2) {
-          if (this.m_source.isClosed()) {
-            break;
-          }
+          // the buffer may have been closed before this worker was
+          // started, but still contain data which must be delivered
           s = this.m_source.readFromBuffer(buffer, 0, buffer.length);
           if (s <= 0) {
             break;
@@ -5,20 +5,20 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer;
 
 /**
- * A thread shoveling data from an {@link java.io.InputStream} to a
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * A worker shoveling data from an {@link java.io.InputStream} to a
+ * {@link org.optimizationBenchmarking.utils.parallel.IByteProducerConsumerBuffer
  * buffer} as long as <code>{@link #m_mode}=0</code>. As soon as
  * <code>{@link #m_mode}=1</code>, the data from the input stream will be
  * {@link java.io.InputStream#skip(long) skipped} over. If
  * <code>{@link #m_mode}=2</code>, all activity is ceased.
  */
-final class _InputStreamToBuffer extends _WorkerThread {
+final class _InputStreamToBuffer extends _Worker {
 
   /** the destination */
-  private final ByteProducerConsumerBuffer m_dest;
+  private final IByteProducerConsumerBuffer m_dest;
   /** the source */
   private final InputStream m_source;
 
@@ -32,7 +32,7 @@ final class _InputStreamToBuffer extends _WorkerThread {
    * @param log
    *          the logger
    */
-  _InputStreamToBuffer(final ByteProducerConsumerBuffer dest,
+  _InputStreamToBuffer(final IByteProducerConsumerBuffer dest,
       final InputStream source, final Logger log) {
     super("InputStream-to-Buffer", log); //$NON-NLS-1$
     this.m_dest = dest;
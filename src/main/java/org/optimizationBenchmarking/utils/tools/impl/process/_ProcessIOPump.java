@@ -0,0 +1,187 @@
+package org.optimizationBenchmarking.utils.tools.impl.process;
+
+import java.io.File;
+import java.lang.ProcessBuilder.Redirect;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * The I/O pump shared by all
+ * {@link org.optimizationBenchmarking.utils.tools.impl.process.ExternalProcess
+ * external processes}. The standard streams of a process are blocking
+ * pipes, so each stream which needs to be serviced occupies one thread
+ * while the process runs. Instead of creating up to three dedicated
+ * threads for every process, the pump executes the {@link _Worker
+ * workers} in a shared pool whose idle threads are kept for a while and
+ * re-used by the streams of the following processes. Streams whose data
+ * is not needed are not serviced by a thread at all but
+ * {@link #_discard(EProcessStream) redirected} to the null device by the
+ * operating system.
+ * <p>
+ * If the system property {@link #DEDICATED_THREADS_PROPERTY} is set to
+ * {@code true}, the old model of one dedicated thread per serviced
+ * stream is used instead.
+ * </p>
+ */
+final class _ProcessIOPump {
+
+  /**
+   * The name of the system property which, if set to {@code true},
+   * disables the shared pump and makes each process stream serviced by a
+   * dedicated thread.
+   */
+  static final String DEDICATED_THREADS_PROPERTY = "org.optimizationBenchmarking.utils.tools.impl.process.dedicatedThreads"; //$NON-NLS-1$
+
+  /** the seconds an idle pump thread waits for new work */
+  private static final long KEEP_ALIVE_SECONDS = 30L;
+
+  /** the forbidden constructor */
+  private _ProcessIOPump() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Execute a task, either in the shared pool or in a new, dedicated
+   * thread
+   *
+   * @param task
+   *          the task
+   * @param name
+   *          the name of the dedicated thread, if one is needed
+   */
+  static final void _execute(final Runnable task, final String name) {
+    final ThreadPoolExecutor pool;
+
+    pool = __PumpLoader.POOL;
+    if (pool != null) {
+      try {
+        pool.execute(task);
+        return;
+      } catch (final RejectedExecutionException rejected) {
+        // fall back to a dedicated thread
+      }
+    }
+
+    _ProcessIOPump.__configure(new Thread(task, name)).start();
+  }
+
+  /**
+   * Get the redirect to use for a process stream in output direction,
+   * i.e., stdout or stderr. If the stream is to be
+   * {@link EProcessStream#IGNORE ignored} and the shared pump is active,
+   * the data can be sent to the null device directly instead of being
+   * read and dropped by a worker.
+   *
+   * @param def
+   *          the stream definition
+   * @return the redirect, or {@code null} if the stream definition cannot
+   *         be applied to output streams
+   */
+  static final Redirect _discard(final EProcessStream def) {
+    final Redirect discard;
+
+    if (def == EProcessStream.IGNORE) {
+      discard = __PumpLoader.DISCARD;
+      if (discard != null) {
+        return discard;
+      }
+    }
+    return def.m_redir;
+  }
+
+  /**
+   * configure a thread for shoveling data
+   *
+   * @param thread
+   *          the thread
+   * @return the thread
+   */
+  @SuppressWarnings("unused")
+  private static final Thread __configure(final Thread thread) {
+    try {// Worker threads can have a low priority. They are only
+      // _required_ to do stuff when the main threads are blocked.
+      // Otherwise, they _may_ do stuff.
+      thread.setPriority(Thread.MIN_PRIORITY);
+    } catch (final Throwable t) {
+      // if we cannot set the priority, it is also OK
+    }
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /** the factory for the threads of the pump */
+  private static final class __PumpThreadFactory implements ThreadFactory {
+
+    /** the thread counter */
+    private final AtomicInteger m_count;
+
+    /** create */
+    __PumpThreadFactory() {
+      super();
+      this.m_count = new AtomicInteger();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Thread newThread(final Runnable r) {
+      return _ProcessIOPump.__configure(new Thread(r,//
+          "Process-IO-Pump-" + this.m_count.incrementAndGet())); //$NON-NLS-1$
+    }
+  }
+
+  /** the loader for the shared pool */
+  private static final class __PumpLoader {
+
+    /**
+     * the shared pool, or {@code null} if dedicated threads should be
+     * used
+     */
+    static final ThreadPoolExecutor POOL;
+
+    /**
+     * the redirect to the null device, or {@code null} if ignored streams
+     * must be read by a worker
+     */
+    static final Redirect DISCARD;
+
+    static {
+      ThreadPoolExecutor pool;
+      Redirect discard;
+      File nul;
+
+      pool = null;
+      discard = null;
+      try {
+        if (!(Boolean
+            .getBoolean(_ProcessIOPump.DEDICATED_THREADS_PROPERTY))) {
+          // Every worker blocks on its stream until the process
+          // terminates, so the pool must never queue tasks: A queued task
+          // could wait for a worker of the very same process, which could
+          // deadlock if the pipe of the running one fills up.
+          pool = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+              _ProcessIOPump.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+              new SynchronousQueue<Runnable>(), new __PumpThreadFactory());
+
+          nul = new File(File.separatorChar == '\\' ? "NUL" : //$NON-NLS-1$
+              "/dev/null"); //$NON-NLS-1$
+          if ((File.separatorChar == '\\') || nul.canWrite()) {
+            discard = Redirect.appendTo(nul);
+          }
+        }
+      } catch (final Throwable error) {
+        // ignore, use dedicated threads
+        pool = null;
+        discard = null;
+      }
+
+      POOL = pool;
+      DISCARD = discard;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package org.optimizationBenchmarking.utils.tools.impl.process;
+
+import java.util.logging.Logger;
+
+/**
+ * The base class for workers shoveling data to and from an external
+ * process. A worker is {@link #_start(ExternalProcess) started} either
+ * in the {@link _ProcessIOPump shared I/O pump} or, as fall-back, in a
+ * dedicated {@link java.lang.Thread#isDaemon() deamon} thread running at
+ * the {@link java.lang.Thread#MIN_PRIORITY lowest priority}.
+ */
+abstract class _Worker implements Runnable {
+
+  /**
+   * are we alive: {@code 0}=alive, {@code 1}=shutting down, data can be
+   * ignored, {@code 2}=dead, just quit
+   */
+  volatile int m_mode;
+
+  /** the logger */
+  final Logger m_log;
+
+  /** the worker's name */
+  final String m_name;
+
+  /** has the worker finished? */
+  private boolean m_done;
+
+  /**
+   * create
+   *
+   * @param name
+   *          the worker's name
+   * @param log
+   *          the logger
+   */
+  _Worker(final String name, final Logger log) {
+    super();
+    this.m_name = name;
+    this.m_log = log;
+  }
+
+  /**
+   * Start the worker
+   *
+   * @param owner
+   *          the process owning the worker, which will receive all errors
+   *          caused by the worker
+   */
+  final void _start(final ExternalProcess owner) {
+    _ProcessIOPump._execute(new __Task(owner), this.m_name);
+  }
+
+  /**
+   * Wait until the worker has finished
+   *
+   * @throws InterruptedException
+   *           if the waiting was interrupted
+   */
+  final synchronized void _join() throws InterruptedException {
+    while (!(this.m_done)) {
+      this.wait();
+    }
+  }
+
+  /** notify all waiting threads that this worker has finished */
+  private final synchronized void __done() {
+    this.m_done = true;
+    this.notifyAll();
+  }
+
+  /** the task executing the worker */
+  private final class __Task implements Runnable {
+
+    /** the owning process */
+    private final ExternalProcess m_owner;
+
+    /**
+     * create
+     *
+     * @param owner
+     *          the owning process
+     */
+    __Task(final ExternalProcess owner) {
+      super();
+      this.m_owner = owner;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      try {
+        _Worker.this.run();
+      } catch (final Throwable error) {
+        this.m_owner._addError(error);
+      } finally {
+        _Worker.this.__done();
+      }
+    }
+  }
+}
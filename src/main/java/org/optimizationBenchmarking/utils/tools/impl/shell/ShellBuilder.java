@@ -28,6 +28,14 @@ public class ShellBuilder extends
     return this;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public final ShellBuilder setBoundedStreamBuffers(final int capacity,
+      final boolean direct) {
+    this.m_builder.setBoundedStreamBuffers(capacity, direct);
+    return this;
+  }
+
   /** {@inheritDoc} */
   @Override
   public final ShellBuilder setStdIn(final EProcessStream def) {
@@ -769,14 +769,64 @@ public class RandomExample extends ExperimentSetCreator {
 
     if (dps.size() > 0) {
       try (final RunContext rc = irc.createRun()) {
-        for (final DataPoint ppp : dps) {
-          if (r.nextBoolean()) {
-            rc.addDataPoint(ppp);
-          } else {
-            rc.addDataPoint(ppp.toString());
+        if (r.nextInt(3) <= 0) {
+          RandomExample.__addColumnBlocks(rc, dims, dps, r);
+        } else {
+          for (final DataPoint ppp : dps) {
+            if (r.nextBoolean()) {
+              rc.addDataPoint(ppp);
+            } else {
+              rc.addDataPoint(ppp.toString());
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * add a list of data points to a run in form of (at most two) blocks of
+   * primitive columns
+   *
+   * @param rc
+   *          the run context
+   * @param dims
+   *          the dimensions
+   * @param dps
+   *          the data points
+   * @param r
+   *          the randomizer
+   */
+  private static final void __addColumnBlocks(final RunContext rc,
+      final DimensionSet dims, final ArrayList<DataPoint> dps,
+      final Random r) {
+    final int size, split;
+    long[][] longs;
+    double[][] doubles;
+    int start, end, row, col;
+    Dimension dim;
+
+    size = dps.size();
+    split = r.nextInt(size + 1);
+    for (start = 0; start < size; start = end) {
+      end = ((start < split) ? split : size);
+      longs = new long[dims.getData().size()][];
+      doubles = new double[longs.length][];
+      for (col = 0; col < longs.length; col++) {
+        dim = dims.getData().get(col);
+        if (dim.getDataType().isFloat()) {
+          doubles[col] = new double[end - start];
+          for (row = start; row < end; row++) {
+            doubles[col][row - start] = dps.get(row).getDouble(col);
+          }
+        } else {
+          longs[col] = new long[end - start];
+          for (row = start; row < end; row++) {
+            longs[col][row - start] = dps.get(row).getLong(col);
           }
         }
       }
+      rc.addDataPoints(longs, doubles, (end - start));
     }
   }
 
@@ -0,0 +1,155 @@
+package examples.org.optimizationBenchmarking.experimentation.synthetic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.io.impl.bbob.BBOBInput;
+import org.optimizationBenchmarking.experimentation.io.impl.csvedi.CSVEDIInput;
+import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIInput;
+import org.optimizationBenchmarking.experimentation.io.impl.tspSuite.TSPSuiteInput;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool;
+
+/**
+ * The file formats in which a {@link SyntheticExperimentSetGenerator} can
+ * store its experiment sets, together with the input tools to load them
+ * again.
+ */
+public enum ESyntheticExperimentFormat {
+
+  /** the Experiment Data Interchange format: one single XML file */
+  EDI(EDIInput.getInstance()) {
+    /** {@inheritDoc} */
+    @Override
+    final void _write(final SyntheticExperimentSetGenerator generator,
+        final Path dest) throws IOException {
+      SyntheticExperimentSetGenerator._writeEDI(
+          generator.createExperimentSet(), dest.resolve("data.edi")); //$NON-NLS-1$
+    }
+  },
+
+  /**
+   * the CSV+EDI format: dimensions, instances, and experiment parameters
+   * in EDI, the runs as text files
+   */
+  CSV_EDI(CSVEDIInput.getInstance()) {
+    /** {@inheritDoc} */
+    @Override
+    final void _write(final SyntheticExperimentSetGenerator generator,
+        final Path dest) throws IOException {
+      generator._writeCSVEDI(dest);
+    }
+  },
+
+  /**
+   * the TSP Suite format, using symmetric TSPLib instances and their
+   * optima
+   */
+  TSP_SUITE(TSPSuiteInput.getInstance()) {
+    /** {@inheritDoc} */
+    @Override
+    final void _write(final SyntheticExperimentSetGenerator generator,
+        final Path dest) throws IOException {
+      final int count;
+
+      count = Math.min(generator.getInstanceCount(),
+          ESyntheticExperimentFormat.TSP_INSTANCES.length);
+      generator._writeTSPSuite(dest, Arrays.copyOf(
+          ESyntheticExperimentFormat.TSP_INSTANCES, count), Arrays.copyOf(
+          ESyntheticExperimentFormat.TSP_OPTIMA, count));
+    }
+  },
+
+  /** the BBOB format, using the BBOB functions */
+  BBOB(BBOBInput.getInstance()) {
+    /** {@inheritDoc} */
+    @Override
+    final void _write(final SyntheticExperimentSetGenerator generator,
+        final Path dest) throws IOException {
+      final int[] functions, dimensions;
+      int instance;
+
+      functions = new int[Math.min(generator.getInstanceCount(),
+          (ESyntheticExperimentFormat.BBOB_FUNCTIONS * //
+          ESyntheticExperimentFormat.BBOB_DIMENSIONS.length))];
+      dimensions = new int[functions.length];
+      for (instance = functions.length; (--instance) >= 0;) {
+        functions[instance] = (1 + //
+        (instance % ESyntheticExperimentFormat.BBOB_FUNCTIONS));
+        dimensions[instance] = ESyntheticExperimentFormat.BBOB_DIMENSIONS[//
+        instance / ESyntheticExperimentFormat.BBOB_FUNCTIONS];
+      }
+      generator._writeBBOB(dest, functions, dimensions);
+    }
+  };
+
+  /** the symmetric TSPLib instances used in the TSP Suite format */
+  static final String[] TSP_INSTANCES = { "burma14", "ulysses16", //$NON-NLS-1$//$NON-NLS-2$
+      "gr17", "gr21", "ulysses22", "gr24", "fri26", "bayg29", "bays29", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$//$NON-NLS-7$
+      "dantzig42", "swiss42", "att48", "gr48", "hk48", "eil51", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$
+      "berlin52", "brazil58", "st70", "eil76", "pr76", "gr96", "rat99", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$//$NON-NLS-7$
+      "kroA100", "kroB100", "kroC100", "kroD100", "kroE100", "rd100", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$
+      "eil101", "lin105", "pr107", "ch130" }; //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+
+  /** the optimal tour lengths of the {@link #TSP_INSTANCES} */
+  static final long[] TSP_OPTIMA = { 3323L, 6859L, 2085L, 2707L, 7013L,
+      1272L, 937L, 1610L, 2020L, 699L, 1273L, 10628L, 5046L, 11461L, 426L,
+      7542L, 25395L, 675L, 538L, 108159L, 55209L, 1211L, 21282L, 22141L,
+      20749L, 21294L, 22068L, 7910L, 629L, 14379L, 44303L, 6110L };
+
+  /** the number of BBOB functions */
+  static final int BBOB_FUNCTIONS = 24;
+  /** the dimensions of the BBOB functions */
+  static final int[] BBOB_DIMENSIONS = { 2, 3, 5, 10, 20, 40 };
+
+  /** the input tool */
+  private final FileInputTool<ExperimentSetContext> m_input;
+
+  /**
+   * create
+   *
+   * @param input
+   *          the input tool
+   */
+  ESyntheticExperimentFormat(
+      final FileInputTool<ExperimentSetContext> input) {
+    this.m_input = input;
+  }
+
+  /**
+   * Write the data of a generator to a folder
+   *
+   * @param generator
+   *          the generator
+   * @param dest
+   *          the destination folder
+   * @throws IOException
+   *           if I/O fails
+   */
+  abstract void _write(final SyntheticExperimentSetGenerator generator,
+      final Path dest) throws IOException;
+
+  /**
+   * Load the experiment set from a folder which has been written with
+   * {@link SyntheticExperimentSetGenerator#write(ESyntheticExperimentFormat, Path)}
+   *
+   * @param source
+   *          the source folder
+   * @param logger
+   *          the logger, or {@code null}
+   * @return the experiment set
+   * @throws IOException
+   *           if I/O fails
+   */
+  public final IExperimentSet load(final Path source, final Logger logger)
+      throws IOException {
+    try (final ExperimentSetContext esc = new ExperimentSetContext(logger)) {
+      this.m_input.use().setLogger(logger).setDestination(esc)
+          .addPath(source).create().call();
+      return esc.create();
+    }
+  }
+}
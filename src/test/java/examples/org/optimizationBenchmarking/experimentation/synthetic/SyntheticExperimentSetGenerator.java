@@ -0,0 +1,793 @@
+package examples.org.optimizationBenchmarking.experimentation.synthetic;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.Parameter;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionType;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.io.impl.edi.EDI;
+import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIOutput;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.xml.XMLDocument;
+import org.optimizationBenchmarking.utils.io.xml.XMLElement;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseLongParser;
+import org.optimizationBenchmarking.utils.text.textOutput.NumberChars;
+
+/**
+ * <p>
+ * A generator for synthetic, but realistic and fully reproducible,
+ * experiment sets of arbitrary size. It allows for reproducing performance
+ * measurements without access to real experimental data.
+ * </p>
+ * <p>
+ * Each run is a monotone progress curve: The number of function
+ * evaluations ({@code FEs}) grows roughly log-uniformly, while the
+ * relative error ({@code F}) decreases from an initial value towards a
+ * floor which depends on the experiment (the &quot;algorithm&quot;), the
+ * instance (its &quot;difficulty&quot;), and the random seed of the run.
+ * Some runs reach the optimum and end there. All values are derived from a
+ * random number generator seeded with a combination of the
+ * {@link #getSeed() seed}, the experiment, the instance, and the run
+ * index, so the same run always has the same data, regardless of the
+ * format it is written in or the order in which runs are generated.
+ * </p>
+ * <p>
+ * The {@link #createExperimentSet() in-memory experiment sets} as well as
+ * the {@link ESyntheticExperimentFormat#EDI EDI} and
+ * {@link ESyntheticExperimentFormat#CSV_EDI CSV+EDI} files have
+ * {@link #getDimensionCount()} dimensions: {@code FEs}, {@code F}, and
+ * then alternating runtimes {@code T1}, {@code T2}, &hellip; and
+ * problem-dependent objective values {@code Q1}, {@code Q2}, &hellip;.
+ * The {@link ESyntheticExperimentFormat#TSP_SUITE TSP Suite} and
+ * {@link ESyntheticExperimentFormat#BBOB BBOB} formats have fixed
+ * dimensions and instances, so for them, the curves are mapped to these
+ * dimensions and the first {@link #getInstanceCount()} instances of the
+ * respective benchmark are used.
+ * </p>
+ */
+public final class SyntheticExperimentSetGenerator {
+
+  /** the name of the function evaluation dimension */
+  static final String DIMENSION_FES = "FEs"; //$NON-NLS-1$
+  /** the name of the relative error dimension */
+  static final String DIMENSION_F = "F"; //$NON-NLS-1$
+  /** the name of the scale feature */
+  static final String FEATURE_N = "n"; //$NON-NLS-1$
+  /** the name of the type feature */
+  static final String FEATURE_TYPE = "type"; //$NON-NLS-1$
+  /** the name of the population size parameter */
+  static final String PARAMETER_POPULATION_SIZE = "populationSize"; //$NON-NLS-1$
+
+  /** the namespace of the EDI format */
+  private static final URI EDI_NAMESPACE = URI
+      .create("http://www.optimizationBenchmarking.org/formats/experimentDataInterchange/experimentDataInterchange.1.0.xsd"); //$NON-NLS-1$
+
+  /** the maximum number of function evaluations of the easiest instance */
+  private static final double MAX_FES = 1e6d;
+
+  /** the number of dimensions */
+  private final int m_dimensions;
+  /** the number of instances */
+  private final int m_instances;
+  /** the number of experiments */
+  private final int m_experiments;
+  /** the number of runs per experiment and instance */
+  private final int m_runs;
+  /** the number of points per run */
+  private final int m_points;
+  /** the random seed */
+  private final long m_seed;
+
+  /**
+   * create the generator
+   *
+   * @param dimensions
+   *          the number of dimensions, at least {@code 2}
+   * @param instances
+   *          the number of instances
+   * @param experiments
+   *          the number of experiments
+   * @param runs
+   *          the number of runs per experiment and instance
+   * @param points
+   *          the maximum number of points per run
+   * @param seed
+   *          the random seed
+   */
+  public SyntheticExperimentSetGenerator(final int dimensions,
+      final int instances, final int experiments, final int runs,
+      final int points, final long seed) {
+    super();
+
+    SyntheticExperimentSetGenerator.__checkCount(dimensions, 2,
+        "dimensions"); //$NON-NLS-1$
+    SyntheticExperimentSetGenerator.__checkCount(instances, 1,
+        "instances"); //$NON-NLS-1$
+    SyntheticExperimentSetGenerator.__checkCount(experiments, 1,
+        "experiments"); //$NON-NLS-1$
+    SyntheticExperimentSetGenerator.__checkCount(runs, 1, "runs"); //$NON-NLS-1$
+    SyntheticExperimentSetGenerator.__checkCount(points, 1, "points"); //$NON-NLS-1$
+
+    this.m_dimensions = dimensions;
+    this.m_instances = instances;
+    this.m_experiments = experiments;
+    this.m_runs = runs;
+    this.m_points = points;
+    this.m_seed = seed;
+  }
+
+  /**
+   * check a count
+   *
+   * @param count
+   *          the count
+   * @param min
+   *          the minimum allowed value
+   * @param what
+   *          what is counted
+   */
+  private static final void __checkCount(final int count, final int min,
+      final String what) {
+    if (count < min) {
+      throw new IllegalArgumentException(((("Number of " + what) + //$NON-NLS-1$
+          " must be at least ") + min) + ", but is " + count); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+
+  /**
+   * Get the number of dimensions
+   *
+   * @return the number of dimensions
+   */
+  public final int getDimensionCount() {
+    return this.m_dimensions;
+  }
+
+  /**
+   * Get the number of instances
+   *
+   * @return the number of instances
+   */
+  public final int getInstanceCount() {
+    return this.m_instances;
+  }
+
+  /**
+   * Get the number of experiments
+   *
+   * @return the number of experiments
+   */
+  public final int getExperimentCount() {
+    return this.m_experiments;
+  }
+
+  /**
+   * Get the number of runs per experiment and instance
+   *
+   * @return the number of runs per experiment and instance
+   */
+  public final int getRunCount() {
+    return this.m_runs;
+  }
+
+  /**
+   * Get the maximum number of points per run
+   *
+   * @return the maximum number of points per run
+   */
+  public final int getPointCount() {
+    return this.m_points;
+  }
+
+  /**
+   * Get the random seed
+   *
+   * @return the random seed
+   */
+  public final long getSeed() {
+    return this.m_seed;
+  }
+
+  /**
+   * Get the name of an experiment
+   *
+   * @param experiment
+   *          the experiment index
+   * @return the name
+   */
+  static final String _experimentName(final int experiment) {
+    return ("alg" + experiment); //$NON-NLS-1$
+  }
+
+  /**
+   * Get the population size parameter of an experiment
+   *
+   * @param experiment
+   *          the experiment index
+   * @return the population size
+   */
+  static final int _populationSize(final int experiment) {
+    return (1 << (2 + (experiment % 5)));
+  }
+
+  /**
+   * Get the difficulty of an instance, a value in {@code [1, 2.75]}
+   *
+   * @param instance
+   *          the instance index
+   * @return the difficulty
+   */
+  private static final double __difficulty(final int instance) {
+    return (1d + ((instance & 7) * 0.25d));
+  }
+
+  /**
+   * Generate the progress curve of a run.
+   *
+   * @param experiment
+   *          the experiment index
+   * @param instance
+   *          the instance index
+   * @param run
+   *          the run index
+   * @param fes
+   *          the destination for the function evaluations, must have at
+   *          least {@link #getPointCount()} elements
+   * @param f
+   *          the destination for the relative errors, must have at least
+   *          {@link #getPointCount()} elements
+   * @return the number of points of the run
+   */
+  final int _curve(final int experiment, final int instance,
+      final int run, final long[] fes, final double[] f) {
+    final Random random;
+    final double difficulty, speed, logMaxFEs, start;
+    double floor, current, candidate;
+    long fe;
+    int index;
+
+    random = new Random(this.m_seed
+        + ((((experiment * 0x9E3779B97F4A7C15L) + instance) * //
+        0xC2B2AE3D27D4EB4FL) + run));
+
+    difficulty = SyntheticExperimentSetGenerator.__difficulty(instance);
+    speed = (0.6d + (0.1d * (experiment % 5)));
+    logMaxFEs = Math.log(SyntheticExperimentSetGenerator.MAX_FES
+        * difficulty);
+
+    if (random.nextDouble() < ((0.3d * speed) / difficulty)) {
+      floor = 0d;
+    } else {
+      floor = (Math.pow(10d, (-1 - (experiment & 3))) * difficulty * //
+      Math.exp(0.5d * random.nextGaussian()));
+    }
+
+    start = (0.5d + random.nextDouble());
+    current = Double.POSITIVE_INFINITY;
+    fe = 0L;
+
+    for (index = 0; index < this.m_points; index++) {
+      fe = Math.max((fe + 1L), ((long) (Math.exp((logMaxFEs * //
+          (index + 1)) / this.m_points) * //
+      (0.9d + (0.2d * random.nextDouble())))));
+
+      candidate = (floor + ((start - floor) * //
+          Math.exp((-8d * speed * Math.log(fe)) / //
+              (logMaxFEs * difficulty)) * //
+      Math.exp(0.1d * random.nextGaussian())));
+      if ((floor <= 0d) && (candidate < 1e-2d)) {
+        candidate = 0d;
+      }
+      current = Math.min(current, candidate);
+
+      fes[index] = fe;
+      f[index] = current;
+      if (current <= 0d) {
+        return (index + 1);
+      }
+    }
+
+    return this.m_points;
+  }
+
+  /**
+   * Create the experiment set in memory.
+   *
+   * @return the experiment set
+   */
+  public final IExperimentSet createExperimentSet() {
+    final long[][] longs;
+    final double[][] doubles;
+    final long[] fes;
+    final double[] f;
+    int dimension, experiment, instance, run, count, index;
+
+    longs = new long[this.m_dimensions][];
+    doubles = new double[this.m_dimensions][];
+    for (dimension = this.m_dimensions; (--dimension) >= 0;) {
+      if ((dimension & 1) != 0) {
+        doubles[dimension] = new double[this.m_points];
+      } else {
+        longs[dimension] = new long[this.m_points];
+      }
+    }
+    fes = longs[0];
+    f = doubles[1];
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext()) {
+      this.__createDimensions(esc);
+      this.__createInstances(esc);
+
+      for (experiment = 0; experiment < this.m_experiments; experiment++) {
+        try (final ExperimentContext ec = esc.createExperiment()) {
+          ec.setName(SyntheticExperimentSetGenerator
+              ._experimentName(experiment));
+          ec.setParameterValue(Parameter.PARAMETER_ALGORITHM,
+              SyntheticExperimentSetGenerator._experimentName(experiment));
+          ec.setParameterValue(
+              SyntheticExperimentSetGenerator.PARAMETER_POPULATION_SIZE,
+              Integer.valueOf(SyntheticExperimentSetGenerator
+                  ._populationSize(experiment)));
+
+          for (instance = 0; instance < this.m_instances; instance++) {
+            try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+              irc.setInstance(SyntheticExperimentSetGenerator
+                  ._instanceName(instance));
+
+              for (run = 0; run < this.m_runs; run++) {
+                count = this._curve(experiment, instance, run, fes, f);
+                for (dimension = 2; dimension < this.m_dimensions; //
+                dimension++) {
+                  if ((dimension & 1) == 0) {
+                    for (index = count; (--index) >= 0;) {
+                      longs[dimension][index] = //
+                      SyntheticExperimentSetGenerator._runtime(dimension,
+                          fes[index]);
+                    }
+                  } else {
+                    for (index = count; (--index) >= 0;) {
+                      doubles[dimension][index] = //
+                      SyntheticExperimentSetGenerator._objective(
+                          dimension, instance, f[index]);
+                    }
+                  }
+                }
+
+                try (final RunContext rc = irc.createRun()) {
+                  rc.addDataPoints(longs, doubles, count);
+                }
+              }
+            }
+          }
+        }
+      }
+
+      return esc.create();
+    }
+  }
+
+  /**
+   * Get the name of an instance of the generic dimension set
+   *
+   * @param instance
+   *          the instance index
+   * @return the name
+   */
+  static final String _instanceName(final int instance) {
+    return ("inst" + instance); //$NON-NLS-1$
+  }
+
+  /**
+   * Compute a runtime value from the number of function evaluations
+   *
+   * @param dimension
+   *          the dimension index
+   * @param fes
+   *          the function evaluations
+   * @return the runtime
+   */
+  static final long _runtime(final int dimension, final long fes) {
+    return ((fes * dimension) / 10L);
+  }
+
+  /**
+   * Compute a problem-dependent objective value from a relative error
+   *
+   * @param dimension
+   *          the dimension index
+   * @param instance
+   *          the instance index
+   * @param f
+   *          the relative error
+   * @return the objective value
+   */
+  static final double _objective(final int dimension, final int instance,
+      final double f) {
+    final double optimum;
+
+    optimum = ((100d * dimension) * (instance + 1));
+    return (optimum + (optimum * f));
+  }
+
+  /**
+   * Create the generic dimensions
+   *
+   * @param esc
+   *          the experiment set context
+   */
+  private final void __createDimensions(final ExperimentSetContext esc) {
+    int dimension;
+
+    try (final DimensionContext dc = esc.createDimension()) {
+      dc.setName(SyntheticExperimentSetGenerator.DIMENSION_FES);
+      dc.setDescription("the number of function evaluations"); //$NON-NLS-1$
+      dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+      dc.setType(EDimensionType.ITERATION_FE);
+      dc.setParser(new BoundedLooseLongParser(1L, Long.MAX_VALUE));
+    }
+
+    try (final DimensionContext dc = esc.createDimension()) {
+      dc.setName(SyntheticExperimentSetGenerator.DIMENSION_F);
+      dc.setDescription("the relative error"); //$NON-NLS-1$
+      dc.setDirection(EDimensionDirection.DECREASING);
+      dc.setType(EDimensionType.QUALITY_PROBLEM_INDEPENDENT);
+      dc.setParser(new BoundedLooseDoubleParser(0d, Double.MAX_VALUE));
+    }
+
+    for (dimension = 2; dimension < this.m_dimensions; dimension++) {
+      try (final DimensionContext dc = esc.createDimension()) {
+        if ((dimension & 1) == 0) {
+          dc.setName("T" + (dimension >>> 1)); //$NON-NLS-1$
+          dc.setDescription("a runtime in milliseconds"); //$NON-NLS-1$
+          dc.setDirection(EDimensionDirection.INCREASING);
+          dc.setType(EDimensionType.RUNTIME_CPU);
+          dc.setParser(new BoundedLooseLongParser(0L, Long.MAX_VALUE));
+        } else {
+          dc.setName("Q" + (dimension >>> 1)); //$NON-NLS-1$
+          dc.setDescription("an objective value"); //$NON-NLS-1$
+          dc.setDirection(EDimensionDirection.DECREASING);
+          dc.setType(EDimensionType.QUALITY_PROBLEM_DEPENDENT);
+          dc.setParser(new BoundedLooseDoubleParser(0d, Double.MAX_VALUE));
+        }
+      }
+    }
+  }
+
+  /**
+   * Create the generic instances
+   *
+   * @param esc
+   *          the experiment set context
+   */
+  private final void __createInstances(final ExperimentSetContext esc) {
+    int instance;
+
+    for (instance = 0; instance < this.m_instances; instance++) {
+      try (final InstanceContext ic = esc.createInstance()) {
+        ic.setName(SyntheticExperimentSetGenerator._instanceName(instance));
+        ic.setFeatureValue(SyntheticExperimentSetGenerator.FEATURE_N,
+            Integer.valueOf(10 << (instance & 7)));
+        ic.setFeatureValue(SyntheticExperimentSetGenerator.FEATURE_TYPE,
+            (((instance >>> 3) & 1) == 0) ? "dense" : "sparse"); //$NON-NLS-1$//$NON-NLS-2$
+      }
+    }
+  }
+
+  /**
+   * Write the experiment set in the given format.
+   *
+   * @param format
+   *          the format
+   * @param dest
+   *          the destination folder
+   * @throws IOException
+   *           if I/O fails
+   */
+  public final void write(final ESyntheticExperimentFormat format,
+      final Path dest) throws IOException {
+    format._write(this, dest);
+  }
+
+  /**
+   * Open a buffered writer to a path
+   *
+   * @param path
+   *          the path
+   * @return the writer
+   * @throws IOException
+   *           if I/O fails
+   */
+  static final Writer _openWriter(final Path path) throws IOException {
+    return new BufferedWriter(new OutputStreamWriter(
+        PathUtils.openOutputStream(path), StandardCharsets.UTF_8), 65536);
+  }
+
+  /**
+   * Write the experiment set in EDI format
+   *
+   * @param data
+   *          the data
+   * @param dest
+   *          the destination file
+   * @throws IOException
+   *           if I/O fails
+   */
+  static final void _writeEDI(final Object data, final Path dest)
+      throws IOException {
+    EDIOutput.getInstance().use().setPath(dest).setSource(data).create()
+        .call();
+  }
+
+  /**
+   * Write the experiment set in CSV+EDI format
+   *
+   * @param dest
+   *          the destination folder
+   * @throws IOException
+   *           if I/O fails
+   */
+  final void _writeCSVEDI(final Path dest) throws IOException {
+    final IExperimentSet data;
+    final long[] fes;
+    final double[] f;
+    final char[] buffer;
+    Path folder;
+    String name;
+    int experiment, instance, run, count, index, dimension, end;
+
+    // the dimensions and instances do not depend on the runs
+    data = new SyntheticExperimentSetGenerator(this.m_dimensions,
+        this.m_instances, 1, 1, 1, this.m_seed).createExperimentSet();
+    SyntheticExperimentSetGenerator._writeEDI(data.getDimensions(),
+        dest.resolve("dimensions.xml")); //$NON-NLS-1$
+    SyntheticExperimentSetGenerator._writeEDI(data.getInstances(),
+        dest.resolve("instances.xml")); //$NON-NLS-1$
+
+    fes = new long[this.m_points];
+    f = new double[this.m_points];
+    buffer = new char[(this.m_dimensions * //
+    (Math.max(NumberChars.MAX_LONG_CHARS, NumberChars.MAX_DOUBLE_CHARS) + 1))];
+
+    for (experiment = 0; experiment < this.m_experiments; experiment++) {
+      name = SyntheticExperimentSetGenerator._experimentName(experiment);
+      SyntheticExperimentSetGenerator.__writeExperimentParameters(
+          experiment, dest.resolve(name).resolve("experiment.xml")); //$NON-NLS-1$
+
+      for (instance = 0; instance < this.m_instances; instance++) {
+        folder = dest.resolve(name).resolve(
+            SyntheticExperimentSetGenerator._instanceName(instance));
+
+        for (run = 0; run < this.m_runs; run++) {
+          count = this._curve(experiment, instance, run, fes, f);
+          try (final Writer writer = SyntheticExperimentSetGenerator
+              ._openWriter(folder.resolve("run_" + (run + 1) + ".txt"))) { //$NON-NLS-1$//$NON-NLS-2$
+            for (index = 0; index < count; index++) {
+              end = NumberChars.formatLong(fes[index], buffer, 0);
+              buffer[end++] = ' ';
+              end = NumberChars.formatDoubleCompact(f[index], buffer, end);
+              for (dimension = 2; dimension < this.m_dimensions; dimension++) {
+                buffer[end++] = ' ';
+                end = (((dimension & 1) == 0) ? NumberChars.formatLong(
+                    SyntheticExperimentSetGenerator._runtime(dimension,
+                        fes[index]), buffer, end) : NumberChars
+                    .formatDoubleCompact(SyntheticExperimentSetGenerator
+                        ._objective(dimension, instance, f[index]), buffer,
+                        end));
+              }
+              buffer[end++] = '\n';
+              writer.write(buffer, 0, end);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Write the parameters of an experiment to an EDI file, as expected by
+   * the CSV+EDI input
+   *
+   * @param experiment
+   *          the experiment
+   * @param dest
+   *          the destination file
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final void __writeExperimentParameters(
+      final int experiment, final Path dest) throws IOException {
+    final URI namespace;
+
+    namespace = SyntheticExperimentSetGenerator.EDI_NAMESPACE;
+    try (final Writer writer = SyntheticExperimentSetGenerator
+        ._openWriter(dest)) {
+      try (final XMLDocument document = new XMLDocument(writer)) {
+        try (final XMLElement root = document.element()) {
+          root.namespaceSetPrefix(namespace, "e"); //$NON-NLS-1$
+          root.name(namespace, EDI.ELEMENT_EXPERIMENT);
+          root.attributeRaw(namespace, "name", //$NON-NLS-1$
+              SyntheticExperimentSetGenerator._experimentName(experiment));
+          SyntheticExperimentSetGenerator.__writeParameter(root,
+              Parameter.PARAMETER_ALGORITHM,
+              SyntheticExperimentSetGenerator._experimentName(experiment));
+          SyntheticExperimentSetGenerator.__writeParameter(root,
+              SyntheticExperimentSetGenerator.PARAMETER_POPULATION_SIZE,
+              Integer.toString(SyntheticExperimentSetGenerator
+                  ._populationSize(experiment)));
+        }
+      }
+    }
+  }
+
+  /**
+   * Write a parameter value element
+   *
+   * @param root
+   *          the experiment element
+   * @param name
+   *          the parameter name
+   * @param value
+   *          the parameter value
+   */
+  private static final void __writeParameter(final XMLElement root,
+      final String name, final String value) {
+    try (final XMLElement parameter = root.element()) {
+      parameter.name(SyntheticExperimentSetGenerator.EDI_NAMESPACE,
+          "parameter"); //$NON-NLS-1$
+      parameter.attributeRaw(SyntheticExperimentSetGenerator.EDI_NAMESPACE,
+          "name", name); //$NON-NLS-1$
+      parameter.attributeRaw(SyntheticExperimentSetGenerator.EDI_NAMESPACE,
+          "value", value); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Write the experiment set in TSP Suite format
+   *
+   * @param dest
+   *          the destination folder
+   * @param instances
+   *          the names of the instances to use
+   * @param optima
+   *          the optimal tour lengths of the instances
+   * @throws IOException
+   *           if I/O fails
+   */
+  final void _writeTSPSuite(final Path dest, final String[] instances,
+      final long[] optima) throws IOException {
+    final long[] fes;
+    final double[] f;
+    final char[] buffer;
+    long optimum, length, time;
+    int experiment, instance, run, count, index, end;
+    String name;
+
+    fes = new long[this.m_points];
+    f = new double[this.m_points];
+    buffer = new char[6 * (NumberChars.MAX_DOUBLE_CHARS + 1)];
+
+    for (experiment = 0; experiment < this.m_experiments; experiment++) {
+      name = SyntheticExperimentSetGenerator._experimentName(experiment);
+      for (instance = 0; instance < instances.length; instance++) {
+        optimum = optima[instance];
+        for (run = 0; run < this.m_runs; run++) {
+          count = this._curve(experiment, instance, run, fes, f);
+          try (final Writer writer = SyntheticExperimentSetGenerator
+              ._openWriter(dest.resolve("results").resolve(name) //$NON-NLS-1$
+                  .resolve("symmetric").resolve(instances[instance]) //$NON-NLS-1$
+                  .resolve("run_" + (run + 1) + ".txt"))) { //$NON-NLS-1$//$NON-NLS-2$
+            writer.write("ALGORITHM_DATA_SECTION\n"); //$NON-NLS-1$
+            writer.write(Parameter.PARAMETER_ALGORITHM);
+            writer.write(": "); //$NON-NLS-1$
+            writer.write(name);
+            writer.write('\n');
+            writer.write(//
+                SyntheticExperimentSetGenerator.PARAMETER_POPULATION_SIZE);
+            writer.write(": "); //$NON-NLS-1$
+            writer.write(Integer.toString(SyntheticExperimentSetGenerator
+                ._populationSize(experiment)));
+            writer.write("\nSECTION_END\nLOG_DATA_SECTION\n"); //$NON-NLS-1$
+
+            for (index = 0; index < count; index++) {
+              length = (optimum + Math.round(optimum * f[index]));
+              time = (fes[index] / 100L);
+              end = NumberChars.formatLong(fes[index], buffer, 0);
+              buffer[end++] = ' ';
+              end = NumberChars.formatLong((fes[index] << 1), buffer, end);
+              buffer[end++] = ' ';
+              end = NumberChars.formatLong(time, buffer, end);
+              buffer[end++] = ' ';
+              end = NumberChars.formatDoubleCompact((time / 10d), buffer,
+                  end);
+              buffer[end++] = ' ';
+              end = NumberChars.formatLong(length, buffer, end);
+              buffer[end++] = ' ';
+              end = NumberChars.formatDoubleCompact(
+                  ((length - optimum) / ((double) optimum)), buffer, end);
+              buffer[end++] = '\n';
+              writer.write(buffer, 0, end);
+            }
+            writer.write("SECTION_END\n"); //$NON-NLS-1$
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Write the experiment set in BBOB format
+   *
+   * @param dest
+   *          the destination folder
+   * @param functions
+   *          the function ids of the instances to use
+   * @param dimensions
+   *          the dimensions of the instances to use
+   * @throws IOException
+   *           if I/O fails
+   */
+  final void _writeBBOB(final Path dest, final int[] functions,
+      final int[] dimensions) throws IOException {
+    final long[] fes;
+    final double[] f;
+    final char[] buffer;
+    int experiment, instance, run, count, index, end;
+    String name;
+
+    fes = new long[this.m_points];
+    f = new double[this.m_points];
+    buffer = new char[3 * (NumberChars.MAX_DOUBLE_CHARS + 1)];
+
+    for (experiment = 0; experiment < this.m_experiments; experiment++) {
+      name = SyntheticExperimentSetGenerator._experimentName(experiment);
+      for (instance = 0; instance < functions.length; instance++) {
+        try (final Writer writer = SyntheticExperimentSetGenerator
+            ._openWriter(dest.resolve(name)
+                .resolve("data_f" + functions[instance]).resolve(//$NON-NLS-1$
+                    ((("bbobexp_f" + functions[instance]) + //$NON-NLS-1$
+                    "_DIM") + dimensions[instance]) + ".dat"))) { //$NON-NLS-1$//$NON-NLS-2$
+          for (run = 0; run < this.m_runs; run++) {
+            count = this._curve(experiment, instance, run, fes, f);
+            writer.write(//
+                "% function evaluations | noise-free fitness - Fopt | best noise-free fitness - Fopt\n"); //$NON-NLS-1$
+            for (index = 0; index < count; index++) {
+              end = NumberChars.formatLong(fes[index], buffer, 0);
+              buffer[end++] = ' ';
+              end = NumberChars.formatDoubleCompact(f[index], buffer, end);
+              buffer[end++] = ' ';
+              end = NumberChars.formatDoubleCompact(f[index], buffer, end);
+              buffer[end++] = '\n';
+              writer.write(buffer, 0, end);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return ((((((((((("synthetic experiments: " + //$NON-NLS-1$
+        this.m_dimensions) + " dimensions, ") + //$NON-NLS-1$
+        this.m_instances) + " instances, ") + //$NON-NLS-1$
+        this.m_experiments) + " experiments, ") + //$NON-NLS-1$
+        this.m_runs) + " runs, ") + //$NON-NLS-1$
+        this.m_points) + " points, seed ") + this.m_seed); //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * A generator for synthetic experiment sets of configurable size in all
+ * supported file formats, used by the tests and by the scaling benchmark.
+ */
+package examples.org.optimizationBenchmarking.experimentation.synthetic;
@@ -21,6 +21,7 @@ import org.optimizationBenchmarking.utils.document.spec.IDocument;
 import org.optimizationBenchmarking.utils.document.spec.IDocumentBody;
 import org.optimizationBenchmarking.utils.document.spec.IDocumentHeader;
 import org.optimizationBenchmarking.utils.document.spec.IText;
+import org.optimizationBenchmarking.utils.document.template.DocumentTemplate;
 import org.optimizationBenchmarking.utils.document.template.DocumentXMLHandler;
 import org.optimizationBenchmarking.utils.document.template.DocumentXMLInput;
 import org.optimizationBenchmarking.utils.document.template.IDocumentCallback;
@@ -75,6 +76,9 @@ public class TemplateDocumentExample extends DocumentExample {
     }
   }
 
+  /** should the template be compiled before being applied? */
+  private final boolean m_compiled;
+
   /** the singleton bib record */
   public static final BibRecord STATIC_BIB_ENTRY;
 
@@ -109,7 +113,22 @@ public class TemplateDocumentExample extends DocumentExample {
    *          the document
    */
   public TemplateDocumentExample(final IDocument doc) {
+    this(doc, false);
+  }
+
+  /**
+   * create
+   *
+   * @param doc
+   *          the document
+   * @param compiled
+   *          should the template be {@link DocumentTemplate compiled}
+   *          before being applied?
+   */
+  public TemplateDocumentExample(final IDocument doc,
+      final boolean compiled) {
     super(doc);
+    this.m_compiled = compiled;
   }
 
   /** {@inheritDoc} */
@@ -131,12 +150,17 @@ public class TemplateDocumentExample extends DocumentExample {
     try (final IDocumentBody body = this.m_doc.body()) {
 
       try {
-        DocumentXMLInput
-            .getInstance()
-            .use()
-            .setDestination(new DocumentXMLHandler(body, properties))
-            .addResource(TemplateDocumentExample.class,
-                "exampleTemplate.template").create().call(); //$NON-NLS-1$
+        if (this.m_compiled) {
+          DocumentTemplate.compile(TemplateDocumentExample.class,
+              "exampleTemplate.template").apply(body, properties); //$NON-NLS-1$
+        } else {
+          DocumentXMLInput
+              .getInstance()
+              .use()
+              .setDestination(new DocumentXMLHandler(body, properties))
+              .addResource(TemplateDocumentExample.class,
+                  "exampleTemplate.template").create().call(); //$NON-NLS-1$
+        }
       } catch (final IOException ioe) {
         RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
             "Error while executing document template.",//$NON-NLS-1$
@@ -0,0 +1,213 @@
+package test.junit.org.optimizationBenchmarking.experimentation.attributes.statistics.ert;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.experimentation.attributes.statistics.ert.ExpectedRunningTimes;
+import org.optimizationBenchmarking.experimentation.attributes.statistics.ert.InstanceRunsExpectedRunningTimes;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionType;
+import org.optimizationBenchmarking.experimentation.data.spec.IDataPoint;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseLongParser;
+
+import test.junit.TestBase;
+
+/**
+ * Test the
+ * {@link org.optimizationBenchmarking.experimentation.attributes.statistics.ert.InstanceRunsExpectedRunningTimes
+ * expected running time} attribute against values computed by hand.
+ */
+public class InstanceRunsExpectedRunningTimesTest extends TestBase {
+
+  /** the function evaluations of the runs */
+  private static final long[][] FES = { { 1L, 4L, 8L },//
+      { 2L, 5L, 20L },//
+      { 1L, 3L } };
+
+  /** the objective values of the runs */
+  private static final double[][] F = { { 10d, 5d, 2d },//
+      { 9d, 6d, 1d },//
+      { 8d, 7d } };
+
+  /**
+   * the goals, in arbitrary order: goal {@code 7} is reached by all runs,
+   * goals {@code 5} and {@code 2} are not reached by the third run, and no
+   * run reaches goal {@code 0.5}
+   */
+  private static final double[] GOALS = { 2d, 0.5d, 7d, 5d };
+
+  /** the goals, from the easiest to the hardest */
+  private static final double[] SORTED_GOALS = { 7d, 5d, 2d, 0.5d };
+
+  /** the number of runs reaching the sorted goals */
+  private static final int[] SUCCESSES = { 3, 2, 2, 0 };
+
+  /**
+   * the expected running times for the sorted goals, i.e.,
+   * {@code (4+5+3)/3}, {@code (4+20+3)/2}, {@code (8+20+3)/2}, and
+   * infinity
+   */
+  private static final double[] ERTS = { 4d, 13.5d, 15.5d,
+      Double.POSITIVE_INFINITY };
+
+  /** create */
+  public InstanceRunsExpectedRunningTimesTest() {
+    super();
+  }
+
+  /**
+   * Create the instance runs set
+   *
+   * @return the instance runs set
+   */
+  private static final IInstanceRuns __create() {
+    final long[][] fes;
+    final double[][] f;
+    final IExperimentSet set;
+    int run, point;
+
+    fes = InstanceRunsExpectedRunningTimesTest.FES;
+    f = InstanceRunsExpectedRunningTimesTest.F;
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(
+        TestBase.getNullLogger())) {
+      try (final DimensionContext dc = esc.createDimension()) {
+        dc.setName("FEs"); //$NON-NLS-1$
+        dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+        dc.setType(EDimensionType.ITERATION_FE);
+        dc.setParser(new BoundedLooseLongParser(1L, Long.MAX_VALUE));
+      }
+      try (final DimensionContext dc = esc.createDimension()) {
+        dc.setName("F"); //$NON-NLS-1$
+        dc.setDirection(EDimensionDirection.DECREASING);
+        dc.setType(EDimensionType.QUALITY_PROBLEM_INDEPENDENT);
+        dc.setParser(new BoundedLooseDoubleParser(0d, Double.MAX_VALUE));
+      }
+      try (final InstanceContext ic = esc.createInstance()) {
+        ic.setName("instance"); //$NON-NLS-1$
+        ic.setFeatureValue("n", Integer.valueOf(10)); //$NON-NLS-1$
+      }
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("experiment"); //$NON-NLS-1$
+        ec.setParameterValue("index", Integer.valueOf(0)); //$NON-NLS-1$
+        try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+          irc.setInstance("instance"); //$NON-NLS-1$
+          for (run = 0; run < fes.length; run++) {
+            try (final RunContext rc = irc.createRun()) {
+              for (point = 0; point < fes[run].length; point++) {
+                rc.addDataPoint(Long.valueOf(fes[run][point]),
+                    Double.valueOf(f[run][point]));
+              }
+            }
+          }
+        }
+      }
+      set = esc.create();
+    }
+    return set.getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Compute the expected running times
+   *
+   * @param runs
+   *          the instance runs
+   * @return the expected running times
+   */
+  private static final ExpectedRunningTimes __compute(
+      final IInstanceRuns runs) {
+    final ArrayListView<? extends IDimension> dimensions;
+    final Number[] goals;
+    int index;
+
+    dimensions = runs.getOwner().getOwner().getDimensions().getData();
+    goals = new Number[InstanceRunsExpectedRunningTimesTest.GOALS.length];
+    for (index = goals.length; (--index) >= 0;) {
+      goals[index] = Double
+          .valueOf(InstanceRunsExpectedRunningTimesTest.GOALS[index]);
+    }
+    return new InstanceRunsExpectedRunningTimes(dimensions.get(1),
+        dimensions.get(0), goals).get(runs, TestBase.getNullLogger());
+  }
+
+  /**
+   * Test the expected running times against the values computed by hand
+   * for the goals sorted from the easiest to the hardest
+   */
+  @Test(timeout = 3600000)
+  public void testHandComputedValues() {
+    final double[] goals;
+    final ExpectedRunningTimes ert;
+    int goal;
+
+    goals = InstanceRunsExpectedRunningTimesTest.SORTED_GOALS;
+    ert = InstanceRunsExpectedRunningTimesTest
+        .__compute(InstanceRunsExpectedRunningTimesTest.__create());
+
+    Assert.assertEquals(InstanceRunsExpectedRunningTimesTest.FES.length,
+        ert.getRunCount());
+    Assert.assertEquals(goals.length, ert.getGoals().size());
+    for (goal = goals.length; (--goal) >= 0;) {
+      Assert.assertEquals(goals[goal], ert.getGoals().get(goal)
+          .doubleValue(), 0d);
+      Assert.assertEquals(
+          InstanceRunsExpectedRunningTimesTest.SUCCESSES[goal],
+          ert.getSuccessCount(goal));
+      Assert.assertEquals(InstanceRunsExpectedRunningTimesTest.ERTS[goal],
+          ert.getExpectedRunningTime(goal), 0d);
+    }
+  }
+
+  /**
+   * Test the expected running times against the values computed from the
+   * points returned by {@link IRun#find(int, double)} for each run and
+   * goal
+   */
+  @Test(timeout = 3600000)
+  public void testAgainstFind() {
+    final IInstanceRuns runs;
+    final ExpectedRunningTimes ert;
+    ArrayListView<? extends IDataPoint> points;
+    IDataPoint found;
+    double goalValue, times;
+    int goal, successes;
+
+    runs = InstanceRunsExpectedRunningTimesTest.__create();
+    ert = InstanceRunsExpectedRunningTimesTest.__compute(runs);
+
+    for (goal = ert.getGoals().size(); (--goal) >= 0;) {
+      goalValue = ert.getGoals().get(goal).doubleValue();
+      successes = 0;
+      times = 0d;
+      for (final IRun run : runs.getData()) {
+        found = run.find(1, goalValue);
+        if (found != null) {
+          successes++;
+          times += found.getLong(0);
+        } else {
+          points = run.getData();
+          times += points.get(points.size() - 1).getLong(0);
+        }
+      }
+
+      Assert.assertEquals(successes, ert.getSuccessCount(goal));
+      Assert.assertEquals(
+          ((successes > 0) ? (times / successes)
+              : Double.POSITIVE_INFINITY),
+          ert.getExpectedRunningTime(goal), 0d);
+      Assert.assertEquals((successes / ((double) (runs.getData().size()))),
+          ert.getSuccessRate(goal), 0d);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * Tests of the
+ * {@link org.optimizationBenchmarking.experimentation.attributes.statistics.ert
+ * expected running time} attributes.
+ */
+package test.junit.org.optimizationBenchmarking.experimentation.attributes.statistics.ert;
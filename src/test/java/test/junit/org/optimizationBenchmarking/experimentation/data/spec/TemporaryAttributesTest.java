@@ -0,0 +1,158 @@
+package test.junit.org.optimizationBenchmarking.experimentation.data.spec;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.experimentation.data.spec.Attribute;
+import org.optimizationBenchmarking.experimentation.data.spec.DataElement;
+import org.optimizationBenchmarking.experimentation.data.spec.EAttributeType;
+import org.optimizationBenchmarking.experimentation.data.spec.IDataElement;
+import org.optimizationBenchmarking.utils.MemoryGovernor;
+
+import test.junit.TestBase;
+
+/**
+ * Test the caching of
+ * {@link org.optimizationBenchmarking.experimentation.data.spec.EAttributeType#TEMPORARILY_STORED
+ * temporarily stored} attributes: Their values must be dropped when the
+ * {@link org.optimizationBenchmarking.utils.MemoryGovernor} signals memory
+ * pressure, but must not be kept alive beyond the data element storing
+ * them.
+ */
+public class TemporaryAttributesTest extends TestBase {
+
+  /** create */
+  public TemporaryAttributesTest() {
+    super();
+  }
+
+  /** Test that temporary values are dropped under memory pressure */
+  @Test(timeout = 3600000)
+  public void testDroppedUnderPressure() {
+    final __Element element;
+    final __TemporaryAttribute temporary;
+    final __PermanentAttribute permanent;
+    final Object temporaryValue, permanentValue;
+
+    element = new __Element();
+    temporary = new __TemporaryAttribute();
+    permanent = new __PermanentAttribute();
+
+    temporaryValue = temporary.get(element, null);
+    permanentValue = permanent.get(element, null);
+    Assert.assertSame(temporaryValue, temporary.get(element, null));
+    Assert.assertSame(permanentValue, permanent.get(element, null));
+    Assert.assertEquals(1, temporary.m_computed.get());
+    Assert.assertEquals(1, permanent.m_computed.get());
+
+    MemoryGovernor.getInstance().signalPressure();
+
+    Assert.assertNotSame(temporaryValue, temporary.get(element, null));
+    Assert.assertSame(permanentValue, permanent.get(element, null));
+    Assert.assertEquals(2, temporary.m_computed.get());
+    Assert.assertEquals(1, permanent.m_computed.get());
+
+    // the element must have been registered again
+    MemoryGovernor.getInstance().signalPressure();
+    temporary.get(element, null);
+    Assert.assertEquals(3, temporary.m_computed.get());
+  }
+
+  /**
+   * Test that the temporary value of a data element which is no longer
+   * used is collected by a normal garbage collection, i.e., that it is
+   * not kept softly reachable by the registry of temporary attributes
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testValueCollectedWithElement() throws InterruptedException {
+    final __TemporaryAttribute temporary;
+    final WeakReference<Object> value;
+    final WeakReference<__Element> owner;
+    __Element element;
+    int attempt;
+
+    temporary = new __TemporaryAttribute();
+    element = new __Element();
+    value = new WeakReference<>(temporary.get(element, null));
+    owner = new WeakReference<>(element);
+    Assert.assertNotNull(value.get());
+    element = null;
+
+    for (attempt = 0; (attempt < 100) && //
+        ((value.get() != null) || (owner.get() != null)); attempt++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+
+    Assert.assertNull(owner.get());
+    Assert.assertNull(value.get());
+  }
+
+  /** a data element */
+  private static final class __Element extends DataElement {
+
+    /** create */
+    __Element() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final IDataElement getOwner() {
+      return null;
+    }
+  }
+
+  /** an attribute counting its computations */
+  private static class __CountingAttribute extends
+      Attribute<__Element, Object> {
+
+    /** the number of computations */
+    final AtomicInteger m_computed;
+
+    /**
+     * create
+     *
+     * @param type
+     *          the attribute type
+     */
+    __CountingAttribute(final EAttributeType type) {
+      super(type);
+      this.m_computed = new AtomicInteger();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Object compute(final __Element data,
+        final Logger logger) {
+      this.m_computed.incrementAndGet();
+      return new Object();
+    }
+  }
+
+  /** a temporarily stored attribute */
+  private static final class __TemporaryAttribute extends
+      __CountingAttribute {
+
+    /** create */
+    __TemporaryAttribute() {
+      super(EAttributeType.TEMPORARILY_STORED);
+    }
+  }
+
+  /** a permanently stored attribute */
+  private static final class __PermanentAttribute extends
+      __CountingAttribute {
+
+    /** create */
+    __PermanentAttribute() {
+      super(EAttributeType.PERMANENTLY_STORED);
+    }
+  }
+}
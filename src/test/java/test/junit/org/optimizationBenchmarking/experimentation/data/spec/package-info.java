@@ -0,0 +1,5 @@
+/**
+ * Tests of the {@link org.optimizationBenchmarking.experimentation.data.spec
+ * specification} of the experiment data API.
+ */
+package test.junit.org.optimizationBenchmarking.experimentation.data.spec;
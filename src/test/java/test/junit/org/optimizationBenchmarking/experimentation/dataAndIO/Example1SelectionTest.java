@@ -0,0 +1,191 @@
+package test.junit.org.optimizationBenchmarking.experimentation.dataAndIO;
+
+import java.util.ArrayList;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelection;
+import org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelectionBuilder;
+import org.optimizationBenchmarking.experimentation.data.impl.shadow.ShadowExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstance;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IProperty;
+import org.optimizationBenchmarking.experimentation.data.spec.IPropertySet;
+import org.optimizationBenchmarking.experimentation.data.spec.IPropertyValue;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+
+import test.junit.TestBase;
+import examples.org.optimizationBenchmarking.experimentation.dataAndIO.Example1;
+
+/**
+ * Test whether the selections created by a
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelectionBuilder}
+ * contain the same data as the equivalent
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.shadow.DataSelection}
+ * s created element by element.
+ */
+public class Example1SelectionTest extends TestBase {
+
+  /** create */
+  public Example1SelectionTest() {
+    super();
+  }
+
+  /**
+   * Get the experiment set
+   *
+   * @return the experiment set
+   */
+  private static final IExperimentSet __getExperimentSet() {
+    try {
+      return new Example1(TestBase.getNullLogger()).getExperimentSet();
+    } catch (final Throwable error) {
+      throw new RuntimeException("Failed to create experiment set.", //$NON-NLS-1$
+          error);
+    }
+  }
+
+  /**
+   * Describe the contents of a selection
+   *
+   * @param selection
+   *          the selection
+   * @return the description
+   */
+  private static final String __describe(final DataSelection selection) {
+    final IExperimentSet set;
+    final StringBuilder builder;
+    TreeSet<String> elements, subElements;
+
+    set = new ShadowExperimentSet<>(null, selection);
+    builder = new StringBuilder();
+
+    elements = new TreeSet<>();
+    for (final IExperiment experiment : set.getData()) {
+      Assert.assertSame(set, experiment.getOwner());
+      subElements = new TreeSet<>();
+      for (final IInstanceRuns runs : experiment.getData()) {
+        Assert.assertSame(experiment, runs.getOwner());
+        subElements.add(runs.getInstance().getName() + ':'
+            + runs.getData().size());
+      }
+      elements.add(experiment.getName() + subElements);
+    }
+    builder.append(elements);
+
+    elements = new TreeSet<>();
+    for (final IInstance instance : set.getInstances().getData()) {
+      elements.add(instance.getName());
+    }
+    builder.append(elements);
+
+    for (final IPropertySet properties : new IPropertySet[] {
+        set.getFeatures(), set.getParameters() }) {
+      elements = new TreeSet<>();
+      for (final IProperty property : properties.getData()) {
+        subElements = new TreeSet<>();
+        for (final Object value : property.getData()) {
+          subElements.add(String.valueOf(((IPropertyValue) value)
+              .getValue()));
+        }
+        elements.add(property.getName() + subElements);
+      }
+      builder.append(elements);
+    }
+
+    return builder.toString();
+  }
+
+  /** test selecting experiments */
+  @Test(timeout = 3600000)
+  public void testSelectExperiments() {
+    final IExperimentSet set;
+    final DataSelectionBuilder builder;
+    final ArrayListView<? extends IExperiment> experiments;
+    DataSelection expected;
+    int i;
+
+    set = Example1SelectionTest.__getExperimentSet();
+    builder = new DataSelectionBuilder(set);
+    experiments = set.getData();
+
+    for (i = experiments.size(); i >= 0; i--) {
+      expected = new DataSelection(set);
+      expected.addExperiments(experiments.subList(0, i));
+      Assert.assertEquals(Example1SelectionTest.__describe(expected),
+          Example1SelectionTest.__describe(builder
+              .selectExperiments(experiments.subList(0, i))));
+    }
+  }
+
+  /** test selecting groups of property values */
+  @Test(timeout = 3600000)
+  public void testSelectPropertyValueGroups() {
+    final IExperimentSet set;
+    final DataSelectionBuilder builder;
+    final ArrayList<IProperty> properties;
+    DataSelection[] selections;
+    DataSelection expected;
+    Object[][] groups;
+    int i;
+
+    set = Example1SelectionTest.__getExperimentSet();
+    builder = new DataSelectionBuilder(set);
+    properties = new ArrayList<>();
+    properties.addAll(set.getFeatures().getData());
+    properties.addAll(set.getParameters().getData());
+
+    for (final IProperty property : properties) {
+      groups = new Object[property.getData().size() + 1][];
+      groups[groups.length - 1] = new Object[groups.length - 1];
+      for (i = groups.length - 1; (--i) >= 0;) {
+        groups[i] = new Object[] { ((IPropertyValue) (property.getData()
+            .get(i))).getValue() };
+        groups[groups.length - 1][i] = groups[i][0];
+      }
+
+      selections = builder.selectPropertyValueGroups(property, groups);
+      Assert.assertEquals(groups.length, selections.length);
+      for (i = groups.length; (--i) >= 0;) {
+        expected = new DataSelection(set);
+        for (final Object value : groups[i]) {
+          expected.addPropertyValue(property, value);
+        }
+        Assert.assertEquals(Example1SelectionTest.__describe(expected),
+            Example1SelectionTest.__describe(selections[i]));
+      }
+    }
+  }
+
+  /** test selecting instances and extending the selection afterwards */
+  @Test(timeout = 3600000)
+  public void testSelectInstanceGroups() {
+    final IExperimentSet set;
+    final DataSelectionBuilder builder;
+    final IInstance[][] groups;
+    final DataSelection[] selections;
+    DataSelection expected;
+    int i;
+
+    set = Example1SelectionTest.__getExperimentSet();
+    builder = new DataSelectionBuilder(set);
+    groups = new IInstance[set.getInstances().getData().size()][];
+    for (i = groups.length; (--i) >= 0;) {
+      groups[i] = new IInstance[] { set.getInstances().getData().get(i) };
+    }
+
+    selections = builder.selectInstanceGroups(groups);
+    Assert.assertEquals(groups.length, selections.length);
+    for (i = groups.length; (--i) >= 0;) {
+      expected = new DataSelection(set);
+      expected.addInstance(groups[i][0]);
+      expected.addExperiment(set.getData().get(0));
+      selections[i].addExperiment(set.getData().get(0));
+      Assert.assertEquals(Example1SelectionTest.__describe(expected),
+          Example1SelectionTest.__describe(selections[i]));
+    }
+  }
+}
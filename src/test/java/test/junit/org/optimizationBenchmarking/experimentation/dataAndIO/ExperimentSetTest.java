@@ -28,6 +28,7 @@ import org.optimizationBenchmarking.experimentation.data.spec.IRun;
 import org.optimizationBenchmarking.experimentation.evaluation.spec.IEvaluationInput;
 import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIInput;
 import org.optimizationBenchmarking.experimentation.io.impl.edi.EDIOutput;
+import org.optimizationBenchmarking.experimentation.io.impl.edi.StAXEDIInput;
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.comparison.EComparison;
 import org.optimizationBenchmarking.utils.math.functions.arithmetic.SaturatingAdd;
@@ -649,6 +650,50 @@ public class ExperimentSetTest extends InstanceTest<IExperimentSet> {
 
   }
 
+  /**
+   * Test whether an experiment set stored as EDI is read back identically
+   * by the StAX-based EDI input, both in validating and non-validating
+   * mode.
+   */
+  @Test(timeout = 3600000)
+  public void testStAXEDIDeserialization() {
+    final IExperimentSet inst;
+    final EDIOutput output;
+    IExperimentSet es;
+    final String s;
+
+    output = EDIOutput.getInstance();
+    Assert.assertNotNull(output);
+    Assert.assertTrue(output.canUse());
+
+    inst = this.getInstance();
+    try {
+      try (final StringWriter w = new StringWriter()) {
+        output.use().setWriter(w).setSource(inst).create().call();
+        s = w.toString();
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    for (final StAXEDIInput input : new StAXEDIInput[] {
+        StAXEDIInput.getInstance(), StAXEDIInput.getValidatingInstance() }) {
+      Assert.assertNotNull(input);
+      Assert.assertTrue(input.canUse());
+      try {
+        try (final StringReader r = new StringReader(s)) {
+          try (final ExperimentSetContext esc = new ExperimentSetContext()) {
+            input.use().addReader(r).setDestination(esc).create().call();
+            es = esc.create();
+          }
+        }
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+      ExperimentSetTest._assertEquals(inst, es);
+    }
+  }
+
   /**
    * assert that two experiment sets are equal
    *
@@ -937,6 +982,123 @@ public class ExperimentSetTest extends InstanceTest<IExperimentSet> {
     }
   }
 
+  /**
+   * Test that resolving a vector of values with
+   * {@link IRun#findRows(int, long[])} and
+   * {@link IRun#findRows(int, double[])} yields the same points as
+   * {@link IRun#find(int, long)} and {@link IRun#find(int, double)}. The
+   * vector contains a value before the first point, the values of all
+   * points, a value between each two subsequent points, and a value after
+   * the last point.
+   */
+  @Test(timeout = 3600000)
+  public final void testExperimentRunsFindRows() {
+    IExperimentSet es;
+    IDimensionSet dims;
+    ArrayListView<? extends IDataPoint> dps;
+    IDataPoint found;
+    long[] longs;
+    double[] doubles;
+    int[] rows;
+    int index, i, size;
+    long a, b;
+    double p, q;
+    boolean increasing;
+
+    es = this.getInstance();
+    dims = es.getDimensions();
+
+    for (final IExperiment e : es.getData()) {
+      for (final IInstanceRuns ir : e.getData()) {
+        for (final IRun run : ir.getData()) {
+          dps = run.getData();
+
+          for (final IDimension dim : dims.getData()) {
+            index = dim.getIndex();
+
+            increasing = dim.getDirection().isIncreasing();
+            size = dps.size();
+
+            // the values of the points are sorted in the run's direction:
+            // we put one value before the first point, one between each
+            // two points, and one after the last point
+            if (dim.getDataType().isInteger()) {
+              longs = new long[(size << 1) + 1];
+              for (i = size; (--i) >= 0;) {
+                longs[(i << 1) + 1] = dps.get(i).getLong(index);
+              }
+              for (i = (size - 1); (--i) >= 0;) {
+                a = longs[(i << 1) + 1];
+                b = longs[(i << 1) + 3];
+                // the mean, rounded down, without overflow
+                longs[(i << 1) + 2] = ((a >> 1L) + (b >> 1L) + (a & b & 1L));
+              }
+              a = longs[1];
+              b = longs[longs.length - 2];
+              if (increasing) {
+                longs[0] = ((a > Long.MIN_VALUE) ? (a - 1L) : a);
+                longs[longs.length - 1] = ((b < Long.MAX_VALUE) ? (b + 1L)
+                    : b);
+              } else {
+                longs[0] = ((a < Long.MAX_VALUE) ? (a + 1L) : a);
+                longs[longs.length - 1] = ((b > Long.MIN_VALUE) ? (b - 1L)
+                    : b);
+              }
+
+              rows = run.findRows(index, longs);
+              Assert.assertEquals(longs.length, rows.length);
+              for (i = longs.length; (--i) >= 0;) {
+                found = run.find(index, longs[i]);
+                if (found == null) {
+                  Assert.assertEquals(-1, rows[i]);
+                } else {
+                  Assert.assertSame(found, dps.get(rows[i]));
+                }
+              }
+            } else {
+              doubles = new double[(size << 1) + 1];
+              for (i = size; (--i) >= 0;) {
+                doubles[(i << 1) + 1] = dps.get(i).getDouble(index);
+              }
+              for (i = (size - 1); (--i) >= 0;) {
+                p = doubles[(i << 1) + 1];
+                q = doubles[(i << 1) + 3];
+                if ((p > Double.NEGATIVE_INFINITY)
+                    && (p < Double.POSITIVE_INFINITY)
+                    && (q > Double.NEGATIVE_INFINITY)
+                    && (q < Double.POSITIVE_INFINITY)) {
+                  doubles[(i << 1) + 2] = ((0.5d * p) + (0.5d * q));
+                } else {
+                  doubles[(i << 1) + 2] = p;
+                }
+              }
+              p = doubles[1];
+              q = doubles[doubles.length - 2];
+              if (increasing) {
+                doubles[0] = ExperimentSetTest.__less(p);
+                doubles[doubles.length - 1] = ExperimentSetTest.__more(q);
+              } else {
+                doubles[0] = ExperimentSetTest.__more(p);
+                doubles[doubles.length - 1] = ExperimentSetTest.__less(q);
+              }
+
+              rows = run.findRows(index, doubles);
+              Assert.assertEquals(doubles.length, rows.length);
+              for (i = doubles.length; (--i) >= 0;) {
+                found = run.find(index, doubles[i]);
+                if (found == null) {
+                  Assert.assertEquals(-1, rows[i]);
+                } else {
+                  Assert.assertSame(found, dps.get(rows[i]));
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void testSerializationAndDeserializationEquals() {
@@ -952,6 +1114,8 @@ public class ExperimentSetTest extends InstanceTest<IExperimentSet> {
     this.testExperimentRunsFindExistingValue();
     this.testExperimentRunsFindValuesBeforeStartOrAfterEnd();
     this.testExperimentRunsFindValuesBetween();
+    this.testExperimentRunsFindRows();
     this.testEDISerializationCanonical();
+    this.testStAXEDIDeserialization();
   }
 }
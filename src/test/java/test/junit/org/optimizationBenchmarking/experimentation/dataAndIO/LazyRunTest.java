@@ -0,0 +1,432 @@
+package test.junit.org.optimizationBenchmarking.experimentation.dataAndIO;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.experimentation.attributes.statistics.ert.ExpectedRunningTimes;
+import org.optimizationBenchmarking.experimentation.attributes.statistics.ert.InstanceRunsExpectedRunningTimes;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataFactory;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DataPoint;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.DimensionContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.InstanceRunsContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunContext;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.RunDataLoader;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionDirection;
+import org.optimizationBenchmarking.experimentation.data.spec.EDimensionType;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.BoundedLooseLongParser;
+
+import test.junit.TestBase;
+
+/**
+ * Test that runs whose data points are loaded lazily via a
+ * {@link org.optimizationBenchmarking.experimentation.data.impl.ref.RunDataLoader}
+ * behave exactly like runs which hold all their data: They must be
+ * ordered in the same way, have the same data, and lead to the same
+ * attribute values. Several of the runs used here share their first and
+ * last data point, so that their order can only be determined from their
+ * complete data.
+ */
+public class LazyRunTest extends TestBase {
+
+  /** the function evaluations of the runs */
+  private static final long[][] FES = { { 1L, 6L, 10L },//
+      { 1L, 5L, 10L },//
+      { 1L, 10L },//
+      { 1L, 3L, 7L, 10L },//
+      { 2L, 10L },//
+      { 1L, 4L, 10L },//
+      { 1L } };
+
+  /** the objective values of the runs */
+  private static final double[][] F = { { 10d, 5d, 1d },//
+      { 10d, 5d, 1d },//
+      { 10d, 1d },//
+      { 10d, 7d, 3d, 1d },//
+      { 9d, 1d },//
+      { 10d, 5d, 0.5d },//
+      { 10d } };
+
+  /** the number of times the data of a run has been loaded */
+  static final AtomicInteger LOADS = new AtomicInteger();
+
+  /** create */
+  public LazyRunTest() {
+    super();
+  }
+
+  /**
+   * Create the dimensions and the instance
+   *
+   * @param esc
+   *          the experiment set context
+   */
+  private static final void __createDimensionsAndInstance(
+      final ExperimentSetContext esc) {
+    try (final DimensionContext dc = esc.createDimension()) {
+      dc.setName("FEs"); //$NON-NLS-1$
+      dc.setDirection(EDimensionDirection.INCREASING_STRICTLY);
+      dc.setType(EDimensionType.ITERATION_FE);
+      dc.setParser(new BoundedLooseLongParser(1L, Long.MAX_VALUE));
+    }
+    try (final DimensionContext dc = esc.createDimension()) {
+      dc.setName("F"); //$NON-NLS-1$
+      dc.setDirection(EDimensionDirection.DECREASING);
+      dc.setType(EDimensionType.QUALITY_PROBLEM_INDEPENDENT);
+      dc.setParser(new BoundedLooseDoubleParser(0d, Double.MAX_VALUE));
+    }
+    try (final InstanceContext ic = esc.createInstance()) {
+      ic.setName("instance"); //$NON-NLS-1$
+      ic.setFeatureValue("n", Integer.valueOf(10)); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Create a run
+   *
+   * @param irc
+   *          the instance runs context
+   * @param fes
+   *          the function evaluations of the run
+   * @param f
+   *          the objective values of the run
+   * @param lazy
+   *          should the run be loaded lazily?
+   */
+  private static final void __createRun(final InstanceRunsContext irc,
+      final long[] fes, final double[] f, final boolean lazy) {
+    final int last;
+    int point;
+
+    try (final RunContext rc = irc.createRun()) {
+      if (lazy) {
+        last = (fes.length - 1);
+        rc.addDataPoint(Long.valueOf(fes[0]), Double.valueOf(f[0]));
+        if (last > 0) {
+          rc.addDataPoint(Long.valueOf(fes[last]), Double.valueOf(f[last]));
+        }
+        rc.setDataLoader(new _Loader(fes, f), fes.length);
+      } else {
+        for (point = 0; point < fes.length; point++) {
+          rc.addDataPoint(Long.valueOf(fes[point]), Double.valueOf(f[point]));
+        }
+      }
+    }
+  }
+
+  /**
+   * Create an experiment set
+   *
+   * @param fes
+   *          the function evaluations of the runs
+   * @param f
+   *          the objective values of the runs
+   * @param lazy
+   *          should the runs be loaded lazily?
+   * @param separate
+   *          should each run be put into an experiment of its own, so
+   *          that runs from different experiments are ordered by their
+   *          data, or should all runs belong to one experiment?
+   * @return the experiment set
+   */
+  private static final IExperimentSet __create(final long[][] fes,
+      final double[][] f, final boolean lazy, final boolean separate) {
+    int run, experiment;
+
+    try (final ExperimentSetContext esc = new ExperimentSetContext(
+        TestBase.getNullLogger())) {
+      LazyRunTest.__createDimensionsAndInstance(esc);
+      run = 0;
+      for (experiment = 0; run < fes.length; experiment++) {
+        try (final ExperimentContext ec = esc.createExperiment()) {
+          ec.setName("experiment" + experiment); //$NON-NLS-1$
+          ec.setParameterValue("index", Integer.valueOf(experiment)); //$NON-NLS-1$
+          try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+            irc.setInstance("instance"); //$NON-NLS-1$
+            do {
+              LazyRunTest.__createRun(irc, fes[run], f[run], lazy);
+            } while (((++run) < fes.length) && (!separate));
+          }
+        }
+      }
+      return esc.create();
+    }
+  }
+
+  /**
+   * Get all runs of an experiment set
+   *
+   * @param set
+   *          the experiment set
+   * @return the runs
+   */
+  private static final ArrayList<IRun> __getRuns(final IExperimentSet set) {
+    final ArrayList<IRun> runs;
+
+    runs = new ArrayList<>();
+    for (final IExperiment experiment : set.getData()) {
+      for (final IInstanceRuns instanceRuns : experiment.getData()) {
+        runs.addAll(instanceRuns.getData());
+      }
+    }
+    return runs;
+  }
+
+  /**
+   * Get the instance runs of an experiment set
+   *
+   * @param set
+   *          the experiment set
+   * @return the instance runs
+   */
+  private static final IInstanceRuns __getInstanceRuns(
+      final IExperimentSet set) {
+    return set.getData().get(0).getData().get(0);
+  }
+
+  /**
+   * Test that lazily loaded runs are ordered like the runs holding all
+   * their data and contain the same data. Runs of the same instance runs
+   * set are ordered by their index, so each run is put into an experiment
+   * of its own.
+   */
+  @Test(timeout = 3600000)
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public void testSameOrderAndData() {
+    final ArrayList<IRun> eager, lazy;
+    IRun eagerRun, lazyRun;
+    int run, other, row, column;
+
+    eager = LazyRunTest.__getRuns(LazyRunTest.__create(LazyRunTest.FES,
+        LazyRunTest.F, false, true));
+    lazy = LazyRunTest.__getRuns(LazyRunTest.__create(LazyRunTest.FES,
+        LazyRunTest.F, true, true));
+
+    Assert.assertEquals(LazyRunTest.FES.length, eager.size());
+    Assert.assertEquals(eager.size(), lazy.size());
+    Assert.assertNotSame(eager.get(0).getClass(), lazy.get(0).getClass());
+
+    for (run = eager.size(); (--run) >= 0;) {
+      eagerRun = eager.get(run);
+      lazyRun = lazy.get(run);
+
+      Assert.assertEquals(eagerRun.m(), lazyRun.m());
+      Assert.assertEquals(eagerRun.n(), lazyRun.n());
+      for (row = eagerRun.m(); (--row) >= 0;) {
+        for (column = eagerRun.n(); (--column) >= 0;) {
+          Assert.assertEquals(eagerRun.getLong(row, column),
+              lazyRun.getLong(row, column));
+          Assert.assertEquals(
+              Double.doubleToLongBits(eagerRun.getDouble(row, column)),
+              Double.doubleToLongBits(lazyRun.getDouble(row, column)));
+        }
+      }
+      Assert.assertEquals(new ArrayList<Object>(eagerRun.getData()),
+          new ArrayList<Object>(lazyRun.getData()));
+
+      for (other = eager.size(); (--other) >= 0;) {
+        Assert.assertEquals(Integer.signum(((Comparable) eagerRun)
+            .compareTo(eager.get(other))), Integer
+            .signum(((Comparable) lazyRun).compareTo(lazy.get(other))));
+        Assert.assertEquals(eagerRun.equals(eager.get(other)),
+            lazyRun.equals(lazy.get(other)));
+        Assert.assertEquals((run == other),
+            lazyRun.equals(lazy.get(other)));
+      }
+    }
+  }
+
+  /**
+   * Test that lazily loaded runs are compared without loading their data
+   * if their first data points differ, and that their data is loaded if
+   * the order depends on it
+   */
+  @Test(timeout = 3600000)
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public void testLoadOnlyIfNeeded() {
+    final long[][] fes;
+    final double[][] f;
+    final ArrayList<IRun> eager, lazy;
+
+    fes = new long[][] { { 1L, 5L, 10L },//
+        { 2L, 5L, 10L },//
+        { 1L, 6L, 10L } };
+    f = new double[][] { { 10d, 5d, 1d },//
+        { 10d, 5d, 1d },//
+        { 10d, 5d, 1d } };
+    eager = LazyRunTest.__getRuns(LazyRunTest.__create(fes, f, false,
+        true));
+    lazy = LazyRunTest.__getRuns(LazyRunTest.__create(fes, f, true, true));
+
+    LazyRunTest.LOADS.set(0);
+    Assert.assertEquals(
+        Integer.signum(((Comparable) eager.get(0)).compareTo(eager.get(1))),
+        Integer.signum(((Comparable) lazy.get(0)).compareTo(lazy.get(1))));
+    Assert.assertEquals(
+        Integer.signum(((Comparable) eager.get(1)).compareTo(eager.get(2))),
+        Integer.signum(((Comparable) lazy.get(1)).compareTo(lazy.get(2))));
+    Assert.assertEquals(0, LazyRunTest.LOADS.get());
+
+    Assert.assertEquals(
+        Integer.signum(((Comparable) eager.get(0)).compareTo(eager.get(2))),
+        Integer.signum(((Comparable) lazy.get(0)).compareTo(lazy.get(2))));
+    Assert.assertTrue(LazyRunTest.LOADS.get() > 0);
+  }
+
+  /**
+   * Test that attributes computed over lazily loaded runs have the same
+   * values as for runs holding all their data
+   */
+  @Test(timeout = 3600000)
+  public void testSameAttributes() {
+    final IInstanceRuns eager, lazy;
+    final ExpectedRunningTimes eagerERT, lazyERT;
+    ArrayListView<? extends IDimension> dimensions;
+    int goal;
+
+    eager = LazyRunTest.__getInstanceRuns(LazyRunTest.__create(
+        LazyRunTest.FES, LazyRunTest.F, false, false));
+    lazy = LazyRunTest.__getInstanceRuns(LazyRunTest.__create(
+        LazyRunTest.FES, LazyRunTest.F, true, false));
+    Assert.assertEquals(LazyRunTest.FES.length, lazy.getData().size());
+
+    dimensions = eager.getOwner().getOwner().getDimensions().getData();
+    eagerERT = new InstanceRunsExpectedRunningTimes(dimensions.get(1),
+        dimensions.get(0), Double.valueOf(7d), Double.valueOf(5d),
+        Double.valueOf(1d), Double.valueOf(0.5d)).get(eager,
+        TestBase.getNullLogger());
+    dimensions = lazy.getOwner().getOwner().getDimensions().getData();
+    lazyERT = new InstanceRunsExpectedRunningTimes(dimensions.get(1),
+        dimensions.get(0), Double.valueOf(7d), Double.valueOf(5d),
+        Double.valueOf(1d), Double.valueOf(0.5d)).get(lazy,
+        TestBase.getNullLogger());
+
+    Assert.assertEquals(eagerERT.getGoals(), lazyERT.getGoals());
+    Assert.assertEquals(eagerERT.getRunCount(), lazyERT.getRunCount());
+    for (goal = eagerERT.getGoals().size(); (--goal) >= 0;) {
+      Assert.assertEquals(eagerERT.getSuccessCount(goal),
+          lazyERT.getSuccessCount(goal));
+      Assert.assertEquals(Double.doubleToLongBits(//
+          eagerERT.getExpectedRunningTime(goal)), Double
+          .doubleToLongBits(lazyERT.getExpectedRunningTime(goal)));
+    }
+  }
+
+  /**
+   * Test that the data points of a lazily loaded run other than the first
+   * and the last one are validated when they are loaded, not when the run
+   * is created
+   */
+  @Test(timeout = 3600000)
+  public void testDeferredValidation() {
+    final IRun run;
+
+    run = LazyRunTest.__getInstanceRuns(
+        LazyRunTest.__create(new long[][] { { 1L, 5L, 10L } },
+            new double[][] { { 10d, -5d, 1d } }, true, false)).getData()
+        .get(0);
+    Assert.assertEquals(3, run.m());
+    Assert.assertEquals(10L, run.getLong(2, 0));
+
+    try {
+      run.getData();
+      Assert.fail();
+    } catch (final IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  /**
+   * Test that a lazily loaded run must contain exactly its first and last
+   * data point, which is checked when the experiment set is compiled and
+   * reported as (possibly wrapped)
+   * {@link java.lang.IllegalStateException}
+   */
+  @Test(timeout = 3600000)
+  public void testMissingSummaryPointRejected() {
+    Throwable error;
+
+    error = null;
+    try (final ExperimentSetContext esc = new ExperimentSetContext(
+        TestBase.getNullLogger())) {
+      LazyRunTest.__createDimensionsAndInstance(esc);
+      try (final ExperimentContext ec = esc.createExperiment()) {
+        ec.setName("other"); //$NON-NLS-1$
+        ec.setParameterValue("lazy", Boolean.TRUE); //$NON-NLS-1$
+        try (final InstanceRunsContext irc = ec.createInstanceRuns()) {
+          irc.setInstance("instance"); //$NON-NLS-1$
+          try (final RunContext rc = irc.createRun()) {
+            rc.addDataPoint(Long.valueOf(1L), Double.valueOf(10d));
+            rc.setDataLoader(new _Loader(new long[] { 1L, 5L, 10L },
+                new double[] { 10d, 5d, 1d }), 3);
+          }
+        }
+      }
+      esc.create();
+    } catch (final RuntimeException caught) {
+      error = caught;
+    }
+
+    for (; error != null; error = error.getCause()) {
+      if ((error instanceof IllegalStateException)
+          && error.getMessage().contains("lazily")) { //$NON-NLS-1$
+        return;
+      }
+    }
+    Assert.fail();
+  }
+
+  /** a loader for the data points of a run held in arrays */
+  static final class _Loader extends RunDataLoader {
+
+    /** the serial version uid */
+    private static final long serialVersionUID = 1L;
+
+    /** the function evaluations */
+    private final long[] m_fes;
+
+    /** the objective values */
+    private final double[] m_f;
+
+    /**
+     * create
+     *
+     * @param fes
+     *          the function evaluations
+     * @param f
+     *          the objective values
+     */
+    _Loader(final long[] fes, final double[] f) {
+      super();
+      this.m_fes = fes;
+      this.m_f = f;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final DataPoint[] loadDataPoints(final DataFactory factory) {
+      final DataPoint[] points;
+      int index;
+
+      LazyRunTest.LOADS.incrementAndGet();
+      points = new DataPoint[this.m_fes.length];
+      for (index = points.length; (--index) >= 0;) {
+        points[index] = factory.parseNumbers(
+            Long.valueOf(this.m_fes[index]),
+            Double.valueOf(this.m_f[index]));
+      }
+      return points;
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package test.junit.org.optimizationBenchmarking.experimentation.dataAndIO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.experimentation.data.impl.ref.ExperimentSetContext;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperiment;
+import org.optimizationBenchmarking.experimentation.data.spec.IExperimentSet;
+import org.optimizationBenchmarking.experimentation.data.spec.IDimension;
+import org.optimizationBenchmarking.experimentation.data.spec.IInstanceRuns;
+import org.optimizationBenchmarking.experimentation.data.spec.IRun;
+import org.optimizationBenchmarking.experimentation.io.impl.tspSuite.TSPSuiteInput;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+
+import test.junit.TestBase;
+import examples.org.optimizationBenchmarking.experimentation.synthetic.ESyntheticExperimentFormat;
+import examples.org.optimizationBenchmarking.experimentation.synthetic.SyntheticExperimentSetGenerator;
+
+/**
+ * Test that the experiment sets of the
+ * {@link examples.org.optimizationBenchmarking.experimentation.synthetic.SyntheticExperimentSetGenerator}
+ * are loaded again with the same structure and values from the formats
+ * which can represent them completely. Since the input tools may store
+ * the runs of an instance in a different order, the runs are compared
+ * regardless of their order. The TSP Suite format cannot represent the
+ * generated sets completely, so we only check that loading it in parallel
+ * from an archive gives the same result as loading it sequentially.
+ */
+public class SyntheticExperimentSetTest extends TestBase {
+
+  /** create */
+  public SyntheticExperimentSetTest() {
+    super();
+  }
+
+  /**
+   * Assert that two lists of runs contain the same data, regardless of
+   * their order
+   *
+   * @param expected
+   *          the expected runs
+   * @param actual
+   *          the actual runs
+   */
+  private static final void __assertRunsEqual(
+      final ArrayListView<? extends IRun> expected,
+      final ArrayListView<? extends IRun> actual) {
+    final ArrayList<ArrayList<Object>> remaining;
+
+    Assert.assertEquals(expected.size(), actual.size());
+    remaining = new ArrayList<>();
+    for (final IRun run : actual) {
+      remaining.add(new ArrayList<Object>(run.getData()));
+    }
+    for (final IRun run : expected) {
+      Assert.assertTrue(remaining.remove(new ArrayList<Object>(run
+          .getData())));
+    }
+  }
+
+  /**
+   * Assert that two experiment sets have the same structure and contain
+   * the same runs, regardless of their order
+   *
+   * @param expected
+   *          the expected experiment set
+   * @param loaded
+   *          the actual experiment set
+   */
+  private static final void __assertSetsEqual(
+      final IExperimentSet expected, final IExperimentSet loaded) {
+    final ArrayListView<? extends IExperiment> expectedExps, actual;
+    final ArrayListView<? extends IDimension> expectedDims, actualDims;
+    ArrayListView<? extends IInstanceRuns> expectedRuns, actualRuns;
+    int index, runs;
+
+    expectedDims = expected.getDimensions().getData();
+    actualDims = loaded.getDimensions().getData();
+    Assert.assertEquals(expectedDims.size(), actualDims.size());
+    for (index = actualDims.size(); (--index) >= 0;) {
+      Assert.assertEquals(expectedDims.get(index).getName(), actualDims
+          .get(index).getName());
+      Assert.assertSame(expectedDims.get(index).getDataType(), actualDims
+          .get(index).getDataType());
+    }
+    Assert.assertEquals(expected.getInstances().getData().size(), loaded
+        .getInstances().getData().size());
+
+    expectedExps = expected.getData();
+    actual = loaded.getData();
+    Assert.assertEquals(expectedExps.size(), actual.size());
+    for (index = actual.size(); (--index) >= 0;) {
+      Assert.assertEquals(expectedExps.get(index).getName(),
+          actual.get(index).getName());
+      expectedRuns = expectedExps.get(index).getData();
+      actualRuns = actual.get(index).getData();
+      Assert.assertEquals(expectedRuns.size(), actualRuns.size());
+      for (runs = actualRuns.size(); (--runs) >= 0;) {
+        Assert.assertEquals(expectedRuns.get(runs).getInstance().getName(),
+            actualRuns.get(runs).getInstance().getName());
+        SyntheticExperimentSetTest.__assertRunsEqual(expectedRuns
+            .get(runs).getData(), actualRuns.get(runs).getData());
+      }
+    }
+  }
+
+  /**
+   * Write the generated experiment set in the given format, load it
+   * again, and compare it with the experiment set created in memory
+   *
+   * @param format
+   *          the format
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final void __testRoundTrip(
+      final ESyntheticExperimentFormat format) throws IOException {
+    final SyntheticExperimentSetGenerator generator;
+    final IExperimentSet created, loaded;
+    Path folder;
+
+    generator = new SyntheticExperimentSetGenerator(5, 7, 3, 4, 50, 42L);
+    created = generator.createExperimentSet();
+
+    try (final TempDir temp = new TempDir()) {
+      folder = temp.getPath();
+      generator.write(format, folder);
+      loaded = format.load(folder, TestBase.getNullLogger());
+    }
+
+    Assert.assertEquals(generator.getDimensionCount(), loaded
+        .getDimensions().getData().size());
+    Assert.assertEquals(generator.getInstanceCount(), loaded
+        .getInstances().getData().size());
+    Assert.assertEquals(generator.getExperimentCount(), loaded.getData()
+        .size());
+    SyntheticExperimentSetTest.__assertSetsEqual(created, loaded);
+  }
+
+  /**
+   * Test the round trip via the EDI format
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testEDIRoundTrip() throws IOException {
+    SyntheticExperimentSetTest.__testRoundTrip(ESyntheticExperimentFormat.EDI);
+  }
+
+  /**
+   * Test the round trip via the CSV+EDI format
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testCSVEDIRoundTrip() throws IOException {
+    SyntheticExperimentSetTest
+        .__testRoundTrip(ESyntheticExperimentFormat.CSV_EDI);
+  }
+
+  /**
+   * Test that the TSP Suite data loaded in parallel from a ZIP archive
+   * opened for random access is the same as the data loaded sequentially
+   * from a folder
+   *
+   * @throws Exception
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testTSPSuiteParallelArchive() throws Exception {
+    final SyntheticExperimentSetGenerator generator;
+    final IExperimentSet sequential, parallel;
+    final ForkJoinPool pool;
+    final Path folder, zip;
+
+    generator = new SyntheticExperimentSetGenerator(5, 7, 3, 4, 50, 42L);
+    try (final TempDir temp = new TempDir()) {
+      folder = temp.getPath().resolve("data"); //$NON-NLS-1$
+      generator.write(ESyntheticExperimentFormat.TSP_SUITE, folder);
+      sequential = ESyntheticExperimentFormat.TSP_SUITE.load(folder,
+          TestBase.getNullLogger());
+
+      zip = temp.getPath().resolve("data.zip"); //$NON-NLS-1$
+      try (final OutputStream stream = Files.newOutputStream(zip)) {
+        EArchiveType.ZIP.compressPathToStream(folder, stream);
+      }
+
+      pool = new ForkJoinPool(4);
+      try {
+        parallel = pool.submit(new Callable<IExperimentSet>() {
+          @Override
+          public final IExperimentSet call() throws IOException {
+            try (final ExperimentSetContext esc = new ExperimentSetContext(
+                TestBase.getNullLogger())) {
+              TSPSuiteInput.getInstance().use()
+                  .setLogger(TestBase.getNullLogger()).setDestination(esc)
+                  .addPath(zip, null, EArchiveType.ZIP).create().call();
+              return esc.create();
+            }
+          }
+        }).get();
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    Assert.assertEquals(generator.getExperimentCount(), sequential
+        .getData().size());
+    SyntheticExperimentSetTest.__assertSetsEqual(sequential, parallel);
+  }
+}
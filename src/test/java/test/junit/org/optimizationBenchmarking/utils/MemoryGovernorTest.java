@@ -0,0 +1,118 @@
+package test.junit.org.optimizationBenchmarking.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.MemoryGovernor;
+
+import test.junit.TestBase;
+
+/**
+ * Test the {@link org.optimizationBenchmarking.utils.MemoryGovernor}.
+ * Before the governor is created, the collection usage threshold of each
+ * heap pool is set to one byte when this class is loaded, which works
+ * because each test class runs in its own JVM. The governor must keep
+ * these thresholds, which in turn means that every garbage collection
+ * causes memory pressure.
+ */
+public class MemoryGovernorTest extends TestBase {
+
+  /** the threshold set before the governor is created */
+  private static final long THRESHOLD = 1L;
+
+  static {
+    for (final MemoryPoolMXBean pool : ManagementFactory
+        .getMemoryPoolMXBeans()) {
+      if ((pool.getType() == MemoryType.HEAP) && pool.isValid()
+          && pool.isCollectionUsageThresholdSupported()) {
+        pool.setCollectionUsageThreshold(MemoryGovernorTest.THRESHOLD);
+      }
+    }
+  }
+
+  /** create */
+  public MemoryGovernorTest() {
+    super();
+  }
+
+  /** Test that the governor keeps thresholds which were already set */
+  @Test(timeout = 3600000)
+  public void testExistingThresholdsKept() {
+    Assert.assertNotNull(MemoryGovernor.getInstance());
+    for (final MemoryPoolMXBean pool : ManagementFactory
+        .getMemoryPoolMXBeans()) {
+      if ((pool.getType() == MemoryType.HEAP) && pool.isValid()
+          && pool.isCollectionUsageThresholdSupported()) {
+        Assert.assertEquals(pool.getName(), MemoryGovernorTest.THRESHOLD,
+            pool.getCollectionUsageThreshold());
+      }
+    }
+  }
+
+  /**
+   * Test that pressure listeners are notified and that only one thread at
+   * a time can pass the gate under memory pressure
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testPressureAndGate() throws InterruptedException {
+    final MemoryGovernor governor;
+    final AtomicInteger notified;
+    final AtomicBoolean passed;
+    final Runnable listener;
+    final Thread other;
+
+    governor = MemoryGovernor.getInstance();
+    notified = new AtomicInteger();
+    listener = new Runnable() {
+      @Override
+      public final void run() {
+        notified.incrementAndGet();
+      }
+    };
+
+    governor.addPressureListener(listener);
+    try {
+      System.gc();
+      governor.signalPressure();
+      Assert.assertTrue(notified.get() > 0);
+      Assert.assertTrue(governor.isUnderPressure());
+
+      passed = new AtomicBoolean();
+      other = new Thread(new Runnable() {
+        @Override
+        public final void run() {
+          if (governor.beginWork()) {
+            passed.set(true);
+            governor.endWork();
+          }
+        }
+      });
+
+      Assert.assertTrue(governor.beginWork());
+      try {
+        other.start();
+        Thread.sleep(500L);
+        Assert.assertFalse(passed.get());
+      } finally {
+        governor.endWork();
+      }
+
+      other.join();
+      Assert.assertTrue(passed.get());
+    } finally {
+      governor.removePressureListener(listener);
+    }
+
+    notified.set(0);
+    governor.signalPressure();
+    Assert.assertEquals(0, notified.get());
+  }
+}
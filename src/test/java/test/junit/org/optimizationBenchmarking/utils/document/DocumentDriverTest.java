@@ -110,6 +110,8 @@ public abstract class DocumentDriverTest extends
    *
    * @param service
    *          the service
+   * @param compiled
+   *          should the template be compiled before being applied?
    * @throws IOException
    *           if i/o fails
    * @throws ExecutionException
@@ -117,8 +119,9 @@ public abstract class DocumentDriverTest extends
    * @throws InterruptedException
    *           if execution is interrupted
    */
-  private final void __doTemplateTest(final ExecutorService service)
-      throws IOException, InterruptedException, ExecutionException {
+  private final void __doTemplateTest(final ExecutorService service,
+      final boolean compiled) throws IOException, InterruptedException,
+      ExecutionException {
     final DocumentConfiguration config;
     TemplateDocumentExample example;
     Future<?> future;
@@ -133,7 +136,7 @@ public abstract class DocumentDriverTest extends
         try (final IDocument doc = config.createDocument(td.getPath(),
             "document", files, null)) { //$NON-NLS-1$
           try {
-            example = new TemplateDocumentExample(doc);
+            example = new TemplateDocumentExample(doc, compiled);
             if (service != null) {
               try {
                 future = service.submit(example);
@@ -167,7 +170,8 @@ public abstract class DocumentDriverTest extends
   @Test(timeout = 3600000)
   public void testSerialDocumentCreation() throws Throwable {
     this.__doRandomTest(null, new Random());
-    this.__doTemplateTest(null);
+    this.__doTemplateTest(null, false);
+    this.__doTemplateTest(null, true);
   }
 
   /**
@@ -195,7 +199,8 @@ public abstract class DocumentDriverTest extends
         ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, fifo);
 
     this.__doRandomTest(p, new Random());
-    this.__doTemplateTest(p);
+    this.__doTemplateTest(p, false);
+    this.__doTemplateTest(p, true);
 
     p.shutdown();
     p.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
@@ -0,0 +1,287 @@
+package test.junit.org.optimizationBenchmarking.utils.document;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.bibliography.data.BibAuthorBuilder;
+import org.optimizationBenchmarking.utils.bibliography.data.BibAuthorsBuilder;
+import org.optimizationBenchmarking.utils.bibliography.data.BibDateBuilder;
+import org.optimizationBenchmarking.utils.document.impl.abstr.DocumentConfiguration;
+import org.optimizationBenchmarking.utils.document.impl.abstr.Label;
+import org.optimizationBenchmarking.utils.document.impl.xhtml10.XHTML;
+import org.optimizationBenchmarking.utils.document.impl.xhtml10.XHTML10Configuration;
+import org.optimizationBenchmarking.utils.document.impl.xhtml10.XHTML10ConfigurationBuilder;
+import org.optimizationBenchmarking.utils.document.spec.ELabelType;
+import org.optimizationBenchmarking.utils.document.spec.IDocument;
+import org.optimizationBenchmarking.utils.document.spec.IDocumentBody;
+import org.optimizationBenchmarking.utils.document.spec.IDocumentHeader;
+import org.optimizationBenchmarking.utils.document.spec.ILabel;
+import org.optimizationBenchmarking.utils.document.spec.IPlainText;
+import org.optimizationBenchmarking.utils.document.spec.ISection;
+import org.optimizationBenchmarking.utils.document.spec.ISectionBody;
+import org.optimizationBenchmarking.utils.io.IFileType;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.text.ESequenceMode;
+import org.optimizationBenchmarking.utils.text.ETextCase;
+
+import test.junit.FileProducerCollector;
+
+/** The XHTML 1.0 driver test with one page per top-level section */
+public class XHTML10ChunkedDriverTest extends DocumentDriverTest {
+
+  /** the titles of the top-level sections */
+  private static final String[] TITLES = { "Alpha", //$NON-NLS-1$
+      "Beta", //$NON-NLS-1$
+      "Gamma" }; //$NON-NLS-1$
+
+  /** the end of the head and start of the body */
+  private static final String BODY_BEGIN = "<body>"; //$NON-NLS-1$
+
+  /** create the test */
+  public XHTML10ChunkedDriverTest() {
+    super(XHTML10ChunkedDriverTest.__makeConfig());
+  }
+
+  /**
+   * create the configuration
+   *
+   * @return the configuration
+   */
+  private static final XHTML10Configuration __makeConfig() {
+    final XHTML10ConfigurationBuilder builder;
+
+    builder = new XHTML10ConfigurationBuilder();
+    builder.setChunked(true);
+    return builder.immutable();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final IFileType[] getRequiredTypes() {
+    return new IFileType[] { XHTML.XHTML_1_0 };
+  }
+
+  /**
+   * Write a top-level section which references a label
+   *
+   * @param body
+   *          the document body
+   * @param useLabel
+   *          the label of the section, or {@code null}
+   * @param title
+   *          the title
+   * @param reference
+   *          the label to reference
+   */
+  private static final void __section(final IDocumentBody body,
+      final ILabel useLabel, final String title, final ILabel reference) {
+    try (final ISection section = body.section(useLabel)) {
+      try (final IPlainText text = section.title()) {
+        text.append(title);
+      }
+      try (final ISectionBody text = section.body()) {
+        text.append("Here we reference"); //$NON-NLS-1$
+        text.reference(ETextCase.IN_SENTENCE, ESequenceMode.AND,
+            reference);
+        text.append('.');
+      }
+    }
+  }
+
+  /**
+   * Read a file which must have been produced
+   *
+   * @param files
+   *          the produced files
+   * @param folder
+   *          the folder of the document
+   * @param name
+   *          the file name
+   * @return the contents of the file, with line breaks normalized to
+   *         {@code '\n'}
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final String __read(final FileProducerCollector files,
+      final Path folder, final String name) throws IOException {
+    final Path path;
+
+    path = folder.resolve(name);
+    Assert.assertTrue(name, Files.isRegularFile(path));
+    for (final Map.Entry<Path, IFileType> entry : files.getProducedFiles()
+        .entrySet()) {
+      if (Files.isSameFile(path, entry.getKey())) {
+        Assert.assertEquals(name, XHTML.XHTML_1_0, entry.getValue());
+        return new String(Files.readAllBytes(path)).replace("\r", ""); //$NON-NLS-1$//$NON-NLS-2$
+      }
+    }
+    Assert.fail(name + " has not been reported as produced file."); //$NON-NLS-1$
+    return null;
+  }
+
+  /**
+   * Test that each top-level section is moved to an own page, that the
+   * pages are linked to each other and to the main page, and that
+   * references to labels on other pages are re-targeted
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testPagesSplit() throws IOException {
+    final DocumentConfiguration config;
+    final FileProducerCollector files;
+    final String main, first, second, third, mark, base, extension;
+    final ILabel label;
+    final Path document, folder;
+    final String name;
+    final int dot;
+    int index;
+
+    config = this.getInstance();
+    Assert.assertNotNull(config);
+    files = new FileProducerCollector();
+
+    try (final TempDir td = new TempDir()) {
+      try (final IDocument doc = config.createDocument(td.getPath(),
+          "document", files, null)) { //$NON-NLS-1$
+        document = doc.getDocumentPath();
+        label = doc.createLabel(ELabelType.SECTION);
+
+        try (final IDocumentHeader header = doc.header()) {
+          try (final IPlainText text = header.title()) {
+            text.append("Chunked Document"); //$NON-NLS-1$
+          }
+          try (final BibAuthorsBuilder authors = header.authors()) {
+            try (final BibAuthorBuilder author = authors.author()) {
+              author.setFamilyName("Weise");//$NON-NLS-1$
+              author.setPersonalName("Thomas");//$NON-NLS-1$
+            }
+          }
+          try (final BibDateBuilder date = header.date()) {
+            date.fromNow();
+          }
+          try (final IPlainText text = header.summary()) {
+            text.append("A document with one page per section."); //$NON-NLS-1$
+          }
+        }
+
+        try (final IDocumentBody body = doc.body()) {
+          XHTML10ChunkedDriverTest.__section(body, label,
+              XHTML10ChunkedDriverTest.TITLES[0], label);
+          XHTML10ChunkedDriverTest.__section(body, null,
+              XHTML10ChunkedDriverTest.TITLES[1], label);
+          XHTML10ChunkedDriverTest.__section(body, null,
+              XHTML10ChunkedDriverTest.TITLES[2], label);
+        }
+
+        try (final IDocumentBody footer = doc.footer()) {
+          //
+        }
+      }
+
+      mark = ((Label) label).getLabelMark();
+      folder = document.getParent();
+      name = document.getFileName().toString();
+      dot = name.lastIndexOf('.');
+      base = name.substring(0, dot);
+      extension = name.substring(dot);
+
+      main = XHTML10ChunkedDriverTest.__read(files, folder, name);
+      first = XHTML10ChunkedDriverTest.__read(files, folder,
+          ((base + "-1") + extension)); //$NON-NLS-1$
+      second = XHTML10ChunkedDriverTest.__read(files, folder,
+          ((base + "-2") + extension)); //$NON-NLS-1$
+      third = XHTML10ChunkedDriverTest.__read(files, folder,
+          ((base + "-3") + extension)); //$NON-NLS-1$
+      Assert.assertFalse(Files.exists(folder.resolve(//
+          ((base + "-4") + extension)))); //$NON-NLS-1$
+    }
+
+    // the main page links to the pages, but contains none of the sections
+    Assert.assertTrue(main.contains(XHTML10ChunkedDriverTest.BODY_BEGIN));
+    Assert.assertTrue(main.contains("</body></html>")); //$NON-NLS-1$
+    Assert.assertFalse(main.contains("<!--page-->")); //$NON-NLS-1$
+    Assert.assertFalse(main.contains("<!--/page-->")); //$NON-NLS-1$
+    Assert.assertFalse(main.contains(" id=\"" + mark + '"')); //$NON-NLS-1$
+    Assert.assertFalse(main.contains("Here we reference")); //$NON-NLS-1$
+    Assert.assertTrue(main.contains("Chunked Document")); //$NON-NLS-1$
+    for (index = 1; index <= XHTML10ChunkedDriverTest.TITLES.length; index++) {
+      Assert.assertTrue(main.contains(//
+          "<p class=\"pageLink\"><a href=\"" + base + '-' + index //$NON-NLS-1$
+              + extension + "\">")); //$NON-NLS-1$
+      Assert.assertTrue(main.contains(//
+          XHTML10ChunkedDriverTest.TITLES[index - 1] + "</a></p>")); //$NON-NLS-1$
+    }
+
+    // each page has the head of the main page and contains its section
+    for (final String page : new String[] { first, second, third }) {
+      Assert.assertTrue(page.startsWith(main.substring(0,
+          (main.indexOf(XHTML10ChunkedDriverTest.BODY_BEGIN)//
+          + XHTML10ChunkedDriverTest.BODY_BEGIN.length()))));
+      Assert.assertTrue(page.endsWith("</body></html>")); //$NON-NLS-1$
+      Assert.assertFalse(page.contains("<!--page-->")); //$NON-NLS-1$
+      Assert.assertFalse(page.contains("class=\"pageLink\"")); //$NON-NLS-1$
+      Assert.assertTrue(page.contains("Here we reference")); //$NON-NLS-1$
+    }
+    Assert.assertTrue(first.contains(XHTML10ChunkedDriverTest.TITLES[0]));
+    Assert.assertFalse(first.contains(XHTML10ChunkedDriverTest.TITLES[1]));
+    Assert.assertTrue(second.contains(XHTML10ChunkedDriverTest.TITLES[1]));
+    Assert.assertFalse(second.contains(XHTML10ChunkedDriverTest.TITLES[2]));
+    Assert.assertTrue(third.contains(XHTML10ChunkedDriverTest.TITLES[2]));
+    Assert.assertFalse(third.contains(XHTML10ChunkedDriverTest.TITLES[0]));
+
+    // the navigation links appear above and below the section
+    XHTML10ChunkedDriverTest.__assertNavigation(first, //
+        "<div class=\"pageNav\"><a href=\"" + name//$NON-NLS-1$
+            + "\">&#8592;&nbsp;previous</a> | <a href=\"" + name //$NON-NLS-1$
+            + "\">contents</a> | <a href=\"" + base + "-2" + extension //$NON-NLS-1$//$NON-NLS-2$
+            + "\">next&nbsp;&#8594;</a></div>"); //$NON-NLS-1$
+    XHTML10ChunkedDriverTest.__assertNavigation(second, //
+        "<div class=\"pageNav\"><a href=\"" + base + "-1" + extension //$NON-NLS-1$//$NON-NLS-2$
+            + "\">&#8592;&nbsp;previous</a> | <a href=\"" + name //$NON-NLS-1$
+            + "\">contents</a> | <a href=\"" + base + "-3" + extension //$NON-NLS-1$//$NON-NLS-2$
+            + "\">next&nbsp;&#8594;</a></div>"); //$NON-NLS-1$
+    XHTML10ChunkedDriverTest.__assertNavigation(third, //
+        "<div class=\"pageNav\"><a href=\"" + base + "-2" + extension //$NON-NLS-1$//$NON-NLS-2$
+            + "\">&#8592;&nbsp;previous</a> | <a href=\"" + name //$NON-NLS-1$
+            + "\">contents</a></div>"); //$NON-NLS-1$
+    Assert.assertFalse(third.contains("next&nbsp;&#8594;")); //$NON-NLS-1$
+
+    // the label is on the first page: references to it from the same page
+    // stay local, references from other pages are re-targeted
+    Assert.assertTrue(first.contains(" id=\"" + mark + '"')); //$NON-NLS-1$
+    Assert.assertTrue(first.contains("href=\"#" + mark + '"')); //$NON-NLS-1$
+    for (final String page : new String[] { second, third }) {
+      Assert.assertFalse(page.contains(" id=\"" + mark + '"')); //$NON-NLS-1$
+      Assert.assertFalse(page.contains("href=\"#" + mark + '"')); //$NON-NLS-1$
+      Assert.assertTrue(page.contains(//
+          "href=\"" + base + "-1" + extension + '#' + mark + '"')); //$NON-NLS-1$//$NON-NLS-2$
+    }
+  }
+
+  /**
+   * Assert that a page contains the given navigation links exactly twice,
+   * once above and once below its section
+   *
+   * @param page
+   *          the page
+   * @param navigation
+   *          the navigation links
+   */
+  private static final void __assertNavigation(final String page,
+      final String navigation) {
+    final int first;
+
+    first = page.indexOf(navigation);
+    Assert.assertTrue(navigation, first > 0);
+    Assert.assertTrue(navigation,
+        page.indexOf(navigation, first + 1) > first);
+    Assert.assertEquals(navigation, page.lastIndexOf(navigation),
+        page.indexOf(navigation, first + 1));
+  }
+}
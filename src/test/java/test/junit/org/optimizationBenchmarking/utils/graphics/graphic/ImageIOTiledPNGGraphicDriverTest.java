@@ -0,0 +1,108 @@
+package test.junit.org.optimizationBenchmarking.utils.graphics.graphic;
+
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.graphics.PhysicalDimension;
+import org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster.ImageIOPNGGraphicDriver;
+import org.optimizationBenchmarking.utils.graphics.graphic.impl.imageioRaster.ImageIOTiledPNGGraphicDriver;
+import org.optimizationBenchmarking.utils.graphics.graphic.spec.Graphic;
+import org.optimizationBenchmarking.utils.graphics.graphic.spec.IGraphicBuilder;
+import org.optimizationBenchmarking.utils.graphics.graphic.spec.IGraphicDriver;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.math.units.ELength;
+
+import examples.org.optimizationBenchmarking.utils.graphics.GraphicsExample;
+
+/** The tiled, parallel image IO PNG driver test */
+public class ImageIOTiledPNGGraphicDriverTest extends GraphicDriverTest {
+
+  /** create */
+  public ImageIOTiledPNGGraphicDriverTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected IGraphicDriver getInstance() {
+    return ImageIOTiledPNGGraphicDriver.getInstance();
+  }
+
+  /**
+   * Paint the example graphic with a given driver and load the result
+   * with a normal PNG reader.
+   *
+   * @param driver
+   *          the driver
+   * @param dir
+   *          the directory
+   * @param name
+   *          the name
+   * @return the image
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final BufferedImage __paint(final IGraphicDriver driver,
+      final Path dir, final String name) throws IOException {
+    final IGraphicBuilder builder;
+    final Path path;
+
+    builder = driver.use();
+    builder.setBasePath(dir);
+    builder.setMainDocumentNameSuggestion(name);
+    builder.setSize(new PhysicalDimension(10, 10, ELength.CM));
+    builder.setDotsPerInch(300);
+    try (final Graphic graph = builder.create()) {
+      try {
+        GraphicsExample.paint(graph);
+      } catch (final HeadlessException hex) {
+        // this may happend
+      }
+    }
+    path = dir.resolve(name + ".png"); //$NON-NLS-1$
+    return ImageIO.read(path.toFile());
+  }
+
+  /**
+   * Check that the tiled graphic produces a readable PNG image with the
+   * same contents as the normal PNG driver.
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testSameAsNormalPNG() throws IOException {
+    final BufferedImage normal, tiled;
+    int x, y, same, total;
+
+    try (final TempDir temp = new TempDir()) {
+      normal = ImageIOTiledPNGGraphicDriverTest.__paint(
+          ImageIOPNGGraphicDriver.getInstance(), temp.getPath(), "normal"); //$NON-NLS-1$
+      tiled = ImageIOTiledPNGGraphicDriverTest.__paint(
+          ImageIOTiledPNGGraphicDriver.getInstance(), temp.getPath(),
+          "tiled"); //$NON-NLS-1$
+    }
+
+    Assert.assertNotNull(normal);
+    Assert.assertNotNull(tiled);
+    Assert.assertEquals(normal.getWidth(), tiled.getWidth());
+    Assert.assertEquals(normal.getHeight(), tiled.getHeight());
+
+    same = total = 0;
+    for (y = normal.getHeight(); (--y) >= 0;) {
+      for (x = normal.getWidth(); (--x) >= 0;) {
+        total++;
+        if (normal.getRGB(x, y) == tiled.getRGB(x, y)) {
+          same++;
+        }
+      }
+    }
+    Assert.assertTrue((same / ((double) total)) > 0.99d);
+  }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
+import org.junit.Test;
 import org.optimizationBenchmarking.utils.hierarchy.HierarchicalTextOutput;
 
 /**
@@ -66,6 +67,71 @@ public class HierarchicalTextTest extends _HierarchicalTest {
     }
   }
 
+  /**
+   * Append a long sequence of numbers to a text and to the string builder
+   * holding the expected result
+   *
+   * @param text
+   *          the text
+   * @param prefix
+   *          the prefix
+   * @param expected
+   *          the string builder with the expected result
+   */
+  private static final void __appendNumbers(
+      final HierarchicalTextOutput text, final char prefix,
+      final StringBuilder expected) {
+    int i;
+
+    for (i = 0; i < 1000; i++) {
+      text.append(prefix);
+      text.append(i);
+      text.append('\u00e4');
+      expected.append(prefix);
+      expected.append(i);
+      expected.append('\u00e4');
+    }
+  }
+
+  /**
+   * Test whether buffered children which are moved to temporary files are
+   * merged correctly
+   */
+  @Test(timeout = 3600000)
+  public void testBufferSpilling() {
+    final StringBuilder result, expected, first, second, third;
+
+    result = new StringBuilder();
+    expected = new StringBuilder();
+    first = new StringBuilder();
+    second = new StringBuilder();
+    third = new StringBuilder();
+
+    try (final HierarchicalTextOutput root = new HierarchicalTextOutput(result) {
+      @Override
+      protected final int getBufferSpillThreshold() {
+        return 100;
+      }
+    }) {
+      try (final HierarchicalTextOutput a = root.newText()) {
+        try (final HierarchicalTextOutput b = root.newText()) {
+          try (final HierarchicalTextOutput b1 = b.newText()) {
+            try (final HierarchicalTextOutput b2 = b.newText()) {
+              HierarchicalTextTest.__appendNumbers(b2, 'z', third);
+            }
+            HierarchicalTextTest.__appendNumbers(b1, 'y', second);
+          }
+          HierarchicalTextTest.__appendNumbers(a, 'x', first);
+        }
+      }
+    }
+
+    expected.append(first);
+    expected.append(second);
+    expected.append(third);
+    Assert.assertEquals(expected.toString(), result.toString());
+  }
+
   /**
    * check if a string is contained in a given string builder
    *
@@ -0,0 +1,427 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.io.structured.spec.IFileInputJobBuilder;
+
+import test.junit.TestBase;
+
+/**
+ * Test loading files from ZIP archives with a
+ * {@link org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool}
+ * : An archive file in the default file system is opened for random
+ * access and its files may be loaded in parallel, while an archive given
+ * as stream or residing in another file system is decompressed to a
+ * temporary folder first. All ways must deliver exactly the same files.
+ */
+public class ArchiveInputTest extends TestBase {
+
+  /** the number of folders */
+  private static final int FOLDERS = 3;
+
+  /** the number of files per folder */
+  private static final int FILES = 8;
+
+  /** the number of threads of the pool for parallel loading */
+  private static final int THREADS = 4;
+
+  /** the time in milliseconds it takes to load a file */
+  private static final long DELAY = 20L;
+
+  /** create */
+  public ArchiveInputTest() {
+    super();
+  }
+
+  /**
+   * Create a folder structure with text files whose names are unique
+   *
+   * @param root
+   *          the root folder
+   * @param prefix
+   *          the prefix of the file names
+   * @param files
+   *          the map receiving the names and contents of the files
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final void __createFiles(final Path root,
+      final String prefix, final Map<String, String> files)
+      throws IOException {
+    Path folder;
+    String name, contents;
+    int folderIndex, fileIndex;
+
+    for (folderIndex = 0; folderIndex < ArchiveInputTest.FOLDERS; folderIndex++) {
+      folder = root.resolve("folder" + folderIndex); //$NON-NLS-1$
+      Files.createDirectories(folder);
+      for (fileIndex = 0; fileIndex < ArchiveInputTest.FILES; fileIndex++) {
+        name = ((((prefix + '_') + folderIndex) + '_') + fileIndex + ".txt"); //$NON-NLS-1$
+        contents = ("contents of " + name); //$NON-NLS-1$
+        Files.write(folder.resolve(name),
+            contents.getBytes(StandardCharsets.UTF_8));
+        files.put(name, contents);
+      }
+    }
+
+    name = (prefix + "_root.txt"); //$NON-NLS-1$
+    contents = ("contents of " + name); //$NON-NLS-1$
+    Files.write(root.resolve(name), contents.getBytes(StandardCharsets.UTF_8));
+    files.put(name, contents);
+  }
+
+  /**
+   * Compress a folder to a ZIP archive
+   *
+   * @param source
+   *          the source folder
+   * @param dest
+   *          the destination file
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final void __zip(final Path source, final Path dest)
+      throws IOException {
+    try (final OutputStream stream = Files.newOutputStream(dest)) {
+      EArchiveType.ZIP.compressPathToStream(source, stream);
+    }
+  }
+
+  /**
+   * Create a ZIP archive with text files
+   *
+   * @param temp
+   *          the temporary folder
+   * @param prefix
+   *          the prefix of the file names
+   * @param dest
+   *          the destination file
+   * @param files
+   *          the map receiving the names and contents of the files
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final void __createArchive(final Path temp,
+      final String prefix, final Path dest, final Map<String, String> files)
+      throws IOException {
+    final Path folder;
+
+    folder = temp.resolve(prefix);
+    ArchiveInputTest.__createFiles(folder, prefix, files);
+    ArchiveInputTest.__zip(folder, dest);
+  }
+
+  /**
+   * Load data in a {@link java.util.concurrent.ForkJoinPool} with
+   * {@link #THREADS} threads
+   *
+   * @param input
+   *          the input tool
+   * @param source
+   *          the source, either a {@link java.nio.file.Path} or an
+   *          {@link java.io.InputStream}
+   * @param archiveType
+   *          the archive type
+   * @return the loaded files
+   * @throws Exception
+   *           if it fails...
+   */
+  private static final ConcurrentHashMap<String, String> __load(
+      final _RecordingInput input, final Object source,
+      final EArchiveType archiveType) throws Exception {
+    final ConcurrentHashMap<String, String> files;
+    final ForkJoinPool pool;
+
+    files = new ConcurrentHashMap<>();
+    pool = new ForkJoinPool(ArchiveInputTest.THREADS);
+    try {
+      pool.submit(new Callable<Void>() {
+        @Override
+        public final Void call() throws IOException {
+          final IFileInputJobBuilder<ConcurrentHashMap<String, String>> builder;
+
+          builder = input.use().setLogger(TestBase.getNullLogger())
+              .setDestination(files);
+          if (source instanceof InputStream) {
+            builder.addArchiveStream(((InputStream) source), archiveType);
+          } else {
+            builder.addPath(((Path) source), null, archiveType);
+          }
+          builder.create().call();
+          return null;
+        }
+      }).get();
+    } finally {
+      pool.shutdown();
+    }
+    return files;
+  }
+
+  /**
+   * Check the maximum number of files which were loaded at the same time
+   * by a tool which loads files in parallel in a pool with more than one
+   * thread
+   *
+   * @param maxActive
+   *          the maximum number of files loaded at the same time
+   */
+  void _checkMaxActive(final int maxActive) {
+    Assert.assertTrue(maxActive > 1);
+  }
+
+  /**
+   * Test that ZIP archives can be opened for random access and contain
+   * all files
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testOpenRandomAccess() throws IOException {
+    final HashMap<String, String> expected, found;
+    final Path zip;
+
+    Assert.assertTrue(EArchiveType.ZIP.isRandomAccessSupported());
+    Assert.assertFalse(EArchiveType.GZIP.isRandomAccessSupported());
+
+    expected = new HashMap<>();
+    found = new HashMap<>();
+    try (final TempDir temp = new TempDir()) {
+      zip = temp.getPath().resolve("a.zip"); //$NON-NLS-1$
+      ArchiveInputTest.__createArchive(temp.getPath(), "a", zip, expected); //$NON-NLS-1$
+
+      try {
+        EArchiveType.GZIP.openRandomAccess(zip).close();
+        Assert.fail();
+      } catch (final UnsupportedOperationException expectedError) {
+        // expected
+      }
+
+      try (final FileSystem fileSystem = EArchiveType.ZIP
+          .openRandomAccess(zip)) {
+        Assert.assertNotSame(FileSystems.getDefault(), fileSystem);
+        for (final Path root : fileSystem.getRootDirectories()) {
+          Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public final FileVisitResult visitFile(final Path file,
+                final BasicFileAttributes attrs) throws IOException {
+              Assert.assertNull(found.put(file.getFileName().toString(),
+                  new String(Files.readAllBytes(file),
+                      StandardCharsets.UTF_8)));
+              return FileVisitResult.CONTINUE;
+            }
+          });
+        }
+      }
+    }
+
+    Assert.assertEquals(expected, found);
+  }
+
+  /**
+   * Test that loading an archive file via random access and loading it
+   * from a stream deliver the same files, both when loading files one by
+   * one and in parallel
+   *
+   * @throws Exception
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testRandomAccessEqualsStream() throws Exception {
+    final HashMap<String, String> expected;
+    final Path zip;
+    _RecordingInput input;
+
+    expected = new HashMap<>();
+    try (final TempDir temp = new TempDir()) {
+      zip = temp.getPath().resolve("a.zip"); //$NON-NLS-1$
+      ArchiveInputTest.__createArchive(temp.getPath(), "a", zip, expected); //$NON-NLS-1$
+
+      for (final boolean parallel : new boolean[] { false, true }) {
+        input = new _RecordingInput(parallel);
+        Assert.assertEquals(expected,
+            ArchiveInputTest.__load(input, zip, EArchiveType.ZIP));
+        Assert.assertEquals(expected.size(), input.m_inArchive.get());
+
+        input = new _RecordingInput(parallel);
+        try (final InputStream stream = Files.newInputStream(zip)) {
+          Assert.assertEquals(expected,
+              ArchiveInputTest.__load(input, stream, EArchiveType.ZIP));
+        }
+        Assert.assertEquals(0, input.m_inArchive.get());
+        Assert.assertEquals(1, input.m_maxActive.get());
+      }
+    }
+  }
+
+  /**
+   * Test that the files of an archive opened for random access are loaded
+   * in parallel if the tool permits it, both inside a
+   * {@link java.util.concurrent.ForkJoinPool} and outside, where the
+   * common pool is used
+   *
+   * @throws Exception
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testParallelRandomAccess() throws Exception {
+    final HashMap<String, String> expected;
+    final ConcurrentHashMap<String, String> found;
+    final Path zip;
+    _RecordingInput input;
+
+    expected = new HashMap<>();
+    try (final TempDir temp = new TempDir()) {
+      zip = temp.getPath().resolve("a.zip"); //$NON-NLS-1$
+      ArchiveInputTest.__createArchive(temp.getPath(), "a", zip, expected); //$NON-NLS-1$
+
+      input = new _RecordingInput(true);
+      Assert.assertEquals(expected,
+          ArchiveInputTest.__load(input, zip, EArchiveType.ZIP));
+      this._checkMaxActive(input.m_maxActive.get());
+
+      input = new _RecordingInput(true);
+      found = new ConcurrentHashMap<>();
+      input.use().setLogger(TestBase.getNullLogger()).setDestination(found)
+          .addPath(zip, null, EArchiveType.ZIP).create().call();
+      Assert.assertEquals(expected, found);
+      Assert.assertEquals(expected.size(), input.m_inArchive.get());
+    }
+  }
+
+  /**
+   * Test loading archives nested in folders and other archives: A folder
+   * of archive files is loaded via random access and in parallel, while
+   * the archives inside an archive are not in the default file system
+   * and hence decompressed from streams.
+   *
+   * @throws Exception
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testNestedArchives() throws Exception {
+    final HashMap<String, String> expected;
+    final Path archives, outer;
+    _RecordingInput input;
+
+    expected = new HashMap<>();
+    try (final TempDir temp = new TempDir()) {
+      archives = temp.getPath().resolve("archives"); //$NON-NLS-1$
+      Files.createDirectories(archives);
+      ArchiveInputTest.__createArchive(temp.getPath(), "a", //$NON-NLS-1$
+          archives.resolve("a.zip"), expected); //$NON-NLS-1$
+      ArchiveInputTest.__createArchive(temp.getPath(), "b", //$NON-NLS-1$
+          archives.resolve("b.zip"), expected); //$NON-NLS-1$
+
+      input = new _RecordingInput(true);
+      Assert.assertEquals(expected,
+          ArchiveInputTest.__load(input, archives, EArchiveType.ZIP));
+      Assert.assertEquals(expected.size(), input.m_inArchive.get());
+      this._checkMaxActive(input.m_maxActive.get());
+
+      outer = temp.getPath().resolve("outer.zip"); //$NON-NLS-1$
+      ArchiveInputTest.__zip(archives, outer);
+      try (final FileSystem fileSystem = EArchiveType.ZIP
+          .openRandomAccess(outer)) {
+        for (final Path root : fileSystem.getRootDirectories()) {
+          input = new _RecordingInput(true);
+          Assert.assertEquals(expected,
+              ArchiveInputTest.__load(input, root, EArchiveType.ZIP));
+          Assert.assertEquals(0, input.m_inArchive.get());
+        }
+      }
+    }
+  }
+
+  /**
+   * An input tool which records the names and contents of the files it
+   * loads, how many files it loads from archives opened for random
+   * access, and how many files it loads at the same time.
+   */
+  static final class _RecordingInput extends
+      FileInputTool<ConcurrentHashMap<String, String>> {
+
+    /** may files be loaded in parallel? */
+    private final boolean m_parallel;
+
+    /** the number of files currently being loaded */
+    final AtomicInteger m_active;
+
+    /** the maximum number of files loaded at the same time */
+    final AtomicInteger m_maxActive;
+
+    /** the number of files loaded from archives opened for random access */
+    final AtomicInteger m_inArchive;
+
+    /**
+     * create
+     *
+     * @param parallel
+     *          may files be loaded in parallel?
+     */
+    _RecordingInput(final boolean parallel) {
+      super();
+      this.m_parallel = parallel;
+      this.m_active = new AtomicInteger();
+      this.m_maxActive = new AtomicInteger();
+      this.m_inArchive = new AtomicInteger();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean canLoadFilesInParallel(final IOJob job,
+        final ConcurrentHashMap<String, String> data) {
+      return this.m_parallel;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void file(final IOJob job,
+        final ConcurrentHashMap<String, String> data, final Path path,
+        final BasicFileAttributes attributes,
+        final StreamEncoding<?, ?> encoding) throws Throwable {
+      final int active;
+      int max;
+
+      active = this.m_active.incrementAndGet();
+      try {
+        do {
+          max = this.m_maxActive.get();
+        } while ((active > max)
+            && (!(this.m_maxActive.compareAndSet(max, active))));
+
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+          this.m_inArchive.incrementAndGet();
+        }
+        Thread.sleep(ArchiveInputTest.DELAY);
+        Assert.assertNull(data.put(path.getFileName().toString(),
+            new String(Files.readAllBytes(path), StandardCharsets.UTF_8)));
+      } finally {
+        this.m_active.decrementAndGet();
+      }
+    }
+  }
+}
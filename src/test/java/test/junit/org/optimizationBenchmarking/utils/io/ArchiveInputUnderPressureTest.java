@@ -0,0 +1,50 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.MemoryGovernor;
+
+/**
+ * Run the {@link ArchiveInputTest} under memory pressure: The collection
+ * usage threshold of each heap pool is set to one byte when this class is
+ * loaded, which works because each test class runs in its own JVM, and
+ * the pressure is signaled before each test. The
+ * {@link org.optimizationBenchmarking.utils.MemoryGovernor} then lets only
+ * one file at a time be loaded, while the archives containing the files
+ * must not hold the gate, as loading them would deadlock otherwise.
+ */
+public class ArchiveInputUnderPressureTest extends ArchiveInputTest {
+
+  static {
+    for (final MemoryPoolMXBean pool : ManagementFactory
+        .getMemoryPoolMXBeans()) {
+      if ((pool.getType() == MemoryType.HEAP) && pool.isValid()
+          && pool.isCollectionUsageThresholdSupported()) {
+        pool.setCollectionUsageThreshold(1L);
+      }
+    }
+  }
+
+  /** create */
+  public ArchiveInputUnderPressureTest() {
+    super();
+    System.gc();
+    MemoryGovernor.getInstance().signalPressure();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _checkMaxActive(final int maxActive) {
+    Assert.assertEquals(1, maxActive);
+  }
+
+  /** Test that we are actually under memory pressure */
+  @Test(timeout = 3600000)
+  public void testUnderPressure() {
+    Assert.assertTrue(MemoryGovernor.getInstance().isUnderPressure());
+  }
+}
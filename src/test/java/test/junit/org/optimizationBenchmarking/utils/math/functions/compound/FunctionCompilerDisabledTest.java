@@ -0,0 +1,41 @@
+package test.junit.org.optimizationBenchmarking.utils.math.functions.compound;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.functions.BinaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.compound.FunctionCompiler;
+import org.optimizationBenchmarking.utils.math.text.CompoundFunctionParser;
+
+import test.junit.TestBase;
+
+/**
+ * Test that compound functions are not compiled unless the compilation
+ * has been enabled via the system property, which is not set in this
+ * test's JVM.
+ */
+public class FunctionCompilerDisabledTest extends TestBase {
+
+  /** create */
+  public FunctionCompilerDisabledTest() {
+    super();
+  }
+
+  /** test that the functions are returned as they are */
+  @Test(timeout = 3600000)
+  public void testNotCompiledByDefault() {
+    final UnaryFunction unary;
+    final BinaryFunction binary;
+
+    Assert.assertNull(System.getProperty(FunctionCompiler.COMPILE_PROPERTY));
+    Assert.assertFalse(FunctionCompiler.canCompile());
+
+    unary = CompoundFunctionParser.getDefaultUnaryFunctionParser()
+        .parseString("(#1#+5)*3-#1#"); //$NON-NLS-1$
+    Assert.assertSame(unary, FunctionCompiler.compile(unary));
+
+    binary = CompoundFunctionParser.getDefaultBinaryFunctionParser()
+        .parseString("max(#1#, #2#)/min(#2#, 17)"); //$NON-NLS-1$
+    Assert.assertSame(binary, FunctionCompiler.compile(binary));
+  }
+}
@@ -0,0 +1,291 @@
+package test.junit.org.optimizationBenchmarking.utils.math.functions.compound;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.functions.BinaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.UnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.compound.CompiledBinaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.compound.CompiledUnaryFunction;
+import org.optimizationBenchmarking.utils.math.functions.compound.FunctionCompiler;
+import org.optimizationBenchmarking.utils.math.text.CompoundFunctionParser;
+
+import test.junit.TestBase;
+
+/**
+ * Test the compilation of compound functions. The compilation is enabled
+ * via the system property when this class is loaded, which works because
+ * each test class runs in its own JVM.
+ */
+public class FunctionCompilerTest extends TestBase {
+
+  static {
+    System.setProperty(FunctionCompiler.COMPILE_PROPERTY,
+        Boolean.TRUE.toString());
+  }
+
+  /** the unary expressions */
+  private static final String[] UNARY = { //
+      "#1#+5", //$NON-NLS-1$
+      "(#1#+5)*3-#1#", //$NON-NLS-1$
+      "5+4*3^0.333333333333333333333333333/7*#1#", //$NON-NLS-1$
+      "sqrt(abs(#1#))+ln(#1#*#1#+1)", //$NON-NLS-1$
+      "max[#1#, 3*(2+1)] - min(#1#, -4)", //$NON-NLS-1$
+      "#1#/7+#1#%3", //$NON-NLS-1$
+      "sin(#1#)*cos(#1#)+2^10", //$NON-NLS-1$
+  };
+
+  /** the binary expressions */
+  private static final String[] BINARY = { //
+      "#1#+#2#", //$NON-NLS-1$
+      "(#1#-#2#)*(#1#+#2#)+(2*3)", //$NON-NLS-1$
+      "max(#1#, #2#)/min(#2#, 17)", //$NON-NLS-1$
+      "sqrt(#1#*#1#+#2#*#2#)-ln(abs(#2#)+1)", //$NON-NLS-1$
+  };
+
+  /** create */
+  public FunctionCompilerTest() {
+    super();
+  }
+
+  /**
+   * Compute all results of a unary function for a given pair of
+   * arguments. If a computation throws an exception, its class is stored
+   * instead of the result. The boxed floating point values are compared
+   * on the bit level by {@link Double#equals(Object)} and
+   * {@link Float#equals(Object)}.
+   *
+   * @param f
+   *          the function
+   * @param l
+   *          the integer argument
+   * @param d
+   *          the floating point argument
+   * @return the results
+   */
+  private static final Object[] __results(final UnaryFunction f,
+      final long l, final double d) {
+    final Object[] results;
+    int i;
+
+    results = new Object[8];
+    for (i = results.length; (--i) >= 0;) {
+      try {
+        switch (i) {
+          case 0: {
+            results[i] = Byte.valueOf(f.computeAsByte((byte) l));
+            break;
+          }
+          case 1: {
+            results[i] = Short.valueOf(f.computeAsShort((short) l));
+            break;
+          }
+          case 2: {
+            results[i] = Integer.valueOf(f.computeAsInt((int) l));
+            break;
+          }
+          case 3: {
+            results[i] = Long.valueOf(f.computeAsLong(l));
+            break;
+          }
+          case 4: {
+            results[i] = Float.valueOf(f.computeAsFloat((float) d));
+            break;
+          }
+          case 5: {
+            results[i] = Double.valueOf(f.computeAsDouble(d));
+            break;
+          }
+          case 6: {
+            results[i] = Double.valueOf(f.computeAsDouble(l));
+            break;
+          }
+          default: {
+            results[i] = Double.valueOf(f.computeAsDouble((int) l));
+          }
+        }
+      } catch (final Throwable error) {
+        results[i] = error.getClass();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Compute all results of a binary function for a given set of
+   * arguments. If a computation throws an exception, its class is stored
+   * instead of the result.
+   *
+   * @param f
+   *          the function
+   * @param l1
+   *          the first integer argument
+   * @param l2
+   *          the second integer argument
+   * @param d1
+   *          the first floating point argument
+   * @param d2
+   *          the second floating point argument
+   * @return the results
+   */
+  private static final Object[] __results(final BinaryFunction f,
+      final long l1, final long l2, final double d1, final double d2) {
+    final Object[] results;
+    int i;
+
+    results = new Object[8];
+    for (i = results.length; (--i) >= 0;) {
+      try {
+        switch (i) {
+          case 0: {
+            results[i] = Byte
+                .valueOf(f.computeAsByte((byte) l1, (byte) l2));
+            break;
+          }
+          case 1: {
+            results[i] = Short
+                .valueOf(f.computeAsShort((short) l1, (short) l2));
+            break;
+          }
+          case 2: {
+            results[i] = Integer
+                .valueOf(f.computeAsInt((int) l1, (int) l2));
+            break;
+          }
+          case 3: {
+            results[i] = Long.valueOf(f.computeAsLong(l1, l2));
+            break;
+          }
+          case 4: {
+            results[i] = Float
+                .valueOf(f.computeAsFloat((float) d1, (float) d2));
+            break;
+          }
+          case 5: {
+            results[i] = Double.valueOf(f.computeAsDouble(d1, d2));
+            break;
+          }
+          case 6: {
+            results[i] = Double.valueOf(f.computeAsDouble(l1, l2));
+            break;
+          }
+          default: {
+            results[i] = Double
+                .valueOf(f.computeAsDouble((int) l1, (int) l2));
+          }
+        }
+      } catch (final Throwable error) {
+        results[i] = error.getClass();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Check that {@code equals} is symmetric between the original and the
+   * compiled function, and that compiled functions of equal originals are
+   * equal
+   *
+   * @param original
+   *          the original function
+   * @param compiled
+   *          the compiled function
+   * @param recompiled
+   *          the compiled version of an equal original function
+   */
+  private static final void __checkEquals(final Object original,
+      final Object compiled, final Object recompiled) {
+    Assert.assertEquals(original.equals(compiled),
+        compiled.equals(original));
+    Assert.assertEquals(compiled.equals(recompiled),
+        recompiled.equals(compiled));
+    Assert.assertTrue(compiled.equals(recompiled));
+    Assert.assertEquals(compiled.hashCode(), recompiled.hashCode());
+    if (compiled != original) {
+      Assert.assertFalse(compiled.equals(original));
+    }
+  }
+
+  /** test whether compiled unary functions behave exactly like the original */
+  @Test(timeout = 3600000)
+  public void testUnaryFunctions() {
+    final Random random;
+    UnaryFunction original, compiled;
+    long l;
+    double d;
+    int i;
+
+    random = new Random();
+    for (final String expression : FunctionCompilerTest.UNARY) {
+      original = CompoundFunctionParser.getDefaultUnaryFunctionParser()
+          .parseString(expression);
+      compiled = FunctionCompiler.compile(original);
+      Assert.assertNotNull(compiled);
+      if (FunctionCompiler.canCompile()) {
+        Assert.assertTrue(compiled instanceof CompiledUnaryFunction);
+      }
+      FunctionCompilerTest.__checkEquals(original, compiled,
+          FunctionCompiler.compile(CompoundFunctionParser
+              .getDefaultUnaryFunctionParser().parseString(expression)));
+      Assert.assertEquals(original.hashCode(), compiled.hashCode());
+      Assert.assertEquals(original.toString(), compiled.toString());
+      Assert.assertEquals(original.isLongArithmeticAccurate(),
+          compiled.isLongArithmeticAccurate());
+
+      for (i = 1000; (--i) >= 0;) {
+        l = ((random.nextInt(3) <= 0) ? random.nextLong() : //
+            (random.nextInt(201) - 100));
+        d = ((random.nextInt(3) <= 0) ? (random.nextGaussian() * 1e6)
+            : ((random.nextDouble() * 200d) - 100d));
+
+        Assert.assertArrayEquals(
+            FunctionCompilerTest.__results(original, l, d),
+            FunctionCompilerTest.__results(compiled, l, d));
+      }
+
+      Assert.assertSame(compiled.getClass(),
+          FunctionCompiler.compile(original).getClass());
+    }
+  }
+
+  /**
+   * test whether compiled binary functions behave exactly like the
+   * original
+   */
+  @Test(timeout = 3600000)
+  public void testBinaryFunctions() {
+    final Random random;
+    BinaryFunction original, compiled;
+    long l1, l2;
+    double d1, d2;
+    int i;
+
+    random = new Random();
+    for (final String expression : FunctionCompilerTest.BINARY) {
+      original = CompoundFunctionParser.getDefaultBinaryFunctionParser()
+          .parseString(expression);
+      compiled = FunctionCompiler.compile(original);
+      Assert.assertNotNull(compiled);
+      if (FunctionCompiler.canCompile()) {
+        Assert.assertTrue(compiled instanceof CompiledBinaryFunction);
+      }
+      FunctionCompilerTest.__checkEquals(original, compiled,
+          FunctionCompiler.compile(CompoundFunctionParser
+              .getDefaultBinaryFunctionParser().parseString(expression)));
+      Assert.assertEquals(original.toString(), compiled.toString());
+
+      for (i = 1000; (--i) >= 0;) {
+        l1 = (random.nextInt(201) - 100);
+        l2 = ((random.nextInt(3) <= 0) ? random.nextLong() : //
+            (random.nextInt(201) - 100));
+        d1 = ((random.nextDouble() * 200d) - 100d);
+        d2 = (random.nextGaussian() * 1e6);
+
+        Assert.assertArrayEquals(
+            FunctionCompilerTest.__results(original, l1, l2, d1, d2),
+            FunctionCompilerTest.__results(compiled, l1, l2, d1, d2));
+      }
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Here we test the compound functions from package
+ * {@link org.optimizationBenchmarking.utils.math.functions.compound}
+ */
+package test.junit.org.optimizationBenchmarking.utils.math.functions.compound;
\ No newline at end of file
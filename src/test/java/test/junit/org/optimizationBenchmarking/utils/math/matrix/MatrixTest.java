@@ -6,6 +6,7 @@ import java.util.Random;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.functions.arithmetic.Negate;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
 
 import test.junit.InstanceTest;
@@ -535,6 +536,92 @@ public class MatrixTest<MT extends IMatrix> extends InstanceTest<MT> {
     }
   }
 
+  /** test the bulk column access methods */
+  @Test(timeout = 3600000)
+  public void testMatrixCopyColumn() {
+    final Random rand;
+    final IMatrix mat;
+    final boolean isInteger;
+    double[] doubles;
+    long[] longs;
+    int m, n, i, j, k, from, to, start;
+
+    mat = this.getInstance();
+    Assert.assertNotNull(mat);
+    rand = new Random();
+
+    m = mat.m();
+    n = mat.n();
+    isInteger = mat.isIntegerMatrix();
+
+    for (j = 0; j < n; j++) {
+      for (i = 5; (--i) >= 0;) {
+        if (i <= 0) {
+          from = 0;
+          to = m;
+        } else {
+          from = rand.nextInt(m + 1);
+          to = (from + rand.nextInt((m - from) + 1));
+        }
+        start = rand.nextInt(4);
+
+        doubles = new double[start + (to - from) + rand.nextInt(3)];
+        mat.copyColumn(j, from, to, doubles, start);
+        for (k = from; k < to; k++) {
+          Assert.assertEquals(mat.getDouble(k, j),
+              doubles[(start + k) - from], 0d);
+        }
+
+        longs = new long[start + (to - from)];
+        mat.copyColumn(j, from, to, longs, start);
+        for (k = from; k < to; k++) {
+          Assert.assertEquals(mat.getLong(k, j), longs[(start + k) - from]);
+        }
+
+        doubles = new double[start + (to - from)];
+        mat.applyToColumn(j, Negate.INSTANCE, from, to, doubles, start);
+        for (k = from; k < to; k++) {
+          Assert.assertEquals((isInteger ? (-((double) (mat.getLong(k, j))))
+              : (-mat.getDouble(k, j))), doubles[(start + k) - from], 0d);
+        }
+      }
+
+      try {
+        mat.copyColumn(j, 0, (m + 1), new double[m + 1], 0);
+        Assert.fail("Copying too many rows must fail."); //$NON-NLS-1$
+      } catch (final IndexOutOfBoundsException expected) {
+        // ignore
+      }
+      try {
+        mat.copyColumn(j, 0, m, new long[m], 1);
+        Assert.fail("Copying beyond the array end must fail."); //$NON-NLS-1$
+      } catch (final IndexOutOfBoundsException expected) {
+        // ignore
+      }
+    }
+
+    doubles = mat.getDoubleArrayView();
+    if (doubles != null) {
+      Assert.assertEquals((m * n), doubles.length);
+      for (i = m; (--i) >= 0;) {
+        for (j = n; (--j) >= 0;) {
+          Assert.assertEquals(mat.getDouble(i, j), doubles[(i * n) + j],
+              0d);
+        }
+      }
+    }
+
+    longs = mat.getLongArrayView();
+    if (longs != null) {
+      Assert.assertEquals((m * n), longs.length);
+      for (i = m; (--i) >= 0;) {
+        for (j = n; (--j) >= 0;) {
+          Assert.assertEquals(mat.getLong(i, j), longs[(i * n) + j]);
+        }
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @SuppressWarnings({ "unchecked", "rawtypes" })
   @Override
@@ -560,5 +647,6 @@ public class MatrixTest<MT extends IMatrix> extends InstanceTest<MT> {
     this.testMatrixSelectionAndTranspose();
     this.testMatrixIterate();
     this.testMatrixCopy();
+    this.testMatrixCopyColumn();
   }
 }
@@ -0,0 +1,47 @@
+package test.junit.org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleBufferMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix1D;
+
+import test.junit.org.optimizationBenchmarking.utils.math.matrix.MatrixTest;
+
+/** test the memory-mapped double matrix */
+public class DoubleBufferMatrixTest extends MatrixTest<DoubleBufferMatrix> {
+
+  /** the constructor */
+  public DoubleBufferMatrixTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected DoubleBufferMatrix getInstance() {
+    final DoubleMatrix1D source;
+    final DoubleBuffer buffer;
+    final int m, n;
+    int i, j;
+
+    source = new DoubleMatrix1DTest().getInstance();
+    m = source.m();
+    n = source.n();
+    try {
+      buffer = TempDir.getShared().map((m * n) << 3)
+          .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    } catch (final IOException ioError) {
+      throw new RuntimeException(ioError);
+    }
+
+    for (i = 0; i < m; i++) {
+      for (j = 0; j < n; j++) {
+        buffer.put(source.getDouble(i, j));
+      }
+    }
+
+    return new DoubleBufferMatrix(buffer, m, n);
+  }
+}
@@ -0,0 +1,47 @@
+package test.junit.org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.math.matrix.impl.LongBufferMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.LongMatrix1D;
+
+import test.junit.org.optimizationBenchmarking.utils.math.matrix.MatrixTest;
+
+/** test the memory-mapped long matrix */
+public class LongBufferMatrixTest extends MatrixTest<LongBufferMatrix> {
+
+  /** the constructor */
+  public LongBufferMatrixTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected LongBufferMatrix getInstance() {
+    final LongMatrix1D source;
+    final LongBuffer buffer;
+    final int m, n;
+    int i, j;
+
+    source = new LongMatrix1DTest().getInstance();
+    m = source.m();
+    n = source.n();
+    try {
+      buffer = TempDir.getShared().map((m * n) << 3)
+          .order(ByteOrder.nativeOrder()).asLongBuffer();
+    } catch (final IOException ioError) {
+      throw new RuntimeException(ioError);
+    }
+
+    for (i = 0; i < m; i++) {
+      for (j = 0; j < n; j++) {
+        buffer.put(source.getLong(i, j));
+      }
+    }
+
+    return new LongBufferMatrix(buffer, m, n);
+  }
+}
@@ -5,6 +5,8 @@ import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleBufferMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.LongBufferMatrix;
 import org.optimizationBenchmarking.utils.math.matrix.impl.MatrixBuilder;
 import org.optimizationBenchmarking.utils.reflection.EPrimitiveType;
 
@@ -400,4 +402,55 @@ public class MatrixBuilderTest extends TestBase {
       }
     }
   }
+
+  /** test building matrices which are spilled to memory-mapped files */
+  @Test(timeout = 3600000)
+  public final void testSpilledMatrixBuilding() {
+    final Random rand;
+    long[] longs;
+    double[] doubles;
+    int testIt, i, j, m, n;
+    MatrixBuilder builder;
+    IMatrix result;
+
+    rand = new Random();
+    for (testIt = 1; testIt <= 100; testIt++) {
+      m = (1 + rand.nextInt(100));
+      n = (1 + rand.nextInt(10));
+
+      builder = new MatrixBuilder(EPrimitiveType.BYTE);
+      builder.setSpillThreshold(1 + rand.nextInt(m * n));
+      builder.setN(n);
+      if (rand.nextBoolean()) {
+        longs = new long[m * n];
+        for (i = longs.length; (--i) >= 0;) {
+          longs[i] = (rand.nextBoolean() ? rand.nextInt(100)
+              : rand.nextLong());
+        }
+        builder.append(longs);
+        result = builder.make();
+        Assert.assertTrue(result instanceof LongBufferMatrix);
+        for (i = 0; i < m; i++) {
+          for (j = 0; j < n; j++) {
+            Assert.assertEquals(longs[(i * n) + j], result.getLong(i, j));
+          }
+        }
+      } else {
+        doubles = new double[m * n];
+        for (i = doubles.length; (--i) >= 0;) {
+          doubles[i] = (rand.nextBoolean() ? ((float) rand.nextGaussian())
+              : rand.nextGaussian());
+        }
+        builder.append(doubles);
+        result = builder.make();
+        Assert.assertTrue(result instanceof DoubleBufferMatrix);
+        for (i = 0; i < m; i++) {
+          for (j = 0; j < n; j++) {
+            Assert.assertEquals(doubles[(i * n) + j],
+                result.getDouble(i, j), 0d);
+          }
+        }
+      }
+    }
+  }
 }
@@ -140,6 +140,101 @@ public class MatrixIterator2DTest extends TestBase {
     }
   }
 
+  /**
+   * test whether the iteration over plain {@code long} and {@code double}
+   * columns proceeds as expected
+   */
+  @Test(timeout = 3600000)
+  public void testColumnIterationData1() {
+    final long[][] data, xLong, yLong;
+    final double[][] xDouble, yDouble;
+    int i, j;
+
+    data = MatrixIterator2DTest.DATA_1;
+    i = data.length;
+    xLong = new long[i][];
+    yLong = new long[i][];
+    xDouble = new double[i][];
+    yDouble = new double[i][];
+    for (; (--i) >= 0;) {
+      j = (data[i].length >>> 1);
+      xLong[i] = new long[j];
+      yLong[i] = new long[j];
+      xDouble[i] = new double[j];
+      yDouble[i] = new double[j];
+      for (; (--j) >= 0;) {
+        xDouble[i][j] = xLong[i][j] = data[i][j << 1];
+        yDouble[i][j] = yLong[i][j] = data[i][(j << 1) + 1];
+      }
+    }
+
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xLong, yLong, false),
+        MatrixIterator2DTest.EXPECTED_1);
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xLong, yDouble, false),
+        MatrixIterator2DTest.EXPECTED_1);
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xDouble, yLong, false),
+        MatrixIterator2DTest.EXPECTED_1);
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xDouble, yDouble, false),
+        MatrixIterator2DTest.EXPECTED_1);
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xLong, yLong, true),
+        MatrixIterator2DTest.EXPECTED_1B);
+    MatrixIterator2DTest.__testColumns(
+        MatrixIterator2D.iterate(xDouble, yDouble, true),
+        MatrixIterator2DTest.EXPECTED_1B);
+
+    try {
+      MatrixIterator2D.iterate(xLong, new long[][] { yLong[0] }, false);
+      Assert.fail("Different numbers of columns must be rejected."); //$NON-NLS-1$
+    } catch (final IllegalArgumentException expected) {
+      // ok
+    }
+    try {
+      MatrixIterator2D.iterate(new long[][] { xLong[0] },
+          new double[][] { new double[1] }, false);
+      Assert.fail("Columns of different lengths must be rejected."); //$NON-NLS-1$
+    } catch (final IllegalArgumentException expected) {
+      // ok
+    }
+  }
+
+  /**
+   * test an iterator over the given data columns
+   *
+   * @param iterator
+   *          the iterator
+   * @param result
+   *          the expected result
+   */
+  private static final void __testColumns(final MatrixIterator2D iterator,
+      final long[][] result) {
+    long[] expected, sorted;
+    int i;
+
+    for (final long[] row : result) {
+      Assert.assertTrue(iterator.hasNext());
+      Assert.assertEquals(row[0], iterator.next().longValue());
+      Assert.assertEquals((row.length - 1), iterator.n());
+      Assert.assertTrue(iterator.isIntegerMatrix());
+
+      expected = Arrays.copyOfRange(row, 1, row.length);
+      sorted = new long[expected.length];
+      for (i = sorted.length; (--i) >= 0;) {
+        sorted[i] = iterator.getLong(0, i);
+        Assert.assertEquals(sorted[i], iterator.getDouble(0, i), 0d);
+      }
+      Arrays.sort(expected);
+      Arrays.sort(sorted);
+      Assert.assertArrayEquals(expected, sorted);
+    }
+
+    Assert.assertFalse(iterator.hasNext());
+  }
+
   /**
    * test a permutation of a given data array where all coordinates are
    * longs
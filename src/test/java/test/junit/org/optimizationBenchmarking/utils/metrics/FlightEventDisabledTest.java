@@ -0,0 +1,48 @@
+package test.junit.org.optimizationBenchmarking.utils.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
+
+import test.junit.TestBase;
+
+/**
+ * Test that the
+ * {@link org.optimizationBenchmarking.utils.metrics.FlightEvent}s do
+ * nothing if they are disabled via the system property, which is set when
+ * this class is loaded, which works because each test class runs in its
+ * own JVM.
+ */
+public class FlightEventDisabledTest extends TestBase {
+
+  static {
+    System.setProperty(FlightEvent.ENABLED_PROPERTY,
+        Boolean.FALSE.toString());
+  }
+
+  /** create */
+  public FlightEventDisabledTest() {
+    super();
+  }
+
+  /** Test that disabled events are not supported */
+  @Test(timeout = 3600000)
+  public void testNotSupported() {
+    Assert.assertFalse(FlightEvent.isSupported());
+  }
+
+  /** Test that begin and end never throw and begin returns {@code null} */
+  @Test(timeout = 3600000)
+  public void testBeginEndDoNothing() {
+    FlightEvent event;
+
+    for (final EFlightEventType type : EFlightEventType.values()) {
+      event = FlightEvent.begin(type);
+      Assert.assertNull(event);
+      FlightEvent.end(event, type, type.getName(), 1L);
+      FlightEvent.end(event, null, null, -1L);
+      FlightEvent.end(null, Object.class, null, 0L);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package test.junit.org.optimizationBenchmarking.utils.metrics;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.metrics.EFlightEventType;
+import org.optimizationBenchmarking.utils.metrics.FlightEvent;
+
+import test.junit.TestBase;
+
+/**
+ * Test the {@link org.optimizationBenchmarking.utils.metrics.FlightEvent}
+ * s. They are enabled via the system property when this class is loaded,
+ * which works because each test class runs in its own JVM. If the JVM
+ * supports the flight recorder, a recording is started via reflection and
+ * the committed events are read back from it. Otherwise, we check that
+ * the events do nothing.
+ */
+public class FlightEventTest extends TestBase {
+
+  static {
+    System.setProperty(FlightEvent.ENABLED_PROPERTY,
+        Boolean.TRUE.toString());
+  }
+
+  /** create */
+  public FlightEventTest() {
+    super();
+  }
+
+  /**
+   * Does the JVM offer the flight recorder API?
+   *
+   * @return {@code true} if it does, {@code false} otherwise
+   */
+  private static final boolean __hasFlightRecorder() {
+    try {
+      Class.forName("jdk.jfr.EventFactory"); //$NON-NLS-1$
+      return true;
+    } catch (final Throwable error) {
+      return false;
+    }
+  }
+
+  /**
+   * Does a recorded event have a given field?
+   *
+   * @param recordedEvent
+   *          the {@code jdk.jfr.consumer.RecordedEvent}
+   * @param field
+   *          the field name
+   * @return {@code true} if the event has the field, {@code false}
+   *         otherwise
+   * @throws Throwable
+   *           if it fails...
+   */
+  private static final boolean __hasField(final Object recordedEvent,
+      final String field) throws Throwable {
+    return ((Boolean) (recordedEvent.getClass().getMethod("hasField", //$NON-NLS-1$
+        String.class).invoke(recordedEvent, field))).booleanValue();
+  }
+
+  /** Test that the events are supported if the JVM offers the API */
+  @Test(timeout = 3600000)
+  public void testSupported() {
+    Assert.assertEquals(FlightEventTest.__hasFlightRecorder(),
+        FlightEvent.isSupported());
+  }
+
+  /**
+   * Test that begin and end never throw, even with {@code null} arguments
+   * or before a recording is started
+   */
+  @Test(timeout = 3600000)
+  public void testBeginEndNeverThrow() {
+    FlightEvent event;
+
+    for (final EFlightEventType type : EFlightEventType.values()) {
+      event = FlightEvent.begin(type);
+      FlightEvent.end(event, null, null, -1L);
+      FlightEvent.end(null, type, type, 0L);
+    }
+  }
+
+  /**
+   * Record all event types and read them back from the recording
+   *
+   * @throws Throwable
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testRecording() throws Throwable {
+    final Class<?> recordingClass;
+    final Object recording;
+    final Path file;
+    final HashMap<String, Object> recorded;
+    FlightEvent event;
+    Method method;
+    Object type, recordedEvent;
+    String name;
+
+    if (!(FlightEventTest.__hasFlightRecorder())) {
+      for (final EFlightEventType eventType : EFlightEventType.values()) {
+        Assert.assertNull(FlightEvent.begin(eventType));
+      }
+      return;
+    }
+
+    recordingClass = Class.forName("jdk.jfr.Recording"); //$NON-NLS-1$
+    recording = recordingClass.newInstance();
+    file = Files.createTempFile("flightEvents", ".jfr"); //$NON-NLS-1$//$NON-NLS-2$
+    try {
+      recordingClass.getMethod("enable", String.class).invoke(recording, //$NON-NLS-1$
+          "org.optimizationBenchmarking.*"); //$NON-NLS-1$
+      recordingClass.getMethod("start").invoke(recording); //$NON-NLS-1$
+
+      for (final EFlightEventType eventType : EFlightEventType.values()) {
+        event = FlightEvent.begin(eventType);
+        Assert.assertNotNull(event);
+        Assert.assertSame(eventType, event.getType());
+        FlightEvent.end(event, eventType, String.class,
+            (eventType.ordinal() + 1));
+      }
+
+      recordingClass.getMethod("stop").invoke(recording); //$NON-NLS-1$
+      recordingClass.getMethod("dump", Path.class).invoke(recording, //$NON-NLS-1$
+          file);
+
+      recorded = new HashMap<>();
+      for (final Object read : ((List<?>) (Class
+          .forName("jdk.jfr.consumer.RecordingFile") //$NON-NLS-1$
+          .getMethod("readAllEvents", Path.class).invoke(null, file)))) { //$NON-NLS-1$
+        type = read.getClass().getMethod("getEventType").invoke(read); //$NON-NLS-1$
+        name = ((String) (type.getClass().getMethod("getName") //$NON-NLS-1$
+            .invoke(type)));
+        if (name.startsWith("org.optimizationBenchmarking.")) { //$NON-NLS-1$
+          recorded.put(name, read);
+        }
+      }
+
+      for (final EFlightEventType eventType : EFlightEventType.values()) {
+        recordedEvent = recorded.get(eventType.getName());
+        Assert.assertNotNull(eventType.getName(), recordedEvent);
+        method = recordedEvent.getClass().getMethod("getString", //$NON-NLS-1$
+            String.class);
+        Assert.assertEquals(eventType.toString(),
+            method.invoke(recordedEvent, "name")); //$NON-NLS-1$
+        if (FlightEventTest.__hasField(recordedEvent, "detail")) { //$NON-NLS-1$
+          Assert.assertEquals(String.class.getName(),
+              method.invoke(recordedEvent, "detail")); //$NON-NLS-1$
+        }
+        if (FlightEventTest.__hasField(recordedEvent, "size")) { //$NON-NLS-1$
+          Assert.assertEquals(Long.valueOf(eventType.ordinal() + 1),
+              recordedEvent.getClass().getMethod("getLong", String.class) //$NON-NLS-1$
+                  .invoke(recordedEvent, "size")); //$NON-NLS-1$
+        }
+      }
+    } finally {
+      recordingClass.getMethod("close").invoke(recording); //$NON-NLS-1$
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package test.junit.org.optimizationBenchmarking.utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.metrics.EMetricsCategory;
+import org.optimizationBenchmarking.utils.metrics.Metrics;
+import org.optimizationBenchmarking.utils.metrics.MetricsSample;
+
+import test.junit.TestBase;
+
+/**
+ * Test the {@link org.optimizationBenchmarking.utils.metrics.Metrics}.
+ * The metrics are enabled via a system property when this class is
+ * loaded, which works because each test class runs in its own JVM.
+ */
+public class MetricsTest extends TestBase {
+
+  static {
+    System.setProperty(Metrics.ENABLED_PROPERTY, Boolean.TRUE.toString());
+  }
+
+  /** create */
+  public MetricsTest() {
+    super();
+  }
+
+  /**
+   * Record one unit of work
+   *
+   * @param category
+   *          the category
+   * @param key
+   *          the key
+   * @param size
+   *          the size
+   * @param sleep
+   *          the milliseconds to sleep
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  private static final void __record(final EMetricsCategory category,
+      final Object key, final long size, final long sleep)
+      throws InterruptedException {
+    final MetricsSample sample;
+
+    sample = Metrics.begin();
+    Assert.assertNotNull(sample);
+    if (sleep > 0L) {
+      Thread.sleep(sleep);
+    }
+    Metrics.end(sample, category, key, size);
+  }
+
+  /**
+   * Get the map key of an entry
+   *
+   * @param category
+   *          the category
+   * @param name
+   *          the name
+   * @return the map key
+   */
+  private static final String __key(final EMetricsCategory category,
+      final String name) {
+    return ((category.getName() + ':') + name);
+  }
+
+  /**
+   * Test that the metrics are enabled and registered as MXBean
+   *
+   * @throws Exception
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testEnabledAndRegistered() throws Exception {
+    Assert.assertTrue(Metrics.isGloballyEnabled());
+    Assert.assertTrue(Metrics.getInstance().isEnabled());
+    Assert.assertTrue(ManagementFactory.getPlatformMBeanServer()
+        .isRegistered(new ObjectName(Metrics.OBJECT_NAME)));
+  }
+
+  /**
+   * Test that {@link Metrics#end(MetricsSample, EMetricsCategory, Object)}
+   * accumulates counts and times per category and key
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testEndAccumulates() throws InterruptedException {
+    final Metrics metrics;
+    final Map<String, Long> counts, wallTimes;
+    final String module, file;
+
+    metrics = Metrics.getInstance();
+    metrics.reset();
+
+    MetricsTest.__record(EMetricsCategory.MODULE, String.class, 0L, 5L);
+    MetricsTest.__record(EMetricsCategory.MODULE, String.class, 0L, 5L);
+    MetricsTest.__record(EMetricsCategory.MODULE, String.class, 0L, 5L);
+    MetricsTest.__record(EMetricsCategory.FILE, "file", 10L, 0L); //$NON-NLS-1$
+    MetricsTest.__record(EMetricsCategory.FILE, "file", 32L, 0L); //$NON-NLS-1$
+    Metrics.end(null, EMetricsCategory.FILE, "file", 1000L); //$NON-NLS-1$
+
+    module = MetricsTest.__key(EMetricsCategory.MODULE,
+        String.class.getName());
+    file = MetricsTest.__key(EMetricsCategory.FILE, "file"); //$NON-NLS-1$
+
+    counts = metrics.getCounts();
+    Assert.assertEquals(2, counts.size());
+    Assert.assertEquals(Long.valueOf(3L), counts.get(module));
+    Assert.assertEquals(Long.valueOf(2L), counts.get(file));
+
+    wallTimes = metrics.getWallTimes();
+    Assert.assertTrue(wallTimes.get(module).longValue() >= 15000000L);
+    Assert.assertTrue(wallTimes.get(file).longValue() >= 0L);
+
+    for (final Long value : metrics.getCpuTimes().values()) {
+      Assert.assertTrue(value.longValue() >= 0L);
+    }
+    for (final Long value : metrics.getAllocatedBytes().values()) {
+      Assert.assertTrue(value.longValue() >= 0L);
+    }
+
+    Assert.assertTrue(metrics.toJSON().contains("\"size\": 42")); //$NON-NLS-1$
+
+    metrics.reset();
+    Assert.assertTrue(metrics.getCounts().isEmpty());
+  }
+
+  /**
+   * Test the JSON output of the metrics
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testJSON() throws InterruptedException {
+    final Metrics metrics;
+    final String json;
+    int slow, fast;
+
+    metrics = Metrics.getInstance();
+    metrics.reset();
+
+    MetricsTest.__record(EMetricsCategory.ATTRIBUTE, "fast", 0L, 0L); //$NON-NLS-1$
+    MetricsTest.__record(EMetricsCategory.ATTRIBUTE, "slow", 0L, 20L); //$NON-NLS-1$
+    MetricsTest.__record(EMetricsCategory.GRAPHIC, "a\"b\\c\n", 7L, 0L); //$NON-NLS-1$
+
+    json = metrics.toJSON();
+    Assert.assertTrue(json.startsWith("{")); //$NON-NLS-1$
+    Assert.assertTrue(json.trim().endsWith("}")); //$NON-NLS-1$
+    Assert.assertTrue(json.contains("\"enabled\": true")); //$NON-NLS-1$
+    for (final EMetricsCategory category : EMetricsCategory.values()) {
+      Assert.assertTrue(json.contains('"' + category.getName() + "\": [")); //$NON-NLS-1$
+    }
+
+    // the entries of a category are sorted by decreasing wall time
+    slow = json.indexOf("\"name\": \"slow\""); //$NON-NLS-1$
+    fast = json.indexOf("\"name\": \"fast\""); //$NON-NLS-1$
+    Assert.assertTrue(slow > 0);
+    Assert.assertTrue(fast > slow);
+
+    // special characters are escaped
+    Assert.assertTrue(json.contains("\"name\": \"a\\\"b\\\\c\\u000a\"")); //$NON-NLS-1$
+    Assert.assertTrue(json.contains("\"count\": 1")); //$NON-NLS-1$
+    Assert.assertTrue(json.contains("\"size\": 7")); //$NON-NLS-1$
+
+    metrics.reset();
+  }
+}
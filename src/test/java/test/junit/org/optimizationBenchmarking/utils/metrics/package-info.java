@@ -0,0 +1,7 @@
+/**
+ * Here we test the metrics and flight recorder events from package
+ * {@link org.optimizationBenchmarking.utils.metrics} of the <a
+ * href="http://www.optimizationBenchmarking.org/"
+ * >optimizationBenchmarking.org</a> tool suite.
+ */
+package test.junit.org.optimizationBenchmarking.utils.metrics;
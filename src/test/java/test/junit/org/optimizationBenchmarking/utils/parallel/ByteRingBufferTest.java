@@ -0,0 +1,226 @@
+package test.junit.org.optimizationBenchmarking.utils.parallel;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.parallel.ByteRingBuffer;
+
+import test.junit.TestBase;
+
+/**
+ * Test the
+ * {@link org.optimizationBenchmarking.utils.parallel.ByteRingBuffer}.
+ */
+public class ByteRingBufferTest extends TestBase {
+
+  /** create */
+  public ByteRingBufferTest() {
+    super();
+  }
+
+  /**
+   * Transfer random data through a buffer with one writer and one reader
+   * thread
+   *
+   * @param direct
+   *          use direct storage?
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  private static final void __testReadEqualsWrite(final boolean direct)
+      throws InterruptedException {
+    final Random r;
+    byte[] read, write;
+    int i, size;
+    Thread a, b;
+
+    r = new Random();
+    for (i = 0; i < 30; i++) {
+      size = (1 + r.nextInt((i & 1) == 0 ? 1000 : (1024 * 1024 * 4)));
+      read = new byte[size];
+      write = new byte[size];
+      r.nextBytes(write);
+
+      try (final ByteRingBuffer buffer = new ByteRingBuffer(
+          (1 + r.nextInt(r.nextBoolean() ? 100 : 100000)), direct)) {
+        a = new __WriterThread(write, buffer);
+        b = new __ReaderThread(read, buffer);
+        if (r.nextBoolean()) {
+          a.start();
+          b.start();
+        } else {
+          b.start();
+          a.start();
+        }
+        a.join();
+        b.join();
+        Assert.assertEquals(0, buffer.size());
+      }
+
+      Assert.assertArrayEquals(write, read);
+    }
+  }
+
+  /**
+   * Test whether the written data and the data we read is the same
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testReadEqualsWrite() throws InterruptedException {
+    ByteRingBufferTest.__testReadEqualsWrite(false);
+  }
+
+  /**
+   * Test whether the written data and the data we read is the same if
+   * direct storage is used
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testReadEqualsWriteDirect() throws InterruptedException {
+    ByteRingBufferTest.__testReadEqualsWrite(true);
+  }
+
+  /** Test that data written before closing can still be read */
+  @Test(timeout = 3600000)
+  public void testCloseKeepsData() {
+    final ByteRingBuffer buffer;
+    final byte[] data;
+
+    buffer = new ByteRingBuffer(64, false);
+    try {
+      Assert.assertEquals(64, buffer.capacity());
+      buffer.writeToBuffer(new byte[] { 1, 2, 3 }, 0, 3);
+      buffer.close();
+      buffer.writeToBuffer(new byte[] { 4 }, 0, 1);
+      Assert.assertTrue(buffer.isClosed());
+      Assert.assertEquals(3, buffer.size());
+
+      data = new byte[10];
+      Assert.assertEquals(3, buffer.readFromBuffer(data, 0, 10));
+      Assert.assertEquals(1, data[0]);
+      Assert.assertEquals(3, data[2]);
+      Assert.assertEquals(-1, buffer.readFromBuffer(data, 0, 10));
+    } finally {
+      buffer.close();
+    }
+  }
+
+  /**
+   * Test that closing the buffer releases a writer blocked on a full
+   * buffer
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testCloseReleasesWriter() throws InterruptedException {
+    final ByteRingBuffer buffer;
+    final Thread writer;
+
+    buffer = new ByteRingBuffer(64, true);
+    try {
+      writer = new __WriterThread(new byte[1000], buffer);
+      writer.start();
+      while (buffer.size() < buffer.capacity()) {
+        Thread.yield();
+      }
+      Assert.assertTrue(writer.isAlive());
+      buffer.close();
+      writer.join();
+      Assert.assertEquals(64, buffer.deleteFromBuffer(1000));
+      Assert.assertEquals(-1, buffer.deleteFromBuffer(1000));
+    } finally {
+      buffer.close();
+    }
+  }
+
+  /** a writer thread */
+  private static final class __WriterThread extends Thread {
+    /** the data to write */
+    private final byte[] m_write;
+    /** the buffer */
+    private final ByteRingBuffer m_buffer;
+
+    /**
+     * create the writer thread
+     *
+     * @param write
+     *          the stuff to write
+     * @param buffer
+     *          the buffer
+     */
+    __WriterThread(final byte[] write, final ByteRingBuffer buffer) {
+      super();
+      this.m_write = write;
+      this.m_buffer = buffer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      final Random r;
+      int pos, w;
+
+      r = new Random();
+      pos = 0;
+      while (pos < this.m_write.length) {
+        w = r.nextInt(1 + Math.min((this.m_write.length - pos),
+            (r.nextBoolean() ? 100 : 100000)));
+        this.m_buffer.writeToBuffer(this.m_write, pos, w);
+        pos += w;
+        if (r.nextInt(100) <= 0) {
+          Thread.yield();
+        }
+      }
+    }
+  }
+
+  /** a reader thread */
+  private static final class __ReaderThread extends Thread {
+    /** the data to read */
+    private final byte[] m_read;
+    /** the buffer */
+    private final ByteRingBuffer m_buffer;
+
+    /**
+     * create the read thread
+     *
+     * @param read
+     *          the stuff to read
+     * @param buffer
+     *          the buffer
+     */
+    __ReaderThread(final byte[] read, final ByteRingBuffer buffer) {
+      super();
+      this.m_read = read;
+      this.m_buffer = buffer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      final Random r;
+      int pos, w;
+
+      r = new Random();
+      pos = 0;
+      while (pos < this.m_read.length) {
+        w = r.nextInt(1 + Math.min((this.m_read.length - pos),
+            (r.nextBoolean() ? 100 : 100000)));
+        w = this.m_buffer.readFromBuffer(this.m_read, pos, w);
+        if (w < 0) {
+          return;
+        }
+        pos += w;
+        if (r.nextInt(100) <= 0) {
+          Thread.yield();
+        }
+      }
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package test.junit.org.optimizationBenchmarking.utils.parsers;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Random;
@@ -212,4 +214,85 @@ public class LooseDoubleParserTest extends ParserTest<Double> {
     }
   }
 
+  /**
+   * Check that parsing a range of a character sequence, a character
+   * array, and a byte array gives the same result as parsing the
+   * corresponding string
+   *
+   * @param expected
+   *          the expected value
+   * @param string
+   *          the string
+   */
+  private final void __testRange(final double expected, final String string) {
+    final LooseDoubleParser p;
+    final String padded;
+    final Charset charset;
+
+    p = this.getParser();
+    padded = ((" x" + string) + "y "); //$NON-NLS-1$ //$NON-NLS-2$
+    charset = StandardCharsets.UTF_8;
+
+    Assert.assertEquals(Double.doubleToLongBits(expected),
+        Double.doubleToLongBits(p.parseDouble(padded, 2, string.length())));
+    Assert.assertEquals(Double.doubleToLongBits(expected), Double
+        .doubleToLongBits(p.parseDouble(padded.toCharArray(), 2,
+            string.length())));
+    Assert.assertEquals(Double.doubleToLongBits(expected), Double
+        .doubleToLongBits(p.parseDouble(padded.getBytes(charset), 2,
+            string.getBytes(charset).length, charset)));
+  }
+
+  /**
+   * Test whether parsing ranges of character sequences, character arrays,
+   * and byte arrays works exactly like parsing strings
+   */
+  @Test(timeout = 3600000)
+  public void testParseDoubleRanges() {
+    final Random r;
+    int i;
+    double test;
+    String s;
+
+    for (final Map.Entry<String, Double> entry : this
+        .getExpectedStringParsingResults()) {
+      this.__testRange(entry.getValue().doubleValue(), entry.getKey());
+    }
+
+    for (final String string : new String[] { "0", "-0", "+0.0", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+        " 12 ", "1.", ".5", "-.5e-3", "1E22", "1e23", "123456789012345678",//$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$//$NON-NLS-7$
+        "9007199254740993", "4.9e-324", "1.7976931348623157E308",//$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+        "0.1", "0.30000000000000004", "1e-22", "1e-23", "2.5d" }) {//$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$
+      this.__testRange(this.getParser().parseDouble(string), string);
+    }
+
+    r = new Random();
+    for (i = 10000; i >= 0; i--) {
+      switch (r.nextInt(4)) {
+        case 0: {
+          test = r.nextLong();
+          break;
+        }
+        case 1: {
+          test = (r.nextInt(2000000) / 1000d);
+          break;
+        }
+        case 2: {
+          test = (r.nextInt() * Math.pow(10d, (r.nextInt(60) - 30)));
+          break;
+        }
+        default: {
+          test = r.nextDouble();
+        }
+      }
+      if (r.nextBoolean()) {
+        test = (-test);
+      }
+      s = Double.toString(test);
+      this.__testRange(Double.parseDouble(s), s);
+      s = Long.toString(Math.round(test));
+      this.__testRange(Double.parseDouble(s), s);
+    }
+  }
+
 }
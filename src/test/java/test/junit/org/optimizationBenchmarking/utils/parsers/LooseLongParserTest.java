@@ -0,0 +1,193 @@
+package test.junit.org.optimizationBenchmarking.utils.parsers;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.collections.ImmutableAssociation;
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+import org.optimizationBenchmarking.utils.parsers.LooseIntParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+
+/**
+ * the basic test for long parsers
+ */
+public class LooseLongParserTest extends ParserTest<Long> {
+
+  /** create the test */
+  public LooseLongParserTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected LooseLongParser getParser() {
+    return LooseLongParser.INSTANCE;
+  }
+
+  /**
+   * A set of expected results for string-based parsing
+   *
+   * @return the set of expected results for string-based parsing
+   */
+  @Override
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  protected Collection<Map.Entry<String, Long>> getExpectedStringParsingResults() {
+    return ((Collection) (new ArrayListView<>(new Map.Entry[] {//
+            LooseLongParserTest.__entry(0L, "0"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(7L, "7"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(-7L, "-7"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(7L, "+7"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(12L, " 12 "),//$NON-NLS-1$
+            LooseLongParserTest.__entry(Long.MAX_VALUE,
+                String.valueOf(Long.MAX_VALUE)),//
+            LooseLongParserTest.__entry(Long.MIN_VALUE,
+                String.valueOf(Long.MIN_VALUE)),//
+            LooseLongParserTest.__entry(Long.MAX_VALUE, "Long#MAX_VALUE"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(3L, "0x3"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(-16L, "-0x10"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(255L, "0XfF"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(8L, "0o10"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(1000000L, "1_000_000"),//$NON-NLS-1$
+            LooseLongParserTest.__entry(-(1 | 2 | 4 | 8 | 256 | 512 | 1024
+                | 2048),//
+                ("-0b0000_1111_0000_1111")),//$NON-NLS-1$
+            LooseLongParserTest.__entry(Short.SIZE, "Short#SIZE"),//$NON-NLS-1$;
+        })));
+  }
+
+  /**
+   * create a test record
+   *
+   * @param val
+   *          the value
+   * @param text
+   *          the text
+   * @return the record
+   */
+  private static final ImmutableAssociation<String, Long> __entry(
+      final long val, final String text) {
+    return new ImmutableAssociation<>(text, Long.valueOf(val));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected Collection<String> getExpectedStringParsingFailures() {
+    return new ArrayListView<>(new String[] {//
+        "sohfsaflhsf",//$NON-NLS-1$
+            "1.5",//$NON-NLS-1$
+            "9223372036854775808",//$NON-NLS-1$
+            "0x",//$NON-NLS-1$
+            "" });//$NON-NLS-1$
+  }
+
+  /**
+   * Check that parsing a range of a character sequence, a character
+   * array, and a byte array gives the same result as parsing the
+   * corresponding string, for both the {@code long} and the {@code int}
+   * parser
+   *
+   * @param string
+   *          the string
+   */
+  private final void __testRange(final String string) {
+    final LooseLongParser p;
+    final String padded;
+    final Charset charset;
+    Object expected;
+    int expectedInt, index;
+
+    p = this.getParser();
+    padded = ("1" + string + "2"); //$NON-NLS-1$ //$NON-NLS-2$
+    charset = StandardCharsets.UTF_8;
+
+    try {
+      expected = Long.valueOf(p.parseLong(string));
+    } catch (final Throwable error) {
+      expected = error.getClass();
+    }
+
+    for (index = 0; index < 3; index++) {
+      try {
+        switch (index) {
+          case 0: {
+            Assert.assertEquals(expected,
+                Long.valueOf(p.parseLong(padded, 1, string.length())));
+            break;
+          }
+          case 1: {
+            Assert.assertEquals(expected, Long.valueOf(p.parseLong(
+                padded.toCharArray(), 1, string.length())));
+            break;
+          }
+          default: {
+            Assert.assertEquals(expected, Long.valueOf(p.parseLong(
+                padded.getBytes(charset), 1,
+                string.getBytes(charset).length, charset)));
+          }
+        }
+      } catch (final AssertionError error) {
+        throw error;
+      } catch (final Throwable error) {
+        Assert.assertEquals(expected, error.getClass());
+      }
+    }
+
+    try {
+      expectedInt = LooseIntParser.INSTANCE.parseInt(string);
+      Assert.assertEquals(expectedInt,
+          LooseIntParser.INSTANCE.parseInt(padded, 1, string.length()));
+    } catch (final AssertionError error) {
+      throw error;
+    } catch (final Throwable error) {
+      try {
+        LooseIntParser.INSTANCE.parseInt(padded, 1, string.length());
+        Assert.fail("Parsing range of '" + string + //$NON-NLS-1$
+            "' should have failed."); //$NON-NLS-1$
+      } catch (final AssertionError error2) {
+        throw error2;
+      } catch (final Throwable error2) {
+        // ok
+      }
+    }
+  }
+
+  /**
+   * Test whether parsing ranges of character sequences, character arrays,
+   * and byte arrays works exactly like parsing strings
+   */
+  @Test(timeout = 3600000)
+  public void testParseLongRanges() {
+    final Random r;
+    long test;
+    int i;
+
+    for (final Map.Entry<String, Long> entry : this
+        .getExpectedStringParsingResults()) {
+      this.__testRange(entry.getKey());
+    }
+    for (final String string : this.getExpectedStringParsingFailures()) {
+      this.__testRange(string);
+    }
+    for (final String string : new String[] { "-", "+", "_1", "1_", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+        "0b2", "-9223372036854775809", "2147483648", "-2147483648", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+        "0x7fffffffffffffff", "0x8000000000000000", "007" }) { //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+      this.__testRange(string);
+    }
+
+    r = new Random();
+    for (i = 10000; i >= 0; i--) {
+      test = r.nextLong();
+      if (r.nextBoolean()) {
+        test >>= r.nextInt(64);
+      }
+      this.__testRange(Long.toString(test));
+      this.__testRange("0x" + Long.toHexString(test >>> 1)); //$NON-NLS-1$
+      this.__testRange("0b" + Long.toBinaryString(test >>> 1)); //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package test.junit.org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.NumberChars;
+
+import test.junit.TestBase;
+
+/**
+ * A test of the class
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.NumberChars}
+ */
+public class NumberCharsTest extends TestBase {
+
+  /** the rounding modes to try for finding the closest decimal */
+  private static final RoundingMode[] MODES = { RoundingMode.HALF_EVEN,
+      RoundingMode.UP, RoundingMode.DOWN };
+
+  /** create */
+  public NumberCharsTest() {
+    super();
+  }
+
+  /**
+   * Compute the expected output of
+   * {@link org.optimizationBenchmarking.utils.text.textOutput.NumberChars#formatDouble(double, char[], int)}
+   * in a slow, but simple way: Find the shortest decimal which parses back
+   * to {@code v}, preferring the closest one, and lay it out like
+   * {@link java.lang.Double#toString(double)} in Java&nbsp;19 and later.
+   *
+   * @param v
+   *          the value
+   * @return the expected string
+   */
+  static final String _expected(final double v) {
+    final BigDecimal exact;
+    final double abs;
+    final String digits;
+    BigDecimal best, candidate;
+    int length, exponent;
+    StringBuilder sb;
+
+    if ((v != v) || (v == 0d) || Double.isInfinite(v)) {
+      return Double.toString(v);
+    }
+
+    abs = Math.abs(v);
+    exact = new BigDecimal(abs);
+    best = null;
+    for (length = 1; (length <= 17) && (best == null); length++) {
+      for (final RoundingMode mode : NumberCharsTest.MODES) {
+        candidate = exact.round(new MathContext(length, mode));
+        if ((Double.parseDouble(candidate.toString()) == abs)
+            && ((best == null) || //
+            (candidate.subtract(exact).abs()
+                .compareTo(best.subtract(exact).abs()) < 0))) {
+          best = candidate;
+        }
+      }
+      if ((best != null) && (length == 1)) {
+        candidate = exact.round(new MathContext(2, RoundingMode.HALF_EVEN));
+        if ((Double.parseDouble(candidate.toString()) == abs)
+            && (candidate.subtract(exact).abs()
+                .compareTo(best.subtract(exact).abs()) < 0)) {
+          best = candidate;
+        }
+      }
+    }
+
+    Assert.assertNotNull(best);
+    best = best.stripTrailingZeros();
+    digits = best.unscaledValue().toString();
+    exponent = (digits.length() - best.scale() - 1);
+
+    sb = new StringBuilder();
+    if (v < 0d) {
+      sb.append('-');
+    }
+    if ((exponent >= -3) && (exponent < 7)) {
+      sb.append(best.toPlainString());
+      if (sb.indexOf(".") < 0) {//$NON-NLS-1$
+        sb.append(".0"); //$NON-NLS-1$
+      }
+    } else {
+      sb.append(digits.charAt(0));
+      sb.append('.');
+      if (digits.length() > 1) {
+        sb.append(digits, 1, digits.length());
+      } else {
+        sb.append('0');
+      }
+      sb.append('E');
+      sb.append(exponent);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Format a double
+   *
+   * @param v
+   *          the double
+   * @param compact
+   *          use the compact format?
+   * @return the string
+   */
+  private static final String __format(final double v,
+      final boolean compact) {
+    final char[] chars;
+    final int end;
+
+    chars = new char[NumberChars.MAX_DOUBLE_CHARS + 2];
+    chars[0] = '#';
+    end = (compact ? NumberChars.formatDoubleCompact(v, chars, 1)
+        : NumberChars.formatDouble(v, chars, 1));
+    Assert.assertTrue((end - 1) <= NumberChars.MAX_DOUBLE_CHARS);
+    Assert.assertEquals('#', chars[0]);
+    return String.valueOf(chars, 1, (end - 1));
+  }
+
+  /**
+   * check a single double
+   *
+   * @param v
+   *          the double
+   */
+  private static final void __checkDouble(final double v) {
+    final String normal, compact;
+    final MemoryTextOutput mto;
+
+    normal = NumberCharsTest.__format(v, false);
+    Assert.assertEquals(NumberCharsTest._expected(v), normal);
+
+    compact = NumberCharsTest.__format(v, true);
+    Assert.assertTrue(compact.length() <= normal.length());
+    Assert.assertEquals(Double.doubleToLongBits(v),
+        Double.doubleToLongBits(Double.parseDouble(compact)));
+
+    mto = new MemoryTextOutput(1);
+    mto.append(v);
+    Assert.assertEquals(normal, mto.toString());
+  }
+
+  /** test some special double values */
+  @Test(timeout = 3600000)
+  public void testSpecialDoubles() {
+    Assert.assertEquals("0.0", NumberCharsTest.__format(0d, false)); //$NON-NLS-1$
+    Assert.assertEquals("-0.0", NumberCharsTest.__format(-0d, false)); //$NON-NLS-1$
+    Assert.assertEquals("0", NumberCharsTest.__format(0d, true)); //$NON-NLS-1$
+    Assert.assertEquals("NaN", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.NaN, false));
+    Assert.assertEquals("Infinity", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.POSITIVE_INFINITY, false));
+    Assert.assertEquals("-Infinity", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.NEGATIVE_INFINITY, false));
+    Assert.assertEquals("1.0", NumberCharsTest.__format(1d, false)); //$NON-NLS-1$
+    Assert.assertEquals("1", NumberCharsTest.__format(1d, true)); //$NON-NLS-1$
+    Assert.assertEquals("1.0E7", NumberCharsTest.__format(1e7d, false)); //$NON-NLS-1$
+    Assert.assertEquals("1E7", NumberCharsTest.__format(1e7d, true)); //$NON-NLS-1$
+    Assert.assertEquals("0.002", NumberCharsTest.__format(2e-3d, false)); //$NON-NLS-1$
+    Assert.assertEquals("1.0E23", NumberCharsTest.__format(1e23d, false)); //$NON-NLS-1$
+    Assert.assertEquals("-7.66E22", //$NON-NLS-1$
+        NumberCharsTest.__format(-7.66e22d, false));
+    Assert.assertEquals("4.9E-324", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.MIN_VALUE, false));
+    Assert.assertEquals("5E-324", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.MIN_VALUE, true));
+    Assert.assertEquals("1.7976931348623157E308", //$NON-NLS-1$
+        NumberCharsTest.__format(Double.MAX_VALUE, false));
+
+    for (final double d : new double[] { Double.MIN_VALUE,
+        Double.MIN_NORMAL, Double.MAX_VALUE, 1e-3d, 9.99e-4d, 1e7d,
+        9999999d, 123.456d, 0.1d, 0.3d, (2d / 3d), 1e16d, 1e17d,
+        9007199254740993d, Math.PI, Math.E }) {
+      NumberCharsTest.__checkDouble(d);
+      NumberCharsTest.__checkDouble(-d);
+    }
+  }
+
+  /** test random doubles */
+  @Test(timeout = 3600000)
+  public void testRandomDoubles() {
+    final Random random;
+    double d;
+    int i;
+
+    random = new Random();
+    for (i = 100000; (--i) >= 0;) {
+      switch (random.nextInt(4)) {
+        case 0: {
+          do {
+            d = Double.longBitsToDouble(random.nextLong());
+          } while ((d != d) || Double.isInfinite(d));
+          break;
+        }
+        case 1: {
+          d = Double.longBitsToDouble(random.nextLong() >>> 12);
+          break;
+        }
+        case 2: {
+          d = ((random.nextInt(2000001) - 1000000) / //
+          Math.pow(10d, random.nextInt(10)));
+          break;
+        }
+        default: {
+          d = (random.nextDouble() * //
+          Math.pow(10d, (random.nextInt(40) - 20)));
+        }
+      }
+      NumberCharsTest.__checkDouble(d);
+    }
+  }
+
+  /** test formatting longs and ints */
+  @Test(timeout = 3600000)
+  public void testLongsAndInts() {
+    final Random random;
+    final char[] chars;
+    long l;
+    int i, j;
+
+    random = new Random();
+    chars = new char[NumberChars.MAX_LONG_CHARS + 1];
+    for (final long v : new long[] { 0L, 1L, -1L, 9L, 10L, 99L, 100L,
+        65535L, 65536L, Integer.MIN_VALUE, Integer.MAX_VALUE,
+        Long.MIN_VALUE, Long.MAX_VALUE, 999999999999999999L,
+        1000000000000000000L }) {
+      Assert.assertEquals(Long.toString(v),
+          String.valueOf(chars, 1, NumberChars.formatLong(v, chars, 1) - 1));
+      Assert.assertEquals(Long.toString(-v),
+          String.valueOf(chars, 1, NumberChars.formatLong(-v, chars, 1) - 1));
+    }
+
+    for (j = 100000; (--j) >= 0;) {
+      l = (random.nextLong() >> random.nextInt(64));
+      Assert.assertEquals(Long.toString(l),
+          String.valueOf(chars, 0, NumberChars.formatLong(l, chars, 0)));
+      i = ((int) l);
+      Assert.assertEquals(Integer.toString(i),
+          String.valueOf(chars, 0, NumberChars.formatInt(i, chars, 0)));
+    }
+  }
+}
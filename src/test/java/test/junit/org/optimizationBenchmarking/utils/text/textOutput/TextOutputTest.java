@@ -179,7 +179,7 @@ public abstract class TextOutputTest<R> extends TestBase {
         if (dou != dou) {
           dou = Double.NaN;
         }
-        sb.append(dou);
+        sb.append(NumberCharsTest._expected(dou));
         t.append(dou);
         return;
       }
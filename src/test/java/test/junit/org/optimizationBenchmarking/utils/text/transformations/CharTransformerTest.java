@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Random;
 
@@ -12,6 +13,8 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.optimizationBenchmarking.utils.EmptyUtils;
 import org.optimizationBenchmarking.utils.text.TextUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 import org.optimizationBenchmarking.utils.text.transformations.CharTransformer;
 
 import test.junit.InstanceTest;
@@ -191,4 +194,76 @@ public abstract class CharTransformerTest extends
     }
   }
 
+
+  /**
+   * test whether text appended as single characters, as character arrays,
+   * as strings, and as character sequences is transformed identically,
+   * also for texts longer than any internal buffer
+   *
+   * @throws IOException
+   *           the io exception if io fails
+   */
+  @Test(timeout = 3600000)
+  public void testAppendVariantsEqual() throws IOException {
+    final Random r;
+    final CharTransformer t;
+    final StringBuilder b;
+    final String[][] cases;
+    AbstractTextOutput out;
+    MemoryTextOutput mo;
+    String s, expected;
+    char[] chars;
+    int i, x, start, end;
+
+    r = new Random();
+    b = new StringBuilder();
+
+    t = this.getInstance();
+    cases = this.getCases();
+
+    for (x = 30; (--x) >= 0;) {
+      b.setLength(0);
+      for (i = r.nextInt(3001); (--i) >= 0;) {
+        if (r.nextInt(4) <= 0) {
+          b.append(cases[r.nextInt(cases.length)][0]);
+        } else {
+          b.append((char) (r.nextInt(128)));
+        }
+      }
+
+      s = b.toString();
+      chars = s.toCharArray();
+      start = ((s.length() > 0) ? r.nextInt(s.length()) : 0);
+      end = (start + r.nextInt((s.length() - start) + 1));
+
+      for (final Normalizer.Form form : new Normalizer.Form[] { null,
+          Normalizer.Form.NFC }) {
+        mo = new MemoryTextOutput();
+        t.transform(mo, form).append(s, start, end);
+        expected = mo.toString();
+
+        mo = new MemoryTextOutput();
+        out = t.transform(mo, form);
+        for (i = start; i < end; i++) {
+          out.append(chars[i]);
+        }
+        if (form == null) {
+          Assert.assertEquals(expected, mo.toString());
+        }
+
+        mo = new MemoryTextOutput();
+        t.transform(mo, form).append(chars, start, end);
+        Assert.assertEquals(expected, mo.toString());
+
+        mo = new MemoryTextOutput();
+        t.transform(mo, form).append(b, start, end);
+        Assert.assertEquals(expected, mo.toString());
+
+        if (form == null) {
+          Assert.assertEquals(t.transform(s.substring(start, end)),
+              expected);
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,214 @@
+package test.junit.org.optimizationBenchmarking.utils.tools.impl.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.tools.impl.process.EProcessStream;
+import org.optimizationBenchmarking.utils.tools.impl.process.ExternalProcess;
+import org.optimizationBenchmarking.utils.tools.impl.process.ExternalProcessBuilder;
+import org.optimizationBenchmarking.utils.tools.impl.process.ExternalProcessExecutor;
+
+import test.junit.TestBase;
+
+/**
+ * Test the servicing of the standard streams of
+ * {@link org.optimizationBenchmarking.utils.tools.impl.process.ExternalProcess
+ * external processes} by the shared I/O pump. The external process is a
+ * JVM executing {@link #main(String[])} of this class, which writes more
+ * data to stdout and stderr than fits into the pipes of the operating
+ * system, so the test would block if a stream was not serviced.
+ */
+public class ProcessIOPumpTest extends TestBase {
+
+  /** the number of lines written to each stream */
+  private static final int LINES = 20000;
+
+  /** the line sent to stdin */
+  private static final String PING = "ping"; //$NON-NLS-1$
+
+  /** the prefix of the names of the threads of the pump */
+  private static final String PUMP_THREAD = "Process-IO-Pump-"; //$NON-NLS-1$
+
+  /** create */
+  public ProcessIOPumpTest() {
+    super();
+  }
+
+  /**
+   * The main method of the external process: Read one line from stdin,
+   * write {@link #LINES} lines to stdout and stderr each, and then echo
+   * the line read from stdin to stdout. If a path is given as argument,
+   * the files to which stdout and stderr point are written to it, if they
+   * can be determined.
+   *
+   * @param args
+   *          the command line arguments
+   * @throws IOException
+   *           if I/O fails
+   */
+  public static final void main(final String[] args) throws IOException {
+    final String line;
+    final Path fds;
+    int index;
+
+    try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(System.in))) {
+      line = reader.readLine();
+    }
+
+    for (index = 0; index < ProcessIOPumpTest.LINES; index++) {
+      System.out.println("out " + index); //$NON-NLS-1$
+      System.err.println("err " + index); //$NON-NLS-1$
+    }
+    System.out.println(line);
+    System.out.flush();
+    System.err.flush();
+
+    if (args.length > 0) {
+      fds = Paths.get("/proc/self/fd"); //$NON-NLS-1$
+      if (Files.isDirectory(fds)) {
+        try (final PrintStream out = new PrintStream(
+            Files.newOutputStream(Paths.get(args[0])))) {
+          out.println(Files.readSymbolicLink(fds.resolve("1"))); //$NON-NLS-1$
+          out.println(Files.readSymbolicLink(fds.resolve("2"))); //$NON-NLS-1$
+        }
+      }
+    }
+  }
+
+  /**
+   * Create the builder for a process running {@link #main(String[])}
+   *
+   * @return the builder
+   */
+  private static final ExternalProcessBuilder __builder() {
+    return ExternalProcessExecutor
+        .getInstance()
+        .use()
+        .setExecutable(
+            PathUtils.getJavaHomeDir().resolve("bin").resolve(//$NON-NLS-1$
+                (File.separatorChar == '\\') ? "java.exe" : "java")) //$NON-NLS-1$//$NON-NLS-2$
+        .addStringArgument("-cp") //$NON-NLS-1$
+        .addStringArgument(System.getProperty("java.class.path")) //$NON-NLS-1$
+        .addStringArgument(ProcessIOPumpTest.class.getName());
+  }
+
+  /**
+   * Read all lines from a stream and check that they have the expected
+   * prefix and numbering
+   *
+   * @param stream
+   *          the stream
+   * @param prefix
+   *          the prefix
+   * @return the line following the numbered lines, or {@code null} if
+   *         there is none
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final String __checkLines(final InputStream stream,
+      final String prefix) throws IOException {
+    final String last;
+    int index;
+
+    try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(stream))) {
+      for (index = 0; index < ProcessIOPumpTest.LINES; index++) {
+        Assert.assertEquals((prefix + index), reader.readLine());
+      }
+      last = reader.readLine();
+      Assert.assertNull(reader.readLine());
+    }
+    return last;
+  }
+
+  /**
+   * Test a process whose three streams are all used: The streams are
+   * buffered and serviced by the workers of the shared pump, so stdout
+   * can be read completely before stderr is read.
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testPumpedStreams() throws IOException {
+    final String echo;
+    boolean pumpThreadFound;
+
+    try (final ExternalProcess process = ProcessIOPumpTest.__builder()
+        .setStdIn(EProcessStream.AS_STREAM)
+        .setStdOut(EProcessStream.AS_STREAM)
+        .setStdErr(EProcessStream.AS_STREAM).create()) {
+
+      try (final OutputStream stdin = process.getStdIn()) {
+        stdin.write((ProcessIOPumpTest.PING + '\n').getBytes());
+      }
+
+      echo = ProcessIOPumpTest.__checkLines(process.getStdOut(), "out "); //$NON-NLS-1$
+      Assert.assertNull(ProcessIOPumpTest.__checkLines(
+          process.getStdError(), "err ")); //$NON-NLS-1$
+      Assert.assertEquals(ProcessIOPumpTest.PING, echo);
+
+      pumpThreadFound = false;
+      for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+        if (thread.getName().startsWith(ProcessIOPumpTest.PUMP_THREAD)) {
+          pumpThreadFound = true;
+          Assert.assertTrue(thread.isDaemon());
+        }
+      }
+      Assert.assertTrue(pumpThreadFound);
+
+      Assert.assertEquals(0, process.waitFor());
+    }
+  }
+
+  /**
+   * Test a process whose streams are all ignored: The output streams are
+   * redirected to the null device by the operating system, so no worker
+   * needs to drain them and the process does not block.
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testIgnoredStreams() throws IOException {
+    final Path report;
+    final List<String> lines;
+    final String nul;
+
+    try (final TempDir temp = new TempDir()) {
+      report = temp.getPath().resolve("fds.txt"); //$NON-NLS-1$
+
+      try (final ExternalProcess process = ProcessIOPumpTest.__builder()
+          .addPathArgument(report).setStdIn(EProcessStream.IGNORE)
+          .setStdOut(EProcessStream.IGNORE)
+          .setStdErr(EProcessStream.IGNORE).create()) {
+        Assert.assertEquals(-1, process.getStdOut().read());
+        Assert.assertEquals(-1, process.getStdError().read());
+        Assert.assertEquals(0, process.waitFor());
+      }
+
+      if (Files.exists(report)) {
+        nul = ((File.separatorChar == '\\') ? "NUL" : "/dev/null"); //$NON-NLS-1$//$NON-NLS-2$
+        lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        Assert.assertEquals(2, lines.size());
+        Assert.assertEquals(nul, lines.get(0));
+        Assert.assertEquals(nul, lines.get(1));
+      }
+    }
+  }
+}